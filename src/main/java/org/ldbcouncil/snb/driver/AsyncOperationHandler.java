@@ -0,0 +1,45 @@
+package org.ldbcouncil.snb.driver;
+
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
+/**
+ * Operation handler for connectors built on asynchronous database drivers.
+ * <p>
+ * Rather than blocking the executor thread until the result is available, executeOperationAsync starts the operation
+ * and returns a stage that completes with its result. The executor measures latency, reports the result, submits
+ * completion time and metrics, and runs child operations when that stage completes, so a few executor threads can
+ * keep many operations in flight.
+ * <p>
+ * Results are reported with result code 0, a stage that completes exceptionally is reported as an error.
+ */
+public interface AsyncOperationHandler<OPERATION_TYPE extends Operation, DB_CONNECTION_STATE_TYPE extends DbConnectionState>
+        extends OperationHandler<OPERATION_TYPE,DB_CONNECTION_STATE_TYPE>
+{
+    /**
+     * Starts executing the operation, must not block until the operation completes
+     *
+     * @return stage that completes with the (non null) result of the operation
+     */
+    CompletionStage<?> executeOperationAsync( OPERATION_TYPE operation, DB_CONNECTION_STATE_TYPE dbConnectionState )
+            throws DbException;
+
+    /**
+     * Blocking execution, for callers that run handlers synchronously (e.g., database validation)
+     */
+    @Override
+    default void executeOperation( OPERATION_TYPE operation, DB_CONNECTION_STATE_TYPE dbConnectionState,
+            ResultReporter resultReporter ) throws DbException
+    {
+        Object result;
+        try
+        {
+            result = executeOperationAsync( operation, dbConnectionState ).toCompletableFuture().join();
+        }
+        catch ( CompletionException e )
+        {
+            throw new DbException( "Error while executing asynchronous operation", e.getCause() );
+        }
+        resultReporter.report( 0, result, operation );
+    }
+}
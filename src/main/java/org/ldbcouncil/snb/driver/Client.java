@@ -4,23 +4,31 @@ package org.ldbcouncil.snb.driver;
  * 
  * Entrypoint for the SNB Driver. This class creates default control classes,
  * checks which driver mode is specified and starts the application.
- * There are 4 supported modes (in order of priority):
+ * There are 7 supported modes (in order of priority):
  * 1. Create validation parameters
  * 2. Validate database
  * 3. Create workload statistics
  * 4. Execute Benchmark
+ * 5. Convert binary results logs to CSV
+ * 6. Search for the maximum throughput (lowest passing time compression ratio)
+ * 7. Coordinate a benchmark executed by one driver process per workload partition
  * 
  * To print the usage help for the driver, use help = true in properties file.
  */
 
 import org.ldbcouncil.snb.driver.client.CalculateWorkloadStatisticsMode;
 import org.ldbcouncil.snb.driver.client.ClientMode;
+import org.ldbcouncil.snb.driver.client.ConvertResultsLogMode;
+import org.ldbcouncil.snb.driver.client.CompileStreamsMode;
+import org.ldbcouncil.snb.driver.client.CoordinateBenchmarkMode;
 import org.ldbcouncil.snb.driver.client.CreateValidationParamsMode;
 import org.ldbcouncil.snb.driver.client.ExecuteWorkloadMode;
 import org.ldbcouncil.snb.driver.client.PrintHelpMode;
+import org.ldbcouncil.snb.driver.client.SearchMaximumThroughputMode;
 import org.ldbcouncil.snb.driver.client.ValidateDatabaseMode;
 import org.ldbcouncil.snb.driver.control.ConsoleAndFileDriverConfiguration;
 import org.ldbcouncil.snb.driver.control.ControlService;
+import org.ldbcouncil.snb.driver.control.DistributedControlService;
 import org.ldbcouncil.snb.driver.control.DriverConfigurationException;
 import org.ldbcouncil.snb.driver.control.LocalControlService;
 import org.ldbcouncil.snb.driver.control.Log4jLoggingServiceFactory;
@@ -53,11 +61,24 @@ public class Client
             ConsoleAndFileDriverConfiguration configuration = ConsoleAndFileDriverConfiguration.fromArgs( args );
             // TODO this method will not work with multiple processes - should come from controlService
             long workloadStartTimeAsMilli = systemTimeSource.nowAsMilli() + TimeUnit.SECONDS.toMillis( 5 );
-            controlService = new LocalControlService(
-                    workloadStartTimeAsMilli,
-                    configuration,
-                    loggingServiceFactory,
-                    systemTimeSource );
+            if ( OperationMode.execute_benchmark.name().equals( configuration.mode() ) &&
+                 configuration.partitionCount() > 1 && 0 != configuration.coordinatorPort() )
+            {
+                // one of the driver processes started by coordinate_benchmark mode
+                controlService = new DistributedControlService(
+                        workloadStartTimeAsMilli,
+                        configuration,
+                        loggingServiceFactory,
+                        systemTimeSource );
+            }
+            else
+            {
+                controlService = new LocalControlService(
+                        workloadStartTimeAsMilli,
+                        configuration,
+                        loggingServiceFactory,
+                        systemTimeSource );
+            }
             Client client = new Client();
             ClientMode clientMode = client.getClientModeFor( controlService );
             clientMode.init();
@@ -112,6 +133,14 @@ public class Client
                 return new CalculateWorkloadStatisticsMode( controlService, RANDOM_SEED );
             case validate_database:
                 return new ValidateDatabaseMode( controlService );
+            case convert_results_log:
+                return new ConvertResultsLogMode( controlService );
+            case search_max_throughput:
+                return new SearchMaximumThroughputMode( controlService, new SystemTimeSource(), RANDOM_SEED );
+            case coordinate_benchmark:
+                return new CoordinateBenchmarkMode( controlService, new SystemTimeSource() );
+            case compile_streams:
+                return new CompileStreamsMode( controlService );
             case execute_benchmark:
             default: // Execute benchmark is default behaviour
                 return new ExecuteWorkloadMode( controlService, new SystemTimeSource(), RANDOM_SEED );
@@ -0,0 +1,20 @@
+package org.ldbcouncil.snb.driver;
+
+import java.io.File;
+import java.util.Map;
+
+/**
+ * Workload whose operation stream files can be compiled ahead of a run, into a format that is loaded faster than
+ * the files themselves, see mode compile_streams. Compiled streams are read by later runs of the workload with the
+ * same configuration, for as long as the files they were compiled from do not change.
+ */
+public interface CompilableWorkload
+{
+    /**
+     * Compile the operation stream files of the initialized workload, skipping those whose compiled stream is up to
+     * date
+     * @return every operation stream file of the workload, mapped to whether it was compiled
+     * @throws WorkloadException
+     */
+    Map<File,Boolean> compileStreams() throws WorkloadException;
+}
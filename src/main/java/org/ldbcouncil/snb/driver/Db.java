@@ -19,6 +19,7 @@ public abstract class Db implements Closeable
     private DbConnectionState dbConnectionState = null;
     private Map<Class<? extends Operation>,OperationHandler> operationHandlers = new HashMap<>();
     private OperationHandler[] operationHandlersArray = null;
+    private Map<Integer,Class<? extends Operation>> operationTypeToClassMapping = null;
     private OperationHandlerRunnerFactory operationHandlerRunnableContextFactory = null;
 
     synchronized public final void init(
@@ -33,10 +34,11 @@ public abstract class Db implements Closeable
         }
         onInit( params, loggingService );
         dbConnectionState = getConnectionState();
-        operationHandlerRunnableContextFactory = new PoolingOperationHandlerRunnerFactory(
+        operationHandlerRunnableContextFactory = new RecyclingOperationHandlerRunnerFactory(
                 new InstantiatingOperationHandlerRunnerFactory()
         );
         operationHandlersArray = toOperationHandlerArray( operationTypeToClassMapping, operationHandlers );
+        this.operationTypeToClassMapping = new HashMap<>( operationTypeToClassMapping );
         operationHandlers = null;
         isInitialized = true;
     }
@@ -77,7 +79,7 @@ public abstract class Db implements Closeable
         {
             throw new DbException( "Error shutting down operation handler runnable factory", e );
         }
-        operationHandlerRunnableContextFactory = new PoolingOperationHandlerRunnerFactory(
+        operationHandlerRunnableContextFactory = new RecyclingOperationHandlerRunnerFactory(
                 new InstantiatingOperationHandlerRunnerFactory()
         );
     }
@@ -113,18 +115,14 @@ public abstract class Db implements Closeable
     public final OperationHandlerRunnableContext getOperationHandlerRunnableContext( Operation operation )
             throws DbException
     {
-        OperationHandler operationHandler = operationHandlersArray[operation.type()];
+        OperationHandler operationHandler = operationHandlerFor( operation.type() );
         if ( null == operationHandler )
         {
             throw new DbException( format( "No handler registered for %s", operation.getClass() ) );
         }
         try
         {
-            OperationHandlerRunnableContext operationHandlerRunnableContext =
-                    operationHandlerRunnableContextFactory.newOperationHandlerRunner();
-            operationHandlerRunnableContext.setOperationHandler( operationHandler );
-            operationHandlerRunnableContext.setDbConnectionState( dbConnectionState );
-            return operationHandlerRunnableContext;
+            return getOperationHandlerRunnableContext( operationHandler );
         }
         catch ( Exception e )
         {
@@ -132,6 +130,45 @@ public abstract class Db implements Closeable
         }
     }
 
+    /**
+     * For callers that have already resolved the handler, e.g., from their own table of operationHandlerFor()
+     */
+    public final OperationHandlerRunnableContext getOperationHandlerRunnableContext(
+            OperationHandler operationHandler ) throws OperationException
+    {
+        OperationHandlerRunnableContext operationHandlerRunnableContext =
+                operationHandlerRunnableContextFactory.newOperationHandlerRunner();
+        operationHandlerRunnableContext.setOperationHandler( operationHandler );
+        operationHandlerRunnableContext.setDbConnectionState( dbConnectionState );
+        return operationHandlerRunnableContext;
+    }
+
+    /**
+     * @return one more than the highest operation type a handler may be registered for
+     */
+    public final int operationTypeCount()
+    {
+        return operationHandlersArray.length;
+    }
+
+    /**
+     * @return handler registered for operation type, or null if there is none
+     */
+    public final OperationHandler operationHandlerFor( int operationType )
+    {
+        return (operationType >= 0 && operationType < operationHandlersArray.length)
+               ? operationHandlersArray[operationType]
+               : null;
+    }
+
+    /**
+     * @return operation class of operation type, or null if it is not known
+     */
+    public final Class<? extends Operation> operationClassFor( int operationType )
+    {
+        return operationTypeToClassMapping.get( operationType );
+    }
+
     private static OperationHandler[] toOperationHandlerArray(
             Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
             Map<Class<? extends Operation>,OperationHandler> operationHandlers ) throws DbException
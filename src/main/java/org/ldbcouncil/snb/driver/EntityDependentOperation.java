@@ -0,0 +1,21 @@
+package org.ldbcouncil.snb.driver;
+
+/**
+ * Dependency operation that names the entities it depends on, for the entity dependency mode.
+ * <p>
+ * In that mode an operation is executed once every earlier operation that names one of the same entities has
+ * completed, and at its scheduled start time, rather than once completion time reaches its dependency time stamp.
+ * Operations that name no common entity are executed in parallel.
+ * <p>
+ * Entities are identified by keys, of any encoding, as long as the keys of different entities differ. An operation
+ * names every entity it creates, modifies or deletes, and every entity that must exist when it executes.
+ */
+public interface EntityDependentOperation
+{
+    /**
+     * @return keys of the entities the operation depends on, or null if its effects are not limited to a known set of
+     * entities (e.g., cascading deletes), in which case it waits for all earlier operations, and all later operations
+     * wait for it
+     */
+    long[] entityKeys();
+}
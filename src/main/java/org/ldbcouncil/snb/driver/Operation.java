@@ -17,7 +17,10 @@ import org.ldbcouncil.snb.driver.Operation;
 public abstract class Operation<RESULT_TYPE>
 {
     private static final TemporalUtil temporalutil = new TemporalUtil();
+    private static final long ONE_MS_AS_NS = 1_000_000;
     private long scheduledStartTimeAsMilli = -1;
+    // sub millisecond part of the scheduled start time, only set when scheduling with nanosecond resolution
+    private int scheduledStartTimeNanoOfMilli = 0;
     private long timeStamp = -1;
     private long expiryTimeStamp = -1;
     private long dependencyTimeStamp = -1;
@@ -25,6 +28,17 @@ public abstract class Operation<RESULT_TYPE>
     public final void setScheduledStartTimeAsMilli( long scheduledStartTimeAsMilli )
     {
         this.scheduledStartTimeAsMilli = scheduledStartTimeAsMilli;
+        this.scheduledStartTimeNanoOfMilli = 0;
+    }
+
+    /**
+     * Sets scheduled start time with nanosecond resolution, scheduledStartTimeAsMilli() returns it truncated to the
+     * millisecond
+     */
+    public final void setScheduledStartTimeAsNano( long scheduledStartTimeAsNano )
+    {
+        this.scheduledStartTimeAsMilli = Math.floorDiv( scheduledStartTimeAsNano, ONE_MS_AS_NS );
+        this.scheduledStartTimeNanoOfMilli = (int) Math.floorMod( scheduledStartTimeAsNano, ONE_MS_AS_NS );
     }
 
     public final void setDependencyTimeStamp( long dependencyTimeStamp )
@@ -42,6 +56,11 @@ public abstract class Operation<RESULT_TYPE>
         return scheduledStartTimeAsMilli;
     }
 
+    public final long scheduledStartTimeAsNano()
+    {
+        return scheduledStartTimeAsMilli * ONE_MS_AS_NS + scheduledStartTimeNanoOfMilli;
+    }
+
     public final long dependencyTimeStamp()
     {
         return dependencyTimeStamp;
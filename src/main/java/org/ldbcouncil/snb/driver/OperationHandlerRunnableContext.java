@@ -1,6 +1,7 @@
 package org.ldbcouncil.snb.driver;
 
 import org.ldbcouncil.snb.driver.runtime.ConcurrentErrorReporter;
+import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeException;
 import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeWriter;
 import org.ldbcouncil.snb.driver.runtime.metrics.MetricsCollectionException;
 import org.ldbcouncil.snb.driver.runtime.metrics.MetricsService;
@@ -10,6 +11,10 @@ import org.ldbcouncil.snb.driver.temporal.TimeSource;
 import stormpot.Poolable;
 import stormpot.Slot;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+
 import static java.lang.String.format;
 
 public class OperationHandlerRunnableContext implements Runnable, Poolable
@@ -137,37 +142,123 @@ public class OperationHandlerRunnableContext implements Runnable, Poolable
                 // Spinner result indicates operation should not be processed
                 return;
             }
-            resultReporter.setActualStartTimeAsMilli( timeSource.nowAsMilli() );
+            // nano resolution, and the same clock the spinner waited on, so sub millisecond start time delays show
+            resultReporter.setActualStartTimeAsNano( timeSource.nowAsNano() );
             long startOfLatencyMeasurementAsNano = timeSource.nanoSnapshot();
             operationHandler.executeOperation( operation, dbConnectionState, resultReporter );
             long endOfLatencyMeasurementAsNano = timeSource.nanoSnapshot();
             resultReporter.setRunDurationAsNano( endOfLatencyMeasurementAsNano - startOfLatencyMeasurementAsNano );
-            if ( null == resultReporter().result() )
+            submitResult();
+        }
+        catch ( Throwable e )
+        {
+            reportExecutionError( e );
+        }
+        finally
+        {
+            beforeExecuteCheck.afterExecute( operation );
+        }
+    }
+
+    /**
+     * @return true if the handler is an AsyncOperationHandler, in which case runAsync() should be used instead of run()
+     */
+    public final boolean isAsync()
+    {
+        return operationHandler instanceof AsyncOperationHandler;
+    }
+
+    /**
+     * Asynchronous counterpart of run(), for contexts whose handler is an AsyncOperationHandler.
+     * Waits for the scheduled start time on the calling thread, starts the operation, then returns.
+     * Latency is measured, and the result, completion time and metrics are submitted, when the stage returned by the
+     * handler completes, on whichever thread completes it.
+     *
+     * @return stage that completes once the result has been submitted, it never completes exceptionally as errors are
+     * written to ConcurrentErrorReporter
+     */
+    public CompletionStage<Void> runAsync()
+    {
+        if ( !initialized )
+        {
+            errorReporter.reportError( this, "Handler was executed before being initialized" );
+            return CompletableFuture.completedFuture( null );
+        }
+        try
+        {
+            if ( !spinner.waitForScheduledStartTime( operation, beforeExecuteCheck ) )
             {
-                errorReporter.reportError( this, format( "Operation result is null\nOperation: %s", operation ) );
+                // Spinner result indicates operation should not be processed, as in run()
+                beforeExecuteCheck.afterExecute( operation );
+                return CompletableFuture.completedFuture( null );
             }
-            else
+            resultReporter.setActualStartTimeAsNano( timeSource.nowAsNano() );
+            long startOfLatencyMeasurementAsNano = timeSource.nanoSnapshot();
+            CompletionStage<?> execution =
+                    ((AsyncOperationHandler) operationHandler).executeOperationAsync( operation, dbConnectionState );
+            return execution.handle( ( result, throwable ) ->
             {
-                completionTimeWriter.submitCompletedTime( operation.timeStamp() );
-                metricsServiceWriter.submitOperationResult(
-                        operation.type(),
-                        operation.scheduledStartTimeAsMilli(),
-                        resultReporter.actualStartTimeAsMilli(),
-                        resultReporter.runDurationAsNano(),
-                        resultReporter.resultCode(),
-                        operation.timeStamp()
-                );
-            }
+                long endOfLatencyMeasurementAsNano = timeSource.nanoSnapshot();
+                resultReporter.setRunDurationAsNano( endOfLatencyMeasurementAsNano - startOfLatencyMeasurementAsNano );
+                try
+                {
+                    if ( null != throwable )
+                    {
+                        throw (throwable instanceof CompletionException && null != throwable.getCause())
+                              ? throwable.getCause()
+                              : throwable;
+                    }
+                    resultReporter.report( 0, result, operation );
+                    submitResult();
+                }
+                catch ( Throwable e )
+                {
+                    reportExecutionError( e );
+                }
+                finally
+                {
+                    beforeExecuteCheck.afterExecute( operation );
+                }
+                return null;
+            } );
         }
         catch ( Throwable e )
         {
-            String errMsg = format( "Error encountered\n%s\n%s",
-                    operation,
-                    ConcurrentErrorReporter.stackTraceToString( e ) );
-            errorReporter.reportError( this, errMsg );
+            reportExecutionError( e );
+            beforeExecuteCheck.afterExecute( operation );
+            return CompletableFuture.completedFuture( null );
         }
     }
 
+    private void submitResult() throws CompletionTimeException, MetricsCollectionException
+    {
+        if ( null == resultReporter().result() )
+        {
+            errorReporter.reportError( this, format( "Operation result is null\nOperation: %s", operation ) );
+        }
+        else
+        {
+            completionTimeWriter.submitCompletedTime( operation.timeStamp() );
+            metricsServiceWriter.submitOperationResult(
+                    operation.type(),
+                    operation.scheduledStartTimeAsMilli(),
+                    resultReporter.actualStartTimeAsMilli(),
+                    resultReporter.actualStartTimeAsNano() - operation.scheduledStartTimeAsNano(),
+                    resultReporter.runDurationAsNano(),
+                    resultReporter.resultCode(),
+                    operation.timeStamp()
+            );
+        }
+    }
+
+    private void reportExecutionError( Throwable e )
+    {
+        String errMsg = format( "Error encountered\n%s\n%s",
+                operation,
+                ConcurrentErrorReporter.stackTraceToString( e ) );
+        errorReporter.reportError( this, errMsg );
+    }
+
 
     @Override
     public String toString()
@@ -186,6 +277,16 @@ public class OperationHandlerRunnableContext implements Runnable, Poolable
         release();
     }
 
+    /**
+     * Cleans up a handler that will not be run after all, e.g., because it could not be submitted to an executor,
+     * so the check it would have waited on no longer holds back the operations that depend on its operation
+     */
+    public final void cancel()
+    {
+        beforeExecuteCheck.afterExecute( operation );
+        cleanup();
+    }
+
     // Note, this should not really be public API, it is from the StormPot Poolable interface
     @Override
     public final void release()
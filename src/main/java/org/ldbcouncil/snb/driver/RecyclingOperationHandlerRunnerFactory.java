@@ -0,0 +1,180 @@
+package org.ldbcouncil.snb.driver;
+
+import org.agrona.concurrent.ManyToOneConcurrentArrayQueue;
+import stormpot.Poolable;
+import stormpot.Slot;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.function.Consumer;
+
+/**
+ * Recycles runnable contexts through bounded free lists, one per claiming thread, rather than through a shared pool.
+ * <p>
+ * A context is owned by the free list of the thread that claimed it. When released on that thread it is pushed onto
+ * the free list directly, when released on another thread (e.g., an executor thread) it is offered to the return
+ * queue of the free list, which the owner drains once its free list is empty. Claiming and releasing are lock free
+ * and, once warmed up, allocation free. Claims never wait, if no context is free a new one is instantiated, and
+ * contexts that do not fit in a full free list or return queue are left to the garbage collector.
+ * <p>
+ * Virtual threads are short lived, one per handler, so contexts claimed on them are instantiated and not recycled.
+ */
+public class RecyclingOperationHandlerRunnerFactory implements OperationHandlerRunnerFactory
+{
+    static final int DEFAULT_FREE_LIST_CAPACITY = 4096;
+    private static final MethodHandle IS_VIRTUAL = isVirtualMethodHandle();
+
+    private final OperationHandlerRunnerFactory innerOperationHandlerRunnerFactory;
+    private final int freeListCapacity;
+    private final ThreadLocal<FreeList> freeLists;
+    private volatile boolean shutdown = false;
+
+    public RecyclingOperationHandlerRunnerFactory( OperationHandlerRunnerFactory operationHandlerRunnerFactory )
+    {
+        this( operationHandlerRunnerFactory, DEFAULT_FREE_LIST_CAPACITY );
+    }
+
+    RecyclingOperationHandlerRunnerFactory( OperationHandlerRunnerFactory operationHandlerRunnerFactory,
+            int freeListCapacity )
+    {
+        this.innerOperationHandlerRunnerFactory = operationHandlerRunnerFactory;
+        this.freeListCapacity = freeListCapacity;
+        this.freeLists = ThreadLocal.withInitial( () -> new FreeList( this, freeListCapacity ) );
+    }
+
+    @Override
+    public OperationHandlerRunnableContext newOperationHandlerRunner() throws OperationException
+    {
+        if ( isVirtual( Thread.currentThread() ) )
+        {
+            return innerOperationHandlerRunnerFactory.newOperationHandlerRunner();
+        }
+        FreeList freeList = freeLists.get();
+        OperationHandlerRunnableContext operationHandlerRunner = freeList.claim();
+        if ( null == operationHandlerRunner )
+        {
+            operationHandlerRunner = innerOperationHandlerRunnerFactory.newOperationHandlerRunner();
+            operationHandlerRunner.setSlot( freeList );
+        }
+        return operationHandlerRunner;
+    }
+
+    @Override
+    public void shutdown() throws OperationException
+    {
+        // contexts released from now on are dropped, free lists are reclaimed along with their threads
+        shutdown = true;
+        innerOperationHandlerRunnerFactory.shutdown();
+    }
+
+    @Override
+    public String toString()
+    {
+        return RecyclingOperationHandlerRunnerFactory.class.getSimpleName() + "{" +
+               "freeListCapacity=" + freeListCapacity + ", " +
+               innerOperationHandlerRunnerFactory.toString() + "}";
+    }
+
+    private static boolean isVirtual( Thread thread )
+    {
+        if ( null == IS_VIRTUAL )
+        {
+            return false;
+        }
+        try
+        {
+            return (boolean) IS_VIRTUAL.invokeExact( thread );
+        }
+        catch ( Throwable e )
+        {
+            return false;
+        }
+    }
+
+    // resolved reflectively so the driver still builds and runs on runtimes without virtual threads
+    private static MethodHandle isVirtualMethodHandle()
+    {
+        try
+        {
+            return MethodHandles.publicLookup()
+                    .findVirtual( Thread.class, "isVirtual", MethodType.methodType( boolean.class ) );
+        }
+        catch ( NoSuchMethodException | IllegalAccessException e )
+        {
+            return null;
+        }
+    }
+
+    /**
+     * Free list of one claiming thread, released contexts are returned to it via their Slot
+     */
+    private static class FreeList implements Slot, Consumer<OperationHandlerRunnableContext>
+    {
+        private final RecyclingOperationHandlerRunnerFactory factory;
+        private final Thread owner;
+        private final OperationHandlerRunnableContext[] free;
+        private final ManyToOneConcurrentArrayQueue<OperationHandlerRunnableContext> returned;
+        private int freeCount = 0;
+
+        private FreeList( RecyclingOperationHandlerRunnerFactory factory, int capacity )
+        {
+            this.factory = factory;
+            this.owner = Thread.currentThread();
+            this.free = new OperationHandlerRunnableContext[capacity];
+            this.returned = new ManyToOneConcurrentArrayQueue<>( capacity );
+        }
+
+        // only called by owner
+        private OperationHandlerRunnableContext claim()
+        {
+            if ( 0 == freeCount )
+            {
+                returned.drain( this, free.length );
+                if ( 0 == freeCount )
+                {
+                    return null;
+                }
+            }
+            freeCount--;
+            OperationHandlerRunnableContext operationHandlerRunner = free[freeCount];
+            free[freeCount] = null;
+            return operationHandlerRunner;
+        }
+
+        // only called by owner, while draining the return queue
+        @Override
+        public void accept( OperationHandlerRunnableContext operationHandlerRunner )
+        {
+            free[freeCount++] = operationHandlerRunner;
+        }
+
+        @Override
+        public void release( Poolable poolable )
+        {
+            if ( factory.shutdown )
+            {
+                return;
+            }
+            OperationHandlerRunnableContext operationHandlerRunner = (OperationHandlerRunnableContext) poolable;
+            if ( Thread.currentThread() == owner )
+            {
+                if ( freeCount < free.length )
+                {
+                    free[freeCount++] = operationHandlerRunner;
+                }
+            }
+            else
+            {
+                // dropped if the return queue is full
+                returned.offer( operationHandlerRunner );
+            }
+        }
+
+        @Override
+        public void expire( Poolable poolable )
+        {
+            // nothing to do here, contexts never expire
+        }
+    }
+}
@@ -2,6 +2,8 @@ package org.ldbcouncil.snb.driver;
 
 import org.ldbcouncil.snb.driver.runtime.ConcurrentErrorReporter;
 
+import java.util.concurrent.TimeUnit;
+
 import static java.lang.String.format;
 
 public interface ResultReporter
@@ -19,12 +21,14 @@ public interface ResultReporter
 
     long actualStartTimeAsMilli();
 
+    long actualStartTimeAsNano();
+
     class SimpleResultReporter implements ResultReporter
     {
         private final ConcurrentErrorReporter errorReporter;
         private Object result = null;
         private int resultCode = -1;
-        private long actualStartTimeAsMilli = -1;
+        private long actualStartTimeAsNano = -1;
         private long runDurationAsNano = -1;
 
         public SimpleResultReporter( ConcurrentErrorReporter errorReporter )
@@ -70,15 +74,21 @@ public interface ResultReporter
             return runDurationAsNano;
         }
 
-        public void setActualStartTimeAsMilli( long actualStartTimeAsMilli )
+        public void setActualStartTimeAsNano( long actualStartTimeAsNano )
         {
-            this.actualStartTimeAsMilli = actualStartTimeAsMilli;
+            this.actualStartTimeAsNano = actualStartTimeAsNano;
         }
 
         @Override
         public long actualStartTimeAsMilli()
         {
-            return actualStartTimeAsMilli;
+            return Math.floorDiv( actualStartTimeAsNano, TimeUnit.MILLISECONDS.toNanos( 1 ) );
+        }
+
+        @Override
+        public long actualStartTimeAsNano()
+        {
+            return actualStartTimeAsNano;
         }
 
         @Override
@@ -94,7 +104,7 @@ public interface ResultReporter
                    "\t-->errorReporter=" + errorReporter + "\n" +
                    "\t-->result=" + result + "\n" +
                    "\t-->resultCode=" + resultCode + "\n" +
-                   "\t-->actualStartTimeAsMilli=" + actualStartTimeAsMilli + "\n" +
+                   "\t-->actualStartTimeAsNano=" + actualStartTimeAsNano + "\n" +
                    "\t-->runDurationAsNano=" + runDurationAsNano + "\n" +
                    '}';
         }
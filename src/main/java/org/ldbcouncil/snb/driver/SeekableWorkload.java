@@ -0,0 +1,34 @@
+package org.ldbcouncil.snb.driver;
+
+import org.ldbcouncil.snb.driver.generator.GeneratorFactory;
+
+/**
+ * Workload whose streams can be started part way through, so that reaching an offset into the streams does not
+ * require generating and discarding every operation before it.
+ * <p>
+ * Offsets and limits are counted on the time stamp streams, which hold operations in the same order as the
+ * asynchronous streams of streams(), with the same types and time stamps, but without parameters, so they are cheap
+ * to generate. The streams of the workload are then created once, starting at the counted offsets.
+ * <p>
+ * Both methods may be called on the same initialized workload, time stamp streams first.
+ */
+public interface SeekableWorkload
+{
+    /**
+     * @return streams with operations of the same types and time stamps as those of the asynchronous streams of
+     * streams(), whose dependency time stamps equal their time stamps, and the child operation generator of streams()
+     * without a connected database
+     * @throws WorkloadException
+     */
+    WorkloadStreams timeStampStreams( GeneratorFactory gf ) throws WorkloadException;
+
+    /**
+     * @param startForStream number of operations to skip, from the asynchronous dependency stream first and from
+     * the asynchronous non dependency stream second, e.g., as counted by
+     * WorkloadStreams.fromAmongAllRetrieveTopCountFromOffset() on the time stamp streams
+     * @return streams as returned by streams(), without the skipped operations
+     * @throws WorkloadException
+     */
+    WorkloadStreams streamsFrom( GeneratorFactory gf, boolean hasDbConnected, long[] startForStream )
+            throws WorkloadException;
+}
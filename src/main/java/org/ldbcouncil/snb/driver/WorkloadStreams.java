@@ -5,6 +5,7 @@ import com.google.common.collect.PeekingIterator;
 import org.ldbcouncil.snb.driver.control.DriverConfiguration;
 import org.ldbcouncil.snb.driver.control.LoggingService;
 import org.ldbcouncil.snb.driver.control.LoggingServiceFactory;
+import org.ldbcouncil.snb.driver.control.SchedulingResolution;
 import org.ldbcouncil.snb.driver.generator.GeneratorFactory;
 import org.ldbcouncil.snb.driver.util.Tuple;
 import org.ldbcouncil.snb.driver.util.Tuple3;
@@ -33,6 +34,23 @@ public class WorkloadStreams
             double compressionRatio,
             GeneratorFactory gf ) throws WorkloadException
     {
+        return timeOffsetAndCompressWorkloadStreams(
+                originalWorkloadStreams,
+                newStartTimeAsMilli,
+                compressionRatio,
+                SchedulingResolution.milli,
+                gf
+        );
+    }
+
+    public static WorkloadStreams timeOffsetAndCompressWorkloadStreams(
+            WorkloadStreams originalWorkloadStreams,
+            long newStartTimeAsMilli,
+            double compressionRatio,
+            SchedulingResolution schedulingResolution,
+            GeneratorFactory gf ) throws WorkloadException
+    {
+        boolean nanoResolution = SchedulingResolution.nano == schedulingResolution;
         long minScheduledStartTimeAsMilli = Long.MAX_VALUE;
 
         /*
@@ -145,12 +163,14 @@ public class WorkloadStreams
                 gf.timeOffsetAndCompress(
                         peekingAsyncDependencyOperationStream,
                         newStartTimeAsMilli + peekingAsyncDependencyOperationStreamAheadOfMinByAsMilli,
-                        compressionRatio
+                        compressionRatio,
+                        nanoResolution
                 ),
                 gf.timeOffsetAndCompress(
                         peekingAsyncNonDependencyOperationStream,
                         newStartTimeAsMilli + peekingAsyncNonDependencyOperationStreamAheadOfMinByAsMilli,
-                        compressionRatio
+                        compressionRatio,
+                        nanoResolution
                 ),
                 originalWorkloadStreams.asynchronousStream().childOperationGenerator()
         );
@@ -158,6 +178,39 @@ public class WorkloadStreams
         return timeOffsetAndCompressedWorkloadStreams;
     }
 
+    /**
+     * Returns the operations of one partition of the given workload streams, for execution by one of several driver
+     * processes. Operations are assigned to partitions round robin, separately within every stream, so partitions
+     * get near equal shares of each stream. Scheduled start times are left as they are, streams should be time mapped
+     * before they are partitioned, so all partitions share the same schedule.
+     */
+    public static WorkloadStreams partitionWorkloadStreams(
+            WorkloadStreams workloadStreams,
+            int partitionCount,
+            int partitionIndex )
+    {
+        if ( partitionIndex < 0 || partitionIndex >= partitionCount )
+        {
+            throw new IllegalArgumentException(
+                    format( "Partition index must be from 0 to %s, was %s", partitionCount - 1, partitionIndex ) );
+        }
+        WorkloadStreams partitionedWorkloadStreams = new WorkloadStreams();
+        partitionedWorkloadStreams.setAsynchronousStream(
+                workloadStreams.asynchronousStream().dependentOperationTypes(),
+                workloadStreams.asynchronousStream().dependencyOperationTypes(),
+                Iterators.filter(
+                        workloadStreams.asynchronousStream().dependencyOperations(),
+                        new RoundRobinPartitionFilter( partitionCount, partitionIndex )::test
+                ),
+                Iterators.filter(
+                        workloadStreams.asynchronousStream().nonDependencyOperations(),
+                        new RoundRobinPartitionFilter( partitionCount, partitionIndex )::test
+                ),
+                workloadStreams.asynchronousStream().childOperationGenerator()
+        );
+        return partitionedWorkloadStreams;
+    }
+
     // returns (workload_streams, workload, minimum_timestamp)
     public static Tuple3<WorkloadStreams,Workload,Long> createNewWorkloadWithOffsetAndLimitedWorkloadStreams(
             DriverConfiguration configuration,
@@ -196,9 +249,11 @@ public class WorkloadStreams
         // get workload
         Workload workload = workloadFactory.createWorkload();
         workload.init( configuration );
-        // retrieve unbounded streams
+        // seekable workloads are counted on their time stamp streams, other workloads on unbounded streams
         boolean hasDbConnected = false;
-        WorkloadStreams unlimitedWorkloadStreams = workload.streams( gf, hasDbConnected );
+        WorkloadStreams unlimitedWorkloadStreams = (workload instanceof SeekableWorkload)
+                                                   ? ((SeekableWorkload) workload).timeStampStreams( gf )
+                                                   : workload.streams( gf, hasDbConnected );
         List<Iterator<Operation>> streams = new ArrayList<>();
         List<ChildOperationGenerator> childOperationGenerators = new ArrayList<>();
 
@@ -222,25 +277,36 @@ public class WorkloadStreams
         long[] limitForStream = limitsAndMinimumsForStream._2();
         long minimumTimeStamp = limitsAndMinimumsForStream._3();
 
-        workload.close();
-
         // ================================
         // ====== Create Limited Streams ==
         // ================================
 
         WorkloadStreams workloadStreams = new WorkloadStreams();
 
-        // reinitialize workload, so it can be streamed through from the beginning
-        workload = workloadFactory.createWorkload();
-        workload.init( configuration );
+        if ( workload instanceof SeekableWorkload )
+        {
+            // retrieve unbounded streams, starting at offsets
+            unlimitedWorkloadStreams = ((SeekableWorkload) workload).streamsFrom(
+                    gf,
+                    returnStreamsWithDbConnector,
+                    startForStream
+            );
+        }
+        else
+        {
+            workload.close();
 
-        // retrieve unbounded streams
-        unlimitedWorkloadStreams = workload.streams( gf, returnStreamsWithDbConnector );
+            // reinitialize workload, so it can be streamed through from the beginning
+            workload = workloadFactory.createWorkload();
+            workload.init( configuration );
 
-        // advance to offsets
-        gf.consume( unlimitedWorkloadStreams.asynchronousStream().dependencyOperations(), startForStream[0] );
-        gf.consume( unlimitedWorkloadStreams.asynchronousStream().nonDependencyOperations(), startForStream[1] );
+            // retrieve unbounded streams
+            unlimitedWorkloadStreams = workload.streams( gf, returnStreamsWithDbConnector );
 
+            // advance to offsets
+            gf.consume( unlimitedWorkloadStreams.asynchronousStream().dependencyOperations(), startForStream[0] );
+            gf.consume( unlimitedWorkloadStreams.asynchronousStream().nonDependencyOperations(), startForStream[1] );
+        }
 
         // copy unbounded streams to new workload streams instance, from offsets, applying limits
         workloadStreams.setAsynchronousStream(
@@ -512,6 +578,25 @@ public class WorkloadStreams
         return gf.mergeSortOperationsByTimeStamp( allStreams.toArray( new Iterator[allStreams.size()] ) );
     }
 
+    // stateful, relies on being applied to every operation of a stream exactly once, in order
+    private static class RoundRobinPartitionFilter
+    {
+        private final int partitionCount;
+        private final int partitionIndex;
+        private long position = 0;
+
+        private RoundRobinPartitionFilter( int partitionCount, int partitionIndex )
+        {
+            this.partitionCount = partitionCount;
+            this.partitionIndex = partitionIndex;
+        }
+
+        private boolean test( Operation operation )
+        {
+            return partitionIndex == position++ % partitionCount;
+        }
+    }
+
     public static class WorkloadStreamDefinition
     {
         private final Set<Class<? extends Operation>> dependentOperationTypes;
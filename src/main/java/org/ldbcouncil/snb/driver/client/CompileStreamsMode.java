@@ -0,0 +1,101 @@
+package org.ldbcouncil.snb.driver.client;
+
+import org.ldbcouncil.snb.driver.ClientException;
+import org.ldbcouncil.snb.driver.CompilableWorkload;
+import org.ldbcouncil.snb.driver.Workload;
+import org.ldbcouncil.snb.driver.WorkloadException;
+import org.ldbcouncil.snb.driver.control.ControlService;
+import org.ldbcouncil.snb.driver.control.LoggingService;
+import org.ldbcouncil.snb.driver.util.ClassLoaderHelper;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Map;
+
+import static java.lang.String.format;
+
+/**
+ * Compiles the operation stream files of the workload, see CompilableWorkload, so that later runs with the same
+ * configuration load them without reading and decoding the files themselves.
+ */
+public class CompileStreamsMode implements ClientMode<Long>
+{
+    private final ControlService controlService;
+    private final LoggingService loggingService;
+
+    private Workload workload = null;
+
+    public CompileStreamsMode( ControlService controlService ) throws ClientException
+    {
+        this.controlService = controlService;
+        this.loggingService = controlService.loggingServiceFactory().loggingServiceFor( getClass().getSimpleName() );
+    }
+
+    @Override
+    public void init() throws ClientException
+    {
+        try
+        {
+            workload = ClassLoaderHelper.loadWorkload( controlService.configuration().workloadClassName() );
+            workload.init( controlService.configuration() );
+        }
+        catch ( Exception e )
+        {
+            throw new ClientException( format( "Error loading Workload class: %s",
+                    controlService.configuration().workloadClassName() ), e );
+        }
+        if ( !(workload instanceof CompilableWorkload) )
+        {
+            throw new ClientException( format( "Workload does not support compiling operation streams: %s",
+                    workload.getClass().getName() ) );
+        }
+        loggingService.info( format( "Loaded Workload: %s", workload.getClass().getName() ) );
+    }
+
+    @Override
+    public Long startExecutionAndAwaitCompletion() throws ClientException
+    {
+        long compiledCount = 0;
+        try
+        {
+            long startTimeAsMilli = System.currentTimeMillis();
+            Map<File,Boolean> compiled = ((CompilableWorkload) workload).compileStreams();
+            for ( Map.Entry<File,Boolean> entry : compiled.entrySet() )
+            {
+                if ( entry.getValue() )
+                {
+                    compiledCount++;
+                    loggingService.info( format( "Compiled %s", entry.getKey().getAbsolutePath() ) );
+                }
+                else
+                {
+                    loggingService.info( format( "Up to date %s", entry.getKey().getAbsolutePath() ) );
+                }
+            }
+            loggingService.info( format( "Compiled %s of %s operation stream files in %s ms",
+                    compiledCount, compiled.size(), System.currentTimeMillis() - startTimeAsMilli ) );
+        }
+        catch ( WorkloadException e )
+        {
+            ClientException compileException = new ClientException( "Error compiling operation streams", e );
+            try
+            {
+                workload.close();
+            }
+            catch ( IOException closeException )
+            {
+                compileException.addSuppressed( closeException );
+            }
+            throw compileException;
+        }
+        try
+        {
+            workload.close();
+        }
+        catch ( IOException e )
+        {
+            throw new ClientException( "Error closing workload", e );
+        }
+        return compiledCount;
+    }
+}
@@ -0,0 +1,74 @@
+package org.ldbcouncil.snb.driver.client;
+
+import org.ldbcouncil.snb.driver.ClientException;
+import org.ldbcouncil.snb.driver.control.ControlService;
+import org.ldbcouncil.snb.driver.control.LoggingService;
+import org.ldbcouncil.snb.driver.runtime.metrics.ResultsLogConverter;
+
+import java.io.File;
+
+import static java.lang.String.format;
+
+/**
+ * Converts the binary results logs of a previous run, found in the configured results directory,
+ * to CSV results logs, replacing any CSV results logs already there.
+ */
+public class ConvertResultsLogMode implements ClientMode<Long>
+{
+    private final ControlService controlService;
+    private final LoggingService loggingService;
+
+    private ResultsDirectory resultsDirectory = null;
+
+    public ConvertResultsLogMode( ControlService controlService ) throws ClientException
+    {
+        this.controlService = controlService;
+        this.loggingService = controlService.loggingServiceFactory().loggingServiceFor( getClass().getSimpleName() );
+    }
+
+    @Override
+    public void init() throws ClientException
+    {
+        resultsDirectory = new ResultsDirectory( controlService.configuration() );
+        if ( !resultsDirectory.exists() )
+        {
+            throw new ClientException( "No results directory specified" );
+        }
+    }
+
+    @Override
+    public Long startExecutionAndAwaitCompletion() throws ClientException
+    {
+        long resultCount = 0;
+        boolean foundResultsLog = false;
+        for ( boolean warmup : new boolean[]{true, false} )
+        {
+            File binaryResultsLog = resultsDirectory.getBinaryResultsLogFile( warmup );
+            if ( !binaryResultsLog.exists() )
+            {
+                continue;
+            }
+            foundResultsLog = true;
+            File resultsLog = resultsDirectory.getResultsLogFile( warmup );
+            loggingService.info( format( "Converting %s to %s",
+                    binaryResultsLog.getAbsolutePath(), resultsLog.getAbsolutePath() ) );
+            try
+            {
+                long convertedCount = ResultsLogConverter.binaryToCsv( binaryResultsLog, resultsLog );
+                loggingService.info( format( "Converted %s results", convertedCount ) );
+                resultCount += convertedCount;
+            }
+            catch ( Exception e )
+            {
+                throw new ClientException(
+                        format( "Error converting results log: %s", binaryResultsLog.getAbsolutePath() ), e );
+            }
+        }
+        if ( !foundResultsLog )
+        {
+            throw new ClientException( format( "No binary results log found for %s in: %s",
+                    controlService.configuration().name(), controlService.configuration().resultDirPath() ) );
+        }
+        return resultCount;
+    }
+}
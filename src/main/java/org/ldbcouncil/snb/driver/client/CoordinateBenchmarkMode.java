@@ -0,0 +1,293 @@
+package org.ldbcouncil.snb.driver.client;
+
+import com.google.common.base.Charsets;
+import org.ldbcouncil.snb.driver.Client;
+import org.ldbcouncil.snb.driver.ClientException;
+import org.ldbcouncil.snb.driver.Workload;
+import org.ldbcouncil.snb.driver.WorkloadException;
+import org.ldbcouncil.snb.driver.control.ConsoleAndFileDriverConfiguration;
+import org.ldbcouncil.snb.driver.control.ControlService;
+import org.ldbcouncil.snb.driver.control.DriverConfiguration;
+import org.ldbcouncil.snb.driver.control.DriverConfigurationException;
+import org.ldbcouncil.snb.driver.control.LoggingService;
+import org.ldbcouncil.snb.driver.control.OperationMode;
+import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeException;
+import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeExchangeServer;
+import org.ldbcouncil.snb.driver.runtime.metrics.JsonWorkloadMetricsFormatter;
+import org.ldbcouncil.snb.driver.runtime.metrics.MetricsManager;
+import org.ldbcouncil.snb.driver.runtime.metrics.ResultsLogConverter;
+import org.ldbcouncil.snb.driver.runtime.metrics.ShardedMetricsService;
+import org.ldbcouncil.snb.driver.runtime.metrics.SimpleResultsLogReader;
+import org.ldbcouncil.snb.driver.runtime.metrics.WorkloadResultsSnapshot;
+import org.ldbcouncil.snb.driver.temporal.TimeSource;
+import org.ldbcouncil.snb.driver.util.ClassLoaderHelper;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Executes a benchmark with one driver process per partition of the workload streams, to scale past the throughput
+ * of a single driver process.
+ * <p>
+ * Every driver process runs in execute_benchmark mode, with the configuration of this one, and executes the
+ * operations of one round-robin partition of every workload stream, see WorkloadStreams.partitionWorkloadStreams().
+ * Through a CompletionTimeExchangeServer the processes agree on the start time of each phase and share completion
+ * time, so dependent operations wait for the operations they depend on in every partition.
+ * <p>
+ * Each process writes its results to the results directory, under the configured name suffixed with the partition
+ * index. Once all processes finished, their CSV results logs are merged into the results log of this configuration,
+ * from which the metrics of the whole benchmark are computed.
+ */
+public class CoordinateBenchmarkMode implements ClientMode<WorkloadResultsSnapshot>
+{
+    static final String PARTITION_NAME_SUFFIX = "-partition_";
+    private static final long PROCESS_POLL_INTERVAL_AS_MILLI = 100;
+
+    private final ControlService controlService;
+    private final TimeSource timeSource;
+    private final LoggingService loggingService;
+
+    private ResultsDirectory resultsDirectory = null;
+    private Workload workload = null;
+
+    public CoordinateBenchmarkMode( ControlService controlService, TimeSource timeSource ) throws ClientException
+    {
+        this.controlService = controlService;
+        this.timeSource = timeSource;
+        this.loggingService = controlService.loggingServiceFactory().loggingServiceFor( getClass().getSimpleName() );
+    }
+
+    @Override
+    public void init() throws ClientException
+    {
+        DriverConfiguration configuration = controlService.configuration();
+        if ( configuration.partitionCount() < 2 )
+        {
+            throw new ClientException( "Coordinating a benchmark requires a partition count of at least 2" );
+        }
+        resultsDirectory = new ResultsDirectory( configuration );
+        if ( !resultsDirectory.exists() )
+        {
+            throw new ClientException( "Coordinating a benchmark requires a results directory" );
+        }
+        try
+        {
+            workload = ClassLoaderHelper.loadWorkload( configuration.workloadClassName() );
+        }
+        catch ( WorkloadException e )
+        {
+            throw new ClientException(
+                    format( "Error loading workload class: %s", configuration.workloadClassName() ), e );
+        }
+        loggingService.info( "Driver Configuration" );
+        loggingService.info( controlService.toString() );
+    }
+
+    /**
+     * @return results of the run phase of all partitions, warmup results are not returned
+     */
+    @Override
+    public WorkloadResultsSnapshot startExecutionAndAwaitCompletion() throws ClientException
+    {
+        DriverConfiguration configuration = controlService.configuration();
+        int partitionCount = configuration.partitionCount();
+        CompletionTimeExchangeServer exchangeServer;
+        try
+        {
+            exchangeServer = new CompletionTimeExchangeServer( configuration.coordinatorPort(), partitionCount );
+        }
+        catch ( CompletionTimeException e )
+        {
+            throw new ClientException( "Error starting completion time exchange", e );
+        }
+        List<DriverConfiguration> partitionConfigurations = new ArrayList<>();
+        try
+        {
+            loggingService.info( format( "Coordinating %s driver processes on local port %s",
+                    partitionCount, exchangeServer.port() ) );
+            List<Process> processes = new ArrayList<>();
+            try
+            {
+                for ( int partitionIndex = 0; partitionIndex < partitionCount; partitionIndex++ )
+                {
+                    DriverConfiguration partitionConfiguration =
+                            partitionConfiguration( configuration, partitionIndex, exchangeServer.port() );
+                    partitionConfigurations.add( partitionConfiguration );
+                    processes.add( startDriverProcess( partitionConfiguration, partitionIndex ) );
+                }
+                awaitDriverProcesses( processes );
+            }
+            finally
+            {
+                for ( Process process : processes )
+                {
+                    process.destroyForcibly();
+                }
+            }
+        }
+        finally
+        {
+            try
+            {
+                exchangeServer.shutdown();
+            }
+            catch ( CompletionTimeException e )
+            {
+                loggingService.info( "Error shutting down completion time exchange: " + e.getMessage() );
+            }
+        }
+
+        if ( configuration.warmupCount() > 0 )
+        {
+            loggingService.summaryResult( mergeResults( partitionConfigurations, true ) );
+        }
+        WorkloadResultsSnapshot workloadResults = mergeResults( partitionConfigurations, false );
+        loggingService.detailedResult( workloadResults );
+        loggingService.info( "Workload completed successfully" );
+        return workloadResults;
+    }
+
+    private static DriverConfiguration partitionConfiguration(
+            DriverConfiguration configuration,
+            int partitionIndex,
+            int coordinatorPort ) throws ClientException
+    {
+        try
+        {
+            Map<String,String> partitionParams = new HashMap<>();
+            partitionParams.put( ConsoleAndFileDriverConfiguration.MODE_ARG, OperationMode.execute_benchmark.name() );
+            partitionParams.put( ConsoleAndFileDriverConfiguration.PARTITION_INDEX_ARG,
+                    Integer.toString( partitionIndex ) );
+            partitionParams.put( ConsoleAndFileDriverConfiguration.COORDINATOR_PORT_ARG,
+                    Integer.toString( coordinatorPort ) );
+            partitionParams.put( ConsoleAndFileDriverConfiguration.NAME_ARG,
+                    configuration.name() + PARTITION_NAME_SUFFIX + partitionIndex );
+            return configuration.applyArgs( partitionParams );
+        }
+        catch ( DriverConfigurationException e )
+        {
+            throw new ClientException( format( "Error creating configuration of partition %s", partitionIndex ), e );
+        }
+    }
+
+    private Process startDriverProcess( DriverConfiguration partitionConfiguration, int partitionIndex )
+            throws ClientException
+    {
+        try
+        {
+            File configurationFile = File.createTempFile( partitionConfiguration.name() + "-", ".properties" );
+            configurationFile.deleteOnExit();
+            Files.write(
+                    configurationFile.toPath(),
+                    partitionConfiguration.toPropertiesString().getBytes( StandardCharsets.UTF_8 )
+            );
+            // mode is not written to properties files
+            ProcessBuilder processBuilder = new ProcessBuilder(
+                    new File( new File( System.getProperty( "java.home" ), "bin" ), "java" ).getAbsolutePath(),
+                    "-cp",
+                    System.getProperty( "java.class.path" ),
+                    Client.class.getName(),
+                    "-" + ConsoleAndFileDriverConfiguration.MODE_ARG,
+                    OperationMode.execute_benchmark.name(),
+                    "-" + ConsoleAndFileDriverConfiguration.PROPERTY_FILE_ARG,
+                    configurationFile.getAbsolutePath()
+            );
+            processBuilder.inheritIO();
+            loggingService.info( format( "Starting driver process of partition %s", partitionIndex ) );
+            return processBuilder.start();
+        }
+        catch ( IOException | DriverConfigurationException e )
+        {
+            throw new ClientException( format( "Error starting driver process of partition %s", partitionIndex ), e );
+        }
+    }
+
+    private void awaitDriverProcesses( List<Process> processes ) throws ClientException
+    {
+        List<Process> runningProcesses = new ArrayList<>( processes );
+        while ( !runningProcesses.isEmpty() )
+        {
+            for ( Process process : new ArrayList<>( runningProcesses ) )
+            {
+                try
+                {
+                    if ( !process.waitFor( PROCESS_POLL_INTERVAL_AS_MILLI, TimeUnit.MILLISECONDS ) )
+                    {
+                        continue;
+                    }
+                }
+                catch ( InterruptedException e )
+                {
+                    throw new ClientException( "Interrupted while waiting for driver processes", e );
+                }
+                runningProcesses.remove( process );
+                if ( 0 != process.exitValue() )
+                {
+                    // other processes would wait forever on the completion time of the failed one
+                    throw new ClientException( format( "Driver process of partition %s failed with exit code %s",
+                            processes.indexOf( process ), process.exitValue() ) );
+                }
+            }
+        }
+    }
+
+    private WorkloadResultsSnapshot mergeResults( List<DriverConfiguration> partitionConfigurations, boolean warmup )
+            throws ClientException
+    {
+        DriverConfiguration configuration = controlService.configuration();
+        List<File> partitionResultsLogs = new ArrayList<>();
+        for ( DriverConfiguration partitionConfiguration : partitionConfigurations )
+        {
+            partitionResultsLogs.add( new ResultsDirectory( partitionConfiguration ).getResultsLogFile( warmup ) );
+        }
+        File resultsLog = resultsDirectory.getOrCreateResultsLogFile( warmup );
+        try
+        {
+            loggingService.info( format( "Merging results logs of %s partitions to: %s",
+                    partitionResultsLogs.size(), resultsLog.getAbsolutePath() ) );
+            ResultsLogConverter.mergeCsv( partitionResultsLogs, resultsLog, configuration.timeUnit() );
+            MetricsManager metricsManager = new MetricsManager(
+                    timeSource,
+                    configuration.timeUnit(),
+                    ShardedMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                    TimeUnit.MICROSECONDS.toNanos( configuration.metricsExpectedIntervalAsMicro() ),
+                    workload.operationTypeToClassMapping(),
+                    controlService.loggingServiceFactory()
+            );
+            try ( SimpleResultsLogReader reader = new SimpleResultsLogReader( resultsLog ) )
+            {
+                metricsManager.applyResultsLog( reader );
+            }
+            WorkloadResultsSnapshot workloadResults = metricsManager.snapshot();
+            File resultsSummaryFile = resultsDirectory.getOrCreateResultsSummaryFile( warmup );
+            loggingService.info(
+                    format( "Exporting workload metrics to %s...", resultsSummaryFile.getAbsolutePath() )
+            );
+            MetricsManager.export( workloadResults,
+                    new JsonWorkloadMetricsFormatter(),
+                    new FileOutputStream( resultsSummaryFile ),
+                    Charsets.UTF_8
+            );
+            File configurationFile = resultsDirectory.getOrCreateConfigurationFile( warmup );
+            Files.write(
+                    configurationFile.toPath(),
+                    configuration.toPropertiesString().getBytes( StandardCharsets.UTF_8 )
+            );
+            return workloadResults;
+        }
+        catch ( Exception e )
+        {
+            throw new ClientException( "Error merging results of driver processes", e );
+        }
+    }
+}
@@ -9,6 +9,7 @@ import org.ldbcouncil.snb.driver.WorkloadException;
 import org.ldbcouncil.snb.driver.WorkloadStreams;
 import org.ldbcouncil.snb.driver.control.ControlService;
 import org.ldbcouncil.snb.driver.control.LoggingService;
+import org.ldbcouncil.snb.driver.control.ResultsLogFormat;
 import org.ldbcouncil.snb.driver.generator.GeneratorFactory;
 import org.ldbcouncil.snb.driver.generator.RandomDataGeneratorFactory;
 import org.ldbcouncil.snb.driver.runtime.ConcurrentErrorReporter;
@@ -18,12 +19,14 @@ import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeException;
 import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeService;
 import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeServiceAssistant;
 import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeWriter;
-import org.ldbcouncil.snb.driver.runtime.metrics.DisruptorSbeMetricsService;
+import org.ldbcouncil.snb.driver.runtime.metrics.BinaryResultsLogWriter;
 import org.ldbcouncil.snb.driver.runtime.metrics.JsonWorkloadMetricsFormatter;
 import org.ldbcouncil.snb.driver.runtime.metrics.MetricsCollectionException;
 import org.ldbcouncil.snb.driver.runtime.metrics.MetricsManager;
 import org.ldbcouncil.snb.driver.runtime.metrics.MetricsService;
+import org.ldbcouncil.snb.driver.runtime.metrics.MetricsServiceFactory;
 import org.ldbcouncil.snb.driver.runtime.metrics.NullResultsLogWriter;
+import org.ldbcouncil.snb.driver.runtime.metrics.ResultsLogConverter;
 import org.ldbcouncil.snb.driver.runtime.metrics.ResultsLogWriter;
 import org.ldbcouncil.snb.driver.runtime.metrics.SimpleResultsLogWriter;
 import org.ldbcouncil.snb.driver.runtime.metrics.WorkloadResultsSnapshot;
@@ -48,7 +51,7 @@ import java.util.concurrent.TimeUnit;
 
 import static java.lang.String.format;
 
-public class ExecuteWorkloadMode implements ClientMode<Object>
+public class ExecuteWorkloadMode implements ClientMode<WorkloadResultsSnapshot>
 {
     private final ControlService controlService;
     private final TimeSource timeSource;
@@ -63,6 +66,7 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
     private CompletionTimeService completionTimeService = null;
     private WorkloadRunner workloadRunner = null;
     private ResultsLogWriter resultsLogWriter = null;
+    private WorkloadResultsSnapshot workloadResults = null;
 
     public ExecuteWorkloadMode(
             ControlService controlService,
@@ -93,8 +97,11 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         loggingService.info( controlService.toString() );
     }
 
+    /**
+     * @return results of the run phase, warmup results are not returned
+     */
     @Override
-    public Object startExecutionAndAwaitCompletion() throws ClientException
+    public WorkloadResultsSnapshot startExecutionAndAwaitCompletion() throws ClientException
     {
         if ( controlService.configuration().warmupCount() > 0 )
         {
@@ -144,7 +151,7 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
             throw new ClientException( "Error shutting down database", e );
         }
         loggingService.info( "Workload completed successfully" );
-        return null;
+        return workloadResults;
     }
 
     private void doInit( boolean warmup ) throws ClientException
@@ -152,24 +159,8 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
         GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( randomSeed ) );
 
-        //  ================================
-        //  ===  Results Log CSV Writer  ===
-        //  ================================
+        // created up front whatever the format, results directory phase detection relies on it
         File resultsLog = resultsDirectory.getOrCreateResultsLogFile( warmup );
-        try
-        {
-            resultsLogWriter = (null == resultsLog)
-                               ? new NullResultsLogWriter()
-                               : new SimpleResultsLogWriter(
-                                    resultsLog,
-                                    controlService.configuration().timeUnit(),
-                                    controlService.configuration().flushLog() );
-        }
-        catch ( IOException e )
-        {
-            throw new ClientException(
-                    format( "Error creating results log writer for: %s", resultsLog.getAbsolutePath() ), e );
-        }
 
         //  ==================
         //  ===  Workload  ===
@@ -217,6 +208,7 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
                     workloadStreams,
                     controlService.workloadStartTimeAsMilli(),
                     controlService.configuration().timeCompressionRatio(),
+                    controlService.configuration().schedulingResolution(),
                     gf
             );
         }
@@ -224,6 +216,18 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         {
             throw new ClientException( "Error while retrieving operation stream for workload", e );
         }
+        int partitionCount = controlService.configuration().partitionCount();
+        if ( partitionCount > 1 )
+        {
+            // partitioned after time mapping, every partition keeps the schedule of the whole workload
+            int partitionIndex = controlService.configuration().partitionIndex();
+            loggingService.info( format( "Executing partition %s of %s", partitionIndex, partitionCount ) );
+            timeMappedWorkloadStreams = WorkloadStreams.partitionWorkloadStreams(
+                    timeMappedWorkloadStreams,
+                    partitionCount,
+                    partitionIndex
+            );
+        }
 
         //  ================
         //  =====  DB  =====
@@ -247,17 +251,49 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
             loggingService.info( format( "Loaded DB: %s", database.getClass().getName() ) );
         }
 
+        //  ============================
+        //  ===  Results Log Writer  ===
+        //  ============================
+        boolean binaryResultsLog = ResultsLogFormat.binary == controlService.configuration().resultsLogFormat();
+        File resultsLogToWrite = (binaryResultsLog)
+                                 ? resultsDirectory.getOrCreateBinaryResultsLogFile( warmup )
+                                 : resultsLog;
+        try
+        {
+            if ( null == resultsLogToWrite )
+            {
+                resultsLogWriter = new NullResultsLogWriter();
+            }
+            else if ( binaryResultsLog )
+            {
+                resultsLogWriter = new BinaryResultsLogWriter(
+                        resultsLogToWrite,
+                        controlService.configuration().timeUnit(),
+                        workload.operationTypeToClassMapping() );
+            }
+            else
+            {
+                resultsLogWriter = new SimpleResultsLogWriter(
+                        resultsLogToWrite,
+                        controlService.configuration().timeUnit(),
+                        controlService.configuration().flushLog() );
+            }
+        }
+        catch ( IOException | MetricsCollectionException e )
+        {
+            throw new ClientException(
+                    format( "Error creating results log writer for: %s", resultsLogToWrite.getAbsolutePath() ), e );
+        }
+
         //  ========================
         //  ===  Metrics Service  ==
         //  ========================
         try
         {
-            // TODO create metrics service factory so different ones can be easily created
-            metricsService = new DisruptorSbeMetricsService(
+            metricsService = MetricsServiceFactory.create(
+                    controlService.configuration(),
                     timeSource,
                     errorReporter,
-                    controlService.configuration().timeUnit(),
-                    DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
                     resultsLogWriter,
                     workload.operationTypeToClassMapping(),
                     controlService.loggingServiceFactory()
@@ -274,11 +310,7 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         CompletionTimeServiceAssistant completionTimeServiceAssistant = new CompletionTimeServiceAssistant();
         try
         {
-            completionTimeService =
-                    completionTimeServiceAssistant.newThreadedQueuedCompletionTimeService(
-                            timeSource,
-                            errorReporter
-                    );
+            completionTimeService = controlService.newCompletionTimeService( errorReporter );
         }
         catch ( CompletionTimeException e )
         {
@@ -300,10 +332,7 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
                     errorReporter,
                     completionTimeService,
                     controlService.loggingServiceFactory(),
-                    controlService.configuration().threadCount(),
-                    controlService.configuration().statusDisplayIntervalAsSeconds(),
-                    controlService.configuration().spinnerSleepDurationAsMilli(),
-                    controlService.configuration().ignoreScheduledStartTimes(),
+                    controlService.configuration(),
                     operationHandlerExecutorsBoundedQueueSize );
         }
         catch ( Exception e )
@@ -398,7 +427,6 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
         }
 
         loggingService.info( "Shutting down metrics collection service..." );
-        WorkloadResultsSnapshot workloadResults;
         try
         {
             workloadResults = metricsService.getWriter().results();
@@ -436,6 +464,12 @@ public class ExecuteWorkloadMode implements ClientMode<Object>
                         controlService.configuration().toPropertiesString().getBytes( StandardCharsets.UTF_8 )
                 );
                 resultsLogWriter.close();
+                if ( ResultsLogFormat.binary == controlService.configuration().resultsLogFormat() )
+                {
+                    File resultsLog = resultsDirectory.getOrCreateResultsLogFile( warmup );
+                    loggingService.info( format( "Converting binary results log to: %s", resultsLog.getAbsolutePath() ) );
+                    ResultsLogConverter.binaryToCsv( resultsDirectory.getBinaryResultsLogFile( warmup ), resultsLog );
+                }
                 if ( !controlService.configuration().ignoreScheduledStartTimes() )
                 {
                     loggingService.info( "Validating workload results..." );
@@ -6,6 +6,7 @@ import org.ldbcouncil.snb.driver.ClientException;
 import org.ldbcouncil.snb.driver.control.ConsoleAndFileDriverConfiguration;
 import org.ldbcouncil.snb.driver.control.DriverConfiguration;
 import org.ldbcouncil.snb.driver.control.DriverConfigurationException;
+import org.ldbcouncil.snb.driver.control.ResultsLogFormat;
 import org.ldbcouncil.snb.driver.csv.simple.SimpleCsvFileReader;
 import org.ldbcouncil.snb.driver.util.FileUtils;
 import org.ldbcouncil.snb.driver.util.MapUtils;
@@ -43,10 +44,12 @@ public class ResultsDirectory
     private static final String WARMUP_IDENTIFIER = "-WARMUP-";
 
     private static final String RESULTS_LOG_FILENAME_SUFFIX = "-results_log.csv";
+    private static final String BINARY_RESULTS_LOG_FILENAME_SUFFIX = "-results_log.bin";
     private static final String RESULTS_METRICS_FILENAME_SUFFIX = "-results.json";
     private static final String RESULTS_CONFIGURATION_FILENAME_SUFFIX = "-configuration.properties";
 
     private static final String RESULTS_VALIDATION_FILENAME_SUFFIX = "-validation.json";
+    private static final String THROUGHPUT_SEARCH_FILENAME_SUFFIX = "-throughput_search.csv";
 
     private final DriverConfiguration configuration;
     private final File resultsDir;
@@ -118,6 +121,29 @@ public class ResultsDirectory
         return getResultsLogFile( resultsDir, configuration, warmup );
     }
 
+    File getOrCreateBinaryResultsLogFile( boolean warmup ) throws ClientException
+    {
+        File binaryResultsLog = getBinaryResultsLogFile( warmup );
+        if ( !binaryResultsLog.exists() )
+        {
+            try
+            {
+                FileUtils.createOrFail( binaryResultsLog );
+            }
+            catch ( IOException e )
+            {
+                throw new ClientException(
+                        "Error creating binary results log file: " + binaryResultsLog.getAbsolutePath(), e );
+            }
+        }
+        return binaryResultsLog;
+    }
+
+    public File getBinaryResultsLogFile( boolean warmup ) throws ClientException
+    {
+        return new File( resultsDir, binaryResultsLogFilename( configuration, warmup ) );
+    }
+
     public long getResultsLogFileLength( boolean warmup ) throws ClientException
     {
         try ( SimpleCsvFileReader csvResultsLogReader = new SimpleCsvFileReader(
@@ -202,6 +228,24 @@ public class ResultsDirectory
         return new File( resultsDir, resultsValidationFilename( configuration, warmup ) );
     }
 
+    File getOrCreateThroughputSearchFile() throws ClientException
+    {
+        File throughputSearchFile = new File( resultsDir, configuration.name() + THROUGHPUT_SEARCH_FILENAME_SUFFIX );
+        if ( !throughputSearchFile.exists() )
+        {
+            try
+            {
+                FileUtils.createOrFail( throughputSearchFile );
+            }
+            catch ( IOException e )
+            {
+                throw new ClientException(
+                        "Error creating throughput search file: " + throughputSearchFile.getAbsolutePath(), e );
+            }
+        }
+        return throughputSearchFile;
+    }
+
     public Set<File> files() throws ClientException
     {
         return Sets.newHashSet( resultsDir.listFiles() );
@@ -223,6 +267,10 @@ public class ResultsDirectory
                     expectedFiles.add( getResultsValidationFile( true ) );
                 }
                 expectedFiles.add( getResultsLogFile( true ) );
+                if ( ResultsLogFormat.binary == configuration.resultsLogFormat() )
+                {
+                    expectedFiles.add( getBinaryResultsLogFile( true ) );
+                }
                 expectedFiles.add( getResultsSummaryFile( true ) );
                 expectedFiles.add( getConfigurationFile( true ) );
             }
@@ -231,6 +279,10 @@ public class ResultsDirectory
                 expectedFiles.add( getResultsValidationFile( false ) );
             }
             expectedFiles.add( getResultsLogFile( false ) );
+            if ( ResultsLogFormat.binary == configuration.resultsLogFormat() )
+            {
+                expectedFiles.add( getBinaryResultsLogFile( false ) );
+            }
             expectedFiles.add( getResultsSummaryFile( false ) );
             expectedFiles.add( getConfigurationFile( false ) );
             return expectedFiles;
@@ -366,6 +418,12 @@ public class ResultsDirectory
                         : configuration.name() + RESULTS_LOG_FILENAME_SUFFIX;
     }
 
+    private static String binaryResultsLogFilename( DriverConfiguration configuration, boolean warmup )
+    {
+        return (warmup) ? configuration.name() + WARMUP_IDENTIFIER + BINARY_RESULTS_LOG_FILENAME_SUFFIX
+                        : configuration.name() + BINARY_RESULTS_LOG_FILENAME_SUFFIX;
+    }
+
     private static String resultsSummaryFilename( DriverConfiguration configuration, boolean warmup )
     {
         return (warmup) ? configuration.name() + WARMUP_IDENTIFIER + RESULTS_METRICS_FILENAME_SUFFIX
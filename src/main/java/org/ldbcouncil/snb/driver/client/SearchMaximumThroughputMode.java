@@ -0,0 +1,251 @@
+package org.ldbcouncil.snb.driver.client;
+
+import org.ldbcouncil.snb.driver.ClientException;
+import org.ldbcouncil.snb.driver.Workload;
+import org.ldbcouncil.snb.driver.WorkloadException;
+import org.ldbcouncil.snb.driver.control.ConsoleAndFileDriverConfiguration;
+import org.ldbcouncil.snb.driver.control.ControlService;
+import org.ldbcouncil.snb.driver.control.DriverConfiguration;
+import org.ldbcouncil.snb.driver.control.DriverConfigurationException;
+import org.ldbcouncil.snb.driver.control.LocalControlService;
+import org.ldbcouncil.snb.driver.control.LoggingService;
+import org.ldbcouncil.snb.driver.runtime.metrics.ContinuousMetricSnapshot;
+import org.ldbcouncil.snb.driver.runtime.metrics.WorkloadResultsSnapshot;
+import org.ldbcouncil.snb.driver.temporal.TimeSource;
+import org.ldbcouncil.snb.driver.util.ClassLoaderHelper;
+import org.ldbcouncil.snb.driver.validation.ResultsLogValidationTolerances;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.lang.String.format;
+
+/**
+ * Searches for the lowest time compression ratio, i.e., the highest throughput, at which the system under test keeps
+ * up with the workload schedule, see TimeCompressionRatioSearch.
+ * <p>
+ * Every probe is a regular benchmark execution at one ratio, with the configured warmup and operation counts, which
+ * should be chosen to give short measured windows. A probe passes when the start time delay metric of its run phase
+ * meets the tolerances of the workload, i.e., when no more than the tolerated percentage of operations started later
+ * than the excessive delay threshold. Results of each probe are written to the results directory, if there is one,
+ * under the configured name suffixed with the probe number, along with a report of all probes.
+ */
+public class SearchMaximumThroughputMode implements ClientMode<Double>
+{
+    static final String PROBE_NAME_SUFFIX = "-probe_";
+    private static final String REPORT_HEADER =
+            "probe|time_compression_ratio|operation_count|throughput|start_time_delay_percentile|" +
+            "start_time_delay_at_percentile_ms|excessive_delay_threshold_ms|passed\n";
+
+    private final ControlService controlService;
+    private final TimeSource timeSource;
+    private final LoggingService loggingService;
+    private final long randomSeed;
+
+    private ResultsDirectory resultsDirectory = null;
+    private ResultsLogValidationTolerances tolerances = null;
+
+    public SearchMaximumThroughputMode(
+            ControlService controlService,
+            TimeSource timeSource,
+            long randomSeed ) throws ClientException
+    {
+        this.controlService = controlService;
+        this.timeSource = timeSource;
+        this.loggingService = controlService.loggingServiceFactory().loggingServiceFor( getClass().getSimpleName() );
+        this.randomSeed = randomSeed;
+    }
+
+    @Override
+    public void init() throws ClientException
+    {
+        DriverConfiguration configuration = controlService.configuration();
+        if ( configuration.ignoreScheduledStartTimes() )
+        {
+            throw new ClientException( "Maximum throughput search requires scheduled start times to be respected" );
+        }
+        resultsDirectory = new ResultsDirectory( configuration );
+        try
+        {
+            Workload workload = ClassLoaderHelper.loadWorkload( configuration.workloadClassName() );
+            tolerances = workload.resultsLogValidationTolerances( configuration, false );
+        }
+        catch ( WorkloadException e )
+        {
+            throw new ClientException(
+                    format( "Error loading workload class: %s", configuration.workloadClassName() ), e );
+        }
+        loggingService.info( "Driver Configuration" );
+        loggingService.info( controlService.toString() );
+    }
+
+    /**
+     * @return lowest time compression ratio that passed, NaN if none did
+     */
+    @Override
+    public Double startExecutionAndAwaitCompletion() throws ClientException
+    {
+        DriverConfiguration configuration = controlService.configuration();
+        TimeCompressionRatioSearch search = new TimeCompressionRatioSearch( configuration.timeCompressionRatio() );
+        File reportFile = null;
+        if ( resultsDirectory.exists() )
+        {
+            reportFile = resultsDirectory.getOrCreateThroughputSearchFile();
+            writeToReport( reportFile, REPORT_HEADER, StandardOpenOption.TRUNCATE_EXISTING );
+        }
+        double percentile = startTimeDelayPercentileFor( tolerances.toleratedExcessiveDelayCountPercentage() );
+        while ( search.hasNextRatio() )
+        {
+            int probe = search.probeCount() + 1;
+            double ratio = search.nextRatio();
+            loggingService.info( format( "\n" +
+                                         " -----------------------------------------\n" +
+                                         " --- Probe %s: Time Compression Ratio %s ---\n" +
+                                         " -----------------------------------------",
+                    probe, ratio ) );
+            WorkloadResultsSnapshot workloadResults = executeProbe( configuration, probe, ratio );
+            long delayAtPercentileAsMilli = startTimeDelayAtPercentileAsMilli( workloadResults, percentile );
+            boolean passed = delayAtPercentileAsMilli <= tolerances.excessiveDelayThresholdAsMilli();
+            search.report( ratio, passed );
+            loggingService.info( format( "Probe %s %s: time compression ratio %s, throughput %.2f op/s, " +
+                                         "%sth percentile start time delay %s ms (threshold %s ms)",
+                    probe,
+                    (passed) ? "PASSED" : "FAILED",
+                    ratio,
+                    workloadResults.throughput(),
+                    percentile,
+                    delayAtPercentileAsMilli,
+                    tolerances.excessiveDelayThresholdAsMilli() ) );
+            if ( null != reportFile )
+            {
+                writeToReport( reportFile,
+                        format( "%s|%s|%s|%s|%s|%s|%s|%s\n",
+                                probe,
+                                ratio,
+                                workloadResults.totalOperationCount(),
+                                workloadResults.throughput(),
+                                percentile,
+                                delayAtPercentileAsMilli,
+                                tolerances.excessiveDelayThresholdAsMilli(),
+                                passed ),
+                        StandardOpenOption.APPEND );
+            }
+        }
+        double lowestPassingRatio = search.lowestPassingRatio();
+        if ( Double.isNaN( lowestPassingRatio ) )
+        {
+            loggingService.info( format( "No probe passed after %s probes", search.probeCount() ) );
+        }
+        else
+        {
+            loggingService.info( format( "Lowest passing time compression ratio after %s probes: %s",
+                    search.probeCount(), lowestPassingRatio ) );
+        }
+        return lowestPassingRatio;
+    }
+
+    private WorkloadResultsSnapshot executeProbe( DriverConfiguration configuration, int probe, double ratio )
+            throws ClientException
+    {
+        DriverConfiguration probeConfiguration;
+        try
+        {
+            Map<String,String> probeParams = new HashMap<>();
+            probeParams.put( ConsoleAndFileDriverConfiguration.TIME_COMPRESSION_RATIO_ARG, Double.toString( ratio ) );
+            probeParams.put( ConsoleAndFileDriverConfiguration.NAME_ARG,
+                    configuration.name() + PROBE_NAME_SUFFIX + probe );
+            probeConfiguration = configuration.applyArgs( probeParams );
+        }
+        catch ( DriverConfigurationException e )
+        {
+            throw new ClientException( format( "Error creating configuration of probe %s", probe ), e );
+        }
+        ControlService probeControlService = new LocalControlService(
+                timeSource.nowAsMilli(),
+                probeConfiguration,
+                controlService.loggingServiceFactory(),
+                timeSource
+        );
+        ExecuteWorkloadMode executeWorkloadMode = new ExecuteWorkloadMode( probeControlService, timeSource, randomSeed );
+        executeWorkloadMode.init();
+        return executeWorkloadMode.startExecutionAndAwaitCompletion();
+    }
+
+    /**
+     * Percentile of the start time delay that must not exceed the excessive delay threshold, for no more than the
+     * tolerated percentage of operations to be late.
+     * Start time delay snapshots only carry a fixed set of percentiles, the next stricter one is used.
+     */
+    static double startTimeDelayPercentileFor( double toleratedExcessiveDelayCountPercentage )
+    {
+        double onTimePercentile = 100 * (1 - toleratedExcessiveDelayCountPercentage);
+        for ( double percentile : new double[]{25, 50, 75, 90, 95, 99} )
+        {
+            // rounding errors, e.g., 100 * (1 - 0.05) = 94.99999999999999
+            if ( onTimePercentile <= percentile + 1e-9 )
+            {
+                return percentile;
+            }
+        }
+        return 99.9;
+    }
+
+    static long startTimeDelayAtPercentileAsMilli( WorkloadResultsSnapshot workloadResults, double percentile )
+            throws ClientException
+    {
+        ContinuousMetricSnapshot startTimeDelay = workloadResults.startTimeDelay();
+        if ( null == startTimeDelay || 0 == startTimeDelay.count() )
+        {
+            throw new ClientException( "Probe measured no start time delays" );
+        }
+        long delayAtPercentile;
+        if ( 25 == percentile )
+        {
+            delayAtPercentile = startTimeDelay.percentile25();
+        }
+        else if ( 50 == percentile )
+        {
+            delayAtPercentile = startTimeDelay.percentile50();
+        }
+        else if ( 75 == percentile )
+        {
+            delayAtPercentile = startTimeDelay.percentile75();
+        }
+        else if ( 90 == percentile )
+        {
+            delayAtPercentile = startTimeDelay.percentile90();
+        }
+        else if ( 95 == percentile )
+        {
+            delayAtPercentile = startTimeDelay.percentile95();
+        }
+        else if ( 99 == percentile )
+        {
+            delayAtPercentile = startTimeDelay.percentile99();
+        }
+        else
+        {
+            delayAtPercentile = startTimeDelay.percentile99_9();
+        }
+        return startTimeDelay.unit().toMillis( delayAtPercentile );
+    }
+
+    private static void writeToReport( File reportFile, String text, StandardOpenOption option )
+            throws ClientException
+    {
+        try
+        {
+            Files.write( reportFile.toPath(), text.getBytes( StandardCharsets.UTF_8 ), StandardOpenOption.WRITE,
+                    option );
+        }
+        catch ( IOException e )
+        {
+            throw new ClientException( "Error writing throughput search report: " + reportFile.getAbsolutePath(), e );
+        }
+    }
+}
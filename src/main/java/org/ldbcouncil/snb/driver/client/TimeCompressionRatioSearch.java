@@ -0,0 +1,114 @@
+package org.ldbcouncil.snb.driver.client;
+
+/**
+ * Searches for the lowest time compression ratio, i.e., the highest throughput, at which a probe still passes.
+ * <p>
+ * Starting from an initial ratio, the search first brackets the boundary between passing and failing ratios, by
+ * dividing the ratio by a step factor while probes pass, or multiplying it by the step factor while they fail. Once
+ * bracketed, it bisects (in log space, as ratios are multiplicative) between the lowest passing and the highest
+ * failing ratio, until they are within the requested precision of each other or the probe budget is spent.
+ * <p>
+ * Assumes that a lower ratio never passes when a higher one failed. Not thread safe.
+ */
+class TimeCompressionRatioSearch
+{
+    static final double DEFAULT_STEP_FACTOR = 2.0;
+    static final double DEFAULT_PRECISION = 0.05;
+    static final int DEFAULT_MAX_PROBE_COUNT = 20;
+
+    private final double initialRatio;
+    private final double stepFactor;
+    private final double precision;
+    private final int maxProbeCount;
+    private double lowestPassingRatio = Double.NaN;
+    private double highestFailingRatio = Double.NaN;
+    private int probeCount = 0;
+
+    TimeCompressionRatioSearch( double initialRatio )
+    {
+        this( initialRatio, DEFAULT_STEP_FACTOR, DEFAULT_PRECISION, DEFAULT_MAX_PROBE_COUNT );
+    }
+
+    /**
+     * @param precision relative distance between the lowest passing and highest failing ratio at which to stop
+     */
+    TimeCompressionRatioSearch( double initialRatio, double stepFactor, double precision, int maxProbeCount )
+    {
+        if ( initialRatio <= 0 )
+        {
+            throw new IllegalArgumentException( "Initial time compression ratio must be greater than 0" );
+        }
+        if ( stepFactor <= 1 )
+        {
+            throw new IllegalArgumentException( "Step factor must be greater than 1" );
+        }
+        this.initialRatio = initialRatio;
+        this.stepFactor = stepFactor;
+        this.precision = precision;
+        this.maxProbeCount = maxProbeCount;
+    }
+
+    boolean hasNextRatio()
+    {
+        if ( probeCount >= maxProbeCount )
+        {
+            return false;
+        }
+        return !(isBracketed() && lowestPassingRatio <= highestFailingRatio * (1 + precision));
+    }
+
+    /**
+     * Ratio to probe next, its outcome must be reported with report() before the next call
+     */
+    double nextRatio()
+    {
+        if ( isBracketed() )
+        {
+            return Math.sqrt( lowestPassingRatio * highestFailingRatio );
+        }
+        else if ( !Double.isNaN( lowestPassingRatio ) )
+        {
+            return lowestPassingRatio / stepFactor;
+        }
+        else if ( !Double.isNaN( highestFailingRatio ) )
+        {
+            return highestFailingRatio * stepFactor;
+        }
+        else
+        {
+            return initialRatio;
+        }
+    }
+
+    void report( double ratio, boolean passed )
+    {
+        probeCount++;
+        if ( passed )
+        {
+            lowestPassingRatio = (Double.isNaN( lowestPassingRatio )) ? ratio : Math.min( lowestPassingRatio, ratio );
+        }
+        else
+        {
+            highestFailingRatio =
+                    (Double.isNaN( highestFailingRatio )) ? ratio : Math.max( highestFailingRatio, ratio );
+        }
+    }
+
+    /**
+     * @return lowest ratio that passed, NaN if none did
+     */
+    double lowestPassingRatio()
+    {
+        return lowestPassingRatio;
+    }
+
+    int probeCount()
+    {
+        return probeCount;
+    }
+
+    private boolean isBracketed()
+    {
+        return !Double.isNaN( lowestPassingRatio ) && !Double.isNaN( highestFailingRatio );
+    }
+}
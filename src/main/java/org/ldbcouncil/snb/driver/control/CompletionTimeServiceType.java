@@ -0,0 +1,6 @@
+package org.ldbcouncil.snb.driver.control;
+
+public enum CompletionTimeServiceType {
+    threaded_queued,
+    lock_free;
+}
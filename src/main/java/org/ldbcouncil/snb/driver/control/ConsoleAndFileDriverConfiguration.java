@@ -3,6 +3,7 @@ package org.ldbcouncil.snb.driver.control;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 import org.ldbcouncil.snb.driver.Client;
+import org.ldbcouncil.snb.driver.runtime.executor.VirtualThreadOperationExecutor;
 import org.ldbcouncil.snb.driver.temporal.TemporalUtil;
 import org.ldbcouncil.snb.driver.util.MapUtils;
 import org.ldbcouncil.snb.driver.workloads.interactive.LdbcSnbInteractiveWorkload;
@@ -48,7 +49,7 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
     public static final String MODE_DEFAULT_STRING = MODE_DEFAULT;
     private static final String MODE_ARG_LONG = "mode";
     private static final String MODE_DESCRIPTION = 
-        "mode the driver should execute (e.g. create_validation, validate_database, create_statistics, execute_benchmark)";
+        "mode the driver should execute (e.g. create_validation, validate_database, create_statistics, execute_benchmark, convert_results_log, search_max_throughput, coordinate_benchmark, compile_streams)";
 
     // --- REQUIRED ---
     public static final String OPERATION_COUNT_ARG = "oc";
@@ -116,6 +117,158 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
     private static final String THREADS_DESCRIPTION =
             format( "number of worker threads to execute with (default: %s)", THREADS_DEFAULT_STRING );
 
+    public static final String EXECUTOR_TYPE_ARG = "et";
+    private static final String EXECUTOR_TYPE_ARG_LONG = "executor_type";
+    public static final ExecutorType EXECUTOR_TYPE_DEFAULT = ExecutorType.thread_pool;
+    public static final String EXECUTOR_TYPE_DEFAULT_STRING = EXECUTOR_TYPE_DEFAULT.name();
+    private static final String EXECUTOR_TYPE_DESCRIPTION =
+            format( "executor used to run operation handlers, valid:%s, %s requires Java 21+ (default: %s)",
+                    Arrays.toString( ExecutorType.values() ), ExecutorType.virtual_thread.name(),
+                    EXECUTOR_TYPE_DEFAULT_STRING );
+
+    public static final String EXECUTOR_CONCURRENCY_LIMIT_ARG = "ecl";
+    private static final String EXECUTOR_CONCURRENCY_LIMIT_ARG_LONG = "executor_concurrency_limit";
+    public static final int EXECUTOR_CONCURRENCY_LIMIT_DEFAULT = 1000;
+    public static final String EXECUTOR_CONCURRENCY_LIMIT_DEFAULT_STRING =
+            Integer.toString( EXECUTOR_CONCURRENCY_LIMIT_DEFAULT );
+    private static final String EXECUTOR_CONCURRENCY_LIMIT_DESCRIPTION =
+            format( "maximum number of in-flight operation handlers when using the %s executor, " +
+                    "and of in-flight asynchronous operation handlers when using the %s executor (default: %s)",
+                    ExecutorType.virtual_thread.name(), ExecutorType.thread_pool.name(),
+                    EXECUTOR_CONCURRENCY_LIMIT_DEFAULT_STRING );
+
+    public static final String RESULTS_LOG_FORMAT_ARG = "rlf";
+    private static final String RESULTS_LOG_FORMAT_ARG_LONG = "results_log_format";
+    public static final ResultsLogFormat RESULTS_LOG_FORMAT_DEFAULT = ResultsLogFormat.csv;
+    public static final String RESULTS_LOG_FORMAT_DEFAULT_STRING = RESULTS_LOG_FORMAT_DEFAULT.name();
+    private static final String RESULTS_LOG_FORMAT_DESCRIPTION =
+            format( "format results log is written in during the run, %s logs are converted to %s afterwards, "
+                    + "valid:%s (default: %s)",
+                    ResultsLogFormat.binary.name(), ResultsLogFormat.csv.name(),
+                    Arrays.toString( ResultsLogFormat.values() ), RESULTS_LOG_FORMAT_DEFAULT_STRING );
+
+    public static final String METRICS_SERVICE_TYPE_ARG = "mst";
+    private static final String METRICS_SERVICE_TYPE_ARG_LONG = "metrics_service_type";
+    public static final MetricsServiceType METRICS_SERVICE_TYPE_DEFAULT = MetricsServiceType.disruptor;
+    public static final String METRICS_SERVICE_TYPE_DEFAULT_STRING = METRICS_SERVICE_TYPE_DEFAULT.name();
+    private static final String METRICS_SERVICE_TYPE_DESCRIPTION =
+            format( "service used to collect operation metrics, valid:%s (default: %s)",
+                    Arrays.toString( MetricsServiceType.values() ), METRICS_SERVICE_TYPE_DEFAULT_STRING );
+
+    public static final String METRICS_RING_SIZE_ARG = "mrs";
+    private static final String METRICS_RING_SIZE_ARG_LONG = "metrics_ring_size";
+    public static final int METRICS_RING_SIZE_DEFAULT = 1024;
+    public static final String METRICS_RING_SIZE_DEFAULT_STRING = Integer.toString( METRICS_RING_SIZE_DEFAULT );
+    private static final String METRICS_RING_SIZE_DESCRIPTION =
+            format( "size of the ring buffer of the %s metrics service, must be a power of 2 (default: %s)",
+                    MetricsServiceType.disruptor.name(), METRICS_RING_SIZE_DEFAULT_STRING );
+
+    public static final String METRICS_WAIT_STRATEGY_ARG = "mws";
+    private static final String METRICS_WAIT_STRATEGY_ARG_LONG = "metrics_wait_strategy";
+    public static final MetricsWaitStrategy METRICS_WAIT_STRATEGY_DEFAULT = MetricsWaitStrategy.blocking;
+    public static final String METRICS_WAIT_STRATEGY_DEFAULT_STRING = METRICS_WAIT_STRATEGY_DEFAULT.name();
+    private static final String METRICS_WAIT_STRATEGY_DESCRIPTION =
+            format( "strategy consumers of the %s metrics service use to wait for results, valid:%s (default: %s)",
+                    MetricsServiceType.disruptor.name(), Arrays.toString( MetricsWaitStrategy.values() ),
+                    METRICS_WAIT_STRATEGY_DEFAULT_STRING );
+
+    public static final String METRICS_RESULTS_LOG_CONSUMER_ARG = "mrlc";
+    private static final String METRICS_RESULTS_LOG_CONSUMER_ARG_LONG = "metrics_results_log_consumer";
+    public static final MetricsResultsLogConsumer METRICS_RESULTS_LOG_CONSUMER_DEFAULT =
+            MetricsResultsLogConsumer.same;
+    public static final String METRICS_RESULTS_LOG_CONSUMER_DEFAULT_STRING =
+            METRICS_RESULTS_LOG_CONSUMER_DEFAULT.name();
+    private static final String METRICS_RESULTS_LOG_CONSUMER_DESCRIPTION =
+            format( "whether the %s metrics service writes the results log on the %s consumer that records "
+                    + "metrics or on a second consumer %s after it, valid:%s (default: %s)",
+                    MetricsServiceType.disruptor.name(), MetricsResultsLogConsumer.same.name(),
+                    MetricsResultsLogConsumer.chained.name(), Arrays.toString( MetricsResultsLogConsumer.values() ),
+                    METRICS_RESULTS_LOG_CONSUMER_DEFAULT_STRING );
+
+    public static final String SCHEDULING_RESOLUTION_ARG = "sr";
+    private static final String SCHEDULING_RESOLUTION_ARG_LONG = "scheduling_resolution";
+    public static final SchedulingResolution SCHEDULING_RESOLUTION_DEFAULT = SchedulingResolution.milli;
+    public static final String SCHEDULING_RESOLUTION_DEFAULT_STRING = SCHEDULING_RESOLUTION_DEFAULT.name();
+    private static final String SCHEDULING_RESOLUTION_DESCRIPTION =
+            format( "resolution of scheduled start times, %s spreads operations that share a millisecond "
+                    + "after time compression, valid:%s (default: %s)",
+                    SchedulingResolution.nano.name(), Arrays.toString( SchedulingResolution.values() ),
+                    SCHEDULING_RESOLUTION_DEFAULT_STRING );
+
+    public static final String METRICS_EXPECTED_INTERVAL_ARG = "mei";
+    private static final String METRICS_EXPECTED_INTERVAL_ARG_LONG = "metrics_expected_interval";
+    public static final long METRICS_EXPECTED_INTERVAL_DEFAULT = 0;
+    public static final String METRICS_EXPECTED_INTERVAL_DEFAULT_STRING =
+            Long.toString( METRICS_EXPECTED_INTERVAL_DEFAULT );
+    private static final String METRICS_EXPECTED_INTERVAL_DESCRIPTION =
+            "expected interval (us) between operations of one type, runtimes are also reported corrected for "
+            + "coordinated omission at this interval, must be a whole number of the time unit (0 disables correction)";
+
+    public static final String PARTITION_COUNT_ARG = "pc";
+    private static final String PARTITION_COUNT_ARG_LONG = "partition_count";
+    public static final int PARTITION_COUNT_DEFAULT = 1;
+    public static final String PARTITION_COUNT_DEFAULT_STRING = Integer.toString( PARTITION_COUNT_DEFAULT );
+    private static final String PARTITION_COUNT_DESCRIPTION =
+            "number of driver processes the workload streams are partitioned across (see mode coordinate_benchmark)";
+
+    public static final String PARTITION_INDEX_ARG = "pi";
+    private static final String PARTITION_INDEX_ARG_LONG = "partition_index";
+    public static final int PARTITION_INDEX_DEFAULT = 0;
+    public static final String PARTITION_INDEX_DEFAULT_STRING = Integer.toString( PARTITION_INDEX_DEFAULT );
+    private static final String PARTITION_INDEX_DESCRIPTION =
+            "partition of the workload streams executed by this driver process, from 0 to partition_count - 1";
+
+    public static final String COORDINATOR_PORT_ARG = "cpt";
+    private static final String COORDINATOR_PORT_ARG_LONG = "coordinator_port";
+    public static final int COORDINATOR_PORT_DEFAULT = 0;
+    public static final String COORDINATOR_PORT_DEFAULT_STRING = Integer.toString( COORDINATOR_PORT_DEFAULT );
+    private static final String COORDINATOR_PORT_DESCRIPTION =
+            "local port of the coordinator that driver processes exchange completion times through "
+            + "(0: coordinator picks a free port, driver processes of one partition do not connect)";
+
+    public static final String EXECUTOR_QUEUE_TYPE_ARG = "eqt";
+    private static final String EXECUTOR_QUEUE_TYPE_ARG_LONG = "executor_queue_type";
+    public static final ExecutorQueueType EXECUTOR_QUEUE_TYPE_DEFAULT = ExecutorQueueType.fifo;
+    public static final String EXECUTOR_QUEUE_TYPE_DEFAULT_STRING = EXECUTOR_QUEUE_TYPE_DEFAULT.name();
+    private static final String EXECUTOR_QUEUE_TYPE_DESCRIPTION =
+            format( "order in which queued operations are taken by the thread_pool executor, %s runs dependency "
+                    + "operations first and then earliest scheduled start time first, valid:%s (default: %s)",
+                    ExecutorQueueType.dependency_priority.name(), Arrays.toString( ExecutorQueueType.values() ),
+                    EXECUTOR_QUEUE_TYPE_DEFAULT_STRING );
+
+    public static final String UPDATE_THREAD_COUNT_ARG = "utc";
+    private static final String UPDATE_THREAD_COUNT_ARG_LONG = "update_thread_count";
+    public static final int UPDATE_THREAD_COUNT_DEFAULT = 0;
+    public static final String UPDATE_THREAD_COUNT_DEFAULT_STRING = Integer.toString( UPDATE_THREAD_COUNT_DEFAULT );
+    private static final String UPDATE_THREAD_COUNT_DESCRIPTION =
+            "number of threads of a dedicated executor for dependency operations (i.e., updates), other operations "
+            + "keep thread_count threads (0: all operations share one executor)";
+
+    public static final String DEPENDENCY_MODE_ARG = "dm";
+    private static final String DEPENDENCY_MODE_ARG_LONG = "dependency_mode";
+    public static final DependencyMode DEPENDENCY_MODE_DEFAULT = DependencyMode.completion_time;
+    public static final String DEPENDENCY_MODE_DEFAULT_STRING = DEPENDENCY_MODE_DEFAULT.name();
+    private static final String DEPENDENCY_MODE_DESCRIPTION =
+            format( "how dependencies between operations are respected, %s waits for global completion time, %s "
+                    + "waits only for earlier operations on the same entities (updates run in parallel otherwise), "
+                    + "valid:%s (default: %s)",
+                    DependencyMode.completion_time.name(), DependencyMode.entity.name(),
+                    Arrays.toString( DependencyMode.values() ), DEPENDENCY_MODE_DEFAULT_STRING );
+
+    public static final String COMPLETION_TIME_SERVICE_TYPE_ARG = "ctst";
+    private static final String COMPLETION_TIME_SERVICE_TYPE_ARG_LONG = "completion_time_service_type";
+    public static final CompletionTimeServiceType COMPLETION_TIME_SERVICE_TYPE_DEFAULT =
+            CompletionTimeServiceType.threaded_queued;
+    public static final String COMPLETION_TIME_SERVICE_TYPE_DEFAULT_STRING =
+            COMPLETION_TIME_SERVICE_TYPE_DEFAULT.name();
+    private static final String COMPLETION_TIME_SERVICE_TYPE_DESCRIPTION =
+            format( "completion time service of each driver process, %s tracks completion time on a "
+                    + "dedicated thread fed by a queue, %s lets each writer publish its own watermarks, "
+                    + "valid:%s (default: %s)",
+                    CompletionTimeServiceType.threaded_queued.name(), CompletionTimeServiceType.lock_free.name(),
+                    Arrays.toString( CompletionTimeServiceType.values() ),
+                    COMPLETION_TIME_SERVICE_TYPE_DEFAULT_STRING );
+
     public static final String SHOW_STATUS_ARG = "s";
     private static final String SHOW_STATUS_ARG_LONG = "status";
     public static final int SHOW_STATUS_DEFAULT = 2;
@@ -164,10 +317,11 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
 
     public static final String SPINNER_SLEEP_DURATION_ARG = "sw";
     private static final String SPINNER_SLEEP_DURATION_ARG_LONG = "spinner_wait_duration";
-    public static final long SPINNER_SLEEP_DURATION_DEFAULT = 1;
+    public static final long SPINNER_SLEEP_DURATION_DEFAULT = 10;
     public static final String SPINNER_SLEEP_DURATION_DEFAULT_STRING = Long.toString( SPINNER_SLEEP_DURATION_DEFAULT );
     private static final String SPINNER_SLEEP_DURATION_DESCRIPTION =
-            "sleep duration (ms) injected into busy wait loops (to reduce CPU consumption)";
+            "longest duration (ms) an operation waiting on its dependencies or start time is parked before checking "
+            + "again, operations are also woken when completion time advances (0 busy waits)";
 
     public static final String SKIP_COUNT_ARG = "sk";
     private static final String SKIP_COUNT_ARG_LONG = "skip";
@@ -211,6 +365,22 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         defaultParamsMap.put( DB_ARG, DB_DEFAULT_STRING );
         defaultParamsMap.put( RESULT_DIR_PATH_ARG, RESULT_DIR_PATH_DEFAULT_STRING );
         defaultParamsMap.put( THREADS_ARG, THREADS_DEFAULT_STRING );
+        defaultParamsMap.put( EXECUTOR_TYPE_ARG, EXECUTOR_TYPE_DEFAULT_STRING );
+        defaultParamsMap.put( EXECUTOR_CONCURRENCY_LIMIT_ARG, EXECUTOR_CONCURRENCY_LIMIT_DEFAULT_STRING );
+        defaultParamsMap.put( RESULTS_LOG_FORMAT_ARG, RESULTS_LOG_FORMAT_DEFAULT_STRING );
+        defaultParamsMap.put( METRICS_SERVICE_TYPE_ARG, METRICS_SERVICE_TYPE_DEFAULT_STRING );
+        defaultParamsMap.put( METRICS_RING_SIZE_ARG, METRICS_RING_SIZE_DEFAULT_STRING );
+        defaultParamsMap.put( METRICS_WAIT_STRATEGY_ARG, METRICS_WAIT_STRATEGY_DEFAULT_STRING );
+        defaultParamsMap.put( METRICS_RESULTS_LOG_CONSUMER_ARG, METRICS_RESULTS_LOG_CONSUMER_DEFAULT_STRING );
+        defaultParamsMap.put( SCHEDULING_RESOLUTION_ARG, SCHEDULING_RESOLUTION_DEFAULT_STRING );
+        defaultParamsMap.put( METRICS_EXPECTED_INTERVAL_ARG, METRICS_EXPECTED_INTERVAL_DEFAULT_STRING );
+        defaultParamsMap.put( PARTITION_COUNT_ARG, PARTITION_COUNT_DEFAULT_STRING );
+        defaultParamsMap.put( PARTITION_INDEX_ARG, PARTITION_INDEX_DEFAULT_STRING );
+        defaultParamsMap.put( COORDINATOR_PORT_ARG, COORDINATOR_PORT_DEFAULT_STRING );
+        defaultParamsMap.put( EXECUTOR_QUEUE_TYPE_ARG, EXECUTOR_QUEUE_TYPE_DEFAULT_STRING );
+        defaultParamsMap.put( UPDATE_THREAD_COUNT_ARG, UPDATE_THREAD_COUNT_DEFAULT_STRING );
+        defaultParamsMap.put( DEPENDENCY_MODE_ARG, DEPENDENCY_MODE_DEFAULT_STRING );
+        defaultParamsMap.put( COMPLETION_TIME_SERVICE_TYPE_ARG, COMPLETION_TIME_SERVICE_TYPE_DEFAULT_STRING );
         defaultParamsMap.put( SHOW_STATUS_ARG, SHOW_STATUS_DEFAULT_STRING );
         if ( null != DB_VALIDATION_FILE_PATH_DEFAULT_STRING )
         {
@@ -243,12 +413,18 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
     public static List<String> checkMissingParams(DriverConfiguration configuration)
     {
         List<String> missingParams = new ArrayList<>();
-        if ( null == configuration.workloadClassName() )
+        OperationMode mode = OperationMode.valueOf(configuration.mode());
+        if ( null == configuration.workloadClassName() && OperationMode.convert_results_log != mode )
         {
             missingParams.add( ConsoleAndFileDriverConfiguration.WORKLOAD_ARG );
         }
-        OperationMode mode = OperationMode.valueOf(configuration.mode());
         switch (mode) {
+            case convert_results_log:
+                if ( null == configuration.resultDirPath() )
+                {
+                    missingParams.add( ConsoleAndFileDriverConfiguration.RESULT_DIR_PATH_ARG );
+                }
+                break;
             case create_statistics:
                 if ( 0 == configuration.operationCount() )
                 {
@@ -261,8 +437,12 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                     missingParams.add( ConsoleAndFileDriverConfiguration.DB_ARG );
                 }
                 break;
+            case compile_streams:
+                break;
             case create_validation:
             case execute_benchmark:
+            case search_max_throughput:
+            case coordinate_benchmark:
             default: // Execute benchmark is default behaviour
                 if ( null == configuration.dbClassName() )
                 {
@@ -316,8 +496,32 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
             String workloadClassName = paramsMap.get( WORKLOAD_ARG );
             long operationCount = Long.parseLong( paramsMap.get( OPERATION_COUNT_ARG ) );
             int threadCount = Integer.parseInt( paramsMap.get( THREADS_ARG ) );
+            ExecutorType executorType = ExecutorType.valueOf( paramsMap.get( EXECUTOR_TYPE_ARG ) );
+            assertSupportedExecutorType( executorType );
+            int executorConcurrencyLimit = Integer.parseInt( paramsMap.get( EXECUTOR_CONCURRENCY_LIMIT_ARG ) );
+            ResultsLogFormat resultsLogFormat = ResultsLogFormat.valueOf( paramsMap.get( RESULTS_LOG_FORMAT_ARG ) );
+            MetricsServiceType metricsServiceType =
+                    MetricsServiceType.valueOf( paramsMap.get( METRICS_SERVICE_TYPE_ARG ) );
+            int metricsRingSize = Integer.parseInt( paramsMap.get( METRICS_RING_SIZE_ARG ) );
+            MetricsWaitStrategy metricsWaitStrategy =
+                    MetricsWaitStrategy.valueOf( paramsMap.get( METRICS_WAIT_STRATEGY_ARG ) );
+            MetricsResultsLogConsumer metricsResultsLogConsumer =
+                    MetricsResultsLogConsumer.valueOf( paramsMap.get( METRICS_RESULTS_LOG_CONSUMER_ARG ) );
+            SchedulingResolution schedulingResolution =
+                    SchedulingResolution.valueOf( paramsMap.get( SCHEDULING_RESOLUTION_ARG ) );
+            long metricsExpectedIntervalAsMicro = Long.parseLong( paramsMap.get( METRICS_EXPECTED_INTERVAL_ARG ) );
+            int partitionCount = Integer.parseInt( paramsMap.get( PARTITION_COUNT_ARG ) );
+            int partitionIndex = Integer.parseInt( paramsMap.get( PARTITION_INDEX_ARG ) );
+            int coordinatorPort = Integer.parseInt( paramsMap.get( COORDINATOR_PORT_ARG ) );
+            ExecutorQueueType executorQueueType = ExecutorQueueType.valueOf( paramsMap.get( EXECUTOR_QUEUE_TYPE_ARG ) );
+            int updateThreadCount = Integer.parseInt( paramsMap.get( UPDATE_THREAD_COUNT_ARG ) );
+            DependencyMode dependencyMode = DependencyMode.valueOf( paramsMap.get( DEPENDENCY_MODE_ARG ) );
+            assertSupportedDependencyMode( dependencyMode, executorType, executorQueueType );
+            CompletionTimeServiceType completionTimeServiceType =
+                    CompletionTimeServiceType.valueOf( paramsMap.get( COMPLETION_TIME_SERVICE_TYPE_ARG ) );
             int statusDisplayIntervalAsSeconds = Integer.parseInt( paramsMap.get( SHOW_STATUS_ARG ) );
             TimeUnit timeUnit = TimeUnit.valueOf( paramsMap.get( TIME_UNIT_ARG ) );
+            assertValidMetricsExpectedInterval( metricsExpectedIntervalAsMicro, timeUnit );
             String resultDirPath = paramsMap.get( RESULT_DIR_PATH_ARG );
             double timeCompressionRatio = Double.parseDouble( paramsMap.get( TIME_COMPRESSION_RATIO_ARG ) );
             int validationParametersSize = Integer.parseInt( paramsMap.get( VALIDATION_PARAMS_SIZE_ARG ) );
@@ -353,7 +557,23 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                     ignoreScheduledStartTimes,
                     warmupCount,
                     skipCount,
-                    flushLog
+                    flushLog,
+                    executorType,
+                    executorConcurrencyLimit,
+                    resultsLogFormat,
+                    metricsServiceType,
+                    metricsRingSize,
+                    metricsWaitStrategy,
+                    metricsResultsLogConsumer,
+                    schedulingResolution,
+                    metricsExpectedIntervalAsMicro,
+                    partitionCount,
+                    partitionIndex,
+                    coordinatorPort,
+                    executorQueueType,
+                    updateThreadCount,
+                    dependencyMode,
+                    completionTimeServiceType
             );
         }
         catch ( DriverConfigurationException e )
@@ -381,6 +601,50 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         }
     }
 
+    private static void assertSupportedExecutorType( ExecutorType executorType ) throws DriverConfigurationException
+    {
+        if ( ExecutorType.virtual_thread == executorType && !VirtualThreadOperationExecutor.virtualThreadsSupported() )
+        {
+            throw new DriverConfigurationException( format(
+                    "Executor type %s requires a runtime with virtual threads (Java 21+), running on Java %s",
+                    executorType,
+                    System.getProperty( "java.version" ) ) );
+        }
+    }
+
+    // entity dependent operations wait for the earlier operations on the same entities in the order they are
+    // submitted in, which a priority queue does not keep
+    private static void assertSupportedDependencyMode(
+            DependencyMode dependencyMode,
+            ExecutorType executorType,
+            ExecutorQueueType executorQueueType ) throws DriverConfigurationException
+    {
+        if ( DependencyMode.entity == dependencyMode &&
+             ExecutorType.thread_pool == executorType &&
+             ExecutorQueueType.dependency_priority == executorQueueType )
+        {
+            throw new DriverConfigurationException( format(
+                    "Dependency mode %s can not be combined with executor queue type %s, operations may be " +
+                    "taken before the operations they wait for",
+                    dependencyMode, executorQueueType ) );
+        }
+    }
+
+    // runtimes are recorded in the time unit, so an interval that is not a whole number of it would be truncated
+    private static void assertValidMetricsExpectedInterval( long metricsExpectedIntervalAsMicro, TimeUnit timeUnit )
+            throws DriverConfigurationException
+    {
+        if ( metricsExpectedIntervalAsMicro < 0 ||
+             metricsExpectedIntervalAsMicro !=
+             timeUnit.toMicros( timeUnit.convert( metricsExpectedIntervalAsMicro, TimeUnit.MICROSECONDS ) ) )
+        {
+            throw new DriverConfigurationException( format(
+                    "Metrics expected interval (us) must be 0 or a whole number of the time unit (%s), was: %s",
+                    timeUnit,
+                    metricsExpectedIntervalAsMicro ) );
+        }
+    }
+
     private static Map<String,String> parseArgs( String[] args, Options options )
             throws ParseException, DriverConfigurationException
     {
@@ -432,6 +696,87 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
             cmdParams.put( THREADS_ARG, cmd.getOptionValue( THREADS_ARG ) );
         }
 
+        if ( cmd.hasOption( EXECUTOR_TYPE_ARG ) )
+        {
+            cmdParams.put( EXECUTOR_TYPE_ARG, cmd.getOptionValue( EXECUTOR_TYPE_ARG ) );
+        }
+
+        if ( cmd.hasOption( EXECUTOR_CONCURRENCY_LIMIT_ARG ) )
+        {
+            cmdParams.put( EXECUTOR_CONCURRENCY_LIMIT_ARG, cmd.getOptionValue( EXECUTOR_CONCURRENCY_LIMIT_ARG ) );
+        }
+
+        if ( cmd.hasOption( RESULTS_LOG_FORMAT_ARG ) )
+        {
+            cmdParams.put( RESULTS_LOG_FORMAT_ARG, cmd.getOptionValue( RESULTS_LOG_FORMAT_ARG ) );
+        }
+
+        if ( cmd.hasOption( METRICS_SERVICE_TYPE_ARG ) )
+        {
+            cmdParams.put( METRICS_SERVICE_TYPE_ARG, cmd.getOptionValue( METRICS_SERVICE_TYPE_ARG ) );
+        }
+
+        if ( cmd.hasOption( METRICS_RING_SIZE_ARG ) )
+        {
+            cmdParams.put( METRICS_RING_SIZE_ARG, cmd.getOptionValue( METRICS_RING_SIZE_ARG ) );
+        }
+
+        if ( cmd.hasOption( METRICS_WAIT_STRATEGY_ARG ) )
+        {
+            cmdParams.put( METRICS_WAIT_STRATEGY_ARG, cmd.getOptionValue( METRICS_WAIT_STRATEGY_ARG ) );
+        }
+
+        if ( cmd.hasOption( METRICS_RESULTS_LOG_CONSUMER_ARG ) )
+        {
+            cmdParams.put(
+                    METRICS_RESULTS_LOG_CONSUMER_ARG, cmd.getOptionValue( METRICS_RESULTS_LOG_CONSUMER_ARG ) );
+        }
+
+        if ( cmd.hasOption( SCHEDULING_RESOLUTION_ARG ) )
+        {
+            cmdParams.put( SCHEDULING_RESOLUTION_ARG, cmd.getOptionValue( SCHEDULING_RESOLUTION_ARG ) );
+        }
+
+        if ( cmd.hasOption( METRICS_EXPECTED_INTERVAL_ARG ) )
+        {
+            cmdParams.put( METRICS_EXPECTED_INTERVAL_ARG, cmd.getOptionValue( METRICS_EXPECTED_INTERVAL_ARG ) );
+        }
+
+        if ( cmd.hasOption( PARTITION_COUNT_ARG ) )
+        {
+            cmdParams.put( PARTITION_COUNT_ARG, cmd.getOptionValue( PARTITION_COUNT_ARG ) );
+        }
+
+        if ( cmd.hasOption( PARTITION_INDEX_ARG ) )
+        {
+            cmdParams.put( PARTITION_INDEX_ARG, cmd.getOptionValue( PARTITION_INDEX_ARG ) );
+        }
+
+        if ( cmd.hasOption( COORDINATOR_PORT_ARG ) )
+        {
+            cmdParams.put( COORDINATOR_PORT_ARG, cmd.getOptionValue( COORDINATOR_PORT_ARG ) );
+        }
+
+        if ( cmd.hasOption( EXECUTOR_QUEUE_TYPE_ARG ) )
+        {
+            cmdParams.put( EXECUTOR_QUEUE_TYPE_ARG, cmd.getOptionValue( EXECUTOR_QUEUE_TYPE_ARG ) );
+        }
+
+        if ( cmd.hasOption( UPDATE_THREAD_COUNT_ARG ) )
+        {
+            cmdParams.put( UPDATE_THREAD_COUNT_ARG, cmd.getOptionValue( UPDATE_THREAD_COUNT_ARG ) );
+        }
+
+        if ( cmd.hasOption( DEPENDENCY_MODE_ARG ) )
+        {
+            cmdParams.put( DEPENDENCY_MODE_ARG, cmd.getOptionValue( DEPENDENCY_MODE_ARG ) );
+        }
+
+        if ( cmd.hasOption( COMPLETION_TIME_SERVICE_TYPE_ARG ) )
+        {
+            cmdParams.put( COMPLETION_TIME_SERVICE_TYPE_ARG, cmd.getOptionValue( COMPLETION_TIME_SERVICE_TYPE_ARG ) );
+        }
+
         if ( cmd.hasOption( SHOW_STATUS_ARG ) )
         {
             cmdParams.put( SHOW_STATUS_ARG, cmd.getOptionValue( SHOW_STATUS_ARG ) );
@@ -535,6 +880,22 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         paramsMap = replaceKey( paramsMap, WORKLOAD_ARG_LONG, WORKLOAD_ARG );
         paramsMap = replaceKey( paramsMap, DB_ARG_LONG, DB_ARG );
         paramsMap = replaceKey( paramsMap, THREADS_ARG_LONG, THREADS_ARG );
+        paramsMap = replaceKey( paramsMap, EXECUTOR_TYPE_ARG_LONG, EXECUTOR_TYPE_ARG );
+        paramsMap = replaceKey( paramsMap, EXECUTOR_CONCURRENCY_LIMIT_ARG_LONG, EXECUTOR_CONCURRENCY_LIMIT_ARG );
+        paramsMap = replaceKey( paramsMap, RESULTS_LOG_FORMAT_ARG_LONG, RESULTS_LOG_FORMAT_ARG );
+        paramsMap = replaceKey( paramsMap, METRICS_SERVICE_TYPE_ARG_LONG, METRICS_SERVICE_TYPE_ARG );
+        paramsMap = replaceKey( paramsMap, METRICS_RING_SIZE_ARG_LONG, METRICS_RING_SIZE_ARG );
+        paramsMap = replaceKey( paramsMap, METRICS_WAIT_STRATEGY_ARG_LONG, METRICS_WAIT_STRATEGY_ARG );
+        paramsMap = replaceKey( paramsMap, METRICS_RESULTS_LOG_CONSUMER_ARG_LONG, METRICS_RESULTS_LOG_CONSUMER_ARG );
+        paramsMap = replaceKey( paramsMap, SCHEDULING_RESOLUTION_ARG_LONG, SCHEDULING_RESOLUTION_ARG );
+        paramsMap = replaceKey( paramsMap, METRICS_EXPECTED_INTERVAL_ARG_LONG, METRICS_EXPECTED_INTERVAL_ARG );
+        paramsMap = replaceKey( paramsMap, PARTITION_COUNT_ARG_LONG, PARTITION_COUNT_ARG );
+        paramsMap = replaceKey( paramsMap, PARTITION_INDEX_ARG_LONG, PARTITION_INDEX_ARG );
+        paramsMap = replaceKey( paramsMap, COORDINATOR_PORT_ARG_LONG, COORDINATOR_PORT_ARG );
+        paramsMap = replaceKey( paramsMap, EXECUTOR_QUEUE_TYPE_ARG_LONG, EXECUTOR_QUEUE_TYPE_ARG );
+        paramsMap = replaceKey( paramsMap, UPDATE_THREAD_COUNT_ARG_LONG, UPDATE_THREAD_COUNT_ARG );
+        paramsMap = replaceKey( paramsMap, DEPENDENCY_MODE_ARG_LONG, DEPENDENCY_MODE_ARG );
+        paramsMap = replaceKey( paramsMap, COMPLETION_TIME_SERVICE_TYPE_ARG_LONG, COMPLETION_TIME_SERVICE_TYPE_ARG );
         paramsMap = replaceKey( paramsMap, SHOW_STATUS_ARG_LONG, SHOW_STATUS_ARG );
         paramsMap = replaceKey( paramsMap, TIME_UNIT_ARG_LONG, TIME_UNIT_ARG );
         paramsMap = replaceKey( paramsMap, RESULT_DIR_PATH_ARG_LONG, RESULT_DIR_PATH_ARG );
@@ -606,6 +967,94 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                         THREADS_ARG_LONG ).create( THREADS_ARG );
         options.addOption( threadsOption );
 
+        Option executorTypeOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "type" ).withDescription( EXECUTOR_TYPE_DESCRIPTION )
+                        .withLongOpt( EXECUTOR_TYPE_ARG_LONG ).create( EXECUTOR_TYPE_ARG );
+        options.addOption( executorTypeOption );
+
+        Option executorConcurrencyLimitOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "count" ).withDescription(
+                        EXECUTOR_CONCURRENCY_LIMIT_DESCRIPTION ).withLongOpt(
+                        EXECUTOR_CONCURRENCY_LIMIT_ARG_LONG ).create( EXECUTOR_CONCURRENCY_LIMIT_ARG );
+        options.addOption( executorConcurrencyLimitOption );
+
+        Option resultsLogFormatOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "format" ).withDescription( RESULTS_LOG_FORMAT_DESCRIPTION )
+                        .withLongOpt( RESULTS_LOG_FORMAT_ARG_LONG ).create( RESULTS_LOG_FORMAT_ARG );
+        options.addOption( resultsLogFormatOption );
+
+        Option metricsServiceTypeOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "type" ).withDescription( METRICS_SERVICE_TYPE_DESCRIPTION )
+                        .withLongOpt( METRICS_SERVICE_TYPE_ARG_LONG ).create( METRICS_SERVICE_TYPE_ARG );
+        options.addOption( metricsServiceTypeOption );
+
+        Option metricsRingSizeOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "size" ).withDescription( METRICS_RING_SIZE_DESCRIPTION )
+                        .withLongOpt( METRICS_RING_SIZE_ARG_LONG ).create( METRICS_RING_SIZE_ARG );
+        options.addOption( metricsRingSizeOption );
+
+        Option metricsWaitStrategyOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "strategy" )
+                        .withDescription( METRICS_WAIT_STRATEGY_DESCRIPTION )
+                        .withLongOpt( METRICS_WAIT_STRATEGY_ARG_LONG ).create( METRICS_WAIT_STRATEGY_ARG );
+        options.addOption( metricsWaitStrategyOption );
+
+        Option metricsResultsLogConsumerOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "consumer" )
+                        .withDescription( METRICS_RESULTS_LOG_CONSUMER_DESCRIPTION )
+                        .withLongOpt( METRICS_RESULTS_LOG_CONSUMER_ARG_LONG )
+                        .create( METRICS_RESULTS_LOG_CONSUMER_ARG );
+        options.addOption( metricsResultsLogConsumerOption );
+
+        Option schedulingResolutionOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "resolution" )
+                        .withDescription( SCHEDULING_RESOLUTION_DESCRIPTION )
+                        .withLongOpt( SCHEDULING_RESOLUTION_ARG_LONG ).create( SCHEDULING_RESOLUTION_ARG );
+        options.addOption( schedulingResolutionOption );
+
+        Option metricsExpectedIntervalAsMicroOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "duration" )
+                        .withDescription( METRICS_EXPECTED_INTERVAL_DESCRIPTION )
+                        .withLongOpt( METRICS_EXPECTED_INTERVAL_ARG_LONG ).create( METRICS_EXPECTED_INTERVAL_ARG );
+        options.addOption( metricsExpectedIntervalAsMicroOption );
+
+        Option partitionCountOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "count" ).withDescription( PARTITION_COUNT_DESCRIPTION )
+                        .withLongOpt( PARTITION_COUNT_ARG_LONG ).create( PARTITION_COUNT_ARG );
+        options.addOption( partitionCountOption );
+
+        Option partitionIndexOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "index" ).withDescription( PARTITION_INDEX_DESCRIPTION )
+                        .withLongOpt( PARTITION_INDEX_ARG_LONG ).create( PARTITION_INDEX_ARG );
+        options.addOption( partitionIndexOption );
+
+        Option coordinatorPortOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "port" ).withDescription( COORDINATOR_PORT_DESCRIPTION )
+                        .withLongOpt( COORDINATOR_PORT_ARG_LONG ).create( COORDINATOR_PORT_ARG );
+        options.addOption( coordinatorPortOption );
+
+        Option executorQueueTypeOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "type" ).withDescription( EXECUTOR_QUEUE_TYPE_DESCRIPTION )
+                        .withLongOpt( EXECUTOR_QUEUE_TYPE_ARG_LONG ).create( EXECUTOR_QUEUE_TYPE_ARG );
+        options.addOption( executorQueueTypeOption );
+
+        Option updateThreadCountOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "count" ).withDescription( UPDATE_THREAD_COUNT_DESCRIPTION )
+                        .withLongOpt( UPDATE_THREAD_COUNT_ARG_LONG ).create( UPDATE_THREAD_COUNT_ARG );
+        options.addOption( updateThreadCountOption );
+
+        Option dependencyModeOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "mode" ).withDescription( DEPENDENCY_MODE_DESCRIPTION )
+                        .withLongOpt( DEPENDENCY_MODE_ARG_LONG ).create( DEPENDENCY_MODE_ARG );
+        options.addOption( dependencyModeOption );
+
+        Option completionTimeServiceTypeOption =
+                OptionBuilder.hasArgs( 1 ).withArgName( "type" )
+                        .withDescription( COMPLETION_TIME_SERVICE_TYPE_DESCRIPTION )
+                        .withLongOpt( COMPLETION_TIME_SERVICE_TYPE_ARG_LONG )
+                        .create( COMPLETION_TIME_SERVICE_TYPE_ARG );
+        options.addOption( completionTimeServiceTypeOption );
+
         Option statusOption =
                 OptionBuilder.hasArgs( 1 ).withArgName( "seconds" ).withDescription( SHOW_STATUS_DESCRIPTION )
                         .withLongOpt(
@@ -696,6 +1145,22 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                 WORKLOAD_ARG,
                 OPERATION_COUNT_ARG,
                 THREADS_ARG,
+                EXECUTOR_TYPE_ARG,
+                EXECUTOR_CONCURRENCY_LIMIT_ARG,
+                RESULTS_LOG_FORMAT_ARG,
+                METRICS_SERVICE_TYPE_ARG,
+                METRICS_RING_SIZE_ARG,
+                METRICS_WAIT_STRATEGY_ARG,
+                METRICS_RESULTS_LOG_CONSUMER_ARG,
+                SCHEDULING_RESOLUTION_ARG,
+                METRICS_EXPECTED_INTERVAL_ARG,
+                PARTITION_COUNT_ARG,
+                PARTITION_INDEX_ARG,
+                COORDINATOR_PORT_ARG,
+                EXECUTOR_QUEUE_TYPE_ARG,
+                UPDATE_THREAD_COUNT_ARG,
+                DEPENDENCY_MODE_ARG,
+                COMPLETION_TIME_SERVICE_TYPE_ARG,
                 SHOW_STATUS_ARG,
                 TIME_UNIT_ARG,
                 RESULT_DIR_PATH_ARG,
@@ -756,6 +1221,22 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
     private final long warmupCount;
     private final long skipCount;
     private final boolean flushLog;
+    private final ExecutorType executorType;
+    private final int executorConcurrencyLimit;
+    private final ResultsLogFormat resultsLogFormat;
+    private final MetricsServiceType metricsServiceType;
+    private final int metricsRingSize;
+    private final MetricsWaitStrategy metricsWaitStrategy;
+    private final MetricsResultsLogConsumer metricsResultsLogConsumer;
+    private final SchedulingResolution schedulingResolution;
+    private final long metricsExpectedIntervalAsMicro;
+    private final int partitionCount;
+    private final int partitionIndex;
+    private final int coordinatorPort;
+    private final ExecutorQueueType executorQueueType;
+    private final int updateThreadCount;
+    private final DependencyMode dependencyMode;
+    private final CompletionTimeServiceType completionTimeServiceType;
 
     public ConsoleAndFileDriverConfiguration( Map<String,String> paramsMap,
             String mode,
@@ -777,7 +1258,23 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
             boolean ignoreScheduledStartTimes,
             long warmupCount,
             long skipCount,
-            boolean flushLog )
+            boolean flushLog,
+            ExecutorType executorType,
+            int executorConcurrencyLimit,
+            ResultsLogFormat resultsLogFormat,
+            MetricsServiceType metricsServiceType,
+            int metricsRingSize,
+            MetricsWaitStrategy metricsWaitStrategy,
+            MetricsResultsLogConsumer metricsResultsLogConsumer,
+            SchedulingResolution schedulingResolution,
+            long metricsExpectedIntervalAsMicro,
+            int partitionCount,
+            int partitionIndex,
+            int coordinatorPort,
+            ExecutorQueueType executorQueueType,
+            int updateThreadCount,
+            DependencyMode dependencyMode,
+            CompletionTimeServiceType completionTimeServiceType )
     {
         if ( null == paramsMap )
         {
@@ -804,6 +1301,22 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         this.warmupCount = warmupCount;
         this.skipCount = skipCount;
         this.flushLog = flushLog;
+        this.executorType = executorType;
+        this.executorConcurrencyLimit = executorConcurrencyLimit;
+        this.resultsLogFormat = resultsLogFormat;
+        this.metricsServiceType = metricsServiceType;
+        this.metricsRingSize = metricsRingSize;
+        this.metricsWaitStrategy = metricsWaitStrategy;
+        this.metricsResultsLogConsumer = metricsResultsLogConsumer;
+        this.schedulingResolution = schedulingResolution;
+        this.metricsExpectedIntervalAsMicro = metricsExpectedIntervalAsMicro;
+        this.partitionCount = partitionCount;
+        this.partitionIndex = partitionIndex;
+        this.coordinatorPort = coordinatorPort;
+        this.executorQueueType = executorQueueType;
+        this.updateThreadCount = updateThreadCount;
+        this.dependencyMode = dependencyMode;
+        this.completionTimeServiceType = completionTimeServiceType;
 
         if ( null != mode )
         {
@@ -824,6 +1337,22 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
             paramsMap.put( WORKLOAD_ARG, workloadClassName );
         }
         paramsMap.put( THREADS_ARG, Integer.toString( threadCount ) );
+        paramsMap.put( EXECUTOR_TYPE_ARG, executorType.name() );
+        paramsMap.put( EXECUTOR_CONCURRENCY_LIMIT_ARG, Integer.toString( executorConcurrencyLimit ) );
+        paramsMap.put( RESULTS_LOG_FORMAT_ARG, resultsLogFormat.name() );
+        paramsMap.put( METRICS_SERVICE_TYPE_ARG, metricsServiceType.name() );
+        paramsMap.put( METRICS_RING_SIZE_ARG, Integer.toString( metricsRingSize ) );
+        paramsMap.put( METRICS_WAIT_STRATEGY_ARG, metricsWaitStrategy.name() );
+        paramsMap.put( METRICS_RESULTS_LOG_CONSUMER_ARG, metricsResultsLogConsumer.name() );
+        paramsMap.put( SCHEDULING_RESOLUTION_ARG, schedulingResolution.name() );
+        paramsMap.put( METRICS_EXPECTED_INTERVAL_ARG, Long.toString( metricsExpectedIntervalAsMicro ) );
+        paramsMap.put( PARTITION_COUNT_ARG, Integer.toString( partitionCount ) );
+        paramsMap.put( PARTITION_INDEX_ARG, Integer.toString( partitionIndex ) );
+        paramsMap.put( COORDINATOR_PORT_ARG, Integer.toString( coordinatorPort ) );
+        paramsMap.put( EXECUTOR_QUEUE_TYPE_ARG, executorQueueType.name() );
+        paramsMap.put( UPDATE_THREAD_COUNT_ARG, Integer.toString( updateThreadCount ) );
+        paramsMap.put( DEPENDENCY_MODE_ARG, dependencyMode.name() );
+        paramsMap.put( COMPLETION_TIME_SERVICE_TYPE_ARG, completionTimeServiceType.name() );
         paramsMap.put( SHOW_STATUS_ARG, Integer.toString( statusDisplayIntervalAsSeconds ) );
         paramsMap.put( TIME_UNIT_ARG, timeUnit.name() );
         if ( null != resultDirPath )
@@ -884,6 +1413,102 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         return threadCount;
     }
 
+    @Override
+    public ExecutorType executorType()
+    {
+        return executorType;
+    }
+
+    @Override
+    public int executorConcurrencyLimit()
+    {
+        return executorConcurrencyLimit;
+    }
+
+    @Override
+    public ResultsLogFormat resultsLogFormat()
+    {
+        return resultsLogFormat;
+    }
+
+    @Override
+    public MetricsServiceType metricsServiceType()
+    {
+        return metricsServiceType;
+    }
+
+    @Override
+    public int metricsRingSize()
+    {
+        return metricsRingSize;
+    }
+
+    @Override
+    public MetricsWaitStrategy metricsWaitStrategy()
+    {
+        return metricsWaitStrategy;
+    }
+
+    @Override
+    public MetricsResultsLogConsumer metricsResultsLogConsumer()
+    {
+        return metricsResultsLogConsumer;
+    }
+
+    @Override
+    public SchedulingResolution schedulingResolution()
+    {
+        return schedulingResolution;
+    }
+
+    @Override
+    public long metricsExpectedIntervalAsMicro()
+    {
+        return metricsExpectedIntervalAsMicro;
+    }
+
+    @Override
+    public int partitionCount()
+    {
+        return partitionCount;
+    }
+
+    @Override
+    public int partitionIndex()
+    {
+        return partitionIndex;
+    }
+
+    @Override
+    public int coordinatorPort()
+    {
+        return coordinatorPort;
+    }
+
+    @Override
+    public ExecutorQueueType executorQueueType()
+    {
+        return executorQueueType;
+    }
+
+    @Override
+    public int updateThreadCount()
+    {
+        return updateThreadCount;
+    }
+
+    @Override
+    public DependencyMode dependencyMode()
+    {
+        return dependencyMode;
+    }
+
+    @Override
+    public CompletionTimeServiceType completionTimeServiceType()
+    {
+        return completionTimeServiceType;
+    }
+
     @Override
     public int statusDisplayIntervalAsSeconds()
     {
@@ -1054,6 +1679,71 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         int newThreadCount = (newParamsMapWithShortKeys.containsKey( THREADS_ARG )) ?
                              Integer.parseInt( newParamsMapWithShortKeys.get( THREADS_ARG ) ) :
                              threadCount;
+        ExecutorType newExecutorType = (newParamsMapWithShortKeys.containsKey( EXECUTOR_TYPE_ARG )) ?
+                                       ExecutorType.valueOf( newParamsMapWithShortKeys.get( EXECUTOR_TYPE_ARG ) ) :
+                                       executorType;
+        assertSupportedExecutorType( newExecutorType );
+        int newExecutorConcurrencyLimit =
+                (newParamsMapWithShortKeys.containsKey( EXECUTOR_CONCURRENCY_LIMIT_ARG )) ?
+                Integer.parseInt( newParamsMapWithShortKeys.get( EXECUTOR_CONCURRENCY_LIMIT_ARG ) ) :
+                executorConcurrencyLimit;
+        ResultsLogFormat newResultsLogFormat =
+                (newParamsMapWithShortKeys.containsKey( RESULTS_LOG_FORMAT_ARG )) ?
+                ResultsLogFormat.valueOf( newParamsMapWithShortKeys.get( RESULTS_LOG_FORMAT_ARG ) ) :
+                resultsLogFormat;
+        MetricsServiceType newMetricsServiceType =
+                (newParamsMapWithShortKeys.containsKey( METRICS_SERVICE_TYPE_ARG )) ?
+                MetricsServiceType.valueOf( newParamsMapWithShortKeys.get( METRICS_SERVICE_TYPE_ARG ) ) :
+                metricsServiceType;
+        int newMetricsRingSize =
+                (newParamsMapWithShortKeys.containsKey( METRICS_RING_SIZE_ARG )) ?
+                Integer.parseInt( newParamsMapWithShortKeys.get( METRICS_RING_SIZE_ARG ) ) :
+                metricsRingSize;
+        MetricsWaitStrategy newMetricsWaitStrategy =
+                (newParamsMapWithShortKeys.containsKey( METRICS_WAIT_STRATEGY_ARG )) ?
+                MetricsWaitStrategy.valueOf( newParamsMapWithShortKeys.get( METRICS_WAIT_STRATEGY_ARG ) ) :
+                metricsWaitStrategy;
+        MetricsResultsLogConsumer newMetricsResultsLogConsumer =
+                (newParamsMapWithShortKeys.containsKey( METRICS_RESULTS_LOG_CONSUMER_ARG )) ?
+                MetricsResultsLogConsumer.valueOf( newParamsMapWithShortKeys.get( METRICS_RESULTS_LOG_CONSUMER_ARG ) ) :
+                metricsResultsLogConsumer;
+        SchedulingResolution newSchedulingResolution =
+                (newParamsMapWithShortKeys.containsKey( SCHEDULING_RESOLUTION_ARG )) ?
+                SchedulingResolution.valueOf( newParamsMapWithShortKeys.get( SCHEDULING_RESOLUTION_ARG ) ) :
+                schedulingResolution;
+        long newMetricsExpectedIntervalAsMicro =
+                (newParamsMapWithShortKeys.containsKey( METRICS_EXPECTED_INTERVAL_ARG )) ?
+                Long.parseLong( newParamsMapWithShortKeys.get( METRICS_EXPECTED_INTERVAL_ARG ) ) :
+                metricsExpectedIntervalAsMicro;
+        int newPartitionCount =
+                (newParamsMapWithShortKeys.containsKey( PARTITION_COUNT_ARG )) ?
+                Integer.parseInt( newParamsMapWithShortKeys.get( PARTITION_COUNT_ARG ) ) :
+                partitionCount;
+        int newPartitionIndex =
+                (newParamsMapWithShortKeys.containsKey( PARTITION_INDEX_ARG )) ?
+                Integer.parseInt( newParamsMapWithShortKeys.get( PARTITION_INDEX_ARG ) ) :
+                partitionIndex;
+        int newCoordinatorPort =
+                (newParamsMapWithShortKeys.containsKey( COORDINATOR_PORT_ARG )) ?
+                Integer.parseInt( newParamsMapWithShortKeys.get( COORDINATOR_PORT_ARG ) ) :
+                coordinatorPort;
+        ExecutorQueueType newExecutorQueueType =
+                (newParamsMapWithShortKeys.containsKey( EXECUTOR_QUEUE_TYPE_ARG )) ?
+                ExecutorQueueType.valueOf( newParamsMapWithShortKeys.get( EXECUTOR_QUEUE_TYPE_ARG ) ) :
+                executorQueueType;
+        int newUpdateThreadCount =
+                (newParamsMapWithShortKeys.containsKey( UPDATE_THREAD_COUNT_ARG )) ?
+                Integer.parseInt( newParamsMapWithShortKeys.get( UPDATE_THREAD_COUNT_ARG ) ) :
+                updateThreadCount;
+        DependencyMode newDependencyMode =
+                (newParamsMapWithShortKeys.containsKey( DEPENDENCY_MODE_ARG )) ?
+                DependencyMode.valueOf( newParamsMapWithShortKeys.get( DEPENDENCY_MODE_ARG ) ) :
+                dependencyMode;
+        assertSupportedDependencyMode( newDependencyMode, newExecutorType, newExecutorQueueType );
+        CompletionTimeServiceType newCompletionTimeServiceType =
+                (newParamsMapWithShortKeys.containsKey( COMPLETION_TIME_SERVICE_TYPE_ARG )) ?
+                CompletionTimeServiceType.valueOf( newParamsMapWithShortKeys.get( COMPLETION_TIME_SERVICE_TYPE_ARG ) ) :
+                completionTimeServiceType;
         int newStatusDisplayIntervalAsSeconds = (newParamsMapWithShortKeys.containsKey( SHOW_STATUS_ARG )) ?
                                                 Integer.parseInt( newParamsMapWithShortKeys.get( SHOW_STATUS_ARG ) ) :
                                                 statusDisplayIntervalAsSeconds;
@@ -1126,7 +1816,23 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                 newIgnoreScheduledStartTimes,
                 newWarmupCount,
                 newSkipCount,
-                newFlushLog
+                newFlushLog,
+                newExecutorType,
+                newExecutorConcurrencyLimit,
+                newResultsLogFormat,
+                newMetricsServiceType,
+                newMetricsRingSize,
+                newMetricsWaitStrategy,
+                newMetricsResultsLogConsumer,
+                newSchedulingResolution,
+                newMetricsExpectedIntervalAsMicro,
+                newPartitionCount,
+                newPartitionIndex,
+                newCoordinatorPort,
+                newExecutorQueueType,
+                newUpdateThreadCount,
+                newDependencyMode,
+                newCompletionTimeServiceType
         );
     }
 
@@ -1151,6 +1857,26 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         // optional core parameters
         argsList.addAll( Lists.newArrayList( "-" + SHOW_STATUS_ARG, Long.toString( statusDisplayIntervalAsSeconds ) ) );
         argsList.addAll( Lists.newArrayList( "-" + THREADS_ARG, Integer.toString( threadCount ) ) );
+        argsList.addAll( Lists.newArrayList( "-" + EXECUTOR_TYPE_ARG, executorType.name() ) );
+        argsList.addAll(
+                Lists.newArrayList( "-" + EXECUTOR_CONCURRENCY_LIMIT_ARG, Integer.toString( executorConcurrencyLimit ) ) );
+        argsList.addAll( Lists.newArrayList( "-" + RESULTS_LOG_FORMAT_ARG, resultsLogFormat.name() ) );
+        argsList.addAll( Lists.newArrayList( "-" + METRICS_SERVICE_TYPE_ARG, metricsServiceType.name() ) );
+        argsList.addAll( Lists.newArrayList( "-" + METRICS_RING_SIZE_ARG, Integer.toString( metricsRingSize ) ) );
+        argsList.addAll( Lists.newArrayList( "-" + METRICS_WAIT_STRATEGY_ARG, metricsWaitStrategy.name() ) );
+        argsList.addAll(
+                Lists.newArrayList( "-" + METRICS_RESULTS_LOG_CONSUMER_ARG, metricsResultsLogConsumer.name() ) );
+        argsList.addAll( Lists.newArrayList( "-" + SCHEDULING_RESOLUTION_ARG, schedulingResolution.name() ) );
+        argsList.addAll( Lists.newArrayList( "-" + METRICS_EXPECTED_INTERVAL_ARG,
+                Long.toString( metricsExpectedIntervalAsMicro ) ) );
+        argsList.addAll( Lists.newArrayList( "-" + PARTITION_COUNT_ARG, Integer.toString( partitionCount ) ) );
+        argsList.addAll( Lists.newArrayList( "-" + PARTITION_INDEX_ARG, Integer.toString( partitionIndex ) ) );
+        argsList.addAll( Lists.newArrayList( "-" + COORDINATOR_PORT_ARG, Integer.toString( coordinatorPort ) ) );
+        argsList.addAll( Lists.newArrayList( "-" + EXECUTOR_QUEUE_TYPE_ARG, executorQueueType.name() ) );
+        argsList.addAll( Lists.newArrayList( "-" + UPDATE_THREAD_COUNT_ARG, Integer.toString( updateThreadCount ) ) );
+        argsList.addAll( Lists.newArrayList( "-" + DEPENDENCY_MODE_ARG, dependencyMode.name() ) );
+        argsList.addAll(
+                Lists.newArrayList( "-" + COMPLETION_TIME_SERVICE_TYPE_ARG, completionTimeServiceType.name() ) );
         argsList.addAll( Lists.newArrayList( "-" + WARMUP_COUNT_ARG, Long.toString( warmupCount ) ) );
         argsList.addAll( Lists.newArrayList( "-" + SKIP_COUNT_ARG, Long.toString( skipCount ) ) );
         if ( null != name )
@@ -1221,6 +1947,130 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                 .append( "\n" );
         sb.append( THREADS_ARG_LONG ).append( "=" ).append( threadCount ).append( "\n" );
         sb.append( "\n" );
+        sb.append( "# executor used to run operation handlers\n" );
+        sb.append( "# ENUM (" ).append( Arrays.toString( ExecutorType.values() ) ).append( ")\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( EXECUTOR_TYPE_ARG ).append( "/--" )
+                .append( EXECUTOR_TYPE_ARG_LONG ).append( "\n" );
+        sb.append( EXECUTOR_TYPE_ARG_LONG ).append( "=" ).append( executorType ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# maximum number of in-flight operation handlers (only used by the " )
+                .append( ExecutorType.virtual_thread.name() ).append( " executor)\n" );
+        sb.append( "# INT-32\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( EXECUTOR_CONCURRENCY_LIMIT_ARG ).append( "/--" )
+                .append( EXECUTOR_CONCURRENCY_LIMIT_ARG_LONG ).append( "\n" );
+        sb.append( EXECUTOR_CONCURRENCY_LIMIT_ARG_LONG ).append( "=" ).append( executorConcurrencyLimit )
+                .append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# format results log is written in during the run (" )
+                .append( ResultsLogFormat.binary.name() ).append( " logs are converted to " )
+                .append( ResultsLogFormat.csv.name() ).append( " afterwards)\n" );
+        sb.append( "# ENUM (" ).append( Arrays.toString( ResultsLogFormat.values() ) ).append( ")\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( RESULTS_LOG_FORMAT_ARG ).append( "/--" )
+                .append( RESULTS_LOG_FORMAT_ARG_LONG ).append( "\n" );
+        sb.append( RESULTS_LOG_FORMAT_ARG_LONG ).append( "=" ).append( resultsLogFormat ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# service used to collect operation metrics\n" );
+        sb.append( "# ENUM (" ).append( Arrays.toString( MetricsServiceType.values() ) ).append( ")\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( METRICS_SERVICE_TYPE_ARG ).append( "/--" )
+                .append( METRICS_SERVICE_TYPE_ARG_LONG ).append( "\n" );
+        sb.append( METRICS_SERVICE_TYPE_ARG_LONG ).append( "=" ).append( metricsServiceType ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# size of the ring buffer of the " ).append( MetricsServiceType.disruptor.name() )
+                .append( " metrics service, must be a power of 2\n" );
+        sb.append( "# INT-32\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( METRICS_RING_SIZE_ARG ).append( "/--" )
+                .append( METRICS_RING_SIZE_ARG_LONG ).append( "\n" );
+        sb.append( METRICS_RING_SIZE_ARG_LONG ).append( "=" ).append( metricsRingSize ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# strategy consumers of the " ).append( MetricsServiceType.disruptor.name() )
+                .append( " metrics service use to wait for results\n" );
+        sb.append( "# ENUM (" ).append( Arrays.toString( MetricsWaitStrategy.values() ) ).append( ")\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( METRICS_WAIT_STRATEGY_ARG ).append( "/--" )
+                .append( METRICS_WAIT_STRATEGY_ARG_LONG ).append( "\n" );
+        sb.append( METRICS_WAIT_STRATEGY_ARG_LONG ).append( "=" ).append( metricsWaitStrategy ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# consumer of the " ).append( MetricsServiceType.disruptor.name() )
+                .append( " metrics service that writes the results log (" )
+                .append( MetricsResultsLogConsumer.same.name() ).append( " as metrics, or " )
+                .append( MetricsResultsLogConsumer.chained.name() ).append( " after it)\n" );
+        sb.append( "# ENUM (" ).append( Arrays.toString( MetricsResultsLogConsumer.values() ) ).append( ")\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( METRICS_RESULTS_LOG_CONSUMER_ARG ).append( "/--" )
+                .append( METRICS_RESULTS_LOG_CONSUMER_ARG_LONG ).append( "\n" );
+        sb.append( METRICS_RESULTS_LOG_CONSUMER_ARG_LONG ).append( "=" ).append( metricsResultsLogConsumer )
+                .append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# resolution of scheduled start times, " ).append( SchedulingResolution.nano.name() )
+                .append( " spreads operations that share a millisecond after time compression\n" );
+        sb.append( "# ENUM (" ).append( Arrays.toString( SchedulingResolution.values() ) ).append( ")\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( SCHEDULING_RESOLUTION_ARG ).append( "/--" )
+                .append( SCHEDULING_RESOLUTION_ARG_LONG ).append( "\n" );
+        sb.append( SCHEDULING_RESOLUTION_ARG_LONG ).append( "=" ).append( schedulingResolution ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# expected interval (us) between operations of one type, runtimes are also reported corrected\n" );
+        sb.append( "# for coordinated omission at this interval (0 disables correction)\n" );
+        sb.append( "# INT-64 (microseconds)\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( METRICS_EXPECTED_INTERVAL_ARG ).append( "/--" )
+                .append( METRICS_EXPECTED_INTERVAL_ARG_LONG ).append( "\n" );
+        sb.append( METRICS_EXPECTED_INTERVAL_ARG_LONG ).append( "=" ).append( metricsExpectedIntervalAsMicro )
+                .append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# number of driver processes the workload streams are partitioned across\n" );
+        sb.append( "# (see mode coordinate_benchmark)\n" );
+        sb.append( "# INT-32\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( PARTITION_COUNT_ARG ).append( "/--" )
+                .append( PARTITION_COUNT_ARG_LONG ).append( "\n" );
+        sb.append( PARTITION_COUNT_ARG_LONG ).append( "=" ).append( partitionCount ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# partition of the workload streams executed by this driver process,\n" );
+        sb.append( "# from 0 to partition_count - 1\n" );
+        sb.append( "# INT-32\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( PARTITION_INDEX_ARG ).append( "/--" )
+                .append( PARTITION_INDEX_ARG_LONG ).append( "\n" );
+        sb.append( PARTITION_INDEX_ARG_LONG ).append( "=" ).append( partitionIndex ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# local port of the coordinator that driver processes exchange completion times through\n" );
+        sb.append( "# (0: coordinator picks a free port, driver processes of one partition do not connect)\n" );
+        sb.append( "# INT-32\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( COORDINATOR_PORT_ARG ).append( "/--" )
+                .append( COORDINATOR_PORT_ARG_LONG ).append( "\n" );
+        sb.append( COORDINATOR_PORT_ARG_LONG ).append( "=" ).append( coordinatorPort ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# order in which queued operations are taken by the thread_pool executor, " )
+                .append( ExecutorQueueType.dependency_priority.name() )
+                .append( " runs dependency operations first and then earliest scheduled start time first\n" );
+        sb.append( "# ENUM (" ).append( Arrays.toString( ExecutorQueueType.values() ) ).append( ")\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( EXECUTOR_QUEUE_TYPE_ARG ).append( "/--" )
+                .append( EXECUTOR_QUEUE_TYPE_ARG_LONG ).append( "\n" );
+        sb.append( EXECUTOR_QUEUE_TYPE_ARG_LONG ).append( "=" ).append( executorQueueType ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# number of threads of a dedicated executor for dependency operations (i.e., updates),\n" );
+        sb.append( "# other operations keep thread_count threads (0: all operations share one executor)\n" );
+        sb.append( "# INT-32\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( UPDATE_THREAD_COUNT_ARG ).append( "/--" )
+                .append( UPDATE_THREAD_COUNT_ARG_LONG ).append( "\n" );
+        sb.append( UPDATE_THREAD_COUNT_ARG_LONG ).append( "=" ).append( updateThreadCount ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# how dependencies between operations are respected, " )
+                .append( DependencyMode.completion_time.name() )
+                .append( " waits for global completion time, " )
+                .append( DependencyMode.entity.name() )
+                .append( " waits only for earlier operations on the same entities\n" );
+        sb.append( "# ENUM (" ).append( Arrays.toString( DependencyMode.values() ) ).append( ")\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( DEPENDENCY_MODE_ARG ).append( "/--" )
+                .append( DEPENDENCY_MODE_ARG_LONG ).append( "\n" );
+        sb.append( DEPENDENCY_MODE_ARG_LONG ).append( "=" ).append( dependencyMode ).append( "\n" );
+        sb.append( "\n" );
+        sb.append( "# completion time service of each driver process, " )
+                .append( CompletionTimeServiceType.threaded_queued.name() )
+                .append( " tracks completion time on a dedicated thread fed by a queue, " )
+                .append( CompletionTimeServiceType.lock_free.name() )
+                .append( " lets each writer publish its own watermarks\n" );
+        sb.append( "# ENUM (" ).append( Arrays.toString( CompletionTimeServiceType.values() ) ).append( ")\n" );
+        sb.append( "# COMMAND: " ).append( "-" ).append( COMPLETION_TIME_SERVICE_TYPE_ARG ).append( "/--" )
+                .append( COMPLETION_TIME_SERVICE_TYPE_ARG_LONG ).append( "\n" );
+        sb.append( COMPLETION_TIME_SERVICE_TYPE_ARG_LONG ).append( "=" ).append( completionTimeServiceType )
+                .append( "\n" );
+        sb.append( "\n" );
         sb.append( "# number of operations to execute during warmup phase of workload\n" );
         sb.append( "# INT-64\n" );
         sb.append( "# COMMAND: " ).append( "-" ).append( WARMUP_COUNT_ARG ).append( "/--" )
@@ -1300,7 +2150,8 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         sb.append( "# COMMAND: " ).append( "-" ).append( VALIDATION_PARAMS_SIZE_ARG ).append( "/--" )
                         .append( VALIDATION_PARAMS_SIZE_ARG_LONG ).append( "\n" );
         sb.append( "\n" );
-        sb.append( "# sleep duration (ms) injected into busy wait loops (to reduce CPU consumption)\n" );
+        sb.append( "# longest duration (ms) an operation waiting on its dependencies or start time is parked before\n" );
+        sb.append( "# checking again, operations are also woken when completion time advances (0 busy waits)\n" );
         sb.append( "# INT-64 (milliseconds)\n" );
         sb.append( "# COMMAND: " ).append( "-" ).append( SPINNER_SLEEP_DURATION_ARG ).append( "/--" )
                 .append( SPINNER_SLEEP_DURATION_ARG_LONG ).append( "\n" );
@@ -1403,6 +2254,38 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
                 .append( INTEGRAL_FORMAT.format( skipCount ) ).append( "\n" );
         sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Worker Threads:" ) )
                 .append( threadCount ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Executor Type:" ) )
+                .append( executorType ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Executor Concurrency Limit:" ) )
+                .append( executorConcurrencyLimit ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Results Log Format:" ) )
+                .append( resultsLogFormat ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Metrics Service Type:" ) )
+                .append( metricsServiceType ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Metrics Ring Size:" ) )
+                .append( metricsRingSize ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Metrics Wait Strategy:" ) )
+                .append( metricsWaitStrategy ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Metrics Results Log Consumer:" ) )
+                .append( metricsResultsLogConsumer ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Scheduling Resolution:" ) )
+                .append( schedulingResolution ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Metrics Expected Interval (us):" ) )
+                .append( metricsExpectedIntervalAsMicro ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Partition Count:" ) )
+                .append( partitionCount ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Partition Index:" ) )
+                .append( partitionIndex ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Coordinator Port:" ) )
+                .append( coordinatorPort ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Executor Queue Type:" ) )
+                .append( executorQueueType ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Update Thread Count:" ) )
+                .append( updateThreadCount ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Dependency Mode:" ) )
+                .append( dependencyMode ).append( "\n" );
+        sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Completion Time Service Type:" ) )
+                .append( completionTimeServiceType ).append( "\n" );
         sb.append( "\t" ).append( format( "%1$-" + padRightDistance + "s", "Status Display Interval:" ) ).append(
                 TEMPORAL_UTIL.milliDurationToString( TimeUnit.SECONDS.toMillis( statusDisplayIntervalAsSeconds ) ) )
                 .append( "\n" );
@@ -1481,6 +2364,70 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         {
             return false;
         }
+        if ( executorType != that.executorType )
+        {
+            return false;
+        }
+        if ( executorConcurrencyLimit != that.executorConcurrencyLimit )
+        {
+            return false;
+        }
+        if ( resultsLogFormat != that.resultsLogFormat )
+        {
+            return false;
+        }
+        if ( metricsServiceType != that.metricsServiceType )
+        {
+            return false;
+        }
+        if ( metricsRingSize != that.metricsRingSize )
+        {
+            return false;
+        }
+        if ( metricsWaitStrategy != that.metricsWaitStrategy )
+        {
+            return false;
+        }
+        if ( metricsResultsLogConsumer != that.metricsResultsLogConsumer )
+        {
+            return false;
+        }
+        if ( schedulingResolution != that.schedulingResolution )
+        {
+            return false;
+        }
+        if ( metricsExpectedIntervalAsMicro != that.metricsExpectedIntervalAsMicro )
+        {
+            return false;
+        }
+        if ( partitionCount != that.partitionCount )
+        {
+            return false;
+        }
+        if ( partitionIndex != that.partitionIndex )
+        {
+            return false;
+        }
+        if ( coordinatorPort != that.coordinatorPort )
+        {
+            return false;
+        }
+        if ( executorQueueType != that.executorQueueType )
+        {
+            return false;
+        }
+        if ( updateThreadCount != that.updateThreadCount )
+        {
+            return false;
+        }
+        if ( dependencyMode != that.dependencyMode )
+        {
+            return false;
+        }
+        if ( completionTimeServiceType != that.completionTimeServiceType )
+        {
+            return false;
+        }
         if ( Double.compare( that.timeCompressionRatio, timeCompressionRatio ) != 0 )
         {
             return false;
@@ -1545,6 +2492,22 @@ public class ConsoleAndFileDriverConfiguration implements DriverConfiguration
         result = 31 * result + (int) (warmupCount ^ (warmupCount >>> 32));
         result = 31 * result + (int) (skipCount ^ (skipCount >>> 32));
         result = 31 * result + threadCount;
+        result = 31 * result + (executorType != null ? executorType.hashCode() : 0);
+        result = 31 * result + executorConcurrencyLimit;
+        result = 31 * result + (resultsLogFormat != null ? resultsLogFormat.hashCode() : 0);
+        result = 31 * result + (metricsServiceType != null ? metricsServiceType.hashCode() : 0);
+        result = 31 * result + metricsRingSize;
+        result = 31 * result + (metricsWaitStrategy != null ? metricsWaitStrategy.hashCode() : 0);
+        result = 31 * result + (metricsResultsLogConsumer != null ? metricsResultsLogConsumer.hashCode() : 0);
+        result = 31 * result + (schedulingResolution != null ? schedulingResolution.hashCode() : 0);
+        result = 31 * result + (int) (metricsExpectedIntervalAsMicro ^ (metricsExpectedIntervalAsMicro >>> 32));
+        result = 31 * result + partitionCount;
+        result = 31 * result + partitionIndex;
+        result = 31 * result + coordinatorPort;
+        result = 31 * result + (executorQueueType != null ? executorQueueType.hashCode() : 0);
+        result = 31 * result + updateThreadCount;
+        result = 31 * result + (dependencyMode != null ? dependencyMode.hashCode() : 0);
+        result = 31 * result + (completionTimeServiceType != null ? completionTimeServiceType.hashCode() : 0);
         result = 31 * result + statusDisplayIntervalAsSeconds;
         result = 31 * result + (timeUnit != null ? timeUnit.hashCode() : 0);
         result = 31 * result + (resultDirPath != null ? resultDirPath.hashCode() : 0);
@@ -1,5 +1,8 @@
 package org.ldbcouncil.snb.driver.control;
 
+import org.ldbcouncil.snb.driver.runtime.ConcurrentErrorReporter;
+import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeException;
+import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeService;
 import org.ldbcouncil.snb.driver.temporal.TimeSource;
 
 public interface ControlService
@@ -14,5 +17,11 @@ public interface ControlService
 
     long workloadStartTimeAsMilli();
 
+    /**
+     * Completion time service for one phase of the workload, created after its start time was set
+     */
+    CompletionTimeService newCompletionTimeService( ConcurrentErrorReporter errorReporter )
+            throws CompletionTimeException;
+
     void shutdown();
 }
@@ -0,0 +1,6 @@
+package org.ldbcouncil.snb.driver.control;
+
+public enum DependencyMode {
+    completion_time,
+    entity;
+}
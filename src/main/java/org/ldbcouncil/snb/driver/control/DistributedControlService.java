@@ -0,0 +1,72 @@
+package org.ldbcouncil.snb.driver.control;
+
+import org.ldbcouncil.snb.driver.runtime.ConcurrentErrorReporter;
+import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeException;
+import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeExchangeClient;
+import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeService;
+import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeServiceAssistant;
+import org.ldbcouncil.snb.driver.temporal.TimeSource;
+
+/**
+ * Control service of a driver process that executes one partition of the workload streams, alongside the driver
+ * processes of the other partitions, see CoordinateBenchmarkMode.
+ * <p>
+ * Workload start times are agreed with the other driver processes, and completion time is shared with them, through
+ * the coordinator listening on the configured coordinator port.
+ */
+public class DistributedControlService extends LocalControlService
+{
+    private final CompletionTimeExchangeClient exchangeClient;
+
+    public DistributedControlService(
+            long workloadStartTimeAsMilli,
+            DriverConfiguration configuration,
+            LoggingServiceFactory loggingServiceFactory,
+            TimeSource timeSource ) throws CompletionTimeException
+    {
+        super( workloadStartTimeAsMilli, configuration, loggingServiceFactory, timeSource );
+        this.exchangeClient = new CompletionTimeExchangeClient(
+                configuration.coordinatorPort(),
+                configuration.partitionIndex()
+        );
+    }
+
+    /**
+     * Blocks until all driver processes proposed a start time, then sets the latest of them
+     */
+    @Override
+    public void setWorkloadStartTimeAsMilli( long workloadStartTimeAsMilli )
+    {
+        try
+        {
+            super.setWorkloadStartTimeAsMilli( exchangeClient.agreeOnStartTimeAsMilli( workloadStartTimeAsMilli ) );
+        }
+        catch ( CompletionTimeException e )
+        {
+            throw new RuntimeException( "Error agreeing on workload start time with coordinator", e );
+        }
+    }
+
+    @Override
+    public CompletionTimeService newCompletionTimeService( ConcurrentErrorReporter errorReporter )
+            throws CompletionTimeException
+    {
+        return new CompletionTimeServiceAssistant().newDistributedCompletionTimeService(
+                newLocalCompletionTimeService( errorReporter ),
+                exchangeClient
+        );
+    }
+
+    @Override
+    public void shutdown()
+    {
+        try
+        {
+            exchangeClient.shutdown();
+        }
+        catch ( CompletionTimeException e )
+        {
+            throw new RuntimeException( "Error disconnecting from coordinator", e );
+        }
+    }
+}
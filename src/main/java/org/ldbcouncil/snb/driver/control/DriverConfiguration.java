@@ -21,6 +21,38 @@ public interface DriverConfiguration
 
     int threadCount();
 
+    ExecutorType executorType();
+
+    int executorConcurrencyLimit();
+
+    ResultsLogFormat resultsLogFormat();
+
+    MetricsServiceType metricsServiceType();
+
+    int metricsRingSize();
+
+    MetricsWaitStrategy metricsWaitStrategy();
+
+    MetricsResultsLogConsumer metricsResultsLogConsumer();
+
+    SchedulingResolution schedulingResolution();
+
+    long metricsExpectedIntervalAsMicro();
+
+    int partitionCount();
+
+    int partitionIndex();
+
+    int coordinatorPort();
+
+    ExecutorQueueType executorQueueType();
+
+    int updateThreadCount();
+
+    DependencyMode dependencyMode();
+
+    CompletionTimeServiceType completionTimeServiceType();
+
     int statusDisplayIntervalAsSeconds();
 
     TimeUnit timeUnit();
@@ -1,5 +1,9 @@
 package org.ldbcouncil.snb.driver.control;
 
+import org.ldbcouncil.snb.driver.runtime.ConcurrentErrorReporter;
+import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeException;
+import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeService;
+import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeServiceAssistant;
 import org.ldbcouncil.snb.driver.temporal.TemporalUtil;
 import org.ldbcouncil.snb.driver.temporal.TimeSource;
 
@@ -53,6 +57,32 @@ public class LocalControlService implements ControlService
         return workloadStartTimeAsMilli;
     }
 
+    @Override
+    public CompletionTimeService newCompletionTimeService( ConcurrentErrorReporter errorReporter )
+            throws CompletionTimeException
+    {
+        return newLocalCompletionTimeService( errorReporter );
+    }
+
+    /**
+     * Completion time service of the configured type, for the operations of this driver process
+     */
+    protected CompletionTimeService newLocalCompletionTimeService( ConcurrentErrorReporter errorReporter )
+            throws CompletionTimeException
+    {
+        CompletionTimeServiceAssistant completionTimeServiceAssistant = new CompletionTimeServiceAssistant();
+        switch ( configuration.completionTimeServiceType() )
+        {
+        case lock_free:
+            return completionTimeServiceAssistant.newLockFreeCompletionTimeService();
+        case threaded_queued:
+            return completionTimeServiceAssistant.newThreadedQueuedCompletionTimeService( timeSource, errorReporter );
+        default:
+            throw new CompletionTimeException(
+                    "Unsupported completion time service type: " + configuration.completionTimeServiceType() );
+        }
+    }
+
     @Override
     public void shutdown()
     {
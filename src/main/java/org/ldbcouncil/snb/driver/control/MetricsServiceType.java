@@ -0,0 +1,6 @@
+package org.ldbcouncil.snb.driver.control;
+
+public enum MetricsServiceType {
+    disruptor,
+    sharded;
+}
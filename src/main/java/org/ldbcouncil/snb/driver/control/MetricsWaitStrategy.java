@@ -0,0 +1,8 @@
+package org.ldbcouncil.snb.driver.control;
+
+public enum MetricsWaitStrategy {
+    blocking,
+    yielding,
+    busy_spin,
+    phased_backoff;
+}
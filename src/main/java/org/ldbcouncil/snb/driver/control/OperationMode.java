@@ -4,5 +4,9 @@ public enum OperationMode {
     create_validation,
     validate_database,
     create_statistics,
-    execute_benchmark;
+    execute_benchmark,
+    convert_results_log,
+    search_max_throughput,
+    coordinate_benchmark,
+    compile_streams;
 }
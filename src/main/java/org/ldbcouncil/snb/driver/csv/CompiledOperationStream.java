@@ -0,0 +1,502 @@
+package org.ldbcouncil.snb.driver.csv;
+
+/**
+ * CompiledOperationStream.java
+ *
+ * Reads an operation stream compiled from a parquet file by CompiledOperationStreamWriter, from memory-mapped
+ * regions of the compiled file, so rows are decoded without querying DuckDb.
+ * <p>
+ * Layout, little endian: a header with the magic number, the format version, the length, last modified time and
+ * checksum of the source file, the row count, the length of the string section and the name and type of each
+ * column, padded to 8 bytes. Then a fixed-width column of 8 byte values per source column, a null bitmap per
+ * source column and the string section. Integer columns hold their value, timestamp columns their microseconds
+ * since the epoch and string columns the offset of the string in the string section, where each distinct short
+ * string is stored once, as its length followed by its UTF-8 bytes. No value or string crosses a mapped region.
+ * <p>
+ * Rows read the same values, with the same conversions, as the DuckDb result set of the source file.
+ */
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.zip.CRC32C;
+
+import org.agrona.IoUtil;
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.WorkloadException;
+import org.ldbcouncil.snb.driver.generator.EventStreamReader;
+import org.ldbcouncil.snb.driver.generator.GeneratorException;
+
+import static java.lang.String.format;
+
+public class CompiledOperationStream implements Closeable {
+
+    static final int MAGIC = 0x4C44424F;
+    // increment when the layout changes, compiled files of other versions are compiled again
+    static final int VERSION = 1;
+    static final int REGION_LENGTH = 1 << 30;
+    static final byte TYPE_LONG = 0;
+    static final byte TYPE_TIMESTAMP = 1;
+    static final byte TYPE_STRING = 2;
+
+    private final File file;
+    private final long sourceLength;
+    private final long sourceLastModified;
+    private final long sourceChecksum;
+    private final long rowCount;
+    private final String[] columnNames;
+    private final byte[] columnTypes;
+    private final long valuesOffset;
+    private final long nullsOffset;
+    private final long stringsOffset;
+    private final MappedByteBuffer[] regions;
+    // whether each column is sorted without nulls, computed on first use
+    private final Boolean[] sortedColumns;
+
+    private CompiledOperationStream(
+        File file,
+        ByteBuffer header,
+        long fileLength,
+        MappedByteBuffer[] regions
+    ) throws IOException
+    {
+        this.file = file;
+        this.sourceLength = header.getLong();
+        this.sourceLastModified = header.getLong();
+        this.sourceChecksum = header.getLong();
+        this.rowCount = header.getLong();
+        long stringsLength = header.getLong();
+        int columnCount = header.getInt();
+        this.columnNames = new String[columnCount];
+        this.columnTypes = new byte[columnCount];
+        for (int i = 0; i < columnCount; i++) {
+            columnTypes[i] = header.get();
+            byte[] name = new byte[header.getInt()];
+            header.get(name);
+            columnNames[i] = new String(name, StandardCharsets.UTF_8);
+        }
+        this.valuesOffset = align(header.position());
+        this.nullsOffset = valuesOffset + columnCount * rowCount * 8;
+        this.stringsOffset = nullsOffset + columnCount * nullBitmapLength(rowCount);
+        this.regions = regions;
+        this.sortedColumns = new Boolean[columnCount];
+        if (stringsOffset + stringsLength != fileLength) {
+            throw new IOException(format("Compiled operation stream is truncated: %s", file.getAbsolutePath()));
+        }
+    }
+
+    /**
+     * Map a compiled operation stream
+     * @param file Compiled file, written by CompiledOperationStreamWriter
+     * @return The compiled operation stream
+     * @throws IOException When the file could not be read, or is not a compiled operation stream of this version
+     */
+    public static CompiledOperationStream open(File file) throws IOException
+    {
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+             FileChannel channel = randomAccessFile.getChannel()) {
+            long fileLength = channel.size();
+            MappedByteBuffer[] regions = new MappedByteBuffer[(int) ((fileLength + REGION_LENGTH - 1) / REGION_LENGTH)];
+            try {
+                for (int i = 0; i < regions.length; i++) {
+                    long regionOffset = (long) i * REGION_LENGTH;
+                    regions[i] = channel.map(FileChannel.MapMode.READ_ONLY, regionOffset, Math.min(REGION_LENGTH, fileLength - regionOffset));
+                    regions[i].order(ByteOrder.LITTLE_ENDIAN);
+                }
+                if (regions.length == 0 || regions[0].getInt(0) != MAGIC) {
+                    throw new IOException(format("Not a compiled operation stream: %s", file.getAbsolutePath()));
+                }
+                int version = regions[0].getInt(4);
+                if (version != VERSION) {
+                    throw new IOException(format("Unsupported compiled operation stream version %s: %s", version, file.getAbsolutePath()));
+                }
+                ByteBuffer header = regions[0].duplicate().order(ByteOrder.LITTLE_ENDIAN).position(8);
+                return new CompiledOperationStream(file, header, fileLength, regions);
+            }
+            catch (IOException | RuntimeException e) {
+                unmap(regions);
+                throw (e instanceof IOException) ? (IOException) e : new IOException(format("Error reading compiled operation stream: %s", file.getAbsolutePath()), e);
+            }
+        }
+    }
+
+    /**
+     * Whether this stream was compiled from the current version of a source file. The length of the source file
+     * must be the same, and either its last modified time or its checksum, which is only computed if the last
+     * modified time differs, e.g., after the file was copied.
+     * @param source Parquet file the stream was compiled from
+     */
+    public boolean isCompiledFrom(File source) throws IOException
+    {
+        if (source.length() != sourceLength) {
+            return false;
+        }
+        return source.lastModified() == sourceLastModified || checksum(source) == sourceChecksum;
+    }
+
+    /**
+     * @return CRC32C checksum of the contents of a file
+     */
+    static long checksum(File file) throws IOException
+    {
+        CRC32C crc = new CRC32C();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(1 << 20);
+        try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "r");
+             FileChannel channel = randomAccessFile.getChannel()) {
+            while (channel.read(buffer) >= 0) {
+                buffer.flip();
+                crc.update(buffer);
+                buffer.clear();
+            }
+        }
+        return crc.getValue();
+    }
+
+    public long rowCount()
+    {
+        return rowCount;
+    }
+
+    /**
+     * @return Index of the column, starting at 1, or -1 if there is no column with the name
+     */
+    public int columnIndex(String columnName)
+    {
+        for (int i = 0; i < columnNames.length; i++) {
+            if (columnNames[i].equals(columnName)) {
+                return i + 1;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Stream the operations of the rows, decoding one row at a time as the iterator advances.
+     * @param decoder Decoder used to create an operation from each row
+     * @param repeating Whether to start again from the first row once the last row has been read
+     * @return Iterator with event operations, which only ends when not repeating, or if there are no rows
+     */
+    public Iterator<Operation> operationStream(EventStreamReader.EventDecoder<Operation> decoder, boolean repeating)
+    {
+        return new RowIterator(decoder, 0, rowCount, repeating);
+    }
+
+    /**
+     * Decode the operations of the rows with a value of the column in [start, end), in the order of the rows.
+     * When the column is sorted, which it is for the batch columns of the update streams, the rows are found by
+     * binary search, otherwise all rows are filtered.
+     * @param decoder Decoder used to create an operation from each row
+     * @param columnIndex Index of an integer column, starting at 1
+     * @return Iterator with event operations
+     * @throws WorkloadException When a row could not be decoded
+     */
+    public Iterator<Operation> operationStreamBatch(
+        EventStreamReader.EventDecoder<Operation> decoder,
+        int columnIndex,
+        long start,
+        long end
+    ) throws WorkloadException
+    {
+        List<Operation> results = new ArrayList<>();
+        Row row = new Row();
+        if (isSorted(columnIndex)) {
+            for (long i = lowerBound(columnIndex, start); i < rowCount && value(columnIndex, i) < end; i++) {
+                row.position = i;
+                results.add(decoder.decodeEvent(row));
+            }
+        }
+        else {
+            for (long i = 0; i < rowCount; i++) {
+                long value = value(columnIndex, i);
+                if (!isNull(columnIndex, i) && value >= start && value < end) {
+                    row.position = i;
+                    results.add(decoder.decodeEvent(row));
+                }
+            }
+        }
+        return results.iterator();
+    }
+
+    /**
+     * Like operationStreamBatch(), but when the column is sorted the operations are only decoded as the iterator
+     * advances, so until then the batch takes no heap beyond its row range, its rows staying in the mapped regions.
+     * @param decoder Decoder used to create an operation from each row
+     * @param columnIndex Index of an integer column, starting at 1
+     * @return Iterator with event operations, which throws GeneratorException when a row could not be decoded
+     * @throws WorkloadException When a row of an unsorted column could not be decoded
+     */
+    public Iterator<Operation> operationStreamBatchOnDemand(
+        EventStreamReader.EventDecoder<Operation> decoder,
+        int columnIndex,
+        long start,
+        long end
+    ) throws WorkloadException
+    {
+        if (!isSorted(columnIndex)) {
+            return operationStreamBatch(decoder, columnIndex, start, end);
+        }
+        return new RowIterator(decoder, lowerBound(columnIndex, start), lowerBound(columnIndex, end), false);
+    }
+
+    /**
+     * @return Lowest and highest non null value of an integer column, -1 if there are none
+     */
+    public long[] boundaryValues(int columnIndex)
+    {
+        long min = Long.MAX_VALUE;
+        long max = Long.MIN_VALUE;
+        boolean found = false;
+        for (long i = 0; i < rowCount; i++) {
+            if (!isNull(columnIndex, i)) {
+                long value = value(columnIndex, i);
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+                found = true;
+            }
+        }
+        return found ? new long[]{min, max} : new long[]{-1, -1};
+    }
+
+    private boolean isSorted(int columnIndex)
+    {
+        Boolean sorted = sortedColumns[columnIndex - 1];
+        if (sorted == null) {
+            sorted = true;
+            for (long i = 0; i < rowCount && sorted; i++) {
+                sorted = !isNull(columnIndex, i) && (i == 0 || value(columnIndex, i) >= value(columnIndex, i - 1));
+            }
+            sortedColumns[columnIndex - 1] = sorted;
+        }
+        return sorted;
+    }
+
+    // first row with a value of at least the given value, in a sorted column
+    private long lowerBound(int columnIndex, long value)
+    {
+        long low = 0;
+        long high = rowCount;
+        while (low < high) {
+            long middle = (low + high) >>> 1;
+            if (value(columnIndex, middle) < value) {
+                low = middle + 1;
+            }
+            else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private long value(int columnIndex, long rowIndex)
+    {
+        return getLongAt(valuesOffset + ((columnIndex - 1) * rowCount + rowIndex) * 8);
+    }
+
+    private boolean isNull(int columnIndex, long rowIndex)
+    {
+        long word = getLongAt(nullsOffset + (columnIndex - 1) * nullBitmapLength(rowCount) + (rowIndex >>> 6) * 8);
+        return (word & (1L << (rowIndex & 63))) != 0;
+    }
+
+    private long getLongAt(long position)
+    {
+        return regions[(int) (position / REGION_LENGTH)].getLong((int) (position % REGION_LENGTH));
+    }
+
+    private String stringAt(long offset)
+    {
+        long position = stringsOffset + offset;
+        MappedByteBuffer region = regions[(int) (position / REGION_LENGTH)];
+        int positionInRegion = (int) (position % REGION_LENGTH);
+        byte[] bytes = new byte[region.getInt(positionInRegion)];
+        region.get(positionInRegion + 4, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    static long align(long position)
+    {
+        return (position + 7) & ~7L;
+    }
+
+    static long nullBitmapLength(long rowCount)
+    {
+        return ((rowCount + 63) >>> 6) * 8;
+    }
+
+    /**
+     * Same conversion as the DuckDb result set, in the default time zone of the JVM
+     */
+    static Timestamp toTimestamp(long micros)
+    {
+        return Timestamp.valueOf(LocalDateTime.ofEpochSecond(
+            Math.floorDiv(micros, 1_000_000),
+            Math.floorMod(micros, 1_000_000) * 1000,
+            ZoneOffset.UTC));
+    }
+
+    /**
+     * Unmaps the compiled file, no rows may be read afterwards
+     */
+    @Override
+    public void close()
+    {
+        unmap(regions);
+    }
+
+    private static void unmap(MappedByteBuffer[] regions)
+    {
+        for (int i = 0; i < regions.length; i++) {
+            if (regions[i] != null) {
+                IoUtil.unmap(regions[i]);
+                regions[i] = null;
+            }
+        }
+    }
+
+    /**
+     * Row at a position of the compiled stream, reading its columns from the mapped regions
+     */
+    private class Row implements EventStreamReader.EventRow {
+
+        private long position;
+
+        private byte type(int columnIndex) throws SQLException
+        {
+            if (columnIndex < 1 || columnIndex > columnTypes.length) {
+                throw new SQLException(format("Column index %s out of range in: %s", columnIndex, file.getAbsolutePath()));
+            }
+            return columnTypes[columnIndex - 1];
+        }
+
+        @Override
+        public long getLong(int columnIndex) throws SQLException
+        {
+            byte type = type(columnIndex);
+            if (isNull(columnIndex, position)) {
+                return 0;
+            }
+            switch (type) {
+                case TYPE_LONG:
+                    return value(columnIndex, position);
+                case TYPE_STRING:
+                    try {
+                        return Long.parseLong(stringAt(value(columnIndex, position)));
+                    }
+                    catch (NumberFormatException e) {
+                        throw new SQLException(format("Column %s is not a number", columnNames[columnIndex - 1]), e);
+                    }
+                default:
+                    throw new SQLException(format("Column %s of type timestamp can not be read as a number", columnNames[columnIndex - 1]));
+            }
+        }
+
+        @Override
+        public int getInt(int columnIndex) throws SQLException
+        {
+            return (int) getLong(columnIndex);
+        }
+
+        @Override
+        public String getString(int columnIndex) throws SQLException
+        {
+            byte type = type(columnIndex);
+            if (isNull(columnIndex, position)) {
+                return null;
+            }
+            long value = value(columnIndex, position);
+            switch (type) {
+                case TYPE_LONG:
+                    return Long.toString(value);
+                case TYPE_TIMESTAMP:
+                    return toTimestamp(value).toString();
+                default:
+                    return stringAt(value);
+            }
+        }
+
+        @Override
+        public Timestamp getTimestamp(int columnIndex) throws SQLException
+        {
+            byte type = type(columnIndex);
+            if (isNull(columnIndex, position)) {
+                return null;
+            }
+            if (type != TYPE_TIMESTAMP) {
+                throw new SQLException(format("Column %s can not be read as a timestamp", columnNames[columnIndex - 1]));
+            }
+            return toTimestamp(value(columnIndex, position));
+        }
+
+        @Override
+        public long getTimestampAsMilli(int columnIndex) throws SQLException
+        {
+            byte type = type(columnIndex);
+            if (isNull(columnIndex, position)) {
+                return 0;
+            }
+            if (type != TYPE_TIMESTAMP) {
+                throw new SQLException(format("Column %s can not be read as a timestamp", columnNames[columnIndex - 1]));
+            }
+            return Math.floorDiv(value(columnIndex, position), 1000L);
+        }
+    }
+
+    /**
+     * Iterator over a range of rows, decoding one operation at a time
+     */
+    private class RowIterator implements Iterator<Operation> {
+
+        private final EventStreamReader.EventDecoder<Operation> decoder;
+        private final long start;
+        private final long end;
+        private final boolean repeating;
+        private final Row row = new Row();
+        private long next;
+
+        private RowIterator(EventStreamReader.EventDecoder<Operation> decoder, long start, long end, boolean repeating)
+        {
+            this.decoder = decoder;
+            this.start = start;
+            this.end = end;
+            this.repeating = repeating;
+            this.next = start;
+        }
+
+        @Override
+        public boolean hasNext()
+        {
+            if (next >= end && repeating) {
+                next = start;
+            }
+            return next < end;
+        }
+
+        @Override
+        public Operation next()
+        {
+            if (!hasNext()) {
+                throw new NoSuchElementException(format("No more rows in: %s", file.getAbsolutePath()));
+            }
+            row.position = next++;
+            try {
+                return decoder.decodeEvent(row);
+            }
+            catch (WorkloadException e) {
+                throw new GeneratorException(format("Error decoding row %s of: %s", row.position, file.getAbsolutePath()), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,303 @@
+package org.ldbcouncil.snb.driver.csv;
+
+/**
+ * CompiledOperationStreamWriter.java
+ *
+ * Compiles a parquet file of an operation stream into the binary layout read by CompiledOperationStream,
+ * reading the file once through DuckDb. The file is written next to the target and renamed when complete,
+ * so an interrupted compilation never leaves a partial compiled file behind.
+ */
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.lang.String.format;
+
+public class CompiledOperationStreamWriter {
+
+    // strings up to this length are stored once, e.g., names, browsers and tag lists, longer ones every time
+    private static final int MAX_DICTIONARY_STRING_LENGTH = 128;
+    // bounds the heap used by the dictionary while compiling
+    private static final int MAX_DICTIONARY_SIZE = 1 << 20;
+    private static final int BUFFER_LENGTH = 1 << 16;
+
+    private CompiledOperationStreamWriter()
+    {
+    }
+
+    /**
+     * Compile a parquet file
+     * @param connection Connection to query the parquet file on
+     * @param source Parquet file to compile
+     * @param target Compiled file to write, replaced if it exists
+     * @return Number of compiled rows
+     * @throws SQLException When the parquet file could not be read
+     * @throws IOException When the compiled file could not be written, or a column has an unsupported type
+     */
+    public static long compile(Connection connection, File source, File target) throws SQLException, IOException
+    {
+        long sourceLength = source.length();
+        long sourceLastModified = source.lastModified();
+        long sourceChecksum = CompiledOperationStream.checksum(source);
+        String path = source.getAbsolutePath();
+        List<String> columnNames = new ArrayList<>();
+        List<Byte> columnTypes = new ArrayList<>();
+        long rowCount;
+        try (Statement stmt = connection.createStatement()) {
+            try (ResultSet rs = stmt.executeQuery(format("SELECT * FROM read_parquet('%s') LIMIT 0;", path))) {
+                ResultSetMetaData metaData = rs.getMetaData();
+                for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                    columnNames.add(metaData.getColumnName(i));
+                    columnTypes.add(columnType(metaData.getColumnTypeName(i), metaData.getColumnName(i), source));
+                }
+            }
+            try (ResultSet rs = stmt.executeQuery(format("SELECT count(*) FROM read_parquet('%s');", path))) {
+                rs.next();
+                rowCount = rs.getLong(1);
+            }
+        }
+
+        List<String> selectList = new ArrayList<>();
+        byte[][] encodedColumnNames = new byte[columnNames.size()][];
+        int headerLength = 4 + 4 + 8 * 5 + 4;
+        for (int i = 0; i < columnNames.size(); i++) {
+            String quotedName = "\"" + columnNames.get(i).replace("\"", "\"\"") + "\"";
+            selectList.add(columnTypes.get(i) == CompiledOperationStream.TYPE_TIMESTAMP ? "epoch_us(" + quotedName + ")" : quotedName);
+            encodedColumnNames[i] = columnNames.get(i).getBytes(StandardCharsets.UTF_8);
+            headerLength += 1 + 4 + encodedColumnNames[i].length;
+        }
+        int columnCount = columnNames.size();
+        long valuesOffset = CompiledOperationStream.align(headerLength);
+        long nullBitmapLength = CompiledOperationStream.nullBitmapLength(rowCount);
+        long nullsOffset = valuesOffset + columnCount * rowCount * 8;
+        long stringsOffset = nullsOffset + columnCount * nullBitmapLength;
+
+        File partialTarget = new File(target.getParentFile(), target.getName() + ".partial");
+        try (RandomAccessFile file = new RandomAccessFile(partialTarget, "rw");
+             FileChannel channel = file.getChannel()) {
+            channel.truncate(0);
+            ColumnWriter[] values = new ColumnWriter[columnCount];
+            ColumnWriter[] nulls = new ColumnWriter[columnCount];
+            long[] nullWords = new long[columnCount];
+            for (int i = 0; i < columnCount; i++) {
+                values[i] = new ColumnWriter(channel, valuesOffset + i * rowCount * 8);
+                nulls[i] = new ColumnWriter(channel, nullsOffset + i * nullBitmapLength);
+            }
+            StringWriter strings = new StringWriter(channel, stringsOffset);
+            long rowIndex = 0;
+            try (Statement stmt = connection.createStatement();
+                 ResultSet rs = stmt.executeQuery(format("SELECT %s FROM read_parquet('%s');", String.join(", ", selectList), path))) {
+                while (rs.next()) {
+                    if (rowIndex == rowCount) {
+                        throw new IOException(format("Parquet file changed while compiling: %s", path));
+                    }
+                    for (int i = 0; i < columnCount; i++) {
+                        long value;
+                        boolean isNull;
+                        if (columnTypes.get(i) == CompiledOperationStream.TYPE_STRING) {
+                            String string = rs.getString(i + 1);
+                            isNull = string == null;
+                            value = isNull ? 0 : strings.write(string);
+                        }
+                        else {
+                            value = rs.getLong(i + 1);
+                            isNull = rs.wasNull();
+                        }
+                        values[i].putLong(value);
+                        if (isNull) {
+                            nullWords[i] |= 1L << (rowIndex & 63);
+                        }
+                        if ((rowIndex & 63) == 63) {
+                            nulls[i].putLong(nullWords[i]);
+                            nullWords[i] = 0;
+                        }
+                    }
+                    rowIndex++;
+                }
+            }
+            if (rowIndex != rowCount) {
+                throw new IOException(format("Parquet file changed while compiling: %s", path));
+            }
+            for (int i = 0; i < columnCount; i++) {
+                if ((rowCount & 63) != 0) {
+                    nulls[i].putLong(nullWords[i]);
+                }
+                values[i].flush();
+                nulls[i].flush();
+            }
+            strings.flush();
+
+            ByteBuffer header = ByteBuffer.allocate((int) valuesOffset).order(ByteOrder.LITTLE_ENDIAN);
+            header.putInt(CompiledOperationStream.MAGIC);
+            header.putInt(CompiledOperationStream.VERSION);
+            header.putLong(sourceLength);
+            header.putLong(sourceLastModified);
+            header.putLong(sourceChecksum);
+            header.putLong(rowCount);
+            header.putLong(strings.length());
+            header.putInt(columnCount);
+            for (int i = 0; i < columnCount; i++) {
+                header.put(columnTypes.get(i));
+                header.putInt(encodedColumnNames[i].length);
+                header.put(encodedColumnNames[i]);
+            }
+            header.clear();
+            writeFully(channel, header, 0);
+            channel.force(false);
+        }
+        catch (SQLException | IOException | RuntimeException e) {
+            Files.deleteIfExists(partialTarget.toPath());
+            throw e;
+        }
+        Files.move(partialTarget.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return rowCount;
+    }
+
+    private static byte columnType(String typeName, String columnName, File source) throws IOException
+    {
+        switch (typeName) {
+            case "BIGINT":
+            case "INTEGER":
+            case "SMALLINT":
+            case "TINYINT":
+                return CompiledOperationStream.TYPE_LONG;
+            case "TIMESTAMP":
+                return CompiledOperationStream.TYPE_TIMESTAMP;
+            case "VARCHAR":
+                return CompiledOperationStream.TYPE_STRING;
+            default:
+                throw new IOException(format("Column %s of type %s can not be compiled: %s", columnName, typeName, source.getAbsolutePath()));
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException
+    {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+
+    /**
+     * Buffers the values of a column and writes them to consecutive positions of the file
+     */
+    private static class ColumnWriter {
+
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_LENGTH).order(ByteOrder.LITTLE_ENDIAN);
+        private long position;
+
+        private ColumnWriter(FileChannel channel, long position)
+        {
+            this.channel = channel;
+            this.position = position;
+        }
+
+        private void putLong(long value) throws IOException
+        {
+            if (buffer.remaining() < 8) {
+                flush();
+            }
+            buffer.putLong(value);
+        }
+
+        private void put(byte[] bytes) throws IOException
+        {
+            int offset = 0;
+            while (offset < bytes.length) {
+                if (!buffer.hasRemaining()) {
+                    flush();
+                }
+                int length = Math.min(buffer.remaining(), bytes.length - offset);
+                buffer.put(bytes, offset, length);
+                offset += length;
+            }
+        }
+
+        private void flush() throws IOException
+        {
+            buffer.flip();
+            int length = buffer.remaining();
+            writeFully(channel, buffer, position);
+            position += length;
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Appends strings to the string section, storing each distinct short string once
+     */
+    private static class StringWriter {
+
+        private final ColumnWriter writer;
+        private final long sectionOffset;
+        private final Map<String, Long> dictionary = new HashMap<>();
+        private long length = 0;
+
+        private StringWriter(FileChannel channel, long sectionOffset)
+        {
+            this.writer = new ColumnWriter(channel, sectionOffset);
+            this.sectionOffset = sectionOffset;
+        }
+
+        /**
+         * @return Offset of the string in the string section
+         */
+        private long write(String string) throws IOException
+        {
+            boolean inDictionary = string.length() <= MAX_DICTIONARY_STRING_LENGTH;
+            if (inDictionary) {
+                Long offset = dictionary.get(string);
+                if (offset != null) {
+                    return offset;
+                }
+            }
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            long recordLength = 4 + bytes.length;
+            if (recordLength > CompiledOperationStream.REGION_LENGTH) {
+                throw new IOException(format("String of %s bytes is too long to compile", bytes.length));
+            }
+            // strings do not cross mapped regions, start the string in the next region if it would
+            long position = sectionOffset + length;
+            long positionInRegion = position % CompiledOperationStream.REGION_LENGTH;
+            if (positionInRegion + recordLength > CompiledOperationStream.REGION_LENGTH) {
+                long padding = CompiledOperationStream.REGION_LENGTH - positionInRegion;
+                writer.put(new byte[(int) padding]);
+                length += padding;
+            }
+            long offset = length;
+            ByteBuffer lengthBytes = ByteBuffer.allocate(4).order(ByteOrder.LITTLE_ENDIAN).putInt(bytes.length);
+            writer.put(lengthBytes.array());
+            writer.put(bytes);
+            length += recordLength;
+            if (inDictionary && dictionary.size() < MAX_DICTIONARY_SIZE) {
+                dictionary.put(string, offset);
+            }
+            return offset;
+        }
+
+        private long length()
+        {
+            return length;
+        }
+
+        private void flush() throws IOException
+        {
+            writer.flush();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package org.ldbcouncil.snb.driver.csv;
+
+/**
+ * CompiledOperationStreams.java
+ *
+ * Directory of operation streams compiled from parquet files. The parquet file dir/name.parquet is compiled to
+ * name.parquet.ops in a subdirectory of the same name as dir, e.g., inserts/Comment.parquet.ops.
+ * A compiled stream is only used while it matches its source file, otherwise the source file is read with DuckDb.
+ */
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.ldbcouncil.snb.driver.WorkloadException;
+
+import static java.lang.String.format;
+
+public class CompiledOperationStreams implements Closeable {
+
+    private static final Logger LOGGER = LogManager.getLogger(CompiledOperationStreams.class);
+    public static final String COMPILED_FILE_SUFFIX = ".ops";
+
+    private final File directory;
+    // opened streams by absolute source path, empty when there is no valid compiled stream
+    private final Map<String, Optional<CompiledOperationStream>> streams = new ConcurrentHashMap<>();
+
+    public CompiledOperationStreams(File directory)
+    {
+        this.directory = directory;
+    }
+
+    public File directory()
+    {
+        return directory;
+    }
+
+    /**
+     * @return Compiled file of a parquet file
+     */
+    public File compiledFile(File source)
+    {
+        File sourceDirectory = source.getAbsoluteFile().getParentFile();
+        return new File(new File(directory, sourceDirectory.getName()), source.getName() + COMPILED_FILE_SUFFIX);
+    }
+
+    /**
+     * Get the compiled stream of a parquet file, mapping it on first use
+     * @param sourcePath Path of the parquet file
+     * @return The compiled stream, or null if it was not compiled or does not match the parquet file
+     */
+    public CompiledOperationStream streamFor(String sourcePath)
+    {
+        File source = new File(sourcePath).getAbsoluteFile();
+        return streams.computeIfAbsent(source.getPath(), path -> Optional.ofNullable(open(source))).orElse(null);
+    }
+
+    private CompiledOperationStream open(File source)
+    {
+        File compiledFile = compiledFile(source);
+        if (!compiledFile.exists()) {
+            return null;
+        }
+        CompiledOperationStream stream = null;
+        try {
+            stream = CompiledOperationStream.open(compiledFile);
+            if (stream.isCompiledFrom(source)) {
+                return stream;
+            }
+            LOGGER.warn(format("Compiled operation stream %s is out of date, reading %s instead",
+                compiledFile.getAbsolutePath(), source.getAbsolutePath()));
+        }
+        catch (IOException e) {
+            LOGGER.warn(format("Compiled operation stream %s could not be read, reading %s instead: %s",
+                compiledFile.getAbsolutePath(), source.getAbsolutePath(), e.getMessage()));
+        }
+        if (stream != null) {
+            stream.close();
+        }
+        return null;
+    }
+
+    /**
+     * Compile a parquet file, unless its compiled stream already matches it
+     * @param db DuckDb instance to read the parquet file with
+     * @param source Parquet file to compile
+     * @return Whether the file was compiled
+     * @throws WorkloadException When the file could not be compiled
+     */
+    public boolean compile(DuckDbConnectionState db, File source) throws WorkloadException
+    {
+        File compiledFile = compiledFile(source);
+        if (compiledFile.exists()) {
+            try (CompiledOperationStream stream = CompiledOperationStream.open(compiledFile)) {
+                if (stream.isCompiledFrom(source)) {
+                    return false;
+                }
+            }
+            catch (IOException e) {
+                // compiled again below
+            }
+        }
+        File compiledDirectory = compiledFile.getParentFile();
+        if (!compiledDirectory.exists() && !compiledDirectory.mkdirs()) {
+            throw new WorkloadException(format("Could not create directory: %s", compiledDirectory.getAbsolutePath()));
+        }
+        try {
+            CompiledOperationStreamWriter.compile(db.getConnection(), source, compiledFile);
+        }
+        catch (SQLException | IOException e) {
+            throw new WorkloadException(format("Error compiling %s to %s", source.getAbsolutePath(), compiledFile.getAbsolutePath()), e);
+        }
+        return true;
+    }
+
+    /**
+     * Releases the opened streams. They are not unmapped here, as iterators of loader threads that are
+     * still shutting down may read them, but once no longer referenced.
+     */
+    @Override
+    public void close()
+    {
+        streams.clear();
+    }
+}
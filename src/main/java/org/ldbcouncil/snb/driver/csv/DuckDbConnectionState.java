@@ -8,14 +8,34 @@ import java.sql.Connection;
 import java.sql.DriverManager;
 import java.sql.SQLException;
 import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+
+import org.duckdb.DuckDBConnection;
+import org.duckdb.DuckDBDriver;
 
 
 public class DuckDbConnectionState implements Closeable {
 
     private final Connection connection;
+    private final List<Connection> duplicateConnections = new ArrayList<>();
     
     public DuckDbConnectionState() throws SQLException {
-        connection = DriverManager.getConnection("jdbc:duckdb:");
+        this(false);
+    }
+
+    /**
+     * @param streamResults When true, query results are fetched from DuckDB incrementally as the ResultSet is
+     * iterated, rather than being fully materialized when the query is executed. A streaming result is
+     * invalidated by the next query on the same connection, use newConnection() for each concurrently open result.
+     */
+    public DuckDbConnectionState(boolean streamResults) throws SQLException {
+        Properties properties = new Properties();
+        if (streamResults) {
+            properties.setProperty(DuckDBDriver.JDBC_STREAM_RESULTS, String.valueOf(true));
+        }
+        connection = DriverManager.getConnection("jdbc:duckdb:", properties);
     }
 
     /**
@@ -27,16 +47,44 @@ public class DuckDbConnectionState implements Closeable {
     }
 
     /**
-     * Close connection 
+     * Create an additional connection to the same DuckDb instance, with the same settings.
+     * The connection is closed when this connection state is closed.
+     * @return Connection object.
+     */
+    public synchronized Connection newConnection() throws SQLException {
+        Connection duplicate = ((DuckDBConnection) connection).duplicate();
+        duplicateConnections.add(duplicate);
+        return duplicate;
+    }
+
+    /**
+     * Close connection and the connections created with newConnection(). Every connection is closed even when
+     * closing one fails, failures after the first are added to it as suppressed exceptions.
      */
     @Override
-    public void close() {
+    public synchronized void close() {
+        SQLException failure = null;
+        for (Connection duplicate : duplicateConnections) {
+            failure = closeConnection(duplicate, failure);
+        }
+        duplicateConnections.clear();
         if (connection != null) {
-            try {
-                connection.close();
-            } catch (SQLException e) {
-                throw new RuntimeException(e);
+            failure = closeConnection(connection, failure);
+        }
+        if (failure != null) {
+            throw new RuntimeException(failure);
+        }
+    }
+
+    private static SQLException closeConnection(Connection toClose, SQLException failure) {
+        try {
+            toClose.close();
+        } catch (SQLException e) {
+            if (failure == null) {
+                return e;
             }
+            failure.addSuppressed(e);
         }
+        return failure;
     }
 }
@@ -4,6 +4,8 @@ package org.ldbcouncil.snb.driver.csv;
  * ParquetLoader.java
  * 
  * Class to read Parquet files for operation streams.
+ * When created with compiled operation streams, files with a valid compiled stream are read from the compiled
+ * stream instead of with DuckDb.
  */
 import java.sql.Connection;
 import java.sql.ResultSet;
@@ -12,6 +14,8 @@ import java.sql.Statement;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.ldbcouncil.snb.driver.Operation;
 import org.ldbcouncil.snb.driver.WorkloadException;
@@ -21,39 +25,129 @@ import org.ldbcouncil.snb.driver.util.Tuple2;
 import static java.lang.String.format;
 
 public class ParquetLoader {
-    
+
+    // files with up to this many rows are decoded once and replayed by repeating operation streams
+    public static final int DEFAULT_REPLAY_CACHE_SIZE = 10_000;
+
     private final DuckDbConnectionState db;
+    // when set, queries run on this connection instead of the shared connection of db
+    private final Connection ownConnection;
+    // when set, compiled streams are read instead of the parquet files they were compiled from
+    private final CompiledOperationStreams compiledStreams;
+    // path of the parquet file of each view, shared with the loaders created by withNewConnection()
+    private final Map<String, String> viewPaths;
 
     public ParquetLoader(DuckDbConnectionState db) throws SQLException{
+        this(db, (CompiledOperationStreams) null);
+    }
+
+    /**
+     * @param db DuckDb instance to read the parquet files without a valid compiled stream with
+     * @param compiledStreams Compiled streams to read instead of the parquet files, or null
+     */
+    public ParquetLoader(DuckDbConnectionState db, CompiledOperationStreams compiledStreams) {
+        this(db, null, compiledStreams, new ConcurrentHashMap<>());
+    }
+
+    private ParquetLoader(
+        DuckDbConnectionState db,
+        Connection ownConnection,
+        CompiledOperationStreams compiledStreams,
+        Map<String, String> viewPaths
+    ) {
         this.db = db;
+        this.ownConnection = ownConnection;
+        this.compiledStreams = compiledStreams;
+        this.viewPaths = viewPaths;
+    }
+
+    /**
+     * Create a loader on the same DuckDb instance, and so with the same views, that executes its queries on
+     * a connection of its own. Used to load batches from several threads at the same time.
+     * @return ParquetLoader with its own connection
+     * @throws SQLException When the connection could not be created
+     */
+    public ParquetLoader withNewConnection() throws SQLException {
+        return new ParquetLoader(db, db.newConnection(), compiledStreams, viewPaths);
     }
 
+    private Connection connection() {
+        return (ownConnection != null) ? ownConnection : db.getConnection();
+    }
+
+    /**
+     * @return The valid compiled stream of a parquet file, or null if it should be read with DuckDb
+     */
+    private CompiledOperationStream compiledStream(String path) {
+        return (compiledStreams != null && path != null) ? compiledStreams.streamFor(path) : null;
+    }
+
+    /**
+     * Stream the operations in a parquet file, decoding them from the open cursor as the iterator advances
+     * rather than loading the whole file up front.
+     * @param path Path of the parquet file
+     * @param decoder Decoder used to create an operation from each row
+     * @return Iterator with event operations.
+     * @throws WorkloadException
+     * @throws SQLException
+     */
     public Iterator<Operation> loadOperationStream(String path, EventStreamReader.EventDecoder<Operation> decoder) throws WorkloadException, SQLException
     {
-        Statement stmt = null;
-        List<Operation> results = new ArrayList<>();
+        CompiledOperationStream compiledStream = compiledStream(path);
+        if (compiledStream != null) {
+            return compiledStream.operationStream(decoder, false);
+        }
+        return new ResultSetOperationIterator(connection(), selectAllQuery(path), decoder, false);
+    }
+
+    /**
+     * Stream the operations in a parquet file, starting again from the first row once the last row has been read.
+     * Each stream uses its own connection, so several can be open on the same DuckDb instance at the same time.
+     * @param path Path of the parquet file
+     * @param decoder Decoder used to create an operation from each row
+     * @return Iterator with event operations, which only ends if the file is empty.
+     * @throws WorkloadException When a connection for the stream could not be created
+     */
+    public Iterator<Operation> loadRepeatingOperationStream(String path, EventStreamReader.EventDecoder<Operation> decoder) throws WorkloadException
+    {
+        CompiledOperationStream compiledStream = compiledStream(path);
+        if (compiledStream != null) {
+            return compiledStream.operationStream(decoder, true);
+        }
+        Connection connection;
         try {
-            Connection connection = db.getConnection();
-            stmt = connection.createStatement();
-            ResultSet rs = stmt.executeQuery("SELECT * FROM read_parquet('" + path + "');");
-            while (rs.next()) {
-                Operation obj = decoder.decodeEvent(rs);
-                results.add(obj);
-            }
-            rs.close();
+            connection = db.newConnection();
         }
         catch(SQLException e) {
-            e.printStackTrace();
-            throw new WorkloadException(format("Error loading substitution parameters into temporary database: %s", path), e);
+            throw new WorkloadException(format("Error creating connection to stream substitution parameters: %s", path), e);
         }
-        finally {
-            if (stmt != null) {
-                stmt.close();
-            }
+        return new ResultSetOperationIterator(connection, selectAllQuery(path), decoder, true, DEFAULT_REPLAY_CACHE_SIZE);
+    }
+
+    /**
+     * Stream the operations returned by a query on the views of the loader, decoding them from the open cursor
+     * as the iterator advances. Each stream uses its own connection.
+     * @param query Query returning the rows to decode
+     * @param decoder Decoder used to create an operation from each row
+     * @return Iterator with event operations.
+     * @throws WorkloadException When a connection for the stream could not be created
+     */
+    public Iterator<Operation> loadQueryOperationStream(String query, EventStreamReader.EventDecoder<Operation> decoder) throws WorkloadException
+    {
+        Connection connection;
+        try {
+            connection = db.newConnection();
         }
-        return results.iterator();
+        catch(SQLException e) {
+            throw new WorkloadException(format("Error creating connection to stream query: %s", query), e);
+        }
+        return new ResultSetOperationIterator(connection, query, decoder, false);
     }
 
+    private static String selectAllQuery(String path)
+    {
+        return "SELECT * FROM read_parquet('" + path + "');";
+    }
 
     /**
      * Fetch a batch from the parquet file
@@ -71,14 +165,19 @@ public class ParquetLoader {
         long batchSize
     ) throws WorkloadException, SQLException
     {
+        CompiledOperationStream compiledStream = compiledStream(viewPaths.get(viewName));
+        if (compiledStream != null) {
+            return compiledStream.operationStreamBatch(decoder, compiledColumnIndex(compiledStream, batchColumnName, viewName), offset, offset + batchSize);
+        }
         Statement stmt = null;
         List<Operation> results = new ArrayList<>();
         try {
-            Connection connection = db.getConnection();
+            Connection connection = connection();
             stmt = connection.createStatement();
             ResultSet rs = stmt.executeQuery(format("SELECT * FROM %s WHERE %s >= %d AND %s < %d;", viewName, batchColumnName, offset, batchColumnName, offset + batchSize));
+            ResultSetEventRow row = new ResultSetEventRow(rs);
             while (rs.next()) {
-                Operation obj = decoder.decodeEvent(rs);
+                Operation obj = decoder.decodeEvent(row);
                 results.add(obj);
             }
             rs.close();
@@ -96,17 +195,53 @@ public class ParquetLoader {
     }
 
 
+    /**
+     * Fetch a batch from the parquet file, like getOperationStreamBatch(), but when the file has a valid compiled
+     * stream the operations are decoded from it as the iterator advances rather than when the batch is fetched.
+     * @return Iterator with event operations.
+     * @throws WorkloadException
+     * @throws SQLException
+     */
+    public Iterator<Operation> getOperationStreamBatchOnDemand(
+        EventStreamReader.EventDecoder<Operation> decoder,
+        String viewName,
+        String batchColumnName,
+        long offset,
+        long batchSize
+    ) throws WorkloadException, SQLException
+    {
+        CompiledOperationStream compiledStream = compiledStream(viewPaths.get(viewName));
+        if (compiledStream != null) {
+            return compiledStream.operationStreamBatchOnDemand(decoder, compiledColumnIndex(compiledStream, batchColumnName, viewName), offset, offset + batchSize);
+        }
+        return getOperationStreamBatch(decoder, viewName, batchColumnName, offset, batchSize);
+    }
+
+    private static int compiledColumnIndex(CompiledOperationStream compiledStream, String columnName, String viewName) throws WorkloadException
+    {
+        int columnIndex = compiledStream.columnIndex(columnName);
+        if (columnIndex == -1) {
+            throw new WorkloadException(format("Column %s not found in compiled stream of view: %s", columnName, viewName));
+        }
+        return columnIndex;
+    }
+
     /**
      * Creates a view on a parquet file using DuckDBs read_parquet function.
      * This creates a view without loading all data into memory.
+     * Parquet files with a valid compiled stream are not opened, the compiled stream is read instead.
      * @throws WorkloadException When a view could not be created
      * @throws SQLException When the statement could not be closed properly.
      */
     public void createViewOnParquetFile(String path, String viewName) throws WorkloadException, SQLException
     {
+        viewPaths.put(viewName, path);
+        if (compiledStream(path) != null) {
+            return;
+        }
         Statement stmt = null;
         try {
-            Connection connection = db.getConnection();
+            Connection connection = connection();
             stmt = connection.createStatement();
             stmt.execute("CREATE VIEW " + viewName + " AS SELECT * FROM read_parquet('" + path + "');");
         }
@@ -129,11 +264,16 @@ public class ParquetLoader {
      */
     public Tuple2<Long, Long> getBoundaryValues(String batchColumnName, String viewName)  throws WorkloadException, SQLException
     {
+        CompiledOperationStream compiledStream = compiledStream(viewPaths.get(viewName));
+        if (compiledStream != null) {
+            long[] boundaries = compiledStream.boundaryValues(compiledColumnIndex(compiledStream, batchColumnName, viewName));
+            return new Tuple2<>(boundaries[0], boundaries[1]);
+        }
         Statement stmt = null;
         long startValue = -1;
         long endValue = -1;
         try {
-            Connection connection = db.getConnection();
+            Connection connection = connection();
             stmt = connection.createStatement();
             ResultSet rsStart = stmt.executeQuery("SELECT " + batchColumnName + " FROM " + viewName + " ORDER BY " + batchColumnName + " ASC LIMIT 1 ");
             while (rsStart.next()) {
@@ -158,6 +298,41 @@ public class ParquetLoader {
         return new Tuple2<>(startValue, endValue);
     }
 
+    /**
+     * Get a single value, e.g., a count or a boundary value. Filters on the columns of a view are pushed down to
+     * the parquet file, so row groups whose statistics rule them out are not read.
+     * @param query Query returning the value in the first column of its first row
+     * @return The value, or -1 if the query returned no rows or a null value
+     * @throws WorkloadException
+     * @throws SQLException
+     */
+    public long getLongValue(String query) throws WorkloadException, SQLException
+    {
+        Statement stmt = null;
+        long value = -1;
+        try {
+            Connection connection = connection();
+            stmt = connection.createStatement();
+            ResultSet rs = stmt.executeQuery(query);
+            if (rs.next()) {
+                value = rs.getLong(1);
+                if (rs.wasNull()) {
+                    value = -1;
+                }
+            }
+            rs.close();
+        }
+        catch(SQLException e) {
+            throw new WorkloadException(format("Error executing query on temporary database: %s", query), e);
+        }
+        finally {
+            if (stmt != null) {
+                stmt.close();
+            }
+        }
+        return value;
+    }
+
 
 
 }
@@ -0,0 +1,87 @@
+package org.ldbcouncil.snb.driver.csv;
+
+/**
+ * ResultSetEventRow.java
+ *
+ * Reads the current row of a java.sql.ResultSet for the event decoders.
+ * Timestamps are read as the epoch microseconds DuckDb stores them as, see getTimestampAsMilli().
+ */
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.ZoneOffset;
+
+import org.ldbcouncil.snb.driver.generator.EventStreamReader;
+
+import static java.lang.String.format;
+
+public class ResultSetEventRow implements EventStreamReader.EventRow {
+
+    private final ResultSet rs;
+    // whether each column is a timestamp column stored as epoch microseconds, read on first use
+    private Boolean[] microsecondTimestamps;
+
+    public ResultSetEventRow(ResultSet rs)
+    {
+        this.rs = rs;
+    }
+
+    @Override
+    public long getLong(int columnIndex) throws SQLException
+    {
+        return rs.getLong(columnIndex);
+    }
+
+    @Override
+    public int getInt(int columnIndex) throws SQLException
+    {
+        return rs.getInt(columnIndex);
+    }
+
+    @Override
+    public String getString(int columnIndex) throws SQLException
+    {
+        return rs.getString(columnIndex);
+    }
+
+    @Override
+    public Timestamp getTimestamp(int columnIndex) throws SQLException
+    {
+        return rs.getTimestamp(columnIndex);
+    }
+
+    /**
+     * DuckDb returns the epoch microseconds of TIMESTAMP columns as their long value, read from the column
+     * vector without creating objects. Timestamps of other precisions are converted from their local date time.
+     */
+    @Override
+    public long getTimestampAsMilli(int columnIndex) throws SQLException
+    {
+        if (isMicrosecondTimestamp(columnIndex)) {
+            return Math.floorDiv(rs.getLong(columnIndex), 1000L);
+        }
+        Timestamp timestamp = rs.getTimestamp(columnIndex);
+        return (timestamp == null) ? 0 : timestamp.toLocalDateTime().toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+
+    private boolean isMicrosecondTimestamp(int columnIndex) throws SQLException
+    {
+        if (microsecondTimestamps == null) {
+            microsecondTimestamps = new Boolean[rs.getMetaData().getColumnCount()];
+        }
+        if (columnIndex < 1 || columnIndex > microsecondTimestamps.length) {
+            throw new SQLException(format("Column index %s out of range", columnIndex));
+        }
+        if (microsecondTimestamps[columnIndex - 1] == null) {
+            ResultSetMetaData metaData = rs.getMetaData();
+            String typeName = metaData.getColumnTypeName(columnIndex);
+            if (!typeName.startsWith("TIMESTAMP")) {
+                throw new SQLException(format("Column %s of type %s can not be read as a timestamp",
+                    metaData.getColumnName(columnIndex), typeName));
+            }
+            microsecondTimestamps[columnIndex - 1] = typeName.equals("TIMESTAMP") || typeName.equals("TIMESTAMP WITH TIME ZONE");
+        }
+        return microsecondTimestamps[columnIndex - 1];
+    }
+}
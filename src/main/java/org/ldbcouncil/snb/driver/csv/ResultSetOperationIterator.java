@@ -0,0 +1,200 @@
+package org.ldbcouncil.snb.driver.csv;
+
+/**
+ * ResultSetOperationIterator.java
+ *
+ * Iterator over the rows of a query, decoding one operation at a time from the open cursor.
+ * Only the current row is held on heap, so memory use does not depend on the size of the queried file.
+ * In restartable mode the query is executed again when the cursor is exhausted, so the stream never ends
+ * (unless the query returns no rows), which replaces wrapping a fully loaded stream in a repeating generator.
+ * If all rows fit in the replay cache they are decoded once and later passes replay the cached operations,
+ * avoiding re-reading and re-decoding small files.
+ */
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.WorkloadException;
+import org.ldbcouncil.snb.driver.generator.EventStreamReader;
+import org.ldbcouncil.snb.driver.generator.GeneratorException;
+
+import static java.lang.String.format;
+
+public class ResultSetOperationIterator implements Iterator<Operation>, Closeable {
+
+    private final Connection connection;
+    private final String query;
+    private final EventStreamReader.EventDecoder<Operation> decoder;
+    private final boolean restartable;
+    private final int replayCacheSize;
+    private List<Operation> replayCache;
+    private int replayIndex = -1;
+    private Statement stmt = null;
+    private ResultSet rs = null;
+    private ResultSetEventRow row = null;
+    private Operation nextOperation = null;
+    private long rowsReadInPass = 0;
+    private boolean exhausted = false;
+
+    /**
+     * @param connection Connection to execute the query on. When more than one iterator is open at a time,
+     * each should use its own connection, as a streaming result is invalidated by the next query on its connection
+     * @param query Query returning the rows to decode
+     * @param decoder Decoder used to create an operation from the current row
+     * @param restartable Whether to execute the query again once all rows have been read
+     */
+    public ResultSetOperationIterator(
+        Connection connection,
+        String query,
+        EventStreamReader.EventDecoder<Operation> decoder,
+        boolean restartable
+    )
+    {
+        this(connection, query, decoder, restartable, 0);
+    }
+
+    /**
+     * @param connection Connection to execute the query on. When more than one iterator is open at a time,
+     * each should use its own connection, as a streaming result is invalidated by the next query on its connection
+     * @param query Query returning the rows to decode
+     * @param decoder Decoder used to create an operation from the current row
+     * @param restartable Whether to execute the query again once all rows have been read
+     * @param replayCacheSize In restartable mode, the maximum number of rows for which decoded operations are kept
+     * and replayed instead of executing the query again
+     */
+    public ResultSetOperationIterator(
+        Connection connection,
+        String query,
+        EventStreamReader.EventDecoder<Operation> decoder,
+        boolean restartable,
+        int replayCacheSize
+    )
+    {
+        this.connection = connection;
+        this.query = query;
+        this.decoder = decoder;
+        this.restartable = restartable;
+        this.replayCacheSize = replayCacheSize;
+        this.replayCache = (restartable && replayCacheSize > 0) ? new ArrayList<>() : null;
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        if (nextOperation == null && !exhausted) {
+            nextOperation = fetchNext();
+        }
+        return nextOperation != null;
+    }
+
+    @Override
+    public Operation next()
+    {
+        if (!hasNext()) {
+            throw new NoSuchElementException(format("No more rows for query: %s", query));
+        }
+        Operation operation = nextOperation;
+        nextOperation = null;
+        return operation;
+    }
+
+    @Override
+    public void remove()
+    {
+        throw new UnsupportedOperationException(format("%s does not support remove()", getClass().getSimpleName()));
+    }
+
+    /**
+     * Closes the open cursor. Does not close the connection.
+     */
+    @Override
+    public void close()
+    {
+        exhausted = true;
+        nextOperation = null;
+        closeCursor();
+    }
+
+    private Operation fetchNext()
+    {
+        if (replayIndex >= 0) {
+            // replaying cached operations, the query returned no more rows than fit in the cache
+            Operation operation = replayCache.get(replayIndex);
+            replayIndex = (replayIndex + 1) % replayCache.size();
+            return operation;
+        }
+        try {
+            if (rs == null) {
+                openCursor();
+            }
+            if (!rs.next()) {
+                closeCursor();
+                if (!restartable || rowsReadInPass == 0) {
+                    exhausted = true;
+                    return null;
+                }
+                if (replayCache != null) {
+                    replayIndex = 0;
+                    return fetchNext();
+                }
+                rowsReadInPass = 0;
+                openCursor();
+                if (!rs.next()) {
+                    closeCursor();
+                    exhausted = true;
+                    return null;
+                }
+            }
+            rowsReadInPass++;
+            Operation operation = decoder.decodeEvent(row);
+            if (replayCache != null) {
+                if (rowsReadInPass <= replayCacheSize) {
+                    replayCache.add(operation);
+                }
+                else {
+                    // too many rows to cache, query is executed again on every pass
+                    replayCache = null;
+                }
+            }
+            return operation;
+        }
+        catch (SQLException | WorkloadException e) {
+            close();
+            throw new GeneratorException(format("Error reading operation stream with query: %s", query), e);
+        }
+    }
+
+    private void openCursor() throws SQLException
+    {
+        stmt = connection.createStatement();
+        rs = stmt.executeQuery(query);
+        row = new ResultSetEventRow(rs);
+    }
+
+    private void closeCursor()
+    {
+        try {
+            if (rs != null) {
+                rs.close();
+            }
+            if (stmt != null) {
+                stmt.close();
+            }
+        }
+        catch (SQLException e) {
+            throw new GeneratorException(format("Error closing cursor for query: %s", query), e);
+        }
+        finally {
+            rs = null;
+            row = null;
+            stmt = null;
+        }
+    }
+}
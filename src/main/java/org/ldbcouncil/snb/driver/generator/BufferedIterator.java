@@ -25,12 +25,18 @@ public class BufferedIterator implements Iterator<Operation> {
     public void init()
     {
         currentOperationStream = operationStreamBuffer.next();
+        if (currentOperationStream == null)
+        {
+            currentOperationStream = Collections.emptyIterator();
+            isEmpty = true;
+        }
     }
 
     @Override
     public boolean hasNext() 
     {
-        if(!currentOperationStream.hasNext() && !isEmpty)
+        // Batches without operations do not end the stream, only the end of the buffer does
+        while(!currentOperationStream.hasNext() && !isEmpty)
         {
             currentOperationStream = operationStreamBuffer.next();
             if (currentOperationStream == null)
@@ -38,10 +44,6 @@ public class BufferedIterator implements Iterator<Operation> {
                 currentOperationStream = Collections.emptyIterator();
                 isEmpty = true;
             }
-            if (!currentOperationStream.hasNext())
-            {
-                isEmpty = true;
-            }
         }
         return currentOperationStream.hasNext();
     }
@@ -1,13 +1,36 @@
 package org.ldbcouncil.snb.driver.generator;
 
-import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
 import org.ldbcouncil.snb.driver.WorkloadException;
 
 public class EventStreamReader<BASE_EVENT_TYPE>
 {
     public interface EventDecoder<BASE_EVENT_TYPE>
     {
-        BASE_EVENT_TYPE decodeEvent( ResultSet rs )
+        BASE_EVENT_TYPE decodeEvent( EventRow rs )
                 throws WorkloadException;
     }
+
+    /**
+     * Current row of an operation stream, read by column index starting at 1, with the conversions of a
+     * java.sql.ResultSet. Rows are read from DuckDb result sets or from compiled operation streams.
+     */
+    public interface EventRow
+    {
+        long getLong( int columnIndex ) throws SQLException;
+
+        int getInt( int columnIndex ) throws SQLException;
+
+        String getString( int columnIndex ) throws SQLException;
+
+        Timestamp getTimestamp( int columnIndex ) throws SQLException;
+
+        /**
+         * @return Value of a timestamp column as milliseconds since the epoch, reading the timestamp as UTC,
+         * or 0 if it is null
+         * @throws SQLException When the column is not a timestamp column
+         */
+        long getTimestampAsMilli( int columnIndex ) throws SQLException;
+    }
 }
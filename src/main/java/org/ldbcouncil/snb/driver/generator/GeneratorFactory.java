@@ -760,6 +760,22 @@ public class GeneratorFactory
         return new TimeMappingOperationGenerator( generator, newStartTimeAsMilli, compressionRatio );
     }
 
+    /**
+     * As timeOffsetAndCompress(generator, newStartTimeAsMilli, compressionRatio), but with nanosecond resolution
+     * compressed start times are not rounded to the millisecond, see Operation.scheduledStartTimeAsNano()
+     *
+     * @param generator
+     * @param newStartTimeAsMilli
+     * @param compressionRatio
+     * @param nanoResolution
+     * @return
+     */
+    public Iterator<Operation> timeOffsetAndCompress( Iterator<Operation> generator, long newStartTimeAsMilli,
+            Double compressionRatio, boolean nanoResolution )
+    {
+        return new TimeMappingOperationGenerator( generator, newStartTimeAsMilli, compressionRatio, nanoResolution );
+    }
+
     /**
      * Prefix every generated item with prefix string
      *
@@ -1,16 +1,38 @@
 package org.ldbcouncil.snb.driver.generator;
 
-import java.util.Collections;
 import java.util.Iterator;
+import java.util.NoSuchElementException;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.TimeUnit;
 
 import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.runtime.metrics.ContinuousMetricManager;
+import org.ldbcouncil.snb.driver.runtime.metrics.ContinuousMetricSnapshot;
 
+import static java.lang.String.format;
 
+/**
+ * Hands out the batches a loader thread publishes to a blocking queue. The loader ends the stream by publishing
+ * END_OF_STREAM, or failure() when it could not load the stream, so waiting for a slow batch never ends the stream.
+ * Every wait for a batch that was not loaded yet is recorded as a stall. Not thread safe, intended to be consumed
+ * by one thread.
+ */
 public class OperationStreamBuffer implements Iterator<Iterator<Operation>>{
-    
+
+    // marks the end of the stream, compared by reference
+    public static final Iterator<Operation> END_OF_STREAM = new EmptyBatch();
+
+    private static final String METRIC_STALL = "Update Batch Stall";
+    private static final long HIGHEST_EXPECTED_STALL_AS_MILLI = TimeUnit.HOURS.toMillis( 1 );
+    private static final int STALL_SIGNIFICANT_DIGITS = 3;
+
     private final BlockingQueue<Iterator<Operation>> blockingQueue;
+    private final ContinuousMetricManager stallMetric = new ContinuousMetricManager(
+        METRIC_STALL,
+        TimeUnit.MILLISECONDS,
+        HIGHEST_EXPECTED_STALL_AS_MILLI,
+        STALL_SIGNIFICANT_DIGITS
+    );
 
     private boolean isEmpty = false;
 
@@ -21,33 +43,108 @@ public class OperationStreamBuffer implements Iterator<Iterator<Operation>>{
         this.blockingQueue = blockingQueue;
     }
 
+    /**
+     * @param cause Reason the loader could not load the stream
+     * @return Marker ending the stream, making the consumer throw a GeneratorException with the cause
+     */
+    public static Iterator<Operation> failure( Throwable cause )
+    {
+        return new LoaderFailure( cause );
+    }
+
+    /**
+     * Waits for the next batch as long as the loader takes to publish it
+     * @return The next batch, or null once the stream has ended
+     * @throws GeneratorException When the loader failed, or the consumer was interrupted while waiting
+     */
     @Override
     public Iterator<Operation> next()
     {
-        if (!isEmpty)
+        if (isEmpty)
+        {
+            return null;
+        }
+        Iterator<Operation> opStream = blockingQueue.poll();
+        if (opStream == null)
         {
-            Iterator<Operation> opStream = null;
+            long stallStartTimeAsNano = System.nanoTime();
             try {
-                opStream = blockingQueue.poll(2, TimeUnit.SECONDS);
+                opStream = blockingQueue.take();
             } catch (InterruptedException e) {
-                e.printStackTrace();
-            }
-            if (opStream == null)
-            {
+                Thread.currentThread().interrupt();
                 isEmpty = true;
-                return Collections.emptyIterator();
+                throw new GeneratorException("Interrupted while waiting for the next batch of the operation stream", e);
             }
-            return opStream;
+            stallMetric.addMeasurement( Math.min(
+                TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - stallStartTimeAsNano ),
+                HIGHEST_EXPECTED_STALL_AS_MILLI ) );
         }
-        else
+        if (opStream == END_OF_STREAM)
         {
+            isEmpty = true;
             return null;
         }
+        if (opStream instanceof LoaderFailure)
+        {
+            isEmpty = true;
+            throw new GeneratorException("Error loading the operation stream", ((LoaderFailure) opStream).cause);
+        }
+        return opStream;
     }
 
+    /**
+     * @return False once the end of the stream was reached, next() may still wait for a batch otherwise
+     */
     @Override
     public boolean hasNext()
     {
-        return !blockingQueue.isEmpty();
+        return !isEmpty;
+    }
+
+    public ContinuousMetricSnapshot stallSnapshot()
+    {
+        return stallMetric.snapshot();
+    }
+
+    public String stallSummary()
+    {
+        ContinuousMetricSnapshot stalls = stallSnapshot();
+        if ( 0 == stalls.count() )
+        {
+            return format( "%s: no stalls", METRIC_STALL );
+        }
+        return format( "%s (ms): stalls %s, mean %.1f, 50th %s, 90th %s, 99th %s, max %s",
+            METRIC_STALL,
+            stalls.count(),
+            stalls.mean(),
+            stalls.percentile50(),
+            stalls.percentile90(),
+            stalls.percentile99(),
+            stalls.max() );
+    }
+
+    private static class EmptyBatch implements Iterator<Operation> {
+
+        @Override
+        public boolean hasNext()
+        {
+            return false;
+        }
+
+        @Override
+        public Operation next()
+        {
+            throw new NoSuchElementException();
+        }
+    }
+
+    private static class LoaderFailure extends EmptyBatch {
+
+        private final Throwable cause;
+
+        private LoaderFailure( Throwable cause )
+        {
+            this.cause = cause;
+        }
     }
 }
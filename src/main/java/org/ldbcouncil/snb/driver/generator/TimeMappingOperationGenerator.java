@@ -4,24 +4,41 @@ import org.ldbcouncil.snb.driver.Operation;
 import org.ldbcouncil.snb.driver.util.Function1;
 
 import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
 
 public class TimeMappingOperationGenerator extends Generator<Operation>
 {
     private final Iterator<Operation> operations;
     private final long newStartTimeAsMilli;
     private final Double timeCompressionRatio;
+    private final boolean nanoResolution;
 
     private Function1<Long,Long,RuntimeException> timeOffsetAsMilliFun = null;
     private Function1<Long,Long,RuntimeException> startTimeAsMilliCompressionFun = null;
+    private Function1<Long,Long,RuntimeException> startTimeAsNanoCompressionFun = null;
 
     TimeMappingOperationGenerator(
             Iterator<Operation> operations,
             long newStartTimeAsMilli,
             Double timeCompressionRatio )
+    {
+        this( operations, newStartTimeAsMilli, timeCompressionRatio, false );
+    }
+
+    /**
+     * With nanosecond resolution compressed start times are not rounded to the millisecond, so operations that
+     * compression moves onto the same millisecond keep their spacing
+     */
+    TimeMappingOperationGenerator(
+            Iterator<Operation> operations,
+            long newStartTimeAsMilli,
+            Double timeCompressionRatio,
+            boolean nanoResolution )
     {
         this.operations = operations;
         this.newStartTimeAsMilli = newStartTimeAsMilli;
         this.timeCompressionRatio = timeCompressionRatio;
+        this.nanoResolution = nanoResolution;
     }
 
     @Override
@@ -52,6 +69,13 @@ public class TimeMappingOperationGenerator extends Generator<Operation>
             {
                 startTimeAsMilliCompressionFun = new IdentityTimeFun();
             }
+            else if ( nanoResolution )
+            {
+                startTimeAsNanoCompressionFun = new NanoTimeCompressionFun(
+                        timeCompressionRatio,
+                        timeOffsetAsMilliFun.apply( nextOperation.scheduledStartTimeAsMilli() )
+                );
+            }
             else
             {
                 startTimeAsMilliCompressionFun = new TimeCompressionFun(
@@ -61,8 +85,16 @@ public class TimeMappingOperationGenerator extends Generator<Operation>
             }
         }
         long offsetStartTimeAsMilli = timeOffsetAsMilliFun.apply( nextOperation.scheduledStartTimeAsMilli() );
-        long offsetAndCompressedStartTimeAsMilli = startTimeAsMilliCompressionFun.apply( offsetStartTimeAsMilli );
-        nextOperation.setScheduledStartTimeAsMilli( offsetAndCompressedStartTimeAsMilli );
+        if ( null == startTimeAsNanoCompressionFun )
+        {
+            long offsetAndCompressedStartTimeAsMilli = startTimeAsMilliCompressionFun.apply( offsetStartTimeAsMilli );
+            nextOperation.setScheduledStartTimeAsMilli( offsetAndCompressedStartTimeAsMilli );
+        }
+        else
+        {
+            long offsetAndCompressedStartTimeAsNano = startTimeAsNanoCompressionFun.apply( offsetStartTimeAsMilli );
+            nextOperation.setScheduledStartTimeAsNano( offsetAndCompressedStartTimeAsNano );
+        }
         return nextOperation;
     }
 
@@ -128,4 +160,26 @@ public class TimeMappingOperationGenerator extends Generator<Operation>
         }
     }
 
+    // maps millisecond start times to compressed nanosecond start times
+    private class NanoTimeCompressionFun implements Function1<Long,Long,RuntimeException>
+    {
+        private final double timeCompressionRatio;
+        private long firstTimeAsMilli;
+
+        private NanoTimeCompressionFun( double timeCompressionRatio, long firstTimeAsMilli )
+        {
+            this.timeCompressionRatio = timeCompressionRatio;
+            this.firstTimeAsMilli = firstTimeAsMilli;
+        }
+
+        @Override
+        public Long apply( Long timeAsMilli )
+        {
+            long durationFromOriginalStartTimeAsNano = TimeUnit.MILLISECONDS.toNanos( timeAsMilli - firstTimeAsMilli );
+            long compressedDurationFromOriginalStartTimeAsNano =
+                    Math.round( durationFromOriginalStartTimeAsNano * timeCompressionRatio );
+            return TimeUnit.MILLISECONDS.toNanos( firstTimeAsMilli ) + compressedDurationFromOriginalStartTimeAsNano;
+        }
+    }
+
 }
@@ -0,0 +1,113 @@
+package org.ldbcouncil.snb.driver.runtime;
+
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeException;
+import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeReader;
+import org.ldbcouncil.snb.driver.runtime.metrics.ContinuousMetricManager;
+import org.ldbcouncil.snb.driver.runtime.metrics.ContinuousMetricSnapshot;
+import org.ldbcouncil.snb.driver.temporal.TimeSource;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Samples how far completion time lags behind wall clock time, i.e., for how long the oldest dependency operation
+ * that is due has not completed. Operations that depend on it can not start before it completes, whatever their
+ * scheduled start time, so a growing lag shows dependent operations being held back.
+ * <p>
+ * Completion time is in the time stamps of the operations, which are not mapped to wall clock time, so the lag is
+ * measured from the scheduled start time of the oldest tracked dependency operation that completion time has not
+ * passed yet. Dependency operations are tracked as they are taken from the iterator returned by track(). Samples are
+ * 0 while that operation is not yet due, and none are taken while no such operation is tracked, e.g., once the last
+ * dependency operation completed.
+ * Not thread safe, intended to be sampled by one thread, while one other thread takes the tracked operations.
+ */
+class CompletionTimeLagMonitor
+{
+    private static final String METRIC_COMPLETION_TIME_LAG = "Completion Time Lag";
+    private static final long HIGHEST_EXPECTED_LAG_AS_MILLI = TimeUnit.HOURS.toMillis( 1 );
+    private static final int LAG_SIGNIFICANT_DIGITS = 3;
+
+    private final TimeSource timeSource;
+    private final CompletionTimeReader completionTimeReader;
+    // earliest scheduled start time of the tracked dependency operations with each time stamp
+    private final ConcurrentNavigableMap<Long,Long> scheduledStartTimesAsMilliByTimeStamp =
+            new ConcurrentSkipListMap<>();
+    private final ContinuousMetricManager lagMetric = new ContinuousMetricManager(
+            METRIC_COMPLETION_TIME_LAG,
+            TimeUnit.MILLISECONDS,
+            HIGHEST_EXPECTED_LAG_AS_MILLI,
+            LAG_SIGNIFICANT_DIGITS
+    );
+
+    CompletionTimeLagMonitor( TimeSource timeSource, CompletionTimeReader completionTimeReader )
+    {
+        this.timeSource = timeSource;
+        this.completionTimeReader = completionTimeReader;
+    }
+
+    /**
+     * @return Dependency operations, each tracked when it is taken, as it is then submitted to an executor
+     */
+    Iterator<Operation> track( Iterator<Operation> dependencyOperations )
+    {
+        return new Iterator<Operation>()
+        {
+            @Override
+            public boolean hasNext()
+            {
+                return dependencyOperations.hasNext();
+            }
+
+            @Override
+            public Operation next()
+            {
+                Operation operation = dependencyOperations.next();
+                scheduledStartTimesAsMilliByTimeStamp.merge(
+                        operation.timeStamp(), operation.scheduledStartTimeAsMilli(), Math::min );
+                return operation;
+            }
+        };
+    }
+
+    void sample() throws CompletionTimeException
+    {
+        long completionTimeAsMilli = completionTimeReader.completionTimeAsMilli();
+        // operations completion time has passed no longer hold it back
+        scheduledStartTimesAsMilliByTimeStamp.headMap( completionTimeAsMilli, true ).clear();
+        Map.Entry<Long,Long> oldestUncompleted = scheduledStartTimesAsMilliByTimeStamp.firstEntry();
+        if ( null == oldestUncompleted )
+        {
+            return;
+        }
+        long lagAsMilli = Math.max( 0, timeSource.nowAsMilli() - oldestUncompleted.getValue() );
+        lagMetric.addMeasurement( Math.min( lagAsMilli, HIGHEST_EXPECTED_LAG_AS_MILLI ) );
+    }
+
+    ContinuousMetricSnapshot snapshot()
+    {
+        return lagMetric.snapshot();
+    }
+
+    String summary()
+    {
+        ContinuousMetricSnapshot lag = snapshot();
+        if ( 0 == lag.count() )
+        {
+            return format( "%s: no samples", METRIC_COMPLETION_TIME_LAG );
+        }
+        return format( "%s (ms): samples %s, mean %.1f, 50th %s, 90th %s, 99th %s, max %s",
+                METRIC_COMPLETION_TIME_LAG,
+                lag.count(),
+                lag.mean(),
+                lag.percentile50(),
+                lag.percentile90(),
+                lag.percentile99(),
+                lag.max() );
+    }
+}
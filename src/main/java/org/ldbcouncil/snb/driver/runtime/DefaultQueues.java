@@ -1,10 +1,18 @@
 package org.ldbcouncil.snb.driver.runtime;
 
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.Objects;
 import java.util.Queue;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.LinkedTransferQueue;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
 
 public class DefaultQueues
 {
@@ -30,11 +38,22 @@ public class DefaultQueues
         return new AlwaysBlockingLinkedBlockingQueue<>( capacity );
     }
 
+    /**
+     * As newAlwaysBlockingBounded(), but elements are taken in the order of the comparator, not in insertion order
+     */
+    public static <T> BlockingQueue<T> newAlwaysBlockingBoundedPriority( int capacity,
+            Comparator<? super T> comparator )
+    {
+        return new AlwaysBlockingBoundedPriorityBlockingQueue<>( capacity, comparator );
+    }
+
     /*
     turn offer() & add() into blocking calls (unless interrupted)
     */
     private static class AlwaysBlockingLinkedBlockingQueue<E> extends LinkedBlockingQueue<E>
     {
+        private static final long serialVersionUID = 6886940723275990640L;
+
         public AlwaysBlockingLinkedBlockingQueue( int maxSize )
         {
             super( maxSize );
@@ -70,4 +89,196 @@ public class DefaultQueues
             return false;
         }
     }
+
+    /*
+    bounded version of PriorityBlockingQueue, which is unbounded, where one permit is held per element
+    turn offer() & add() into blocking calls (unless interrupted), as for AlwaysBlockingLinkedBlockingQueue
+    */
+    private static class AlwaysBlockingBoundedPriorityBlockingQueue<E> extends PriorityBlockingQueue<E>
+    {
+        private static final long serialVersionUID = -885391705327824578L;
+
+        private final Semaphore permits;
+
+        public AlwaysBlockingBoundedPriorityBlockingQueue( int maxSize, Comparator<? super E> comparator )
+        {
+            super( maxSize, comparator );
+            this.permits = new Semaphore( maxSize );
+        }
+
+        @Override
+        public boolean offer( E e )
+        {
+            try
+            {
+                permits.acquire();
+                return super.offer( e );
+            }
+            catch ( InterruptedException ie )
+            {
+                Thread.currentThread().interrupt();
+            }
+            return false;
+        }
+
+        @Override
+        public boolean add( E e )
+        {
+            return offer( e );
+        }
+
+        @Override
+        public void put( E e )
+        {
+            offer( e );
+        }
+
+        @Override
+        public boolean offer( E e, long timeout, TimeUnit unit )
+        {
+            try
+            {
+                return permits.tryAcquire( timeout, unit ) && super.offer( e );
+            }
+            catch ( InterruptedException ie )
+            {
+                Thread.currentThread().interrupt();
+            }
+            return false;
+        }
+
+        @Override
+        public E poll()
+        {
+            return released( super.poll() );
+        }
+
+        @Override
+        public E poll( long timeout, TimeUnit unit ) throws InterruptedException
+        {
+            return released( super.poll( timeout, unit ) );
+        }
+
+        @Override
+        public E take() throws InterruptedException
+        {
+            return released( super.take() );
+        }
+
+        @Override
+        public boolean remove( Object o )
+        {
+            if ( super.remove( o ) )
+            {
+                permits.release();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public int drainTo( Collection<? super E> c )
+        {
+            return drainTo( c, Integer.MAX_VALUE );
+        }
+
+        @Override
+        public int drainTo( Collection<? super E> c, int maxElements )
+        {
+            int drained = super.drainTo( c, maxElements );
+            permits.release( drained );
+            return drained;
+        }
+
+        @Override
+        public void clear()
+        {
+            while ( null != poll() )
+            {
+                // permits are released by poll()
+            }
+        }
+
+        @Override
+        public int remainingCapacity()
+        {
+            return permits.availablePermits();
+        }
+
+        @Override
+        public Iterator<E> iterator()
+        {
+            Iterator<E> snapshot = super.iterator();
+            return new Iterator<E>()
+            {
+                private E last = null;
+
+                @Override
+                public boolean hasNext()
+                {
+                    return snapshot.hasNext();
+                }
+
+                @Override
+                public E next()
+                {
+                    last = snapshot.next();
+                    return last;
+                }
+
+                @Override
+                public void remove()
+                {
+                    if ( null == last )
+                    {
+                        throw new IllegalStateException();
+                    }
+                    AlwaysBlockingBoundedPriorityBlockingQueue.this.remove( last );
+                    last = null;
+                }
+            };
+        }
+
+        // bulk removals, e.g., by ThreadPoolExecutor.purge(), release a permit for every element they remove
+        @Override
+        public boolean removeIf( Predicate<? super E> filter )
+        {
+            Objects.requireNonNull( filter );
+            int[] removed = {0};
+            super.removeIf( e ->
+            {
+                if ( filter.test( e ) )
+                {
+                    removed[0]++;
+                    return true;
+                }
+                return false;
+            } );
+            permits.release( removed[0] );
+            return removed[0] > 0;
+        }
+
+        @Override
+        public boolean removeAll( Collection<?> c )
+        {
+            Objects.requireNonNull( c );
+            return removeIf( c::contains );
+        }
+
+        @Override
+        public boolean retainAll( Collection<?> c )
+        {
+            Objects.requireNonNull( c );
+            return removeIf( e -> !c.contains( e ) );
+        }
+
+        private E released( E e )
+        {
+            if ( null != e )
+            {
+                permits.release();
+            }
+            return e;
+        }
+    }
 }
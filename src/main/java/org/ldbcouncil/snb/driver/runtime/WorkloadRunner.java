@@ -3,7 +3,13 @@ package org.ldbcouncil.snb.driver.runtime;
 import org.ldbcouncil.snb.driver.Db;
 import org.ldbcouncil.snb.driver.WorkloadException;
 import org.ldbcouncil.snb.driver.WorkloadStreams;
+import org.ldbcouncil.snb.driver.control.DependencyMode;
+import org.ldbcouncil.snb.driver.control.DriverConfiguration;
+import org.ldbcouncil.snb.driver.control.ExecutorQueueType;
+import org.ldbcouncil.snb.driver.control.ExecutorType;
+import org.ldbcouncil.snb.driver.control.LoggingService;
 import org.ldbcouncil.snb.driver.control.LoggingServiceFactory;
+import org.ldbcouncil.snb.driver.control.SchedulingResolution;
 import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeException;
 import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeService;
 import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeWriter;
@@ -12,13 +18,19 @@ import org.ldbcouncil.snb.driver.runtime.executor.OperationExecutor;
 import org.ldbcouncil.snb.driver.runtime.executor.OperationExecutorException;
 import org.ldbcouncil.snb.driver.runtime.executor.OperationStreamExecutorService;
 import org.ldbcouncil.snb.driver.runtime.executor.ThreadPoolOperationExecutor;
+import org.ldbcouncil.snb.driver.runtime.executor.VirtualThreadOperationExecutor;
 import org.ldbcouncil.snb.driver.runtime.metrics.MetricsCollectionException;
 import org.ldbcouncil.snb.driver.runtime.metrics.MetricsService;
+import org.ldbcouncil.snb.driver.runtime.scheduling.CompletionTimeWaitQueue;
+import org.ldbcouncil.snb.driver.runtime.scheduling.EntityDependencyCheck;
 import org.ldbcouncil.snb.driver.runtime.scheduling.Spinner;
 import org.ldbcouncil.snb.driver.temporal.TimeSource;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
@@ -36,6 +48,10 @@ public class WorkloadRunner
 
     private final WorkloadRunnerFuture workloadRunnerFuture;
 
+    /**
+     * @param configuration threads, executor, scheduling and dependency options of the run, as parsed by
+     * ConsoleAndFileDriverConfiguration
+     */
     public WorkloadRunner(
             TimeSource timeSource,
             Db db,
@@ -44,10 +60,7 @@ public class WorkloadRunner
             ConcurrentErrorReporter errorReporter,
             CompletionTimeService completionTimeService,
             LoggingServiceFactory loggingServiceFactory,
-            int threadCount,
-            long statusDisplayIntervalAsSeconds,
-            long spinnerSleepDurationAsMilli,
-            boolean ignoreScheduleStartTimes,
+            DriverConfiguration configuration,
             int operationHandlerExecutorsBoundedQueueSize ) throws WorkloadException, MetricsCollectionException
     {
         this.workloadRunnerFuture = new WorkloadRunnerFuture(
@@ -58,10 +71,7 @@ public class WorkloadRunner
                 errorReporter,
                 completionTimeService,
                 loggingServiceFactory,
-                threadCount,
-                statusDisplayIntervalAsSeconds,
-                spinnerSleepDurationAsMilli,
-                ignoreScheduleStartTimes,
+                configuration,
                 operationHandlerExecutorsBoundedQueueSize
         );
     }
@@ -88,10 +98,7 @@ public class WorkloadRunner
                 ConcurrentErrorReporter errorReporter,
                 CompletionTimeService completionTimeService,
                 LoggingServiceFactory loggingServiceFactory,
-                int threadCount,
-                long statusDisplayIntervalAsSeconds,
-                long spinnerSleepDurationAsMilli,
-                boolean ignoreScheduleStartTimes,
+                DriverConfiguration configuration,
                 int operationHandlerExecutorsBoundedQueueSize ) throws MetricsCollectionException, WorkloadException
         {
             this.workloadRunnerThread = new WorkloadRunnerThread(
@@ -102,10 +109,7 @@ public class WorkloadRunner
                     errorReporter,
                     completionTimeService,
                     loggingServiceFactory,
-                    threadCount,
-                    statusDisplayIntervalAsSeconds,
-                    spinnerSleepDurationAsMilli,
-                    ignoreScheduleStartTimes,
+                    configuration,
                     operationHandlerExecutorsBoundedQueueSize
             );
             this.timeSource = timeSource;
@@ -272,11 +276,13 @@ public class WorkloadRunner
         private WorkloadStatusThread workloadStatusThread;
         private final ConcurrentErrorReporter errorReporter;
         private final OperationExecutor executorForAsynchronous;
-        private final List<OperationExecutor> executorsForBlocking = new ArrayList<>();
+        private final List<OperationExecutor> dedicatedExecutors = new ArrayList<>();
         private final OperationStreamExecutorService asynchronousStreamExecutorService;
-        private final List<OperationStreamExecutorService> blockingStreamExecutorServices = new ArrayList<>();
+        private final List<OperationStreamExecutorService> dedicatedStreamExecutorServices = new ArrayList<>();
         private final long statusDisplayIntervalAsMilli;
         private final AtomicReference<WorkloadRunnerThreadState> stateRef;
+        private final CompletionTimeLagMonitor completionTimeLagMonitor;
+        private final LoggingService loggingService;
 
         private enum ShutdownType
         {
@@ -291,53 +297,129 @@ public class WorkloadRunner
                 ConcurrentErrorReporter errorReporter,
                 CompletionTimeService completionTimeService,
                 LoggingServiceFactory loggingServiceFactory,
-                int threadCount,
-                long statusDisplayIntervalAsSeconds,
-                long spinnerSleepDurationAsMilli,
-                boolean ignoreScheduleStartTimes,
+                DriverConfiguration configuration,
                 int operationHandlerExecutorsBoundedQueueSize ) throws WorkloadException, MetricsCollectionException
         {
+            int threadCount = configuration.threadCount();
+            ExecutorType executorType = configuration.executorType();
+            int executorConcurrencyLimit = configuration.executorConcurrencyLimit();
+            long statusDisplayIntervalAsSeconds = configuration.statusDisplayIntervalAsSeconds();
+            long spinnerSleepDurationAsMilli = configuration.spinnerSleepDurationAsMilli();
+            ExecutorQueueType executorQueueType = configuration.executorQueueType();
+            int updateThreadCount = configuration.updateThreadCount();
             this.errorReporter = errorReporter;
             this.statusDisplayIntervalAsMilli = statusDisplayIntervalAsSeconds;
 
-            this.spinner = new Spinner( timeSource, spinnerSleepDurationAsMilli, ignoreScheduleStartTimes );
+            // operations waiting on completion time are woken by submissions to the completion time writer, and by
+            // advances of completion time that are not submitted here, e.g., by other driver processes
+            CompletionTimeWaitQueue completionTimeWaitQueue = new CompletionTimeWaitQueue( completionTimeService );
+            completionTimeService.setCompletionTimeAdvancedListener(
+                    completionTimeWaitQueue::completionTimeMayHaveAdvanced );
+            this.spinner = new Spinner(
+                    timeSource,
+                    spinnerSleepDurationAsMilli,
+                    configuration.ignoreScheduledStartTimes(),
+                    completionTimeWaitQueue,
+                    SchedulingResolution.nano == configuration.schedulingResolution()
+            );
+
+            // the lag of completion time is measured from the scheduled start times of the dependency operations
+            this.completionTimeLagMonitor = new CompletionTimeLagMonitor( timeSource, completionTimeService );
+            WorkloadStreamDefinition asynchronousStream = workloadStreams.asynchronousStream();
+            asynchronousStream = new WorkloadStreamDefinition(
+                    asynchronousStream.dependentOperationTypes(),
+                    asynchronousStream.dependencyOperationTypes(),
+                    completionTimeLagMonitor.track( asynchronousStream.dependencyOperations() ),
+                    asynchronousStream.nonDependencyOperations(),
+                    asynchronousStream.childOperationGenerator()
+            );
 
-            if ( statusDisplayIntervalAsSeconds > 0 )
-            {
-                this.workloadStatusThread = new WorkloadStatusThread(
-                        TimeUnit.SECONDS.toMillis( statusDisplayIntervalAsSeconds ),
-                        metricsService.getWriter(),
-                        errorReporter,
-                        completionTimeService,
-                        loggingServiceFactory
-                );
-            }
             // only create a completion time writer for an executor if it contains at least one READ_WRITE operation
             // otherwise it will cause completion time to stall
-            WorkloadStreamDefinition asynchronousStream = workloadStreams.asynchronousStream();
             CompletionTimeWriter completionTimeWriterForAsynchronous;
             try
             {
                 completionTimeWriterForAsynchronous = (asynchronousStream.dependencyOperations().hasNext())
-                                                      ? completionTimeService.newCompletionTimeWriter()
+                                                      ? completionTimeWaitQueue.notifyingWriter(
+                        completionTimeService.newCompletionTimeWriter() )
                                                       : DUMMY_COMPLETION_TIME_WRITER;
             }
             catch ( CompletionTimeException e )
             {
                 throw new WorkloadException( "Error while attempting to create completion time writer", e );
             }
-            this.executorForAsynchronous = new ThreadPoolOperationExecutor(
+            // entity dependent operations wait for the earlier operations on the same entities, rather than for
+            // completion time, in the order their stream thread submits them in
+            EntityDependencyCheck entityDependencyCheck = null;
+            // combining it with a dependency_priority executor queue is rejected when the configuration is parsed
+            if ( DependencyMode.entity == configuration.dependencyMode() )
+            {
+                entityDependencyCheck =
+                        new EntityDependencyCheck( TimeUnit.MILLISECONDS.toNanos( spinnerSleepDurationAsMilli ) );
+            }
+            Map<String,OperationExecutor> executorsByName = new LinkedHashMap<>();
+            if ( updateThreadCount > 0 )
+            {
+                // dependency operations, which advance completion time, are executed by an executor of their own,
+                // with its own queue and stream thread, so that a backlog of reads can not hold them back
+                WorkloadStreamDefinition updateStream = new WorkloadStreamDefinition(
+                        asynchronousStream.dependentOperationTypes(),
+                        asynchronousStream.dependencyOperationTypes(),
+                        asynchronousStream.dependencyOperations(),
+                        Collections.emptyIterator(),
+                        asynchronousStream.childOperationGenerator()
+                );
+                // virtual threads are not pooled, for them the update thread count bounds the updates in flight
+                int updateConcurrencyLimit = (ExecutorType.virtual_thread == executorType)
+                                             ? updateThreadCount
+                                             : executorConcurrencyLimit;
+                OperationExecutor executorForUpdates = newOperationExecutor(
+                        executorType,
+                        updateThreadCount,
+                        updateConcurrencyLimit,
+                        executorQueueType,
+                        operationHandlerExecutorsBoundedQueueSize,
+                        db,
+                        updateStream,
+                        completionTimeWriterForAsynchronous,
+                        completionTimeService,
+                        timeSource,
+                        errorReporter,
+                        metricsService,
+                        entityDependencyCheck
+                );
+                this.dedicatedExecutors.add( executorForUpdates );
+                this.dedicatedStreamExecutorServices.add( new OperationStreamExecutorService(
+                        errorReporter,
+                        updateStream,
+                        executorForUpdates,
+                        completionTimeWriterForAsynchronous
+                ) );
+                executorsByName.put( "updates", executorForUpdates );
+
+                asynchronousStream = new WorkloadStreamDefinition(
+                        asynchronousStream.dependentOperationTypes(),
+                        asynchronousStream.dependencyOperationTypes(),
+                        Collections.emptyIterator(),
+                        asynchronousStream.nonDependencyOperations(),
+                        asynchronousStream.childOperationGenerator()
+                );
+                completionTimeWriterForAsynchronous = DUMMY_COMPLETION_TIME_WRITER;
+            }
+            this.executorForAsynchronous = newOperationExecutor(
+                    executorType,
                     threadCount,
+                    executorConcurrencyLimit,
+                    executorQueueType,
                     operationHandlerExecutorsBoundedQueueSize,
                     db,
                     asynchronousStream,
                     completionTimeWriterForAsynchronous,
                     completionTimeService,
-                    spinner,
                     timeSource,
                     errorReporter,
                     metricsService,
-                    asynchronousStream.childOperationGenerator()
+                    entityDependencyCheck
             );
             this.asynchronousStreamExecutorService = new OperationStreamExecutorService(
                     errorReporter,
@@ -345,7 +427,74 @@ public class WorkloadRunner
                     executorForAsynchronous,
                     completionTimeWriterForAsynchronous
             );
+            executorsByName.put( (updateThreadCount > 0) ? "reads" : "operations", executorForAsynchronous );
+
+            if ( statusDisplayIntervalAsSeconds > 0 )
+            {
+                this.workloadStatusThread = new WorkloadStatusThread(
+                        TimeUnit.SECONDS.toMillis( statusDisplayIntervalAsSeconds ),
+                        metricsService.getWriter(),
+                        errorReporter,
+                        completionTimeService,
+                        executorsByName,
+                        loggingServiceFactory
+                );
+            }
             this.stateRef = new AtomicReference<>( WorkloadRunnerThreadState.NOT_STARTED );
+            this.loggingService = loggingServiceFactory.loggingServiceFor( getClass().getSimpleName() );
+        }
+
+        private OperationExecutor newOperationExecutor(
+                ExecutorType executorType,
+                int threadCount,
+                int concurrencyLimit,
+                ExecutorQueueType executorQueueType,
+                int boundedQueueSize,
+                Db db,
+                WorkloadStreamDefinition streamDefinition,
+                CompletionTimeWriter completionTimeWriter,
+                CompletionTimeService completionTimeService,
+                TimeSource timeSource,
+                ConcurrentErrorReporter errorReporter,
+                MetricsService metricsService,
+                EntityDependencyCheck entityDependencyCheck ) throws WorkloadException
+        {
+            switch ( executorType )
+            {
+            case virtual_thread:
+                return new VirtualThreadOperationExecutor(
+                        concurrencyLimit,
+                        db,
+                        streamDefinition,
+                        completionTimeWriter,
+                        completionTimeService,
+                        spinner,
+                        timeSource,
+                        errorReporter,
+                        metricsService,
+                        streamDefinition.childOperationGenerator(),
+                        entityDependencyCheck
+                );
+            case thread_pool:
+                return new ThreadPoolOperationExecutor(
+                        threadCount,
+                        boundedQueueSize,
+                        concurrencyLimit,
+                        executorQueueType,
+                        db,
+                        streamDefinition,
+                        completionTimeWriter,
+                        completionTimeService,
+                        spinner,
+                        timeSource,
+                        errorReporter,
+                        metricsService,
+                        streamDefinition.childOperationGenerator(),
+                        entityDependencyCheck
+                );
+            default:
+                throw new WorkloadException( format( "Unsupported executor type: %s", executorType ) );
+            }
         }
 
         private WorkloadRunnerThreadState state()
@@ -361,11 +510,11 @@ public class WorkloadRunner
                 workloadStatusThread.start();
             }
 
-            AtomicBoolean[] executorFinishedFlags = new AtomicBoolean[blockingStreamExecutorServices.size() + 1];
+            AtomicBoolean[] executorFinishedFlags = new AtomicBoolean[dedicatedStreamExecutorServices.size() + 1];
             executorFinishedFlags[0] = asynchronousStreamExecutorService.execute();
-            for ( int i = 0; i < blockingStreamExecutorServices.size(); i++ )
+            for ( int i = 0; i < dedicatedStreamExecutorServices.size(); i++ )
             {
-                executorFinishedFlags[i + 1] = blockingStreamExecutorServices.get( i ).execute();
+                executorFinishedFlags[i + 1] = dedicatedStreamExecutorServices.get( i ).execute();
             }
 
             stateRef.set( WorkloadRunnerThreadState.RUNNING );
@@ -395,6 +544,17 @@ public class WorkloadRunner
                     break;
                 }
 
+                try
+                {
+                    completionTimeLagMonitor.sample();
+                }
+                catch ( CompletionTimeException e )
+                {
+                    errorReporter.reportError( this,
+                            format( "Error sampling completion time lag\n%s",
+                                    ConcurrentErrorReporter.stackTraceToString( e ) ) );
+                }
+
                 // Take short break between error & completion checks to reduce CPU utilization
                 Spinner.powerNap( RUNNER_POLLING_INTERVAL_AS_MILLI );
             }
@@ -407,6 +567,7 @@ public class WorkloadRunner
             }
             else
             {
+                loggingService.info( completionTimeLagMonitor.summary() );
                 shutdownEverything( ShutdownType.NORMAL, errorReporter );
                 if ( errorReporter.errorEncountered() )
                 {
@@ -444,18 +605,18 @@ public class WorkloadRunner
                 );
             }
 
-            for ( OperationStreamExecutorService blockingStreamExecutorService : blockingStreamExecutorServices )
+            for ( OperationStreamExecutorService dedicatedStreamExecutorService : dedicatedStreamExecutorServices )
             {
                 try
                 {
-                    blockingStreamExecutorService.shutdown( shutdownWait );
+                    dedicatedStreamExecutorService.shutdown( shutdownWait );
                 }
                 catch ( OperationExecutorException e )
                 {
                     errorReporter.reportError(
                             this,
                             format( "Encountered error while shutting down %s\n%s\n",
-                                    blockingStreamExecutorService.getClass().getSimpleName(),
+                                    dedicatedStreamExecutorService.getClass().getSimpleName(),
                                     ConcurrentErrorReporter.stackTraceToString( e ) )
                     );
                 }
@@ -485,21 +646,21 @@ public class WorkloadRunner
                 // if forced shutdown (error) some handlers likely still running,
                 // but for now it does not matter as the process will terminate anyway
                 // (though when running test suite it can result in many running threads, making the tests much slower)
-                for ( OperationExecutor executorForBlocking : executorsForBlocking )
+                for ( OperationExecutor dedicatedExecutor : dedicatedExecutors )
                 {
-                    executorForBlocking.shutdown( shutdownWait );
+                    dedicatedExecutor.shutdown( shutdownWait );
                 }
             }
             catch ( OperationExecutorException e )
             {
                 long uncompletedOperationHandlerCount = 0;
-                for ( OperationExecutor executorForBlocking : executorsForBlocking )
+                for ( OperationExecutor dedicatedExecutor : dedicatedExecutors )
                 {
-                    uncompletedOperationHandlerCount += executorForBlocking.uncompletedOperationHandlerCount();
+                    uncompletedOperationHandlerCount += dedicatedExecutor.uncompletedOperationHandlerCount();
                 }
                 errorReporter.reportError(
                         this,
-                        format( "Encountered error while waiting for a synchronous executor to shutdown\n" +
+                        format( "Encountered error while waiting for a dedicated executor to shutdown\n" +
                                 "Handlers still running: %s\n" +
                                 "%s",
                                 uncompletedOperationHandlerCount,
@@ -4,10 +4,12 @@ import org.ldbcouncil.snb.driver.control.LoggingService;
 import org.ldbcouncil.snb.driver.control.LoggingServiceFactory;
 import org.ldbcouncil.snb.driver.control.RecentThroughputAndDuration;
 import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeService;
+import org.ldbcouncil.snb.driver.runtime.executor.OperationExecutor;
 import org.ldbcouncil.snb.driver.runtime.metrics.MetricsService.MetricsServiceWriter;
 import org.ldbcouncil.snb.driver.runtime.metrics.WorkloadStatusSnapshot;
 import org.ldbcouncil.snb.driver.runtime.scheduling.Spinner;
 
+import java.util.Map;
 import java.util.concurrent.atomic.AtomicBoolean;
 
 import static java.lang.String.format;
@@ -18,6 +20,7 @@ class WorkloadStatusThread extends Thread
     private final MetricsServiceWriter metricsServiceWriter;
     private final ConcurrentErrorReporter errorReporter;
     private final CompletionTimeService completionTimeService;
+    private final Map<String,OperationExecutor> executorsByName;
     private final LoggingService loggingService;
     private AtomicBoolean continueRunning = new AtomicBoolean( true );
 
@@ -26,6 +29,7 @@ class WorkloadStatusThread extends Thread
             MetricsServiceWriter metricsServiceWriter,
             ConcurrentErrorReporter errorReporter,
             CompletionTimeService completionTimeService,
+            Map<String,OperationExecutor> executorsByName,
             LoggingServiceFactory loggingServiceFactory )
     {
         super( WorkloadStatusThread.class.getSimpleName() + "-" + System.currentTimeMillis() );
@@ -33,6 +37,7 @@ class WorkloadStatusThread extends Thread
         this.metricsServiceWriter = metricsServiceWriter;
         this.errorReporter = errorReporter;
         this.completionTimeService = completionTimeService;
+        this.executorsByName = executorsByName;
         this.loggingService = loggingServiceFactory.loggingServiceFor( getClass().getSimpleName() );
     }
 
@@ -65,6 +70,7 @@ class WorkloadStatusThread extends Thread
                         settableRecentThroughputAndDuration,
                         completionTimeService.completionTimeAsMilli()
                 );
+                loggingService.info( executorsStatus() );
 
                 Spinner.powerNap( statusUpdateIntervalAsMilli );
             }
@@ -91,6 +97,24 @@ class WorkloadStatusThread extends Thread
         continueRunning.set( false );
     }
 
+    private String executorsStatus()
+    {
+        StringBuilder sb = new StringBuilder();
+        for ( Map.Entry<String,OperationExecutor> executorByName : executorsByName.entrySet() )
+        {
+            if ( sb.length() > 0 )
+            {
+                sb.append( ", " );
+            }
+            OperationExecutor executor = executorByName.getValue();
+            sb.append( format( "Executor (%s) Utilisation [%.0f%%] Queued [%s]",
+                    executorByName.getKey(),
+                    executor.utilisation() * 100,
+                    executor.queuedOperationHandlerCount() ) );
+        }
+        return sb.toString();
+    }
+
     private void updateRecentThroughput( final long[][] recentOperationCountsAtDurations,
             final SettableRecentThroughputAndDuration settableRecentThroughputAndDuration )
     {
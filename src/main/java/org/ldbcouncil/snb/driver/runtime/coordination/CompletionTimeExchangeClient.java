@@ -0,0 +1,163 @@
+package org.ldbcouncil.snb.driver.runtime.coordination;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import static java.lang.String.format;
+
+/**
+ * Driver process side of the exchange with CompletionTimeExchangeServer.
+ * <p>
+ * Messages from the coordinator are read by a daemon thread, which keeps the latest global completion time, calls
+ * the global completion time listener whenever it advances, and hands agreed start times to the thread waiting for
+ * them.
+ */
+public class CompletionTimeExchangeClient
+{
+    // tells the waiting thread that the connection to the coordinator was lost
+    private static final long CONNECTION_LOST = Long.MIN_VALUE;
+
+    private final Socket socket;
+    private final DataOutputStream output;
+    private final Thread readerThread;
+    private final BlockingQueue<Long> agreedStartTimesAsMilli = new LinkedBlockingQueue<>();
+    private volatile long globalCompletionTimeAsMilli = -1;
+    private volatile Runnable globalCompletionTimeListener = null;
+    private volatile boolean shutdown = false;
+
+    public CompletionTimeExchangeClient( int port, int partitionIndex ) throws CompletionTimeException
+    {
+        try
+        {
+            this.socket = new Socket( InetAddress.getLoopbackAddress(), port );
+            socket.setTcpNoDelay( true );
+            this.output = new DataOutputStream( new BufferedOutputStream( socket.getOutputStream() ) );
+            DataInputStream input = new DataInputStream( new BufferedInputStream( socket.getInputStream() ) );
+            output.writeByte( CompletionTimeExchangeServer.HELLO );
+            output.writeInt( partitionIndex );
+            output.flush();
+            this.readerThread = new Thread( () -> readMessages( input ), getClass().getSimpleName() + "-reader" );
+        }
+        catch ( IOException e )
+        {
+            throw new CompletionTimeException( format( "Error connecting to coordinator on local port %s", port ), e );
+        }
+        readerThread.setDaemon( true );
+        readerThread.start();
+    }
+
+    /**
+     * Blocks until every driver process proposed a start time
+     *
+     * @return start time agreed by all driver processes
+     */
+    public long agreeOnStartTimeAsMilli( long proposedStartTimeAsMilli ) throws CompletionTimeException
+    {
+        send( CompletionTimeExchangeServer.START_TIME, proposedStartTimeAsMilli );
+        try
+        {
+            long agreedStartTimeAsMilli = agreedStartTimesAsMilli.take();
+            if ( CONNECTION_LOST == agreedStartTimeAsMilli )
+            {
+                throw new CompletionTimeException( "Connection to coordinator lost while agreeing on start time" );
+            }
+            return agreedStartTimeAsMilli;
+        }
+        catch ( InterruptedException e )
+        {
+            throw new CompletionTimeException( "Interrupted while agreeing on start time", e );
+        }
+    }
+
+    public void submitCompletionTimeAsMilli( long completionTimeAsMilli ) throws CompletionTimeException
+    {
+        send( CompletionTimeExchangeServer.COMPLETION_TIME, completionTimeAsMilli );
+    }
+
+    /**
+     * @return completion time of all driver processes, -1 until every one of them reported one
+     */
+    public long globalCompletionTimeAsMilli()
+    {
+        return globalCompletionTimeAsMilli;
+    }
+
+    /**
+     * @param listener called by the reader thread after the global completion time advanced
+     */
+    public void setGlobalCompletionTimeListener( Runnable listener )
+    {
+        this.globalCompletionTimeListener = listener;
+    }
+
+    public void shutdown() throws CompletionTimeException
+    {
+        shutdown = true;
+        try
+        {
+            socket.close();
+            readerThread.join();
+        }
+        catch ( IOException | InterruptedException e )
+        {
+            throw new CompletionTimeException( "Error disconnecting from coordinator", e );
+        }
+    }
+
+    private synchronized void send( byte messageType, long timeAsMilli ) throws CompletionTimeException
+    {
+        try
+        {
+            output.writeByte( messageType );
+            output.writeLong( timeAsMilli );
+            output.flush();
+        }
+        catch ( IOException e )
+        {
+            throw new CompletionTimeException( "Error sending message to coordinator", e );
+        }
+    }
+
+    private void readMessages( DataInputStream input )
+    {
+        try
+        {
+            while ( !shutdown )
+            {
+                byte messageType = input.readByte();
+                long timeAsMilli = input.readLong();
+                if ( CompletionTimeExchangeServer.START_TIME == messageType )
+                {
+                    // completion times that follow belong to the phase that starts at this time
+                    globalCompletionTimeAsMilli = -1;
+                    agreedStartTimesAsMilli.add( timeAsMilli );
+                }
+                else if ( CompletionTimeExchangeServer.COMPLETION_TIME == messageType )
+                {
+                    boolean advanced = timeAsMilli > globalCompletionTimeAsMilli;
+                    globalCompletionTimeAsMilli = timeAsMilli;
+                    Runnable listener = globalCompletionTimeListener;
+                    if ( advanced && null != listener )
+                    {
+                        listener.run();
+                    }
+                }
+            }
+        }
+        catch ( IOException e )
+        {
+            // closed on shutdown, or by the coordinator
+        }
+        finally
+        {
+            agreedStartTimesAsMilli.add( CONNECTION_LOST );
+        }
+    }
+}
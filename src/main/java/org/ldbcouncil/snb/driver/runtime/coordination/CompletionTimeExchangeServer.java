@@ -0,0 +1,247 @@
+package org.ldbcouncil.snb.driver.runtime.coordination;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static java.lang.String.format;
+
+/**
+ * Coordinator side of the exchange between driver processes that each execute one partition of the workload streams.
+ * <p>
+ * Driver processes connect over a local socket, with CompletionTimeExchangeClient, and the exchange then:
+ * <ul>
+ * <li>agrees on a common workload start time, for every phase (e.g., warmup, run) the latest start time proposed by
+ * any process, once all processes proposed one</li>
+ * <li>computes global completion time from the local completion times of all processes, i.e., their minimum, and
+ * sends it to all processes whenever it advances</li>
+ * </ul>
+ * Local completion times are forgotten once a new start time is agreed, as every phase starts its own completion time.
+ * <p>
+ * Messages are a one byte message type followed by its payload, see the message type constants.
+ */
+public class CompletionTimeExchangeServer
+{
+    // client to server: partition index (int), server to client: nothing
+    static final byte HELLO = 'H';
+    // client to server: proposed start time (long), server to client: agreed start time (long)
+    static final byte START_TIME = 'S';
+    // client to server: local completion time (long), server to client: global completion time (long)
+    static final byte COMPLETION_TIME = 'C';
+
+    private final int partitionCount;
+    private final ServerSocket serverSocket;
+    private final Thread acceptThread;
+    private final List<Socket> sockets = new ArrayList<>();
+    private final DataOutputStream[] outputs;
+    private final long[] localCompletionTimesAsMilli;
+    private final int[] proposalCounts;
+    private final List<long[]> startTimeProposals = new ArrayList<>();
+    private long globalCompletionTimeAsMilli = -1;
+    private volatile boolean shutdown = false;
+
+    /**
+     * @param port local port to listen on, 0 to pick a free one
+     */
+    public CompletionTimeExchangeServer( int port, int partitionCount ) throws CompletionTimeException
+    {
+        this.partitionCount = partitionCount;
+        this.outputs = new DataOutputStream[partitionCount];
+        this.localCompletionTimesAsMilli = new long[partitionCount];
+        Arrays.fill( localCompletionTimesAsMilli, -1 );
+        this.proposalCounts = new int[partitionCount];
+        try
+        {
+            this.serverSocket = new ServerSocket( port, partitionCount, InetAddress.getLoopbackAddress() );
+        }
+        catch ( IOException e )
+        {
+            throw new CompletionTimeException( format( "Error listening on local port %s", port ), e );
+        }
+        this.acceptThread = new Thread( this::acceptConnections, getClass().getSimpleName() + "-accept" );
+        acceptThread.setDaemon( true );
+        acceptThread.start();
+    }
+
+    public int port()
+    {
+        return serverSocket.getLocalPort();
+    }
+
+    public void shutdown() throws CompletionTimeException
+    {
+        shutdown = true;
+        try
+        {
+            serverSocket.close();
+            synchronized ( this )
+            {
+                for ( Socket socket : sockets )
+                {
+                    socket.close();
+                }
+            }
+            acceptThread.join();
+        }
+        catch ( IOException | InterruptedException e )
+        {
+            throw new CompletionTimeException( "Error shutting down completion time exchange", e );
+        }
+    }
+
+    private void acceptConnections()
+    {
+        while ( !shutdown )
+        {
+            try
+            {
+                Socket socket = serverSocket.accept();
+                socket.setTcpNoDelay( true );
+                synchronized ( this )
+                {
+                    sockets.add( socket );
+                }
+                Thread connectionThread = new Thread(
+                        () -> handleConnection( socket ),
+                        getClass().getSimpleName() + "-connection-" + socket.getPort()
+                );
+                connectionThread.setDaemon( true );
+                connectionThread.start();
+            }
+            catch ( IOException e )
+            {
+                // server socket closed on shutdown
+            }
+        }
+    }
+
+    private void handleConnection( Socket socket )
+    {
+        try
+        {
+            DataInputStream input = new DataInputStream( new BufferedInputStream( socket.getInputStream() ) );
+            DataOutputStream output = new DataOutputStream( new BufferedOutputStream( socket.getOutputStream() ) );
+            if ( HELLO != input.readByte() )
+            {
+                throw new IOException( "Expected hello" );
+            }
+            int partitionIndex = input.readInt();
+            register( partitionIndex, output );
+            while ( !shutdown )
+            {
+                byte messageType = input.readByte();
+                long timeAsMilli = input.readLong();
+                if ( START_TIME == messageType )
+                {
+                    proposeStartTime( partitionIndex, timeAsMilli );
+                }
+                else if ( COMPLETION_TIME == messageType )
+                {
+                    updateLocalCompletionTime( partitionIndex, timeAsMilli );
+                }
+                else
+                {
+                    throw new IOException( format( "Unknown message type: %s", messageType ) );
+                }
+            }
+        }
+        catch ( EOFException e )
+        {
+            // driver process disconnected
+        }
+        catch ( IOException e )
+        {
+            if ( !shutdown )
+            {
+                // driver processes report their own errors, the coordinator notices them exiting
+                closeQuietly( socket );
+            }
+        }
+    }
+
+    private synchronized void register( int partitionIndex, DataOutputStream output ) throws IOException
+    {
+        if ( partitionIndex < 0 || partitionIndex >= partitionCount )
+        {
+            throw new IOException( format( "Partition index must be from 0 to %s, was %s",
+                    partitionCount - 1, partitionIndex ) );
+        }
+        if ( null != outputs[partitionIndex] )
+        {
+            throw new IOException( format( "Partition %s is already connected", partitionIndex ) );
+        }
+        outputs[partitionIndex] = output;
+    }
+
+    private synchronized void proposeStartTime( int partitionIndex, long proposedStartTimeAsMilli )
+            throws IOException
+    {
+        int round = proposalCounts[partitionIndex]++;
+        if ( startTimeProposals.size() == round )
+        {
+            // {latest proposed start time, proposal count}
+            startTimeProposals.add( new long[]{Long.MIN_VALUE, 0} );
+        }
+        long[] proposals = startTimeProposals.get( round );
+        proposals[0] = Math.max( proposals[0], proposedStartTimeAsMilli );
+        proposals[1]++;
+        if ( partitionCount == proposals[1] )
+        {
+            // every process has completed the previous phase, completion times of the next phase start over
+            Arrays.fill( localCompletionTimesAsMilli, -1 );
+            globalCompletionTimeAsMilli = -1;
+            broadcast( START_TIME, proposals[0] );
+        }
+    }
+
+    private synchronized void updateLocalCompletionTime( int partitionIndex, long completionTimeAsMilli )
+            throws IOException
+    {
+        localCompletionTimesAsMilli[partitionIndex] = completionTimeAsMilli;
+        long newGlobalCompletionTimeAsMilli = Long.MAX_VALUE;
+        for ( long localCompletionTimeAsMilli : localCompletionTimesAsMilli )
+        {
+            newGlobalCompletionTimeAsMilli = Math.min( newGlobalCompletionTimeAsMilli, localCompletionTimeAsMilli );
+        }
+        if ( newGlobalCompletionTimeAsMilli > globalCompletionTimeAsMilli )
+        {
+            globalCompletionTimeAsMilli = newGlobalCompletionTimeAsMilli;
+            broadcast( COMPLETION_TIME, globalCompletionTimeAsMilli );
+        }
+    }
+
+    // only called while holding the monitor, so messages reach every process in the same order
+    private void broadcast( byte messageType, long timeAsMilli ) throws IOException
+    {
+        for ( DataOutputStream output : outputs )
+        {
+            if ( null != output )
+            {
+                output.writeByte( messageType );
+                output.writeLong( timeAsMilli );
+                output.flush();
+            }
+        }
+    }
+
+    private static void closeQuietly( Socket socket )
+    {
+        try
+        {
+            socket.close();
+        }
+        catch ( IOException e )
+        {
+            // nothing to do, already closing
+        }
+    }
+}
@@ -12,4 +12,18 @@ public interface CompletionTimeService extends CompletionTimeReader
     List<CompletionTimeWriter> getAllWriters() throws CompletionTimeException;
 
     void shutdown() throws CompletionTimeException;
+
+    /**
+     * Completion time may also advance without a submission to a writer of this service, e.g., when other driver
+     * processes complete operations. The listener is called whenever that may have happened, services whose
+     * completion time only advances with submissions to their writers never call it.
+     */
+    default void setCompletionTimeAdvancedListener( CompletionTimeAdvancedListener listener )
+    {
+    }
+
+    interface CompletionTimeAdvancedListener
+    {
+        void completionTimeMayHaveAdvanced() throws CompletionTimeException;
+    }
 }
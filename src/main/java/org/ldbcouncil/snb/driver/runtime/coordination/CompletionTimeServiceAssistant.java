@@ -56,4 +56,22 @@ public class CompletionTimeServiceAssistant
     {
         return new ThreadedQueuedCompletionTimeService( timeSource, errorReporter );
     }
+
+    public LockFreeCompletionTimeService newLockFreeCompletionTimeService() throws CompletionTimeException
+    {
+        return new LockFreeCompletionTimeService();
+    }
+
+    public DistributedCompletionTimeService newDistributedCompletionTimeService(
+            CompletionTimeExchangeClient exchangeClient ) throws CompletionTimeException
+    {
+        return newDistributedCompletionTimeService( newLockFreeCompletionTimeService(), exchangeClient );
+    }
+
+    public DistributedCompletionTimeService newDistributedCompletionTimeService(
+            CompletionTimeService localCompletionTimeService,
+            CompletionTimeExchangeClient exchangeClient ) throws CompletionTimeException
+    {
+        return new DistributedCompletionTimeService( localCompletionTimeService, exchangeClient );
+    }
 }
@@ -7,6 +7,7 @@ import org.ldbcouncil.snb.driver.util.Function1;
 import org.ldbcouncil.snb.driver.util.Function2;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
@@ -26,12 +27,19 @@ import static java.lang.String.format;
 public class CompletionTimeStateManager implements CompletionTimeReaderWriter
 {
     private long completionTimeAsMilli = -1;
-    private final InitiatedTimeTracker initiatedTimeTracker = InitiatedTimeTrackerImpl.createUsingTreeMultiSet();
-    private final CompletedTimeTracker completedTimeTracker = CompletedTimeTrackerImpl.createUsingTreeMultiSet();
+    private final InitiatedTimeTracker initiatedTimeTracker;
+    private final CompletedTimeTracker completedTimeTracker;
     private long lastKnownLowestInitiatedTimeAsMilli = -1;
 
     CompletionTimeStateManager()
     {
+        this( new PrimitiveInitiatedTimeTracker(), new PrimitiveCompletedTimeTracker() );
+    }
+
+    CompletionTimeStateManager( InitiatedTimeTracker initiatedTimeTracker, CompletedTimeTracker completedTimeTracker )
+    {
+        this.initiatedTimeTracker = initiatedTimeTracker;
+        this.completedTimeTracker = completedTimeTracker;
     }
 
     @Override
@@ -323,4 +331,275 @@ public class CompletionTimeStateManager implements CompletionTimeReaderWriter
                    '}';
         }
     }
+
+    /**
+     * Tracks completed times in a binary min-heap backed by a long[], so no boxing occurs on submit.
+     * Times are removed from the top of the heap, i.e., in ascending order.
+     * Array only grows (doubles) when the number of tracked times exceeds its capacity.
+     */
+    static class PrimitiveCompletedTimeTracker implements CompletedTimeTracker
+    {
+        private static final int DEFAULT_INITIAL_CAPACITY = 1024;
+
+        private long[] heap;
+        private int size = 0;
+
+        PrimitiveCompletedTimeTracker()
+        {
+            this( DEFAULT_INITIAL_CAPACITY );
+        }
+
+        PrimitiveCompletedTimeTracker( int initialCapacity )
+        {
+            this.heap = new long[Math.max( 1, initialCapacity )];
+        }
+
+        @Override
+        public void addCompletedTimeAsMilli( long completedTimeAsMilli )
+        {
+            if ( size == heap.length )
+            { heap = Arrays.copyOf( heap, heap.length * 2 ); }
+            int index = size++;
+            // sift up
+            while ( index > 0 )
+            {
+                int parentIndex = (index - 1) >>> 1;
+                long parent = heap[parentIndex];
+                if ( parent <= completedTimeAsMilli )
+                { break; }
+                heap[index] = parent;
+                index = parentIndex;
+            }
+            heap[index] = completedTimeAsMilli;
+        }
+
+        @Override
+        public long removeTimesLowerThanAndReturnHighestRemoved( long timeAsMilli )
+        {
+            long highestRemovedAsMilli = -1;
+            while ( size > 0 && heap[0] < timeAsMilli )
+            {
+                highestRemovedAsMilli = heap[0];
+                removeLowest();
+            }
+            return highestRemovedAsMilli;
+        }
+
+        int size()
+        {
+            return size;
+        }
+
+        private void removeLowest()
+        {
+            long last = heap[--size];
+            int index = 0;
+            int half = size >>> 1;
+            // sift down
+            while ( index < half )
+            {
+                int childIndex = (index << 1) + 1;
+                long child = heap[childIndex];
+                int rightIndex = childIndex + 1;
+                if ( rightIndex < size && heap[rightIndex] < child )
+                {
+                    childIndex = rightIndex;
+                    child = heap[rightIndex];
+                }
+                if ( last <= child )
+                { break; }
+                heap[index] = child;
+                index = childIndex;
+            }
+            heap[index] = last;
+        }
+
+        @Override
+        public String toString()
+        {
+            return "PrimitiveCompletedTimeTracker{" +
+                   "size=" + size +
+                   ", capacity=" + heap.length +
+                   ", lowestCompletedTimeAsMilli=" + ((0 == size) ? -1 : heap[0]) +
+                   '}';
+        }
+    }
+
+    /**
+     * Tracks initiated times in a run-length encoded ring buffer of (time, count) pairs, using primitive arrays.
+     * Relies on initiated times being submitted in ascending order, so entries in the ring are always sorted:
+     * <ul>
+     * <li>add appends to (or increments the count of) the tail entry - O(1)</li>
+     * <li>remove finds the entry with binary search and decrements its count - O(log n)</li>
+     * <li>lowest initiated time is the head entry, after skipping past entries whose count reached zero</li>
+     * </ul>
+     * Arrays only grow (double) when the number of distinct uncompleted times exceeds their capacity.
+     */
+    static class PrimitiveInitiatedTimeTracker implements InitiatedTimeTracker
+    {
+        private static final int DEFAULT_INITIAL_CAPACITY = 1024;
+
+        private final TemporalUtil temporalUtil = new TemporalUtil();
+        private long[] times;
+        private int[] counts;
+        // index of first entry
+        private int head = 0;
+        // number of entries in ring, including entries with count of zero that head has not yet moved past
+        private int entries = 0;
+        private long lastKnownLowestInitiatedTimeAsMilli = -1;
+        private long highestInitiatedTimeAsMilli = -1;
+        private int uncompletedInitiatedTimes = 0;
+
+        PrimitiveInitiatedTimeTracker()
+        {
+            this( DEFAULT_INITIAL_CAPACITY );
+        }
+
+        PrimitiveInitiatedTimeTracker( int initialCapacity )
+        {
+            // capacity is kept a power of two so ring index wrapping is a mask
+            int capacity = Integer.highestOneBit( Math.max( 2, initialCapacity ) - 1 ) << 1;
+            this.times = new long[capacity];
+            this.counts = new int[capacity];
+        }
+
+        @Override
+        public long addInitiatedTimeAndReturnLastKnownLowestTimeAsMilli( long initiatedTimeAsMilli )
+                throws CompletionTimeException
+        {
+            if ( -1 != highestInitiatedTimeAsMilli && initiatedTimeAsMilli < highestInitiatedTimeAsMilli )
+            {
+                String errMsg = format( "Submitted initiated time is lower than previously submitted initiated time\n"
+                                        + "  Submitted: %s (%s ms)\n"
+                                        + "  Previous: %s (%s ms)",
+                        temporalUtil.milliTimeToDateTimeString( initiatedTimeAsMilli ), initiatedTimeAsMilli,
+                        temporalUtil.milliTimeToDateTimeString( highestInitiatedTimeAsMilli ),
+                        highestInitiatedTimeAsMilli
+                );
+                throw new CompletionTimeException( errMsg );
+            }
+            highestInitiatedTimeAsMilli = initiatedTimeAsMilli;
+
+            if ( 0 == uncompletedInitiatedTimes )
+            {
+                lastKnownLowestInitiatedTimeAsMilli = initiatedTimeAsMilli;
+                // every remaining entry has a count of zero
+                head = 0;
+                entries = 0;
+            }
+            int mask = times.length - 1;
+            int tail = (head + entries - 1) & mask;
+            if ( entries > 0 && times[tail] == initiatedTimeAsMilli )
+            {
+                counts[tail]++;
+            }
+            else
+            {
+                if ( entries == times.length )
+                { grow(); }
+                mask = times.length - 1;
+                tail = (head + entries) & mask;
+                times[tail] = initiatedTimeAsMilli;
+                counts[tail] = 1;
+                entries++;
+            }
+            uncompletedInitiatedTimes++;
+            return lastKnownLowestInitiatedTimeAsMilli;
+        }
+
+        @Override
+        public long removeTimeAndReturnLastKnownLowestTimeAsMilli( long timeAsMilli ) throws CompletionTimeException
+        {
+            int index = indexOf( timeAsMilli );
+            if ( -1 == index || 0 == counts[index] )
+            {
+                throw new CompletionTimeException( format(
+                        "Initiated time [%s] of completed event does not map to any uncompleted operation",
+                        timeAsMilli ) );
+            }
+            counts[index]--;
+            uncompletedInitiatedTimes--;
+            if ( 0 == uncompletedInitiatedTimes )
+            {
+                head = 0;
+                entries = 0;
+                lastKnownLowestInitiatedTimeAsMilli = highestInitiatedTimeAsMilli;
+            }
+            else
+            {
+                int mask = times.length - 1;
+                while ( 0 == counts[head] )
+                {
+                    head = (head + 1) & mask;
+                    entries--;
+                }
+                lastKnownLowestInitiatedTimeAsMilli = times[head];
+            }
+            return lastKnownLowestInitiatedTimeAsMilli;
+        }
+
+        @Override
+        public long highestInitiatedTimeAsMilli()
+        {
+            return highestInitiatedTimeAsMilli;
+        }
+
+        @Override
+        public int uncompletedInitiatedTimes()
+        {
+            return uncompletedInitiatedTimes;
+        }
+
+        // binary search over ring entries, which are sorted ascending by time and have distinct times
+        private int indexOf( long timeAsMilli )
+        {
+            int mask = times.length - 1;
+            int low = 0;
+            int high = entries - 1;
+            while ( low <= high )
+            {
+                int mid = (low + high) >>> 1;
+                int index = (head + mid) & mask;
+                long midTime = times[index];
+                if ( midTime < timeAsMilli )
+                { low = mid + 1; }
+                else if ( midTime > timeAsMilli )
+                { high = mid - 1; }
+                else
+                { return index; }
+            }
+            return -1;
+        }
+
+        private void grow()
+        {
+            int oldCapacity = times.length;
+            long[] newTimes = new long[oldCapacity * 2];
+            int[] newCounts = new int[oldCapacity * 2];
+            int firstPartLength = oldCapacity - head;
+            System.arraycopy( times, head, newTimes, 0, firstPartLength );
+            System.arraycopy( times, 0, newTimes, firstPartLength, head );
+            System.arraycopy( counts, head, newCounts, 0, firstPartLength );
+            System.arraycopy( counts, 0, newCounts, firstPartLength, head );
+            times = newTimes;
+            counts = newCounts;
+            head = 0;
+        }
+
+        @Override
+        public String toString()
+        {
+            return "PrimitiveInitiatedTimeTracker{" +
+                   "entries=" + entries +
+                   ", capacity=" + times.length +
+                   ", lastKnownLowestInitiatedTimeAsMilli=" + lastKnownLowestInitiatedTimeAsMilli +
+                   ", lastKnownLowestInitiatedTimeAsMilli=" +
+                   temporalUtil.milliTimeToDateTimeString( lastKnownLowestInitiatedTimeAsMilli ) +
+                   ", highestInitiatedTimeAsMilli=" + highestInitiatedTimeAsMilli +
+                   ", highestInitiatedTimeAsMilli=" +
+                   temporalUtil.milliTimeToDateTimeString( highestInitiatedTimeAsMilli ) +
+                   ", uncompletedInitiatedTimes=" + uncompletedInitiatedTimes +
+                   '}';
+        }
+    }
 }
@@ -0,0 +1,136 @@
+package org.ldbcouncil.snb.driver.runtime.coordination;
+
+import org.ldbcouncil.snb.driver.runtime.scheduling.Spinner;
+
+import java.util.List;
+import java.util.concurrent.Future;
+
+/**
+ * Completion time of a driver process that executes one partition of the workload streams.
+ * <p>
+ * Writers track the local completion time, of this process only, which a daemon thread publishes to the coordinator
+ * whenever it advances. Completion time is the lower of the local completion time and the global completion time
+ * last received from the coordinator, i.e., the completion time of all driver processes.
+ */
+public class DistributedCompletionTimeService implements CompletionTimeService
+{
+    private static final long PUBLISH_INTERVAL_AS_MILLI = 1;
+
+    private final CompletionTimeService localCompletionTimeService;
+    private final CompletionTimeExchangeClient exchangeClient;
+    private final Thread publisherThread;
+    private volatile boolean shutdown = false;
+    private volatile CompletionTimeException exchangeException = null;
+
+    DistributedCompletionTimeService(
+            CompletionTimeService localCompletionTimeService,
+            CompletionTimeExchangeClient exchangeClient )
+    {
+        this.localCompletionTimeService = localCompletionTimeService;
+        this.exchangeClient = exchangeClient;
+        this.publisherThread = new Thread( this::publishLocalCompletionTime, getClass().getSimpleName() + "-publisher" );
+        publisherThread.setDaemon( true );
+        publisherThread.start();
+    }
+
+    @Override
+    public long lastKnownLowestInitiatedTimeAsMilli() throws CompletionTimeException
+    {
+        return localCompletionTimeService.lastKnownLowestInitiatedTimeAsMilli();
+    }
+
+    @Override
+    public long completionTimeAsMilli() throws CompletionTimeException
+    {
+        if ( null != exchangeException )
+        {
+            throw new CompletionTimeException( "Error exchanging completion time with coordinator",
+                    exchangeException );
+        }
+        return Math.min(
+                localCompletionTimeService.completionTimeAsMilli(),
+                exchangeClient.globalCompletionTimeAsMilli()
+        );
+    }
+
+    @Override
+    public CompletionTimeWriter newCompletionTimeWriter() throws CompletionTimeException
+    {
+        return localCompletionTimeService.newCompletionTimeWriter();
+    }
+
+    @Override
+    public Future<Long> completionTimeAsMilliFuture() throws CompletionTimeException
+    {
+        return new SynchronizedCompletionTimeService.CompletionTimeAsMilliFuture( completionTimeAsMilli() );
+    }
+
+    @Override
+    public List<CompletionTimeWriter> getAllWriters() throws CompletionTimeException
+    {
+        return localCompletionTimeService.getAllWriters();
+    }
+
+    /**
+     * The listener is called whenever the global completion time received from the coordinator advances
+     */
+    @Override
+    public void setCompletionTimeAdvancedListener( CompletionTimeAdvancedListener listener )
+    {
+        exchangeClient.setGlobalCompletionTimeListener( () ->
+        {
+            try
+            {
+                listener.completionTimeMayHaveAdvanced();
+            }
+            catch ( CompletionTimeException e )
+            {
+                exchangeException = e;
+            }
+        } );
+    }
+
+    /**
+     * Other driver processes may still be running, this one no longer holds back their completion time
+     */
+    @Override
+    public void shutdown() throws CompletionTimeException
+    {
+        shutdown = true;
+        try
+        {
+            publisherThread.join();
+        }
+        catch ( InterruptedException e )
+        {
+            throw new CompletionTimeException( "Interrupted while stopping completion time publisher", e );
+        }
+        exchangeClient.submitCompletionTimeAsMilli( Long.MAX_VALUE );
+        localCompletionTimeService.shutdown();
+    }
+
+    private void publishLocalCompletionTime()
+    {
+        long publishedCompletionTimeAsMilli = -1;
+        try
+        {
+            while ( !shutdown )
+            {
+                long localCompletionTimeAsMilli = localCompletionTimeService.completionTimeAsMilli();
+                if ( localCompletionTimeAsMilli > publishedCompletionTimeAsMilli )
+                {
+                    exchangeClient.submitCompletionTimeAsMilli( localCompletionTimeAsMilli );
+                    publishedCompletionTimeAsMilli = localCompletionTimeAsMilli;
+                }
+                else
+                {
+                    Spinner.powerNap( PUBLISH_INTERVAL_AS_MILLI );
+                }
+            }
+        }
+        catch ( CompletionTimeException e )
+        {
+            exchangeException = e;
+        }
+    }
+}
@@ -0,0 +1,422 @@
+package org.ldbcouncil.snb.driver.runtime.coordination;
+
+import com.lmax.disruptor.Sequence;
+import org.ldbcouncil.snb.driver.temporal.TemporalUtil;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+import static java.lang.String.format;
+
+/**
+ * Completion time service without a central lock or queue thread.
+ * <p/>
+ * Every writer keeps a log of its initiated times, in ascending order, with a count of initiated and of completed
+ * events per distinct time. Times and initiated counts have a single writer, the thread submitting initiated times,
+ * while handler threads increment completed counts with compare-and-set. No monitor is taken on either path.
+ * <p/>
+ * Readers fold the logs together without locking. Each writer has a cursor at its first time that still has
+ * uncompleted events, or at its last time, which readers advance past times whose events have all completed:
+ * <p/>
+ * Completion Time = max( writer completion times that are lower than min( writer initiated times ) )
+ * <p/>
+ * where a writer's initiated time is the time at its cursor and its completion time is the last time the cursor
+ * passed. Both only ever increase, and readers load initiated times before completion times,
+ * so a stale initiated time can only make the result more conservative, never incorrect.
+ * <p/>
+ * Writers are expected to be created before any times are submitted, and initiated times of a writer to be
+ * submitted by one thread at a time.
+ * <p/>
+ * Writers are created one after the other, so their state would be laid out next to each other. The fields written
+ * on every submission, i.e., initiating thread state, chunk size and cursor, are padded on both sides, as in the
+ * Sequence of the disruptor, so writers do not false share cache lines with each other, nor with readers.
+ */
+public class LockFreeCompletionTimeService implements CompletionTimeService
+{
+    private static final LockFreeCompletionTimeWriter[] NO_WRITERS = new LockFreeCompletionTimeWriter[0];
+
+    private final Sequence completionTimeAsMilli = new Sequence( -1 );
+    private final AtomicBoolean sharedIsShuttingDownReference = new AtomicBoolean( false );
+    private volatile LockFreeCompletionTimeWriter[] writers = NO_WRITERS;
+
+    LockFreeCompletionTimeService()
+    {
+    }
+
+    @Override
+    public long lastKnownLowestInitiatedTimeAsMilli() throws CompletionTimeException
+    {
+        return lowestInitiatedTimeAsMilli( writers );
+    }
+
+    @Override
+    public long completionTimeAsMilli() throws CompletionTimeException
+    {
+        LockFreeCompletionTimeWriter[] currentWriters = writers;
+        long initiatedTimeAsMilli = lowestInitiatedTimeAsMilli( currentWriters );
+        if ( -1 == initiatedTimeAsMilli )
+        {
+            // if any initiation times are null, completion time can not advance
+            return completionTimeAsMilli.get();
+        }
+        long highestSafeCompletionTimeAsMilli = -1;
+        for ( int i = 0; i < currentWriters.length; i++ )
+        {
+            long writerCompletionTimeAsMilli = currentWriters[i].completionTimeAsMilli();
+            if ( writerCompletionTimeAsMilli < initiatedTimeAsMilli &&
+                 writerCompletionTimeAsMilli > highestSafeCompletionTimeAsMilli )
+            {
+                highestSafeCompletionTimeAsMilli = writerCompletionTimeAsMilli;
+            }
+        }
+        // completion time never moves backwards, concurrent readers race to advance it
+        long currentCompletionTimeAsMilli = completionTimeAsMilli.get();
+        while ( highestSafeCompletionTimeAsMilli > currentCompletionTimeAsMilli )
+        {
+            if ( completionTimeAsMilli.compareAndSet( currentCompletionTimeAsMilli, highestSafeCompletionTimeAsMilli ) )
+            {
+                return highestSafeCompletionTimeAsMilli;
+            }
+            currentCompletionTimeAsMilli = completionTimeAsMilli.get();
+        }
+        return currentCompletionTimeAsMilli;
+    }
+
+    @Override
+    synchronized public CompletionTimeWriter newCompletionTimeWriter() throws CompletionTimeException
+    {
+        if ( sharedIsShuttingDownReference.get() )
+        {
+            throw new CompletionTimeException( "Can not create writer after calling shutdown" );
+        }
+        LockFreeCompletionTimeWriter[] newWriters = Arrays.copyOf( writers, writers.length + 1 );
+        LockFreeCompletionTimeWriter writer = new LockFreeCompletionTimeWriter(
+                writers.length,
+                sharedIsShuttingDownReference );
+        newWriters[writers.length] = writer;
+        writers = newWriters;
+        return writer;
+    }
+
+    @Override
+    public Future<Long> completionTimeAsMilliFuture() throws CompletionTimeException
+    {
+        return new SynchronizedCompletionTimeService.CompletionTimeAsMilliFuture( completionTimeAsMilli() );
+    }
+
+    @Override
+    public List<CompletionTimeWriter> getAllWriters() throws CompletionTimeException
+    {
+        return Collections.unmodifiableList( new ArrayList<CompletionTimeWriter>( Arrays.asList( writers ) ) );
+    }
+
+    @Override
+    public void shutdown() throws CompletionTimeException
+    {
+        sharedIsShuttingDownReference.set( true );
+    }
+
+    private static long lowestInitiatedTimeAsMilli( LockFreeCompletionTimeWriter[] writers )
+    {
+        if ( 0 == writers.length )
+        {
+            return -1;
+        }
+        long lowestInitiatedTimeAsMilli = Long.MAX_VALUE;
+        for ( int i = 0; i < writers.length; i++ )
+        {
+            long writerInitiatedTimeAsMilli = writers[i].lowestInitiatedTimeAsMilli();
+            if ( -1 == writerInitiatedTimeAsMilli )
+            {
+                return -1;
+            }
+            else if ( writerInitiatedTimeAsMilli < lowestInitiatedTimeAsMilli )
+            {
+                lowestInitiatedTimeAsMilli = writerInitiatedTimeAsMilli;
+            }
+        }
+        return lowestInitiatedTimeAsMilli;
+    }
+
+    /**
+     * Fields of subclasses are laid out after this padding, and before their own trailing padding
+     */
+    abstract static class LhsPadding
+    {
+        protected long p1, p2, p3, p4, p5, p6, p7;
+    }
+
+    abstract static class InitiatingThreadFields extends LhsPadding
+    {
+        // only accessed by the thread submitting initiated times
+        LockFreeCompletionTimeWriter.Chunk tailChunk;
+        long highestInitiatedTimeAsMilli = -1;
+    }
+
+    /**
+     * Owns the initiated time log of a single writer, see the service for how it is written and read
+     */
+    public static class LockFreeCompletionTimeWriter extends InitiatingThreadFields implements CompletionTimeWriter
+    {
+        private static final int CHUNK_CAPACITY = 1024;
+
+        protected long p9, p10, p11, p12, p13, p14, p15;
+        private final TemporalUtil temporalUtil = new TemporalUtil();
+        private final int writerId;
+        private final AtomicBoolean sharedIsShuttingDownReference;
+        // chunks before the cursor are no longer referenced, and are collected
+        private final PaddedCursorReference cursor;
+
+        private LockFreeCompletionTimeWriter( int writerId, AtomicBoolean sharedIsShuttingDownReference )
+        {
+            this.writerId = writerId;
+            this.sharedIsShuttingDownReference = sharedIsShuttingDownReference;
+            this.tailChunk = new Chunk();
+            this.cursor = new PaddedCursorReference( new Cursor( tailChunk, 0, -1 ) );
+        }
+
+        @Override
+        public void submitInitiatedTime( long timeAsMilli ) throws CompletionTimeException
+        {
+            if ( sharedIsShuttingDownReference.get() )
+            {
+                throw new CompletionTimeException( "Can not submit initiated time after calling shutdown" );
+            }
+            if ( -1 != highestInitiatedTimeAsMilli && timeAsMilli < highestInitiatedTimeAsMilli )
+            {
+                String errMsg = format( "Submitted initiated time is lower than previously submitted initiated time\n"
+                                        + "  Submitted: %s (%s ms)\n"
+                                        + "  Previous: %s (%s ms)",
+                        temporalUtil.milliTimeToDateTimeString( timeAsMilli ), timeAsMilli,
+                        temporalUtil.milliTimeToDateTimeString( highestInitiatedTimeAsMilli ),
+                        highestInitiatedTimeAsMilli
+                );
+                throw new CompletionTimeException( errMsg );
+            }
+            Chunk chunk = tailChunk;
+            int size = chunk.size;
+            if ( size > 0 && chunk.times[size - 1] == timeAsMilli )
+            {
+                // readers never move the cursor past the last time, so it may still be incremented
+                chunk.initiatedCounts.incrementAndGet( size - 1 );
+            }
+            else if ( size < CHUNK_CAPACITY )
+            {
+                chunk.times[size] = timeAsMilli;
+                chunk.initiatedCounts.set( size, 1 );
+                // publishes the new time
+                chunk.size = size + 1;
+            }
+            else
+            {
+                Chunk nextChunk = new Chunk();
+                nextChunk.times[0] = timeAsMilli;
+                nextChunk.initiatedCounts.set( 0, 1 );
+                nextChunk.size = 1;
+                // publishes the new chunk
+                chunk.next = nextChunk;
+                tailChunk = nextChunk;
+                // so chunks are released even when there are no readers
+                advanceCursor();
+            }
+            highestInitiatedTimeAsMilli = timeAsMilli;
+        }
+
+        @Override
+        public void submitCompletedTime( long timeAsMilli ) throws CompletionTimeException
+        {
+            // the completed event was initiated before it completed, so its time is at or after the cursor
+            Cursor current = cursor.get();
+            Chunk chunk = current.chunk;
+            int fromIndex = current.index;
+            while ( null != chunk )
+            {
+                int size = chunk.size;
+                if ( size > 0 && timeAsMilli <= chunk.times[size - 1] )
+                {
+                    int index = Arrays.binarySearch( chunk.times, fromIndex, size, timeAsMilli );
+                    if ( index >= 0 && incrementCompletedCount( chunk, index ) )
+                    {
+                        return;
+                    }
+                    break;
+                }
+                chunk = chunk.next;
+                fromIndex = 0;
+            }
+            throw new CompletionTimeException(
+                    format( "Error submitting completed time for Time[%s] to writer %s", timeAsMilli, writerId ),
+                    new CompletionTimeException( format(
+                            "Initiated time [%s] of completed event does not map to any uncompleted operation",
+                            timeAsMilli ) ) );
+        }
+
+        private static boolean incrementCompletedCount( Chunk chunk, int index )
+        {
+            while ( true )
+            {
+                int completedCount = chunk.completedCounts.get( index );
+                if ( completedCount >= chunk.initiatedCounts.get( index ) )
+                {
+                    return false;
+                }
+                if ( chunk.completedCounts.compareAndSet( index, completedCount, completedCount + 1 ) )
+                {
+                    return true;
+                }
+            }
+        }
+
+        /**
+         * @return lowest initiated time that has uncompleted events, or the highest initiated time if there are
+         * none, -1 if no time was initiated yet
+         */
+        private long lowestInitiatedTimeAsMilli()
+        {
+            Cursor current = advanceCursor();
+            return (current.index < current.chunk.size) ? current.chunk.times[current.index] : -1;
+        }
+
+        /**
+         * @return highest initiated time lower than the lowest initiated time, all events of which have completed
+         */
+        private long completionTimeAsMilli()
+        {
+            return cursor.get().completionTimeAsMilli;
+        }
+
+        // called by readers, and by the initiating thread, concurrent callers race to move the cursor forwards
+        private Cursor advanceCursor()
+        {
+            while ( true )
+            {
+                Cursor current = cursor.get();
+                Chunk chunk = current.chunk;
+                int index = current.index;
+                long completionTimeAsMilli = current.completionTimeAsMilli;
+                while ( true )
+                {
+                    int size = chunk.size;
+                    if ( index < size - 1 || (index == size - 1 && null != chunk.next) )
+                    {
+                        // not the last time, so its initiated count is final
+                        if ( chunk.completedCounts.get( index ) < chunk.initiatedCounts.get( index ) )
+                        {
+                            break;
+                        }
+                        completionTimeAsMilli = chunk.times[index];
+                        index++;
+                    }
+                    else if ( index == size && null != chunk.next )
+                    {
+                        chunk = chunk.next;
+                        index = 0;
+                    }
+                    else
+                    {
+                        break;
+                    }
+                }
+                if ( chunk == current.chunk && index == current.index )
+                {
+                    return current;
+                }
+                Cursor advanced = new Cursor( chunk, index, completionTimeAsMilli );
+                if ( cursor.compareAndSet( current, advanced ) )
+                {
+                    return advanced;
+                }
+            }
+        }
+
+        @Override
+        public String toString()
+        {
+            Cursor current = cursor.get();
+            return "LockFreeCompletionTimeWriter{" +
+                   "writerId=" + writerId +
+                   ", lowestInitiatedTimeAsMilli=" +
+                   ((current.index < current.chunk.size) ? current.chunk.times[current.index] : -1) +
+                   ", completionTimeAsMilli=" + current.completionTimeAsMilli +
+                   '}';
+        }
+
+        /**
+         * Distinct initiated times in ascending order, with their initiated and completed event counts.
+         * Times and size are only written by the initiating thread, size and next publish what it wrote.
+         */
+        private abstract static class ChunkFields extends LhsPadding
+        {
+            final long[] times = new long[CHUNK_CAPACITY];
+            final AtomicIntegerArray initiatedCounts = new AtomicIntegerArray( CHUNK_CAPACITY );
+            final AtomicIntegerArray completedCounts = new AtomicIntegerArray( CHUNK_CAPACITY );
+            volatile int size = 0;
+            volatile Chunk next = null;
+        }
+
+        private static class Chunk extends ChunkFields
+        {
+            protected long p9, p10, p11, p12, p13, p14, p15;
+        }
+
+        private abstract static class CursorValue extends LhsPadding
+        {
+            protected volatile Cursor value;
+        }
+
+        private static class PaddedCursorReference extends CursorValue
+        {
+            private static final VarHandle VALUE;
+
+            static
+            {
+                try
+                {
+                    VALUE = MethodHandles.lookup().findVarHandle( CursorValue.class, "value", Cursor.class );
+                }
+                catch ( ReflectiveOperationException e )
+                {
+                    throw new ExceptionInInitializerError( e );
+                }
+            }
+
+            protected long p9, p10, p11, p12, p13, p14, p15;
+
+            private PaddedCursorReference( Cursor cursor )
+            {
+                this.value = cursor;
+            }
+
+            private Cursor get()
+            {
+                return value;
+            }
+
+            private boolean compareAndSet( Cursor expected, Cursor updated )
+            {
+                return VALUE.compareAndSet( this, expected, updated );
+            }
+        }
+
+        private static class Cursor
+        {
+            private final Chunk chunk;
+            private final int index;
+            private final long completionTimeAsMilli;
+
+            private Cursor( Chunk chunk, int index, long completionTimeAsMilli )
+            {
+                this.chunk = chunk;
+                this.index = index;
+                this.completionTimeAsMilli = completionTimeAsMilli;
+            }
+        }
+    }
+}
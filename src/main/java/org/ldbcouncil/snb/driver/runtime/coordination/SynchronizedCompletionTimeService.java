@@ -105,7 +105,7 @@ public class SynchronizedCompletionTimeService implements CompletionTimeService
         }
     }
 
-    private static class CompletionTimeAsMilliFuture implements Future<Long>
+    static class CompletionTimeAsMilliFuture implements Future<Long>
     {
         private final long completionTimeValueAsMilli;
 
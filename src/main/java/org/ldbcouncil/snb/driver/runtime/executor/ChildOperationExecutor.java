@@ -7,6 +7,11 @@ import org.ldbcouncil.snb.driver.OperationHandlerRunnableContext;
 import org.ldbcouncil.snb.driver.WorkloadException;
 import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeException;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+
 public class ChildOperationExecutor
 {
     public void execute(
@@ -52,4 +57,128 @@ public class ChildOperationExecutor
             }
         }
     }
+
+    /**
+     * Asynchronous counterpart of execute(), child operations are executed one after another, as each is generated
+     * from the result of the one before it. Children with an AsyncOperationHandler are chained on completion of their
+     * handler, without blocking a thread while in flight, others are run synchronously.
+     *
+     * @param executor runs the generation and execution of each child once its predecessor has completed, submitting
+     * to it must not block, as it is done on the thread that completed the predecessor
+     * @return stage that completes once the last child operation has completed
+     */
+    public CompletionStage<Void> executeAsync(
+            ChildOperationGenerator childOperationGenerator,
+            Operation operation,
+            Object result,
+            long actualStartTimeAsMilli,
+            long runDurationAsNano,
+            OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever,
+            Executor executor )
+    {
+        if ( null == childOperationGenerator )
+        {
+            return CompletableFuture.completedFuture( null );
+        }
+        try
+        {
+            double state = childOperationGenerator.initialState();
+            Operation childOperation = childOperationGenerator.nextOperation(
+                    state,
+                    operation,
+                    result,
+                    actualStartTimeAsMilli,
+                    runDurationAsNano
+            );
+            return executeChildAsync(
+                    childOperationGenerator,
+                    state,
+                    childOperation,
+                    operationHandlerRunnableContextRetriever,
+                    executor
+            );
+        }
+        catch ( Throwable e )
+        {
+            return CompletableFuture.failedFuture( e );
+        }
+    }
+
+    private CompletionStage<Void> executeChildAsync(
+            ChildOperationGenerator childOperationGenerator,
+            double state,
+            Operation operation,
+            OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever,
+            Executor executor ) throws OperationExecutorException, DbException, CompletionTimeException
+    {
+        if ( null == operation )
+        {
+            return CompletableFuture.completedFuture( null );
+        }
+        OperationHandlerRunnableContext childOperationHandlerRunnableContext =
+                operationHandlerRunnableContextRetriever.getInitializedHandlerFor( operation );
+        // the handler is cleaned up once its child completes, whether or not it succeeded
+        Function<Throwable,CompletionStage<Void>> executeNextChild = failure ->
+        {
+            double nextState;
+            Operation nextOperation;
+            try
+            {
+                if ( null != failure )
+                {
+                    return CompletableFuture.failedFuture( failure );
+                }
+                nextState = childOperationGenerator.updateState( state, operation.type() );
+                nextOperation = childOperationGenerator.nextOperation(
+                        nextState,
+                        childOperationHandlerRunnableContext.operation(),
+                        childOperationHandlerRunnableContext.resultReporter().result(),
+                        childOperationHandlerRunnableContext.resultReporter().actualStartTimeAsMilli(),
+                        childOperationHandlerRunnableContext.resultReporter().runDurationAsNano()
+                );
+            }
+            catch ( Throwable e )
+            {
+                return CompletableFuture.failedFuture( e );
+            }
+            finally
+            {
+                childOperationHandlerRunnableContext.cleanup();
+            }
+            try
+            {
+                return executeChildAsync(
+                        childOperationGenerator,
+                        nextState,
+                        nextOperation,
+                        operationHandlerRunnableContextRetriever,
+                        executor
+                );
+            }
+            catch ( Throwable e )
+            {
+                return CompletableFuture.failedFuture( e );
+            }
+        };
+        if ( childOperationHandlerRunnableContext.isAsync() )
+        {
+            // continue on the executor, rather than on the thread that completed the handler (e.g., a driver I/O thread)
+            return childOperationHandlerRunnableContext.runAsync()
+                    .handle( ( ignore, throwable ) -> throwable )
+                    .thenComposeAsync( executeNextChild, executor );
+        }
+        else
+        {
+            Throwable failure = null;
+            try
+            {
+                childOperationHandlerRunnableContext.run();
+            }
+            catch ( Throwable e )
+            {
+                failure = e;
+            }
+            return executeNextChild.apply( failure );
+        }
+    }
 }
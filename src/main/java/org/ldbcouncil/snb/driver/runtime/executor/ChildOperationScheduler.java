@@ -0,0 +1,279 @@
+package org.ldbcouncil.snb.driver.runtime.executor;
+
+import org.ldbcouncil.snb.driver.ChildOperationGenerator;
+import org.ldbcouncil.snb.driver.DbException;
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.OperationHandlerRunnableContext;
+import org.ldbcouncil.snb.driver.WorkloadException;
+import org.ldbcouncil.snb.driver.runtime.ConcurrentErrorReporter;
+import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeException;
+import org.ldbcouncil.snb.driver.temporal.TimeSource;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+
+/**
+ * Submits child operations (e.g., short reads) to an executor as tasks of their own, one at a time, rather than
+ * running a whole chain of them on the thread that completed the parent.
+ * <p>
+ * Each child is generated from the result of the operation before it, once that operation completes, and is handed to
+ * the executor as a task of its own: straight away when it is already due, by a timer thread at its scheduled start
+ * time otherwise. Handing over never blocks the calling (worker) thread, nor the timer thread: due children are
+ * queued to a hand off thread, which is the only one that waits for room in the queue of the executor.
+ * Every child counts as an uncompleted handler from when it is generated until its task completes, or
+ * until it is abandoned, because the executor rejected it or the scheduler was shutdown before it was due, in which
+ * case its handler is cleaned up and the error is reported.
+ */
+class ChildOperationScheduler
+{
+    private final ChildOperationGenerator childOperationGenerator;
+    private final OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever;
+    private final AtomicLong uncompletedHandlers;
+    private final TimeSource timeSource;
+    private final boolean ignoreScheduledStartTimes;
+    private final ConcurrentErrorReporter errorReporter;
+    private final ScheduledExecutorService timer;
+    // unbounded queue, so the timer thread never blocks when handing a due child over
+    private final ExecutorService handOffExecutor;
+    // children that were not yet handed to the executor, whoever removes a child owns it
+    private final Set<ChildOperationTask> pendingChildren = ConcurrentHashMap.newKeySet();
+    private Executor executor = null;
+
+    ChildOperationScheduler( ChildOperationGenerator childOperationGenerator,
+            OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever,
+            AtomicLong uncompletedHandlers,
+            TimeSource timeSource,
+            boolean ignoreScheduledStartTimes,
+            ConcurrentErrorReporter errorReporter )
+    {
+        this.childOperationGenerator = childOperationGenerator;
+        this.operationHandlerRunnableContextRetriever = operationHandlerRunnableContextRetriever;
+        this.uncompletedHandlers = uncompletedHandlers;
+        this.timeSource = timeSource;
+        this.ignoreScheduledStartTimes = ignoreScheduledStartTimes;
+        this.errorReporter = errorReporter;
+        this.timer = new ScheduledThreadPoolExecutor( 1, daemonThreadFactory( "timer" ) );
+        this.handOffExecutor = Executors.newSingleThreadExecutor( daemonThreadFactory( "hand-off" ) );
+    }
+
+    private static ThreadFactory daemonThreadFactory( String role )
+    {
+        return new ThreadFactory()
+        {
+            private final long factoryTimeStampId = System.currentTimeMillis();
+
+            @Override
+            public Thread newThread( Runnable runnable )
+            {
+                Thread thread = new Thread(
+                        runnable,
+                        ChildOperationScheduler.class.getSimpleName() + "-" + role + "-id(" + factoryTimeStampId + ")"
+                );
+                thread.setDaemon( true );
+                return thread;
+            }
+        };
+    }
+
+    /**
+     * Must be called before any child is scheduled
+     */
+    void setExecutor( Executor executor )
+    {
+        this.executor = executor;
+    }
+
+    /**
+     * Generates and schedules the first child of a completed parent, if any
+     */
+    void scheduleFirstChildOf( OperationHandlerRunnableContext parentOperationHandlerRunnableContext )
+            throws WorkloadException, OperationExecutorException, CompletionTimeException, DbException
+    {
+        if ( null == childOperationGenerator )
+        {
+            return;
+        }
+        double state = childOperationGenerator.initialState();
+        schedule( state, nextOperation( state, parentOperationHandlerRunnableContext ) );
+    }
+
+    /**
+     * Generates and schedules the child that follows a completed child, if any
+     */
+    void scheduleNextChildOf( ChildOperationTask childOperationTask )
+            throws WorkloadException, OperationExecutorException, CompletionTimeException, DbException
+    {
+        OperationHandlerRunnableContext operationHandlerRunnableContext =
+                childOperationTask.operationHandlerRunnableContext();
+        double state = childOperationGenerator.updateState(
+                childOperationTask.state(),
+                operationHandlerRunnableContext.operation().type()
+        );
+        schedule( state, nextOperation( state, operationHandlerRunnableContext ) );
+    }
+
+    /**
+     * Abandons the children that were not yet handed to the executor
+     */
+    void shutdown()
+    {
+        timer.shutdownNow();
+        // interrupts a hand off waiting for room in the queue of the executor, which then rejects the child
+        handOffExecutor.shutdownNow();
+        int abandonedChildren = 0;
+        for ( ChildOperationTask childOperationTask : pendingChildren )
+        {
+            if ( pendingChildren.remove( childOperationTask ) )
+            {
+                release( childOperationTask );
+                abandonedChildren++;
+            }
+        }
+        if ( abandonedChildren > 0 )
+        {
+            errorReporter.reportError( this,
+                    format( "%s shutdown before %s child operations were due, they were not executed",
+                            getClass().getSimpleName(),
+                            abandonedChildren ) );
+        }
+    }
+
+    private Operation nextOperation( double state, OperationHandlerRunnableContext operationHandlerRunnableContext )
+            throws WorkloadException
+    {
+        return childOperationGenerator.nextOperation(
+                state,
+                operationHandlerRunnableContext.operation(),
+                operationHandlerRunnableContext.resultReporter().result(),
+                operationHandlerRunnableContext.resultReporter().actualStartTimeAsMilli(),
+                operationHandlerRunnableContext.resultReporter().runDurationAsNano()
+        );
+    }
+
+    private void schedule( double state, Operation operation )
+            throws OperationExecutorException, CompletionTimeException, DbException
+    {
+        if ( null == operation )
+        {
+            return;
+        }
+        ChildOperationTask childOperationTask = new ChildOperationTask(
+                operationHandlerRunnableContextRetriever.getInitializedHandlerFor( operation ),
+                state
+        );
+        uncompletedHandlers.incrementAndGet();
+        pendingChildren.add( childOperationTask );
+        long delayAsMilli = (ignoreScheduledStartTimes)
+                            ? 0
+                            : operation.scheduledStartTimeAsMilli() - timeSource.nowAsMilli();
+        if ( delayAsMilli <= 0 )
+        {
+            queueHandOff( childOperationTask );
+            return;
+        }
+        try
+        {
+            // the spinner still waits for the precise scheduled start time, once the task is executed
+            timer.schedule( () -> queueHandOff( childOperationTask ), delayAsMilli, TimeUnit.MILLISECONDS );
+        }
+        catch ( RejectedExecutionException e )
+        {
+            abandon( childOperationTask, e );
+        }
+    }
+
+    // runs on the timer thread, or on the thread that completed the previous operation when the child is due
+    private void queueHandOff( ChildOperationTask childOperationTask )
+    {
+        try
+        {
+            handOffExecutor.execute( () -> handOff( childOperationTask ) );
+        }
+        catch ( RejectedExecutionException e )
+        {
+            abandon( childOperationTask, e );
+        }
+    }
+
+    // runs on the hand off thread, the only one that blocks while the queue of the executor is full
+    private void handOff( ChildOperationTask childOperationTask )
+    {
+        if ( !pendingChildren.remove( childOperationTask ) )
+        {
+            // abandoned by shutdown()
+            return;
+        }
+        try
+        {
+            executor.execute( childOperationTask );
+        }
+        catch ( Throwable e )
+        {
+            release( childOperationTask );
+            reportAbandoned( childOperationTask, e );
+        }
+    }
+
+    private void abandon( ChildOperationTask childOperationTask, Throwable cause )
+    {
+        if ( pendingChildren.remove( childOperationTask ) )
+        {
+            release( childOperationTask );
+            reportAbandoned( childOperationTask, cause );
+        }
+    }
+
+    private void release( ChildOperationTask childOperationTask )
+    {
+        uncompletedHandlers.decrementAndGet();
+        // never run, so it is cancelled rather than only cleaned up
+        childOperationTask.operationHandlerRunnableContext().cancel();
+    }
+
+    private void reportAbandoned( ChildOperationTask childOperationTask, Throwable cause )
+    {
+        errorReporter.reportError( this,
+                format( "Child operation could not be handed to the executor\nOperation: %s\n%s",
+                        childOperationTask.operationHandlerRunnableContext().operation(),
+                        ConcurrentErrorReporter.stackTraceToString( cause ) ) );
+    }
+
+    static class ChildOperationTask implements Runnable
+    {
+        private final OperationHandlerRunnableContext operationHandlerRunnableContext;
+        private final double state;
+
+        private ChildOperationTask( OperationHandlerRunnableContext operationHandlerRunnableContext, double state )
+        {
+            this.operationHandlerRunnableContext = operationHandlerRunnableContext;
+            this.state = state;
+        }
+
+        OperationHandlerRunnableContext operationHandlerRunnableContext()
+        {
+            return operationHandlerRunnableContext;
+        }
+
+        double state()
+        {
+            return state;
+        }
+
+        @Override
+        public void run()
+        {
+            operationHandlerRunnableContext.run();
+        }
+    }
+}
@@ -18,4 +18,14 @@ public interface OperationExecutor {
     public void shutdown(long waitAsMilli) throws OperationExecutorException;
 
     public long uncompletedOperationHandlerCount();
+
+    /**
+     * @return fraction of the threads, or of the concurrency limit, of this executor that is in use, from 0 to 1
+     */
+    public double utilisation();
+
+    /**
+     * @return number of operation handlers waiting to be executed, e.g., in the queue of a thread pool
+     */
+    public long queuedOperationHandlerCount();
 }
@@ -2,7 +2,9 @@ package org.ldbcouncil.snb.driver.runtime.executor;
 
 import org.ldbcouncil.snb.driver.Db;
 import org.ldbcouncil.snb.driver.DbException;
+import org.ldbcouncil.snb.driver.EntityDependentOperation;
 import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.OperationHandler;
 import org.ldbcouncil.snb.driver.OperationHandlerRunnableContext;
 import org.ldbcouncil.snb.driver.WorkloadStreams;
 import org.ldbcouncil.snb.driver.runtime.ConcurrentErrorReporter;
@@ -12,26 +14,35 @@ import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeWriter;
 import org.ldbcouncil.snb.driver.runtime.coordination.DummyCompletionTimeWriter;
 import org.ldbcouncil.snb.driver.runtime.metrics.MetricsService;
 import org.ldbcouncil.snb.driver.runtime.scheduling.CtDependencyCheck;
+import org.ldbcouncil.snb.driver.runtime.scheduling.EntityDependencyCheck;
 import org.ldbcouncil.snb.driver.runtime.scheduling.Spinner;
+import org.ldbcouncil.snb.driver.runtime.scheduling.SpinnerCheck;
 import org.ldbcouncil.snb.driver.temporal.TimeSource;
 
 import java.util.Set;
 
 import static java.lang.String.format;
 
-// TODO test
+/**
+ * Retrieves and initializes runnable contexts for the operation executors, and for the child operation executor.
+ * <p>
+ * Everything that depends only on the type of an operation, i.e., its handler, the completion time writer it submits
+ * to, and the check it waits on before executing, is compiled once, from the stream definition and the handlers
+ * registered with the DB, into a dispatch table indexed by Operation.type().
+ * <p>
+ * If an entity dependency check is given, dependent operations that are EntityDependentOperation wait on it instead of
+ * on completion time, and are registered with it as they are retrieved, i.e., in the order they are submitted.
+ */
 class OperationHandlerRunnableContextRetriever
 {
     private static final CompletionTimeWriter DUMMY_COMPLETION_TIME_WRITER = new DummyCompletionTimeWriter();
     private final Db db;
-    private final CompletionTimeWriter completionTimeWriter;
     private final Spinner spinner;
     private final TimeSource timeSource;
     private final ConcurrentErrorReporter errorReporter;
     private final MetricsService metricsService;
-    private final Set<Class<? extends Operation>> dependencyOperationTypes;
-    private final Set<Class<? extends Operation>> dependentOperationTypes;
-    private final CtDependencyCheck ctDependencyCheck;
+    private final EntityDependencyCheck entityDependencyCheck;
+    private final OperationDispatch[] dispatchTable;
 
     OperationHandlerRunnableContextRetriever(
             WorkloadStreams.WorkloadStreamDefinition streamDefinition,
@@ -42,48 +53,77 @@ class OperationHandlerRunnableContextRetriever
             TimeSource timeSource,
             ConcurrentErrorReporter errorReporter,
             MetricsService metricsService )
+    {
+        this(
+                streamDefinition,
+                db,
+                completionTimeWriter,
+                completionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                null
+        );
+    }
+
+    OperationHandlerRunnableContextRetriever(
+            WorkloadStreams.WorkloadStreamDefinition streamDefinition,
+            Db db,
+            CompletionTimeWriter completionTimeWriter,
+            CompletionTimeReader completionTimeReader,
+            Spinner spinner,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            MetricsService metricsService,
+            EntityDependencyCheck entityDependencyCheck )
     {
         this.db = db;
-        this.completionTimeWriter = completionTimeWriter;
         this.spinner = spinner;
         this.timeSource = timeSource;
         this.errorReporter = errorReporter;
         this.metricsService = metricsService;
-        this.dependentOperationTypes = streamDefinition.dependentOperationTypes();
-        this.dependencyOperationTypes = streamDefinition.dependencyOperationTypes();
-        this.ctDependencyCheck = new CtDependencyCheck( completionTimeReader, errorReporter );
+        this.entityDependencyCheck = entityDependencyCheck;
+        this.dispatchTable = compileDispatchTable(
+                db,
+                streamDefinition.dependencyOperationTypes(),
+                streamDefinition.dependentOperationTypes(),
+                completionTimeWriter,
+                new CtDependencyCheck( completionTimeReader, errorReporter ),
+                entityDependencyCheck
+        );
     }
 
     OperationHandlerRunnableContext getInitializedHandlerFor( Operation operation )
             throws OperationExecutorException, CompletionTimeException, DbException
     {
+        int operationType = operation.type();
+        OperationDispatch dispatch = (operationType >= 0 && operationType < dispatchTable.length)
+                                     ? dispatchTable[operationType]
+                                     : null;
+        if ( null == dispatch )
+        {
+            throw new OperationExecutorException(
+                    format( "Error while retrieving handler for operation\nOperation: %s", operation ),
+                    new DbException( format( "No handler registered for %s", operation.getClass() ) ) );
+        }
         OperationHandlerRunnableContext operationHandlerRunnableContext;
         try
         {
-            operationHandlerRunnableContext = db.getOperationHandlerRunnableContext( operation );
+            operationHandlerRunnableContext = db.getOperationHandlerRunnableContext( dispatch.operationHandler );
         }
         catch ( Exception e )
         {
             throw new OperationExecutorException(
                     format( "Error while retrieving handler for operation\nOperation: %s", operation ), e );
         }
-        CompletionTimeWriter completionTimeWriterForHandler;
-        // TODO this should really be a Set<Integer> --> even PrimitiveIntSet
-        if ( dependencyOperationTypes.contains( operation.getClass() ) )
-        {
-            completionTimeWriterForHandler = completionTimeWriter;
-        }
-        else
-        {
-            completionTimeWriterForHandler = DUMMY_COMPLETION_TIME_WRITER;
-        }
         try
         {
             operationHandlerRunnableContext.init(
                     timeSource,
                     spinner,
                     operation,
-                    completionTimeWriterForHandler,
+                    dispatch.completionTimeWriter,
                     errorReporter,
                     metricsService
             );
@@ -92,11 +132,92 @@ class OperationHandlerRunnableContextRetriever
         {
             throw new OperationExecutorException( format( "Error initializing handler for: %s", operation ), e );
         }
-        // TODO this should really be a Set<Integer> --> even PrimitiveIntSet
-        if ( dependentOperationTypes.contains( operation.getClass() ) )
+        operationHandlerRunnableContext.setBeforeExecuteCheck( dispatch.beforeExecuteCheck );
+        if ( dispatch.entityDependent )
         {
-            operationHandlerRunnableContext.setBeforeExecuteCheck( ctDependencyCheck );
+            entityDependencyCheck.register( (EntityDependentOperation) operation );
         }
         return operationHandlerRunnableContext;
     }
+
+    /**
+     * @return true if operations of this type advance completion time, i.e., other operations may depend on them
+     */
+    boolean isDependencyOperation( Operation operation )
+    {
+        int operationType = operation.type();
+        OperationDispatch dispatch = (operationType >= 0 && operationType < dispatchTable.length)
+                                     ? dispatchTable[operationType]
+                                     : null;
+        return null != dispatch && dispatch.dependency;
+    }
+
+    private static OperationDispatch[] compileDispatchTable(
+            Db db,
+            Set<Class<? extends Operation>> dependencyOperationTypes,
+            Set<Class<? extends Operation>> dependentOperationTypes,
+            CompletionTimeWriter completionTimeWriter,
+            SpinnerCheck ctDependencyCheck,
+            EntityDependencyCheck entityDependencyCheck )
+    {
+        OperationDispatch[] dispatchTable = new OperationDispatch[db.operationTypeCount()];
+        for ( int operationType = 0; operationType < dispatchTable.length; operationType++ )
+        {
+            OperationHandler operationHandler = db.operationHandlerFor( operationType );
+            if ( null == operationHandler )
+            {
+                continue;
+            }
+            Class<? extends Operation> operationClass = db.operationClassFor( operationType );
+            boolean dependency = dependencyOperationTypes.contains( operationClass );
+            boolean entityDependent = null != entityDependencyCheck &&
+                                      null != operationClass &&
+                                      EntityDependentOperation.class.isAssignableFrom( operationClass );
+            SpinnerCheck beforeExecuteCheck;
+            if ( entityDependent )
+            {
+                beforeExecuteCheck = entityDependencyCheck;
+            }
+            else if ( dependentOperationTypes.contains( operationClass ) )
+            {
+                beforeExecuteCheck = ctDependencyCheck;
+            }
+            else
+            {
+                beforeExecuteCheck = Spinner.TRUE_CHECK;
+            }
+            dispatchTable[operationType] = new OperationDispatch(
+                    operationHandler,
+                    dependency,
+                    entityDependent,
+                    (dependency)
+                    ? completionTimeWriter
+                    : DUMMY_COMPLETION_TIME_WRITER,
+                    beforeExecuteCheck
+            );
+        }
+        return dispatchTable;
+    }
+
+    private static class OperationDispatch
+    {
+        private final OperationHandler operationHandler;
+        private final CompletionTimeWriter completionTimeWriter;
+        private final SpinnerCheck beforeExecuteCheck;
+        private final boolean dependency;
+        private final boolean entityDependent;
+
+        private OperationDispatch( OperationHandler operationHandler,
+                boolean dependency,
+                boolean entityDependent,
+                CompletionTimeWriter completionTimeWriter,
+                SpinnerCheck beforeExecuteCheck )
+        {
+            this.operationHandler = operationHandler;
+            this.dependency = dependency;
+            this.entityDependent = entityDependent;
+            this.completionTimeWriter = completionTimeWriter;
+            this.beforeExecuteCheck = beforeExecuteCheck;
+        }
+    }
 }
@@ -5,17 +5,23 @@ import org.ldbcouncil.snb.driver.Db;
 import org.ldbcouncil.snb.driver.Operation;
 import org.ldbcouncil.snb.driver.OperationHandlerRunnableContext;
 import org.ldbcouncil.snb.driver.WorkloadStreams;
+import org.ldbcouncil.snb.driver.control.ExecutorQueueType;
 import org.ldbcouncil.snb.driver.runtime.ConcurrentErrorReporter;
 import org.ldbcouncil.snb.driver.runtime.DefaultQueues;
 import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeReader;
 import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeWriter;
 import org.ldbcouncil.snb.driver.runtime.metrics.MetricsService;
+import org.ldbcouncil.snb.driver.runtime.scheduling.EntityDependencyCheck;
 import org.ldbcouncil.snb.driver.runtime.scheduling.Spinner;
 import org.ldbcouncil.snb.driver.temporal.TimeSource;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import java.util.concurrent.ThreadFactory;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
@@ -24,12 +30,34 @@ import java.util.concurrent.atomic.AtomicLong;
 
 import static java.lang.String.format;
 
+/**
+ * Executes operation handlers on a fixed size pool of threads.
+ * Child operations of synchronous handlers are executed on the pool as tasks of their own, see ChildOperationScheduler.
+ * <p>
+ * Handlers that implement AsyncOperationHandler only occupy a pool thread while waiting for their scheduled start
+ * time and starting the operation, the pool thread is released while the operation is in flight. Their child
+ * operations continue on threads of a separate, unbounded pool, so a completing operation never waits for room in
+ * the queue of the bounded pool, which could otherwise block a driver I/O thread, or deadlock the pool.
+ * The number of asynchronous handlers that may be in flight at once is bounded by the async concurrency limit,
+ * once reached, calls to execute() for asynchronous handlers block until one completes.
+ * <p>
+ * Handlers wait in a bounded queue for a free pool thread, in submission order by default. With the
+ * dependency_priority queue type, handlers of dependency operations, which advance completion time, are taken before
+ * all others, and handlers of equal priority in order of scheduled start time, so that a backlog of long running
+ * operations does not hold back completion time, and with it every operation that depends on it.
+ */
 public class ThreadPoolOperationExecutor implements OperationExecutor
 {
-    private final ExecutorService threadPoolExecutorService;
+    private final ThreadPoolExecutor threadPoolExecutorService;
+    private final ExecutorService continuationExecutorService;
+    private final Semaphore asyncConcurrencyPermits;
     private final AtomicLong uncompletedHandlers = new AtomicLong( 0 );
     private final AtomicBoolean shutdown = new AtomicBoolean( false );
     private final OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever;
+    private final ChildOperationGenerator childOperationGenerator;
+    private final ChildOperationExecutor childOperationExecutor;
+    private final ChildOperationScheduler childOperationScheduler;
+    private final ConcurrentErrorReporter errorReporter;
 
     public ThreadPoolOperationExecutor( int threadCount,
             int boundedQueueSize,
@@ -42,6 +70,104 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
             ConcurrentErrorReporter errorReporter,
             MetricsService metricsService,
             ChildOperationGenerator childOperationGenerator )
+    {
+        this(
+                threadCount,
+                boundedQueueSize,
+                Integer.MAX_VALUE,
+                db,
+                streamDefinition,
+                completionTimeWriter,
+                completionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                childOperationGenerator
+        );
+    }
+
+    public ThreadPoolOperationExecutor( int threadCount,
+            int boundedQueueSize,
+            int asyncConcurrencyLimit,
+            Db db,
+            WorkloadStreams.WorkloadStreamDefinition streamDefinition,
+            CompletionTimeWriter completionTimeWriter,
+            CompletionTimeReader completionTimeReader,
+            Spinner spinner,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            MetricsService metricsService,
+            ChildOperationGenerator childOperationGenerator )
+    {
+        this(
+                threadCount,
+                boundedQueueSize,
+                asyncConcurrencyLimit,
+                ExecutorQueueType.fifo,
+                db,
+                streamDefinition,
+                completionTimeWriter,
+                completionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                childOperationGenerator
+        );
+    }
+
+    public ThreadPoolOperationExecutor( int threadCount,
+            int boundedQueueSize,
+            int asyncConcurrencyLimit,
+            ExecutorQueueType executorQueueType,
+            Db db,
+            WorkloadStreams.WorkloadStreamDefinition streamDefinition,
+            CompletionTimeWriter completionTimeWriter,
+            CompletionTimeReader completionTimeReader,
+            Spinner spinner,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            MetricsService metricsService,
+            ChildOperationGenerator childOperationGenerator )
+    {
+        this(
+                threadCount,
+                boundedQueueSize,
+                asyncConcurrencyLimit,
+                executorQueueType,
+                db,
+                streamDefinition,
+                completionTimeWriter,
+                completionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                childOperationGenerator,
+                null
+        );
+    }
+
+    /**
+     * @param entityDependencyCheck check that operations which are EntityDependentOperation wait on instead of
+     * completion time, null to wait on completion time only. Must not be combined with the dependency_priority queue
+     * type, as handlers may then be taken before the handlers they wait on.
+     */
+    public ThreadPoolOperationExecutor( int threadCount,
+            int boundedQueueSize,
+            int asyncConcurrencyLimit,
+            ExecutorQueueType executorQueueType,
+            Db db,
+            WorkloadStreams.WorkloadStreamDefinition streamDefinition,
+            CompletionTimeWriter completionTimeWriter,
+            CompletionTimeReader completionTimeReader,
+            Spinner spinner,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            MetricsService metricsService,
+            ChildOperationGenerator childOperationGenerator,
+            EntityDependencyCheck entityDependencyCheck )
     {
         this.operationHandlerRunnableContextRetriever = new OperationHandlerRunnableContextRetriever(
                 streamDefinition,
@@ -51,8 +177,13 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
                 spinner,
                 timeSource,
                 errorReporter,
-                metricsService
+                metricsService,
+                entityDependencyCheck
         );
+        this.asyncConcurrencyPermits = new Semaphore( asyncConcurrencyLimit );
+        this.childOperationGenerator = childOperationGenerator;
+        this.childOperationExecutor = new ChildOperationExecutor();
+        this.errorReporter = errorReporter;
         ThreadFactory threadFactory = new ThreadFactory()
         {
             private final long factoryTimeStampId = System.currentTimeMillis();
@@ -68,29 +199,83 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
                 );
             }
         };
+        this.childOperationScheduler = new ChildOperationScheduler(
+                childOperationGenerator,
+                operationHandlerRunnableContextRetriever,
+                uncompletedHandlers,
+                timeSource,
+                spinner.ignoresScheduleStartTimes(),
+                errorReporter
+        );
+        BlockingQueue<Runnable> workQueue = (ExecutorQueueType.dependency_priority == executorQueueType)
+                                            ? DefaultQueues.newAlwaysBlockingBoundedPriority(
+                boundedQueueSize,
+                new DependencyPriorityComparator( operationHandlerRunnableContextRetriever ) )
+                                            : DefaultQueues.newAlwaysBlockingBounded( boundedQueueSize );
         this.threadPoolExecutorService = ThreadPoolExecutorWithAfterExecute.newFixedThreadPool(
                 threadCount,
                 threadFactory,
                 uncompletedHandlers,
-                boundedQueueSize,
-                childOperationGenerator,
-                operationHandlerRunnableContextRetriever,
+                workQueue,
+                childOperationScheduler,
                 errorReporter
         );
+        childOperationScheduler.setExecutor( threadPoolExecutorService );
+        ThreadFactory continuationThreadFactory = new ThreadFactory()
+        {
+            private final long factoryTimeStampId = System.currentTimeMillis();
+            private final AtomicLong count = new AtomicLong( 0 );
+
+            @Override
+            public Thread newThread( Runnable runnable )
+            {
+                Thread thread = new Thread(
+                        runnable,
+                        ThreadPoolOperationExecutor.class.getSimpleName() + "-id(" + factoryTimeStampId + ")" +
+                        "-continuation(" + count.getAndIncrement() + ")"
+                );
+                thread.setDaemon( true );
+                return thread;
+            }
+        };
+        // at most one continuation per asynchronous handler in flight, which the async concurrency limit bounds
+        this.continuationExecutorService = Executors.newCachedThreadPool( continuationThreadFactory );
     }
 
     @Override
     public final void execute( Operation operation ) throws OperationExecutorException
     {
         uncompletedHandlers.incrementAndGet();
+        OperationHandlerRunnableContext operationHandlerRunnableContext = null;
+        boolean permitAcquired = false;
         try
         {
-            OperationHandlerRunnableContext operationHandlerRunnableContext =
+            operationHandlerRunnableContext =
                     operationHandlerRunnableContextRetriever.getInitializedHandlerFor( operation );
-            threadPoolExecutorService.execute( operationHandlerRunnableContext );
+            if ( operationHandlerRunnableContext.isAsync() )
+            {
+                // --- BLOCKING CALL (when async concurrency limit has been reached) ---
+                asyncConcurrencyPermits.acquire();
+                permitAcquired = true;
+                threadPoolExecutorService.execute( new AsyncHandlerTask( operationHandlerRunnableContext ) );
+            }
+            else
+            {
+                threadPoolExecutorService.execute( operationHandlerRunnableContext );
+            }
         }
         catch ( Throwable e )
         {
+            // the handler was not submitted, so it is neither run nor cleaned up by a worker
+            uncompletedHandlers.decrementAndGet();
+            if ( permitAcquired )
+            {
+                asyncConcurrencyPermits.release();
+            }
+            if ( null != operationHandlerRunnableContext )
+            {
+                operationHandlerRunnableContext.cancel();
+            }
             throw new OperationExecutorException(
                     format( "Error retrieving handler\nOperation: %s\n%s",
                             operation,
@@ -108,13 +293,19 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
         }
         try
         {
+            childOperationScheduler.shutdown();
             threadPoolExecutorService.shutdown();
+            long deadlineAsNano = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos( waitAsMilli );
             boolean allHandlersCompleted =
                     threadPoolExecutorService.awaitTermination( waitAsMilli, TimeUnit.MILLISECONDS );
+            // continuations of in flight asynchronous handlers may still be submitted until the handlers complete
+            allHandlersCompleted = allHandlersCompleted && awaitUncompletedHandlers( deadlineAsNano );
+            continuationExecutorService.shutdown();
             if ( !allHandlersCompleted )
             {
                 List<Runnable> stillRunningThreads = threadPoolExecutorService.shutdownNow();
-                if ( !stillRunningThreads.isEmpty() )
+                continuationExecutorService.shutdownNow();
+                if ( !stillRunningThreads.isEmpty() || 0 < uncompletedHandlers.get() )
                 {
                     String errMsg = format(
                             "%s shutdown before all handlers could complete\n%s handlers were queued for execution " +
@@ -136,32 +327,158 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
         }
     }
 
+    private boolean awaitUncompletedHandlers( long deadlineAsNano )
+    {
+        while ( 0 < uncompletedHandlers.get() )
+        {
+            if ( System.nanoTime() >= deadlineAsNano )
+            {
+                return false;
+            }
+            Spinner.powerNap( 1 );
+        }
+        return true;
+    }
+
     @Override
     public long uncompletedOperationHandlerCount()
     {
         return uncompletedHandlers.get();
     }
 
-    private static class ThreadPoolExecutorWithAfterExecute extends ThreadPoolExecutor
+    @Override
+    public double utilisation()
+    {
+        return (double) threadPoolExecutorService.getActiveCount() / threadPoolExecutorService.getMaximumPoolSize();
+    }
+
+    @Override
+    public long queuedOperationHandlerCount()
+    {
+        return threadPoolExecutorService.getQueue().size();
+    }
+
+    private class AsyncHandlerTask implements Runnable
     {
-        private final ChildOperationGenerator childOperationGenerator;
-        private final ChildOperationExecutor childOperationExecutor;
+        private final OperationHandlerRunnableContext operationHandlerRunnableContext;
+
+        private AsyncHandlerTask( OperationHandlerRunnableContext operationHandlerRunnableContext )
+        {
+            this.operationHandlerRunnableContext = operationHandlerRunnableContext;
+        }
+
+        // Note, child operations (e.g., short reads) are chained on completion of their parent, on continuation threads
+        @Override
+        public void run()
+        {
+            CompletionStage<Void> execution = operationHandlerRunnableContext.runAsync();
+            if ( null != childOperationGenerator )
+            {
+                execution = execution.thenComposeAsync( ignore -> childOperationExecutor.executeAsync(
+                        childOperationGenerator,
+                        operationHandlerRunnableContext.operation(),
+                        operationHandlerRunnableContext.resultReporter().result(),
+                        operationHandlerRunnableContext.resultReporter().actualStartTimeAsMilli(),
+                        operationHandlerRunnableContext.resultReporter().runDurationAsNano(),
+                        operationHandlerRunnableContextRetriever,
+                        continuationExecutorService
+                ), continuationExecutorService );
+            }
+            execution.whenComplete( ( ignore, throwable ) ->
+            {
+                if ( null != throwable )
+                {
+                    errorReporter.reportError( this,
+                            format( "Error executing child operations\n%s",
+                                    ConcurrentErrorReporter.stackTraceToString( throwable ) ) );
+                }
+                uncompletedHandlers.decrementAndGet();
+                operationHandlerRunnableContext.cleanup();
+                asyncConcurrencyPermits.release();
+            } );
+        }
+    }
+
+    /**
+     * Orders queued tasks by priority, dependency operations first, then by scheduled start time.
+     * Tasks that carry no operation are taken before other non-dependency operations.
+     */
+    private static class DependencyPriorityComparator implements Comparator<Runnable>
+    {
+        private static final int DEPENDENCY_PRIORITY = 0;
+        private static final int OTHER_PRIORITY = 1;
+
         private final OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever;
+
+        private DependencyPriorityComparator(
+                OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever )
+        {
+            this.operationHandlerRunnableContextRetriever = operationHandlerRunnableContextRetriever;
+        }
+
+        @Override
+        public int compare( Runnable runnable1, Runnable runnable2 )
+        {
+            Operation operation1 = operationOf( runnable1 );
+            Operation operation2 = operationOf( runnable2 );
+            int priorityComparison = Integer.compare( priorityOf( operation1 ), priorityOf( operation2 ) );
+            if ( 0 != priorityComparison )
+            {
+                return priorityComparison;
+            }
+            return Long.compare( scheduledStartTimeOf( operation1 ), scheduledStartTimeOf( operation2 ) );
+        }
+
+        private int priorityOf( Operation operation )
+        {
+            return (null != operation && operationHandlerRunnableContextRetriever.isDependencyOperation( operation ))
+                   ? DEPENDENCY_PRIORITY
+                   : OTHER_PRIORITY;
+        }
+
+        private static long scheduledStartTimeOf( Operation operation )
+        {
+            return (null == operation) ? Long.MIN_VALUE : operation.scheduledStartTimeAsMilli();
+        }
+
+        private static Operation operationOf( Runnable runnable )
+        {
+            if ( runnable instanceof OperationHandlerRunnableContext )
+            {
+                return ((OperationHandlerRunnableContext) runnable).operation();
+            }
+            else if ( runnable instanceof ChildOperationScheduler.ChildOperationTask )
+            {
+                return ((ChildOperationScheduler.ChildOperationTask) runnable).operationHandlerRunnableContext()
+                        .operation();
+            }
+            else if ( runnable instanceof AsyncHandlerTask )
+            {
+                return ((AsyncHandlerTask) runnable).operationHandlerRunnableContext.operation();
+            }
+            else
+            {
+                return null;
+            }
+        }
+    }
+
+    private static class ThreadPoolExecutorWithAfterExecute extends ThreadPoolExecutor
+    {
+        private final ChildOperationScheduler childOperationScheduler;
         private final ConcurrentErrorReporter errorReporter;
 
         static ThreadPoolExecutorWithAfterExecute newFixedThreadPool( int threadCount,
                 ThreadFactory threadFactory,
                 AtomicLong uncompletedHandlers,
-                int boundedQueueSize,
-                ChildOperationGenerator childOperationGenerator,
-                OperationHandlerRunnableContextRetriever operationHandlerRunnableContextInitializer,
+                BlockingQueue<Runnable> workQueue,
+                ChildOperationScheduler childOperationScheduler,
                 ConcurrentErrorReporter errorReporter )
         {
             int corePoolSize = threadCount;
             int maximumPoolSize = threadCount;
             long keepAliveTime = 0;
             TimeUnit unit = TimeUnit.MILLISECONDS;
-            BlockingQueue<Runnable> workQueue = DefaultQueues.newAlwaysBlockingBounded( boundedQueueSize );
             return new ThreadPoolExecutorWithAfterExecute(
                     corePoolSize,
                     maximumPoolSize,
@@ -170,8 +487,7 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
                     workQueue,
                     threadFactory,
                     uncompletedHandlers,
-                    childOperationGenerator,
-                    operationHandlerRunnableContextInitializer,
+                    childOperationScheduler,
                     errorReporter
             );
         }
@@ -185,35 +501,48 @@ public class ThreadPoolOperationExecutor implements OperationExecutor
                 BlockingQueue<Runnable> workQueue,
                 ThreadFactory threadFactory,
                 AtomicLong uncompletedHandlers,
-                ChildOperationGenerator childOperationGenerator,
-                OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever,
+                ChildOperationScheduler childOperationScheduler,
                 ConcurrentErrorReporter errorReporter )
         {
             super( corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, threadFactory );
-            this.childOperationExecutor = new ChildOperationExecutor();
             this.uncompletedHandlers = uncompletedHandlers;
-            this.childOperationGenerator = childOperationGenerator;
-            this.operationHandlerRunnableContextRetriever = operationHandlerRunnableContextRetriever;
+            this.childOperationScheduler = childOperationScheduler;
             this.errorReporter = errorReporter;
         }
 
         // Note, this occurs in same worker thread as beforeExecute() and run()
+        // The next child operation (e.g., short read) is handed to the pool as a task of its own, so this worker is not
+        // held up running a whole chain of them, nor waiting for their scheduled start times
         @Override
         protected void afterExecute( Runnable runnable, Throwable throwable )
         {
             super.afterExecute( runnable, throwable );
-            OperationHandlerRunnableContext operationHandlerRunnableContext =
-                    (OperationHandlerRunnableContext) runnable;
+            ChildOperationScheduler.ChildOperationTask childOperationTask = null;
+            OperationHandlerRunnableContext operationHandlerRunnableContext;
+            if ( runnable instanceof OperationHandlerRunnableContext )
+            {
+                operationHandlerRunnableContext = (OperationHandlerRunnableContext) runnable;
+            }
+            else if ( runnable instanceof ChildOperationScheduler.ChildOperationTask )
+            {
+                childOperationTask = (ChildOperationScheduler.ChildOperationTask) runnable;
+                operationHandlerRunnableContext = childOperationTask.operationHandlerRunnableContext();
+            }
+            else
+            {
+                // asynchronous handlers, and continuations of their child operations, complete via callbacks
+                return;
+            }
             try
             {
-                childOperationExecutor.execute(
-                        childOperationGenerator,
-                        operationHandlerRunnableContext.operation(),
-                        operationHandlerRunnableContext.resultReporter().result(),
-                        operationHandlerRunnableContext.resultReporter().actualStartTimeAsMilli(),
-                        operationHandlerRunnableContext.resultReporter().runDurationAsNano(),
-                        operationHandlerRunnableContextRetriever
-                );
+                if ( null == childOperationTask )
+                {
+                    childOperationScheduler.scheduleFirstChildOf( operationHandlerRunnableContext );
+                }
+                else
+                {
+                    childOperationScheduler.scheduleNextChildOf( childOperationTask );
+                }
             }
             catch ( Throwable e )
             {
@@ -0,0 +1,354 @@
+package org.ldbcouncil.snb.driver.runtime.executor;
+
+import org.ldbcouncil.snb.driver.ChildOperationGenerator;
+import org.ldbcouncil.snb.driver.Db;
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.OperationHandlerRunnableContext;
+import org.ldbcouncil.snb.driver.WorkloadStreams;
+import org.ldbcouncil.snb.driver.runtime.ConcurrentErrorReporter;
+import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeReader;
+import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeWriter;
+import org.ldbcouncil.snb.driver.runtime.metrics.MetricsService;
+import org.ldbcouncil.snb.driver.runtime.scheduling.EntityDependencyCheck;
+import org.ldbcouncil.snb.driver.runtime.scheduling.Spinner;
+import org.ldbcouncil.snb.driver.temporal.TimeSource;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.String.format;
+
+/**
+ * Executes every operation handler on its own thread, rather than on a fixed size pool.
+ * Intended for connectors that spend most of their handler time blocked on I/O.
+ * <p>
+ * On runtimes that support virtual threads (Java 21+) one virtual thread is started per handler,
+ * otherwise it falls back to an unbounded cached pool of platform threads, and logs a warning. The driver configuration
+ * rejects this executor on such runtimes, so the fallback is only used when the executor is created directly.
+ * In both cases the number of handlers that may be in flight at once is bounded by the concurrency limit,
+ * once reached, calls to execute() block until a running handler completes.
+ * Handlers that implement AsyncOperationHandler hold a permit, but not a thread, while their operation is in flight.
+ */
+public class VirtualThreadOperationExecutor implements OperationExecutor
+{
+    private static final Logger LOGGER = LogManager.getLogger( VirtualThreadOperationExecutor.class );
+
+    private final ExecutorService executorService;
+    private final ExecutorService continuationExecutorService;
+    private final int concurrencyLimit;
+    private final Semaphore concurrencyPermits;
+    private final AtomicLong uncompletedHandlers = new AtomicLong( 0 );
+    private final AtomicBoolean shutdown = new AtomicBoolean( false );
+    private final OperationHandlerRunnableContextRetriever operationHandlerRunnableContextRetriever;
+    private final ChildOperationGenerator childOperationGenerator;
+    private final ChildOperationExecutor childOperationExecutor;
+    private final ConcurrentErrorReporter errorReporter;
+
+    public VirtualThreadOperationExecutor( int concurrencyLimit,
+            Db db,
+            WorkloadStreams.WorkloadStreamDefinition streamDefinition,
+            CompletionTimeWriter completionTimeWriter,
+            CompletionTimeReader completionTimeReader,
+            Spinner spinner,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            MetricsService metricsService,
+            ChildOperationGenerator childOperationGenerator )
+    {
+        this(
+                concurrencyLimit,
+                db,
+                streamDefinition,
+                completionTimeWriter,
+                completionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                childOperationGenerator,
+                null
+        );
+    }
+
+    /**
+     * @param entityDependencyCheck check that operations which are EntityDependentOperation wait on instead of
+     * completion time, null to wait on completion time only
+     */
+    public VirtualThreadOperationExecutor( int concurrencyLimit,
+            Db db,
+            WorkloadStreams.WorkloadStreamDefinition streamDefinition,
+            CompletionTimeWriter completionTimeWriter,
+            CompletionTimeReader completionTimeReader,
+            Spinner spinner,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            MetricsService metricsService,
+            ChildOperationGenerator childOperationGenerator,
+            EntityDependencyCheck entityDependencyCheck )
+    {
+        this.operationHandlerRunnableContextRetriever = new OperationHandlerRunnableContextRetriever(
+                streamDefinition,
+                db,
+                completionTimeWriter,
+                completionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                entityDependencyCheck
+        );
+        this.concurrencyLimit = concurrencyLimit;
+        this.concurrencyPermits = new Semaphore( concurrencyLimit );
+        this.childOperationGenerator = childOperationGenerator;
+        this.childOperationExecutor = new ChildOperationExecutor();
+        this.errorReporter = errorReporter;
+        if ( !virtualThreadsSupported() )
+        {
+            LOGGER.warn( format( "Virtual threads are not supported on Java %s, %s falls back to platform threads",
+                    System.getProperty( "java.version" ), getClass().getSimpleName() ) );
+        }
+        this.executorService = newThreadPerTaskExecutor( "thread" );
+        // continuations are not handed to the handler executor, which rejects them once shutdown
+        this.continuationExecutorService = newThreadPerTaskExecutor( "continuation" );
+    }
+
+    /**
+     * @return true if handlers will be executed on virtual threads, false if platform threads are used instead
+     */
+    public static boolean virtualThreadsSupported()
+    {
+        return null != newVirtualThreadPerTaskExecutorMethod();
+    }
+
+    @Override
+    public final void execute( Operation operation ) throws OperationExecutorException
+    {
+        uncompletedHandlers.incrementAndGet();
+        try
+        {
+            // --- BLOCKING CALL (when concurrency limit has been reached) ---
+            concurrencyPermits.acquire();
+        }
+        catch ( InterruptedException e )
+        {
+            uncompletedHandlers.decrementAndGet();
+            throw new OperationExecutorException(
+                    format( "Interrupted while waiting to execute operation\nOperation: %s", operation ), e );
+        }
+        OperationHandlerRunnableContext operationHandlerRunnableContext = null;
+        try
+        {
+            operationHandlerRunnableContext =
+                    operationHandlerRunnableContextRetriever.getInitializedHandlerFor( operation );
+            executorService.execute( new HandlerTask( operationHandlerRunnableContext ) );
+        }
+        catch ( Throwable e )
+        {
+            concurrencyPermits.release();
+            uncompletedHandlers.decrementAndGet();
+            if ( null != operationHandlerRunnableContext )
+            {
+                operationHandlerRunnableContext.cancel();
+            }
+            throw new OperationExecutorException(
+                    format( "Error retrieving handler\nOperation: %s\n%s",
+                            operation,
+                            ConcurrentErrorReporter.stackTraceToString( e ) ),
+                    e );
+        }
+    }
+
+    @Override
+    synchronized public final void shutdown( long waitAsMilli ) throws OperationExecutorException
+    {
+        if ( shutdown.get() )
+        {
+            throw new OperationExecutorException( "Executor has already been shutdown" );
+        }
+        try
+        {
+            long deadlineAsNano = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos( waitAsMilli );
+            executorService.shutdown();
+            boolean allHandlersCompleted = executorService.awaitTermination( waitAsMilli, TimeUnit.MILLISECONDS );
+            // continuations of in flight asynchronous handlers may still be submitted until the handlers complete
+            while ( allHandlersCompleted && 0 < uncompletedHandlers.get() )
+            {
+                allHandlersCompleted = System.nanoTime() < deadlineAsNano;
+                Spinner.powerNap( 1 );
+            }
+            continuationExecutorService.shutdown();
+            if ( !allHandlersCompleted )
+            {
+                List<Runnable> stillRunningThreads = executorService.shutdownNow();
+                continuationExecutorService.shutdownNow();
+                if ( !stillRunningThreads.isEmpty() || 0 < uncompletedHandlers.get() )
+                {
+                    String errMsg = format(
+                            "%s shutdown before all handlers could complete\n%s handlers were queued for execution " +
+                            "but not yet started\n%s handlers were mid-execution",
+                            getClass().getSimpleName(),
+                            stillRunningThreads.size(),
+                            uncompletedHandlers.get() - stillRunningThreads.size() );
+                    throw new OperationExecutorException( errMsg );
+                }
+            }
+        }
+        catch ( Throwable e )
+        {
+            throw new OperationExecutorException( "Error encountered while trying to shutdown", e );
+        }
+        finally
+        {
+            shutdown.set( true );
+        }
+    }
+
+    @Override
+    public long uncompletedOperationHandlerCount()
+    {
+        return uncompletedHandlers.get();
+    }
+
+    @Override
+    public double utilisation()
+    {
+        return (double) (concurrencyLimit - concurrencyPermits.availablePermits()) / concurrencyLimit;
+    }
+
+    // handlers are not queued, callers of execute() wait for a concurrency permit instead
+    @Override
+    public long queuedOperationHandlerCount()
+    {
+        return concurrencyPermits.getQueueLength();
+    }
+
+    private class HandlerTask implements Runnable
+    {
+        private final OperationHandlerRunnableContext operationHandlerRunnableContext;
+
+        private HandlerTask( OperationHandlerRunnableContext operationHandlerRunnableContext )
+        {
+            this.operationHandlerRunnableContext = operationHandlerRunnableContext;
+        }
+
+        // Note, child operations (e.g., short reads) are executed on the same thread as their parent
+        @Override
+        public void run()
+        {
+            if ( operationHandlerRunnableContext.isAsync() )
+            {
+                runAsync();
+                return;
+            }
+            try
+            {
+                operationHandlerRunnableContext.run();
+                childOperationExecutor.execute(
+                        childOperationGenerator,
+                        operationHandlerRunnableContext.operation(),
+                        operationHandlerRunnableContext.resultReporter().result(),
+                        operationHandlerRunnableContext.resultReporter().actualStartTimeAsMilli(),
+                        operationHandlerRunnableContext.resultReporter().runDurationAsNano(),
+                        operationHandlerRunnableContextRetriever
+                );
+            }
+            catch ( Throwable e )
+            {
+                errorReporter.reportError( this,
+                        format( "Error retrieving handler\n%s", ConcurrentErrorReporter.stackTraceToString( e ) ) );
+            }
+            finally
+            {
+                uncompletedHandlers.decrementAndGet();
+                operationHandlerRunnableContext.cleanup();
+                concurrencyPermits.release();
+            }
+        }
+
+        // the permit is held until the operation and its child operations complete, the thread is not
+        private void runAsync()
+        {
+            CompletionStage<Void> execution = operationHandlerRunnableContext.runAsync();
+            if ( null != childOperationGenerator )
+            {
+                execution = execution.thenComposeAsync( ignore -> childOperationExecutor.executeAsync(
+                        childOperationGenerator,
+                        operationHandlerRunnableContext.operation(),
+                        operationHandlerRunnableContext.resultReporter().result(),
+                        operationHandlerRunnableContext.resultReporter().actualStartTimeAsMilli(),
+                        operationHandlerRunnableContext.resultReporter().runDurationAsNano(),
+                        operationHandlerRunnableContextRetriever,
+                        continuationExecutorService
+                ), continuationExecutorService );
+            }
+            execution.whenComplete( ( ignore, throwable ) ->
+            {
+                if ( null != throwable )
+                {
+                    errorReporter.reportError( this,
+                            format( "Error executing child operations\n%s",
+                                    ConcurrentErrorReporter.stackTraceToString( throwable ) ) );
+                }
+                uncompletedHandlers.decrementAndGet();
+                operationHandlerRunnableContext.cleanup();
+                concurrencyPermits.release();
+            } );
+        }
+    }
+
+    private static ExecutorService newThreadPerTaskExecutor( String threadRole )
+    {
+        Method newVirtualThreadPerTaskExecutor = newVirtualThreadPerTaskExecutorMethod();
+        if ( null != newVirtualThreadPerTaskExecutor )
+        {
+            try
+            {
+                return (ExecutorService) newVirtualThreadPerTaskExecutor.invoke( null );
+            }
+            catch ( ReflectiveOperationException e )
+            {
+                // virtual threads are supported, so failing to create them is an error, not a reason to fall back
+                throw new IllegalStateException( "Error creating virtual thread per task executor", e );
+            }
+        }
+        ThreadFactory threadFactory = new ThreadFactory()
+        {
+            private final long factoryTimeStampId = System.currentTimeMillis();
+            private final AtomicLong count = new AtomicLong( 0 );
+
+            @Override
+            public Thread newThread( Runnable runnable )
+            {
+                return new Thread(
+                        runnable,
+                        VirtualThreadOperationExecutor.class.getSimpleName() + "-id(" + factoryTimeStampId + ")" +
+                        "-" + threadRole + "(" + count.getAndIncrement() + ")"
+                );
+            }
+        };
+        return Executors.newCachedThreadPool( threadFactory );
+    }
+
+    // resolved reflectively so the driver still builds and runs on runtimes without virtual threads
+    private static Method newVirtualThreadPerTaskExecutorMethod()
+    {
+        try
+        {
+            return Executors.class.getMethod( "newVirtualThreadPerTaskExecutor" );
+        }
+        catch ( NoSuchMethodException e )
+        {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package org.ldbcouncil.snb.driver.runtime.metrics;
+
+import org.ldbcouncil.snb.driver.runtime.metrics.sbe.MetricsEvent;
+import org.agrona.IoUtil;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+import static org.ldbcouncil.snb.driver.runtime.metrics.BinaryResultsLogWriter.MAGIC;
+import static org.ldbcouncil.snb.driver.runtime.metrics.BinaryResultsLogWriter.RECORD_LENGTH;
+import static org.ldbcouncil.snb.driver.runtime.metrics.BinaryResultsLogWriter.REGION_LENGTH;
+import static java.lang.String.format;
+
+/**
+ * Reads results logs written by BinaryResultsLogWriter, mapping the file one region at a time.
+ * Reading stops at the end of the file, or at the first incomplete record of a log that was not closed.
+ */
+public class BinaryResultsLogReader implements ResultsLogReader
+{
+    private final RandomAccessFile file;
+    private final FileChannel channel;
+    private final TimeUnit unit;
+    private final String[] operationNames;
+    private final long recordsOffset;
+    private final long recordCount;
+    private final MetricsEvent metricsEvent = new MetricsEvent();
+    private final UnsafeBuffer region = new UnsafeBuffer( new byte[0] );
+    private MappedByteBuffer mappedRegion = null;
+    private long recordIndex = -1;
+    private boolean hasRecord = false;
+
+    public BinaryResultsLogReader( File resultsLog ) throws IOException
+    {
+        this.file = new RandomAccessFile( resultsLog, "r" );
+        this.channel = file.getChannel();
+        try
+        {
+            ByteBuffer fixedHeader = read( 0, 4 + 8 + 4 + 4 );
+            if ( MAGIC != fixedHeader.getInt() )
+            {
+                throw new IOException( format( "Not a binary results log: %s", resultsLog.getAbsolutePath() ) );
+            }
+            MetricsEvent expected = new MetricsEvent();
+            short blockLength = fixedHeader.getShort();
+            short templateId = fixedHeader.getShort();
+            short schemaId = fixedHeader.getShort();
+            short schemaVersion = fixedHeader.getShort();
+            if ( blockLength != expected.sbeBlockLength() || templateId != expected.sbeTemplateId() ||
+                 schemaId != expected.sbeSchemaId() || schemaVersion != expected.sbeSchemaVersion() )
+            {
+                throw new IOException( format(
+                        "Unsupported record layout: blockLength=%s, templateId=%s, schemaId=%s, version=%s",
+                        blockLength, templateId, schemaId, schemaVersion ) );
+            }
+            this.unit = TimeUnit.values()[fixedHeader.getInt()];
+            this.operationNames = new String[fixedHeader.getInt()];
+            long position = fixedHeader.limit();
+            for ( int i = 0; i < operationNames.length; i++ )
+            {
+                int length = read( position, 4 ).getInt();
+                position += 4;
+                byte[] encodedOperationName = new byte[length];
+                read( position, length ).get( encodedOperationName );
+                position += length;
+                operationNames[i] = new String( encodedOperationName, StandardCharsets.UTF_8 );
+            }
+            this.recordsOffset = position;
+            this.recordCount = (channel.size() - recordsOffset) / RECORD_LENGTH;
+        }
+        catch ( IOException | RuntimeException e )
+        {
+            file.close();
+            throw e;
+        }
+    }
+
+    private ByteBuffer read( long position, int length ) throws IOException
+    {
+        ByteBuffer buffer = ByteBuffer.allocate( length ).order( ByteOrder.LITTLE_ENDIAN );
+        while ( buffer.hasRemaining() )
+        {
+            if ( channel.read( buffer, position + buffer.position() ) < 0 )
+            {
+                throw new IOException( "Unexpected end of binary results log header" );
+            }
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+    @Override
+    public boolean next()
+    {
+        hasRecord = false;
+        if ( recordIndex + 1 >= recordCount )
+        {
+            return false;
+        }
+        recordIndex++;
+        int positionInRegion = (int) ((recordIndex * RECORD_LENGTH) % REGION_LENGTH);
+        if ( 0 == positionInRegion )
+        {
+            mapRegion( recordsOffset + recordIndex * RECORD_LENGTH );
+        }
+        metricsEvent.wrapForDecode( region, positionInRegion, RECORD_LENGTH, metricsEvent.sbeSchemaVersion() );
+        // records are only complete once their event type has been written
+        hasRecord = DisruptorSbeMetricsEvent.SUBMIT_OPERATION_RESULT == metricsEvent.eventType();
+        if ( !hasRecord )
+        {
+            recordIndex = recordCount;
+        }
+        return hasRecord;
+    }
+
+    private void mapRegion( long regionOffset )
+    {
+        try
+        {
+            if ( null != mappedRegion )
+            {
+                IoUtil.unmap( mappedRegion );
+            }
+            long regionLength = Math.min( REGION_LENGTH, channel.size() - regionOffset );
+            mappedRegion = channel.map( FileChannel.MapMode.READ_ONLY, regionOffset, regionLength );
+            region.wrap( mappedRegion );
+        }
+        catch ( IOException e )
+        {
+            throw new RuntimeException( format( "Error mapping binary results log at offset %s", regionOffset ), e );
+        }
+    }
+
+    @Override
+    public TimeUnit unit()
+    {
+        return unit;
+    }
+
+    @Override
+    public String getOperationName()
+    {
+        assertHasRecord();
+        return operationNames[metricsEvent.operationType()];
+    }
+
+    @Override
+    public long getScheduledStartTimeAsMilli()
+    {
+        assertHasRecord();
+        return metricsEvent.scheduledStartTimeAsMilli();
+    }
+
+    @Override
+    public long getActualStartTimeAsMilli()
+    {
+        assertHasRecord();
+        return metricsEvent.actualStartTimeAsMilli();
+    }
+
+    @Override
+    public long getRunDurationAsNano()
+    {
+        assertHasRecord();
+        return metricsEvent.runDurationAsNano();
+    }
+
+    @Override
+    public int getResultCode()
+    {
+        assertHasRecord();
+        return metricsEvent.resultCode();
+    }
+
+    @Override
+    public long getOriginalStartTime()
+    {
+        assertHasRecord();
+        return metricsEvent.originalStartTime();
+    }
+
+    private void assertHasRecord()
+    {
+        if ( !hasRecord )
+        {
+            throw new RuntimeException( "Nothing to read. Reader has not been advanced or has reached EOF." );
+        }
+    }
+
+    @Override
+    public void close() throws Exception
+    {
+        if ( null != mappedRegion )
+        {
+            IoUtil.unmap( mappedRegion );
+            mappedRegion = null;
+        }
+        channel.close();
+        file.close();
+    }
+}
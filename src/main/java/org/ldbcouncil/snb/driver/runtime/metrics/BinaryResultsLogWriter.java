@@ -0,0 +1,186 @@
+package org.ldbcouncil.snb.driver.runtime.metrics;
+
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.runtime.metrics.sbe.MessageHeader;
+import org.ldbcouncil.snb.driver.runtime.metrics.sbe.MetricsEvent;
+import org.agrona.IoUtil;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Appends results to a memory-mapped file as fixed-width binary records, rather than formatting them as CSV.
+ * <p/>
+ * Every record has the layout of the SBE MetricsEvent block, the same encoding used on the metrics ring buffer.
+ * The file starts with a header: a magic number, the SBE message header describing the record layout,
+ * the time unit results are to be reported in, and the operation type to operation name mapping.
+ * <p/>
+ * The event type of a record is written last, so a reader can find where a log that was not closed ends.
+ * Use BinaryResultsLogReader to read the log, or ResultsLogConverter to convert it to the CSV results log format.
+ */
+public class BinaryResultsLogWriter implements ResultsLogWriter
+{
+    static final int MAGIC = 0x4C44424C;
+    static final int RECORD_LENGTH = MetricsEvent.BLOCK_LENGTH;
+    static final int RECORDS_PER_REGION = 1 << 20;
+    static final int REGION_LENGTH = RECORD_LENGTH * RECORDS_PER_REGION;
+
+    private final RandomAccessFile file;
+    private final FileChannel channel;
+    private final long recordsOffset;
+    private final Map<String,Integer> operationNameToType;
+    private final MetricsEvent metricsEvent = new MetricsEvent();
+    private final UnsafeBuffer region;
+    private MappedByteBuffer mappedRegion;
+    private long regionOffset;
+    private int positionInRegion = 0;
+    private long recordCount = 0;
+
+    public BinaryResultsLogWriter(
+            File resultsLog,
+            TimeUnit unit,
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping )
+            throws IOException, MetricsCollectionException
+    {
+        String[] operationNames = MetricsManager.toOperationNameArray( operationTypeToClassMapping );
+        this.operationNameToType = new HashMap<>();
+        for ( int operationType = 0; operationType < operationNames.length; operationType++ )
+        {
+            if ( null != operationNames[operationType] )
+            {
+                operationNameToType.put( operationNames[operationType], operationType );
+            }
+        }
+        this.file = new RandomAccessFile( resultsLog, "rw" );
+        this.channel = file.getChannel();
+        channel.truncate( 0 );
+        ByteBuffer header = header( unit, operationNames );
+        while ( header.hasRemaining() )
+        {
+            channel.write( header );
+        }
+        this.recordsOffset = channel.position();
+        this.regionOffset = recordsOffset;
+        this.mappedRegion = channel.map( FileChannel.MapMode.READ_WRITE, regionOffset, REGION_LENGTH );
+        this.region = new UnsafeBuffer( mappedRegion );
+    }
+
+    private static ByteBuffer header( TimeUnit unit, String[] operationNames )
+    {
+        int headerLength = 4 + new MessageHeader().size() + 4 + 4;
+        byte[][] encodedOperationNames = new byte[operationNames.length][];
+        for ( int i = 0; i < operationNames.length; i++ )
+        {
+            encodedOperationNames[i] = (null == operationNames[i])
+                                       ? new byte[0]
+                                       : operationNames[i].getBytes( StandardCharsets.UTF_8 );
+            headerLength += 4 + encodedOperationNames[i].length;
+        }
+        ByteBuffer header = ByteBuffer.allocate( headerLength ).order( ByteOrder.LITTLE_ENDIAN );
+        header.putInt( MAGIC );
+        MetricsEvent metricsEvent = new MetricsEvent();
+        header.putShort( metricsEvent.sbeBlockLength() );
+        header.putShort( metricsEvent.sbeTemplateId() );
+        header.putShort( metricsEvent.sbeSchemaId() );
+        header.putShort( metricsEvent.sbeSchemaVersion() );
+        header.putInt( unit.ordinal() );
+        header.putInt( encodedOperationNames.length );
+        for ( byte[] encodedOperationName : encodedOperationNames )
+        {
+            header.putInt( encodedOperationName.length );
+            header.put( encodedOperationName );
+        }
+        header.flip();
+        return header;
+    }
+
+    long recordCount()
+    {
+        return recordCount;
+    }
+
+    @Override
+    public void write(
+            String operationName,
+            long scheduledStartTimeAsMilli,
+            long actualStartTimeAsMilli,
+            long runDurationAsNano,
+            int resultCode,
+            long originalStartTime ) throws IOException
+    {
+        Integer operationType = operationNameToType.get( operationName );
+        if ( null == operationType )
+        {
+            throw new IOException( format( "Unknown operation: %s", operationName ) );
+        }
+        write(
+                operationType,
+                operationName,
+                scheduledStartTimeAsMilli,
+                actualStartTimeAsMilli,
+                runDurationAsNano,
+                resultCode,
+                originalStartTime );
+    }
+
+    @Override
+    public void write(
+            int operationType,
+            String operationName,
+            long scheduledStartTimeAsMilli,
+            long actualStartTimeAsMilli,
+            long runDurationAsNano,
+            int resultCode,
+            long originalStartTime ) throws IOException
+    {
+        if ( REGION_LENGTH == positionInRegion )
+        {
+            nextRegion();
+        }
+        metricsEvent.wrapForEncode( region, positionInRegion )
+                .operationType( operationType )
+                .scheduledStartTimeAsMilli( scheduledStartTimeAsMilli )
+                .actualStartTimeAsMilli( actualStartTimeAsMilli )
+                .startTimeDelayAsNano(
+                        MetricsManager.toStartTimeDelayAsNano( scheduledStartTimeAsMilli, actualStartTimeAsMilli ) )
+                .runDurationAsNano( runDurationAsNano )
+                .resultCode( resultCode )
+                .originalStartTime( originalStartTime )
+                // marks the record as complete
+                .eventType( DisruptorSbeMetricsEvent.SUBMIT_OPERATION_RESULT );
+        positionInRegion += RECORD_LENGTH;
+        recordCount++;
+    }
+
+    private void nextRegion() throws IOException
+    {
+        IoUtil.unmap( mappedRegion );
+        regionOffset += REGION_LENGTH;
+        mappedRegion = channel.map( FileChannel.MapMode.READ_WRITE, regionOffset, REGION_LENGTH );
+        region.wrap( mappedRegion );
+        positionInRegion = 0;
+    }
+
+    @Override
+    public void close() throws Exception
+    {
+        mappedRegion.force();
+        IoUtil.unmap( mappedRegion );
+        // remove the unused part of the last region
+        channel.truncate( recordsOffset + recordCount * RECORD_LENGTH );
+        channel.close();
+        file.close();
+    }
+}
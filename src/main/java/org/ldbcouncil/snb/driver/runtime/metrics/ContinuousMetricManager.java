@@ -22,8 +22,12 @@ public class ContinuousMetricManager
     public ContinuousMetricManager( String name, TimeUnit unit, long highestExpectedValue,
             int numberOfSignificantDigits )
     {
-        long lowestExpectedValue = 1;
-        histogram = new Histogram( lowestExpectedValue, highestExpectedValue, numberOfSignificantDigits );
+        this( name, unit, new Histogram( 1, highestExpectedValue, numberOfSignificantDigits ) );
+    }
+
+    private ContinuousMetricManager( String name, TimeUnit unit, Histogram histogram )
+    {
+        this.histogram = histogram;
         this.name = name;
         this.unit = unit;
     }
@@ -33,6 +37,35 @@ public class ContinuousMetricManager
         histogram.recordValue( value );
     }
 
+    public void addMeasurements( Histogram measurements )
+    {
+        histogram.add( measurements );
+    }
+
+    public String name()
+    {
+        return name;
+    }
+
+    public int numberOfSignificantDigits()
+    {
+        return histogram.getNumberOfSignificantValueDigits();
+    }
+
+    /**
+     * Snapshot of measurements as if one had been taken every expected interval, i.e., for every measurement longer
+     * than the expected interval, the measurements that were missed while waiting for it are added.
+     * See Histogram.copyCorrectedForCoordinatedOmission.
+     */
+    public ContinuousMetricSnapshot snapshotCorrectedForCoordinatedOmission( long expectedInterval )
+    {
+        return new ContinuousMetricManager(
+                name,
+                unit,
+                histogram.copyCorrectedForCoordinatedOmission( expectedInterval )
+        ).snapshot();
+    }
+
     public ContinuousMetricSnapshot snapshot()
     {
         return new ContinuousMetricSnapshot(
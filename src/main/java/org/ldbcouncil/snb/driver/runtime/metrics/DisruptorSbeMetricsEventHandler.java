@@ -34,6 +34,7 @@ class DisruptorSbeMetricsEventHandler implements EventHandler<UnsafeBuffer>
             TimeUnit unit,
             TimeSource timeSource,
             long maxRuntimeDurationAsNano,
+            long expectedIntervalAsNano,
             Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
             LoggingServiceFactory loggingServiceFactory ) throws MetricsCollectionException
     {
@@ -43,6 +44,7 @@ class DisruptorSbeMetricsEventHandler implements EventHandler<UnsafeBuffer>
                 timeSource,
                 unit,
                 maxRuntimeDurationAsNano,
+                expectedIntervalAsNano,
                 operationTypeToClassMapping,
                 loggingServiceFactory );
         operationNames = MetricsManager.toOperationNameArray( operationTypeToClassMapping );
@@ -81,11 +83,13 @@ class DisruptorSbeMetricsEventHandler implements EventHandler<UnsafeBuffer>
             int operationType = metricsEvent.operationType();
             long scheduledStartTimeAsMilli = metricsEvent.scheduledStartTimeAsMilli();
             long actualStartTimeAsMilli = metricsEvent.actualStartTimeAsMilli();
+            long startTimeDelayAsNano = metricsEvent.startTimeDelayAsNano();
             long runDurationAsNano = metricsEvent.runDurationAsNano();
             int resultCode = metricsEvent.resultCode();
             long originalStartTime = metricsEvent.originalStartTime();
 
             resultsLogWriter.write(
+                    operationType,
                     operationNames[operationType],
                     scheduledStartTimeAsMilli,
                     actualStartTimeAsMilli,
@@ -93,7 +97,8 @@ class DisruptorSbeMetricsEventHandler implements EventHandler<UnsafeBuffer>
                     resultCode,
                     originalStartTime );
 
-            metricsManager.measure( actualStartTimeAsMilli, runDurationAsNano, operationType );
+            metricsManager.measureWithStartTimeDelay( actualStartTimeAsMilli, startTimeDelayAsNano, runDurationAsNano,
+                    operationType );
             processedEventCount++;
             break;
         }
@@ -10,6 +10,7 @@ import com.lmax.disruptor.EventTranslator;
 import com.lmax.disruptor.EventTranslatorVararg;
 import com.lmax.disruptor.RingBuffer;
 import com.lmax.disruptor.TimeoutException;
+import com.lmax.disruptor.WaitStrategy;
 import com.lmax.disruptor.dsl.Disruptor;
 import com.lmax.disruptor.dsl.ProducerType;
 import org.agrona.concurrent.UnsafeBuffer;
@@ -24,6 +25,7 @@ import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicStampedReference;
 import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
 
 import static org.ldbcouncil.snb.driver.runtime.metrics.DisruptorSbeMetricsEvent.GET_WORKLOAD_RESULTS;
 import static org.ldbcouncil.snb.driver.runtime.metrics.DisruptorSbeMetricsEvent.GET_WORKLOAD_STATUS;
@@ -38,6 +40,7 @@ public class DisruptorSbeMetricsService implements MetricsService
 
     // TODO this could come from config, if we had a max_runtime parameter. for now, it can default to something
     public static final long DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO = TimeUnit.MINUTES.toNanos( 90 );
+    public static final int DEFAULT_RING_SIZE = 1024;
 
     private final AtomicLong initiatedEvents = new AtomicLong( 0 );
     private final AtomicBoolean shutdown = new AtomicBoolean( false );
@@ -45,6 +48,7 @@ public class DisruptorSbeMetricsService implements MetricsService
     private final RingBuffer<UnsafeBuffer> ringBuffer;
     private final Disruptor<UnsafeBuffer> disruptor;
     private final DisruptorSbeMetricsEventHandler eventHandler;
+    private final LongSupplier lastConsumerProcessedEventCount;
     private final ConcurrentLinkedQueue<DisruptorSbeMetricsServiceWriter> metricsServiceWriters;
     private final ExecutorService executor;
 
@@ -57,39 +61,115 @@ public class DisruptorSbeMetricsService implements MetricsService
             Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
             LoggingServiceFactory loggingServiceFactory ) throws MetricsCollectionException
     {
-        // Specify the size of the ring buffer, must be power of 2
-        int bufferSize = 1024;
+        this(
+                timeSource,
+                errorReporter,
+                timeUnit,
+                maxRuntimeDurationAsNano,
+                resultsLogWriter,
+                operationTypeToClassMapping,
+                loggingServiceFactory,
+                DEFAULT_RING_SIZE,
+                new BlockingWaitStrategy(),
+                false
+        );
+    }
+
+    /**
+     * @param ringSize size of the ring buffer, must be a power of 2
+     * @param waitStrategy strategy consumers use to wait for events
+     * @param chainedResultsLog when true results log is written by a second consumer, chained after the one that
+     * records metrics, rather than by the same consumer
+     */
+    public DisruptorSbeMetricsService(
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            TimeUnit timeUnit,
+            long maxRuntimeDurationAsNano,
+            ResultsLogWriter resultsLogWriter,
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
+            LoggingServiceFactory loggingServiceFactory,
+            int ringSize,
+            WaitStrategy waitStrategy,
+            boolean chainedResultsLog ) throws MetricsCollectionException
+    {
+        this(
+                timeSource,
+                errorReporter,
+                timeUnit,
+                maxRuntimeDurationAsNano,
+                resultsLogWriter,
+                operationTypeToClassMapping,
+                loggingServiceFactory,
+                ringSize,
+                waitStrategy,
+                chainedResultsLog,
+                MetricsManager.NO_EXPECTED_INTERVAL
+        );
+    }
+
+    /**
+     * @param expectedIntervalAsNano expected interval between operations of one type, when greater than 0 runtimes
+     * are also reported corrected for coordinated omission at this interval
+     */
+    public DisruptorSbeMetricsService(
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            TimeUnit timeUnit,
+            long maxRuntimeDurationAsNano,
+            ResultsLogWriter resultsLogWriter,
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
+            LoggingServiceFactory loggingServiceFactory,
+            int ringSize,
+            WaitStrategy waitStrategy,
+            boolean chainedResultsLog,
+            long expectedIntervalAsNano ) throws MetricsCollectionException
+    {
+        if ( ringSize < 1 || Integer.bitCount( ringSize ) != 1 )
+        {
+            throw new MetricsCollectionException( format( "Ring size must be a power of 2: %s", ringSize ) );
+        }
 
-        this.executor = Executors.newSingleThreadExecutor();
+        // One thread per consumer, the Disruptor starts each consumer on its own executor thread
+        this.executor = Executors.newFixedThreadPool( (chainedResultsLog) ? 2 : 1 );
         // Construct the Disruptor
         disruptor = new Disruptor(
                 new MetricsCollectionEventFactory(),
-                bufferSize,
+                ringSize,
                 // Executor that will be used to construct new threads for consumers
                 this.executor,
                 ProducerType.MULTI,
-                new BlockingWaitStrategy()
-//                new LiteBlockingWaitStrategy()
-//                new SleepingWaitStrategy()
-//                new YieldingWaitStrategy()
-//                new BusySpinWaitStrategy()
-//                new TimeoutBlockingWaitStrategy()
-//                new PhasedBackoffWaitStrategy()
+                waitStrategy
         );
 
-        // Connect the handler
+        // Connect the handlers
         eventHandler = new DisruptorSbeMetricsEventHandler(
                 errorReporter,
-                resultsLogWriter,
+                (chainedResultsLog) ? new NullResultsLogWriter() : resultsLogWriter,
                 timeUnit,
                 timeSource,
                 maxRuntimeDurationAsNano,
+                expectedIntervalAsNano,
                 operationTypeToClassMapping,
                 loggingServiceFactory
         );
 
-        disruptor.handleEventsWith( eventHandler );
         DisruptorExceptionHandler exceptionHandler = new DisruptorExceptionHandler( errorReporter );
+        if ( chainedResultsLog )
+        {
+            DisruptorSbeResultsLogEventHandler resultsLogEventHandler = new DisruptorSbeResultsLogEventHandler(
+                    resultsLogWriter,
+                    operationTypeToClassMapping
+            );
+            disruptor.handleEventsWith( eventHandler ).then( resultsLogEventHandler );
+            disruptor.handleExceptionsFor( resultsLogEventHandler ).with( exceptionHandler );
+            lastConsumerProcessedEventCount = resultsLogEventHandler::processedEventCount;
+        }
+        else
+        {
+            disruptor.handleEventsWith( eventHandler );
+            lastConsumerProcessedEventCount = eventHandler::processedEventCount;
+        }
         disruptor.handleExceptionsFor( eventHandler ).with( exceptionHandler );
         disruptor.handleExceptionsWith( exceptionHandler );
 
@@ -112,7 +192,7 @@ public class DisruptorSbeMetricsService implements MetricsService
         boolean shutdownSuccessful = false;
         while ( timeSource.nowAsMilli() - startTimeMs < SHUTDOWN_WAIT_TIMEOUT_AS_MILLI )
         {
-            if ( eventHandler.processedEventCount() >= initiatedEvents.get() )
+            if ( lastConsumerProcessedEventCount.getAsLong() >= initiatedEvents.get() )
             {
                 shutdownSuccessful = true;
                 break;
@@ -124,12 +204,26 @@ public class DisruptorSbeMetricsService implements MetricsService
             String errMsg =
                     format( "%s timed out waiting for last operations to complete\n%s/%s operations completed",
                             getClass().getSimpleName(),
-                            eventHandler.processedEventCount(),
+                            lastConsumerProcessedEventCount.getAsLong(),
                             initiatedEvents.get()
                     );
             throw new MetricsCollectionException( errMsg );
         }
 
+        // halt consumers before shutting down the executor that runs them, so they are not interrupted
+        try
+        {
+            disruptor.shutdown( SHUTDOWN_WAIT_TIMEOUT_AS_MILLI, TimeUnit.MILLISECONDS );
+        }
+        catch ( TimeoutException e )
+        {
+            String errMsg = format( "%s timed out waiting for %s to shutdown",
+                    getClass().getSimpleName(),
+                    disruptor.getClass().getSimpleName()
+            );
+            throw new MetricsCollectionException( errMsg, e );
+        }
+
         try
         {
             executor.shutdown();
@@ -154,19 +248,6 @@ public class DisruptorSbeMetricsService implements MetricsService
             throw new MetricsCollectionException(
                     "Error encountered while trying to shutdown metrics service disruptor executor", e );
         }
-
-        try
-        {
-            disruptor.shutdown( SHUTDOWN_WAIT_TIMEOUT_AS_MILLI, TimeUnit.MILLISECONDS );
-        }
-        catch ( TimeoutException e )
-        {
-            String errMsg = format( "%s timed out waiting for %s to shutdown",
-                    getClass().getSimpleName(),
-                    disruptor.getClass().getSimpleName()
-            );
-            throw new MetricsCollectionException( errMsg, e );
-        }
         AlreadyShutdownPolicy alreadyShutdownPolicy = new AlreadyShutdownPolicy();
         for ( DisruptorSbeMetricsServiceWriter metricsServiceWriter : metricsServiceWriters )
         {
@@ -221,6 +302,7 @@ public class DisruptorSbeMetricsService implements MetricsService
         public void submitOperationResult( int operationType,
                 long scheduledStartTimeAsMilli,
                 long actualStartTimeAsMilli,
+                long startTimeDelayAsNano,
                 long runDurationAsNano,
                 int resultCode,
                 long originalStartTime) throws MetricsCollectionException
@@ -231,7 +313,7 @@ public class DisruptorSbeMetricsService implements MetricsService
             }
             initiatedEvents.incrementAndGet();
             ringBuffer.publishEvent( submitOperationResultTranslator, operationType, scheduledStartTimeAsMilli,
-                    actualStartTimeAsMilli, runDurationAsNano, resultCode, originalStartTime );
+                    actualStartTimeAsMilli, startTimeDelayAsNano, runDurationAsNano, resultCode, originalStartTime );
         }
 
         @Override
@@ -285,9 +367,10 @@ public class DisruptorSbeMetricsService implements MetricsService
                         .operationType( (int) fields[0] )
                         .scheduledStartTimeAsMilli( (long) fields[1] )
                         .actualStartTimeAsMilli( (long) fields[2] )
-                        .runDurationAsNano( (long) fields[3] )
-                        .resultCode( (int) fields[4] )
-                        .originalStartTime((long) fields[5]);
+                        .startTimeDelayAsNano( (long) fields[3] )
+                        .runDurationAsNano( (long) fields[4] )
+                        .resultCode( (int) fields[5] )
+                        .originalStartTime((long) fields[6]);
             }
         }
 
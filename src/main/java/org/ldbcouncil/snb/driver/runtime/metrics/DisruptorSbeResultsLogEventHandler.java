@@ -0,0 +1,60 @@
+package org.ldbcouncil.snb.driver.runtime.metrics;
+
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.runtime.metrics.sbe.MetricsEvent;
+import com.lmax.disruptor.EventHandler;
+import org.agrona.concurrent.UnsafeBuffer;
+
+import java.util.Map;
+
+/**
+ * Writes operation results to the results log, used as a consumer chained after DisruptorSbeMetricsEventHandler so
+ * results log I/O is not on the same thread as metrics collection
+ */
+class DisruptorSbeResultsLogEventHandler implements EventHandler<UnsafeBuffer>
+{
+    private final ResultsLogWriter resultsLogWriter;
+    private long processedEventCount = 0L;
+    private final String[] operationNames;
+    private final MetricsEvent metricsEvent;
+
+    DisruptorSbeResultsLogEventHandler(
+            ResultsLogWriter resultsLogWriter,
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping ) throws MetricsCollectionException
+    {
+        this.resultsLogWriter = resultsLogWriter;
+        operationNames = MetricsManager.toOperationNameArray( operationTypeToClassMapping );
+        this.metricsEvent = new MetricsEvent();
+    }
+
+    long processedEventCount()
+    {
+        return processedEventCount;
+    }
+
+    @Override
+    public void onEvent( UnsafeBuffer event, long l, boolean b ) throws Exception
+    {
+        metricsEvent.wrapForDecode(
+                event,
+                DisruptorSbeMetricsEvent.MESSAGE_HEADER_SIZE,
+                DisruptorSbeMetricsEvent.ACTING_BLOCK_LENGTH,
+                DisruptorSbeMetricsEvent.ACTING_VERSION
+        );
+
+        // status and results requests are answered by the metrics consumer, unexpected events are reported there
+        if ( DisruptorSbeMetricsEvent.SUBMIT_OPERATION_RESULT == metricsEvent.eventType() )
+        {
+            int operationType = metricsEvent.operationType();
+            resultsLogWriter.write(
+                    operationType,
+                    operationNames[operationType],
+                    metricsEvent.scheduledStartTimeAsMilli(),
+                    metricsEvent.actualStartTimeAsMilli(),
+                    metricsEvent.runDurationAsNano(),
+                    metricsEvent.resultCode(),
+                    metricsEvent.originalStartTime() );
+            processedEventCount++;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.google.common.collect.Ordering;
 import org.ldbcouncil.snb.driver.Operation;
 import org.ldbcouncil.snb.driver.control.LoggingServiceFactory;
 import org.ldbcouncil.snb.driver.temporal.TimeSource;
+import org.HdrHistogram.Histogram;
 
 import java.io.OutputStream;
 import java.nio.charset.Charset;
@@ -21,6 +22,7 @@ public class MetricsManager
     private long startTimeAsMilli;
     private long latestFinishTimeAsMilli;
     private final OperationTypeMetricsManager[] operationTypeMetricsManagers;
+    private final ContinuousMetricManager startTimeDelayMetric;
     private final Map<Integer,Class<? extends Operation>> operationTypeToClassMapping;
 
     public static void export(
@@ -46,6 +48,22 @@ public class MetricsManager
             TimeUnit unit,
             long highestExpectedRuntimeDurationAsNano,
             LoggingServiceFactory loggingServiceFactory ) throws MetricsCollectionException
+    {
+        return toOperationTypeMetricsManagerArray(
+                operationTypeToClassMapping,
+                unit,
+                highestExpectedRuntimeDurationAsNano,
+                NO_EXPECTED_INTERVAL,
+                loggingServiceFactory
+        );
+    }
+
+    public static OperationTypeMetricsManager[] toOperationTypeMetricsManagerArray(
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
+            TimeUnit unit,
+            long highestExpectedRuntimeDurationAsNano,
+            long expectedIntervalAsNano,
+            LoggingServiceFactory loggingServiceFactory ) throws MetricsCollectionException
     {
         if ( operationTypeToClassMapping.isEmpty() )
         {
@@ -76,6 +94,7 @@ public class MetricsManager
                             operationClass.getSimpleName(),
                             unit,
                             highestExpectedRuntimeDurationAsNano,
+                            expectedIntervalAsNano,
                             loggingServiceFactory
                     );
                 }
@@ -122,11 +141,33 @@ public class MetricsManager
             long highestExpectedRuntimeDurationAsNano,
             Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
             LoggingServiceFactory loggingServiceFactory ) throws MetricsCollectionException
+    {
+        this(
+                timeSource,
+                unit,
+                highestExpectedRuntimeDurationAsNano,
+                NO_EXPECTED_INTERVAL,
+                operationTypeToClassMapping,
+                loggingServiceFactory
+        );
+    }
+
+    /**
+     * @param expectedIntervalAsNano expected interval between operations of one type, when greater than 0 runtimes
+     * are also reported corrected for coordinated omission at this interval
+     */
+    public MetricsManager( TimeSource timeSource,
+            TimeUnit unit,
+            long highestExpectedRuntimeDurationAsNano,
+            long expectedIntervalAsNano,
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
+            LoggingServiceFactory loggingServiceFactory ) throws MetricsCollectionException
     {
         operationTypeMetricsManagers = toOperationTypeMetricsManagerArray(
                 operationTypeToClassMapping,
                 unit,
                 highestExpectedRuntimeDurationAsNano,
+                expectedIntervalAsNano,
                 loggingServiceFactory
         );
         this.operationTypeToClassMapping = operationTypeToClassMapping;
@@ -134,9 +175,72 @@ public class MetricsManager
         this.latestFinishTimeAsMilli = Long.MIN_VALUE;
         this.timeSource = timeSource;
         this.unit = unit;
+        this.startTimeDelayMetric = new ContinuousMetricManager(
+                METRIC_START_TIME_DELAY,
+                TimeUnit.NANOSECONDS,
+                HIGHEST_EXPECTED_START_TIME_DELAY_AS_NANO,
+                START_TIME_DELAY_SIGNIFICANT_DIGITS
+        );
     }
 
     final static long ONE_MS_AS_NS = TimeUnit.MILLISECONDS.toNanos( 1 );
+    public static final long NO_EXPECTED_INTERVAL = 0;
+    private static final String METRIC_START_TIME_DELAY = "Start Time Delay";
+    static final long HIGHEST_EXPECTED_START_TIME_DELAY_AS_NANO = TimeUnit.HOURS.toNanos( 1 );
+    static final int START_TIME_DELAY_SIGNIFICANT_DIGITS = 3;
+
+    /**
+     * Start time delay, or jitter, is how far after its scheduled start time an operation actually started.
+     * It is recorded in nanoseconds, capped at the highest expected delay.
+     * Safe to call from any thread.
+     */
+    static long toRecordableStartTimeDelay( long startTimeDelayAsNano )
+    {
+        return Math.min( Math.max( 0, startTimeDelayAsNano ), HIGHEST_EXPECTED_START_TIME_DELAY_AS_NANO );
+    }
+
+    /**
+     * Start time delay of an operation of which only millisecond start times are known, e.g., from a results log
+     */
+    public static long toStartTimeDelayAsNano( long scheduledStartTimeAsMilli, long actualStartTimeAsMilli )
+    {
+        return (actualStartTimeAsMilli - scheduledStartTimeAsMilli) * ONE_MS_AS_NS;
+    }
+
+    /**
+     * Response time is the time from the scheduled start time of an operation until it completed, i.e., its start
+     * time delay plus its runtime. Unlike runtime it does not hide the delay of operations started late because the
+     * driver or the system under test fell behind schedule.
+     * Safe to call from any thread.
+     */
+    static long toResponseTimeAsNano( long startTimeDelayAsNano, long runDurationAsNano )
+    {
+        return toRecordableStartTimeDelay( startTimeDelayAsNano ) + runDurationAsNano;
+    }
+
+    public void measure( long scheduledStartTimeAsMilli, long actualStartTimeAsMilli, long runDurationAsNano,
+            int operationType ) throws MetricsCollectionException
+    {
+        measureWithStartTimeDelay(
+                actualStartTimeAsMilli,
+                toStartTimeDelayAsNano( scheduledStartTimeAsMilli, actualStartTimeAsMilli ),
+                runDurationAsNano,
+                operationType
+        );
+    }
+
+    /**
+     * As above, with the start time delay measured by the caller in nanoseconds, rather than derived from
+     * millisecond start times
+     */
+    public void measureWithStartTimeDelay( long actualStartTimeAsMilli, long startTimeDelayAsNano,
+            long runDurationAsNano, int operationType ) throws MetricsCollectionException
+    {
+        measure( actualStartTimeAsMilli, runDurationAsNano, operationType );
+        operationTypeMetricsManagers[operationType].measureResponseTime(
+                toResponseTimeAsNano( startTimeDelayAsNano, runDurationAsNano ) );
+        startTimeDelayMetric.addMeasurement( toRecordableStartTimeDelay( startTimeDelayAsNano ) );
+    }
 
     public void measure( long actualStartTimeAsMilli, long runDurationAsNano, int operationType )
             throws MetricsCollectionException
@@ -155,13 +259,46 @@ public class MetricsManager
         operationTypeMetricsManagers[operationType].measure( runDurationAsNano );
     }
 
+    void addTimeRange( long startTimeAsMilli, long latestFinishTimeAsMilli )
+    {
+        if ( startTimeAsMilli < this.startTimeAsMilli )
+        {
+            this.startTimeAsMilli = startTimeAsMilli;
+        }
+        if ( latestFinishTimeAsMilli > this.latestFinishTimeAsMilli )
+        {
+            this.latestFinishTimeAsMilli = latestFinishTimeAsMilli;
+        }
+    }
+
+    void addMeasurements( int operationType, Histogram runtimes )
+    {
+        operationTypeMetricsManagers[operationType].addMeasurements( runtimes );
+    }
+
+    void addResponseTimes( int operationType, Histogram responseTimes )
+    {
+        operationTypeMetricsManagers[operationType].addResponseTimes( responseTimes );
+    }
+
+    void addStartTimeDelays( Histogram startTimeDelays )
+    {
+        startTimeDelayMetric.addMeasurements( startTimeDelays );
+    }
+
+    OperationTypeMetricsManager[] operationTypeMetricsManagers()
+    {
+        return operationTypeMetricsManagers;
+    }
+
     public void applyResultsLog( ResultsLogReader reader ) throws MetricsCollectionException
     {
         Map<String,Integer> simpleNameToTypeMapping = simpleNameToTypeMapping( operationTypeToClassMapping );
         while ( reader.next() )
         {
             int operationType = simpleNameToTypeMapping.get( reader.getOperationName() );
-            measure( reader.getActualStartTimeAsMilli(), reader.getRunDurationAsNano(), operationType );
+            measure( reader.getScheduledStartTimeAsMilli(), reader.getActualStartTimeAsMilli(),
+                    reader.getRunDurationAsNano(), operationType );
         }
     }
 
@@ -201,7 +338,8 @@ public class MetricsManager
                 (startTimeAsMilli == Long.MAX_VALUE) ? -1 : startTimeAsMilli,
                 (latestFinishTimeAsMilli == Long.MIN_VALUE) ? -1 : latestFinishTimeAsMilli,
                 totalOperationCount(),
-                unit );
+                unit,
+                startTimeDelayMetric.snapshot() );
     }
 
     WorkloadStatusSnapshot status()
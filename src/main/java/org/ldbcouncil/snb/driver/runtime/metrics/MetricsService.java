@@ -8,10 +8,35 @@ public interface MetricsService
 
     interface MetricsServiceWriter
     {
+        /**
+         * Start time delay is derived from the millisecond start times
+         */
+        default void submitOperationResult(
+                int operationType,
+                long scheduledStartTimeAsMilli,
+                long actualStartTimeAsMilli,
+                long runDurationAsNano,
+                int resultCode,
+                long originalStartTime) throws MetricsCollectionException
+        {
+            submitOperationResult(
+                    operationType,
+                    scheduledStartTimeAsMilli,
+                    actualStartTimeAsMilli,
+                    MetricsManager.toStartTimeDelayAsNano( scheduledStartTimeAsMilli, actualStartTimeAsMilli ),
+                    runDurationAsNano,
+                    resultCode,
+                    originalStartTime );
+        }
+
+        /**
+         * @param startTimeDelayAsNano actual minus scheduled start time, measured with sub millisecond resolution
+         */
         void submitOperationResult(
                 int operationType,
                 long scheduledStartTimeAsMilli,
                 long actualStartTimeAsMilli,
+                long startTimeDelayAsNano,
                 long runDurationAsNano,
                 int resultCode,
                 long originalStartTime) throws MetricsCollectionException;
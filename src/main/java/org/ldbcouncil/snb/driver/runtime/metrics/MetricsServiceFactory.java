@@ -0,0 +1,104 @@
+package org.ldbcouncil.snb.driver.runtime.metrics;
+
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.control.DriverConfiguration;
+import org.ldbcouncil.snb.driver.control.LoggingServiceFactory;
+import org.ldbcouncil.snb.driver.control.MetricsResultsLogConsumer;
+import org.ldbcouncil.snb.driver.control.MetricsWaitStrategy;
+import org.ldbcouncil.snb.driver.runtime.ConcurrentErrorReporter;
+import org.ldbcouncil.snb.driver.temporal.TimeSource;
+import com.lmax.disruptor.BlockingWaitStrategy;
+import com.lmax.disruptor.BusySpinWaitStrategy;
+import com.lmax.disruptor.PhasedBackoffWaitStrategy;
+import com.lmax.disruptor.WaitStrategy;
+import com.lmax.disruptor.YieldingWaitStrategy;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Creates the metrics service selected by driver configuration
+ */
+public class MetricsServiceFactory
+{
+    // phased backoff spins for this long, then yields for this long, then falls back to blocking
+    private static final long PHASED_BACKOFF_SPIN_TIMEOUT_AS_MICRO = 100;
+    private static final long PHASED_BACKOFF_YIELD_TIMEOUT_AS_MICRO = 1_000;
+
+    public static MetricsService create(
+            DriverConfiguration configuration,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            ResultsLogWriter resultsLogWriter,
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
+            LoggingServiceFactory loggingServiceFactory ) throws MetricsCollectionException
+    {
+        long expectedIntervalAsNano = TimeUnit.MICROSECONDS.toNanos( configuration.metricsExpectedIntervalAsMicro() );
+        TimeUnit timeUnit = configuration.timeUnit();
+        // runtimes are recorded in the time unit, the interval must not be truncated when converted to it
+        if ( expectedIntervalAsNano !=
+             timeUnit.toNanos( timeUnit.convert( expectedIntervalAsNano, TimeUnit.NANOSECONDS ) ) )
+        {
+            throw new MetricsCollectionException( format(
+                    "Metrics expected interval (us) must be a whole number of the time unit (%s), was: %s",
+                    timeUnit,
+                    configuration.metricsExpectedIntervalAsMicro() ) );
+        }
+        switch ( configuration.metricsServiceType() )
+        {
+        case disruptor:
+            return new DisruptorSbeMetricsService(
+                    timeSource,
+                    errorReporter,
+                    configuration.timeUnit(),
+                    DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                    resultsLogWriter,
+                    operationTypeToClassMapping,
+                    loggingServiceFactory,
+                    configuration.metricsRingSize(),
+                    waitStrategyFor( configuration.metricsWaitStrategy() ),
+                    MetricsResultsLogConsumer.chained == configuration.metricsResultsLogConsumer(),
+                    expectedIntervalAsNano
+            );
+        case sharded:
+            return new ShardedMetricsService(
+                    timeSource,
+                    configuration.timeUnit(),
+                    ShardedMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                    resultsLogWriter,
+                    operationTypeToClassMapping,
+                    loggingServiceFactory,
+                    ShardedMetricsService.DEFAULT_SHARD_COUNT,
+                    ShardedMetricsService.DEFAULT_RESULTS_LOG_BUFFER_SIZE,
+                    expectedIntervalAsNano
+            );
+        default:
+            throw new MetricsCollectionException(
+                    format( "Unsupported metrics service type: %s", configuration.metricsServiceType() ) );
+        }
+    }
+
+    public static WaitStrategy waitStrategyFor( MetricsWaitStrategy metricsWaitStrategy )
+            throws MetricsCollectionException
+    {
+        switch ( metricsWaitStrategy )
+        {
+        case blocking:
+            return new BlockingWaitStrategy();
+        case yielding:
+            return new YieldingWaitStrategy();
+        case busy_spin:
+            return new BusySpinWaitStrategy();
+        case phased_backoff:
+            return PhasedBackoffWaitStrategy.withLiteLock(
+                    PHASED_BACKOFF_SPIN_TIMEOUT_AS_MICRO,
+                    PHASED_BACKOFF_YIELD_TIMEOUT_AS_MICRO,
+                    TimeUnit.MICROSECONDS
+            );
+        default:
+            throw new MetricsCollectionException( format( "Unsupported wait strategy: %s", metricsWaitStrategy ) );
+        }
+    }
+}
@@ -13,6 +13,10 @@ public class OperationMetricsSnapshot {
     private long count;
     @JsonProperty("run_time")
     private ContinuousMetricSnapshot rutTimeMetric;
+    @JsonProperty("response_time")
+    private ContinuousMetricSnapshot responseTimeMetric;
+    @JsonProperty("corrected_run_time")
+    private ContinuousMetricSnapshot correctedRunTimeMetric;
 
     private OperationMetricsSnapshot() {
     }
@@ -21,10 +25,21 @@ public class OperationMetricsSnapshot {
                                     TimeUnit durationUnit,
                                     long count,
                                     ContinuousMetricSnapshot rutTimeMetric) {
+        this(name, durationUnit, count, rutTimeMetric, null, null);
+    }
+
+    public OperationMetricsSnapshot(String name,
+                                    TimeUnit durationUnit,
+                                    long count,
+                                    ContinuousMetricSnapshot rutTimeMetric,
+                                    ContinuousMetricSnapshot responseTimeMetric,
+                                    ContinuousMetricSnapshot correctedRunTimeMetric) {
         this.name = name;
         this.durationUnit = durationUnit;
         this.count = count;
         this.rutTimeMetric = rutTimeMetric;
+        this.responseTimeMetric = responseTimeMetric;
+        this.correctedRunTimeMetric = correctedRunTimeMetric;
     }
 
     public String name() {
@@ -43,6 +58,20 @@ public class OperationMetricsSnapshot {
         return rutTimeMetric;
     }
 
+    /**
+     * @return time from scheduled start time to completion, null if not measured
+     */
+    public ContinuousMetricSnapshot responseTimeMetric() {
+        return responseTimeMetric;
+    }
+
+    /**
+     * @return runtimes corrected for coordinated omission at the expected interval, null if not corrected
+     */
+    public ContinuousMetricSnapshot correctedRunTimeMetric() {
+        return correctedRunTimeMetric;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -55,6 +84,10 @@ public class OperationMetricsSnapshot {
         if (name != null ? !name.equals(that.name) : that.name != null) return false;
         if (rutTimeMetric != null ? !rutTimeMetric.equals(that.rutTimeMetric) : that.rutTimeMetric != null)
             return false;
+        if (responseTimeMetric != null ? !responseTimeMetric.equals(that.responseTimeMetric) : that.responseTimeMetric != null)
+            return false;
+        if (correctedRunTimeMetric != null ? !correctedRunTimeMetric.equals(that.correctedRunTimeMetric) : that.correctedRunTimeMetric != null)
+            return false;
 
         return true;
     }
@@ -65,6 +98,8 @@ public class OperationMetricsSnapshot {
         result = 31 * result + (durationUnit != null ? durationUnit.hashCode() : 0);
         result = 31 * result + (int) (count ^ (count >>> 32));
         result = 31 * result + (rutTimeMetric != null ? rutTimeMetric.hashCode() : 0);
+        result = 31 * result + (responseTimeMetric != null ? responseTimeMetric.hashCode() : 0);
+        result = 31 * result + (correctedRunTimeMetric != null ? correctedRunTimeMetric.hashCode() : 0);
         return result;
     }
 
@@ -75,6 +110,8 @@ public class OperationMetricsSnapshot {
                 ", durationUnit=" + durationUnit +
                 ", count=" + count +
                 ", rutTimeMetric=" + rutTimeMetric +
+                ", responseTimeMetric=" + responseTimeMetric +
+                ", correctedRunTimeMetric=" + correctedRunTimeMetric +
                 '}';
     }
 }
@@ -3,6 +3,8 @@ package org.ldbcouncil.snb.driver.runtime.metrics;
 import org.ldbcouncil.snb.driver.control.LoggingService;
 import org.ldbcouncil.snb.driver.control.LoggingServiceFactory;
 import org.ldbcouncil.snb.driver.temporal.TemporalUtil;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
 
 import java.util.Comparator;
 import java.util.concurrent.TimeUnit;
@@ -12,23 +14,32 @@ import static java.lang.String.format;
 public class OperationTypeMetricsManager
 {
     private static final String METRIC_RUNTIME = "Runtime";
+    private static final String METRIC_RESPONSE_TIME = "Response Time";
 
     private final TemporalUtil temporalUtil = new TemporalUtil();
     private final ContinuousMetricManager runTimeMetric;
+    private final ContinuousMetricManager responseTimeMetric;
     private final String name;
     private final TimeUnit unit;
     private final long highestExpectedRuntimeDurationAsNano;
+    private final long expectedIntervalAsNano;
     private final LoggingService loggingService;
 
+    /**
+     * @param expectedIntervalAsNano expected interval between operations of this type, when greater than 0 runtimes
+     * are also reported corrected for coordinated omission at this interval
+     */
     OperationTypeMetricsManager(
             String name,
             TimeUnit unit,
             long highestExpectedRuntimeDurationAsNano,
+            long expectedIntervalAsNano,
             LoggingServiceFactory loggingServiceFactory )
     {
         this.name = name;
         this.unit = unit;
         this.highestExpectedRuntimeDurationAsNano = highestExpectedRuntimeDurationAsNano;
+        this.expectedIntervalAsNano = expectedIntervalAsNano;
         loggingService = loggingServiceFactory.loggingServiceFor( getClass().getSimpleName() );
         this.runTimeMetric = new ContinuousMetricManager(
                 METRIC_RUNTIME,
@@ -36,13 +47,61 @@ public class OperationTypeMetricsManager
                 unit.convert( highestExpectedRuntimeDurationAsNano, TimeUnit.NANOSECONDS ),
                 4
         );
+        this.responseTimeMetric = new ContinuousMetricManager(
+                METRIC_RESPONSE_TIME,
+                unit,
+                unit.convert( highestExpectedRuntimeDurationAsNano, TimeUnit.NANOSECONDS ),
+                4
+        );
     }
 
     void measure( long runDurationAsNano ) throws MetricsCollectionException
     {
-        //
-        // Measure operation runtime
-        //
+        measure( runTimeMetric, runDurationAsNano );
+    }
+
+    /**
+     * Response time is measured from the scheduled start time rather than the actual start time, so it includes
+     * time operations spent waiting to be started, e.g., while the driver is behind schedule
+     */
+    void measureResponseTime( long responseTimeAsNano ) throws MetricsCollectionException
+    {
+        measure( responseTimeMetric, responseTimeAsNano );
+    }
+
+    private void measure( ContinuousMetricManager metric, long runDurationAsNano ) throws MetricsCollectionException
+    {
+        long runtimeInAppropriateUnit = toRecordableRuntime( runDurationAsNano );
+
+        try
+        {
+            metric.addMeasurement( runtimeInAppropriateUnit );
+        }
+        catch ( Throwable e )
+        {
+            String errMsg = format(
+                    "Error encountered adding %s: %s %s / %s %s\nTo: %s\nHighest expected value: %s %s / %s %s",
+                    metric.name(),
+                    runDurationAsNano,
+                    TimeUnit.NANOSECONDS.name(),
+                    runtimeInAppropriateUnit,
+                    unit.name(),
+                    name,
+                    highestExpectedRuntimeDurationAsNano,
+                    TimeUnit.NANOSECONDS.name(),
+                    unit.convert( highestExpectedRuntimeDurationAsNano, TimeUnit.NANOSECONDS ),
+                    unit.name()
+            );
+            throw new MetricsCollectionException( errMsg, e );
+        }
+    }
+
+    /**
+     * Converts a runtime to the unit measurements are recorded in, capped at the highest expected runtime.
+     * Safe to call from any thread.
+     */
+    long toRecordableRuntime( long runDurationAsNano )
+    {
         if ( runDurationAsNano > highestExpectedRuntimeDurationAsNano )
         {
             String errMsg = format(
@@ -62,34 +121,41 @@ public class OperationTypeMetricsManager
             loggingService.info( errMsg );
             runDurationAsNano = highestExpectedRuntimeDurationAsNano;
         }
+        return unit.convert( runDurationAsNano, TimeUnit.NANOSECONDS );
+    }
 
-        long runtimeInAppropriateUnit = unit.convert( runDurationAsNano, TimeUnit.NANOSECONDS );
+    /**
+     * Creates a recorder for values returned by toRecordableRuntime, with the same precision as this manager.
+     * Its interval histograms can be added to this manager with addMeasurements or addResponseTimes.
+     */
+    Recorder newRecorder()
+    {
+        return new Recorder( runTimeMetric.numberOfSignificantDigits() );
+    }
 
-        try
-        {
-            runTimeMetric.addMeasurement( runtimeInAppropriateUnit );
-        }
-        catch ( Throwable e )
-        {
-            String errMsg = format(
-                    "Error encountered adding runtime: %s %s / %s %s\nTo: %s\nHighest expected value: %s %s / %s %s",
-                    runDurationAsNano,
-                    TimeUnit.NANOSECONDS.name(),
-                    runtimeInAppropriateUnit,
-                    unit.name(),
-                    name,
-                    highestExpectedRuntimeDurationAsNano,
-                    TimeUnit.NANOSECONDS.name(),
-                    unit.convert( highestExpectedRuntimeDurationAsNano, TimeUnit.NANOSECONDS ),
-                    unit.name()
-            );
-            throw new MetricsCollectionException( errMsg, e );
-        }
+    void addMeasurements( Histogram runtimes )
+    {
+        runTimeMetric.addMeasurements( runtimes );
+    }
+
+    void addResponseTimes( Histogram responseTimes )
+    {
+        responseTimeMetric.addMeasurements( responseTimes );
     }
 
     public OperationMetricsSnapshot snapshot()
     {
-        return new OperationMetricsSnapshot( name, unit, count(), runTimeMetric.snapshot() );
+        ContinuousMetricSnapshot correctedRunTimeSnapshot = (expectedIntervalAsNano > 0)
+                ? runTimeMetric.snapshotCorrectedForCoordinatedOmission(
+                        unit.convert( expectedIntervalAsNano, TimeUnit.NANOSECONDS ) )
+                : null;
+        return new OperationMetricsSnapshot(
+                name,
+                unit,
+                count(),
+                runTimeMetric.snapshot(),
+                responseTimeMetric.snapshot(),
+                correctedRunTimeSnapshot );
     }
 
     public String name()
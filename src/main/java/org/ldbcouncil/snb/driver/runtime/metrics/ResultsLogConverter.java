@@ -0,0 +1,74 @@
+package org.ldbcouncil.snb.driver.runtime.metrics;
+
+import java.io.File;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class ResultsLogConverter
+{
+    /**
+     * Converts a results log written by BinaryResultsLogWriter to the CSV results log format,
+     * with execution durations in the time unit the binary log was created with
+     * @param binaryResultsLog binary results log to read
+     * @param csvResultsLog CSV results log to write, replaced if it exists
+     * @return number of results converted
+     * @throws Exception when either results log could not be read or written
+     */
+    public static long binaryToCsv( File binaryResultsLog, File csvResultsLog ) throws Exception
+    {
+        long resultCount = 0;
+        boolean flushLog = false;
+        try ( ResultsLogReader reader = new BinaryResultsLogReader( binaryResultsLog );
+              ResultsLogWriter writer = new SimpleResultsLogWriter( csvResultsLog, reader.unit(), flushLog ) )
+        {
+            while ( reader.next() )
+            {
+                writer.write(
+                        reader.getOperationName(),
+                        reader.getScheduledStartTimeAsMilli(),
+                        reader.getActualStartTimeAsMilli(),
+                        reader.getRunDurationAsNano(),
+                        reader.getResultCode(),
+                        reader.getOriginalStartTime() );
+                resultCount++;
+            }
+        }
+        return resultCount;
+    }
+
+    /**
+     * Merges CSV results logs, e.g., written by the driver processes of a partitioned workload, into one CSV
+     * results log, in the order the results logs are given
+     * @param csvResultsLogs CSV results logs to read
+     * @param mergedCsvResultsLog CSV results log to write, replaced if it exists
+     * @param unit time unit to write execution durations in
+     * @return number of results merged
+     * @throws Exception when any results log could not be read or written
+     */
+    public static long mergeCsv( List<File> csvResultsLogs, File mergedCsvResultsLog, TimeUnit unit ) throws Exception
+    {
+        long resultCount = 0;
+        boolean flushLog = false;
+        try ( ResultsLogWriter writer = new SimpleResultsLogWriter( mergedCsvResultsLog, unit, flushLog ) )
+        {
+            for ( File csvResultsLog : csvResultsLogs )
+            {
+                try ( ResultsLogReader reader = new SimpleResultsLogReader( csvResultsLog ) )
+                {
+                    while ( reader.next() )
+                    {
+                        writer.write(
+                                reader.getOperationName(),
+                                reader.getScheduledStartTimeAsMilli(),
+                                reader.getActualStartTimeAsMilli(),
+                                reader.getRunDurationAsNano(),
+                                reader.getResultCode(),
+                                reader.getOriginalStartTime() );
+                        resultCount++;
+                    }
+                }
+            }
+        }
+        return resultCount;
+    }
+}
@@ -25,4 +25,26 @@ public interface ResultsLogWriter extends AutoCloseable
             long runDurationAsNano,
             int resultCode,
             long originalStartTime ) throws IOException;
+
+    /**
+     * Same as write with operation name, for callers that also know the operation type code.
+     * Writers that store type codes rather than names override this to avoid looking the type up by name.
+     */
+    default void write(
+            int operationType,
+            String operationName,
+            long scheduledStartTimeAsMilli,
+            long actualStartTimeAsMilli,
+            long runDurationAsNano,
+            int resultCode,
+            long originalStartTime ) throws IOException
+    {
+        write(
+                operationName,
+                scheduledStartTimeAsMilli,
+                actualStartTimeAsMilli,
+                runDurationAsNano,
+                resultCode,
+                originalStartTime );
+    }
 }
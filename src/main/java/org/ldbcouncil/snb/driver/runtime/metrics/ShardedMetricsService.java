@@ -0,0 +1,445 @@
+package org.ldbcouncil.snb.driver.runtime.metrics;
+
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.control.LoggingServiceFactory;
+import org.ldbcouncil.snb.driver.temporal.TimeSource;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import static java.lang.String.format;
+
+/**
+ * Metrics service without a collector thread: results are recorded directly into sharded HdrHistogram recorders,
+ * and shards are merged into a single MetricsManager when status or results are requested.
+ * <p/>
+ * Writers belong to pooled handler contexts, which are handed between threads, so shards are selected by the
+ * recording thread rather than by writer. Each shard has one recorder per operation type, created on first use.
+ * Shards are assigned to recording threads in turn, when a thread first records, so threads each get a shard of
+ * their own while there are at least as many shards as threads. Recording is wait-free, merging swaps recorder interval histograms and adds them to the totals.
+ * <p/>
+ * When results are logged, each shard buffers the results recorded into it and appends them to the results log in
+ * batches. Writers hold no state of their own, so writers of discarded contexts leave no results behind.
+ */
+public class ShardedMetricsService implements MetricsService
+{
+    public static final long DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO = TimeUnit.MINUTES.toNanos( 90 );
+    public static final int DEFAULT_SHARD_COUNT = Runtime.getRuntime().availableProcessors();
+    public static final int DEFAULT_RESULTS_LOG_BUFFER_SIZE = 256;
+
+    private final AtomicBoolean shutdown = new AtomicBoolean( false );
+    private final MetricsManager metricsManager;
+    private final OperationTypeMetricsManager[] operationTypeMetricsManagers;
+    private final MetricsShard[] shards;
+    private final int shardMask;
+    private final AtomicInteger nextShardIndex = new AtomicInteger( 0 );
+    private final ThreadLocal<MetricsShard> shardOfThread;
+    private final ResultsLogWriter resultsLogWriter;
+    private final String[] operationNames;
+    // writers are stateless, so every context shares the same one
+    private final ShardedMetricsServiceWriter metricsServiceWriter = new ShardedMetricsServiceWriter( this );
+
+    public ShardedMetricsService(
+            TimeSource timeSource,
+            TimeUnit timeUnit,
+            long maxRuntimeDurationAsNano,
+            ResultsLogWriter resultsLogWriter,
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
+            LoggingServiceFactory loggingServiceFactory ) throws MetricsCollectionException
+    {
+        this(
+                timeSource,
+                timeUnit,
+                maxRuntimeDurationAsNano,
+                resultsLogWriter,
+                operationTypeToClassMapping,
+                loggingServiceFactory,
+                DEFAULT_SHARD_COUNT,
+                DEFAULT_RESULTS_LOG_BUFFER_SIZE
+        );
+    }
+
+    public ShardedMetricsService(
+            TimeSource timeSource,
+            TimeUnit timeUnit,
+            long maxRuntimeDurationAsNano,
+            ResultsLogWriter resultsLogWriter,
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
+            LoggingServiceFactory loggingServiceFactory,
+            int shardCount,
+            int resultsLogBufferSize ) throws MetricsCollectionException
+    {
+        this(
+                timeSource,
+                timeUnit,
+                maxRuntimeDurationAsNano,
+                resultsLogWriter,
+                operationTypeToClassMapping,
+                loggingServiceFactory,
+                shardCount,
+                resultsLogBufferSize,
+                MetricsManager.NO_EXPECTED_INTERVAL
+        );
+    }
+
+    /**
+     * @param expectedIntervalAsNano expected interval between operations of one type, when greater than 0 runtimes
+     * are also reported corrected for coordinated omission at this interval
+     */
+    public ShardedMetricsService(
+            TimeSource timeSource,
+            TimeUnit timeUnit,
+            long maxRuntimeDurationAsNano,
+            ResultsLogWriter resultsLogWriter,
+            Map<Integer,Class<? extends Operation>> operationTypeToClassMapping,
+            LoggingServiceFactory loggingServiceFactory,
+            int shardCount,
+            int resultsLogBufferSize,
+            long expectedIntervalAsNano ) throws MetricsCollectionException
+    {
+        if ( shardCount < 1 )
+        {
+            throw new MetricsCollectionException( format( "Shard count must be at least 1, was %s", shardCount ) );
+        }
+        if ( resultsLogBufferSize < 1 )
+        {
+            throw new MetricsCollectionException(
+                    format( "Results log buffer size must be at least 1, was %s", resultsLogBufferSize ) );
+        }
+        this.metricsManager = new MetricsManager(
+                timeSource,
+                timeUnit,
+                maxRuntimeDurationAsNano,
+                expectedIntervalAsNano,
+                operationTypeToClassMapping,
+                loggingServiceFactory );
+        this.operationTypeMetricsManagers = metricsManager.operationTypeMetricsManagers();
+        // round up to a power of 2, so a shard can be selected with a mask
+        int powerOfTwoShardCount = Integer.highestOneBit( shardCount );
+        if ( powerOfTwoShardCount < shardCount )
+        {
+            powerOfTwoShardCount <<= 1;
+        }
+        this.resultsLogWriter = (resultsLogWriter instanceof NullResultsLogWriter) ? null : resultsLogWriter;
+        this.operationNames = MetricsManager.toOperationNameArray( operationTypeToClassMapping );
+        this.shards = new MetricsShard[powerOfTwoShardCount];
+        for ( int i = 0; i < shards.length; i++ )
+        {
+            shards[i] = new MetricsShard(
+                    operationTypeMetricsManagers.length,
+                    (null == this.resultsLogWriter)
+                    ? null
+                    : new BufferedResultsLogAppender( this.resultsLogWriter, operationNames, resultsLogBufferSize ) );
+        }
+        this.shardMask = powerOfTwoShardCount - 1;
+        this.shardOfThread =
+                ThreadLocal.withInitial( () -> shards[nextShardIndex.getAndIncrement() & shardMask] );
+    }
+
+    int shardCount()
+    {
+        return shards.length;
+    }
+
+    int shardIndexOfCurrentThread()
+    {
+        return Arrays.asList( shards ).indexOf( shardForCurrentThread() );
+    }
+
+    @Override
+    synchronized public void shutdown() throws MetricsCollectionException
+    {
+        if ( shutdown.get() )
+        {
+            throw new MetricsCollectionException( "Metrics service has already been shutdown" );
+        }
+        flushResultsLog();
+        shutdown.set( true );
+    }
+
+    @Override
+    public MetricsServiceWriter getWriter() throws MetricsCollectionException
+    {
+        checkNotShutdown();
+        return metricsServiceWriter;
+    }
+
+    private void checkNotShutdown() throws MetricsCollectionException
+    {
+        if ( shutdown.get() )
+        {
+            throw new MetricsCollectionException( "Metrics service has already been shutdown" );
+        }
+    }
+
+    private MetricsShard shardForCurrentThread()
+    {
+        return shardOfThread.get();
+    }
+
+    private synchronized WorkloadStatusSnapshot status()
+    {
+        mergeShards();
+        return metricsManager.status();
+    }
+
+    private synchronized WorkloadResultsSnapshot results() throws MetricsCollectionException
+    {
+        mergeShards();
+        flushResultsLog();
+        return metricsManager.snapshot();
+    }
+
+    private void mergeShards()
+    {
+        for ( MetricsShard shard : shards )
+        {
+            shard.mergeInto( metricsManager );
+        }
+    }
+
+    private void flushResultsLog() throws MetricsCollectionException
+    {
+        for ( MetricsShard shard : shards )
+        {
+            if ( null != shard.resultsLogAppender )
+            {
+                shard.resultsLogAppender.flush();
+            }
+        }
+    }
+
+    private static class MetricsShard
+    {
+        private final AtomicReferenceArray<Recorder> recorders;
+        private final AtomicReferenceArray<Recorder> responseTimeRecorders;
+        // only used while merging, which the service serializes
+        private final Histogram[] intervalHistograms;
+        private final Histogram[] responseTimeIntervalHistograms;
+        private final AtomicLong startTimeAsMilli = new AtomicLong( Long.MAX_VALUE );
+        private final AtomicLong latestFinishTimeAsMilli = new AtomicLong( Long.MIN_VALUE );
+        private final Recorder startTimeDelayRecorder = new Recorder(
+                MetricsManager.HIGHEST_EXPECTED_START_TIME_DELAY_AS_NANO,
+                MetricsManager.START_TIME_DELAY_SIGNIFICANT_DIGITS );
+        private Histogram startTimeDelayIntervalHistogram = null;
+        // null when results are not logged
+        private final BufferedResultsLogAppender resultsLogAppender;
+
+        private MetricsShard( int operationTypeCount, BufferedResultsLogAppender resultsLogAppender )
+        {
+            this.resultsLogAppender = resultsLogAppender;
+            this.recorders = new AtomicReferenceArray<>( operationTypeCount );
+            this.responseTimeRecorders = new AtomicReferenceArray<>( operationTypeCount );
+            this.intervalHistograms = new Histogram[operationTypeCount];
+            this.responseTimeIntervalHistograms = new Histogram[operationTypeCount];
+        }
+
+        private void record(
+                OperationTypeMetricsManager operationTypeMetricsManager,
+                int operationType,
+                long actualStartTimeAsMilli,
+                long startTimeDelayAsNano,
+                long runDurationAsNano )
+        {
+            if ( actualStartTimeAsMilli < startTimeAsMilli.get() )
+            {
+                startTimeAsMilli.accumulateAndGet( actualStartTimeAsMilli, Math::min );
+            }
+            long operationFinishTimeAsMilli = actualStartTimeAsMilli + (runDurationAsNano / MetricsManager.ONE_MS_AS_NS);
+            if ( operationFinishTimeAsMilli > latestFinishTimeAsMilli.get() )
+            {
+                latestFinishTimeAsMilli.accumulateAndGet( operationFinishTimeAsMilli, Math::max );
+            }
+
+            recorderFor( recorders, operationTypeMetricsManager, operationType )
+                    .recordValue( operationTypeMetricsManager.toRecordableRuntime( runDurationAsNano ) );
+            recorderFor( responseTimeRecorders, operationTypeMetricsManager, operationType )
+                    .recordValue( operationTypeMetricsManager.toRecordableRuntime(
+                            MetricsManager.toResponseTimeAsNano( startTimeDelayAsNano, runDurationAsNano ) ) );
+            startTimeDelayRecorder.recordValue( MetricsManager.toRecordableStartTimeDelay( startTimeDelayAsNano ) );
+        }
+
+        private static Recorder recorderFor(
+                AtomicReferenceArray<Recorder> recorders,
+                OperationTypeMetricsManager operationTypeMetricsManager,
+                int operationType )
+        {
+            Recorder recorder = recorders.get( operationType );
+            if ( null == recorder )
+            {
+                recorders.compareAndSet( operationType, null, operationTypeMetricsManager.newRecorder() );
+                recorder = recorders.get( operationType );
+            }
+            return recorder;
+        }
+
+        private void mergeInto( MetricsManager metricsManager )
+        {
+            for ( int operationType = 0; operationType < intervalHistograms.length; operationType++ )
+            {
+                Recorder recorder = recorders.get( operationType );
+                if ( null != recorder )
+                {
+                    Histogram intervalHistogram = recorder.getIntervalHistogram( intervalHistograms[operationType] );
+                    metricsManager.addMeasurements( operationType, intervalHistogram );
+                    intervalHistograms[operationType] = intervalHistogram;
+                }
+                Recorder responseTimeRecorder = responseTimeRecorders.get( operationType );
+                if ( null != responseTimeRecorder )
+                {
+                    Histogram intervalHistogram =
+                            responseTimeRecorder.getIntervalHistogram( responseTimeIntervalHistograms[operationType] );
+                    metricsManager.addResponseTimes( operationType, intervalHistogram );
+                    responseTimeIntervalHistograms[operationType] = intervalHistogram;
+                }
+            }
+            startTimeDelayIntervalHistogram =
+                    startTimeDelayRecorder.getIntervalHistogram( startTimeDelayIntervalHistogram );
+            metricsManager.addStartTimeDelays( startTimeDelayIntervalHistogram );
+            // times are read after histograms, so they cover every measurement merged so far
+            metricsManager.addTimeRange( startTimeAsMilli.get(), latestFinishTimeAsMilli.get() );
+        }
+    }
+
+    /**
+     * Buffers results of one shard, appending them to the shared results log a batch at a time.
+     * The lock is only contended by threads sharing the shard, and while the results log is flushed.
+     */
+    private static class BufferedResultsLogAppender
+    {
+        private final ResultsLogWriter resultsLogWriter;
+        private final String[] operationNames;
+        private final int[] operationTypes;
+        private final long[] scheduledStartTimesAsMilli;
+        private final long[] actualStartTimesAsMilli;
+        private final long[] runDurationsAsNano;
+        private final int[] resultCodes;
+        private final long[] originalStartTimes;
+        private int size = 0;
+
+        private BufferedResultsLogAppender( ResultsLogWriter resultsLogWriter, String[] operationNames, int capacity )
+        {
+            this.resultsLogWriter = resultsLogWriter;
+            this.operationNames = operationNames;
+            this.operationTypes = new int[capacity];
+            this.scheduledStartTimesAsMilli = new long[capacity];
+            this.actualStartTimesAsMilli = new long[capacity];
+            this.runDurationsAsNano = new long[capacity];
+            this.resultCodes = new int[capacity];
+            this.originalStartTimes = new long[capacity];
+        }
+
+        private synchronized void append(
+                int operationType,
+                long scheduledStartTimeAsMilli,
+                long actualStartTimeAsMilli,
+                long runDurationAsNano,
+                int resultCode,
+                long originalStartTime ) throws MetricsCollectionException
+        {
+            operationTypes[size] = operationType;
+            scheduledStartTimesAsMilli[size] = scheduledStartTimeAsMilli;
+            actualStartTimesAsMilli[size] = actualStartTimeAsMilli;
+            runDurationsAsNano[size] = runDurationAsNano;
+            resultCodes[size] = resultCode;
+            originalStartTimes[size] = originalStartTime;
+            size++;
+            if ( operationTypes.length == size )
+            {
+                flush();
+            }
+        }
+
+        private synchronized void flush() throws MetricsCollectionException
+        {
+            if ( 0 == size )
+            {
+                return;
+            }
+            try
+            {
+                synchronized ( resultsLogWriter )
+                {
+                    for ( int i = 0; i < size; i++ )
+                    {
+                        resultsLogWriter.write(
+                                operationTypes[i],
+                                operationNames[operationTypes[i]],
+                                scheduledStartTimesAsMilli[i],
+                                actualStartTimesAsMilli[i],
+                                runDurationsAsNano[i],
+                                resultCodes[i],
+                                originalStartTimes[i] );
+                    }
+                }
+            }
+            catch ( IOException e )
+            {
+                throw new MetricsCollectionException( "Error writing to results log", e );
+            }
+            size = 0;
+        }
+    }
+
+    private static class ShardedMetricsServiceWriter implements MetricsServiceWriter
+    {
+        private final ShardedMetricsService metricsService;
+
+        private ShardedMetricsServiceWriter( ShardedMetricsService metricsService )
+        {
+            this.metricsService = metricsService;
+        }
+
+        @Override
+        public void submitOperationResult(
+                int operationType,
+                long scheduledStartTimeAsMilli,
+                long actualStartTimeAsMilli,
+                long startTimeDelayAsNano,
+                long runDurationAsNano,
+                int resultCode,
+                long originalStartTime ) throws MetricsCollectionException
+        {
+            metricsService.checkNotShutdown();
+            MetricsShard shard = metricsService.shardForCurrentThread();
+            if ( null != shard.resultsLogAppender )
+            {
+                shard.resultsLogAppender.append(
+                        operationType,
+                        scheduledStartTimeAsMilli,
+                        actualStartTimeAsMilli,
+                        runDurationAsNano,
+                        resultCode,
+                        originalStartTime );
+            }
+            shard.record(
+                    metricsService.operationTypeMetricsManagers[operationType],
+                    operationType,
+                    actualStartTimeAsMilli,
+                    startTimeDelayAsNano,
+                    runDurationAsNano );
+        }
+
+        @Override
+        public WorkloadStatusSnapshot status() throws MetricsCollectionException
+        {
+            metricsService.checkNotShutdown();
+            return metricsService.status();
+        }
+
+        @Override
+        public WorkloadResultsSnapshot results() throws MetricsCollectionException
+        {
+            metricsService.checkNotShutdown();
+            return metricsService.results();
+        }
+    }
+}
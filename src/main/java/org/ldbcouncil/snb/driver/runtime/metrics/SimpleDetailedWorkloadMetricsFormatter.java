@@ -82,6 +82,32 @@ public class SimpleDetailedWorkloadMetricsFormatter implements WorkloadMetricsFo
         sb.append( offset ).append( offset )
                 .append( String.format( "%1$-" + padRightDistance + "s", "99th Percentile:" ) )
                 .append( INTEGER_FORMATTER.format( metric.runTimeMetric().percentile99() ) ).append( "\n" );
+        if ( null != metric.responseTimeMetric() && metric.responseTimeMetric().count() > 0 )
+        {
+            formatPercentiles( sb, offset, "Response Time", metric.responseTimeMetric() );
+        }
+        if ( null != metric.correctedRunTimeMetric() && metric.correctedRunTimeMetric().count() > 0 )
+        {
+            formatPercentiles( sb, offset, "Corrected Runtime", metric.correctedRunTimeMetric() );
+        }
         return sb.toString();
     }
+
+    private void formatPercentiles( StringBuilder sb, String offset, String name, ContinuousMetricSnapshot metric )
+    {
+        int padRightDistance = 20;
+        sb.append( offset ).append( offset ).append( String.format( "%s\n", name ) );
+        sb.append( offset ).append( offset ).append( offset )
+                .append( String.format( "%1$-" + padRightDistance + "s", "Mean:" ) )
+                .append( FLOAT_FORMATTER.format( metric.mean() ) ).append( "\n" );
+        sb.append( offset ).append( offset ).append( offset )
+                .append( String.format( "%1$-" + padRightDistance + "s", "50th Percentile:" ) )
+                .append( INTEGER_FORMATTER.format( metric.percentile50() ) ).append( "\n" );
+        sb.append( offset ).append( offset ).append( offset )
+                .append( String.format( "%1$-" + padRightDistance + "s", "99th Percentile:" ) )
+                .append( INTEGER_FORMATTER.format( metric.percentile99() ) ).append( "\n" );
+        sb.append( offset ).append( offset ).append( offset )
+                .append( String.format( "%1$-" + padRightDistance + "s", "Max:" ) )
+                .append( INTEGER_FORMATTER.format( metric.max() ) ).append( "\n" );
+    }
 }
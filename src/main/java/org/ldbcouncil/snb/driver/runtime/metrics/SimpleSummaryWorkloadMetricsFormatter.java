@@ -39,6 +39,20 @@ public class SimpleSummaryWorkloadMetricsFormatter implements WorkloadMetricsFor
                 .append( String.format( "%1$-" + padRightDistance + "s", "Throughput:" ) )
                 .append( FLOAT_FORMATTER.format( opsPerS ) )
                 .append( " (op/s)\n" );
+        ContinuousMetricSnapshot startTimeDelay = resultsSnapshot.startTimeDelay();
+        if ( null != startTimeDelay && startTimeDelay.count() > 0 )
+        {
+            String unit = TEMPORAL_UTIL.abbreviatedTimeUnit( startTimeDelay.unit() );
+            sb
+                    .append( String.format( "%1$-" + padRightDistance + "s", "Start Time Delay:" ) )
+                    .append( "Mean: " ).append( FLOAT_FORMATTER.format( startTimeDelay.mean() ) ).append( " " )
+                    .append( unit ).append( " " )
+                    .append( "99th: " ).append( INTEGER_FORMATTER.format( startTimeDelay.percentile99() ) )
+                    .append( " " ).append( unit ).append( " " )
+                    .append( "Max: " ).append( INTEGER_FORMATTER.format( startTimeDelay.max() ) ).append( " " )
+                    .append( unit )
+                    .append( "\n" );
+        }
         sb.append( "------------------------------------------------------------------------------\n" );
         int namePadRightDistance = 0;
         int countPadRightDistance = 0;
@@ -19,6 +19,7 @@ abstract class ThreadedQueuedMetricsEvent {
         private final int operationType;
         private final long scheduledStartTimeAsMilli;
         private final long actualStartTimeAsMilli;
+        private final long startTimeDelayAsNano;
         private final long runDurationAsNano;
         private final int resultCode;
         private final long originalStartTime;
@@ -27,12 +28,14 @@ abstract class ThreadedQueuedMetricsEvent {
                 int operationType,
                 long scheduledStartTimeAsMilli,
                 long actualStartTimeAsMilli,
+                long startTimeDelayAsNano,
                 long runDurationAsNano,
                 int resultCode,
                 long originalStartTime) {
             this.operationType = operationType;
             this.scheduledStartTimeAsMilli = scheduledStartTimeAsMilli;
             this.actualStartTimeAsMilli = actualStartTimeAsMilli;
+            this.startTimeDelayAsNano = startTimeDelayAsNano;
             this.runDurationAsNano = runDurationAsNano;
             this.resultCode = resultCode;
             this.originalStartTime = originalStartTime;
@@ -50,6 +53,10 @@ abstract class ThreadedQueuedMetricsEvent {
             return actualStartTimeAsMilli;
         }
 
+        public long startTimeDelayAsNano() {
+            return startTimeDelayAsNano;
+        }
+
         public long runDurationAsNano() {
             return runDurationAsNano;
         }
@@ -171,8 +171,8 @@ public class ThreadedQueuedMetricsService implements MetricsService
 
         @Override
         public void submitOperationResult( int operationType, long scheduledStartTimeAsMilli,
-                long actualStartTimeAsMilli, long runDurationAsNano, int resultCode, long originalStartTime )
-                throws MetricsCollectionException
+                long actualStartTimeAsMilli, long startTimeDelayAsNano, long runDurationAsNano, int resultCode,
+                long originalStartTime ) throws MetricsCollectionException
         {
             if ( null != alreadyShutdownPolicy )
             {
@@ -185,6 +185,7 @@ public class ThreadedQueuedMetricsService implements MetricsService
                         operationType,
                         scheduledStartTimeAsMilli,
                         actualStartTimeAsMilli,
+                        startTimeDelayAsNano,
                         runDurationAsNano,
                         resultCode,
                         originalStartTime
@@ -116,8 +116,9 @@ public class ThreadedQueuedMetricsServiceThread extends Thread
 
             try
             {
-                metricsManager.measure(
+                metricsManager.measureWithStartTimeDelay(
                         submitOperationResultEvent.actualStartTimeAsMilli(),
+                        submitOperationResultEvent.startTimeDelayAsNano(),
                         submitOperationResultEvent.runDurationAsNano(),
                         submitOperationResultEvent.operationType()
                 );
@@ -38,6 +38,9 @@ public class WorkloadResultsSnapshot
     @JsonProperty( value = "throughput" )
     private double throughput;
 
+    @JsonProperty( value = "start_time_delay" )
+    private ContinuousMetricSnapshot startTimeDelay;
+
     public static WorkloadResultsSnapshot fromJson( File jsonFile ) throws IOException
     {
         return new ObjectMapper().readValue( jsonFile, WorkloadResultsSnapshot.class );
@@ -58,6 +61,17 @@ public class WorkloadResultsSnapshot
             long latestFinishTimeAsMilli,
             long operationCount,
             TimeUnit unit )
+    {
+        this( metrics, startTimeAsMilli, latestFinishTimeAsMilli, operationCount, unit, null );
+    }
+
+    public WorkloadResultsSnapshot(
+            Iterable<OperationMetricsSnapshot> metrics,
+            long startTimeAsMilli,
+            long latestFinishTimeAsMilli,
+            long operationCount,
+            TimeUnit unit,
+            ContinuousMetricSnapshot startTimeDelay )
     {
         this.metrics = Lists.newArrayList( metrics );
         this.metrics.sort( new OperationTypeMetricsManager.OperationMetricsNameComparator() );
@@ -67,6 +81,7 @@ public class WorkloadResultsSnapshot
         this.throughput = 1000 * (operationCount / (double) unit.toMillis( totalRunDurationAsUnit ));
         this.operationCount = operationCount;
         this.unit = unit;
+        this.startTimeDelay = startTimeDelay;
     }
 
     @JsonProperty( value = "all_metrics" )
@@ -112,6 +127,14 @@ public class WorkloadResultsSnapshot
         return throughput;
     }
 
+    /**
+     * @return delay of actual start times after scheduled start times, in milliseconds, null if not measured
+     */
+    public ContinuousMetricSnapshot startTimeDelay()
+    {
+        return startTimeDelay;
+    }
+
     public String toJson()
     {
         try
@@ -136,6 +159,7 @@ public class WorkloadResultsSnapshot
                ", totalRunDurationAsUnit=" + totalRunDurationAsUnit +
                ", operationCount=" + operationCount +
                ", throughput=" + throughput +
+               ", startTimeDelay=" + startTimeDelay +
                '}';
     }
 
@@ -161,6 +185,8 @@ public class WorkloadResultsSnapshot
         { return false; }
         if ( unit != that.unit )
         { return false; }
+        if ( startTimeDelay != null ? !startTimeDelay.equals( that.startTimeDelay ) : that.startTimeDelay != null )
+        { return false; }
 
         return true;
     }
@@ -174,6 +200,7 @@ public class WorkloadResultsSnapshot
         result = 31 * result + (int) (latestFinishTimeAsUnit ^ (latestFinishTimeAsUnit >>> 32));
         result = 31 * result + (int) (totalRunDurationAsUnit ^ (totalRunDurationAsUnit >>> 32));
         result = 31 * result + (int) (operationCount ^ (operationCount >>> 32));
+        result = 31 * result + (startTimeDelay != null ? startTimeDelay.hashCode() : 0);
         return result;
     }
 }
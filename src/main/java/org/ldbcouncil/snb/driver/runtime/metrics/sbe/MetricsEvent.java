@@ -5,7 +5,7 @@ import org.agrona.concurrent.UnsafeBuffer;
 
 public class MetricsEvent
 {
-    public static final short BLOCK_LENGTH = 41;
+    public static final short BLOCK_LENGTH = 49;
     public static final short TEMPLATE_ID = 1;
     public static final int SCHEMA_ID = 1;
     public static final int SCHEMA_VERSION = 0;
@@ -389,4 +389,47 @@ public class MetricsEvent
         buffer.putLong(offset + 33, value, java.nio.ByteOrder.LITTLE_ENDIAN);
         return this;
     }
+
+    public static int startTimeDelayAsNanoId()
+    {
+        return 8;
+    }
+
+    public static String startTimeDelayAsNanoMetaAttribute(final MetaAttribute metaAttribute)
+    {
+        switch (metaAttribute)
+        {
+            case EPOCH: return "unix";
+            case TIME_UNIT: return "nanosecond";
+            case SEMANTIC_TYPE: return "";
+        }
+
+        return "";
+    }
+
+    public static long startTimeDelayAsNanoNullValue()
+    {
+        return -9223372036854775808L;
+    }
+
+    public static long startTimeDelayAsNanoMinValue()
+    {
+        return -9223372036854775807L;
+    }
+
+    public static long startTimeDelayAsNanoMaxValue()
+    {
+        return 9223372036854775807L;
+    }
+
+    public long startTimeDelayAsNano()
+    {
+        return buffer.getLong(offset + 41, java.nio.ByteOrder.LITTLE_ENDIAN);
+    }
+
+    public MetricsEvent startTimeDelayAsNano(final long value)
+    {
+        buffer.putLong(offset + 41, value, java.nio.ByteOrder.LITTLE_ENDIAN);
+        return this;
+    }
 }
@@ -0,0 +1,158 @@
+package org.ldbcouncil.snb.driver.runtime.scheduling;
+
+import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeException;
+import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeReader;
+import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeWriter;
+
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Threads waiting for completion time to reach the dependency time stamp of their operation park here, ordered by
+ * that time stamp, and are woken when completion time may have advanced past it, rather than polling.
+ * Completion time may advance whenever an initiated or completed time is submitted, writers returned by
+ * notifyingWriter(writer) report those submissions.
+ */
+public class CompletionTimeWaitQueue
+{
+    private final CompletionTimeReader completionTimeReader;
+    private final PriorityQueue<Waiter> waiters = new PriorityQueue<>();
+    // lowest dependency time stamp in the queue, read without the lock so submissions with no waiter to wake are cheap
+    private volatile long lowestWaitingDependencyTimeStamp = Long.MAX_VALUE;
+
+    public CompletionTimeWaitQueue( CompletionTimeReader completionTimeReader )
+    {
+        this.completionTimeReader = completionTimeReader;
+    }
+
+    /**
+     * Parks the calling thread until completion time may have reached the dependency time stamp, or until the
+     * maximum park duration has elapsed. Callers must re-check completion time on return.
+     *
+     * @param dependencyTimeStamp completion time to wait for
+     * @param maxParkDurationAsNano longest the thread is parked, in case a submission is not reported
+     */
+    public void await( long dependencyTimeStamp, long maxParkDurationAsNano ) throws CompletionTimeException
+    {
+        Waiter waiter = new Waiter( Thread.currentThread(), dependencyTimeStamp );
+        synchronized ( waiters )
+        {
+            waiters.add( waiter );
+            lowestWaitingDependencyTimeStamp = waiters.peek().dependencyTimeStamp;
+        }
+        // completion time may have advanced before the waiter was queued, in which case no one would wake it
+        if ( completionTimeReader.completionTimeAsMilli() < dependencyTimeStamp )
+        {
+            LockSupport.parkNanos( this, maxParkDurationAsNano );
+            // as with Spinner.parkNap, interrupts are swallowed
+            Thread.interrupted();
+        }
+        if ( !waiter.woken )
+        {
+            synchronized ( waiters )
+            {
+                waiters.remove( waiter );
+                lowestWaitingDependencyTimeStamp = lowestWaitingDependencyTimeStamp();
+            }
+        }
+    }
+
+    /**
+     * Wakes all waiters whose dependency time stamp completion time has reached
+     */
+    public void completionTimeMayHaveAdvanced() throws CompletionTimeException
+    {
+        if ( Long.MAX_VALUE == lowestWaitingDependencyTimeStamp )
+        {
+            return;
+        }
+        long completionTimeAsMilli = completionTimeReader.completionTimeAsMilli();
+        if ( completionTimeAsMilli < lowestWaitingDependencyTimeStamp )
+        {
+            return;
+        }
+        synchronized ( waiters )
+        {
+            while ( !waiters.isEmpty() && waiters.peek().dependencyTimeStamp <= completionTimeAsMilli )
+            {
+                Waiter waiter = waiters.poll();
+                waiter.woken = true;
+                LockSupport.unpark( waiter.thread );
+            }
+            lowestWaitingDependencyTimeStamp = lowestWaitingDependencyTimeStamp();
+        }
+    }
+
+    /**
+     * @return writer that submits to the given writer, then wakes waiters completion time may have advanced for
+     */
+    public CompletionTimeWriter notifyingWriter( CompletionTimeWriter completionTimeWriter )
+    {
+        return new NotifyingCompletionTimeWriter( completionTimeWriter, this );
+    }
+
+    int waiterCount()
+    {
+        synchronized ( waiters )
+        {
+            return waiters.size();
+        }
+    }
+
+    private long lowestWaitingDependencyTimeStamp()
+    {
+        return (waiters.isEmpty()) ? Long.MAX_VALUE : waiters.peek().dependencyTimeStamp;
+    }
+
+    private static class Waiter implements Comparable<Waiter>
+    {
+        private final Thread thread;
+        private final long dependencyTimeStamp;
+        private volatile boolean woken = false;
+
+        private Waiter( Thread thread, long dependencyTimeStamp )
+        {
+            this.thread = thread;
+            this.dependencyTimeStamp = dependencyTimeStamp;
+        }
+
+        @Override
+        public int compareTo( Waiter other )
+        {
+            return Long.compare( dependencyTimeStamp, other.dependencyTimeStamp );
+        }
+    }
+
+    private static class NotifyingCompletionTimeWriter implements CompletionTimeWriter
+    {
+        private final CompletionTimeWriter completionTimeWriter;
+        private final CompletionTimeWaitQueue waitQueue;
+
+        private NotifyingCompletionTimeWriter( CompletionTimeWriter completionTimeWriter,
+                CompletionTimeWaitQueue waitQueue )
+        {
+            this.completionTimeWriter = completionTimeWriter;
+            this.waitQueue = waitQueue;
+        }
+
+        @Override
+        public void submitInitiatedTime( long timeAsMilli ) throws CompletionTimeException
+        {
+            completionTimeWriter.submitInitiatedTime( timeAsMilli );
+            waitQueue.completionTimeMayHaveAdvanced();
+        }
+
+        @Override
+        public void submitCompletedTime( long timeAsMilli ) throws CompletionTimeException
+        {
+            completionTimeWriter.submitCompletedTime( timeAsMilli );
+            waitQueue.completionTimeMayHaveAdvanced();
+        }
+
+        @Override
+        public String toString()
+        {
+            return "NotifyingCompletionTimeWriter{" + completionTimeWriter + "}";
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package org.ldbcouncil.snb.driver.runtime.scheduling;
+
+import org.ldbcouncil.snb.driver.EntityDependentOperation;
+import org.ldbcouncil.snb.driver.Operation;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Passes an operation once every operation registered before it, that names one of the same entities, has finished,
+ * see EntityDependentOperation. Operations that name no entities wait for every operation registered before them,
+ * and every operation registered after them waits for them.
+ * <p>
+ * Operations must be registered in the order they should be executed in, before being submitted to an executor, and
+ * a registered operation must be handed to afterExecute() once it finished, or once it will not be executed after
+ * all. Executors must not take an operation before the operations registered before it, or all their threads may
+ * wait on operations they have yet to take.
+ * <p>
+ * Threads waiting on the check park, and are woken when the last operation they wait for finishes.
+ */
+public class EntityDependencyCheck implements SpinnerCheck
+{
+    private final long maxParkDurationAsNano;
+    private final Map<Operation,Node> nodesByOperation = new IdentityHashMap<>();
+    // latest registered node of each entity, removed once it finished
+    private final Map<Long,Node> lastNodesByEntityKey = new HashMap<>();
+    private Node lastBarrierNode = null;
+
+    /**
+     * @param maxParkDurationAsNano longest a thread is parked before the check returns, 0 to return without parking
+     */
+    public EntityDependencyCheck( long maxParkDurationAsNano )
+    {
+        this.maxParkDurationAsNano = maxParkDurationAsNano;
+    }
+
+    /**
+     * Registers the operation after all operations registered so far
+     */
+    public synchronized void register( EntityDependentOperation entityDependentOperation )
+    {
+        Operation operation = (Operation) entityDependentOperation;
+        long[] entityKeys = entityDependentOperation.entityKeys();
+        Node node = new Node( entityKeys );
+        if ( null == entityKeys )
+        {
+            for ( Node unfinishedNode : nodesByOperation.values() )
+            {
+                node.waitFor( unfinishedNode );
+            }
+            // later operations wait for the barrier, which waits for every node that is dropped here
+            lastNodesByEntityKey.clear();
+            lastBarrierNode = node;
+        }
+        else
+        {
+            if ( null != lastBarrierNode )
+            {
+                node.waitFor( lastBarrierNode );
+            }
+            for ( long entityKey : entityKeys )
+            {
+                Node lastNode = lastNodesByEntityKey.put( entityKey, node );
+                if ( null != lastNode )
+                {
+                    node.waitFor( lastNode );
+                }
+            }
+        }
+        nodesByOperation.put( operation, node );
+    }
+
+    /**
+     * @return number of registered operations that have not yet finished
+     */
+    public synchronized int unfinishedOperationCount()
+    {
+        return nodesByOperation.size();
+    }
+
+    @Override
+    public SpinnerCheckResult doCheck( Operation operation )
+    {
+        Node node;
+        synchronized ( this )
+        {
+            node = nodesByOperation.get( operation );
+        }
+        if ( null == node || node.isReady() )
+        {
+            return SpinnerCheckResult.PASSED;
+        }
+        if ( maxParkDurationAsNano > 0 )
+        {
+            node.waiter = Thread.currentThread();
+            // the last predecessor may have finished before the waiter was set, in which case no one would wake it
+            if ( !node.isReady() )
+            {
+                LockSupport.parkNanos( this, maxParkDurationAsNano );
+                // as with Spinner.parkNap, interrupts are swallowed
+                Thread.interrupted();
+            }
+            node.waiter = null;
+        }
+        return (node.isReady()) ? SpinnerCheckResult.PASSED : SpinnerCheckResult.STILL_CHECKING;
+    }
+
+    @Override
+    public boolean handleFailedCheck( Operation operation )
+    {
+        return false;
+    }
+
+    // threads park in doCheck(), and are woken by afterExecute() rather than by the completion time wait queue
+    @Override
+    public boolean waitsForCompletionTime()
+    {
+        return false;
+    }
+
+    @Override
+    public synchronized void afterExecute( Operation operation )
+    {
+        Node node = nodesByOperation.remove( operation );
+        if ( null == node )
+        {
+            return;
+        }
+        if ( null == node.entityKeys )
+        {
+            if ( lastBarrierNode == node )
+            {
+                lastBarrierNode = null;
+            }
+        }
+        else
+        {
+            for ( long entityKey : node.entityKeys )
+            {
+                lastNodesByEntityKey.remove( entityKey, node );
+            }
+        }
+        node.finished = true;
+        for ( Node waitingNode : node.waitingNodes )
+        {
+            waitingNode.unfinishedPredecessorCount--;
+            Thread waiter = waitingNode.waiter;
+            if ( waitingNode.isReady() && null != waiter )
+            {
+                LockSupport.unpark( waiter );
+            }
+        }
+        node.waitingNodes.clear();
+    }
+
+    private static class Node
+    {
+        private final long[] entityKeys;
+        private final List<Node> waitingNodes = new ArrayList<>();
+        // only modified while holding the lock of the check
+        private volatile int unfinishedPredecessorCount = 0;
+        private boolean finished = false;
+        private volatile Thread waiter = null;
+
+        private Node( long[] entityKeys )
+        {
+            this.entityKeys = entityKeys;
+        }
+
+        // nodes are registered one at a time, if this node already waits for the predecessor it was added last
+        private void waitFor( Node predecessor )
+        {
+            List<Node> predecessorWaitingNodes = predecessor.waitingNodes;
+            if ( !predecessor.finished && (predecessorWaitingNodes.isEmpty() ||
+                                           this != predecessorWaitingNodes.get( predecessorWaitingNodes.size() - 1 )) )
+            {
+                predecessorWaitingNodes.add( this );
+                unfinishedPredecessorCount++;
+            }
+        }
+
+        private boolean isReady()
+        {
+            return 0 == unfinishedPredecessorCount;
+        }
+    }
+}
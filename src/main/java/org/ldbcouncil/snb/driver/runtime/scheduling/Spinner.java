@@ -1,9 +1,13 @@
 package org.ldbcouncil.snb.driver.runtime.scheduling;
 
 import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeException;
 import org.ldbcouncil.snb.driver.temporal.TimeSource;
 import org.ldbcouncil.snb.driver.util.Function2;
 
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
 // TODO if error policy DOES NOT terminate benchmark and DOES NOT allow the operation to complete something needs
 // TODO to be done about DEPENDENT/CT, because the IT for the operation has already been reported
 // TODO perhaps the CT for that operation needs to be reported too (to CT service, but not to MetricsService),
@@ -18,17 +22,77 @@ public class Spinner
 {
     public static final long DEFAULT_SLEEP_DURATION_10_MILLI = 10;
     public static final SpinnerCheck TRUE_CHECK = new TrueCheck();
+    // parking overshoots by tens of microseconds, so the end of a nanosecond resolution wait is spun instead
+    static final long PARK_SPIN_THRESHOLD_AS_NANO = TimeUnit.MICROSECONDS.toNanos( 50 );
 
     private final Function2<Operation,SpinnerCheck,Boolean,RuntimeException> spinFun;
+    private final boolean ignoreScheduleStartTimes;
 
+    /**
+     * Spinner that polls checks and time, sleeping between polls
+     */
     public Spinner(
             TimeSource timeSource,
             long sleepDurationAsMilli,
             boolean ignoreScheduleStartTimes )
     {
+        this.ignoreScheduleStartTimes = ignoreScheduleStartTimes;
         this.spinFun = (ignoreScheduleStartTimes)
                        ? new WaitForChecksFun( sleepDurationAsMilli )
-                       : new WaitForChecksAndScheduledStartTimeFun( timeSource, sleepDurationAsMilli );
+                       : new WaitForChecksAndScheduledStartTimeFun( timeSource, sleepDurationAsMilli, false );
+    }
+
+    /**
+     * Spinner that parks operations until completion time reaches their dependency time stamp, woken by the wait
+     * queue, and then parks until their scheduled start time.
+     * Sleep duration is the longest an operation is parked before checking again, which bounds the delay of a missed
+     * wake up and lets waits on a non-system time source observe time that was moved forward.
+     * A sleep duration of 0 busy waits, as the polling spinner does.
+     */
+    public Spinner(
+            TimeSource timeSource,
+            long sleepDurationAsMilli,
+            boolean ignoreScheduleStartTimes,
+            CompletionTimeWaitQueue completionTimeWaitQueue )
+    {
+        this( timeSource, sleepDurationAsMilli, ignoreScheduleStartTimes, completionTimeWaitQueue, false );
+    }
+
+    /**
+     * As above, with nanosecond resolution operations are released at Operation.scheduledStartTimeAsNano(), as
+     * measured by TimeSource.nowAsNano(), rather than once the millisecond of their scheduled start time is reached
+     */
+    public Spinner(
+            TimeSource timeSource,
+            long sleepDurationAsMilli,
+            boolean ignoreScheduleStartTimes,
+            CompletionTimeWaitQueue completionTimeWaitQueue,
+            boolean nanoResolution )
+    {
+        this.ignoreScheduleStartTimes = ignoreScheduleStartTimes;
+        if ( 0 == sleepDurationAsMilli )
+        {
+            this.spinFun = (ignoreScheduleStartTimes)
+                           ? new WaitForChecksFun( sleepDurationAsMilli )
+                           : new WaitForChecksAndScheduledStartTimeFun( timeSource, sleepDurationAsMilli,
+                                   nanoResolution );
+        }
+        else
+        {
+            long maxParkDurationAsNano = TimeUnit.MILLISECONDS.toNanos( sleepDurationAsMilli );
+            this.spinFun = (ignoreScheduleStartTimes)
+                           ? new ParkForChecksFun( completionTimeWaitQueue, maxParkDurationAsNano )
+                           : new ParkForChecksAndScheduledStartTimeFun(
+                                   timeSource, completionTimeWaitQueue, maxParkDurationAsNano, nanoResolution );
+        }
+    }
+
+    /**
+     * @return true if operations are released without waiting for their scheduled start time
+     */
+    public boolean ignoresScheduleStartTimes()
+    {
+        return ignoreScheduleStartTimes;
     }
 
     boolean waitForScheduledStartTime( Operation operation )
@@ -71,18 +135,32 @@ public class Spinner
         }
     }
 
+    // park rather than sleep while waiting on checks/start times, so a waiting virtual thread frees its carrier
+    // NOTE: as with powerNap, interrupts are swallowed
+    public static void parkNap( long sleepMs )
+    {
+        if ( 0 < sleepMs )
+        {
+            LockSupport.parkNanos( TimeUnit.MILLISECONDS.toNanos( sleepMs ) );
+            Thread.interrupted();
+        }
+    }
+
     private static class WaitForChecksAndScheduledStartTimeFun implements
             Function2<Operation,SpinnerCheck,Boolean,RuntimeException>
     {
         private final TimeSource timeSource;
         private final long sleepDurationAsMilli;
+        private final boolean nanoResolution;
 
         private WaitForChecksAndScheduledStartTimeFun(
                 TimeSource timeSource,
-                long sleepDurationAsMilli )
+                long sleepDurationAsMilli,
+                boolean nanoResolution )
         {
             this.timeSource = timeSource;
             this.sleepDurationAsMilli = sleepDurationAsMilli;
+            this.nanoResolution = nanoResolution;
         }
 
         @Override
@@ -92,13 +170,23 @@ public class Spinner
             // wait for checks to have all passed before allowing operation to start
             while ( SpinnerCheck.SpinnerCheckResult.STILL_CHECKING == check.doCheck( operation ) )
             {
-                powerNap( sleepDurationAsMilli );
+                parkNap( sleepDurationAsMilli );
             }
 
             // wait for scheduled operation start time
-            while ( timeSource.nowAsMilli() < operation.scheduledStartTimeAsMilli() )
+            if ( nanoResolution )
             {
-                powerNap( sleepDurationAsMilli );
+                while ( timeSource.nowAsNano() < operation.scheduledStartTimeAsNano() )
+                {
+                    parkNap( sleepDurationAsMilli );
+                }
+            }
+            else
+            {
+                while ( timeSource.nowAsMilli() < operation.scheduledStartTimeAsMilli() )
+                {
+                    parkNap( sleepDurationAsMilli );
+                }
             }
 
             return SpinnerCheck.SpinnerCheckResult.PASSED == check.doCheck( operation );
@@ -120,13 +208,132 @@ public class Spinner
             // wait for checks to have all passed before allowing operation to start
             while ( SpinnerCheck.SpinnerCheckResult.STILL_CHECKING == check.doCheck( operation ) )
             {
-                powerNap( sleepDurationAsMilli );
+                parkNap( sleepDurationAsMilli );
+            }
+
+            return SpinnerCheck.SpinnerCheckResult.PASSED == check.doCheck( operation );
+        }
+    }
+
+    // park until time is reached, rather than sleeping for fixed durations, each park is at most the max duration
+    public static void parkUntil( TimeSource timeSource, long timeAsMilli, long maxParkDurationAsNano )
+    {
+        long remainingAsMilli;
+        while ( 0 < (remainingAsMilli = timeAsMilli - timeSource.nowAsMilli()) )
+        {
+            LockSupport.parkNanos( Math.min( TimeUnit.MILLISECONDS.toNanos( remainingAsMilli ),
+                    maxParkDurationAsNano ) );
+            Thread.interrupted();
+        }
+    }
+
+    // as parkUntil, for times with nanosecond resolution, spinning rather than parking once the time is close
+    public static void parkUntilAsNano( TimeSource timeSource, long timeAsNano, long maxParkDurationAsNano )
+    {
+        long remainingAsNano;
+        while ( 0 < (remainingAsNano = timeAsNano - timeSource.nowAsNano()) )
+        {
+            if ( remainingAsNano > PARK_SPIN_THRESHOLD_AS_NANO )
+            {
+                LockSupport.parkNanos( Math.min( remainingAsNano - PARK_SPIN_THRESHOLD_AS_NANO,
+                        maxParkDurationAsNano ) );
+                Thread.interrupted();
+            }
+            else
+            {
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    // park until checks are no longer still checking, woken by the wait queue when completion time may have reached
+    // the dependency time stamp of the operation, checks that do not wait for completion time park in doCheck()
+    private static SpinnerCheck.SpinnerCheckResult parkForChecks(
+            Operation operation,
+            SpinnerCheck check,
+            CompletionTimeWaitQueue completionTimeWaitQueue,
+            long maxParkDurationAsNano )
+    {
+        SpinnerCheck.SpinnerCheckResult result;
+        while ( SpinnerCheck.SpinnerCheckResult.STILL_CHECKING == (result = check.doCheck( operation )) )
+        {
+            if ( !check.waitsForCompletionTime() )
+            {
+                continue;
+            }
+            try
+            {
+                completionTimeWaitQueue.await( operation.dependencyTimeStamp(), maxParkDurationAsNano );
+            }
+            catch ( CompletionTimeException e )
+            {
+                // check reads completion time too, and reports the error when it fails
+                parkNap( 1 );
+            }
+        }
+        return result;
+    }
+
+    private static class ParkForChecksAndScheduledStartTimeFun implements
+            Function2<Operation,SpinnerCheck,Boolean,RuntimeException>
+    {
+        private final TimeSource timeSource;
+        private final CompletionTimeWaitQueue completionTimeWaitQueue;
+        private final long maxParkDurationAsNano;
+        private final boolean nanoResolution;
+
+        private ParkForChecksAndScheduledStartTimeFun(
+                TimeSource timeSource,
+                CompletionTimeWaitQueue completionTimeWaitQueue,
+                long maxParkDurationAsNano,
+                boolean nanoResolution )
+        {
+            this.timeSource = timeSource;
+            this.completionTimeWaitQueue = completionTimeWaitQueue;
+            this.maxParkDurationAsNano = maxParkDurationAsNano;
+            this.nanoResolution = nanoResolution;
+        }
+
+        @Override
+        public Boolean apply( Operation operation, SpinnerCheck check )
+        {
+            // earliest time at which operation may start
+            // wait for checks to have all passed before allowing operation to start
+            parkForChecks( operation, check, completionTimeWaitQueue, maxParkDurationAsNano );
+
+            // wait for scheduled operation start time
+            if ( nanoResolution )
+            {
+                parkUntilAsNano( timeSource, operation.scheduledStartTimeAsNano(), maxParkDurationAsNano );
+            }
+            else
+            {
+                parkUntil( timeSource, operation.scheduledStartTimeAsMilli(), maxParkDurationAsNano );
             }
 
             return SpinnerCheck.SpinnerCheckResult.PASSED == check.doCheck( operation );
         }
     }
 
+    private static class ParkForChecksFun implements Function2<Operation,SpinnerCheck,Boolean,RuntimeException>
+    {
+        private final CompletionTimeWaitQueue completionTimeWaitQueue;
+        private final long maxParkDurationAsNano;
+
+        private ParkForChecksFun( CompletionTimeWaitQueue completionTimeWaitQueue, long maxParkDurationAsNano )
+        {
+            this.completionTimeWaitQueue = completionTimeWaitQueue;
+            this.maxParkDurationAsNano = maxParkDurationAsNano;
+        }
+
+        @Override
+        public Boolean apply( Operation operation, SpinnerCheck check )
+        {
+            return SpinnerCheck.SpinnerCheckResult.PASSED ==
+                   parkForChecks( operation, check, completionTimeWaitQueue, maxParkDurationAsNano );
+        }
+    }
+
     private static class TrueCheck implements SpinnerCheck
     {
         @Override
@@ -27,4 +27,25 @@ public interface SpinnerCheck
      * @return operation may still be executed
      */
     boolean handleFailedCheck( Operation operation );
+
+    /**
+     * Checks that do not wait on completion time are not woken by the completion time wait queue, so the spinner
+     * does not park in it between calls to doCheck(), such checks should park in doCheck() themselves
+     *
+     * @return true if the check passes once completion time reaches the dependency time stamp of the operation
+     */
+    default boolean waitsForCompletionTime()
+    {
+        return true;
+    }
+
+    /**
+     * Called once the operation has finished executing, whether it succeeded or not, or once it was not executed
+     * because the spinner returned false
+     *
+     * @param operation
+     */
+    default void afterExecute( Operation operation )
+    {
+    }
 }
@@ -1,6 +1,20 @@
 package org.ldbcouncil.snb.driver.temporal;
 
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+
 public class SystemTimeSource implements TimeSource {
+    // wall clock time only has millisecond resolution, so nano time is anchored to it once and advanced monotonically
+    // milli time is derived from the same clock, were it read from the wall clock it would drift apart from nano time
+    private static final long ANCHOR_NANO_TIME;
+    private static final long ANCHOR_WALL_CLOCK_TIME_AS_NANO;
+    private static final long ONE_MS_AS_NS = TimeUnit.MILLISECONDS.toNanos(1);
+
+    static {
+        Instant now = Instant.now();
+        ANCHOR_NANO_TIME = System.nanoTime();
+        ANCHOR_WALL_CLOCK_TIME_AS_NANO = now.getEpochSecond() * 1_000_000_000L + now.getNano();
+    }
 
     @Override
     public long nanoSnapshot() {
@@ -9,6 +23,11 @@ public class SystemTimeSource implements TimeSource {
 
     @Override
     public long nowAsMilli() {
-        return System.currentTimeMillis();
+        return Math.floorDiv(nowAsNano(), ONE_MS_AS_NS);
+    }
+
+    @Override
+    public long nowAsNano() {
+        return ANCHOR_WALL_CLOCK_TIME_AS_NANO + (System.nanoTime() - ANCHOR_NANO_TIME);
     }
 }
@@ -1,5 +1,7 @@
 package org.ldbcouncil.snb.driver.temporal;
 
+import java.util.concurrent.TimeUnit;
+
 public interface TimeSource {
     // Avoid object creation where possible
     // Only use for measuring of short durations
@@ -7,4 +9,10 @@ public interface TimeSource {
 
     // Avoid object creation where possible
     long nowAsMilli();
+
+    // Avoid object creation where possible
+    // Wall clock time with sub millisecond resolution, for comparison with nanosecond scheduled start times
+    default long nowAsNano() {
+        return TimeUnit.MILLISECONDS.toNanos(nowAsMilli());
+    }
 }
@@ -0,0 +1,72 @@
+package org.ldbcouncil.snb.driver.workloads.interactive;
+/**
+ * AdaptivePrefetchDepth.java
+ * Number of update batches to load ahead of the consumer. A buffer that runs dry means the consumer may have had
+ * to wait for a batch, so the depth grows by one. While the loader waits for the consumer, the depth is set to the
+ * number of batches consumed during the longest recent batch load, plus one, so the buffer covers slow loads
+ * without holding more batches than needed. Not thread safe, intended to be used by the loader thread.
+ */
+
+class AdaptivePrefetchDepth
+{
+    private static final int MIN_DEPTH = 1;
+    // weight of the latest consumption interval in its moving average
+    private static final double CONSUMPTION_INTERVAL_WEIGHT = 0.25;
+    // the peak load duration decays by this factor every batch, so one slow load is eventually forgotten
+    private static final double PEAK_LOAD_DURATION_DECAY = 0.9;
+
+    private final int maxDepth;
+    private int depth;
+    private double peakLoadDurationAsNano = 0;
+    private double averageConsumptionIntervalAsNano = -1;
+
+    /**
+     * @param initialDepth Depth before any batch was loaded
+     * @param maxDepth Highest depth, at most the capacity of the buffer
+     */
+    AdaptivePrefetchDepth( int initialDepth, int maxDepth )
+    {
+        this.maxDepth = Math.max( MIN_DEPTH, maxDepth );
+        this.depth = Math.max( MIN_DEPTH, Math.min( initialDepth, this.maxDepth ) );
+    }
+
+    int depth()
+    {
+        return depth;
+    }
+
+    int maxDepth()
+    {
+        return maxDepth;
+    }
+
+    /**
+     * @param loadDurationAsNano Time taken to load the batch
+     * @param bufferedBatches Number of batches in the buffer when the batch was loaded
+     */
+    void onBatchLoaded( long loadDurationAsNano, int bufferedBatches )
+    {
+        peakLoadDurationAsNano = Math.max( loadDurationAsNano, peakLoadDurationAsNano * PEAK_LOAD_DURATION_DECAY );
+        if ( bufferedBatches == 0 && depth < maxDepth )
+        {
+            depth++;
+        }
+    }
+
+    /**
+     * @param consumptionIntervalAsNano Time the consumer took for a batch, measured while the buffer was full
+     */
+    void onBatchConsumed( long consumptionIntervalAsNano )
+    {
+        if ( consumptionIntervalAsNano <= 0 )
+        {
+            return;
+        }
+        averageConsumptionIntervalAsNano = ( averageConsumptionIntervalAsNano < 0 )
+            ? consumptionIntervalAsNano
+            : averageConsumptionIntervalAsNano * ( 1 - CONSUMPTION_INTERVAL_WEIGHT ) +
+              consumptionIntervalAsNano * CONSUMPTION_INTERVAL_WEIGHT;
+        long batchesConsumedDuringLoad = (long) Math.ceil( peakLoadDurationAsNano / averageConsumptionIntervalAsNano );
+        depth = (int) Math.max( MIN_DEPTH, Math.min( batchesConsumedDuringLoad + 1, maxDepth ) );
+    }
+}
@@ -42,12 +42,30 @@ public class BatchedOperationStreamReader{
         String viewName,
         String batchColumnName
     ) throws WorkloadException
+    {
+        return readBatchedOperationStream(decoder, offset, batchSize, viewName, batchColumnName, false);
+    }
+
+    /**
+     * @param decodeOnDemand Whether to decode the operations of a compiled stream as the iterator advances
+     * rather than when the batch is read, see ParquetLoader.getOperationStreamBatchOnDemand()
+     */
+    public Iterator<Operation> readBatchedOperationStream(
+        EventStreamReader.EventDecoder<Operation> decoder,
+        long offset,
+        long batchSize,
+        String viewName,
+        String batchColumnName,
+        boolean decodeOnDemand
+    ) throws WorkloadException
     {
         Iterator<Operation> opStream;
 
         try
         {
-            opStream = loader.getOperationStreamBatch(decoder, viewName, batchColumnName, offset, batchSize);
+            opStream = (decodeOnDemand)
+                ? loader.getOperationStreamBatchOnDemand(decoder, viewName, batchColumnName, offset, batchSize)
+                : loader.getOperationStreamBatch(decoder, viewName, batchColumnName, offset, batchSize);
         }
         catch (SQLException e){
             e.printStackTrace();
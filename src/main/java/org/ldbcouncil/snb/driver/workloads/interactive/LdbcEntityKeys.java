@@ -0,0 +1,38 @@
+package org.ldbcouncil.snb.driver.workloads.interactive;
+/**
+ * LdbcEntityKeys.java
+ * Keys of the entities LDBC SNB Interactive update operations depend on, see EntityDependentOperation.
+ * The entity type is encoded in the two lowest bits, so that e.g., a person and a post with equal IDs have different
+ * keys. Generated IDs are far below 2^62, the highest that can be encoded.
+ */
+public final class LdbcEntityKeys
+{
+    private static final long PERSON = 0;
+    private static final long FORUM = 1;
+    private static final long POST = 2;
+    private static final long COMMENT = 3;
+
+    private LdbcEntityKeys()
+    {
+    }
+
+    public static long person( long personId )
+    {
+        return (personId << 2) | PERSON;
+    }
+
+    public static long forum( long forumId )
+    {
+        return (forumId << 2) | FORUM;
+    }
+
+    public static long post( long postId )
+    {
+        return (postId << 2) | POST;
+    }
+
+    public static long comment( long commentId )
+    {
+        return (commentId << 2) | COMMENT;
+    }
+}
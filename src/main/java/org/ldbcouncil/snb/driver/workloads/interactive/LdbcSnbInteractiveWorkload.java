@@ -4,13 +4,18 @@ import com.google.common.collect.Iterators;
 import com.google.common.collect.Lists;
 import com.google.common.collect.PeekingIterator;
 import com.google.common.collect.Sets;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.ldbcouncil.snb.driver.ChildOperationGenerator;
+import org.ldbcouncil.snb.driver.CompilableWorkload;
 import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.SeekableWorkload;
 import org.ldbcouncil.snb.driver.Workload;
 import org.ldbcouncil.snb.driver.WorkloadException;
 import org.ldbcouncil.snb.driver.WorkloadStreams;
 import org.ldbcouncil.snb.driver.control.ConsoleAndFileDriverConfiguration;
 import org.ldbcouncil.snb.driver.control.OperationMode;
+import org.ldbcouncil.snb.driver.csv.CompiledOperationStreams;
 import org.ldbcouncil.snb.driver.csv.ParquetLoader;
 import org.ldbcouncil.snb.driver.csv.DuckDbConnectionState;
 import org.ldbcouncil.snb.driver.generator.GeneratorFactory;
@@ -32,6 +37,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
@@ -44,8 +50,10 @@ import java.util.concurrent.TimeUnit;
 
 import static java.lang.String.format;
 
-public class LdbcSnbInteractiveWorkload extends Workload
+public class LdbcSnbInteractiveWorkload extends Workload implements SeekableWorkload, CompilableWorkload
 {
+    private static final Logger LOGGER = LogManager.getLogger(LdbcSnbInteractiveWorkload.class);
+
     private Map<Integer,Long> longReadInterleavesAsMilli;
     private File parametersDir;
     private File updatesDir;
@@ -61,6 +69,15 @@ public class LdbcSnbInteractiveWorkload extends Workload
     private Set<Class<? extends Operation>> enabledUpdateOperationTypes;
 
     private RunnableOperationStreamBatchLoader runnableBatchLoader;
+    // records waits for update batches, summarized on close
+    private OperationStreamBuffer updateStreamBuffer;
+    private final List<DuckDbConnectionState> readOperationsDbs = new ArrayList<>();
+    // opened to count and skip update operations, see SeekableWorkload
+    private UpdateStreamTimeStamps updateStreamTimeStamps;
+    // compiled operation streams, read instead of the parquet files they were compiled from, or null
+    private CompiledOperationStreams compiledStreams;
+    // decode update operations of compiled streams as they are consumed, see RunnableOperationStreamBatchLoader
+    private boolean decodeUpdatesOnDemand;
 
     @Override
     public Map<Integer, Class<? extends Operation>> operationTypeToClassMapping()
@@ -74,6 +91,18 @@ public class LdbcSnbInteractiveWorkload extends Workload
         if (runnableBatchLoader != null && !runnableBatchLoader.isInterrupted()){
             runnableBatchLoader.interrupt();
         }
+        if (updateStreamBuffer != null){
+            LOGGER.info(updateStreamBuffer.stallSummary());
+            updateStreamBuffer = null;
+        }
+        for (DuckDbConnectionState readOperationsDb : readOperationsDbs){
+            readOperationsDb.close();
+        }
+        readOperationsDbs.clear();
+        if (compiledStreams != null){
+            compiledStreams.close();
+        }
+        closeUpdateStreamTimeStamps();
     }
 
     @Override
@@ -92,6 +121,18 @@ public class LdbcSnbInteractiveWorkload extends Workload
             compulsoryKeys.add( LdbcSnbInteractiveWorkloadConfiguration.PARAMETERS_DIRECTORY );
         }
 
+        // Compiling operation streams requires the directory to compile them to
+        if (operationMode == OperationMode.compile_streams)
+        {
+            compulsoryKeys.add( LdbcSnbInteractiveWorkloadConfiguration.COMPILED_STREAMS_DIRECTORY );
+        }
+        if (params.containsKey(LdbcSnbInteractiveWorkloadConfiguration.COMPILED_STREAMS_DIRECTORY)){
+            compiledStreams = new CompiledOperationStreams(
+                new File( params.get( LdbcSnbInteractiveWorkloadConfiguration.COMPILED_STREAMS_DIRECTORY ).trim() ) );
+        }
+        decodeUpdatesOnDemand = params.containsKey(LdbcSnbInteractiveWorkloadConfiguration.DECODE_UPDATES_ON_DEMAND)
+            && Boolean.parseBoolean(params.get(LdbcSnbInteractiveWorkloadConfiguration.DECODE_UPDATES_ON_DEMAND).trim());
+
         if (params.containsKey(LdbcSnbInteractiveWorkloadConfiguration.BATCH_SIZE)){
             batchSize = Double.parseDouble(params.get(LdbcSnbInteractiveWorkloadConfiguration.BATCH_SIZE));
         }
@@ -379,6 +420,104 @@ public class LdbcSnbInteractiveWorkload extends Workload
      */
     @Override
     protected WorkloadStreams getStreams( GeneratorFactory gf, boolean hasDbConnected ) throws WorkloadException
+    {
+        return createStreams( gf, hasDbConnected, 0, 0 );
+    }
+
+    /**
+     * Initializes the workloadstreams, starting the update stream at the batch of the first update operation to
+     * keep rather than loading and skipping every update operation before it
+     * @param gf: Generator factory with generator functions to merge iterators, create looping iterators
+     * @param hasDbConnected: Whether there is a database connected (used for shortreads)
+     * @param startForStream: Number of update operations and of read operations to skip
+     * @return Initialized WorkloadStreams
+     * @throws WorkloadException
+     */
+    @Override
+    public WorkloadStreams streamsFrom( GeneratorFactory gf, boolean hasDbConnected, long[] startForStream )
+        throws WorkloadException
+    {
+        try
+        {
+            return createStreams( gf, hasDbConnected, startForStream[0], startForStream[1] );
+        }
+        finally
+        {
+            // also closes the time stamp streams, which are not used after seeking
+            closeUpdateStreamTimeStamps();
+        }
+    }
+
+    /**
+     * Initializes streams of the types and time stamps of the operations, without reading the parameters of the
+     * operations: update time stamps are read from the batch columns only, and read operations are generated from
+     * their interleaves, as their time stamps do not depend on their parameters.
+     * @param gf: Generator factory with generator functions to merge iterators, create looping iterators
+     * @return WorkloadStreams of TimeStampOperations
+     * @throws WorkloadException
+     */
+    @Override
+    public WorkloadStreams timeStampStreams( GeneratorFactory gf ) throws WorkloadException
+    {
+        long workloadStartTimeAsMilli = 0;
+        Iterator<Operation> updateTimeStamps = Collections.emptyIterator();
+        if (!enabledUpdateOperationTypes.isEmpty())
+        {
+            closeUpdateStreamTimeStamps();
+            updateStreamTimeStamps = new UpdateStreamTimeStamps(updatesDir, enabledUpdateOperationTypes);
+            long firstTimeStamp = updateStreamTimeStamps.firstTimeStamp();
+            if ( -1 != firstTimeStamp )
+            {
+                workloadStartTimeAsMilli = firstTimeStamp;
+            }
+            // as in getStreams(), the first update operation is not part of the update stream
+            updateTimeStamps = updateStreamTimeStamps.timeStampStream(1);
+        }
+
+        List<Iterator<?>> readTimeStampsList = new ArrayList<>();
+        Map<Class<? extends Operation>, Integer> classToTypeMap = MapUtils.invertMap(operationTypeToClassMapping());
+        try (DuckDbConnectionState db = new DuckDbConnectionState())
+        {
+            ParquetLoader loader = new ParquetLoader(db);
+            for (Class enabledClass : enabledLongReadOperationTypes) {
+                int type = classToTypeMap.get( enabledClass );
+                File parametersFile = new File( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_PARAMS_FILENAMES.get( type ));
+                // the stream of a read operation type only ends when its parameters file is empty
+                if ( 0 == loader.getLongValue( format( "SELECT count(*) FROM read_parquet('%s');", parametersFile.getAbsolutePath() ) ) )
+                {
+                    continue;
+                }
+                long readOperationInterleaveAsMilli = longReadInterleavesAsMilli.get( type );
+                readTimeStampsList.add( gf.map(
+                    gf.incrementing( workloadStartTimeAsMilli + readOperationInterleaveAsMilli,
+                        readOperationInterleaveAsMilli ),
+                    timeStampAsMilli -> new TimeStampOperation( type, timeStampAsMilli )
+                ) );
+            }
+        }
+        catch (SQLException e){
+            throw new WorkloadException(format("Error counting substitution parameters %s", e));
+        }
+
+        WorkloadStreams timeStampStreams = new WorkloadStreams();
+        timeStampStreams.setAsynchronousStream(
+                Sets.newHashSet(),
+                Sets.newHashSet( enabledUpdateOperationTypes ),
+                updateTimeStamps,
+                gf.mergeSortOperationsByTimeStamp(
+                    readTimeStampsList.toArray( new Iterator[readTimeStampsList.size()] )
+                ),
+                (enabledShortReadOperationTypes.isEmpty()) ? null : getShortReadGenerator( false )
+        );
+        return timeStampStreams;
+    }
+
+    private WorkloadStreams createStreams(
+        GeneratorFactory gf,
+        boolean hasDbConnected,
+        long updateOperationsToSkip,
+        long readOperationsToSkip
+    ) throws WorkloadException
     {
         long workloadStartTimeAsMilli = Long.MAX_VALUE;
         WorkloadStreams ldbcSnbInteractiveWorkloadStreams = new WorkloadStreams();
@@ -391,8 +530,10 @@ public class LdbcSnbInteractiveWorkload extends Workload
 
         ParquetLoader loader;
         try {
-            DuckDbConnectionState db = new DuckDbConnectionState();
-            loader = new ParquetLoader(db);
+            // read operation streams are open for the whole run, stream them rather than materialize them
+            DuckDbConnectionState readOperationsDb = new DuckDbConnectionState(true);
+            readOperationsDbs.add(readOperationsDb);
+            loader = new ParquetLoader(readOperationsDb, compiledStreams);
         }
         catch (SQLException e){
             throw new WorkloadException(format("Error creating loader for operation streams %s", e));
@@ -401,7 +542,7 @@ public class LdbcSnbInteractiveWorkload extends Workload
         ParquetLoader updateLoader;
         try {
             DuckDbConnectionState db = new DuckDbConnectionState();
-            updateLoader = new ParquetLoader(db);
+            updateLoader = new ParquetLoader(db, compiledStreams);
         }
         catch (SQLException e){
             throw new WorkloadException(format("Error creating updateLoader for operation streams %s", e));
@@ -411,11 +552,37 @@ public class LdbcSnbInteractiveWorkload extends Workload
         /* 
          * WRITES
          */
-        if (!enabledUpdateOperationTypes.isEmpty())
+        if (!enabledUpdateOperationTypes.isEmpty() && 0 == updateOperationsToSkip)
         {
-            asynchronousDependencyStreams = setBatchedUpdateStreams(gf, workloadStartTimeAsMilli, updateLoader);
+            asynchronousDependencyStreams = setBatchedUpdateStreams(gf, Long.MIN_VALUE, updateLoader);
+            // takes the first update operation, which is not part of the update stream
             workloadStartTimeAsMilli = getOperationStreamStartTime(asynchronousDependencyStreams, workloadStartTimeAsMilli);
         }
+        else if (!enabledUpdateOperationTypes.isEmpty())
+        {
+            UpdateStreamTimeStamps timeStamps = updateStreamTimeStamps();
+            long firstTimeStamp = timeStamps.firstTimeStamp();
+            // skip the first update operation too, as getOperationStreamStartTime() does
+            long position = updateOperationsToSkip + 1;
+            long timeStamp = timeStamps.timeStampAt(position);
+            if ( -1 == timeStamp )
+            {
+                asynchronousDependencyStreams = Collections.emptyIterator();
+            }
+            else
+            {
+                // load from the batch of the operation, skipping the operations before it in that batch
+                long batchSizeInMillis = batchSizeAsMilli();
+                long batchStartValue = firstTimeStamp + Math.floorDiv(timeStamp - firstTimeStamp, batchSizeInMillis) * batchSizeInMillis;
+                long operationsBeforeBatch = timeStamps.countBefore(batchStartValue);
+                asynchronousDependencyStreams = setBatchedUpdateStreams(gf, batchStartValue, updateLoader);
+                gf.consume(asynchronousDependencyStreams, position - operationsBeforeBatch);
+            }
+            if ( -1 != firstTimeStamp )
+            {
+                workloadStartTimeAsMilli = firstTimeStamp;
+            }
+        }
         else
         {
             asynchronousDependencyStreams = Collections.emptyIterator();
@@ -439,6 +606,7 @@ public class LdbcSnbInteractiveWorkload extends Workload
                 new Iterator[asynchronousNonDependencyStreamsList.size()]
             )
         );
+        gf.consume( asynchronousNonDependencyStreams, readOperationsToSkip );
 
         /* 
          * SHORT READS
@@ -529,7 +697,7 @@ public class LdbcSnbInteractiveWorkload extends Workload
         Map<Class<? extends Operation>, Integer> classToTypeMap = MapUtils.invertMap(operationTypeToClassMapping());
         for (Class enabledClass : enabledLongReadOperationTypes) {
             Integer type = classToTypeMap.get( enabledClass );
-            Iterator<Operation> eventOperationStream = readOperationStream.readOperationStream(
+            Iterator<Operation> eventOperationStream = readOperationStream.readRepeatingOperationStream(
                 decoders.get(type),
                 new File( parametersDir, LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_PARAMS_FILENAMES.get( type ))
             );
@@ -540,7 +708,7 @@ public class LdbcSnbInteractiveWorkload extends Workload
 
             Iterator<Operation> operationStream = gf.assignStartTimesWithSkipping(
                 operationStartTimes,
-                new QueryEventStreamReader(gf.repeating( eventOperationStream ))
+                new QueryEventStreamReader( eventOperationStream )
             );
             asynchronousNonDependencyStreamsList.add( operationStream );
         }
@@ -611,13 +779,90 @@ public class LdbcSnbInteractiveWorkload extends Workload
         return TimeUnit.HOURS.toMillis( 1 );
     }
 
+    /**
+     * Compiles the substitution parameters files and, when the updates directory is set, the update stream files
+     * to the compiled streams directory, see CompiledOperationStreams
+     * @return Files of the operation streams mapped to whether they were compiled, or already up to date
+     * @throws WorkloadException When a file could not be compiled
+     */
+    @Override
+    public Map<File,Boolean> compileStreams() throws WorkloadException
+    {
+        if (compiledStreams == null)
+        {
+            throw new WorkloadException( format( "Configuration parameter missing: %s",
+                LdbcSnbInteractiveWorkloadConfiguration.COMPILED_STREAMS_DIRECTORY ) );
+        }
+        List<File> operationStreamFiles = new ArrayList<>();
+        for ( String readOperationParamsFilename :
+                LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_PARAMS_FILENAMES.values() )
+        {
+            operationStreamFiles.add( new File( parametersDir, readOperationParamsFilename ) );
+        }
+        if (updatesDir != null)
+        {
+            for ( String updateStreamFilename :
+                    LdbcSnbInteractiveWorkloadConfiguration.getUpdateStreamClassToPathMapping().values() )
+            {
+                File updateStreamFile = new File( updatesDir, updateStreamFilename );
+                // only the files of enabled update operations are required to exist
+                if ( updateStreamFile.exists() )
+                {
+                    operationStreamFiles.add( updateStreamFile );
+                }
+            }
+        }
+        Map<File,Boolean> compiled = new LinkedHashMap<>();
+        try (DuckDbConnectionState db = new DuckDbConnectionState())
+        {
+            for ( File operationStreamFile : operationStreamFiles )
+            {
+                compiled.put( operationStreamFile, compiledStreams.compile( db, operationStreamFile ) );
+            }
+        }
+        catch (SQLException e){
+            throw new WorkloadException(format("Error creating database to compile operation streams %s", e));
+        }
+        return compiled;
+    }
+
+    private UpdateStreamTimeStamps updateStreamTimeStamps() throws WorkloadException
+    {
+        if (updateStreamTimeStamps == null)
+        {
+            updateStreamTimeStamps = new UpdateStreamTimeStamps(updatesDir, enabledUpdateOperationTypes);
+        }
+        return updateStreamTimeStamps;
+    }
+
+    private void closeUpdateStreamTimeStamps()
+    {
+        if (updateStreamTimeStamps != null)
+        {
+            updateStreamTimeStamps.close();
+            updateStreamTimeStamps = null;
+        }
+    }
+
+    private long batchSizeAsMilli()
+    {
+        return Math.round(TimeUnit.HOURS.toMillis( 1 ) * batchSize);
+    }
+
+    /**
+     * Starts loading the update operations in batches
+     * @param gf Generator factory to use
+     * @param startValue Value of the batch column of the first batch to load, Long.MIN_VALUE to load all batches
+     * @param loader Loader to open the parquet files
+     * @return Iterator with update operations
+     */
     private Iterator<Operation> setBatchedUpdateStreams(
         GeneratorFactory gf,
-        long workloadStartTimeAsMilli,
+        long startValue,
         ParquetLoader loader
     ) throws WorkloadException
     {
-        long batchSizeInMillis = Math.round(TimeUnit.HOURS.toMillis( 1 ) * batchSize);
+        long batchSizeInMillis = batchSizeAsMilli();
 
         Set<Class<? extends Operation>> dependencyUpdateOperationTypes = Sets.<Class<? extends Operation>>newHashSet();
 
@@ -625,7 +870,8 @@ public class LdbcSnbInteractiveWorkload extends Workload
             dependencyUpdateOperationTypes.add(class1);
         }
 
-        int batchQueueSize = LdbcSnbInteractiveWorkloadConfiguration.BUFFERED_QUEUE_SIZE;
+        // Bounds the adaptive prefetch depth of the loader
+        int batchQueueSize = LdbcSnbInteractiveWorkloadConfiguration.MAX_BUFFERED_QUEUE_SIZE;
         
         BlockingQueue<Iterator<Operation>> blockingQueue = new LinkedBlockingQueue<>( batchQueueSize );
         runnableBatchLoader = new RunnableOperationStreamBatchLoader(
@@ -634,11 +880,14 @@ public class LdbcSnbInteractiveWorkload extends Workload
             updatesDir,
             blockingQueue,
             dependencyUpdateOperationTypes,
-            batchSizeInMillis
+            batchSizeInMillis,
+            startValue,
+            decodeUpdatesOnDemand
         );
         runnableBatchLoader.start();
 
         OperationStreamBuffer buffer = new OperationStreamBuffer(blockingQueue);
+        updateStreamBuffer = buffer;
         BufferedIterator bufferedIterator =  new BufferedIterator(buffer);
         bufferedIterator.init();
         return bufferedIterator;
@@ -36,11 +36,17 @@ public abstract class LdbcSnbInteractiveWorkloadConfiguration
 
     public static final String SCALE_FACTOR = LDBC_SNB_INTERACTIVE_PARAM_NAME_PREFIX + "scale_factor";
     public static final String BATCH_SIZE = LDBC_SNB_INTERACTIVE_PARAM_NAME_PREFIX + "batch_size";
+    // directory with the operation streams compiled by mode compile_streams, used instead of the parquet files
+    public static final String COMPILED_STREAMS_DIRECTORY = LDBC_SNB_INTERACTIVE_PARAM_NAME_PREFIX + "compiled_streams_dir";
+    // decode update operations of compiled streams when they are executed rather than when their batch is loaded
+    public static final String DECODE_UPDATES_ON_DEMAND = LDBC_SNB_INTERACTIVE_PARAM_NAME_PREFIX + "decode_updates_on_demand";
 
     // Default batch size denotes 24 hours of data
     public static final long DEFAULT_BATCH_SIZE = 24l;
 
+    // Initial number of update batches loaded ahead, adapted to load and consumption times up to the maximum
     public static final int BUFFERED_QUEUE_SIZE = 4;
+    public static final int MAX_BUFFERED_QUEUE_SIZE = 16;
 
     public static final String INSERTS_DIRECTORY = "inserts";
     public static final String DELETES_DIRECTORY = "deletes";
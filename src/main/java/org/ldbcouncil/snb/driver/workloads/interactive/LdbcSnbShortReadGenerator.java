@@ -1,6 +1,7 @@
 package org.ldbcouncil.snb.driver.workloads.interactive;
 
 import com.google.common.collect.EvictingQueue;
+import com.google.common.collect.MapMaker;
 import com.google.common.collect.Ordering;
 import com.google.common.collect.Queues;
 import org.ldbcouncil.snb.driver.ChildOperationGenerator;
@@ -12,6 +13,8 @@ import org.ldbcouncil.snb.driver.util.Tuple2;
 import org.ldbcouncil.snb.driver.workloads.interactive.queries.*;
 import org.apache.commons.math3.random.RandomDataGenerator;
 
+import java.util.AbstractQueue;
+import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
@@ -19,6 +22,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.TimeUnit;
 
 import static java.lang.String.format;
@@ -32,6 +36,8 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
     private final Queue<Long> messageIdBuffer;
     private final long[] interleavesAsMilli;
     private final BufferReplenishFun bufferReplenishFun;
+    // ids of each chain not used yet, by the operation the chain continues from, released if it is never executed
+    private final ConcurrentMap<Operation,ChainIds> chainIdsByOperation = new MapMaker().weakKeys().makeMap();
 
     public static enum SCHEDULED_START_TIME_POLICY
     {
@@ -494,15 +500,38 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
             long actualStartTimeAsMilli,
             long runDurationAsNano ) throws WorkloadException
     {
-        bufferReplenishFun.replenish( operation, result );
-        return shortReadFactories[operation.type()].create(
-                personIdBuffer,
-                messageIdBuffer,
+        // ids from the results are shared with other chains, as before, but a chain uses those from the results of
+        // its own operations first, so it is not ended by other chains draining the shared buffers in the meantime
+        Queue<Long> chainPersonIds = new ArrayDeque<>();
+        Queue<Long> chainMessageIds = new ArrayDeque<>();
+        bufferReplenishFun.replenish( operation, result, chainPersonIds, chainMessageIds );
+        for ( Long personId : chainPersonIds )
+        {
+            personIdBuffer.add( personId );
+        }
+        for ( Long messageId : chainMessageIds )
+        {
+            messageIdBuffer.add( messageId );
+        }
+        ChainIds previousChainIds = chainIdsByOperation.remove( operation );
+        if ( null != previousChainIds )
+        {
+            chainPersonIds.addAll( previousChainIds.personIds );
+            chainMessageIds.addAll( previousChainIds.messageIds );
+        }
+        Operation childOperation = shortReadFactories[operation.type()].create(
+                new ChainBuffer( chainPersonIds, personIdBuffer ),
+                new ChainBuffer( chainMessageIds, messageIdBuffer ),
                 operation,
                 actualStartTimeAsMilli,
                 runDurationAsNano,
                 state
         );
+        if ( null != childOperation && (!chainPersonIds.isEmpty() || !chainMessageIds.isEmpty()) )
+        {
+            chainIdsByOperation.put( childOperation, new ChainIds( chainPersonIds, chainMessageIds ) );
+        }
+        return childOperation;
     }
 
     @Override
@@ -519,6 +548,15 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
     public static interface BufferReplenishFun
     {
         void replenish( Operation operation, Object result );
+
+        /**
+         * Adds the ids from the result of an operation to the given queues, rather than to the shared buffers.
+         * By default they are added to the shared buffers, as by replenish(operation, result).
+         */
+        default void replenish( Operation operation, Object result, Queue<Long> personIds, Queue<Long> messageIds )
+        {
+            replenish( operation, result );
+        }
     }
 
     public static class NoOpBufferReplenishFun implements BufferReplenishFun
@@ -542,6 +580,12 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
 
         @Override
         public void replenish( Operation operation, Object result )
+        {
+            replenish( operation, result, personIdBuffer, messageIdBuffer );
+        }
+
+        @Override
+        public void replenish( Operation operation, Object result, Queue<Long> personIds, Queue<Long> messageIds )
         {
             switch ( operation.type() )
             {
@@ -550,7 +594,7 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
                 List<LdbcQuery1Result> typedResults = (List<LdbcQuery1Result>) result;
                 for ( int i = 0; i < typedResults.size(); i++ )
                 {
-                    personIdBuffer.add( typedResults.get( i ).getFriendId() );
+                    personIds.add( typedResults.get( i ).getFriendId() );
                 }
                 break;
             }
@@ -560,8 +604,8 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
                 for ( int i = 0; i < typedResults.size(); i++ )
                 {
                     LdbcQuery2Result typedResult = typedResults.get( i );
-                    personIdBuffer.add( typedResult.getPersonId() );
-                    messageIdBuffer.add( typedResult.getMessageId() );
+                    personIds.add( typedResult.getPersonId() );
+                    messageIds.add( typedResult.getMessageId() );
                 }
                 break;
             }
@@ -570,7 +614,7 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
                 List<LdbcQuery3Result> typedResults = (List<LdbcQuery3Result>) result;
                 for ( int i = 0; i < typedResults.size(); i++ )
                 {
-                    personIdBuffer.add( typedResults.get( i ).getPersonId() );
+                    personIds.add( typedResults.get( i ).getPersonId() );
                 }
                 break;
             }
@@ -579,7 +623,7 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
                 List<LdbcQuery3Result> typedResults = (List<LdbcQuery3Result>) result;
                 for ( int i = 0; i < typedResults.size(); i++ )
                 {
-                    personIdBuffer.add( typedResults.get( i ).getPersonId() );
+                    personIds.add( typedResults.get( i ).getPersonId() );
                 }
                 break;
             }
@@ -589,8 +633,8 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
                 for ( int i = 0; i < typedResults.size(); i++ )
                 {
                     LdbcQuery7Result typedResult = typedResults.get( i );
-                    personIdBuffer.add( typedResult.getPersonId() );
-                    messageIdBuffer.add( typedResult.getMessageId() );
+                    personIds.add( typedResult.getPersonId() );
+                    messageIds.add( typedResult.getMessageId() );
                 }
                 break;
             }
@@ -600,8 +644,8 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
                 for ( int i = 0; i < typedResults.size(); i++ )
                 {
                     LdbcQuery8Result typedResult = typedResults.get( i );
-                    personIdBuffer.add( typedResult.getPersonId() );
-                    messageIdBuffer.add( typedResult.getCommentId() );
+                    personIds.add( typedResult.getPersonId() );
+                    messageIds.add( typedResult.getCommentId() );
                 }
                 break;
             }
@@ -611,8 +655,8 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
                 for ( int i = 0; i < typedResults.size(); i++ )
                 {
                     LdbcQuery9Result typedResult = typedResults.get( i );
-                    personIdBuffer.add( typedResult.getPersonId() );
-                    messageIdBuffer.add( typedResult.getMessageId() );
+                    personIds.add( typedResult.getPersonId() );
+                    messageIds.add( typedResult.getMessageId() );
                 }
                 break;
             }
@@ -621,7 +665,7 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
                 List<LdbcQuery10Result> typedResults = (List<LdbcQuery10Result>) result;
                 for ( int i = 0; i < typedResults.size(); i++ )
                 {
-                    personIdBuffer.add( typedResults.get( i ).getPersonId() );
+                    personIds.add( typedResults.get( i ).getPersonId() );
                 }
                 break;
             }
@@ -630,7 +674,7 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
                 List<LdbcQuery11Result> typedResults = (List<LdbcQuery11Result>) result;
                 for ( int i = 0; i < typedResults.size(); i++ )
                 {
-                    personIdBuffer.add( typedResults.get( i ).getPersonId() );
+                    personIds.add( typedResults.get( i ).getPersonId() );
                 }
                 break;
             }
@@ -639,7 +683,7 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
                 List<LdbcQuery12Result> typedResults = (List<LdbcQuery12Result>) result;
                 for ( int i = 0; i < typedResults.size(); i++ )
                 {
-                    personIdBuffer.add( typedResults.get( i ).getPersonId() );
+                    personIds.add( typedResults.get( i ).getPersonId() );
                 }
                 break;
             }
@@ -650,7 +694,7 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
                 {
                     for ( Number personId : typedResults.get( i ).getPersonIdsInPath() )
                     {
-                        personIdBuffer.add( personId.longValue() );
+                        personIds.add( personId.longValue() );
                     }
                 }
                 break;
@@ -662,7 +706,7 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
                 {
                     for ( Number personId : typedResults.get( i ).getPersonIdsInPath() )
                     {
-                        personIdBuffer.add( personId.longValue() );
+                        personIds.add( personId.longValue() );
                     }
                 }
                 break;
@@ -673,9 +717,9 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
                 for ( int i = 0; i < typedResults.size(); i++ )
                 {
                     LdbcShortQuery2PersonPostsResult typedResult = typedResults.get( i );
-                    personIdBuffer.add( typedResult.getOriginalPostAuthorId() );
-                    messageIdBuffer.add( typedResult.getMessageId() );
-                    messageIdBuffer.add( typedResult.getOriginalPostId() );
+                    personIds.add( typedResult.getOriginalPostAuthorId() );
+                    messageIds.add( typedResult.getMessageId() );
+                    messageIds.add( typedResult.getOriginalPostId() );
                 }
                 break;
             }
@@ -685,20 +729,20 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
                         (List<LdbcShortQuery3PersonFriendsResult>) result;
                 for ( int i = 0; i < typedResults.size(); i++ )
                 {
-                    personIdBuffer.add( typedResults.get( i ).getPersonId() );
+                    personIds.add( typedResults.get( i ).getPersonId() );
                 }
                 break;
             }
             case LdbcShortQuery5MessageCreator.TYPE:
             {
                 LdbcShortQuery5MessageCreatorResult typedResult = (LdbcShortQuery5MessageCreatorResult) result;
-                personIdBuffer.add( typedResult.getPersonId() );
+                personIds.add( typedResult.getPersonId() );
                 break;
             }
             case LdbcShortQuery6MessageForum.TYPE:
             {
                 LdbcShortQuery6MessageForumResult typedResult = (LdbcShortQuery6MessageForumResult) result;
-                personIdBuffer.add( typedResult.getModeratorId() );
+                personIds.add( typedResult.getModeratorId() );
                 break;
             }
             case LdbcShortQuery7MessageReplies.TYPE:
@@ -708,8 +752,8 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
                 for ( int i = 0; i < typedResults.size(); i++ )
                 {
                     LdbcShortQuery7MessageRepliesResult typedResult = typedResults.get( i );
-                    personIdBuffer.add( typedResult.getReplyAuthorId() );
-                    messageIdBuffer.add( typedResult.getCommentId() );
+                    personIds.add( typedResult.getReplyAuthorId() );
+                    messageIds.add( typedResult.getCommentId() );
                 }
                 break;
             }
@@ -1397,6 +1441,66 @@ public class LdbcSnbShortReadGenerator implements ChildOperationGenerator
     Buffer
      */
 
+    private static class ChainIds
+    {
+        private final Queue<Long> personIds;
+        private final Queue<Long> messageIds;
+
+        private ChainIds( Queue<Long> personIds, Queue<Long> messageIds )
+        {
+            this.personIds = personIds;
+            this.messageIds = messageIds;
+        }
+    }
+
+    /**
+     * Ids of a chain, backed by a shared buffer that is polled once the ids of the chain run out.
+     * Size and iteration cover the ids of the chain only.
+     */
+    private static class ChainBuffer extends AbstractQueue<Long>
+    {
+        private final Queue<Long> chainIds;
+        private final Queue<Long> sharedBuffer;
+
+        private ChainBuffer( Queue<Long> chainIds, Queue<Long> sharedBuffer )
+        {
+            this.chainIds = chainIds;
+            this.sharedBuffer = sharedBuffer;
+        }
+
+        @Override
+        public boolean offer( Long id )
+        {
+            return chainIds.offer( id );
+        }
+
+        @Override
+        public Long poll()
+        {
+            Long id = chainIds.poll();
+            return (null == id) ? sharedBuffer.poll() : id;
+        }
+
+        @Override
+        public Long peek()
+        {
+            Long id = chainIds.peek();
+            return (null == id) ? sharedBuffer.peek() : id;
+        }
+
+        @Override
+        public Iterator<Long> iterator()
+        {
+            return chainIds.iterator();
+        }
+
+        @Override
+        public int size()
+        {
+            return chainIds.size();
+        }
+    }
+
     static Queue<Long> synchronizedCircularQueueBuffer( int bufferSize )
     {
         return Queues.synchronizedQueue( EvictingQueue.<Long>create( bufferSize ) );
@@ -43,4 +43,19 @@ public class OperationStreamReader {
         return opStream;
 
     }
+
+    /**
+     * Streams the operations of the file, restarting from the first operation when the end is reached
+     * @param decoder Decoder used to create operations
+     * @param readOperationFile Parquet file with the operation parameters
+     * @return Iterator that repeats the operations of the file
+     * @throws WorkloadException
+     */
+    public Iterator<Operation> readRepeatingOperationStream(
+        EventStreamReader.EventDecoder<Operation> decoder,
+        File readOperationFile
+    ) throws WorkloadException
+    {
+        return loader.loadRepeatingOperationStream(readOperationFile.getAbsolutePath(), decoder);
+    }
 }
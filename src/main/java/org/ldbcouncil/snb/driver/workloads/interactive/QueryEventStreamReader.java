@@ -1,8 +1,6 @@
 package org.ldbcouncil.snb.driver.workloads.interactive;
 
-import java.sql.ResultSet;
 import java.sql.SQLException;
-import java.time.Instant;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -10,6 +8,7 @@ import java.util.Map;
 
 import org.ldbcouncil.snb.driver.Operation;
 import org.ldbcouncil.snb.driver.generator.EventStreamReader.EventDecoder;
+import org.ldbcouncil.snb.driver.generator.EventStreamReader.EventRow;
 import org.ldbcouncil.snb.driver.WorkloadException;
 import org.ldbcouncil.snb.driver.workloads.interactive.queries.*;
 
@@ -76,14 +75,14 @@ public class QueryEventStreamReader implements Iterator<Operation>{
          * @throws SQLException when an error occurs reading the resultset
          */
         @Override
-        public Operation decodeEvent( ResultSet rs ) throws WorkloadException
+        public Operation decodeEvent( EventRow rs ) throws WorkloadException
         {
             try
             {
                 long personId = rs.getLong(1);
                 String personName = rs.getString(2);
-                long dependencyTimeStamp = convertStringToLong(rs.getString(3));
-                long expiryTimeStamp = convertStringToLong(rs.getString(4));
+                long dependencyTimeStamp = rs.getTimestampAsMilli(3);
+                long expiryTimeStamp = rs.getTimestampAsMilli(4);
                 Operation query = new LdbcQuery1(
                     personId,
                     personName,
@@ -107,13 +106,13 @@ public class QueryEventStreamReader implements Iterator<Operation>{
          * @throws SQLException when an error occurs reading the resultset
          */
         @Override
-        public Operation decodeEvent( ResultSet rs ) throws WorkloadException
+        public Operation decodeEvent( EventRow rs ) throws WorkloadException
         {
             try {
                 long personId = rs.getLong(1);
                 Date maxDate = new Date(rs.getTimestamp(2).getTime());
-                long dependencyTimeStamp = convertStringToLong(rs.getString(3));
-                long expiryTimeStamp = convertStringToLong(rs.getString(4));
+                long dependencyTimeStamp = rs.getTimestampAsMilli(3);
+                long expiryTimeStamp = rs.getTimestampAsMilli(4);
                 Operation query = new LdbcQuery2(
                     personId,
                     maxDate,
@@ -137,7 +136,7 @@ public class QueryEventStreamReader implements Iterator<Operation>{
          * @throws SQLException when an error occurs reading the resultset
          */
         @Override
-        public Operation decodeEvent( ResultSet rs ) throws WorkloadException
+        public Operation decodeEvent( EventRow rs ) throws WorkloadException
         {
             try
             {
@@ -146,8 +145,8 @@ public class QueryEventStreamReader implements Iterator<Operation>{
                 String countryYName = rs.getString(3);
                 Date maxDate = new Date(rs.getTimestamp(4).getTime());
                 int durationDays = rs.getInt(5);
-                long dependencyTimeStamp = convertStringToLong(rs.getString(6));
-                long expiryTimeStamp = convertStringToLong(rs.getString(7));
+                long dependencyTimeStamp = rs.getTimestampAsMilli(6);
+                long expiryTimeStamp = rs.getTimestampAsMilli(7);
                 Operation query = new LdbcQuery3a(
                     personId,
                     countryXName,
@@ -174,7 +173,7 @@ public class QueryEventStreamReader implements Iterator<Operation>{
          * @throws SQLException when an error occurs reading the resultset
          */
         @Override
-        public Operation decodeEvent( ResultSet rs ) throws WorkloadException
+        public Operation decodeEvent( EventRow rs ) throws WorkloadException
         {
             try
             {
@@ -183,8 +182,8 @@ public class QueryEventStreamReader implements Iterator<Operation>{
                 String countryYName = rs.getString(3);
                 Date maxDate = new Date(rs.getTimestamp(4).getTime());
                 int durationDays = rs.getInt(5);
-                long dependencyTimeStamp = convertStringToLong(rs.getString(6));
-                long expiryTimeStamp = convertStringToLong(rs.getString(7));
+                long dependencyTimeStamp = rs.getTimestampAsMilli(6);
+                long expiryTimeStamp = rs.getTimestampAsMilli(7);
                 Operation query = new LdbcQuery3b(
                     personId,
                     countryXName,
@@ -211,15 +210,15 @@ public class QueryEventStreamReader implements Iterator<Operation>{
          * @throws SQLException when an error occurs reading the resultset
          */
         @Override
-        public Operation decodeEvent( ResultSet rs ) throws WorkloadException
+        public Operation decodeEvent( EventRow rs ) throws WorkloadException
         {
             try
             {
                 long personId = rs.getLong(1);
                 Date startDate = new Date(rs.getTimestamp(2).getTime());
                 int durationDays = rs.getInt(3);
-                long dependencyTimeStamp = convertStringToLong(rs.getString(4));
-                long expiryTimeStamp = convertStringToLong(rs.getString(5));
+                long dependencyTimeStamp = rs.getTimestampAsMilli(4);
+                long expiryTimeStamp = rs.getTimestampAsMilli(5);
                 Operation query = new LdbcQuery4(
                     personId,
                     startDate,
@@ -244,14 +243,14 @@ public class QueryEventStreamReader implements Iterator<Operation>{
          * @throws SQLException when an error occurs reading the resultset
          */
         @Override
-        public Operation decodeEvent( ResultSet rs ) throws WorkloadException
+        public Operation decodeEvent( EventRow rs ) throws WorkloadException
         {
             try {
                 long personId = rs.getLong(1);
                 // Dates are stored as long in the oepration streams.
                 Date minDate = new Date(rs.getTimestamp(2).getTime());
-                long dependencyTimeStamp = convertStringToLong(rs.getString(3));
-                long expiryTimeStamp = convertStringToLong(rs.getString(4));
+                long dependencyTimeStamp = rs.getTimestampAsMilli(3);
+                long expiryTimeStamp = rs.getTimestampAsMilli(4);
                 Operation query = new LdbcQuery5(
                     personId,
                     minDate,
@@ -275,14 +274,14 @@ public class QueryEventStreamReader implements Iterator<Operation>{
          * @throws SQLException when an error occurs reading the resultset
          */
         @Override
-        public Operation decodeEvent( ResultSet rs ) throws WorkloadException
+        public Operation decodeEvent( EventRow rs ) throws WorkloadException
         {
             try
             {
                 long personId = rs.getLong(1);
                 String personName = rs.getString(2);
-                long dependencyTimeStamp = convertStringToLong(rs.getString(3));
-                long expiryTimeStamp = convertStringToLong(rs.getString(4));
+                long dependencyTimeStamp = rs.getTimestampAsMilli(3);
+                long expiryTimeStamp = rs.getTimestampAsMilli(4);
                 Operation query = new LdbcQuery6(
                     personId,
                     personName,
@@ -306,13 +305,13 @@ public class QueryEventStreamReader implements Iterator<Operation>{
          * @throws SQLException when an error occurs reading the resultset
          */
         @Override
-        public Operation decodeEvent( ResultSet rs ) throws WorkloadException
+        public Operation decodeEvent( EventRow rs ) throws WorkloadException
         {
             try
             {
                 long personId = rs.getLong(1);
-                long dependencyTimeStamp = convertStringToLong(rs.getString(2));
-                long expiryTimeStamp = convertStringToLong(rs.getString(3));
+                long dependencyTimeStamp = rs.getTimestampAsMilli(2);
+                long expiryTimeStamp = rs.getTimestampAsMilli(3);
                 Operation query = new LdbcQuery7(
                     personId,
                     LdbcQuery7.DEFAULT_LIMIT
@@ -335,13 +334,13 @@ public class QueryEventStreamReader implements Iterator<Operation>{
          * @throws SQLException when an error occurs reading the resultset
          */
         @Override
-        public Operation decodeEvent( ResultSet rs ) throws WorkloadException
+        public Operation decodeEvent( EventRow rs ) throws WorkloadException
         {
             try
             {
                 long personId = rs.getLong(1);
-                long dependencyTimeStamp = convertStringToLong(rs.getString(2));
-                long expiryTimeStamp = convertStringToLong(rs.getString(3));
+                long dependencyTimeStamp = rs.getTimestampAsMilli(2);
+                long expiryTimeStamp = rs.getTimestampAsMilli(3);
                 Operation query = new LdbcQuery8(
                     personId,
                     LdbcQuery8.DEFAULT_LIMIT
@@ -364,13 +363,13 @@ public class QueryEventStreamReader implements Iterator<Operation>{
          * @throws SQLException when an error occurs reading the resultset
          */
         @Override
-        public Operation decodeEvent( ResultSet rs ) throws WorkloadException
+        public Operation decodeEvent( EventRow rs ) throws WorkloadException
         {
             try {
                 long personId = rs.getLong(1);
                 Date maxDate = new Date(rs.getTimestamp(2).getTime());
-                long dependencyTimeStamp = convertStringToLong(rs.getString(3));
-                long expiryTimeStamp = convertStringToLong(rs.getString(4));
+                long dependencyTimeStamp = rs.getTimestampAsMilli(3);
+                long expiryTimeStamp = rs.getTimestampAsMilli(4);
                 Operation query = new LdbcQuery9(
                     personId,
                     maxDate,
@@ -394,14 +393,14 @@ public class QueryEventStreamReader implements Iterator<Operation>{
          * @throws SQLException when an error occurs reading the resultset
          */
         @Override
-        public Operation decodeEvent( ResultSet rs ) throws WorkloadException
+        public Operation decodeEvent( EventRow rs ) throws WorkloadException
         {
             try
             {
                 long personId = rs.getLong(1);
                 int personName = rs.getInt(2);
-                long dependencyTimeStamp = convertStringToLong(rs.getString(3));
-                long expiryTimeStamp = convertStringToLong(rs.getString(4));
+                long dependencyTimeStamp = rs.getTimestampAsMilli(3);
+                long expiryTimeStamp = rs.getTimestampAsMilli(4);
                 Operation query = new LdbcQuery10(
                     personId,
                     personName,
@@ -425,15 +424,15 @@ public class QueryEventStreamReader implements Iterator<Operation>{
          * @throws SQLException when an error occurs reading the resultset
          */
         @Override
-        public Operation decodeEvent( ResultSet rs ) throws WorkloadException
+        public Operation decodeEvent( EventRow rs ) throws WorkloadException
         {
             try
             {
                 long personId = rs.getLong(1);
                 String countryName = rs.getString(2);
                 int workFromYear = rs.getInt(3);
-                long dependencyTimeStamp = convertStringToLong(rs.getString(4));
-                long expiryTimeStamp = convertStringToLong(rs.getString(5));
+                long dependencyTimeStamp = rs.getTimestampAsMilli(4);
+                long expiryTimeStamp = rs.getTimestampAsMilli(5);
                 Operation query = new LdbcQuery11(
                     personId,
                     countryName,
@@ -458,14 +457,14 @@ public class QueryEventStreamReader implements Iterator<Operation>{
          * @throws SQLException when an error occurs reading the resultset
          */
         @Override
-        public Operation decodeEvent( ResultSet rs ) throws WorkloadException
+        public Operation decodeEvent( EventRow rs ) throws WorkloadException
         {
             try
             {
                 long personId = rs.getLong(1);
                 String tagClassName = rs.getString(2);
-                long dependencyTimeStamp = convertStringToLong(rs.getString(3));
-                long expiryTimeStamp = convertStringToLong(rs.getString(4));
+                long dependencyTimeStamp = rs.getTimestampAsMilli(3);
+                long expiryTimeStamp = rs.getTimestampAsMilli(4);
                 Operation query = new LdbcQuery12(
                     personId,
                     tagClassName,
@@ -489,14 +488,14 @@ public class QueryEventStreamReader implements Iterator<Operation>{
          * @throws SQLException when an error occurs reading the resultset
          */
         @Override
-        public Operation decodeEvent( ResultSet rs ) throws WorkloadException
+        public Operation decodeEvent( EventRow rs ) throws WorkloadException
         {
             try
             {
                 long personId1 = rs.getLong(1);
                 long personId2 = rs.getLong(2);
-                long dependencyTimeStamp = convertStringToLong(rs.getString(3));
-                long expiryTimeStamp = convertStringToLong(rs.getString(4));
+                long dependencyTimeStamp = rs.getTimestampAsMilli(3);
+                long expiryTimeStamp = rs.getTimestampAsMilli(4);
                 Operation query = new LdbcQuery13a(
                     personId1,
                     personId2
@@ -519,14 +518,14 @@ public class QueryEventStreamReader implements Iterator<Operation>{
          * @throws SQLException when an error occurs reading the resultset
          */
         @Override
-        public Operation decodeEvent( ResultSet rs ) throws WorkloadException
+        public Operation decodeEvent( EventRow rs ) throws WorkloadException
         {
             try
             {
                 long personId1 = rs.getLong(1);
                 long personId2 = rs.getLong(2);
-                long dependencyTimeStamp = convertStringToLong(rs.getString(3));
-                long expiryTimeStamp = convertStringToLong(rs.getString(4));
+                long dependencyTimeStamp = rs.getTimestampAsMilli(3);
+                long expiryTimeStamp = rs.getTimestampAsMilli(4);
                 Operation query = new LdbcQuery13b(
                     personId1,
                     personId2
@@ -549,14 +548,14 @@ public class QueryEventStreamReader implements Iterator<Operation>{
          * @throws SQLException when an error occurs reading the resultset
          */
         @Override
-        public Operation decodeEvent( ResultSet rs ) throws WorkloadException
+        public Operation decodeEvent( EventRow rs ) throws WorkloadException
         {
             try
             {
                 long personId1 = rs.getLong(1);
                 long personId2 = rs.getLong(2);
-                long dependencyTimeStamp = convertStringToLong(rs.getString(3));
-                long expiryTimeStamp = convertStringToLong(rs.getString(4));
+                long dependencyTimeStamp = rs.getTimestampAsMilli(3);
+                long expiryTimeStamp = rs.getTimestampAsMilli(4);
                 Operation query = new LdbcQuery14a(
                     personId1,
                     personId2
@@ -579,14 +578,14 @@ public class QueryEventStreamReader implements Iterator<Operation>{
          * @throws SQLException when an error occurs reading the resultset
          */
         @Override
-        public Operation decodeEvent( ResultSet rs ) throws WorkloadException
+        public Operation decodeEvent( EventRow rs ) throws WorkloadException
         {
             try
             {
                 long personId1 = rs.getLong(1);
                 long personId2 = rs.getLong(2);
-                long dependencyTimeStamp = convertStringToLong(rs.getString(3));
-                long expiryTimeStamp = convertStringToLong(rs.getString(4));
+                long dependencyTimeStamp = rs.getTimestampAsMilli(3);
+                long expiryTimeStamp = rs.getTimestampAsMilli(4);
                 Operation query = new LdbcQuery14b(
                     personId1,
                     personId2
@@ -600,9 +599,4 @@ public class QueryEventStreamReader implements Iterator<Operation>{
             }
         }
     }
-
-    private static long convertStringToLong(String dateString)
-    {
-        return Instant.parse(dateString.replace(" ", "T") + "Z").toEpochMilli();
-    }
 }
@@ -1,30 +1,61 @@
 package org.ldbcouncil.snb.driver.workloads.interactive;
 
 import java.io.File;
-import java.sql.SQLException;
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 
+import com.google.common.collect.Lists;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.ldbcouncil.snb.driver.Operation;
 import org.ldbcouncil.snb.driver.WorkloadException;
 import org.ldbcouncil.snb.driver.csv.ParquetLoader;
 import org.ldbcouncil.snb.driver.generator.EventStreamReader;
 import org.ldbcouncil.snb.driver.generator.GeneratorFactory;
+import org.ldbcouncil.snb.driver.generator.OperationStreamBuffer;
 import org.ldbcouncil.snb.driver.util.Tuple2;
 
+import static java.lang.String.format;
+
+/**
+ * Loads the update operation streams in batches, where each batch holds the operations of all enabled
+ * update types within the same window of the batch column, merged by timestamp.
+ * Every update type has its own prefetch worker that queries its view on a connection of its own,
+ * staying a batch ahead of the merge, so the per-type queries of a window run concurrently.
+ * When decoding on demand, batches of compiled streams hold row ranges of the mapped compiled files instead of
+ * operations, and are merged and decoded by the consumer as it iterates them.
+ * The number of merged batches buffered ahead of the consumer adapts to load and consumption times, up to the
+ * capacity of the queue, see AdaptivePrefetchDepth. The stream ends with OperationStreamBuffer.END_OF_STREAM,
+ * or with OperationStreamBuffer.failure() when it could not be loaded.
+ */
 public class RunnableOperationStreamBatchLoader extends Thread {
-    
+
+    private static final Logger LOGGER = LogManager.getLogger(RunnableOperationStreamBatchLoader.class);
+    // number of merged batches between batch load statistics log lines
+    private static final int STATISTICS_LOG_INTERVAL = 100;
+    // number of batches each prefetch worker may load ahead of the merge
+    private static final int PREFETCH_DEPTH = 1;
+    // interval at which the loader checks for a free slot while the buffer holds enough batches
+    private static final long FREE_SLOT_CHECK_INTERVAL_AS_NANO = TimeUnit.MILLISECONDS.toNanos(1);
+
     private final ParquetLoader loader;
     private final long batchSize;
+    private final long startValue;
+    private final boolean decodeOnDemand;
     private final GeneratorFactory gf;
     private final File updatesDir;
     private final Set<Class<? extends Operation>> enabledUpdateOperationTypes;
     private final BlockingQueue<Iterator<Operation>> blockingQueue;
+    private final AdaptivePrefetchDepth prefetchDepth;
+    private volatile int currentPrefetchDepth;
 
     public RunnableOperationStreamBatchLoader (
         ParquetLoader loader,
@@ -34,6 +65,43 @@ public class RunnableOperationStreamBatchLoader extends Thread {
         Set<Class<? extends Operation>> enabledUpdateOperationTypes,
         long batchSize
     )
+    {
+        this(loader, gf, updatesDir, blockingQueue, enabledUpdateOperationTypes, batchSize, Long.MIN_VALUE);
+    }
+
+    /**
+     * @param startValue Value of the batch column of the first window to load, earlier windows are skipped.
+     * Windows start at the lowest value of the batch column, this value should be the start of one of them,
+     * so the loaded windows are the same as when loading from the start
+     */
+    public RunnableOperationStreamBatchLoader (
+        ParquetLoader loader,
+        GeneratorFactory gf,
+        File updatesDir,
+        BlockingQueue<Iterator<Operation>> blockingQueue,
+        Set<Class<? extends Operation>> enabledUpdateOperationTypes,
+        long batchSize,
+        long startValue
+    )
+    {
+        this(loader, gf, updatesDir, blockingQueue, enabledUpdateOperationTypes, batchSize, startValue, false);
+    }
+
+    /**
+     * @param startValue Value of the batch column of the first window to load, see above
+     * @param decodeOnDemand Whether batches of compiled streams are decoded as the consumer iterates them,
+     * rather than by the loader, so buffered batches take little heap
+     */
+    public RunnableOperationStreamBatchLoader (
+        ParquetLoader loader,
+        GeneratorFactory gf,
+        File updatesDir,
+        BlockingQueue<Iterator<Operation>> blockingQueue,
+        Set<Class<? extends Operation>> enabledUpdateOperationTypes,
+        long batchSize,
+        long startValue,
+        boolean decodeOnDemand
+    )
     {
         this.loader = loader;
         this.gf = gf;
@@ -41,6 +109,21 @@ public class RunnableOperationStreamBatchLoader extends Thread {
         this.blockingQueue = blockingQueue;
         this.enabledUpdateOperationTypes = enabledUpdateOperationTypes;
         this.batchSize = batchSize;
+        this.startValue = startValue;
+        this.decodeOnDemand = decodeOnDemand;
+        this.prefetchDepth = new AdaptivePrefetchDepth(
+            LdbcSnbInteractiveWorkloadConfiguration.BUFFERED_QUEUE_SIZE,
+            blockingQueue.size() + blockingQueue.remainingCapacity()
+        );
+        this.currentPrefetchDepth = prefetchDepth.depth();
+    }
+
+    /**
+     * @return Number of merged batches currently buffered ahead of the consumer at most
+     */
+    public int prefetchDepth()
+    {
+        return currentPrefetchDepth;
     }
 
     /**
@@ -54,6 +137,7 @@ public class RunnableOperationStreamBatchLoader extends Thread {
         Map<Class<? extends Operation>, String> classToBatchColumn = LdbcSnbInteractiveWorkloadConfiguration.getUpdateStreamClassToDateColumn();
         long offset = Long.MAX_VALUE;
         Map<Class<? extends Operation>, Long> classToLastValue = new HashMap<>();
+        List<BatchPrefetcher> prefetchers = new ArrayList<>();
         try {
             for (Class<? extends Operation> enabledClass : enabledUpdateOperationTypes) {
                 String filename = classToPathMap.get(enabledClass);
@@ -65,7 +149,7 @@ public class RunnableOperationStreamBatchLoader extends Thread {
                     viewName,
                     batchColumn
                 );
-    
+
                 classToLastValue.put(enabledClass, boundaries._2());
 
                 if ( boundaries._1() < offset )
@@ -74,77 +158,315 @@ public class RunnableOperationStreamBatchLoader extends Thread {
                 }
             }
 
-            // Loop until interrupt or no operations left to load
-            while (!Thread.interrupted()) {
-                Iterator<Operation> newBatch = loadNextBatch(
-                    updateOperationStream,
+            if (startValue > offset)
+            {
+                offset = startValue;
+            }
+
+            Map<Class<? extends Operation>, EventStreamReader.EventDecoder<Operation>> decoders = UpdateEventStreamReader.getDecoders();
+            for (Class<? extends Operation> enabledClass : enabledUpdateOperationTypes) {
+                BatchPrefetcher prefetcher = new BatchPrefetcher(
+                    new BatchedOperationStreamReader(loader.withNewConnection()),
+                    decoders.get(enabledClass),
+                    enabledClass.getSimpleName(),
+                    classToBatchColumn.get(enabledClass),
                     offset,
-                    classToLastValue
+                    classToLastValue.get(enabledClass),
+                    batchSize,
+                    decodeOnDemand
                 );
-                if (!newBatch.hasNext())
+                prefetchers.add(prefetcher);
+                prefetcher.start();
+            }
+
+            BatchLoadStatistics statistics = new BatchLoadStatistics();
+            // Loop until interrupt or no operations left to load
+            while (!Thread.interrupted()) {
+                long startTimeAsNano = System.nanoTime();
+                Iterator<Operation> newBatch = loadNextBatch(prefetchers);
+                if (newBatch == null)
                 {
                     // No new operations, stream empty.
+                    LOGGER.info(statistics.toString());
+                    blockingQueue.put(OperationStreamBuffer.END_OF_STREAM);
                     return;
                 }
-                    // Waits for a free slot.
+                if (!newBatch.hasNext())
+                {
+                    // No operations in this window, but later windows may have some
+                    continue;
+                }
+                long loadDurationAsNano = System.nanoTime() - startTimeAsNano;
+                prefetchDepth.onBatchLoaded(loadDurationAsNano, blockingQueue.size());
+                statistics.record(loadDurationAsNano, blockingQueue.size(), prefetchDepth.depth());
+                if (LOGGER.isDebugEnabled()) {
+                    LOGGER.debug(format("Loaded update batch in %s ms, queue occupancy %s/%s",
+                        TimeUnit.NANOSECONDS.toMillis(loadDurationAsNano),
+                        blockingQueue.size(),
+                        prefetchDepth.depth()));
+                }
+                if (statistics.batchCount() % STATISTICS_LOG_INTERVAL == 0) {
+                    LOGGER.info(statistics.toString());
+                }
+                waitForFreeSlot();
                 blockingQueue.put(newBatch);
-                offset = offset + batchSize;
             }
         }
-        catch (WorkloadException | SQLException ew){
-            ew.printStackTrace();
-            Thread.currentThread().interrupt();
-        }
         catch ( InterruptedException e){
             Thread.currentThread().interrupt();
         }
+        catch (Throwable e){
+            // Any error, including those of decoders and DuckDb, ends the stream, or the consumer would wait forever
+            LOGGER.error("Error loading update batches", e);
+            // The consumer takes the error after the batches loaded before it
+            try {
+                blockingQueue.put(OperationStreamBuffer.failure(e));
+            }
+            catch (InterruptedException ie) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        finally {
+            for (BatchPrefetcher prefetcher : prefetchers) {
+                prefetcher.interrupt();
+            }
+        }
+    }
+
+    /**
+     * Waits until the buffer holds fewer batches than the prefetch depth. Batches consumed while waiting measure
+     * the consumption interval, the first one only partially, as the consumer was already iterating it.
+     * @throws InterruptedException
+     */
+    private void waitForFreeSlot() throws InterruptedException
+    {
+        int bufferedBatches = blockingQueue.size();
+        long measureStartTimeAsNano = -1;
+        while (bufferedBatches >= prefetchDepth.depth()) {
+            LockSupport.parkNanos(FREE_SLOT_CHECK_INTERVAL_AS_NANO);
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            int nowBufferedBatches = blockingQueue.size();
+            if (nowBufferedBatches < bufferedBatches) {
+                long nowAsNano = System.nanoTime();
+                if (measureStartTimeAsNano != -1) {
+                    prefetchDepth.onBatchConsumed((nowAsNano - measureStartTimeAsNano) / (bufferedBatches - nowBufferedBatches));
+                    currentPrefetchDepth = prefetchDepth.depth();
+                }
+                measureStartTimeAsNano = nowAsNano;
+            }
+            bufferedBatches = nowBufferedBatches;
+        }
+        currentPrefetchDepth = prefetchDepth.depth();
     }
 
     /**
-     * Fetches the next batch of operation streams
-     * @param updateOperationStream
-     * @return
-     * @throws SQLException
-     * @throws WorkloadException
+     * Fetches the next batch of operation streams, taking the batch of the same window from every
+     * prefetch worker that has not finished yet
+     * @param prefetchers Workers loading the batches of each update type
+     * @return Operations of the window sorted by timestamp, or null when all workers are finished
+     * @throws InterruptedException
+     * @throws WorkloadException When a worker failed to load a batch
      */
     private Iterator<Operation> loadNextBatch(
-        BatchedOperationStreamReader updateOperationStream,
-        long offset,
-        Map<Class<? extends Operation>, Long> classtoEndValue
-    ) throws SQLException, WorkloadException
+        List<BatchPrefetcher> prefetchers
+    ) throws InterruptedException, WorkloadException
     {
-        Map<Class<? extends Operation>, String> classToBatchColumn = LdbcSnbInteractiveWorkloadConfiguration.getUpdateStreamClassToDateColumn();
-        ArrayList<Iterator<Operation>> listOfBatchedOperationStreams = new ArrayList<>();
-
-        Map<Class<? extends Operation>, EventStreamReader.EventDecoder<Operation>> decoders = UpdateEventStreamReader.getDecoders();
-        for (Class<? extends Operation> enabledClass : enabledUpdateOperationTypes) {
-            String batchColumn = classToBatchColumn.get(enabledClass);
-            String viewName = enabledClass.getSimpleName();
-            if (offset <= classtoEndValue.get(enabledClass)) {
-                Iterator<Operation> operationStream = updateOperationStream.readBatchedOperationStream(
-                    decoders.get(enabledClass),
-                    offset,
-                    batchSize,
-                    viewName,
-                    batchColumn
-                );
-                // Update offset
-                // Only put non-empty iterators in the list to merge
-                if (operationStream.hasNext()){
-                    listOfBatchedOperationStreams.add(operationStream);
+        List<Iterator<Operation>> listOfBatchedOperationStreams = new ArrayList<>();
+        boolean anyPrefetcherActive = false;
+        for (BatchPrefetcher prefetcher : prefetchers) {
+            Iterator<Operation> operationStream = prefetcher.takeBatch();
+            if (operationStream == null) {
+                continue;
+            }
+            anyPrefetcherActive = true;
+            // Only put non-empty iterators in the list to merge
+            if (operationStream.hasNext()) {
+                listOfBatchedOperationStreams.add(operationStream);
+            }
+        }
+        // If no worker is active, it means there is nothing more to load.
+        if (!anyPrefetcherActive)
+        {
+            return null;
+        }
+        // Merge the operation streams and sort them by timestamp, in a single k-way merge.
+        // The merge is done here rather than lazily by the consumer, which only has to iterate the result,
+        // unless decoding on demand, where the merge only holds the next operation of each stream.
+        Iterator<Operation> mergedUpdateStreams = gf.mergeSortOperationsByTimeStamp(
+            listOfBatchedOperationStreams.toArray(new Iterator[0])
+        );
+        if (decodeOnDemand) {
+            return mergedUpdateStreams;
+        }
+        return Lists.newArrayList(mergedUpdateStreams).iterator();
+    }
+
+    /**
+     * Loads the batches of a single update type, in window order, a bounded number of batches ahead
+     */
+    private static class BatchPrefetcher extends Thread {
+
+        // marks that all batches have been loaded, compared by reference
+        private static final Iterator<Operation> END_OF_STREAM = new ArrayList<Operation>().iterator();
+
+        private final BatchedOperationStreamReader reader;
+        private final EventStreamReader.EventDecoder<Operation> decoder;
+        private final String viewName;
+        private final String batchColumn;
+        private final long startOffset;
+        private final long endValue;
+        private final long batchSize;
+        private final boolean decodeOnDemand;
+        private final BlockingQueue<Iterator<Operation>> batches = new ArrayBlockingQueue<>(PREFETCH_DEPTH);
+        private volatile Throwable error = null;
+        private boolean finished = false;
+
+        private BatchPrefetcher(
+            BatchedOperationStreamReader reader,
+            EventStreamReader.EventDecoder<Operation> decoder,
+            String viewName,
+            String batchColumn,
+            long startOffset,
+            long endValue,
+            long batchSize,
+            boolean decodeOnDemand
+        )
+        {
+            super("BatchPrefetcher-" + viewName);
+            setDaemon(true);
+            this.reader = reader;
+            this.decoder = decoder;
+            this.viewName = viewName;
+            this.batchColumn = batchColumn;
+            this.startOffset = startOffset;
+            this.endValue = endValue;
+            this.batchSize = batchSize;
+            this.decodeOnDemand = decodeOnDemand;
+        }
+
+        @Override
+        public void run()
+        {
+            try {
+                for (long offset = startOffset; offset <= endValue; offset += batchSize) {
+                    long startTimeAsNano = System.nanoTime();
+                    Iterator<Operation> batch = reader.readBatchedOperationStream(
+                        decoder,
+                        offset,
+                        batchSize,
+                        viewName,
+                        batchColumn,
+                        decodeOnDemand
+                    );
+                    if (LOGGER.isDebugEnabled()) {
+                        LOGGER.debug(format("Queried batch of %s at offset %s in %s ms", viewName, offset,
+                            TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTimeAsNano)));
+                    }
+                    // Waits for the merge to take the previous batch, throws when interrupted
+                    batches.put(batch);
                 }
             }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            catch (Throwable e) {
+                // Any error, including those of decoders and DuckDb, is handed to the merge with the end of the batches
+                error = e;
+            }
+            finally {
+                endBatches();
+            }
         }
-        // If empty, it means there is nothing more to load.
-        if (listOfBatchedOperationStreams.isEmpty())
+
+        /**
+         * Always ends the batches, so the merge never waits for a batch of a worker that stopped
+         */
+        private void endBatches()
         {
-            return Collections.emptyIterator();
+            if (Thread.currentThread().isInterrupted()) {
+                // shutting down, the merge may no longer take batches
+                batches.offer(END_OF_STREAM);
+                return;
+            }
+            try {
+                batches.put(END_OF_STREAM);
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
         }
-        // Merge the operation streams and sort them by timestamp
-        Iterator<Operation> mergedUpdateStreams = Collections.<Operation>emptyIterator();
-        for (Iterator<Operation> updateStream : listOfBatchedOperationStreams) {
-            mergedUpdateStreams = gf.mergeSortOperationsByTimeStamp(mergedUpdateStreams,  updateStream);
+
+        /**
+         * @return Batch of the next window, or null when all batches have been taken
+         * @throws InterruptedException
+         * @throws WorkloadException When loading a batch failed
+         */
+        private Iterator<Operation> takeBatch() throws InterruptedException, WorkloadException
+        {
+            if (finished) {
+                return null;
+            }
+            Iterator<Operation> batch = batches.take();
+            if (batch == END_OF_STREAM) {
+                finished = true;
+                if (error != null) {
+                    throw new WorkloadException(format("Error prefetching batches of view: %s", viewName), error);
+                }
+                return null;
+            }
+            return batch;
+        }
+    }
+
+    /**
+     * Batch load latency and queue occupancy, accumulated over all merged batches
+     */
+    private static class BatchLoadStatistics {
+
+        private long batchCount = 0;
+        private long totalLoadDurationAsNano = 0;
+        private long maxLoadDurationAsNano = 0;
+        private long totalQueueSize = 0;
+        private long emptyQueueCount = 0;
+        private int prefetchDepth = 0;
+        private int maxPrefetchDepth = 0;
+
+        private void record(long loadDurationAsNano, int queueSize, int prefetchDepth)
+        {
+            batchCount++;
+            totalLoadDurationAsNano += loadDurationAsNano;
+            maxLoadDurationAsNano = Math.max(maxLoadDurationAsNano, loadDurationAsNano);
+            totalQueueSize += queueSize;
+            if (queueSize == 0) {
+                // consumer may be waiting for this batch
+                emptyQueueCount++;
+            }
+            this.prefetchDepth = prefetchDepth;
+            maxPrefetchDepth = Math.max(maxPrefetchDepth, prefetchDepth);
+        }
+
+        private long batchCount()
+        {
+            return batchCount;
+        }
+
+        @Override
+        public String toString()
+        {
+            if (batchCount == 0) {
+                return "Update batches loaded: 0";
+            }
+            return format("Update batches loaded: %s, load latency mean %s ms / max %s ms, " +
+                    "queue occupancy mean %.2f, queue empty on load %s times, prefetch depth %s / max %s",
+                batchCount,
+                TimeUnit.NANOSECONDS.toMillis(totalLoadDurationAsNano / batchCount),
+                TimeUnit.NANOSECONDS.toMillis(maxLoadDurationAsNano),
+                (double) totalQueueSize / batchCount,
+                emptyQueueCount,
+                prefetchDepth,
+                maxPrefetchDepth);
         }
-        return mergedUpdateStreams;
     }
 }
@@ -0,0 +1,42 @@
+package org.ldbcouncil.snb.driver.workloads.interactive;
+/**
+ * TimeStampOperation.java
+ * Operation of a time stamp stream, with the type and time stamp of the operation it stands for but no parameters,
+ * see SeekableWorkload. Only passed to the short read generator, never executed.
+ */
+
+import org.ldbcouncil.snb.driver.Operation;
+
+import java.util.Collections;
+import java.util.Map;
+
+class TimeStampOperation extends Operation<Object>
+{
+    private final int type;
+
+    TimeStampOperation( int type, long timeStampAsMilli )
+    {
+        this.type = type;
+        setScheduledStartTimeAsMilli( timeStampAsMilli );
+        setTimeStamp( timeStampAsMilli );
+        setDependencyTimeStamp( timeStampAsMilli );
+    }
+
+    @Override
+    public int type()
+    {
+        return type;
+    }
+
+    @Override
+    public Map<String,Object> parameterMap()
+    {
+        return Collections.emptyMap();
+    }
+
+    @Override
+    public Object deserializeResult( String serializedOperationResult )
+    {
+        throw new UnsupportedOperationException();
+    }
+}
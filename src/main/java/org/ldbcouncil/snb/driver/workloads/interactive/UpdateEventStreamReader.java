@@ -3,16 +3,16 @@ package org.ldbcouncil.snb.driver.workloads.interactive;
  * UpdateEventStreamReader.java
  *
  * Decoder for the update events. There are 8 insert events and 8 delete events.
- * Each event has a separate decoder that decodes a java.sql.Resultset
+ * Each event has a separate decoder that decodes a row of a java.sql.ResultSet or of a compiled operation stream
  */
 
 import org.ldbcouncil.snb.driver.generator.EventStreamReader;
 import org.ldbcouncil.snb.driver.generator.EventStreamReader.EventDecoder;
+import org.ldbcouncil.snb.driver.generator.EventStreamReader.EventRow;
 import org.ldbcouncil.snb.driver.workloads.interactive.queries.*;
 import org.ldbcouncil.snb.driver.Operation;
 import org.ldbcouncil.snb.driver.WorkloadException;
 
-import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -28,13 +28,13 @@ import static java.lang.String.format;
 public class UpdateEventStreamReader implements Iterator<Operation>
 {
     /**
-     * Get the first attribute of the ResultSet rs representing an operation's date.
+     * Get the first attribute of the row rs representing an operation's date.
      */
-    static long getOperationDate(ResultSet rs) throws SQLException {
+    static long getOperationDate(EventRow rs) throws SQLException {
         return rs.getLong(1);
     }
 
-    static long getDependencyTimeStamp(ResultSet rs) throws SQLException {
+    static long getDependencyTimeStamp(EventRow rs) throws SQLException {
         return rs.getLong(2);
     }
 
@@ -86,7 +86,7 @@ public class UpdateEventStreamReader implements Iterator<Operation>
 
     public static class EventDecoderAddPerson implements EventStreamReader.EventDecoder<Operation> {
         @Override
-        public Operation decodeEvent(ResultSet rs) throws WorkloadException
+        public Operation decodeEvent(EventRow rs) throws WorkloadException
         {
             try
             {
@@ -182,7 +182,7 @@ public class UpdateEventStreamReader implements Iterator<Operation>
 
     public static class EventDecoderAddLikePost implements EventStreamReader.EventDecoder<Operation> {
         @Override
-        public Operation decodeEvent(ResultSet rs) throws WorkloadException
+        public Operation decodeEvent(EventRow rs) throws WorkloadException
         {
             try
             {
@@ -206,7 +206,7 @@ public class UpdateEventStreamReader implements Iterator<Operation>
 
     public static class EventDecoderAddLikeComment implements EventStreamReader.EventDecoder<Operation> {
         @Override
-        public Operation decodeEvent(ResultSet rs) throws WorkloadException
+        public Operation decodeEvent(EventRow rs) throws WorkloadException
         {
             try
             {
@@ -230,7 +230,7 @@ public class UpdateEventStreamReader implements Iterator<Operation>
 
     public static class EventDecoderAddForum implements EventStreamReader.EventDecoder<Operation> {
         @Override
-        public Operation decodeEvent(ResultSet rs) throws WorkloadException
+        public Operation decodeEvent(EventRow rs) throws WorkloadException
         {
             try
             {
@@ -264,7 +264,7 @@ public class UpdateEventStreamReader implements Iterator<Operation>
 
     public static class EventDecoderAddForumMembership  implements EventStreamReader.EventDecoder<Operation> {
         @Override
-        public Operation decodeEvent(ResultSet rs) throws WorkloadException
+        public Operation decodeEvent(EventRow rs) throws WorkloadException
         {
             try
             {
@@ -288,7 +288,7 @@ public class UpdateEventStreamReader implements Iterator<Operation>
 
     public static class EventDecoderAddPost implements EventStreamReader.EventDecoder<Operation> {
         @Override
-        public Operation decodeEvent(ResultSet rs) throws WorkloadException
+        public Operation decodeEvent(EventRow rs) throws WorkloadException
         {
             try
             {
@@ -341,7 +341,7 @@ public class UpdateEventStreamReader implements Iterator<Operation>
 
     public static class EventDecoderAddComment implements EventStreamReader.EventDecoder<Operation> {
         @Override
-        public Operation decodeEvent(ResultSet rs) throws WorkloadException
+        public Operation decodeEvent(EventRow rs) throws WorkloadException
         {
             try
             {
@@ -392,7 +392,7 @@ public class UpdateEventStreamReader implements Iterator<Operation>
 
     public static class EventDecoderAddFriendship implements EventStreamReader.EventDecoder<Operation> {
         @Override
-        public Operation decodeEvent(ResultSet rs) throws WorkloadException
+        public Operation decodeEvent(EventRow rs) throws WorkloadException
         {
             try
             {
@@ -417,7 +417,7 @@ public class UpdateEventStreamReader implements Iterator<Operation>
     // Delete operation decoders
     public static class EventDecoderDeletePerson implements EventStreamReader.EventDecoder<Operation> {
         @Override
-        public Operation decodeEvent(ResultSet rs) throws WorkloadException
+        public Operation decodeEvent(EventRow rs) throws WorkloadException
         {
             try
             {
@@ -439,7 +439,7 @@ public class UpdateEventStreamReader implements Iterator<Operation>
 
     public static class EventDecoderDeletePostLike implements EventStreamReader.EventDecoder<Operation> {
         @Override
-        public Operation decodeEvent(ResultSet rs) throws WorkloadException
+        public Operation decodeEvent(EventRow rs) throws WorkloadException
         {
             try
             {
@@ -462,7 +462,7 @@ public class UpdateEventStreamReader implements Iterator<Operation>
 
     public static class EventDecoderDeleteCommentLike implements EventStreamReader.EventDecoder<Operation> {
         @Override
-        public Operation decodeEvent(ResultSet rs) throws WorkloadException
+        public Operation decodeEvent(EventRow rs) throws WorkloadException
         {
             try
             {
@@ -485,7 +485,7 @@ public class UpdateEventStreamReader implements Iterator<Operation>
 
     public static class EventDecoderDeleteForum implements EventStreamReader.EventDecoder<Operation> {
         @Override
-        public Operation decodeEvent(ResultSet rs) throws WorkloadException
+        public Operation decodeEvent(EventRow rs) throws WorkloadException
         {
             try
             {
@@ -507,7 +507,7 @@ public class UpdateEventStreamReader implements Iterator<Operation>
 
     public static class EventDecoderDeleteForumMembership implements EventStreamReader.EventDecoder<Operation> {
         @Override
-        public Operation decodeEvent(ResultSet rs) throws WorkloadException
+        public Operation decodeEvent(EventRow rs) throws WorkloadException
         {
             try
             {
@@ -530,7 +530,7 @@ public class UpdateEventStreamReader implements Iterator<Operation>
 
     public static class EventDecoderDeletePostThread implements EventStreamReader.EventDecoder<Operation> {
         @Override
-        public Operation decodeEvent(ResultSet rs) throws WorkloadException
+        public Operation decodeEvent(EventRow rs) throws WorkloadException
         {
             try
             {
@@ -552,7 +552,7 @@ public class UpdateEventStreamReader implements Iterator<Operation>
 
     public static class EventDecoderDeleteCommentSubThread implements EventStreamReader.EventDecoder<Operation> {
         @Override
-        public Operation decodeEvent(ResultSet rs) throws WorkloadException
+        public Operation decodeEvent(EventRow rs) throws WorkloadException
         {
             try
             {
@@ -574,7 +574,7 @@ public class UpdateEventStreamReader implements Iterator<Operation>
 
     public static class EventDecoderDeleteFriendship implements EventStreamReader.EventDecoder<Operation> {
         @Override
-        public Operation decodeEvent(ResultSet rs) throws WorkloadException
+        public Operation decodeEvent(EventRow rs) throws WorkloadException
         {
             try
             {
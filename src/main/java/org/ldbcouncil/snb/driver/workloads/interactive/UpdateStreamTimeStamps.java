@@ -0,0 +1,123 @@
+package org.ldbcouncil.snb.driver.workloads.interactive;
+/**
+ * UpdateStreamTimeStamps.java
+ * Queries the time stamps of the update operations of all enabled update types, in the order of the update stream,
+ * without decoding the operations. Only the batch column of each parquet file is read, and for counts only the row
+ * groups whose statistics do not rule them out. Used to count and skip update operations, see SeekableWorkload.
+ */
+
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.WorkloadException;
+import org.ldbcouncil.snb.driver.csv.DuckDbConnectionState;
+import org.ldbcouncil.snb.driver.csv.ParquetLoader;
+import org.ldbcouncil.snb.driver.util.MapUtils;
+
+import java.io.Closeable;
+import java.io.File;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.lang.String.format;
+
+public class UpdateStreamTimeStamps implements Closeable
+{
+    private final DuckDbConnectionState db;
+    private final ParquetLoader loader;
+    // (timeStamp, type) of every update operation, unordered
+    private final String timeStampsQuery;
+
+    /**
+     * @param updatesDir Directory with the update parquet files
+     * @param enabledUpdateOperationTypes Update operation types in the update stream, at least one
+     * @throws WorkloadException When the parquet files could not be opened
+     */
+    public UpdateStreamTimeStamps(
+        File updatesDir,
+        Set<Class<? extends Operation>> enabledUpdateOperationTypes
+    ) throws WorkloadException
+    {
+        Map<Class<? extends Operation>, String> classToPathMap = LdbcSnbInteractiveWorkloadConfiguration.getUpdateStreamClassToPathMapping();
+        Map<Class<? extends Operation>, String> classToBatchColumn = LdbcSnbInteractiveWorkloadConfiguration.getUpdateStreamClassToDateColumn();
+        Map<Class<? extends Operation>, Integer> classToTypeMap = MapUtils.invertMap(LdbcSnbInteractiveWorkloadConfiguration.operationTypeToClassMapping());
+        try {
+            db = new DuckDbConnectionState(true);
+            loader = new ParquetLoader(db);
+            List<String> selects = new ArrayList<>();
+            for (Class<? extends Operation> enabledClass : enabledUpdateOperationTypes) {
+                String viewName = enabledClass.getSimpleName();
+                loader.createViewOnParquetFile(new File(updatesDir, classToPathMap.get(enabledClass)).getAbsolutePath(), viewName);
+                selects.add(format("SELECT %s AS timeStamp, %d AS type FROM %s",
+                    classToBatchColumn.get(enabledClass), classToTypeMap.get(enabledClass), viewName));
+            }
+            timeStampsQuery = String.join(" UNION ALL ", selects);
+        }
+        catch (SQLException e) {
+            throw new WorkloadException(format("Error creating views on update streams in: %s", updatesDir.getAbsolutePath()), e);
+        }
+    }
+
+    /**
+     * @param offset Number of update operations to skip
+     * @return Operations with the type and time stamp of each update operation, ordered by time stamp
+     * @throws WorkloadException
+     */
+    public Iterator<Operation> timeStampStream(long offset) throws WorkloadException
+    {
+        return loader.loadQueryOperationStream(
+            format("SELECT timeStamp, type FROM (%s) ORDER BY timeStamp OFFSET %d;", timeStampsQuery, offset),
+            rs -> {
+                try {
+                    return new TimeStampOperation(rs.getInt(2), rs.getLong(1));
+                }
+                catch (SQLException e) {
+                    throw new WorkloadException(format("Error while decoding update time stamp: %s", e));
+                }
+            }
+        );
+    }
+
+    /**
+     * @return Time stamp of the first update operation, or -1 if there are none
+     */
+    public long firstTimeStamp() throws WorkloadException
+    {
+        return query(format("SELECT min(timeStamp) FROM (%s);", timeStampsQuery));
+    }
+
+    /**
+     * @param position Number of update operations before the update operation
+     * @return Time stamp of the update operation, or -1 if there are no more than position update operations
+     */
+    public long timeStampAt(long position) throws WorkloadException
+    {
+        return query(format("SELECT timeStamp FROM (%s) ORDER BY timeStamp LIMIT 1 OFFSET %d;", timeStampsQuery, position));
+    }
+
+    /**
+     * @return Number of update operations with a time stamp before the given time stamp
+     */
+    public long countBefore(long timeStamp) throws WorkloadException
+    {
+        return query(format("SELECT count(*) FROM (%s) WHERE timeStamp < %d;", timeStampsQuery, timeStamp));
+    }
+
+    private long query(String query) throws WorkloadException
+    {
+        try {
+            return loader.getLongValue(query);
+        }
+        catch (SQLException e) {
+            throw new WorkloadException(format("Error querying update time stamps: %s", query), e);
+        }
+    }
+
+    @Override
+    public void close()
+    {
+        db.close();
+    }
+}
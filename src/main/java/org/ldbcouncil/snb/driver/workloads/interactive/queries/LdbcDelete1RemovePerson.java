@@ -2,12 +2,14 @@ package org.ldbcouncil.snb.driver.workloads.interactive.queries;
 
 import java.util.Map;
 
+import org.ldbcouncil.snb.driver.EntityDependentOperation;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcEntityKeys;
 import org.ldbcouncil.snb.driver.workloads.interactive.LdbcOperation;
 import com.google.common.collect.ImmutableMap;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 
-public class LdbcDelete1RemovePerson extends LdbcOperation<LdbcNoResult>{
+public class LdbcDelete1RemovePerson extends LdbcOperation<LdbcNoResult> implements EntityDependentOperation {
     public static final int TYPE = 1009;
     public static final String PERSON_ID = "personId";
 
@@ -25,6 +27,13 @@ public class LdbcDelete1RemovePerson extends LdbcOperation<LdbcNoResult>{
         return removePersonIdD1;
     }
 
+    @Override
+    public long[] entityKeys()
+    {
+        // deletion cascades to the forums, messages, likes and friendships of the person
+        return null;
+    }
+
     @Override
     public Map<String, Object> parameterMap() {
         return ImmutableMap.<String, Object>builder()
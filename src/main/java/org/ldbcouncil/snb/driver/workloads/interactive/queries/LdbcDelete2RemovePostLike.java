@@ -2,12 +2,14 @@ package org.ldbcouncil.snb.driver.workloads.interactive.queries;
 
 import java.util.Map;
 
+import org.ldbcouncil.snb.driver.EntityDependentOperation;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcEntityKeys;
 import org.ldbcouncil.snb.driver.workloads.interactive.LdbcOperation;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.collect.ImmutableMap;
 
-public class LdbcDelete2RemovePostLike extends LdbcOperation<LdbcNoResult> {
+public class LdbcDelete2RemovePostLike extends LdbcOperation<LdbcNoResult> implements EntityDependentOperation {
     public static final int TYPE = 1010;
     public static final String PERSON_ID = "personId";
     public static final String POST_ID = "postId";
@@ -34,6 +36,12 @@ public class LdbcDelete2RemovePostLike extends LdbcOperation<LdbcNoResult> {
         return removePersonIdD2;
     }
 
+    @Override
+    public long[] entityKeys()
+    {
+        return new long[]{LdbcEntityKeys.person( removePersonIdD2 ), LdbcEntityKeys.post( removePostIdD2 )};
+    }
+
     @Override
     public Map<String, Object> parameterMap() {
         return ImmutableMap.<String, Object>builder()
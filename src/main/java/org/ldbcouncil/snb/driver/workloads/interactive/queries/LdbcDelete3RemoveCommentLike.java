@@ -2,12 +2,14 @@ package org.ldbcouncil.snb.driver.workloads.interactive.queries;
 
 import java.util.Map;
 
+import org.ldbcouncil.snb.driver.EntityDependentOperation;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcEntityKeys;
 import org.ldbcouncil.snb.driver.workloads.interactive.LdbcOperation;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.collect.ImmutableMap;
 
-public class LdbcDelete3RemoveCommentLike extends LdbcOperation<LdbcNoResult> {
+public class LdbcDelete3RemoveCommentLike extends LdbcOperation<LdbcNoResult> implements EntityDependentOperation {
     public static final int TYPE = 1011;
     public static final String PERSON_ID = "personId";
     public static final String COMMENT_ID = "commentId";
@@ -34,6 +36,15 @@ public class LdbcDelete3RemoveCommentLike extends LdbcOperation<LdbcNoResult> {
         return removePersonIdD3;
     }
 
+    @Override
+    public long[] entityKeys()
+    {
+        return new long[]{
+                LdbcEntityKeys.person( removePersonIdD3 ),
+                LdbcEntityKeys.comment( removeCommentIdD3 )
+        };
+    }
+
     @Override
     public Map<String, Object> parameterMap() {
         return ImmutableMap.<String, Object>builder()
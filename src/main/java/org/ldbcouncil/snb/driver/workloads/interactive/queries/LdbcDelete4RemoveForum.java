@@ -2,12 +2,14 @@ package org.ldbcouncil.snb.driver.workloads.interactive.queries;
 
 import java.util.Map;
 
+import org.ldbcouncil.snb.driver.EntityDependentOperation;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcEntityKeys;
 import org.ldbcouncil.snb.driver.workloads.interactive.LdbcOperation;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.collect.ImmutableMap;
 
-public class LdbcDelete4RemoveForum extends LdbcOperation<LdbcNoResult> {
+public class LdbcDelete4RemoveForum extends LdbcOperation<LdbcNoResult> implements EntityDependentOperation {
     public static final int TYPE = 1012;
     public static final String FORUM_ID = "forumId";
 
@@ -25,6 +27,13 @@ public class LdbcDelete4RemoveForum extends LdbcOperation<LdbcNoResult> {
         return removeForumIdD4;
     }
 
+    @Override
+    public long[] entityKeys()
+    {
+        // deletion cascades to the posts of the forum, and their reply trees
+        return null;
+    }
+
     @Override
     public Map<String, Object> parameterMap() {
         return ImmutableMap.<String, Object>builder()
@@ -2,12 +2,14 @@ package org.ldbcouncil.snb.driver.workloads.interactive.queries;
 
 import java.util.Map;
 
+import org.ldbcouncil.snb.driver.EntityDependentOperation;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcEntityKeys;
 import org.ldbcouncil.snb.driver.workloads.interactive.LdbcOperation;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.collect.ImmutableMap;
 
-public class LdbcDelete5RemoveForumMembership extends LdbcOperation<LdbcNoResult> {
+public class LdbcDelete5RemoveForumMembership extends LdbcOperation<LdbcNoResult> implements EntityDependentOperation {
     public static final int TYPE = 1013;
     public static final String FORUM_ID = "forumId";
     public static final String PERSON_ID = "personId";
@@ -34,6 +36,12 @@ public class LdbcDelete5RemoveForumMembership extends LdbcOperation<LdbcNoResult
         return removePersonIdD5;
     }
 
+    @Override
+    public long[] entityKeys()
+    {
+        return new long[]{LdbcEntityKeys.forum( removeForumIdD5 ), LdbcEntityKeys.person( removePersonIdD5 )};
+    }
+
     @Override
     public Map<String, Object> parameterMap() {
         return ImmutableMap.<String, Object>builder()
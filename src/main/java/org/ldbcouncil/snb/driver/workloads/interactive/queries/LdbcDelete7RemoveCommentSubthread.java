@@ -2,12 +2,14 @@ package org.ldbcouncil.snb.driver.workloads.interactive.queries;
 
 import java.util.Map;
 
+import org.ldbcouncil.snb.driver.EntityDependentOperation;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcEntityKeys;
 import org.ldbcouncil.snb.driver.workloads.interactive.LdbcOperation;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.collect.ImmutableMap;
 
-public class LdbcDelete7RemoveCommentSubthread extends LdbcOperation<LdbcNoResult> {
+public class LdbcDelete7RemoveCommentSubthread extends LdbcOperation<LdbcNoResult> implements EntityDependentOperation {
     public static final int TYPE = 1015;
     public static final String COMMENT_ID = "commentId";
 
@@ -25,6 +27,13 @@ public class LdbcDelete7RemoveCommentSubthread extends LdbcOperation<LdbcNoResul
         return removeCommentIdD7;
     }
 
+    @Override
+    public long[] entityKeys()
+    {
+        // deletion cascades to the reply tree of the comment
+        return null;
+    }
+
     @Override
     public Map<String, Object> parameterMap() {
         return ImmutableMap.<String, Object>builder()
@@ -2,12 +2,14 @@ package org.ldbcouncil.snb.driver.workloads.interactive.queries;
 
 import java.util.Map;
 
+import org.ldbcouncil.snb.driver.EntityDependentOperation;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcEntityKeys;
 import org.ldbcouncil.snb.driver.workloads.interactive.LdbcOperation;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.collect.ImmutableMap;
 
-public class LdbcDelete8RemoveFriendship extends LdbcOperation<LdbcNoResult> {
+public class LdbcDelete8RemoveFriendship extends LdbcOperation<LdbcNoResult> implements EntityDependentOperation {
     public static final int TYPE = 1016;
     public static final String PERSON1_ID = "person1Id";
     public static final String PERSON2_ID = "person2Id";
@@ -34,6 +36,15 @@ public class LdbcDelete8RemoveFriendship extends LdbcOperation<LdbcNoResult> {
         return removePerson2Id;
     }
 
+    @Override
+    public long[] entityKeys()
+    {
+        return new long[]{
+                LdbcEntityKeys.person( removePerson1Id ),
+                LdbcEntityKeys.person( removePerson2Id )
+        };
+    }
+
     @Override
     public Map<String, Object> parameterMap() {
         return ImmutableMap.<String, Object>builder()
@@ -11,13 +11,15 @@ package org.ldbcouncil.snb.driver.workloads.interactive.queries;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.collect.ImmutableMap;
 import org.ldbcouncil.snb.driver.util.ListUtils;
+import org.ldbcouncil.snb.driver.EntityDependentOperation;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcEntityKeys;
 import org.ldbcouncil.snb.driver.workloads.interactive.LdbcOperation;
 
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
-public class LdbcInsert1AddPerson extends LdbcOperation<LdbcNoResult>
+public class LdbcInsert1AddPerson extends LdbcOperation<LdbcNoResult> implements EntityDependentOperation
 {
     public static final int TYPE = 1001;
     public static final String PERSON_ID = "personId";
@@ -153,6 +155,12 @@ public class LdbcInsert1AddPerson extends LdbcOperation<LdbcNoResult>
         return workAt;
     }
 
+    @Override
+    public long[] entityKeys()
+    {
+        return new long[]{LdbcEntityKeys.person( personId )};
+    }
+
     @Override
     public Map<String, Object> parameterMap() {
         return ImmutableMap.<String, Object>builder()
@@ -11,13 +11,15 @@ package org.ldbcouncil.snb.driver.workloads.interactive.queries;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.collect.ImmutableMap;
 import org.ldbcouncil.snb.driver.util.ListUtils;
+import org.ldbcouncil.snb.driver.EntityDependentOperation;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcEntityKeys;
 import org.ldbcouncil.snb.driver.workloads.interactive.LdbcOperation;
 
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
-public class LdbcInsert4AddForum extends LdbcOperation<LdbcNoResult>
+public class LdbcInsert4AddForum extends LdbcOperation<LdbcNoResult> implements EntityDependentOperation
 {
     public static final int TYPE = 1004;
     public static final String FORUM_ID = "forumId";
@@ -72,6 +74,12 @@ public class LdbcInsert4AddForum extends LdbcOperation<LdbcNoResult>
         return tagIds;
     }
 
+    @Override
+    public long[] entityKeys()
+    {
+        return new long[]{LdbcEntityKeys.forum( forumId ), LdbcEntityKeys.person( moderatorPersonId )};
+    }
+
     @Override
     public Map<String, Object> parameterMap() {
         return ImmutableMap.<String, Object>builder()
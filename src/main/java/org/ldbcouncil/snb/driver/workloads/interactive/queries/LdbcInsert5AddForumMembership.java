@@ -10,12 +10,14 @@ package org.ldbcouncil.snb.driver.workloads.interactive.queries;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.collect.ImmutableMap;
+import org.ldbcouncil.snb.driver.EntityDependentOperation;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcEntityKeys;
 import org.ldbcouncil.snb.driver.workloads.interactive.LdbcOperation;
 
 import java.util.Date;
 import java.util.Map;
 
-public class LdbcInsert5AddForumMembership extends LdbcOperation<LdbcNoResult>
+public class LdbcInsert5AddForumMembership extends LdbcOperation<LdbcNoResult> implements EntityDependentOperation
 {
     public static final int TYPE = 1005;
     public static final String FORUM_ID = "forumId";
@@ -52,6 +54,12 @@ public class LdbcInsert5AddForumMembership extends LdbcOperation<LdbcNoResult>
         return creationDate;
     }
 
+    @Override
+    public long[] entityKeys()
+    {
+        return new long[]{LdbcEntityKeys.forum( forumId ), LdbcEntityKeys.person( personId )};
+    }
+
     @Override
     public Map<String, Object> parameterMap() {
         return ImmutableMap.<String, Object>builder()
@@ -11,6 +11,8 @@ package org.ldbcouncil.snb.driver.workloads.interactive.queries;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import org.ldbcouncil.snb.driver.util.ListUtils;
+import org.ldbcouncil.snb.driver.EntityDependentOperation;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcEntityKeys;
 import org.ldbcouncil.snb.driver.workloads.interactive.LdbcOperation;
 
 import java.util.Date;
@@ -18,7 +20,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
-public class LdbcInsert6AddPost extends LdbcOperation<LdbcNoResult>
+public class LdbcInsert6AddPost extends LdbcOperation<LdbcNoResult> implements EntityDependentOperation
 {
     public static final int TYPE = 1006;
     public static final String POST_ID = "postId";
@@ -136,6 +138,16 @@ public class LdbcInsert6AddPost extends LdbcOperation<LdbcNoResult>
         return tagIds;
     }
 
+    @Override
+    public long[] entityKeys()
+    {
+        return new long[]{
+                LdbcEntityKeys.post( postId ),
+                LdbcEntityKeys.person( authorPersonId ),
+                LdbcEntityKeys.forum( forumId )
+        };
+    }
+
     @Override
     public Map<String, Object> parameterMap() {
         // use vanilla HashMap to allow null values
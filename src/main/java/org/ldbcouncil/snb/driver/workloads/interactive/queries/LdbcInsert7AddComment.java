@@ -12,13 +12,15 @@ package org.ldbcouncil.snb.driver.workloads.interactive.queries;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.collect.ImmutableMap;
 import org.ldbcouncil.snb.driver.util.ListUtils;
+import org.ldbcouncil.snb.driver.EntityDependentOperation;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcEntityKeys;
 import org.ldbcouncil.snb.driver.workloads.interactive.LdbcOperation;
 
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 
-public class LdbcInsert7AddComment extends LdbcOperation<LdbcNoResult>
+public class LdbcInsert7AddComment extends LdbcOperation<LdbcNoResult> implements EntityDependentOperation
 {
     public static final int TYPE = 1007;
     public static final String COMMENT_ID = "commentId";
@@ -126,6 +128,20 @@ public class LdbcInsert7AddComment extends LdbcOperation<LdbcNoResult>
         return tagIds;
     }
 
+    @Override
+    public long[] entityKeys()
+    {
+        // a comment replies to either a post or a comment, the other ID is absent (0 or -1)
+        long replyToKey = (replyToCommentId > 0)
+                          ? LdbcEntityKeys.comment( replyToCommentId )
+                          : LdbcEntityKeys.post( replyToPostId );
+        return new long[]{
+                LdbcEntityKeys.comment( commentId ),
+                LdbcEntityKeys.person( authorPersonId ),
+                replyToKey
+        };
+    }
+
     @Override
     public Map<String, Object> parameterMap() {
         return ImmutableMap.<String, Object>builder()
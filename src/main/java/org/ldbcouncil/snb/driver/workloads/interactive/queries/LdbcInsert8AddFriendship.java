@@ -10,12 +10,14 @@ package org.ldbcouncil.snb.driver.workloads.interactive.queries;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.google.common.collect.ImmutableMap;
+import org.ldbcouncil.snb.driver.EntityDependentOperation;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcEntityKeys;
 import org.ldbcouncil.snb.driver.workloads.interactive.LdbcOperation;
 
 import java.util.Date;
 import java.util.Map;
 
-public class LdbcInsert8AddFriendship extends LdbcOperation<LdbcNoResult>
+public class LdbcInsert8AddFriendship extends LdbcOperation<LdbcNoResult> implements EntityDependentOperation
 {
     public static final int TYPE = 1008;
     public static final String PERSON1_ID = "person1Id";
@@ -52,6 +54,12 @@ public class LdbcInsert8AddFriendship extends LdbcOperation<LdbcNoResult>
         return creationDate;
     }
 
+    @Override
+    public long[] entityKeys()
+    {
+        return new long[]{LdbcEntityKeys.person( person1Id ), LdbcEntityKeys.person( person2Id )};
+    }
+
     @Override
     public Map<String, Object> parameterMap() {
         return ImmutableMap.<String, Object>builder()
@@ -0,0 +1,124 @@
+package org.ldbcouncil.snb.driver;
+
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Compares claim and release cost of the runnable context factories. Contexts are either released on the thread
+ * that claimed them, or, as with the operation executors, claimed on one (stream) thread and released on workers.
+ * Claim latency is measured on the claiming thread, where claim stalls would hold up the operation stream.
+ */
+@Disabled
+public class OperationHandlerRunnerFactoryPerformanceTest
+{
+    private static final int IN_FLIGHT_CONTEXTS = 2000;
+
+    @Test
+    public void compareClaimAndReleaseCostOfFactories() throws Exception
+    {
+        int experimentRepetitions = 3;
+        int contextCount = 5_000_000;
+        for ( int workerCount : new int[]{0, 1, 4, 8} )
+        {
+            for ( String factoryName : new String[]{"Instantiating", "Pooling", "Recycling"} )
+            {
+                Histogram claimLatency = new Histogram( TimeUnit.SECONDS.toNanos( 10 ), 3 );
+                long duration = 0;
+                for ( int i = 0; i < experimentRepetitions; i++ )
+                {
+                    OperationHandlerRunnerFactory factory = newFactory( factoryName );
+                    duration += (0 == workerCount)
+                                ? doSameThreadTest( factory, contextCount, claimLatency )
+                                : doCrossThreadTest( factory, contextCount, workerCount, claimLatency );
+                    factory.shutdown();
+                }
+                duration = duration / experimentRepetitions;
+                System.out.println( format( "%s (%s) %s contexts in %s ms: %s contexts/s",
+                        factoryName,
+                        (0 == workerCount) ? "same thread release" : workerCount + " releasing workers",
+                        contextCount, duration, (long) contextCount * 1000 / Math.max( 1, duration ) ) );
+                System.out.println( format( "    claim latency (ns): mean %.0f, p50 %s, p99 %s, p99.99 %s, max %s",
+                        claimLatency.getMean(),
+                        claimLatency.getValueAtPercentile( 50 ),
+                        claimLatency.getValueAtPercentile( 99 ),
+                        claimLatency.getValueAtPercentile( 99.99 ),
+                        claimLatency.getMaxValue() ) );
+            }
+            System.out.println();
+        }
+    }
+
+    private static OperationHandlerRunnerFactory newFactory( String factoryName )
+    {
+        switch ( factoryName )
+        {
+        case "Instantiating":
+            return new InstantiatingOperationHandlerRunnerFactory();
+        case "Pooling":
+            return new PoolingOperationHandlerRunnerFactory( new InstantiatingOperationHandlerRunnerFactory() );
+        default:
+            return new RecyclingOperationHandlerRunnerFactory( new InstantiatingOperationHandlerRunnerFactory() );
+        }
+    }
+
+    private long doSameThreadTest( OperationHandlerRunnerFactory factory, int contextCount, Histogram claimLatency )
+            throws Exception
+    {
+        long startTime = System.nanoTime();
+        for ( int i = 0; i < contextCount; i++ )
+        {
+            long before = System.nanoTime();
+            OperationHandlerRunnableContext context = factory.newOperationHandlerRunner();
+            claimLatency.recordValue( System.nanoTime() - before );
+            context.cleanup();
+        }
+        return TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - startTime );
+    }
+
+    private long doCrossThreadTest( OperationHandlerRunnerFactory factory, int contextCount, int workerCount,
+            Histogram claimLatency ) throws Exception
+    {
+        BlockingQueue<OperationHandlerRunnableContext> claimed = new ArrayBlockingQueue<>( IN_FLIGHT_CONTEXTS );
+        ExecutorService executor = Executors.newFixedThreadPool( workerCount );
+        int contextsPerWorker = contextCount / workerCount;
+        List<Future<?>> workers = new ArrayList<>();
+        for ( int worker = 0; worker < workerCount; worker++ )
+        {
+            workers.add( executor.submit( () ->
+            {
+                for ( int i = 0; i < contextsPerWorker; i++ )
+                {
+                    claimed.take().cleanup();
+                }
+                return null;
+            } ) );
+        }
+        long startTime = System.nanoTime();
+        for ( int i = 0; i < contextsPerWorker * workerCount; i++ )
+        {
+            long before = System.nanoTime();
+            OperationHandlerRunnableContext context = factory.newOperationHandlerRunner();
+            claimLatency.recordValue( System.nanoTime() - before );
+            claimed.put( context );
+        }
+        for ( Future<?> worker : workers )
+        {
+            worker.get();
+        }
+        long duration = TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - startTime );
+        executor.shutdown();
+        return duration;
+    }
+}
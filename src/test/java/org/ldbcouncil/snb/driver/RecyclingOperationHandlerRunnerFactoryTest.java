@@ -0,0 +1,88 @@
+package org.ldbcouncil.snb.driver;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class RecyclingOperationHandlerRunnerFactoryTest
+{
+    @Test
+    public void shouldRecycleContextReleasedOnClaimingThread() throws Exception
+    {
+        // Given
+        OperationHandlerRunnerFactory factory =
+                new RecyclingOperationHandlerRunnerFactory( new InstantiatingOperationHandlerRunnerFactory() );
+        OperationHandlerRunnableContext context = factory.newOperationHandlerRunner();
+
+        // When
+        context.cleanup();
+
+        // Then
+        assertThat( factory.newOperationHandlerRunner(), sameInstance( context ) );
+        factory.shutdown();
+    }
+
+    @Test
+    public void shouldRecycleContextReleasedOnAnotherThread() throws Exception
+    {
+        // Given
+        OperationHandlerRunnerFactory factory =
+                new RecyclingOperationHandlerRunnerFactory( new InstantiatingOperationHandlerRunnerFactory() );
+        OperationHandlerRunnableContext context = factory.newOperationHandlerRunner();
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        // When
+        executor.submit( context::cleanup ).get( 10, TimeUnit.SECONDS );
+
+        // Then
+        assertThat( factory.newOperationHandlerRunner(), sameInstance( context ) );
+        executor.shutdown();
+        factory.shutdown();
+    }
+
+    @Test
+    public void shouldInstantiateContextsWhenFreeListIsEmptyOrFull() throws Exception
+    {
+        // Given
+        int freeListCapacity = 1;
+        OperationHandlerRunnerFactory factory = new RecyclingOperationHandlerRunnerFactory(
+                new InstantiatingOperationHandlerRunnerFactory(), freeListCapacity );
+
+        // When
+        OperationHandlerRunnableContext context1 = factory.newOperationHandlerRunner();
+        OperationHandlerRunnableContext context2 = factory.newOperationHandlerRunner();
+        context1.cleanup();
+        // free list is full, so context2 is dropped
+        context2.cleanup();
+
+        // Then
+        assertThat( context1, not( sameInstance( context2 ) ) );
+        assertThat( factory.newOperationHandlerRunner(), sameInstance( context1 ) );
+        OperationHandlerRunnableContext context3 = factory.newOperationHandlerRunner();
+        assertThat( context3 == context1 || context3 == context2, is( false ) );
+        factory.shutdown();
+    }
+
+    @Test
+    public void shouldNotRecycleContextsReleasedAfterShutdown() throws Exception
+    {
+        // Given
+        OperationHandlerRunnerFactory factory =
+                new RecyclingOperationHandlerRunnerFactory( new InstantiatingOperationHandlerRunnerFactory() );
+        OperationHandlerRunnableContext context = factory.newOperationHandlerRunner();
+
+        // When
+        factory.shutdown();
+        context.cleanup();
+
+        // Then
+        assertThat( factory.newOperationHandlerRunner(), not( sameInstance( context ) ) );
+    }
+}
@@ -39,6 +39,49 @@ import static org.hamcrest.MatcherAssert.assertThat;
 public class WorkloadStreamsTest
 {
 
+    @Test
+    public void shouldPartitionEveryStreamRoundRobinWithoutChangingSchedule()
+    {
+        // Given
+        int partitionCount = 3;
+        int operationCount = 10;
+
+        // When
+        List<List<Long>> dependencyStartTimes = Lists.newArrayList();
+        List<List<Long>> nonDependencyStartTimes = Lists.newArrayList();
+        for ( int partitionIndex = 0; partitionIndex < partitionCount; partitionIndex++ )
+        {
+            WorkloadStreams partition =
+                    WorkloadStreams.partitionWorkloadStreams( getWorkloadStreams(), partitionCount, partitionIndex );
+            dependencyStartTimes.add( scheduledStartTimes(
+                    Iterators.limit( partition.asynchronousStream().dependencyOperations(), operationCount ) ) );
+            nonDependencyStartTimes.add( scheduledStartTimes(
+                    Iterators.limit( partition.asynchronousStream().nonDependencyOperations(), operationCount ) ) );
+        }
+
+        // Then
+        // dependency operations are every 10 ms from 0, non dependency operations every 100 ms from 2
+        for ( int partitionIndex = 0; partitionIndex < partitionCount; partitionIndex++ )
+        {
+            for ( int i = 0; i < operationCount; i++ )
+            {
+                long position = (long) i * partitionCount + partitionIndex;
+                assertThat( dependencyStartTimes.get( partitionIndex ).get( i ), equalTo( position * 10 ) );
+                assertThat( nonDependencyStartTimes.get( partitionIndex ).get( i ), equalTo( 2 + position * 100 ) );
+            }
+        }
+    }
+
+    private static List<Long> scheduledStartTimes( Iterator<Operation> operations )
+    {
+        List<Long> scheduledStartTimes = Lists.newArrayList();
+        while ( operations.hasNext() )
+        {
+            scheduledStartTimes.add( operations.next().scheduledStartTimeAsMilli() );
+        }
+        return scheduledStartTimes;
+    }
+
     @Test
     public void shouldReturnSameWorkloadStreamsAsCreatedWith()
     {
@@ -0,0 +1,87 @@
+package org.ldbcouncil.snb.driver.client;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+public class TimeCompressionRatioSearchTest
+{
+    @Test
+    public void shouldBracketDownwardsThenBisectToLowestPassingRatio()
+    {
+        // Given
+        double initialRatio = 1.0;
+        double precision = 0.05;
+        // ratios at or above 0.1 pass
+        double boundaryRatio = 0.1;
+        TimeCompressionRatioSearch search = new TimeCompressionRatioSearch( initialRatio, 2.0, precision, 100 );
+
+        // When
+        List<Double> probedRatios = run( search, boundaryRatio );
+
+        // Then
+        assertThat( probedRatios.subList( 0, 5 ), equalTo( List.of( 1.0, 0.5, 0.25, 0.125, 0.0625 ) ) );
+        assertThat( search.lowestPassingRatio() >= boundaryRatio, is( true ) );
+        assertThat( search.lowestPassingRatio(), lessThanOrEqualTo( boundaryRatio * (1 + precision) ) );
+    }
+
+    @Test
+    public void shouldBracketUpwardsWhenInitialRatioFails()
+    {
+        // Given
+        double precision = 0.01;
+        double boundaryRatio = 3.0;
+        TimeCompressionRatioSearch search = new TimeCompressionRatioSearch( 1.0, 2.0, precision, 100 );
+
+        // When
+        List<Double> probedRatios = run( search, boundaryRatio );
+
+        // Then
+        assertThat( probedRatios.subList( 0, 3 ), equalTo( List.of( 1.0, 2.0, 4.0 ) ) );
+        assertThat( search.lowestPassingRatio() >= boundaryRatio, is( true ) );
+        assertThat( search.lowestPassingRatio(), lessThanOrEqualTo( boundaryRatio * (1 + precision) ) );
+    }
+
+    @Test
+    public void shouldStopAfterMaxProbeCountWhenNoRatioPasses()
+    {
+        // Given
+        int maxProbeCount = 5;
+        TimeCompressionRatioSearch search = new TimeCompressionRatioSearch( 1.0, 2.0, 0.05, maxProbeCount );
+
+        // When
+        List<Double> probedRatios = run( search, Double.MAX_VALUE );
+
+        // Then
+        assertThat( probedRatios.size(), equalTo( maxProbeCount ) );
+        assertThat( Double.isNaN( search.lowestPassingRatio() ), is( true ) );
+    }
+
+    @Test
+    public void shouldUseNextStricterStartTimeDelayPercentileForToleratedPercentage()
+    {
+        assertThat( SearchMaximumThroughputMode.startTimeDelayPercentileFor( 0.05 ), closeTo( 95, 0 ) );
+        assertThat( SearchMaximumThroughputMode.startTimeDelayPercentileFor( 0.01 ), closeTo( 99, 0 ) );
+        assertThat( SearchMaximumThroughputMode.startTimeDelayPercentileFor( 0.02 ), closeTo( 99, 0 ) );
+        assertThat( SearchMaximumThroughputMode.startTimeDelayPercentileFor( 0.001 ), closeTo( 99.9, 0 ) );
+    }
+
+    private static List<Double> run( TimeCompressionRatioSearch search, double boundaryRatio )
+    {
+        List<Double> probedRatios = new ArrayList<>();
+        while ( search.hasNextRatio() )
+        {
+            double ratio = search.nextRatio();
+            probedRatios.add( ratio );
+            search.report( ratio, ratio >= boundaryRatio );
+        }
+        return probedRatios;
+    }
+}
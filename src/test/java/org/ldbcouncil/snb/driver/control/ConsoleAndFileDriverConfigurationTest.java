@@ -1,6 +1,7 @@
 package org.ldbcouncil.snb.driver.control;
 
 import com.google.common.collect.Lists;
+import org.ldbcouncil.snb.driver.runtime.executor.VirtualThreadOperationExecutor;
 import org.ldbcouncil.snb.driver.util.MapUtils;
 import org.ldbcouncil.snb.driver.workloads.interactive.LdbcSnbInteractiveWorkload;
 import org.ldbcouncil.snb.driver.workloads.interactive.db.DummyLdbcSnbInteractiveDb;
@@ -21,6 +22,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class ConsoleAndFileDriverConfigurationTest
 {
@@ -109,6 +111,22 @@ public class ConsoleAndFileDriverConfigurationTest
         long skipCount = 6;
         Map<String,String> paramsMap = new HashMap<>();
         boolean flushLog = false;
+        ExecutorType executorType = ExecutorType.thread_pool;
+        int executorConcurrencyLimit = 1000;
+        ResultsLogFormat resultsLogFormat = ResultsLogFormat.csv;
+        MetricsServiceType metricsServiceType = MetricsServiceType.disruptor;
+        int metricsRingSize = 1024;
+        MetricsWaitStrategy metricsWaitStrategy = MetricsWaitStrategy.blocking;
+        MetricsResultsLogConsumer metricsResultsLogConsumer = MetricsResultsLogConsumer.same;
+        SchedulingResolution schedulingResolution = SchedulingResolution.milli;
+        long metricsExpectedIntervalAsMicro = 0;
+        int partitionCount = 1;
+        int partitionIndex = 0;
+        int coordinatorPort = 0;
+        ExecutorQueueType executorQueueType = ExecutorQueueType.fifo;
+        int updateThreadCount = 0;
+        DependencyMode dependencyMode = DependencyMode.completion_time;
+        CompletionTimeServiceType completionTimeServiceType = CompletionTimeServiceType.threaded_queued;
 
         ConsoleAndFileDriverConfiguration configurationBefore = new ConsoleAndFileDriverConfiguration(
                 paramsMap,
@@ -131,7 +149,23 @@ public class ConsoleAndFileDriverConfigurationTest
                 ignoreScheduledStartTimes,
                 warmupCount,
                 skipCount,
-                flushLog
+                flushLog,
+                executorType,
+                executorConcurrencyLimit,
+                resultsLogFormat,
+                metricsServiceType,
+                metricsRingSize,
+                metricsWaitStrategy,
+                metricsResultsLogConsumer,
+                schedulingResolution,
+                metricsExpectedIntervalAsMicro,
+                partitionCount,
+                partitionIndex,
+                coordinatorPort,
+                executorQueueType,
+                updateThreadCount,
+                dependencyMode,
+                completionTimeServiceType
         );
 
         DriverConfiguration configurationAfter =
@@ -263,6 +297,70 @@ public class ConsoleAndFileDriverConfigurationTest
         assertEquals( configurationBefore, configurationAfter );
     }
 
+    @Test
+    public void fromParamsMapShouldRejectMetricsExpectedIntervalTruncatedByTimeUnit()
+            throws DriverConfigurationException
+    {
+        Map<String,String> paramsMap =
+                new HashMap<>( ConsoleAndFileDriverConfiguration.fromDefaults( "db", "workload", 1 ).asMap() );
+        paramsMap.put( ConsoleAndFileDriverConfiguration.TIME_UNIT_ARG, TimeUnit.MILLISECONDS.name() );
+
+        paramsMap.put( ConsoleAndFileDriverConfiguration.METRICS_EXPECTED_INTERVAL_ARG, "2000" );
+        assertEquals( 2000L, ConsoleAndFileDriverConfiguration.fromParamsMap( paramsMap )
+                .metricsExpectedIntervalAsMicro() );
+
+        paramsMap.put( ConsoleAndFileDriverConfiguration.METRICS_EXPECTED_INTERVAL_ARG, "500" );
+        assertThrows( DriverConfigurationException.class,
+                () -> ConsoleAndFileDriverConfiguration.fromParamsMap( paramsMap ) );
+
+        paramsMap.put( ConsoleAndFileDriverConfiguration.METRICS_EXPECTED_INTERVAL_ARG, "1500" );
+        assertThrows( DriverConfigurationException.class,
+                () -> ConsoleAndFileDriverConfiguration.fromParamsMap( paramsMap ) );
+
+        paramsMap.put( ConsoleAndFileDriverConfiguration.TIME_UNIT_ARG, TimeUnit.MICROSECONDS.name() );
+        assertEquals( 1500L, ConsoleAndFileDriverConfiguration.fromParamsMap( paramsMap )
+                .metricsExpectedIntervalAsMicro() );
+    }
+
+    @Test
+    public void fromParamsMapShouldAcceptVirtualThreadExecutorOnlyWhenVirtualThreadsAreSupported()
+            throws DriverConfigurationException
+    {
+        Map<String,String> paramsMap =
+                new HashMap<>( ConsoleAndFileDriverConfiguration.fromDefaults( "db", "workload", 1 ).asMap() );
+        paramsMap.put( ConsoleAndFileDriverConfiguration.EXECUTOR_TYPE_ARG, ExecutorType.virtual_thread.name() );
+
+        if ( VirtualThreadOperationExecutor.virtualThreadsSupported() )
+        {
+            assertEquals( ExecutorType.virtual_thread,
+                    ConsoleAndFileDriverConfiguration.fromParamsMap( paramsMap ).executorType() );
+        }
+        else
+        {
+            assertThrows( DriverConfigurationException.class,
+                    () -> ConsoleAndFileDriverConfiguration.fromParamsMap( paramsMap ) );
+        }
+    }
+
+    @Test
+    public void shouldRejectEntityDependencyModeWithDependencyPriorityExecutorQueue()
+            throws DriverConfigurationException
+    {
+        Map<String,String> paramsMap =
+                new HashMap<>( ConsoleAndFileDriverConfiguration.fromDefaults( "db", "workload", 1 ).asMap() );
+        paramsMap.put( ConsoleAndFileDriverConfiguration.EXECUTOR_TYPE_ARG, ExecutorType.thread_pool.name() );
+        paramsMap.put( ConsoleAndFileDriverConfiguration.DEPENDENCY_MODE_ARG, DependencyMode.entity.name() );
+        DriverConfiguration configuration = ConsoleAndFileDriverConfiguration.fromParamsMap( paramsMap );
+
+        paramsMap.put( ConsoleAndFileDriverConfiguration.EXECUTOR_QUEUE_TYPE_ARG,
+                ExecutorQueueType.dependency_priority.name() );
+        assertThrows( DriverConfigurationException.class,
+                () -> ConsoleAndFileDriverConfiguration.fromParamsMap( paramsMap ) );
+        assertThrows( DriverConfigurationException.class,
+                () -> configuration.applyArg( ConsoleAndFileDriverConfiguration.EXECUTOR_QUEUE_TYPE_ARG,
+                        ExecutorQueueType.dependency_priority.name() ) );
+    }
+
     @Test
     public void fromDefaultsWithoutChecksShouldNotFailIfRequiredAreNotProvided() throws DriverConfigurationException
     {
@@ -554,6 +652,22 @@ public class ConsoleAndFileDriverConfigurationTest
         long warmupCount = 10;
         long skipCount = 100;
         boolean flushLog = false;
+        ExecutorType executorType = ExecutorType.thread_pool;
+        int executorConcurrencyLimit = 1000;
+        ResultsLogFormat resultsLogFormat = ResultsLogFormat.csv;
+        MetricsServiceType metricsServiceType = MetricsServiceType.disruptor;
+        int metricsRingSize = 1024;
+        MetricsWaitStrategy metricsWaitStrategy = MetricsWaitStrategy.blocking;
+        MetricsResultsLogConsumer metricsResultsLogConsumer = MetricsResultsLogConsumer.same;
+        SchedulingResolution schedulingResolution = SchedulingResolution.milli;
+        long metricsExpectedIntervalAsMicro = 0;
+        int partitionCount = 1;
+        int partitionIndex = 0;
+        int coordinatorPort = 0;
+        ExecutorQueueType executorQueueType = ExecutorQueueType.fifo;
+        int updateThreadCount = 0;
+        DependencyMode dependencyMode = DependencyMode.completion_time;
+        CompletionTimeServiceType completionTimeServiceType = CompletionTimeServiceType.threaded_queued;
 
         ConsoleAndFileDriverConfiguration params = new ConsoleAndFileDriverConfiguration(
                 paramsMap,
@@ -576,7 +690,23 @@ public class ConsoleAndFileDriverConfigurationTest
                 ignoreScheduledStartTimes,
                 warmupCount,
                 skipCount,
-                flushLog
+                flushLog,
+                executorType,
+                executorConcurrencyLimit,
+                resultsLogFormat,
+                metricsServiceType,
+                metricsRingSize,
+                metricsWaitStrategy,
+                metricsResultsLogConsumer,
+                schedulingResolution,
+                metricsExpectedIntervalAsMicro,
+                partitionCount,
+                partitionIndex,
+                coordinatorPort,
+                executorQueueType,
+                updateThreadCount,
+                dependencyMode,
+                completionTimeServiceType
         );
 
         assertEquals( paramsMap, params.asMap());
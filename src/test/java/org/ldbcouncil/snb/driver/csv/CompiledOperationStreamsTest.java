@@ -0,0 +1,140 @@
+package org.ldbcouncil.snb.driver.csv;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.generator.EventStreamReader;
+import org.ldbcouncil.snb.driver.testutils.TestUtils;
+import org.ldbcouncil.snb.driver.util.Tuple2;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcSnbInteractiveWorkloadConfiguration;
+import org.ldbcouncil.snb.driver.workloads.interactive.QueryEventStreamReader;
+import org.ldbcouncil.snb.driver.workloads.interactive.UpdateEventStreamReader;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class CompiledOperationStreamsTest
+{
+    @TempDir
+    File temporaryFolder;
+
+    @Test
+    public void shouldDecodeSameOperationsFromCompiledStreamsAsFromParquetFiles() throws Exception
+    {
+        // Given
+        File parametersDir = TestUtils.getResource( "/snb/interactive/" );
+        CompiledOperationStreams compiledStreams = new CompiledOperationStreams( temporaryFolder );
+        Map<Integer,EventStreamReader.EventDecoder<Operation>> readDecoders = QueryEventStreamReader.getDecoders();
+        Map<Class<? extends Operation>,EventStreamReader.EventDecoder<Operation>> updateDecoders =
+                UpdateEventStreamReader.getDecoders();
+        Map<Class<? extends Operation>,String> updateStreamPaths =
+                LdbcSnbInteractiveWorkloadConfiguration.getUpdateStreamClassToPathMapping();
+        Map<Class<? extends Operation>,String> updateStreamDateColumns =
+                LdbcSnbInteractiveWorkloadConfiguration.getUpdateStreamClassToDateColumn();
+
+        try ( DuckDbConnectionState db = new DuckDbConnectionState() )
+        {
+            // When
+            for ( String filename : LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_PARAMS_FILENAMES.values() )
+            {
+                assertThat( compiledStreams.compile( db, new File( parametersDir, filename ) ), is( true ) );
+            }
+            for ( String filename : updateStreamPaths.values() )
+            {
+                assertThat( compiledStreams.compile( db, new File( parametersDir, filename ) ), is( true ) );
+            }
+            ParquetLoader parquetLoader = new ParquetLoader( db );
+            ParquetLoader compiledLoader = new ParquetLoader( db, compiledStreams );
+
+            // Then
+            for ( Map.Entry<Integer,String> entry :
+                    LdbcSnbInteractiveWorkloadConfiguration.READ_OPERATION_PARAMS_FILENAMES.entrySet() )
+            {
+                String path = new File( parametersDir, entry.getValue() ).getAbsolutePath();
+                assertThat( compiledStreams.streamFor( path ), notNullValue() );
+                EventStreamReader.EventDecoder<Operation> decoder = readDecoders.get( entry.getKey() );
+                assertSameOperations(
+                        parquetLoader.loadOperationStream( path, decoder ),
+                        compiledLoader.loadOperationStream( path, decoder ),
+                        path );
+            }
+            for ( Map.Entry<Class<? extends Operation>,String> entry : updateStreamPaths.entrySet() )
+            {
+                String path = new File( parametersDir, entry.getValue() ).getAbsolutePath();
+                String viewName = entry.getKey().getSimpleName();
+                String batchColumn = updateStreamDateColumns.get( entry.getKey() );
+                EventStreamReader.EventDecoder<Operation> decoder = updateDecoders.get( entry.getKey() );
+                parquetLoader.createViewOnParquetFile( path, viewName );
+                compiledLoader.createViewOnParquetFile( path, viewName );
+                Tuple2<Long,Long> boundaries = parquetLoader.getBoundaryValues( batchColumn, viewName );
+                assertThat( compiledLoader.getBoundaryValues( batchColumn, viewName ), equalTo( boundaries ) );
+                long batchSize = TimeUnit.DAYS.toMillis( 30 );
+                for ( long offset = boundaries._1(); offset <= boundaries._2(); offset += batchSize )
+                {
+                    assertSameOperations(
+                            parquetLoader.getOperationStreamBatch( decoder, viewName, batchColumn, offset, batchSize ),
+                            compiledLoader.getOperationStreamBatch( decoder, viewName, batchColumn, offset, batchSize ),
+                            format( "%s at %s", path, offset ) );
+                }
+            }
+        }
+    }
+
+    @Test
+    public void shouldOnlyUseCompiledStreamWhileItMatchesParquetFile() throws Exception
+    {
+        // Given
+        File parametersDir = TestUtils.getResource( "/snb/interactive/" );
+        File sourceDir = new File( temporaryFolder, "parameters" );
+        File source = new File( sourceDir, "interactive-1.parquet" );
+        sourceDir.mkdirs();
+        Files.copy( new File( parametersDir, "interactive-1.parquet" ).toPath(), source.toPath() );
+        File compiledDir = new File( temporaryFolder, "compiled" );
+
+        try ( DuckDbConnectionState db = new DuckDbConnectionState() )
+        {
+            // When/Then
+            assertThat( new CompiledOperationStreams( compiledDir ).compile( db, source ), is( true ) );
+            assertThat( new CompiledOperationStreams( compiledDir ).compile( db, source ), is( false ) );
+            assertThat( new CompiledOperationStreams( compiledDir ).streamFor( source.getPath() ), notNullValue() );
+
+            // same contents, e.g., after copying the file
+            source.setLastModified( source.lastModified() - TimeUnit.DAYS.toMillis( 1 ) );
+            assertThat( new CompiledOperationStreams( compiledDir ).streamFor( source.getPath() ), notNullValue() );
+
+            Files.copy( new File( parametersDir, "interactive-2.parquet" ).toPath(), source.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING );
+            assertThat( new CompiledOperationStreams( compiledDir ).streamFor( source.getPath() ), nullValue() );
+            assertThat( new CompiledOperationStreams( compiledDir ).compile( db, source ), is( true ) );
+            assertThat( new CompiledOperationStreams( compiledDir ).streamFor( source.getPath() ), notNullValue() );
+        }
+    }
+
+    private static void assertSameOperations( Iterator<Operation> expected, Iterator<Operation> actual, String source )
+    {
+        List<String> expectedOperations = new ArrayList<>();
+        expected.forEachRemaining( operation -> expectedOperations.add( describe( operation ) ) );
+        List<String> actualOperations = new ArrayList<>();
+        actual.forEachRemaining( operation -> actualOperations.add( describe( operation ) ) );
+        assertThat( source, actualOperations, equalTo( expectedOperations ) );
+    }
+
+    private static String describe( Operation operation )
+    {
+        return format( "%s timeStamp=%s dependencyTimeStamp=%s expiryTimeStamp=%s",
+                operation, operation.timeStamp(), operation.dependencyTimeStamp(), operation.expiryTimeStamp() );
+    }
+}
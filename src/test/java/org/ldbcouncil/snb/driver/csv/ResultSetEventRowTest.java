@@ -0,0 +1,70 @@
+package org.ldbcouncil.snb.driver.csv;
+
+import org.ldbcouncil.snb.driver.testutils.TestUtils;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ResultSetEventRowTest
+{
+    @Test
+    public void shouldReadTimestampsAsUtcEpochMilliseconds() throws Exception
+    {
+        // Given
+        File parametersDir = TestUtils.getResource( "/snb/interactive/" );
+        File[] parameterFiles = parametersDir.listFiles( ( dir, name ) -> name.endsWith( ".parquet" ) );
+        long timestampCount = 0;
+
+        try ( DuckDbConnectionState db = new DuckDbConnectionState();
+              Statement stmt = db.getConnection().createStatement() )
+        {
+            for ( File parameterFile : parameterFiles )
+            {
+                try ( ResultSet rs = stmt.executeQuery(
+                        "SELECT * FROM read_parquet('" + parameterFile.getAbsolutePath() + "');" ) )
+                {
+                    ResultSetEventRow row = new ResultSetEventRow( rs );
+                    ResultSetMetaData metaData = rs.getMetaData();
+                    while ( rs.next() )
+                    {
+                        for ( int i = 1; i <= metaData.getColumnCount(); i++ )
+                        {
+                            if ( !metaData.getColumnTypeName( i ).equals( "TIMESTAMP" ) )
+                            {
+                                continue;
+                            }
+                            // When
+                            long timestampAsMilli = row.getTimestampAsMilli( i );
+
+                            // Then
+                            String timestamp = rs.getString( i );
+                            assertThat( parameterFile.getName(), timestampAsMilli,
+                                    equalTo( Instant.parse( timestamp.replace( " ", "T" ) + "Z" ).toEpochMilli() ) );
+                            timestampCount++;
+                        }
+                    }
+                }
+            }
+            assertThat( timestampCount > 0, is( true ) );
+
+            try ( ResultSet rs = stmt.executeQuery( "SELECT 1::BIGINT, TIMESTAMP_MS '1969-12-31 23:59:59.999', NULL::TIMESTAMP;" ) )
+            {
+                ResultSetEventRow row = new ResultSetEventRow( rs );
+                rs.next();
+                assertThrows( SQLException.class, () -> row.getTimestampAsMilli( 1 ) );
+                assertThat( row.getTimestampAsMilli( 2 ), equalTo( -1L ) );
+                assertThat( row.getTimestampAsMilli( 3 ), equalTo( 0L ) );
+            }
+        }
+    }
+}
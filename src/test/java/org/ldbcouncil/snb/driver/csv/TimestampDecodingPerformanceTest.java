@@ -0,0 +1,82 @@
+package org.ldbcouncil.snb.driver.csv;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.Instant;
+
+import static java.lang.String.format;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Compares decoding the timestamp columns of a generated operation stream by parsing their strings,
+ * as read query decoders used to, with reading them as epoch milliseconds
+ */
+@Disabled
+public class TimestampDecodingPerformanceTest
+{
+    @TempDir
+    File temporaryFolder;
+
+    @Test
+    public void compareStringAndTypedTimestampDecoding() throws Exception
+    {
+        int experimentRepetitions = 5;
+        long rowCount = 10_000_000;
+        File parquetFile = new File( temporaryFolder, "timestamps.parquet" );
+        try ( DuckDbConnectionState db = new DuckDbConnectionState();
+              Statement stmt = db.getConnection().createStatement() )
+        {
+            stmt.execute( format( "COPY (SELECT range AS id, " +
+                                  "TIMESTAMP '2010-01-01' + to_milliseconds(range * 997) AS dependencyTimeStamp, " +
+                                  "TIMESTAMP '2019-12-30' AS expiryTimeStamp FROM range(%s)) TO '%s' (FORMAT PARQUET);",
+                    rowCount, parquetFile.getAbsolutePath() ) );
+            long stringDuration = 0;
+            long typedDuration = 0;
+            for ( int i = 0; i < experimentRepetitions; i++ )
+            {
+                long startTime = System.currentTimeMillis();
+                long stringChecksum = decode( stmt, parquetFile, false );
+                stringDuration += System.currentTimeMillis() - startTime;
+                startTime = System.currentTimeMillis();
+                long typedChecksum = decode( stmt, parquetFile, true );
+                typedDuration += System.currentTimeMillis() - startTime;
+                assertThat( typedChecksum, equalTo( stringChecksum ) );
+            }
+            stringDuration = stringDuration / experimentRepetitions;
+            typedDuration = typedDuration / experimentRepetitions;
+            System.out.println( format( "String timestamps %s rows in %s ms: %s rows/s",
+                    rowCount, stringDuration, rowCount * 1000 / Math.max( 1, stringDuration ) ) );
+            System.out.println( format( "Epoch millisecond timestamps %s rows in %s ms: %s rows/s",
+                    rowCount, typedDuration, rowCount * 1000 / Math.max( 1, typedDuration ) ) );
+        }
+    }
+
+    private long decode( Statement stmt, File parquetFile, boolean typed ) throws Exception
+    {
+        long checksum = 0;
+        try ( ResultSet rs = stmt.executeQuery( "SELECT * FROM read_parquet('" + parquetFile.getAbsolutePath() + "');" ) )
+        {
+            ResultSetEventRow row = new ResultSetEventRow( rs );
+            while ( rs.next() )
+            {
+                checksum += row.getLong( 1 );
+                if ( typed )
+                {
+                    checksum += row.getTimestampAsMilli( 2 ) + row.getTimestampAsMilli( 3 );
+                }
+                else
+                {
+                    checksum += Instant.parse( row.getString( 2 ).replace( " ", "T" ) + "Z" ).toEpochMilli();
+                    checksum += Instant.parse( row.getString( 3 ).replace( " ", "T" ) + "Z" ).toEpochMilli();
+                }
+            }
+        }
+        return checksum;
+    }
+}
@@ -0,0 +1,91 @@
+package org.ldbcouncil.snb.driver.generator;
+
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.WorkloadException;
+import org.ldbcouncil.snb.driver.workloads.dummy.TimedNamedOperation1;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class OperationStreamBufferTest
+{
+    @Test
+    public void shouldWaitForSlowBatchesUntilEndOfStream() throws Exception
+    {
+        // Given
+        BlockingQueue<Iterator<Operation>> blockingQueue = new LinkedBlockingQueue<>( 2 );
+        OperationStreamBuffer buffer = new OperationStreamBuffer( blockingQueue );
+        BufferedIterator operations = new BufferedIterator( buffer );
+        Thread loader = new Thread( () -> {
+            try
+            {
+                blockingQueue.put( batch( 1, 2 ) );
+                blockingQueue.put( Collections.emptyIterator() );
+                // longer than the consumer used to wait before ending the stream
+                Thread.sleep( 2_500 );
+                blockingQueue.put( batch( 3 ) );
+                blockingQueue.put( OperationStreamBuffer.END_OF_STREAM );
+            }
+            catch ( InterruptedException e )
+            {
+                Thread.currentThread().interrupt();
+            }
+        } );
+
+        // When
+        loader.start();
+        operations.init();
+        List<Long> timeStamps = new ArrayList<>();
+        while ( operations.hasNext() )
+        {
+            timeStamps.add( operations.next().timeStamp() );
+        }
+        loader.join();
+
+        // Then
+        assertThat( timeStamps, equalTo( List.of( 1L, 2L, 3L ) ) );
+        assertThat( buffer.hasNext(), is( false ) );
+        assertThat( buffer.next(), is( (Iterator<Operation>) null ) );
+        assertThat( buffer.stallSnapshot().count() >= 1, is( true ) );
+        assertThat( buffer.stallSnapshot().max() >= 2_000, is( true ) );
+    }
+
+    @Test
+    public void shouldThrowLoaderErrorAfterLoadedBatches() throws Exception
+    {
+        // Given
+        BlockingQueue<Iterator<Operation>> blockingQueue = new LinkedBlockingQueue<>( 3 );
+        blockingQueue.put( batch( 1 ) );
+        blockingQueue.put( OperationStreamBuffer.failure( new WorkloadException( "Could not load batch" ) ) );
+        BufferedIterator operations = new BufferedIterator( new OperationStreamBuffer( blockingQueue ) );
+
+        // When
+        operations.init();
+
+        // Then
+        assertThat( operations.next().timeStamp(), is( 1L ) );
+        GeneratorException e = assertThrows( GeneratorException.class, operations::hasNext );
+        assertThat( e.getCause().getMessage(), equalTo( "Could not load batch" ) );
+        assertThat( operations.hasNext(), is( false ) );
+    }
+
+    private static Iterator<Operation> batch( long... timeStamps )
+    {
+        List<Operation> operations = new ArrayList<>();
+        for ( long timeStamp : timeStamps )
+        {
+            operations.add( new TimedNamedOperation1( timeStamp, timeStamp, 0, "name" ) );
+        }
+        return operations.iterator();
+    }
+}
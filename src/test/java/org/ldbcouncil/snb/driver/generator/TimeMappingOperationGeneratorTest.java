@@ -7,6 +7,15 @@ import org.ldbcouncil.snb.driver.Workload;
 import org.ldbcouncil.snb.driver.WorkloadException;
 import org.ldbcouncil.snb.driver.WorkloadStreams;
 import org.ldbcouncil.snb.driver.control.ConsoleAndFileDriverConfiguration;
+import org.ldbcouncil.snb.driver.control.ExecutorType;
+import org.ldbcouncil.snb.driver.control.ResultsLogFormat;
+import org.ldbcouncil.snb.driver.control.MetricsResultsLogConsumer;
+import org.ldbcouncil.snb.driver.control.MetricsServiceType;
+import org.ldbcouncil.snb.driver.control.MetricsWaitStrategy;
+import org.ldbcouncil.snb.driver.control.SchedulingResolution;
+import org.ldbcouncil.snb.driver.control.CompletionTimeServiceType;
+import org.ldbcouncil.snb.driver.control.DependencyMode;
+import org.ldbcouncil.snb.driver.control.ExecutorQueueType;
 import org.ldbcouncil.snb.driver.control.DriverConfigurationException;
 import org.ldbcouncil.snb.driver.temporal.SystemTimeSource;
 import org.ldbcouncil.snb.driver.temporal.TimeSource;
@@ -337,6 +346,44 @@ public class TimeMappingOperationGeneratorTest
         assertThat( offsetAndCompressedOperations.get( 10 ).dependencyTimeStamp(), equalTo( 0L ) );
     }
 
+    @Test
+    public void shouldOffsetAndCompressWithNanosecondResolutionWithoutRoundingToMilliseconds()
+    {
+        // Given
+        Iterator<Operation> operations = gf.limit(
+                new TimedNamedOperation1Factory(
+                        // start times
+                        gf.incrementing( 10L, 1l ),
+                        // dependency times
+                        gf.incrementing( 0L, 0L ),
+                        // names
+                        gf.constant( "name1" )
+                ),
+                11
+        );
+
+        // When
+        long newStartTime = 1000L;
+        Double compressionRatio = 0.1;
+        boolean nanoResolution = true;
+        List<Operation> offsetAndCompressedOperations = ImmutableList.copyOf(
+                gf.timeOffsetAndCompress( operations, newStartTime, compressionRatio, nanoResolution ) );
+
+        // Then
+        // operations that would share a millisecond keep their spacing of 1/10 of a millisecond
+        assertThat( offsetAndCompressedOperations.size(), is( 11 ) );
+        for ( int i = 0; i < offsetAndCompressedOperations.size(); i++ )
+        {
+            Operation operation = offsetAndCompressedOperations.get( i );
+            long expectedStartTimeAsNano =
+                    TimeUnit.MILLISECONDS.toNanos( newStartTime ) + i * TimeUnit.MICROSECONDS.toNanos( 100 );
+            assertThat( operation.scheduledStartTimeAsNano(), equalTo( expectedStartTimeAsNano ) );
+            assertThat( operation.scheduledStartTimeAsMilli(),
+                    equalTo( TimeUnit.NANOSECONDS.toMillis( expectedStartTimeAsNano ) ) );
+            assertThat( operation.timeStamp(), equalTo( 10L + i ) );
+        }
+    }
+
     @Test
     public void shouldNotBreakTheMonotonicallyIncreasingScheduledStartTimesOfOperationsFromLdbcWorkload()
             throws WorkloadException, IOException, DriverConfigurationException
@@ -368,6 +415,22 @@ public class TimeMappingOperationGeneratorTest
         long warmupCount = 0;
         long skipCount = 0;
         boolean flushLog = false;
+        ExecutorType executorType = ExecutorType.thread_pool;
+        int executorConcurrencyLimit = 1000;
+        ResultsLogFormat resultsLogFormat = ResultsLogFormat.csv;
+        MetricsServiceType metricsServiceType = MetricsServiceType.disruptor;
+        int metricsRingSize = 1024;
+        MetricsWaitStrategy metricsWaitStrategy = MetricsWaitStrategy.blocking;
+        MetricsResultsLogConsumer metricsResultsLogConsumer = MetricsResultsLogConsumer.same;
+        SchedulingResolution schedulingResolution = SchedulingResolution.milli;
+        long metricsExpectedIntervalAsMicro = 0;
+        int partitionCount = 1;
+        int partitionIndex = 0;
+        int coordinatorPort = 0;
+        ExecutorQueueType executorQueueType = ExecutorQueueType.fifo;
+        int updateThreadCount = 0;
+        DependencyMode dependencyMode = DependencyMode.completion_time;
+        CompletionTimeServiceType completionTimeServiceType = CompletionTimeServiceType.threaded_queued;
 
         ConsoleAndFileDriverConfiguration configuration = new ConsoleAndFileDriverConfiguration(
                 paramsMap,
@@ -390,7 +453,23 @@ public class TimeMappingOperationGeneratorTest
                 ignoreScheduledStartTimes,
                 warmupCount,
                 skipCount,
-                flushLog
+                flushLog,
+                executorType,
+                executorConcurrencyLimit,
+                resultsLogFormat,
+                metricsServiceType,
+                metricsRingSize,
+                metricsWaitStrategy,
+                metricsResultsLogConsumer,
+                schedulingResolution,
+                metricsExpectedIntervalAsMicro,
+                partitionCount,
+                partitionIndex,
+                coordinatorPort,
+                executorQueueType,
+                updateThreadCount,
+                dependencyMode,
+                completionTimeServiceType
         );
 
         Workload workload = new LdbcSnbInteractiveWorkload();
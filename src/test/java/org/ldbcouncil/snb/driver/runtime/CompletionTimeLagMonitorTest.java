@@ -0,0 +1,84 @@
+package org.ldbcouncil.snb.driver.runtime;
+
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.runtime.coordination.DummyCompletionTimeReader;
+import org.ldbcouncil.snb.driver.temporal.ManualTimeSource;
+import org.ldbcouncil.snb.driver.workloads.dummy.TimedNamedOperation1;
+import org.junit.jupiter.api.Test;
+
+import java.util.Iterator;
+import java.util.List;
+
+import static org.hamcrest.CoreMatchers.containsString;
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class CompletionTimeLagMonitorTest
+{
+    // time stamps are event times, far from the wall clock times operations are scheduled at
+    private static final long EVENT_TIME_AS_MILLI = 1_325_376_000_000L;
+    private static final long WALL_CLOCK_TIME_AS_MILLI = 1_700_000_000_000L;
+
+    @Test
+    public void shouldMeasureLagFromScheduledStartTimeOfOldestUncompletedDependencyOperation() throws Exception
+    {
+        // Given
+        ManualTimeSource timeSource = new ManualTimeSource( WALL_CLOCK_TIME_AS_MILLI );
+        DummyCompletionTimeReader completionTimeReader = new DummyCompletionTimeReader();
+        completionTimeReader.setCompletionTimeAsMilli( EVENT_TIME_AS_MILLI - 1 );
+        CompletionTimeLagMonitor monitor = new CompletionTimeLagMonitor( timeSource, completionTimeReader );
+        Iterator<Operation> dependencyOperations = monitor.track( List.<Operation>of(
+                operation( EVENT_TIME_AS_MILLI, WALL_CLOCK_TIME_AS_MILLI + 100 ),
+                operation( EVENT_TIME_AS_MILLI + 1000, WALL_CLOCK_TIME_AS_MILLI + 200 )
+        ).iterator() );
+
+        // When
+        monitor.sample();
+
+        // Then
+        // no dependency operation was taken yet
+        assertThat( monitor.snapshot().count(), equalTo( 0L ) );
+
+        // When
+        dependencyOperations.next();
+        dependencyOperations.next();
+        monitor.sample();
+
+        // Then
+        // oldest dependency operation is not yet due
+        assertThat( monitor.snapshot().count(), equalTo( 1L ) );
+        assertThat( monitor.snapshot().max(), equalTo( 0L ) );
+
+        // When
+        timeSource.setNowFromMilli( WALL_CLOCK_TIME_AS_MILLI + 400 );
+        monitor.sample();
+
+        // Then
+        assertThat( monitor.snapshot().count(), equalTo( 2L ) );
+        assertThat( monitor.snapshot().max(), equalTo( 300L ) );
+
+        // When
+        completionTimeReader.setCompletionTimeAsMilli( EVENT_TIME_AS_MILLI );
+        monitor.sample();
+
+        // Then
+        assertThat( monitor.snapshot().count(), equalTo( 3L ) );
+        assertThat( monitor.snapshot().percentile50(), equalTo( 200L ) );
+
+        // When
+        completionTimeReader.setCompletionTimeAsMilli( EVENT_TIME_AS_MILLI + 1000 );
+        monitor.sample();
+
+        // Then
+        // every dependency operation completed
+        assertThat( monitor.snapshot().count(), equalTo( 3L ) );
+        assertThat( monitor.summary(), containsString( "samples 3" ) );
+        assertThat( dependencyOperations.hasNext(), is( false ) );
+    }
+
+    private static Operation operation( long timeStamp, long scheduledStartTimeAsMilli )
+    {
+        return new TimedNamedOperation1( scheduledStartTimeAsMilli, timeStamp, 0, "name" );
+    }
+}
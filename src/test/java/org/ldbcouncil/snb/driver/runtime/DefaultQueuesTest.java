@@ -0,0 +1,110 @@
+package org.ldbcouncil.snb.driver.runtime;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class DefaultQueuesTest
+{
+    @Test
+    public void boundedPriorityQueueShouldTakeInComparatorOrder() throws InterruptedException
+    {
+        // Given
+        BlockingQueue<Integer> queue = DefaultQueues.newAlwaysBlockingBoundedPriority( 4, Comparator.reverseOrder() );
+
+        // When
+        queue.put( 2 );
+        queue.put( 4 );
+        queue.put( 1 );
+        queue.put( 3 );
+
+        // Then
+        assertThat( queue.take(), equalTo( 4 ) );
+        assertThat( queue.take(), equalTo( 3 ) );
+        assertThat( queue.take(), equalTo( 2 ) );
+        assertThat( queue.take(), equalTo( 1 ) );
+        assertThat( queue.isEmpty(), is( true ) );
+    }
+
+    @Test
+    public void boundedPriorityQueueShouldBlockWhenFullUntilElementIsTaken() throws Exception
+    {
+        // Given
+        BlockingQueue<Integer> queue = DefaultQueues.newAlwaysBlockingBoundedPriority( 2, Comparator.naturalOrder() );
+        queue.put( 1 );
+        queue.put( 2 );
+
+        // When
+        CompletableFuture<Void> blockedPut = CompletableFuture.runAsync( () -> queue.offer( 3 ) );
+
+        // Then
+        assertThat( queue.remainingCapacity(), equalTo( 0 ) );
+        assertThat( queue.offer( 4, 10, TimeUnit.MILLISECONDS ), is( false ) );
+        assertThrows( TimeoutException.class, () -> blockedPut.get( 100, TimeUnit.MILLISECONDS ) );
+
+        // When
+        assertThat( queue.take(), equalTo( 1 ) );
+
+        // Then
+        blockedPut.get( 10, TimeUnit.SECONDS );
+        assertThat( queue.size(), equalTo( 2 ) );
+        assertThat( queue.remainingCapacity(), equalTo( 0 ) );
+    }
+
+    @Test
+    public void boundedPriorityQueueShouldReleaseCapacityOnDrainAndRemove() throws InterruptedException
+    {
+        // Given
+        BlockingQueue<Integer> queue = DefaultQueues.newAlwaysBlockingBoundedPriority( 3, Comparator.naturalOrder() );
+        queue.put( 3 );
+        queue.put( 1 );
+        queue.put( 2 );
+
+        // When
+        boolean removed = queue.remove( 2 );
+        List<Integer> drained = new ArrayList<>();
+        queue.drainTo( drained );
+
+        // Then
+        assertThat( removed, is( true ) );
+        assertThat( drained, equalTo( List.of( 1, 3 ) ) );
+        assertThat( queue.remainingCapacity(), equalTo( 3 ) );
+    }
+
+    @Test
+    public void boundedPriorityQueueShouldReleaseCapacityOnBulkRemovals() throws InterruptedException
+    {
+        // Given
+        BlockingQueue<Integer> queue = DefaultQueues.newAlwaysBlockingBoundedPriority( 6, Comparator.naturalOrder() );
+        for ( int i = 1; i <= 6; i++ )
+        {
+            queue.put( i );
+        }
+
+        // When
+        boolean removedEven = queue.removeIf( i -> 0 == i % 2 );
+        boolean removedOne = queue.removeAll( List.of( 1, 2 ) );
+        boolean retainedFive = queue.retainAll( List.of( 5 ) );
+        boolean retainedAgain = queue.retainAll( List.of( 5 ) );
+
+        // Then
+        assertThat( removedEven, is( true ) );
+        assertThat( removedOne, is( true ) );
+        assertThat( retainedFive, is( true ) );
+        assertThat( retainedAgain, is( false ) );
+        assertThat( queue.size(), equalTo( 1 ) );
+        assertThat( queue.remainingCapacity(), equalTo( 5 ) );
+        assertThat( queue.take(), equalTo( 5 ) );
+    }
+}
@@ -84,6 +84,22 @@ public class QueuePerformanceTests
         long warmupCount = 0;
         long skipCount = 0;
         boolean flushLog = false;
+        ExecutorType executorType = ExecutorType.thread_pool;
+        int executorConcurrencyLimit = 1000;
+        ResultsLogFormat resultsLogFormat = ResultsLogFormat.csv;
+        MetricsServiceType metricsServiceType = MetricsServiceType.disruptor;
+        int metricsRingSize = 1024;
+        MetricsWaitStrategy metricsWaitStrategy = MetricsWaitStrategy.blocking;
+        MetricsResultsLogConsumer metricsResultsLogConsumer = MetricsResultsLogConsumer.same;
+        SchedulingResolution schedulingResolution = SchedulingResolution.milli;
+        long metricsExpectedIntervalAsMicro = 0;
+        int partitionCount = 1;
+        int partitionIndex = 0;
+        int coordinatorPort = 0;
+        ExecutorQueueType executorQueueType = ExecutorQueueType.fifo;
+        int updateThreadCount = 0;
+        DependencyMode dependencyMode = DependencyMode.completion_time;
+        CompletionTimeServiceType completionTimeServiceType = CompletionTimeServiceType.threaded_queued;
 
         DriverConfiguration config = new ConsoleAndFileDriverConfiguration(
                 paramsMap,
@@ -106,7 +122,23 @@ public class QueuePerformanceTests
                 DisabledScheduledStartTimes,
                 warmupCount,
                 skipCount,
-                flushLog
+                flushLog,
+                executorType,
+                executorConcurrencyLimit,
+                resultsLogFormat,
+                metricsServiceType,
+                metricsRingSize,
+                metricsWaitStrategy,
+                metricsResultsLogConsumer,
+                schedulingResolution,
+                metricsExpectedIntervalAsMicro,
+                partitionCount,
+                partitionIndex,
+                coordinatorPort,
+                executorQueueType,
+                updateThreadCount,
+                dependencyMode,
+                completionTimeServiceType
         );
 
         GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42L ) );
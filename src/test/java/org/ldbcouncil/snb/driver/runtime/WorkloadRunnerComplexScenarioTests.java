@@ -7,7 +7,10 @@ import org.ldbcouncil.snb.driver.DbException;
 import org.ldbcouncil.snb.driver.Operation;
 import org.ldbcouncil.snb.driver.WorkloadException;
 import org.ldbcouncil.snb.driver.WorkloadStreams;
+import org.ldbcouncil.snb.driver.control.ConsoleAndFileDriverConfiguration;
+import org.ldbcouncil.snb.driver.control.DriverConfiguration;
 import org.ldbcouncil.snb.driver.control.DriverConfigurationException;
+import org.ldbcouncil.snb.driver.control.ExecutorType;
 import org.ldbcouncil.snb.driver.control.Log4jLoggingServiceFactory;
 import org.ldbcouncil.snb.driver.control.LoggingService;
 import org.ldbcouncil.snb.driver.control.LoggingServiceFactory;
@@ -61,7 +64,7 @@ public class WorkloadRunnerComplexScenarioTests
     @Test
     public void oneExecutorShouldNotBeAbleToStarveAnotherOfThreads()
             throws WorkloadException, CompletionTimeException, DbException, InterruptedException,
-            MetricsCollectionException, IOException
+            MetricsCollectionException, IOException, DriverConfigurationException
     {
         // fails with 1 thread, need to investigate further, probably because there is no available thread to execute
         // an operation handler in time <-- not necessarily a bug
@@ -72,7 +75,7 @@ public class WorkloadRunnerComplexScenarioTests
 
     public void oneExecutorShouldNotBeAbleToStarveAnotherOfThreads( int threadCount )
             throws WorkloadException, CompletionTimeException, DbException, InterruptedException,
-            MetricsCollectionException, IOException
+            MetricsCollectionException, IOException, DriverConfigurationException
     {
         // @formatter:off
             /*
@@ -292,7 +295,7 @@ public class WorkloadRunnerComplexScenarioTests
 
     public void oneExecutorShouldNotBeCapableOfAdvancingInitiatedTimeOfAnotherExecutor( int threadCount )
             throws CompletionTimeException, InterruptedException, MetricsCollectionException, DbException,
-            WorkloadException, IOException
+            WorkloadException, IOException, DriverConfigurationException
     {
         // @formatter:off
             /*
@@ -1048,7 +1051,8 @@ public class WorkloadRunnerComplexScenarioTests
             MetricsService metricsService,
             CompletionTimeService completionTimeService,
             Db db )
-            throws WorkloadException, CompletionTimeException, DbException, MetricsCollectionException
+            throws WorkloadException, CompletionTimeException, DbException, MetricsCollectionException,
+            DriverConfigurationException
     {
         boolean DisabledScheduledStartTime = false;
         long statusDisplayIntervalAsMilli = 0;
@@ -1056,6 +1060,17 @@ public class WorkloadRunnerComplexScenarioTests
         int operationHandlerExecutorsBoundedQueueSize = 100;
         boolean detailedStatus = false;
         LoggingServiceFactory loggingServiceFactory = new Log4jLoggingServiceFactory( detailedStatus );
+        Map<String,String> runnerParams = new HashMap<>();
+        runnerParams.put( ConsoleAndFileDriverConfiguration.THREADS_ARG, Integer.toString( threadCount ) );
+        runnerParams.put( ConsoleAndFileDriverConfiguration.EXECUTOR_TYPE_ARG, ExecutorType.thread_pool.name() );
+        runnerParams.put( ConsoleAndFileDriverConfiguration.SHOW_STATUS_ARG,
+                Long.toString( statusDisplayIntervalAsMilli ) );
+        runnerParams.put( ConsoleAndFileDriverConfiguration.SPINNER_SLEEP_DURATION_ARG,
+                Long.toString( spinnerSleepDurationAsMilli ) );
+        runnerParams.put( ConsoleAndFileDriverConfiguration.IGNORE_SCHEDULED_START_TIMES_ARG,
+                Boolean.toString( DisabledScheduledStartTime ) );
+        DriverConfiguration configuration =
+                ConsoleAndFileDriverConfiguration.fromDefaults( null, null, 0 ).applyArgs( runnerParams );
         WorkloadRunner runner = new WorkloadRunner(
                 timeSource,
                 db,
@@ -1064,10 +1079,7 @@ public class WorkloadRunnerComplexScenarioTests
                 errorReporter,
                 completionTimeService,
                 loggingServiceFactory,
-                threadCount,
-                statusDisplayIntervalAsMilli,
-                spinnerSleepDurationAsMilli,
-                DisabledScheduledStartTime,
+                configuration,
                 operationHandlerExecutorsBoundedQueueSize
         );
         return new WorkloadRunnerThread( runner, errorReporter );
@@ -9,6 +9,15 @@ import org.ldbcouncil.snb.driver.Workload;
 import org.ldbcouncil.snb.driver.WorkloadException;
 import org.ldbcouncil.snb.driver.WorkloadStreams;
 import org.ldbcouncil.snb.driver.control.ConsoleAndFileDriverConfiguration;
+import org.ldbcouncil.snb.driver.control.ExecutorType;
+import org.ldbcouncil.snb.driver.control.ResultsLogFormat;
+import org.ldbcouncil.snb.driver.control.MetricsResultsLogConsumer;
+import org.ldbcouncil.snb.driver.control.MetricsServiceType;
+import org.ldbcouncil.snb.driver.control.MetricsWaitStrategy;
+import org.ldbcouncil.snb.driver.control.SchedulingResolution;
+import org.ldbcouncil.snb.driver.control.CompletionTimeServiceType;
+import org.ldbcouncil.snb.driver.control.DependencyMode;
+import org.ldbcouncil.snb.driver.control.ExecutorQueueType;
 import org.ldbcouncil.snb.driver.control.ControlService;
 import org.ldbcouncil.snb.driver.control.DriverConfigurationException;
 import org.ldbcouncil.snb.driver.control.LocalControlService;
@@ -119,6 +128,22 @@ public class WorkloadRunnerTest
             long warmupCount = 100;
             long skipCount = 10;
             boolean flushLog = false;
+            ExecutorType executorType = ExecutorType.thread_pool;
+            int executorConcurrencyLimit = 1000;
+            ResultsLogFormat resultsLogFormat = ResultsLogFormat.csv;
+            MetricsServiceType metricsServiceType = MetricsServiceType.disruptor;
+            int metricsRingSize = 1024;
+            MetricsWaitStrategy metricsWaitStrategy = MetricsWaitStrategy.blocking;
+            MetricsResultsLogConsumer metricsResultsLogConsumer = MetricsResultsLogConsumer.same;
+            SchedulingResolution schedulingResolution = SchedulingResolution.milli;
+            long metricsExpectedIntervalAsMicro = 0;
+            int partitionCount = 1;
+            int partitionIndex = 0;
+            int coordinatorPort = 0;
+            ExecutorQueueType executorQueueType = ExecutorQueueType.fifo;
+            int updateThreadCount = 0;
+            DependencyMode dependencyMode = DependencyMode.completion_time;
+            CompletionTimeServiceType completionTimeServiceType = CompletionTimeServiceType.threaded_queued;
 
             ConsoleAndFileDriverConfiguration configuration = new ConsoleAndFileDriverConfiguration(
                     paramsMap,
@@ -141,7 +166,23 @@ public class WorkloadRunnerTest
                     ignoreScheduledStartTimes,
                     warmupCount,
                     skipCount,
-                    flushLog
+                    flushLog,
+                    executorType,
+                    executorConcurrencyLimit,
+                    resultsLogFormat,
+                    metricsServiceType,
+                    metricsRingSize,
+                    metricsWaitStrategy,
+                    metricsResultsLogConsumer,
+                    schedulingResolution,
+                    metricsExpectedIntervalAsMicro,
+                    partitionCount,
+                    partitionIndex,
+                    coordinatorPort,
+                    executorQueueType,
+                    updateThreadCount,
+                    dependencyMode,
+                    completionTimeServiceType
             );
 
             controlService = new LocalControlService(
@@ -206,10 +247,7 @@ public class WorkloadRunnerTest
                     errorReporter,
                     completionTimeService,
                     controlService.loggingServiceFactory(),
-                    controlService.configuration().threadCount(),
-                    controlService.configuration().statusDisplayIntervalAsSeconds(),
-                    controlService.configuration().spinnerSleepDurationAsMilli(),
-                    controlService.configuration().ignoreScheduledStartTimes(),
+                    controlService.configuration(),
                     boundedQueueSize );
 
             runner.getFuture().get();
@@ -322,6 +360,22 @@ public class WorkloadRunnerTest
             long warmupCount = 100;
             long skipCount = 10;
             boolean flushLog = false;
+            ExecutorType executorType = ExecutorType.thread_pool;
+            int executorConcurrencyLimit = 1000;
+            ResultsLogFormat resultsLogFormat = ResultsLogFormat.csv;
+            MetricsServiceType metricsServiceType = MetricsServiceType.disruptor;
+            int metricsRingSize = 1024;
+            MetricsWaitStrategy metricsWaitStrategy = MetricsWaitStrategy.blocking;
+            MetricsResultsLogConsumer metricsResultsLogConsumer = MetricsResultsLogConsumer.same;
+            SchedulingResolution schedulingResolution = SchedulingResolution.milli;
+            long metricsExpectedIntervalAsMicro = 0;
+            int partitionCount = 1;
+            int partitionIndex = 0;
+            int coordinatorPort = 0;
+            ExecutorQueueType executorQueueType = ExecutorQueueType.fifo;
+            int updateThreadCount = 0;
+            DependencyMode dependencyMode = DependencyMode.completion_time;
+            CompletionTimeServiceType completionTimeServiceType = CompletionTimeServiceType.threaded_queued;
 
             ConsoleAndFileDriverConfiguration configuration = new ConsoleAndFileDriverConfiguration(
                     paramsMap,
@@ -344,7 +398,23 @@ public class WorkloadRunnerTest
                     ignoreScheduledStartTimes,
                     warmupCount,
                     skipCount,
-                    flushLog
+                    flushLog,
+                    executorType,
+                    executorConcurrencyLimit,
+                    resultsLogFormat,
+                    metricsServiceType,
+                    metricsRingSize,
+                    metricsWaitStrategy,
+                    metricsResultsLogConsumer,
+                    schedulingResolution,
+                    metricsExpectedIntervalAsMicro,
+                    partitionCount,
+                    partitionIndex,
+                    coordinatorPort,
+                    executorQueueType,
+                    updateThreadCount,
+                    dependencyMode,
+                    completionTimeServiceType
             );
 
             controlService = new LocalControlService(
@@ -407,10 +477,7 @@ public class WorkloadRunnerTest
                     errorReporter,
                     completionTimeService,
                     controlService.loggingServiceFactory(),
-                    controlService.configuration().threadCount(),
-                    controlService.configuration().statusDisplayIntervalAsSeconds(),
-                    controlService.configuration().spinnerSleepDurationAsMilli(),
-                    controlService.configuration().ignoreScheduledStartTimes(),
+                    controlService.configuration(),
                     boundedQueueSize );
 
             runner.getFuture().get();
@@ -501,13 +568,57 @@ public class WorkloadRunnerTest
         {
             doShouldRunReadWriteLdbcWorkloadWithNothingDbAndReturnExpectedMetricsIncludingResultsLog(
                     threadCount,
+                    0,
+                    DependencyMode.completion_time,
+                    operationCount
+            );
+        }
+    }
+
+    @Test
+    public void shouldRunReadWriteLdbcWorkloadWithDedicatedUpdateExecutorAndReturnExpectedMetrics()
+            throws InterruptedException, DbException, WorkloadException, IOException, MetricsCollectionException,
+            CompletionTimeException, DriverConfigurationException, ExecutionException
+    {
+        List<Integer> threadCounts = Lists.newArrayList( 1, 4 );
+        long operationCount = 10000;
+        for ( int threadCount : threadCounts )
+        {
+            doShouldRunReadWriteLdbcWorkloadWithNothingDbAndReturnExpectedMetricsIncludingResultsLog(
+                    threadCount,
+                    2,
+                    DependencyMode.completion_time,
+                    operationCount
+            );
+        }
+    }
+
+    @Test
+    public void shouldRunReadWriteLdbcWorkloadWithEntityDependencyModeAndReturnExpectedMetrics()
+            throws InterruptedException, DbException, WorkloadException, IOException, MetricsCollectionException,
+            CompletionTimeException, DriverConfigurationException, ExecutionException
+    {
+        List<Integer> threadCounts = Lists.newArrayList( 1, 4 );
+        long operationCount = 10000;
+        for ( int threadCount : threadCounts )
+        {
+            doShouldRunReadWriteLdbcWorkloadWithNothingDbAndReturnExpectedMetricsIncludingResultsLog(
+                    threadCount,
+                    0,
+                    DependencyMode.entity,
+                    operationCount
+            );
+            doShouldRunReadWriteLdbcWorkloadWithNothingDbAndReturnExpectedMetricsIncludingResultsLog(
+                    threadCount,
+                    2,
+                    DependencyMode.entity,
                     operationCount
             );
         }
     }
 
     public void doShouldRunReadWriteLdbcWorkloadWithNothingDbAndReturnExpectedMetricsIncludingResultsLog(
-            int threadCount, long operationCount )
+            int threadCount, int updateThreadCount, DependencyMode dependencyMode, long operationCount )
             throws InterruptedException, DbException, WorkloadException, IOException, MetricsCollectionException,
             CompletionTimeException, DriverConfigurationException, ExecutionException
     {
@@ -543,6 +654,20 @@ public class WorkloadRunnerTest
             long warmupCount = 100;
             long skipCount = 10;
             boolean flushLog = false;
+            ExecutorType executorType = ExecutorType.thread_pool;
+            int executorConcurrencyLimit = 1000;
+            ResultsLogFormat resultsLogFormat = ResultsLogFormat.csv;
+            MetricsServiceType metricsServiceType = MetricsServiceType.disruptor;
+            int metricsRingSize = 1024;
+            MetricsWaitStrategy metricsWaitStrategy = MetricsWaitStrategy.blocking;
+            MetricsResultsLogConsumer metricsResultsLogConsumer = MetricsResultsLogConsumer.same;
+            SchedulingResolution schedulingResolution = SchedulingResolution.milli;
+            long metricsExpectedIntervalAsMicro = 0;
+            int partitionCount = 1;
+            int partitionIndex = 0;
+            int coordinatorPort = 0;
+            ExecutorQueueType executorQueueType = ExecutorQueueType.fifo;
+            CompletionTimeServiceType completionTimeServiceType = CompletionTimeServiceType.threaded_queued;
 
             ConsoleAndFileDriverConfiguration configuration = new ConsoleAndFileDriverConfiguration(
                     paramsMap,
@@ -565,7 +690,23 @@ public class WorkloadRunnerTest
                     ignoreScheduledStartTimes,
                     warmupCount,
                     skipCount,
-                    flushLog
+                    flushLog,
+                    executorType,
+                    executorConcurrencyLimit,
+                    resultsLogFormat,
+                    metricsServiceType,
+                    metricsRingSize,
+                    metricsWaitStrategy,
+                    metricsResultsLogConsumer,
+                    schedulingResolution,
+                    metricsExpectedIntervalAsMicro,
+                    partitionCount,
+                    partitionIndex,
+                    coordinatorPort,
+                    executorQueueType,
+                    updateThreadCount,
+                    dependencyMode,
+                    completionTimeServiceType
             );
 
             controlService = new LocalControlService(
@@ -628,10 +769,7 @@ public class WorkloadRunnerTest
                     errorReporter,
                     completionTimeService,
                     controlService.loggingServiceFactory(),
-                    controlService.configuration().threadCount(),
-                    controlService.configuration().statusDisplayIntervalAsSeconds(),
-                    controlService.configuration().spinnerSleepDurationAsMilli(),
-                    controlService.configuration().ignoreScheduledStartTimes(),
+                    controlService.configuration(),
                     boundedQueueSize );
 
             runner.getFuture().get();
@@ -810,6 +948,22 @@ public class WorkloadRunnerTest
             long warmupCount = 100;
             long skipCount = 10;
             boolean flushLog = false;
+            ExecutorType executorType = ExecutorType.thread_pool;
+            int executorConcurrencyLimit = 1000;
+            ResultsLogFormat resultsLogFormat = ResultsLogFormat.csv;
+            MetricsServiceType metricsServiceType = MetricsServiceType.disruptor;
+            int metricsRingSize = 1024;
+            MetricsWaitStrategy metricsWaitStrategy = MetricsWaitStrategy.blocking;
+            MetricsResultsLogConsumer metricsResultsLogConsumer = MetricsResultsLogConsumer.same;
+            SchedulingResolution schedulingResolution = SchedulingResolution.milli;
+            long metricsExpectedIntervalAsMicro = 0;
+            int partitionCount = 1;
+            int partitionIndex = 0;
+            int coordinatorPort = 0;
+            ExecutorQueueType executorQueueType = ExecutorQueueType.fifo;
+            int updateThreadCount = 0;
+            DependencyMode dependencyMode = DependencyMode.completion_time;
+            CompletionTimeServiceType completionTimeServiceType = CompletionTimeServiceType.threaded_queued;
 
             ConsoleAndFileDriverConfiguration configuration = new ConsoleAndFileDriverConfiguration(
                     paramsMap,
@@ -832,7 +986,23 @@ public class WorkloadRunnerTest
                     ignoreScheduledStartTimes,
                     warmupCount,
                     skipCount,
-                    flushLog
+                    flushLog,
+                    executorType,
+                    executorConcurrencyLimit,
+                    resultsLogFormat,
+                    metricsServiceType,
+                    metricsRingSize,
+                    metricsWaitStrategy,
+                    metricsResultsLogConsumer,
+                    schedulingResolution,
+                    metricsExpectedIntervalAsMicro,
+                    partitionCount,
+                    partitionIndex,
+                    coordinatorPort,
+                    executorQueueType,
+                    updateThreadCount,
+                    dependencyMode,
+                    completionTimeServiceType
             );
 
             controlService = new LocalControlService(
@@ -889,10 +1059,7 @@ public class WorkloadRunnerTest
                     errorReporter,
                     completionTimeService,
                     controlService.loggingServiceFactory(),
-                    controlService.configuration().threadCount(),
-                    controlService.configuration().statusDisplayIntervalAsSeconds(),
-                    controlService.configuration().spinnerSleepDurationAsMilli(),
-                    controlService.configuration().ignoreScheduledStartTimes(),
+                    controlService.configuration(),
                     boundedQueueSize );
 
             runner.getFuture().get();
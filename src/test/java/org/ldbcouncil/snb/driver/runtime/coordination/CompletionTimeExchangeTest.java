@@ -0,0 +1,129 @@
+package org.ldbcouncil.snb.driver.runtime.coordination;
+
+import org.ldbcouncil.snb.driver.runtime.scheduling.CompletionTimeWaitQueue;
+import org.ldbcouncil.snb.driver.runtime.scheduling.Spinner;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class CompletionTimeExchangeTest
+{
+    private static final long TIMEOUT_AS_MILLI = TimeUnit.SECONDS.toMillis( 10 );
+
+    @Test
+    public void shouldAgreeOnLatestStartTimeAndShareLowestCompletionTime() throws Exception
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeExchangeServer server = new CompletionTimeExchangeServer( 0, 2 );
+        CompletionTimeExchangeClient client0 = new CompletionTimeExchangeClient( server.port(), 0 );
+        CompletionTimeExchangeClient client1 = new CompletionTimeExchangeClient( server.port(), 1 );
+        try
+        {
+            // When
+            CompletableFuture<Long> agreedStartTime0 = CompletableFuture.supplyAsync( () -> agree( client0, 100 ) );
+            long agreedStartTime1 = client1.agreeOnStartTimeAsMilli( 200 );
+
+            // Then
+            assertThat( agreedStartTime0.get( TIMEOUT_AS_MILLI, TimeUnit.MILLISECONDS ), equalTo( 200L ) );
+            assertThat( agreedStartTime1, equalTo( 200L ) );
+
+            // Given
+            CompletionTimeService service0 = assistant.newDistributedCompletionTimeService( client0 );
+            CompletionTimeService service1 = assistant.newDistributedCompletionTimeService( client1 );
+            service0.newCompletionTimeWriter();
+            service1.newCompletionTimeWriter();
+
+            // When
+            assistant.writeInitiatedAndCompletedTimesToAllWriters( service0, 10 );
+            assistant.writeInitiatedAndCompletedTimesToAllWriters( service0, 11 );
+
+            // Then
+            // local completion time of partition 0 is 10, but partition 1 has not reported one yet
+            assertThat( waitForCompletionTime( service0, 10, 500 ), is( false ) );
+            assertThat( service0.completionTimeAsMilli(), equalTo( -1L ) );
+
+            // Given
+            // operation of partition 0 that waits for completion time 10, which only other partitions can advance
+            CompletionTimeWaitQueue waitQueue0 = new CompletionTimeWaitQueue( service0 );
+            service0.setCompletionTimeAdvancedListener( waitQueue0::completionTimeMayHaveAdvanced );
+            CompletableFuture<Long> waitDurationAsMilli0 = CompletableFuture.supplyAsync( () ->
+                    awaitCompletionTime( waitQueue0, 10 ) );
+
+            // When
+            assistant.writeInitiatedAndCompletedTimesToAllWriters( service1, 20 );
+            assistant.writeInitiatedAndCompletedTimesToAllWriters( service1, 21 );
+
+            // Then
+            // woken when the global completion time advanced, long before its park would have timed out
+            assertThat( waitDurationAsMilli0.get( TIMEOUT_AS_MILLI, TimeUnit.MILLISECONDS ) < TIMEOUT_AS_MILLI,
+                    is( true ) );
+            assertThat( waitForCompletionTime( service0, 10, TIMEOUT_AS_MILLI ), is( true ) );
+            assertThat( waitForCompletionTime( service1, 10, TIMEOUT_AS_MILLI ), is( true ) );
+            assertThat( service0.completionTimeAsMilli(), equalTo( 10L ) );
+            assertThat( service1.completionTimeAsMilli(), equalTo( 10L ) );
+
+            // When
+            service0.shutdown();
+
+            // Then
+            // partition 0 no longer holds back completion time
+            assertThat( waitForCompletionTime( service1, 20, TIMEOUT_AS_MILLI ), is( true ) );
+            assertThat( service1.completionTimeAsMilli(), equalTo( 20L ) );
+            service1.shutdown();
+        }
+        finally
+        {
+            client0.shutdown();
+            client1.shutdown();
+            server.shutdown();
+        }
+    }
+
+    private static long agree( CompletionTimeExchangeClient client, long proposedStartTimeAsMilli )
+    {
+        try
+        {
+            return client.agreeOnStartTimeAsMilli( proposedStartTimeAsMilli );
+        }
+        catch ( CompletionTimeException e )
+        {
+            throw new CompletionException( e );
+        }
+    }
+
+    private static long awaitCompletionTime( CompletionTimeWaitQueue waitQueue, long dependencyTimeStamp )
+    {
+        long startTimeAsMilli = System.currentTimeMillis();
+        try
+        {
+            waitQueue.await( dependencyTimeStamp, TimeUnit.MINUTES.toNanos( 1 ) );
+        }
+        catch ( CompletionTimeException e )
+        {
+            throw new CompletionException( e );
+        }
+        return System.currentTimeMillis() - startTimeAsMilli;
+    }
+
+    private static boolean waitForCompletionTime( CompletionTimeService service, long completionTimeAsMilli,
+            long timeoutAsMilli ) throws CompletionTimeException
+    {
+        long deadlineAsMilli = System.currentTimeMillis() + timeoutAsMilli;
+        while ( System.currentTimeMillis() < deadlineAsMilli )
+        {
+            if ( service.completionTimeAsMilli() >= completionTimeAsMilli )
+            {
+                return true;
+            }
+            Spinner.powerNap( 1 );
+        }
+        return false;
+    }
+}
@@ -96,6 +96,7 @@ public class CompletionTimeServiceAdvancedTest
         int testRepetitions = 5;
         long totalTestDurationForSynchronousCts;
         long totalTestDurationForThreadedCts;
+        long totalTestDurationForLockFreeCts;
 
         for ( int workerThreads = 1; workerThreads < 33; workerThreads = workerThreads * 2 )
         {
@@ -127,9 +128,23 @@ public class CompletionTimeServiceAdvancedTest
                         workerThreads );
                 cts.shutdown();
             }
-            System.out.printf( "\t%s=%s\n",
+            System.out.printf( "\t%s=%s",
                     ThreadedQueuedCompletionTimeService.class.getSimpleName(),
                     TEMPORAL_UTIL.milliDurationToString( totalTestDurationForThreadedCts / testRepetitions ) );
+
+            totalTestDurationForLockFreeCts = 0;
+            for ( int i = 0; i < testRepetitions; i++ )
+            {
+                CompletionTimeService cts = completionTimeServiceAssistant.newLockFreeCompletionTimeService();
+                totalTestDurationForLockFreeCts += parallelCompletionTimeServiceTest(
+                        cts,
+                        errorReporter,
+                        workerThreads );
+                cts.shutdown();
+            }
+            System.out.printf( "\t%s=%s\n",
+                    LockFreeCompletionTimeService.class.getSimpleName(),
+                    TEMPORAL_UTIL.milliDurationToString( totalTestDurationForLockFreeCts / testRepetitions ) );
         }
     }
 
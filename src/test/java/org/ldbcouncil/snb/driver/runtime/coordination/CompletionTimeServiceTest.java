@@ -34,6 +34,25 @@ public class CompletionTimeServiceTest
         }
     }
 
+    @Test
+    public void shouldBehavePredictablyAfterInstantiationWithLockFreeImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newLockFreeCompletionTimeService();
+
+        // Then
+        try
+        {
+            shouldBehavePredictablyAfterInstantiation( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
     @Test
     public void shouldBehavePredictablyAfterInstantiationWithThreadedImplementation()
             throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
@@ -88,6 +107,25 @@ public class CompletionTimeServiceTest
         }
     }
 
+    @Test
+    public void shouldAdvanceCtWhenWriterSubmitInitiatedAndCompletedTimesWithLockFreeImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newLockFreeCompletionTimeService();
+
+        // Then
+        try
+        {
+            shouldAdvanceCtWhenWriterSubmitInitiatedAndCompletedTimes( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
     @Test
     public void shouldAdvanceCtWhenWriterSubmitInitiatedAndCompletedTimesWithThreadedImplementation()
             throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
@@ -149,6 +187,24 @@ public class CompletionTimeServiceTest
         }
     }
 
+    @Test
+    public void shouldReturnAllWritersWithLockFreeImplementation() throws CompletionTimeException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newLockFreeCompletionTimeService();
+
+        // Then
+        try
+        {
+            shouldReturnAllWriters( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
     @Test
     public void shouldReturnAllWritersWithThreadedImplementation() throws CompletionTimeException
     {
@@ -210,6 +266,25 @@ public class CompletionTimeServiceTest
         }
     }
 
+    @Test
+    public void shouldReturnNullWhenNoITNoCTWithLockFreeImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newLockFreeCompletionTimeService();
+
+        // Then
+        try
+        {
+            doShouldReturnNullWhenNoITNoCT( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
     @Test
     public void shouldReturnNullWhenNoITNoCTWithThreadedImplementation()
             throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
@@ -263,6 +338,25 @@ public class CompletionTimeServiceTest
         }
     }
 
+    @Test
+    public void shouldReturnNullWhenSomeITAndNoCTWithLockFreeImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newLockFreeCompletionTimeService();
+
+        // Then
+        try
+        {
+            doShouldReturnNullWhenSomeITAndNoCT( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
     @Test
     public void shouldReturnNullWhenSomeITAndNoCTWithThreadedImplementation()
             throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
@@ -317,6 +411,25 @@ public class CompletionTimeServiceTest
         }
     }
 
+    @Test
+    public void shouldReturnNullWhenSomeITAndSomeCTWithLockFreeImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newLockFreeCompletionTimeService();
+
+        // Then
+        try
+        {
+            doShouldReturnNullWhenSomeITAndSomeCT( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
     @Test
     public void shouldReturnNullWhenSomeITAndSomeCTWithThreadedImplementation()
             throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
@@ -372,6 +485,25 @@ public class CompletionTimeServiceTest
         }
     }
 
+    @Test
+    public void shouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWithLockFreeImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newLockFreeCompletionTimeService();
+
+        // Then
+        try
+        {
+            doShouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWhen( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
     @Test
     public void shouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWithThreadedImplementation()
             throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
@@ -524,6 +656,25 @@ public class CompletionTimeServiceTest
         }
     }
 
+    @Test
+    public void shouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWithDuplicateTimesWithLockFreeImplementation()
+            throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newLockFreeCompletionTimeService();
+
+        // Then
+        try
+        {
+            doShouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWithDuplicateTimes( cts );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
+
     @Test
     public void shouldReturnTimeOfEarliestITThatHasHadNoMatchingCTWithDuplicateTimesWithThreadedImplementation()
             throws CompletionTimeException, InterruptedException, ExecutionException, TimeoutException
@@ -630,4 +781,80 @@ public class CompletionTimeServiceTest
         ctWriter.submitInitiatedTime( 6000L );
         assertThat( cts.completionTimeAsMilliFuture().get( 1, TimeUnit.SECONDS ), is( 5000L ) );
     }
+
+    @Test
+    public void shouldAdvanceCtAcrossChunksWhenHandlerThreadsCompleteConcurrentlyWithLockFreeImplementation()
+            throws Exception
+    {
+        // Given
+        CompletionTimeServiceAssistant assistant = new CompletionTimeServiceAssistant();
+        CompletionTimeService cts = assistant.newLockFreeCompletionTimeService();
+        CompletionTimeWriter ctWriter = cts.newCompletionTimeWriter();
+        int timeCount = 5_000;
+        int threadCount = 4;
+        try
+        {
+            // initiated [1..5000], each time twice
+            for ( long time = 1; time <= timeCount; time++ )
+            {
+                ctWriter.submitInitiatedTime( time );
+                ctWriter.submitInitiatedTime( time );
+            }
+            assertThat( cts.completionTimeAsMilli(), is( -1L ) );
+
+            // When
+            // completed [1..5000] twice, interleaved across threads, while the service is read
+            Thread[] threads = new Thread[threadCount];
+            ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+            for ( int i = 0; i < threadCount; i++ )
+            {
+                int offset = i;
+                threads[i] = new Thread( () ->
+                {
+                    try
+                    {
+                        for ( long time = timeCount - offset % 2; time >= 1; time -= 2 )
+                        {
+                            ctWriter.submitCompletedTime( time );
+                            cts.completionTimeAsMilli();
+                        }
+                    }
+                    catch ( CompletionTimeException e )
+                    {
+                        errorReporter.reportError( this, ConcurrentErrorReporter.stackTraceToString( e ) );
+                    }
+                } );
+                threads[i].start();
+            }
+            for ( Thread thread : threads )
+            {
+                thread.join();
+            }
+
+            // Then
+            // every event completed, so completion time is just below the last initiated time
+            assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+            assertThat( cts.completionTimeAsMilli(), is( timeCount - 1L ) );
+            assertThat( cts.lastKnownLowestInitiatedTimeAsMilli(), is( (long) timeCount ) );
+
+            // an event can only complete once
+            boolean exceptionThrown = false;
+            try
+            {
+                ctWriter.submitCompletedTime( timeCount );
+            }
+            catch ( CompletionTimeException e )
+            {
+                exceptionThrown = true;
+            }
+            assertThat( exceptionThrown, is( true ) );
+
+            ctWriter.submitInitiatedTime( timeCount + 1 );
+            assertThat( cts.completionTimeAsMilli(), is( (long) timeCount ) );
+        }
+        finally
+        {
+            cts.shutdown();
+        }
+    }
 }
@@ -2,6 +2,10 @@ package org.ldbcouncil.snb.driver.runtime.coordination;
 
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
 
@@ -802,4 +806,43 @@ public class CompletionTimeStateManagerTest
         completionTimeStateManager.submitInitiatedTime( 6000L );
         assertThat( completionTimeStateManager.completionTimeAsMilli(), is( 5000L ) );
     }
+
+    @Test
+    public void shouldComputeSameCompletionTimeWithPrimitiveAndTreeMultiSetTrackers() throws CompletionTimeException
+    {
+        // Given
+        CompletionTimeStateManager treeMultiSetManager = new CompletionTimeStateManager(
+                CompletionTimeStateManager.InitiatedTimeTrackerImpl.createUsingTreeMultiSet(),
+                CompletionTimeStateManager.CompletedTimeTrackerImpl.createUsingTreeMultiSet()
+        );
+        CompletionTimeStateManager primitiveManager = new CompletionTimeStateManager(
+                new CompletionTimeStateManager.PrimitiveInitiatedTimeTracker( 2 ),
+                new CompletionTimeStateManager.PrimitiveCompletedTimeTracker( 2 )
+        );
+        Random random = new Random( 42 );
+        List<Long> uncompletedTimes = new ArrayList<>();
+        long initiatedTimeAsMilli = 0;
+
+        // When / Then
+        for ( int i = 0; i < 100000; i++ )
+        {
+            if ( uncompletedTimes.isEmpty() || random.nextInt( 100 ) < 55 )
+            {
+                // times are repeated sometimes, to exercise duplicates
+                initiatedTimeAsMilli += random.nextInt( 3 );
+                uncompletedTimes.add( initiatedTimeAsMilli );
+                treeMultiSetManager.submitInitiatedTime( initiatedTimeAsMilli );
+                primitiveManager.submitInitiatedTime( initiatedTimeAsMilli );
+            }
+            else
+            {
+                long completedTimeAsMilli = uncompletedTimes.remove( random.nextInt( uncompletedTimes.size() ) );
+                treeMultiSetManager.submitCompletedTime( completedTimeAsMilli );
+                primitiveManager.submitCompletedTime( completedTimeAsMilli );
+            }
+            assertThat( primitiveManager.lastKnownLowestInitiatedTimeAsMilli(),
+                    is( treeMultiSetManager.lastKnownLowestInitiatedTimeAsMilli() ) );
+            assertThat( primitiveManager.completionTimeAsMilli(), is( treeMultiSetManager.completionTimeAsMilli() ) );
+        }
+    }
 }
@@ -0,0 +1,107 @@
+package org.ldbcouncil.snb.driver.runtime.coordination;
+
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.util.Random;
+
+import static java.lang.String.format;
+
+/**
+ * Compares TreeMultiSet and primitive (ring buffer/heap) completion time trackers,
+ * with millions of operations and a large number of them in flight at any time
+ */
+@Disabled
+public class CompletionTimeTrackerPerformanceTest
+{
+    @Test
+    public void compareTrackerImplementations() throws CompletionTimeException
+    {
+        int experimentRepetitions = 3;
+        int operationCount = 2_000_000;
+        for ( int inFlightCount : new int[]{1_000, 10_000, 100_000} )
+        {
+            long[] completionOrder = completionOrder( inFlightCount, operationCount );
+            long treeMultiSetDuration = 0;
+            long primitiveDuration = 0;
+            for ( int i = 0; i < experimentRepetitions; i++ )
+            {
+                treeMultiSetDuration += doTest(
+                        new CompletionTimeStateManager(
+                                CompletionTimeStateManager.InitiatedTimeTrackerImpl.createUsingTreeMultiSet(),
+                                CompletionTimeStateManager.CompletedTimeTrackerImpl.createUsingTreeMultiSet() ),
+                        inFlightCount, completionOrder );
+                primitiveDuration += doTest(
+                        new CompletionTimeStateManager(
+                                new CompletionTimeStateManager.PrimitiveInitiatedTimeTracker(),
+                                new CompletionTimeStateManager.PrimitiveCompletedTimeTracker() ),
+                        inFlightCount, completionOrder );
+            }
+            treeMultiSetDuration = treeMultiSetDuration / experimentRepetitions;
+            primitiveDuration = primitiveDuration / experimentRepetitions;
+            System.out.println( format( "In flight [%s] (TreeMultiSet) %s ops in %s ms: %s ops/ms",
+                    inFlightCount, operationCount, treeMultiSetDuration,
+                    operationCount / Math.max( 1, treeMultiSetDuration ) ) );
+            System.out.println( format( "In flight [%s] (Primitive) %s ops in %s ms: %s ops/ms",
+                    inFlightCount, operationCount, primitiveDuration,
+                    operationCount / Math.max( 1, primitiveDuration ) ) );
+            System.out.println();
+        }
+    }
+
+    /**
+     * Initiated times are 0..operationCount-1, once the window is full every new initiated time
+     * is followed by the completion of a randomly chosen in flight time
+     */
+    private long[] completionOrder( int inFlightCount, int operationCount )
+    {
+        Random random = new Random( 42 );
+        long[] window = new long[inFlightCount];
+        long[] completionOrder = new long[operationCount];
+        int completed = 0;
+        for ( int i = 0; i < operationCount; i++ )
+        {
+            if ( i < inFlightCount )
+            {
+                window[i] = i;
+            }
+            else
+            {
+                int slot = random.nextInt( inFlightCount );
+                completionOrder[completed++] = window[slot];
+                window[slot] = i;
+            }
+        }
+        for ( int i = 0; i < inFlightCount; i++ )
+        {
+            completionOrder[completed++] = window[i];
+        }
+        return completionOrder;
+    }
+
+    private long doTest( CompletionTimeStateManager manager, int inFlightCount, long[] completionOrder )
+            throws CompletionTimeException
+    {
+        long startTimeAsMilli = System.currentTimeMillis();
+        int completed = 0;
+        for ( int i = 0; i < completionOrder.length; i++ )
+        {
+            manager.submitInitiatedTime( i );
+            if ( i >= inFlightCount )
+            {
+                manager.submitCompletedTime( completionOrder[completed++] );
+            }
+        }
+        while ( completed < completionOrder.length )
+        {
+            manager.submitCompletedTime( completionOrder[completed++] );
+        }
+        long durationAsMilli = System.currentTimeMillis() - startTimeAsMilli;
+        if ( manager.lastKnownLowestInitiatedTimeAsMilli() != completionOrder.length - 1 )
+        {
+            throw new CompletionTimeException(
+                    "Unexpected final state: " + manager.lastKnownLowestInitiatedTimeAsMilli() );
+        }
+        return durationAsMilli;
+    }
+}
@@ -23,6 +23,12 @@ public class InitiatedTimeTrackerTest
         shouldReturnNullsWhenNoTimesHaveBeenSubmitted( InitiatedTimeTrackerImpl.createUsingArrayList() );
     }
 
+    @Test
+    public void shouldReturnNullsWhenNoTimesHaveBeenSubmitted_PrimitiveImplementation()
+    {
+        shouldReturnNullsWhenNoTimesHaveBeenSubmitted( new CompletionTimeStateManager.PrimitiveInitiatedTimeTracker() );
+    }
+
     private void shouldReturnNullsWhenNoTimesHaveBeenSubmitted( CompletionTimeStateManager.InitiatedTimeTracker
             tracker )
     {
@@ -59,6 +65,13 @@ public class InitiatedTimeTrackerTest
         shouldBehaveAsExpectedUnderScenario1( InitiatedTimeTrackerImpl.createUsingArrayList() );
     }
 
+    @Test
+    public void shouldBehaveAsExpectedUnderScenario1_PrimitiveImplementation() throws CompletionTimeException
+    {
+        // small initial capacity, so ring buffer has to grow
+        shouldBehaveAsExpectedUnderScenario1( new CompletionTimeStateManager.PrimitiveInitiatedTimeTracker( 2 ) );
+    }
+
     private void shouldBehaveAsExpectedUnderScenario1( CompletionTimeStateManager.InitiatedTimeTracker tracker )
             throws CompletionTimeException
     {
@@ -0,0 +1,114 @@
+package org.ldbcouncil.snb.driver.runtime.executor;
+
+import org.ldbcouncil.snb.driver.Db;
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.OperationHandlerRunnableContext;
+import org.ldbcouncil.snb.driver.WorkloadStreams;
+import org.ldbcouncil.snb.driver.control.Log4jLoggingServiceFactory;
+import org.ldbcouncil.snb.driver.control.LoggingService;
+import org.ldbcouncil.snb.driver.runtime.ConcurrentErrorReporter;
+import org.ldbcouncil.snb.driver.runtime.coordination.DummyCompletionTimeReader;
+import org.ldbcouncil.snb.driver.runtime.coordination.DummyCompletionTimeWriter;
+import org.ldbcouncil.snb.driver.runtime.metrics.DummyCountingMetricsService;
+import org.ldbcouncil.snb.driver.runtime.scheduling.Spinner;
+import org.ldbcouncil.snb.driver.temporal.SystemTimeSource;
+import org.ldbcouncil.snb.driver.temporal.TimeSource;
+import org.ldbcouncil.snb.driver.workloads.dummy.DummyDb;
+import org.ldbcouncil.snb.driver.workloads.dummy.DummyWorkload;
+import org.ldbcouncil.snb.driver.workloads.dummy.NothingOperation;
+import org.ldbcouncil.snb.driver.workloads.dummy.TimedNamedOperation1;
+import org.ldbcouncil.snb.driver.workloads.dummy.TimedNamedOperation2;
+import org.ldbcouncil.snb.driver.workloads.dummy.TimedNamedOperation3;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Set;
+
+import static java.lang.String.format;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Measures per operation overhead of the executor hot path, i.e., retrieving and initializing the runnable context,
+ * running it and releasing it, against the dummy DB, whose handlers do no work, with a spinner that never sleeps.
+ * Overhead is reported with and without running the context, the former dominates.
+ */
+@Disabled
+public class OperationHandlerRunnableContextRetrieverPerformanceTest
+{
+    private final TimeSource timeSource = new SystemTimeSource();
+
+    @Test
+    public void measurePerOperationOverheadWithDummyDb() throws Exception
+    {
+        int experimentRepetitions = 10;
+        int operationCount = 5_000_000;
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        Db db = new DummyDb();
+        db.init( new HashMap<String,String>(), loggingService, DummyWorkload.OPERATION_TYPE_CLASS_MAPPING );
+        Set<Class<? extends Operation>> dependencyOperationTypes = new HashSet<>();
+        dependencyOperationTypes.add( TimedNamedOperation1.class );
+        dependencyOperationTypes.add( TimedNamedOperation2.class );
+        Set<Class<? extends Operation>> dependentOperationTypes = new HashSet<>();
+        dependentOperationTypes.add( TimedNamedOperation2.class );
+        dependentOperationTypes.add( TimedNamedOperation3.class );
+        WorkloadStreams.WorkloadStreamDefinition streamDefinition = new WorkloadStreams.WorkloadStreamDefinition(
+                dependencyOperationTypes,
+                dependentOperationTypes,
+                Collections.<Operation>emptyIterator(),
+                Collections.<Operation>emptyIterator(),
+                null
+        );
+        DummyCompletionTimeReader completionTimeReader = new DummyCompletionTimeReader();
+        completionTimeReader.setCompletionTimeAsMilli( Long.MAX_VALUE );
+        boolean ignoreScheduledStartTime = false;
+        long spinnerSleepDurationAsMilli = 0;
+        OperationHandlerRunnableContextRetriever retriever = new OperationHandlerRunnableContextRetriever(
+                streamDefinition,
+                db,
+                new DummyCompletionTimeWriter(),
+                completionTimeReader,
+                new Spinner( timeSource, spinnerSleepDurationAsMilli, ignoreScheduledStartTime ),
+                timeSource,
+                errorReporter,
+                new DummyCountingMetricsService()
+        );
+        Operation[] operations = new Operation[]{
+                new NothingOperation(),
+                new TimedNamedOperation1( 0, 0, 0, "name" ),
+                new TimedNamedOperation2( 0, 0, 0, "name" ),
+                new TimedNamedOperation3( 0, 0, 0, "name" )
+        };
+        operations[0].setScheduledStartTimeAsMilli( 0 );
+        operations[0].setTimeStamp( 0 );
+        operations[0].setDependencyTimeStamp( 0 );
+
+        for ( boolean runContext : new boolean[]{false, true} )
+        {
+            for ( int repetition = 0; repetition < experimentRepetitions; repetition++ )
+            {
+                long startTimeAsNano = System.nanoTime();
+                for ( int i = 0; i < operationCount; i++ )
+                {
+                    OperationHandlerRunnableContext context =
+                            retriever.getInitializedHandlerFor( operations[i & (operations.length - 1)] );
+                    if ( runContext )
+                    {
+                        context.run();
+                    }
+                    context.cleanup();
+                }
+                long durationAsNano = System.nanoTime() - startTimeAsNano;
+                System.out.println( format( "%s %s operations in %s ms: %.1f ns/operation",
+                        (runContext) ? "retrieve, run, release" : "retrieve, release     ",
+                        operationCount, durationAsNano / 1_000_000, durationAsNano / (double) operationCount ) );
+            }
+        }
+        db.close();
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+}
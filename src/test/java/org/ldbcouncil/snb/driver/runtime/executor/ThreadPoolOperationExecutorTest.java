@@ -1,6 +1,10 @@
 package org.ldbcouncil.snb.driver.runtime.executor;
 
+import org.ldbcouncil.snb.driver.AsyncOperationHandler;
+import org.ldbcouncil.snb.driver.ChildOperationGenerator;
 import org.ldbcouncil.snb.driver.Db;
+import org.ldbcouncil.snb.driver.DbConnectionState;
+import org.ldbcouncil.snb.driver.DbException;
 import org.ldbcouncil.snb.driver.Operation;
 import org.ldbcouncil.snb.driver.WorkloadStreams;
 import org.ldbcouncil.snb.driver.control.Log4jLoggingServiceFactory;
@@ -15,16 +19,26 @@ import org.ldbcouncil.snb.driver.runtime.scheduling.Spinner;
 import org.ldbcouncil.snb.driver.temporal.SystemTimeSource;
 import org.ldbcouncil.snb.driver.temporal.TimeSource;
 import org.ldbcouncil.snb.driver.workloads.dummy.DummyDb;
+import org.ldbcouncil.snb.driver.workloads.dummy.DummyResult;
 import org.ldbcouncil.snb.driver.workloads.dummy.DummyWorkload;
 import org.ldbcouncil.snb.driver.workloads.dummy.NothingOperation;
 import org.junit.jupiter.api.Test;
 
+import java.io.IOException;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThan;
 
 public class ThreadPoolOperationExecutorTest
 {
@@ -240,4 +254,321 @@ public class ThreadPoolOperationExecutorTest
         assertThat( exceptionThrown, is( true ) );
         assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
     }
+
+    @Test
+    public void executorShouldKeepAsynchronousOperationsInFlightWithoutOccupyingThreads() throws Exception
+    {
+        // Given
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        TimeSource timeSource = new SystemTimeSource();
+        boolean ignoreScheduledStartTime = false;
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        Spinner spinner = new Spinner( timeSource, Spinner.DEFAULT_SLEEP_DURATION_10_MILLI, ignoreScheduledStartTime );
+        CompletionTimeWriter dummyCompletionTimeWriter = new DummyCompletionTimeWriter();
+        DummyCompletionTimeReader dummyCompletionTimeReader = new DummyCompletionTimeReader();
+        dummyCompletionTimeReader.setCompletionTimeAsMilli( Long.MAX_VALUE );
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        int childOperationCount = 2;
+        WorkloadStreams.WorkloadStreamDefinition streamDefinition = new WorkloadStreams.WorkloadStreamDefinition(
+                new HashSet<Class<? extends Operation>>(),
+                new HashSet<Class<? extends Operation>>(),
+                Collections.<Operation>emptyIterator(),
+                Collections.<Operation>emptyIterator(),
+                new CountingChildOperationGenerator( childOperationCount, 0 )
+        );
+        Db db = new AsyncDummyDb();
+        db.init(
+                new HashMap<String,String>(),
+                loggingService,
+                DummyWorkload.OPERATION_TYPE_CLASS_MAPPING
+        );
+        AsyncNothingOperationHandler.reset();
+
+        // one thread, yet all operations are in flight at once
+        int threadCount = 1;
+        int boundedQueueSize = DefaultQueues.DEFAULT_BOUND_1000;
+        int asyncConcurrencyLimit = 100;
+        int operationCount = 10;
+
+        OperationExecutor executor = new ThreadPoolOperationExecutor(
+                threadCount,
+                boundedQueueSize,
+                asyncConcurrencyLimit,
+                db,
+                streamDefinition,
+                dummyCompletionTimeWriter,
+                dummyCompletionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                streamDefinition.childOperationGenerator()
+        );
+
+        // When
+        for ( int i = 0; i < operationCount; i++ )
+        {
+            Operation operation = new NothingOperation();
+            operation.setScheduledStartTimeAsMilli( timeSource.nowAsMilli() );
+            operation.setTimeStamp( operation.scheduledStartTimeAsMilli() );
+            operation.setDependencyTimeStamp( 0l );
+            executor.execute( operation );
+        }
+
+        while ( AsyncNothingOperationHandler.STARTED.get() < operationCount )
+        {
+            // wait for handlers to start
+            Spinner.powerNap( 10 );
+        }
+
+        // Then
+        assertThat( executor.uncompletedOperationHandlerCount(), is( (long) operationCount ) );
+        assertThat( metricsService.count(), is( 0l ) );
+
+        // When
+        AsyncNothingOperationHandler.RESPONSES.complete( null );
+
+        while ( executor.uncompletedOperationHandlerCount() > 0 )
+        {
+            // wait for handlers and their children to complete
+            Spinner.powerNap( 100 );
+        }
+
+        // Then
+        assertThat( AsyncNothingOperationHandler.STARTED.get(), is( operationCount * (1 + childOperationCount) ) );
+        assertThat( metricsService.count(), is( (long) operationCount * (1 + childOperationCount) ) );
+        executor.shutdown( 1000l );
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+
+    @Test
+    public void executorShouldNotHoldWorkerForChildOperationsWaitingForTheirScheduledStartTime() throws Exception
+    {
+        // Given
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        TimeSource timeSource = new SystemTimeSource();
+        boolean ignoreScheduledStartTime = false;
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        Spinner spinner = new Spinner( timeSource, Spinner.DEFAULT_SLEEP_DURATION_10_MILLI, ignoreScheduledStartTime );
+        CompletionTimeWriter dummyCompletionTimeWriter = new DummyCompletionTimeWriter();
+        DummyCompletionTimeReader dummyCompletionTimeReader = new DummyCompletionTimeReader();
+        dummyCompletionTimeReader.setCompletionTimeAsMilli( Long.MAX_VALUE );
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        int childOperationCount = 3;
+        long childOperationIntervalAsMilli = 500;
+        WorkloadStreams.WorkloadStreamDefinition streamDefinition = new WorkloadStreams.WorkloadStreamDefinition(
+                new HashSet<Class<? extends Operation>>(),
+                new HashSet<Class<? extends Operation>>(),
+                Collections.<Operation>emptyIterator(),
+                Collections.<Operation>emptyIterator(),
+                new CountingChildOperationGenerator( childOperationCount, childOperationIntervalAsMilli )
+        );
+        Db db = new DummyDb();
+        db.init(
+                new HashMap<String,String>(),
+                loggingService,
+                DummyWorkload.OPERATION_TYPE_CLASS_MAPPING
+        );
+
+        // one worker, so if it ran the child operations of the parent, the second operation would wait for them
+        int threadCount = 1;
+        int boundedQueueSize = DefaultQueues.DEFAULT_BOUND_1000;
+
+        OperationExecutor executor = new ThreadPoolOperationExecutor(
+                threadCount,
+                boundedQueueSize,
+                db,
+                streamDefinition,
+                dummyCompletionTimeWriter,
+                dummyCompletionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                streamDefinition.childOperationGenerator()
+        );
+
+        long startTimeAsMilli = timeSource.nowAsMilli();
+        Operation parentOperation = new NothingOperation();
+        parentOperation.setScheduledStartTimeAsMilli( startTimeAsMilli );
+        parentOperation.setTimeStamp( startTimeAsMilli );
+        parentOperation.setDependencyTimeStamp( 0l );
+        Operation operation = new NothingOperation();
+        operation.setScheduledStartTimeAsMilli( startTimeAsMilli + 100 );
+        operation.setTimeStamp( startTimeAsMilli + 100 );
+        operation.setDependencyTimeStamp( 0l );
+
+        // When
+        executor.execute( parentOperation );
+        executor.execute( operation );
+
+        while ( metricsService.count() < 2 )
+        {
+            // wait for parent and second operation to finish
+            Spinner.powerNap( 10 );
+        }
+
+        // Then
+        // second operation completed before the first child operation was scheduled to start
+        assertThat( timeSource.nowAsMilli() - startTimeAsMilli, lessThan( childOperationIntervalAsMilli ) );
+        // first child operation is counted as uncompleted while it waits for its scheduled start time
+        assertThat( executor.uncompletedOperationHandlerCount(), greaterThanOrEqualTo( 1l ) );
+
+        while ( executor.uncompletedOperationHandlerCount() > 0 )
+        {
+            // wait for child operations to finish
+            Spinner.powerNap( 100 );
+        }
+
+        // both operations have child operations
+        assertThat( metricsService.count(), is( 2l + 2 * childOperationCount ) );
+        executor.shutdown( 1000l );
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    @Test
+    public void executorShouldCleanUpAndReportChildOperationsNotYetDueAtShutdown() throws Exception
+    {
+        // Given
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        TimeSource timeSource = new SystemTimeSource();
+        boolean ignoreScheduledStartTime = false;
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        Spinner spinner = new Spinner( timeSource, Spinner.DEFAULT_SLEEP_DURATION_10_MILLI, ignoreScheduledStartTime );
+        CompletionTimeWriter dummyCompletionTimeWriter = new DummyCompletionTimeWriter();
+        DummyCompletionTimeReader dummyCompletionTimeReader = new DummyCompletionTimeReader();
+        dummyCompletionTimeReader.setCompletionTimeAsMilli( Long.MAX_VALUE );
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        WorkloadStreams.WorkloadStreamDefinition streamDefinition = new WorkloadStreams.WorkloadStreamDefinition(
+                new HashSet<Class<? extends Operation>>(),
+                new HashSet<Class<? extends Operation>>(),
+                Collections.<Operation>emptyIterator(),
+                Collections.<Operation>emptyIterator(),
+                new CountingChildOperationGenerator( 1, 60_000 )
+        );
+        Db db = new DummyDb();
+        db.init(
+                new HashMap<String,String>(),
+                loggingService,
+                DummyWorkload.OPERATION_TYPE_CLASS_MAPPING
+        );
+
+        OperationExecutor executor = new ThreadPoolOperationExecutor(
+                1,
+                DefaultQueues.DEFAULT_BOUND_1000,
+                db,
+                streamDefinition,
+                dummyCompletionTimeWriter,
+                dummyCompletionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                streamDefinition.childOperationGenerator()
+        );
+
+        Operation parentOperation = new NothingOperation();
+        parentOperation.setScheduledStartTimeAsMilli( timeSource.nowAsMilli() );
+        parentOperation.setTimeStamp( timeSource.nowAsMilli() );
+        parentOperation.setDependencyTimeStamp( 0l );
+
+        // When
+        executor.execute( parentOperation );
+        while ( metricsService.count() < 1 || executor.uncompletedOperationHandlerCount() > 1 )
+        {
+            // wait for parent to finish, its child operation waits a minute for its scheduled start time
+            Spinner.powerNap( 10 );
+        }
+        assertThat( executor.uncompletedOperationHandlerCount(), is( 1l ) );
+        executor.shutdown( 1000l );
+
+        // Then
+        assertThat( executor.uncompletedOperationHandlerCount(), is( 0l ) );
+        assertThat( metricsService.count(), is( 1l ) );
+        assertThat( errorReporter.errorEncountered(), is( true ) );
+    }
+
+    public static class AsyncDummyDb extends Db
+    {
+        @Override
+        protected void onInit( Map<String,String> params, LoggingService loggingService ) throws DbException
+        {
+            registerOperationHandler( NothingOperation.class, AsyncNothingOperationHandler.class );
+        }
+
+        @Override
+        protected void onClose() throws IOException
+        {
+        }
+
+        @Override
+        protected DbConnectionState getConnectionState() throws DbException
+        {
+            return null;
+        }
+    }
+
+    /**
+     * Completes every operation on a single "driver I/O" thread, once RESPONSES has completed
+     */
+    public static class AsyncNothingOperationHandler implements AsyncOperationHandler<NothingOperation,DbConnectionState>
+    {
+        private static final ExecutorService IO_THREAD = Executors.newSingleThreadExecutor();
+        static final AtomicInteger STARTED = new AtomicInteger( 0 );
+        static CompletableFuture<Void> RESPONSES = new CompletableFuture<>();
+
+        static void reset()
+        {
+            STARTED.set( 0 );
+            RESPONSES = new CompletableFuture<>();
+        }
+
+        @Override
+        public CompletionStage<?> executeOperationAsync( NothingOperation operation,
+                DbConnectionState dbConnectionState ) throws DbException
+        {
+            STARTED.incrementAndGet();
+            return RESPONSES.thenApplyAsync( ignore -> new DummyResult(), IO_THREAD );
+        }
+    }
+
+    private static class CountingChildOperationGenerator implements ChildOperationGenerator
+    {
+        private final int childOperationCount;
+        private final long childOperationIntervalAsMilli;
+
+        private CountingChildOperationGenerator( int childOperationCount, long childOperationIntervalAsMilli )
+        {
+            this.childOperationCount = childOperationCount;
+            this.childOperationIntervalAsMilli = childOperationIntervalAsMilli;
+        }
+
+        @Override
+        public double initialState()
+        {
+            return 0;
+        }
+
+        @Override
+        public Operation nextOperation( double state, Operation operation, Object result,
+                long actualStartTimeAsMilli, long runDurationAsNano )
+        {
+            if ( state >= childOperationCount )
+            {
+                return null;
+            }
+            Operation childOperation = new NothingOperation();
+            childOperation.setScheduledStartTimeAsMilli( actualStartTimeAsMilli + childOperationIntervalAsMilli );
+            childOperation.setTimeStamp( operation.timeStamp() );
+            childOperation.setDependencyTimeStamp( 0l );
+            return childOperation;
+        }
+
+        @Override
+        public double updateState( double previousState, int previousOperationType )
+        {
+            return previousState + 1;
+        }
+    }
 }
@@ -0,0 +1,153 @@
+package org.ldbcouncil.snb.driver.runtime.executor;
+
+import org.ldbcouncil.snb.driver.Db;
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.WorkloadStreams;
+import org.ldbcouncil.snb.driver.control.ExecutorType;
+import org.ldbcouncil.snb.driver.control.Log4jLoggingServiceFactory;
+import org.ldbcouncil.snb.driver.control.LoggingService;
+import org.ldbcouncil.snb.driver.runtime.ConcurrentErrorReporter;
+import org.ldbcouncil.snb.driver.runtime.DefaultQueues;
+import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeWriter;
+import org.ldbcouncil.snb.driver.runtime.coordination.DummyCompletionTimeReader;
+import org.ldbcouncil.snb.driver.runtime.coordination.DummyCompletionTimeWriter;
+import org.ldbcouncil.snb.driver.runtime.metrics.DummyCountingMetricsService;
+import org.ldbcouncil.snb.driver.runtime.metrics.MetricsService;
+import org.ldbcouncil.snb.driver.runtime.scheduling.Spinner;
+import org.ldbcouncil.snb.driver.temporal.SystemTimeSource;
+import org.ldbcouncil.snb.driver.temporal.TimeSource;
+import org.ldbcouncil.snb.driver.workloads.interactive.LdbcSnbInteractiveWorkloadConfiguration;
+import org.ldbcouncil.snb.driver.workloads.interactive.db.DummyLdbcSnbInteractiveDb;
+import org.ldbcouncil.snb.driver.workloads.interactive.db.DummyLdbcSnbInteractiveOperationInstances;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Compares thread pool and virtual thread executors against the dummy interactive DB,
+ * where each handler parks for a fixed duration to simulate blocking on I/O
+ */
+@Disabled
+public class VirtualThreadOperationExecutorPerformanceTest
+{
+    private final TimeSource timeSource = new SystemTimeSource();
+
+    @Test
+    public void compareExecutorsWithSimulatedIoLatency() throws Exception
+    {
+        int experimentRepetitions = 5;
+        long operationCount = 20000;
+        int threadCount = 8;
+        int concurrencyLimit = 1000;
+        for ( long simulatedLatencyAsMilli : new long[]{1, 5, 20} )
+        {
+            long threadPoolDuration = 0;
+            long virtualThreadDuration = 0;
+            for ( int i = 0; i < experimentRepetitions; i++ )
+            {
+                threadPoolDuration += doTest( ExecutorType.thread_pool, threadCount, concurrencyLimit,
+                        simulatedLatencyAsMilli, operationCount );
+                virtualThreadDuration += doTest( ExecutorType.virtual_thread, threadCount, concurrencyLimit,
+                        simulatedLatencyAsMilli, operationCount );
+            }
+            threadPoolDuration = threadPoolDuration / experimentRepetitions;
+            virtualThreadDuration = virtualThreadDuration / experimentRepetitions;
+            System.out.println( format( "Latency [%s ms] (thread pool executor, %s threads) %s ops in %s ms: %s ops/s",
+                    simulatedLatencyAsMilli, threadCount, operationCount, threadPoolDuration,
+                    operationCount * 1000 / Math.max( 1, threadPoolDuration ) ) );
+            System.out.println( format( "Latency [%s ms] (virtual thread executor [supported=%s], limit %s) " +
+                                        "%s ops in %s ms: %s ops/s",
+                    simulatedLatencyAsMilli, VirtualThreadOperationExecutor.virtualThreadsSupported(),
+                    concurrencyLimit, operationCount, virtualThreadDuration,
+                    operationCount * 1000 / Math.max( 1, virtualThreadDuration ) ) );
+            System.out.println();
+        }
+    }
+
+    private long doTest( ExecutorType executorType, int threadCount, int concurrencyLimit,
+            long simulatedLatencyAsMilli, long operationCount ) throws Exception
+    {
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        boolean ignoreScheduledStartTime = true;
+        Spinner spinner = new Spinner( timeSource, 0L, ignoreScheduledStartTime );
+        CompletionTimeWriter completionTimeWriter = new DummyCompletionTimeWriter();
+        DummyCompletionTimeReader completionTimeReader = new DummyCompletionTimeReader();
+        completionTimeReader.setCompletionTimeAsMilli( Long.MAX_VALUE );
+        MetricsService metricsService = new DummyCountingMetricsService();
+        Map<String,String> dbParams = new HashMap<>();
+        dbParams.put( DummyLdbcSnbInteractiveDb.SLEEP_DURATION_NANO_ARG,
+                Long.toString( TimeUnit.MILLISECONDS.toNanos( simulatedLatencyAsMilli ) ) );
+        dbParams.put( DummyLdbcSnbInteractiveDb.SLEEP_TYPE_ARG, DummyLdbcSnbInteractiveDb.SleepType.PARK.name() );
+        Db db = new DummyLdbcSnbInteractiveDb();
+        db.init( dbParams, loggingService, LdbcSnbInteractiveWorkloadConfiguration.operationTypeToClassMapping() );
+        WorkloadStreams.WorkloadStreamDefinition streamDefinition = new WorkloadStreams.WorkloadStreamDefinition(
+                new HashSet<Class<? extends Operation>>(),
+                new HashSet<Class<? extends Operation>>(),
+                Collections.<Operation>emptyIterator(),
+                Collections.<Operation>emptyIterator(),
+                null
+        );
+        OperationExecutor executor;
+        if ( ExecutorType.virtual_thread == executorType )
+        {
+            executor = new VirtualThreadOperationExecutor(
+                    concurrencyLimit,
+                    db,
+                    streamDefinition,
+                    completionTimeWriter,
+                    completionTimeReader,
+                    spinner,
+                    timeSource,
+                    errorReporter,
+                    metricsService,
+                    streamDefinition.childOperationGenerator()
+            );
+        }
+        else
+        {
+            executor = new ThreadPoolOperationExecutor(
+                    threadCount,
+                    DefaultQueues.DEFAULT_BOUND_1000,
+                    db,
+                    streamDefinition,
+                    completionTimeWriter,
+                    completionTimeReader,
+                    spinner,
+                    timeSource,
+                    errorReporter,
+                    metricsService,
+                    streamDefinition.childOperationGenerator()
+            );
+        }
+
+        long startTimeAsMilli = timeSource.nowAsMilli();
+        for ( long i = 0; i < operationCount; i++ )
+        {
+            Operation operation = DummyLdbcSnbInteractiveOperationInstances.read1();
+            operation.setScheduledStartTimeAsMilli( startTimeAsMilli );
+            operation.setTimeStamp( startTimeAsMilli );
+            operation.setDependencyTimeStamp( 0l );
+            executor.execute( operation );
+        }
+        while ( executor.uncompletedOperationHandlerCount() > 0 )
+        {
+            Spinner.parkNap( 1 );
+        }
+        long durationAsMilli = timeSource.nowAsMilli() - startTimeAsMilli;
+
+        executor.shutdown( 1000l );
+        db.close();
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+        return durationAsMilli;
+    }
+}
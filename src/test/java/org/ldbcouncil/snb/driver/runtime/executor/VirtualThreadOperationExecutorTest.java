@@ -0,0 +1,213 @@
+package org.ldbcouncil.snb.driver.runtime.executor;
+
+import org.ldbcouncil.snb.driver.ChildOperationGenerator;
+import org.ldbcouncil.snb.driver.Db;
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.WorkloadStreams;
+import org.ldbcouncil.snb.driver.control.Log4jLoggingServiceFactory;
+import org.ldbcouncil.snb.driver.control.LoggingService;
+import org.ldbcouncil.snb.driver.runtime.ConcurrentErrorReporter;
+import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeWriter;
+import org.ldbcouncil.snb.driver.runtime.coordination.DummyCompletionTimeWriter;
+import org.ldbcouncil.snb.driver.runtime.coordination.DummyCompletionTimeReader;
+import org.ldbcouncil.snb.driver.runtime.metrics.DummyCountingMetricsService;
+import org.ldbcouncil.snb.driver.runtime.scheduling.Spinner;
+import org.ldbcouncil.snb.driver.temporal.SystemTimeSource;
+import org.ldbcouncil.snb.driver.temporal.TimeSource;
+import org.ldbcouncil.snb.driver.workloads.dummy.DummyDb;
+import org.ldbcouncil.snb.driver.workloads.dummy.DummyWorkload;
+import org.ldbcouncil.snb.driver.workloads.dummy.NothingOperation;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class VirtualThreadOperationExecutorTest
+{
+    @Test
+    public void executorShouldReturnAllResults() throws Exception
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        WorkloadStreams.WorkloadStreamDefinition streamDefinition = emptyStreamDefinition( null );
+        // concurrency limit of one, so second execute() must wait for first handler to complete
+        int concurrencyLimit = 1;
+        OperationExecutor executor = newExecutor(
+                concurrencyLimit, timeSource, errorReporter, metricsService, streamDefinition );
+
+        Operation operation1 = new NothingOperation();
+        operation1.setScheduledStartTimeAsMilli( timeSource.nowAsMilli() + 100l );
+        operation1.setTimeStamp( operation1.scheduledStartTimeAsMilli() );
+        operation1.setDependencyTimeStamp( 0l );
+
+        Operation operation2 = new NothingOperation();
+        operation2.setScheduledStartTimeAsMilli( operation1.scheduledStartTimeAsMilli() + 100l );
+        operation2.setTimeStamp( operation2.scheduledStartTimeAsMilli() );
+        operation2.setDependencyTimeStamp( 0l );
+
+        // When
+        executor.execute( operation1 );
+        executor.execute( operation2 );
+
+        while ( executor.uncompletedOperationHandlerCount() > 0 )
+        {
+            // wait for handler to finish
+            Spinner.powerNap( 100 );
+        }
+
+        // Then
+        assertThat( metricsService.count(), is( 2l ) );
+        executor.shutdown( 1000l );
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    @Test
+    public void executorShouldExecuteChildOperationsOnCompletionOfParent() throws Exception
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        int childOperationCount = 3;
+        WorkloadStreams.WorkloadStreamDefinition streamDefinition =
+                emptyStreamDefinition( new CountingChildOperationGenerator( childOperationCount ) );
+        int concurrencyLimit = 1;
+        OperationExecutor executor = newExecutor(
+                concurrencyLimit, timeSource, errorReporter, metricsService, streamDefinition );
+
+        Operation operation = new NothingOperation();
+        operation.setScheduledStartTimeAsMilli( timeSource.nowAsMilli() );
+        operation.setTimeStamp( operation.scheduledStartTimeAsMilli() );
+        operation.setDependencyTimeStamp( 0l );
+
+        // When
+        executor.execute( operation );
+
+        while ( executor.uncompletedOperationHandlerCount() > 0 )
+        {
+            // wait for handler and its children to finish
+            Spinner.powerNap( 100 );
+        }
+
+        // Then
+        assertThat( metricsService.count(), is( 1l + childOperationCount ) );
+        executor.shutdown( 1000l );
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    @Test
+    public void executorShouldThrowExceptionIfShutdownMultipleTimes() throws Exception
+    {
+        // Given
+        TimeSource timeSource = new SystemTimeSource();
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        DummyCountingMetricsService metricsService = new DummyCountingMetricsService();
+        WorkloadStreams.WorkloadStreamDefinition streamDefinition = emptyStreamDefinition( null );
+        OperationExecutor executor = newExecutor( 10, timeSource, errorReporter, metricsService, streamDefinition );
+
+        // When
+        executor.shutdown( 1000l );
+
+        // Then
+        boolean exceptionThrown = false;
+        try
+        {
+            executor.shutdown( 1000l );
+        }
+        catch ( OperationExecutorException e )
+        {
+            exceptionThrown = true;
+        }
+
+        assertThat( exceptionThrown, is( true ) );
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+    }
+
+    private WorkloadStreams.WorkloadStreamDefinition emptyStreamDefinition(
+            ChildOperationGenerator childOperationGenerator )
+    {
+        return new WorkloadStreams.WorkloadStreamDefinition(
+                new HashSet<Class<? extends Operation>>(),
+                new HashSet<Class<? extends Operation>>(),
+                Collections.<Operation>emptyIterator(),
+                Collections.<Operation>emptyIterator(),
+                childOperationGenerator
+        );
+    }
+
+    private OperationExecutor newExecutor(
+            int concurrencyLimit,
+            TimeSource timeSource,
+            ConcurrentErrorReporter errorReporter,
+            DummyCountingMetricsService metricsService,
+            WorkloadStreams.WorkloadStreamDefinition streamDefinition ) throws Exception
+    {
+        LoggingService loggingService = new Log4jLoggingServiceFactory( false ).loggingServiceFor( "Test" );
+        boolean ignoreScheduledStartTime = false;
+        Spinner spinner = new Spinner( timeSource, Spinner.DEFAULT_SLEEP_DURATION_10_MILLI, ignoreScheduledStartTime );
+        CompletionTimeWriter dummyCompletionTimeWriter = new DummyCompletionTimeWriter();
+        DummyCompletionTimeReader dummyCompletionTimeReader = new DummyCompletionTimeReader();
+        dummyCompletionTimeReader.setCompletionTimeAsMilli( Long.MAX_VALUE );
+        Db db = new DummyDb();
+        db.init(
+                new HashMap<String,String>(),
+                loggingService,
+                DummyWorkload.OPERATION_TYPE_CLASS_MAPPING
+        );
+        return new VirtualThreadOperationExecutor(
+                concurrencyLimit,
+                db,
+                streamDefinition,
+                dummyCompletionTimeWriter,
+                dummyCompletionTimeReader,
+                spinner,
+                timeSource,
+                errorReporter,
+                metricsService,
+                streamDefinition.childOperationGenerator()
+        );
+    }
+
+    private static class CountingChildOperationGenerator implements ChildOperationGenerator
+    {
+        private final int childOperationCount;
+
+        private CountingChildOperationGenerator( int childOperationCount )
+        {
+            this.childOperationCount = childOperationCount;
+        }
+
+        @Override
+        public double initialState()
+        {
+            return 0;
+        }
+
+        @Override
+        public Operation nextOperation( double state, Operation operation, Object result,
+                long actualStartTimeAsMilli, long runDurationAsNano )
+        {
+            if ( state >= childOperationCount )
+            {
+                return null;
+            }
+            Operation childOperation = new NothingOperation();
+            childOperation.setScheduledStartTimeAsMilli( actualStartTimeAsMilli );
+            childOperation.setTimeStamp( operation.timeStamp() );
+            childOperation.setDependencyTimeStamp( 0l );
+            return childOperation;
+        }
+
+        @Override
+        public double updateState( double previousState, int previousOperationType )
+        {
+            return previousState + 1;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package org.ldbcouncil.snb.driver.runtime.metrics;
+
+import org.HdrHistogram.Histogram;
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.control.Log4jLoggingServiceFactory;
+import org.ldbcouncil.snb.driver.control.LoggingServiceFactory;
+import org.ldbcouncil.snb.driver.control.MetricsWaitStrategy;
+import org.ldbcouncil.snb.driver.runtime.ConcurrentErrorReporter;
+import org.ldbcouncil.snb.driver.temporal.SystemTimeSource;
+import org.ldbcouncil.snb.driver.temporal.TimeSource;
+import org.ldbcouncil.snb.driver.workloads.interactive.queries.LdbcQuery1;
+import org.ldbcouncil.snb.driver.workloads.interactive.queries.LdbcQuery2;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Measures worker-side submitOperationResult latency and sustained throughput of the disruptor metrics service,
+ * for each wait strategy, with the results log written on the same or on a chained consumer
+ */
+@Disabled
+public class DisruptorSbeMetricsServicePerformanceTest
+{
+    private final TimeSource timeSource = new SystemTimeSource();
+    private final LoggingServiceFactory loggingServiceFactory = new Log4jLoggingServiceFactory( false );
+
+    @TempDir
+    public File temporaryFolder;
+
+    @Test
+    public void compareWaitStrategiesAndResultsLogConsumers() throws Exception
+    {
+        int experimentRepetitions = 3;
+        int threadCount = 8;
+        int resultsPerThread = 1_000_000;
+        int ringSize = 1024;
+        for ( boolean chainedResultsLog : new boolean[]{false, true} )
+        {
+            for ( MetricsWaitStrategy waitStrategy : MetricsWaitStrategy.values() )
+            {
+                Histogram submitLatency = new Histogram( TimeUnit.SECONDS.toNanos( 10 ), 3 );
+                long duration = 0;
+                for ( int i = 0; i < experimentRepetitions; i++ )
+                {
+                    duration += doTest( waitStrategy, chainedResultsLog, ringSize, threadCount, resultsPerThread,
+                            submitLatency );
+                }
+                duration = duration / experimentRepetitions;
+                long resultCount = (long) threadCount * resultsPerThread;
+                System.out.println( format( "%s (chained results log=%s, ring size %s, %s threads) " +
+                                            "%s results in %s ms: %s results/s",
+                        waitStrategy, chainedResultsLog, ringSize, threadCount, resultCount, duration,
+                        resultCount * 1000 / Math.max( 1, duration ) ) );
+                System.out.println( format( "    submit latency (ns): mean %.0f, p50 %s, p99 %s, p99.99 %s, max %s",
+                        submitLatency.getMean(),
+                        submitLatency.getValueAtPercentile( 50 ),
+                        submitLatency.getValueAtPercentile( 99 ),
+                        submitLatency.getValueAtPercentile( 99.99 ),
+                        submitLatency.getMaxValue() ) );
+            }
+            System.out.println();
+        }
+    }
+
+    private long doTest( MetricsWaitStrategy waitStrategy, boolean chainedResultsLog, int ringSize,
+            int threadCount, int resultsPerThread, Histogram submitLatency ) throws Exception
+    {
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        File resultsLog = File.createTempFile( "results_log", ".csv", temporaryFolder );
+        long duration;
+        try ( ResultsLogWriter resultsLogWriter = new SimpleResultsLogWriter( resultsLog, TimeUnit.MILLISECONDS,
+                false ) )
+        {
+            MetricsService metricsService = new DisruptorSbeMetricsService(
+                    timeSource,
+                    errorReporter,
+                    TimeUnit.MILLISECONDS,
+                    DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                    resultsLogWriter,
+                    operationTypeToClassMapping(),
+                    loggingServiceFactory,
+                    ringSize,
+                    MetricsServiceFactory.waitStrategyFor( waitStrategy ),
+                    chainedResultsLog
+            );
+            ExecutorService executor = Executors.newFixedThreadPool( threadCount );
+            CountDownLatch start = new CountDownLatch( 1 );
+            List<Future<Histogram>> futures = new ArrayList<>();
+            for ( int thread = 0; thread < threadCount; thread++ )
+            {
+                MetricsService.MetricsServiceWriter metricsServiceWriter = metricsService.getWriter();
+                futures.add( executor.submit( () ->
+                {
+                    Histogram threadSubmitLatency = new Histogram( TimeUnit.SECONDS.toNanos( 10 ), 3 );
+                    start.await();
+                    for ( int i = 0; i < resultsPerThread; i++ )
+                    {
+                        int operationType = (0 == i % 2) ? LdbcQuery1.TYPE : LdbcQuery2.TYPE;
+                        long before = System.nanoTime();
+                        metricsServiceWriter.submitOperationResult( operationType, i, i + 1,
+                                TimeUnit.MICROSECONDS.toNanos( 1 + i % 1000 ), 0, i );
+                        threadSubmitLatency.recordValue( System.nanoTime() - before );
+                    }
+                    return threadSubmitLatency;
+                } ) );
+            }
+            long startTime = timeSource.nanoSnapshot();
+            start.countDown();
+            for ( Future<Histogram> future : futures )
+            {
+                submitLatency.add( future.get() );
+            }
+            // waits for consumers to process every submitted result
+            WorkloadResultsSnapshot results = metricsService.getWriter().results();
+            metricsService.shutdown();
+            duration = TimeUnit.NANOSECONDS.toMillis( timeSource.nanoSnapshot() - startTime );
+            executor.shutdown();
+            assertThat( results.totalOperationCount(), is( (long) threadCount * resultsPerThread ) );
+        }
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+        return duration;
+    }
+
+    private static Map<Integer,Class<? extends Operation>> operationTypeToClassMapping()
+    {
+        Map<Integer,Class<? extends Operation>> operationTypeToClassMapping = new HashMap<>();
+        operationTypeToClassMapping.put( LdbcQuery1.TYPE, LdbcQuery1.class );
+        operationTypeToClassMapping.put( LdbcQuery2.TYPE, LdbcQuery2.class );
+        return operationTypeToClassMapping;
+    }
+}
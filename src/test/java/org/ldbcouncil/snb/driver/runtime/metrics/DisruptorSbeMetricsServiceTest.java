@@ -2,8 +2,12 @@ package org.ldbcouncil.snb.driver.runtime.metrics;
 
 import org.ldbcouncil.snb.driver.Operation;
 import org.ldbcouncil.snb.driver.WorkloadException;
+import org.ldbcouncil.snb.driver.control.ConsoleAndFileDriverConfiguration;
+import org.ldbcouncil.snb.driver.control.DriverConfiguration;
 import org.ldbcouncil.snb.driver.control.Log4jLoggingServiceFactory;
 import org.ldbcouncil.snb.driver.control.LoggingServiceFactory;
+import org.ldbcouncil.snb.driver.control.MetricsServiceType;
+import org.ldbcouncil.snb.driver.control.MetricsWaitStrategy;
 import org.ldbcouncil.snb.driver.runtime.ConcurrentErrorReporter;
 import org.ldbcouncil.snb.driver.temporal.SystemTimeSource;
 import org.ldbcouncil.snb.driver.temporal.TimeSource;
@@ -11,7 +15,9 @@ import org.ldbcouncil.snb.driver.workloads.interactive.db.DummyLdbcSnbInteractiv
 import org.ldbcouncil.snb.driver.workloads.interactive.queries.LdbcQuery1;
 import org.ldbcouncil.snb.driver.workloads.interactive.queries.LdbcQuery2;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
+import java.io.File;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
@@ -19,12 +25,16 @@ import java.util.concurrent.TimeUnit;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class DisruptorSbeMetricsServiceTest
 {
     private TimeSource timeSource = new SystemTimeSource();
     private LoggingServiceFactory loggingServiceFactory = new Log4jLoggingServiceFactory( false );
 
+    @TempDir
+    public File temporaryFolder;
+
     @Test
     public void shouldNotAcceptOperationResultsAfterShutdown() throws WorkloadException, MetricsCollectionException
     {
@@ -83,6 +93,118 @@ public class DisruptorSbeMetricsServiceTest
         }
     }
 
+    @Test
+    public void shouldReturnCorrectMeasurementsForEveryWaitStrategyAndResultsLogConsumer() throws Exception
+    {
+        for ( MetricsWaitStrategy waitStrategy : MetricsWaitStrategy.values() )
+        {
+            for ( boolean chainedResultsLog : new boolean[]{false, true} )
+            {
+                // Given
+                ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+                File resultsLog = new File( temporaryFolder, waitStrategy + "-" + chainedResultsLog + ".csv" );
+                try ( ResultsLogWriter resultsLogWriter =
+                              new SimpleResultsLogWriter( resultsLog, TimeUnit.MILLISECONDS, false ) )
+                {
+                    MetricsService metricsService = new DisruptorSbeMetricsService(
+                            timeSource,
+                            errorReporter,
+                            TimeUnit.MILLISECONDS,
+                            DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                            resultsLogWriter,
+                            operationTypeToClassMapping(),
+                            loggingServiceFactory,
+                            16,
+                            MetricsServiceFactory.waitStrategyFor( waitStrategy ),
+                            chainedResultsLog
+                    );
+
+                    // When
+                    try
+                    {
+                        shouldReturnCorrectMeasurements( metricsService.getWriter() );
+                    }
+                    finally
+                    {
+                        metricsService.shutdown();
+                    }
+                }
+
+                // Then
+                long loggedResults = 0;
+                try ( ResultsLogReader reader = new SimpleResultsLogReader( resultsLog ) )
+                {
+                    while ( reader.next() )
+                    {
+                        loggedResults++;
+                    }
+                }
+                assertThat( waitStrategy + " chained=" + chainedResultsLog, loggedResults, is( 3L ) );
+                assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+            }
+        }
+    }
+
+    @Test
+    public void shouldRejectRingSizeThatIsNotPowerOfTwo()
+    {
+        assertThrows( MetricsCollectionException.class, () -> new DisruptorSbeMetricsService(
+                timeSource,
+                new ConcurrentErrorReporter(),
+                TimeUnit.MILLISECONDS,
+                DisruptorSbeMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                new NullResultsLogWriter(),
+                operationTypeToClassMapping(),
+                loggingServiceFactory,
+                1000,
+                MetricsServiceFactory.waitStrategyFor( MetricsWaitStrategy.blocking ),
+                false
+        ) );
+    }
+
+    @Test
+    public void shouldCreateConfiguredMetricsService() throws Exception
+    {
+        // Given
+        DriverConfiguration configuration = ConsoleAndFileDriverConfiguration.fromDefaults( null, null, 100 );
+
+        for ( MetricsServiceType metricsServiceType : MetricsServiceType.values() )
+        {
+            // When
+            MetricsService metricsService = MetricsServiceFactory.create(
+                    configuration.applyArg( ConsoleAndFileDriverConfiguration.METRICS_SERVICE_TYPE_ARG,
+                            metricsServiceType.name() ),
+                    timeSource,
+                    new ConcurrentErrorReporter(),
+                    new NullResultsLogWriter(),
+                    operationTypeToClassMapping(),
+                    loggingServiceFactory
+            );
+
+            // Then
+            Class<?> expectedClass = (MetricsServiceType.disruptor == metricsServiceType) ?
+                                     DisruptorSbeMetricsService.class :
+                                     ShardedMetricsService.class;
+            assertThat( metricsService.getClass(), equalTo( expectedClass ) );
+            try
+            {
+                shouldReturnCorrectMeasurements( metricsService.getWriter() );
+            }
+            finally
+            {
+                metricsService.shutdown();
+            }
+        }
+    }
+
+    private static Map<Integer,Class<? extends Operation>> operationTypeToClassMapping()
+    {
+        Map<Integer,Class<? extends Operation>> operationTypeToClassMapping = new HashMap<>();
+        operationTypeToClassMapping.put( LdbcQuery1.TYPE, LdbcQuery1.class );
+        operationTypeToClassMapping.put( LdbcQuery2.TYPE, LdbcQuery2.class );
+        return operationTypeToClassMapping;
+    }
+
     public void shouldReturnCorrectMeasurements( MetricsService.MetricsServiceWriter metricsServiceWriter )
             throws WorkloadException, MetricsCollectionException
     {
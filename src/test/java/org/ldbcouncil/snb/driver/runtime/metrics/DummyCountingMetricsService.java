@@ -18,6 +18,7 @@ public class DummyCountingMetricsService implements MetricsService, MetricsServi
     public void submitOperationResult(int operationType,
                                       long scheduledStartTimeAsMilli,
                                       long actualStartTimeAsMilli,
+                                      long startTimeDelayAsNano,
                                       long runDurationAsNano,
                                       int resultCode,
                                       long originalStartTime) throws MetricsCollectionException {
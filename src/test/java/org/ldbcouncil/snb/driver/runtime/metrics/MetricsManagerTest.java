@@ -13,6 +13,8 @@ import org.junit.jupiter.api.Test;
 import java.util.concurrent.TimeUnit;
 
 import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 public class MetricsManagerTest
@@ -51,4 +53,123 @@ public class MetricsManagerTest
         assertThat( snapshot.startTimeAsMilli(), equalTo( 2l ) );
         assertThat( snapshot.latestFinishTimeAsMilli(), equalTo( 16l ) );
     }
+
+    @Test
+    public void shouldMeasureStartTimeDelay() throws WorkloadException, MetricsCollectionException
+    {
+        // Given
+        MetricsManager metricsManager = new MetricsManager(
+                timeSource,
+                TimeUnit.MILLISECONDS,
+                ThreadedQueuedMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                LdbcSnbInteractiveWorkloadConfiguration.operationTypeToClassMapping(),
+                loggingServiceFactory
+        );
+        Operation operation = DummyLdbcSnbInteractiveOperationInstances.read1();
+        long runDurationAsNano = TimeUnit.MILLISECONDS.toNanos( 1 );
+
+        // When
+        metricsManager.measure( 10, 10, runDurationAsNano, operation.type() );
+        metricsManager.measure( 20, 22, runDurationAsNano, operation.type() );
+        metricsManager.measure( 30, 36, runDurationAsNano, operation.type() );
+        // started before scheduled start time, e.g., with scheduled start times ignored
+        metricsManager.measure( 40, 39, runDurationAsNano, operation.type() );
+
+        // Then
+        ContinuousMetricSnapshot startTimeDelay = metricsManager.snapshot().startTimeDelay();
+        assertThat( startTimeDelay.unit(), equalTo( TimeUnit.NANOSECONDS ) );
+        assertThat( startTimeDelay.count(), equalTo( 4l ) );
+        assertThat( startTimeDelay.min(), equalTo( 0l ) );
+        assertThat( TimeUnit.NANOSECONDS.toMillis( startTimeDelay.max() ), equalTo( 6l ) );
+        assertThat( startTimeDelay.mean(), closeTo( 2_000_000, 6_000 ) );
+    }
+
+    @Test
+    public void shouldMeasureSubMillisecondStartTimeDelay() throws WorkloadException, MetricsCollectionException
+    {
+        // Given
+        MetricsManager metricsManager = new MetricsManager(
+                timeSource,
+                TimeUnit.MILLISECONDS,
+                ThreadedQueuedMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                LdbcSnbInteractiveWorkloadConfiguration.operationTypeToClassMapping(),
+                loggingServiceFactory
+        );
+        Operation operation = DummyLdbcSnbInteractiveOperationInstances.read1();
+        long runDurationAsNano = TimeUnit.MILLISECONDS.toNanos( 1 );
+
+        // When
+        // all started within the millisecond they were scheduled in
+        metricsManager.measureWithStartTimeDelay( 10, 100_000, runDurationAsNano, operation.type() );
+        metricsManager.measureWithStartTimeDelay( 20, 300_000, runDurationAsNano, operation.type() );
+        metricsManager.measureWithStartTimeDelay( 30, -50_000, runDurationAsNano, operation.type() );
+
+        // Then
+        ContinuousMetricSnapshot startTimeDelay = metricsManager.snapshot().startTimeDelay();
+        assertThat( startTimeDelay.count(), equalTo( 3l ) );
+        assertThat( startTimeDelay.min(), equalTo( 0l ) );
+        assertThat( (double) startTimeDelay.max(), closeTo( 300_000, 300 ) );
+        OperationMetricsSnapshot operationMetrics = metricsManager.snapshot().allMetrics().get( 0 );
+        assertThat( operationMetrics.responseTimeMetric().max(), equalTo( 1l ) );
+    }
+
+    @Test
+    public void shouldMeasureResponseTimeFromScheduledStartTime() throws WorkloadException, MetricsCollectionException
+    {
+        // Given
+        MetricsManager metricsManager = new MetricsManager(
+                timeSource,
+                TimeUnit.MILLISECONDS,
+                ThreadedQueuedMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                LdbcSnbInteractiveWorkloadConfiguration.operationTypeToClassMapping(),
+                loggingServiceFactory
+        );
+        Operation operation = DummyLdbcSnbInteractiveOperationInstances.read1();
+        long runDurationAsNano = TimeUnit.MILLISECONDS.toNanos( 2 );
+
+        // When
+        metricsManager.measure( 10, 10, runDurationAsNano, operation.type() );
+        // driver fell behind schedule
+        metricsManager.measure( 20, 30, runDurationAsNano, operation.type() );
+        metricsManager.measure( 30, 60, runDurationAsNano, operation.type() );
+
+        // Then
+        OperationMetricsSnapshot operationMetrics = metricsManager.snapshot().allMetrics().get( 0 );
+        assertThat( operationMetrics.runTimeMetric().max(), equalTo( 2l ) );
+        assertThat( operationMetrics.responseTimeMetric().count(), equalTo( 3l ) );
+        assertThat( operationMetrics.responseTimeMetric().min(), equalTo( 2l ) );
+        assertThat( operationMetrics.responseTimeMetric().max(), equalTo( 32l ) );
+        assertThat( operationMetrics.correctedRunTimeMetric(), nullValue() );
+    }
+
+    @Test
+    public void shouldCorrectRuntimesForCoordinatedOmissionAtExpectedInterval()
+            throws WorkloadException, MetricsCollectionException
+    {
+        // Given
+        MetricsManager metricsManager = new MetricsManager(
+                timeSource,
+                TimeUnit.MILLISECONDS,
+                ThreadedQueuedMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                TimeUnit.MILLISECONDS.toNanos( 10 ),
+                LdbcSnbInteractiveWorkloadConfiguration.operationTypeToClassMapping(),
+                loggingServiceFactory
+        );
+        Operation operation = DummyLdbcSnbInteractiveOperationInstances.read1();
+
+        // When
+        metricsManager.measure( 0, 0, TimeUnit.MILLISECONDS.toNanos( 1 ), operation.type() );
+        // operations that would have been started while waiting for this one are missing
+        metricsManager.measure( 10, 10, TimeUnit.MILLISECONDS.toNanos( 40 ), operation.type() );
+
+        // Then
+        OperationMetricsSnapshot operationMetrics = metricsManager.snapshot().allMetrics().get( 0 );
+        assertThat( operationMetrics.runTimeMetric().count(), equalTo( 2l ) );
+        ContinuousMetricSnapshot correctedRunTime = operationMetrics.correctedRunTimeMetric();
+        // 40 ms measurement implies missed measurements of 30, 20 and 10 ms
+        assertThat( correctedRunTime.count(), equalTo( 5l ) );
+        assertThat( correctedRunTime.min(), equalTo( 1l ) );
+        assertThat( correctedRunTime.max(), equalTo( 40l ) );
+        assertThat( correctedRunTime.mean(), equalTo( 101 / 5.0 ) );
+    }
 }
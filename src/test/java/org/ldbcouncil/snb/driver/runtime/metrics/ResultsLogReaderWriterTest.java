@@ -1,15 +1,23 @@
 package org.ldbcouncil.snb.driver.runtime.metrics;
 
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.workloads.interactive.queries.LdbcQuery1;
+import org.ldbcouncil.snb.driver.workloads.interactive.queries.LdbcQuery2;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -113,4 +121,177 @@ public class ResultsLogReaderWriterTest
             assertFalse( reader.next() );
         }
     }
+
+    @Test
+    public void shouldWriteAndReadSameValuesInBinaryFormat() throws Exception
+    {
+        // Given
+        File resultsLog = new File( this.temporaryFolder, "log.bin" );
+        TimeUnit unit = MILLISECONDS;
+
+        // When
+        try ( ResultsLogWriter writer = new BinaryResultsLogWriter( resultsLog, unit, operationTypeToClassMapping() ) )
+        {
+            writer.write(
+                    "LdbcQuery1",
+                    Long.MAX_VALUE,
+                    Long.MAX_VALUE,
+                    Long.MAX_VALUE,
+                    Integer.MAX_VALUE,
+                    Long.MAX_VALUE );
+            writer.write(
+                    LdbcQuery2.TYPE,
+                    "LdbcQuery2",
+                    0,
+                    0,
+                    0,
+                    Integer.MIN_VALUE,
+                    0 );
+        }
+
+        // Then
+        try ( ResultsLogReader reader = new BinaryResultsLogReader( resultsLog ) )
+        {
+            assertThat( reader.unit(), equalTo( unit ) );
+
+            assertTrue( reader.next() );
+            assertThat( reader.getOperationName(), equalTo( "LdbcQuery1" ) );
+            assertThat( reader.getScheduledStartTimeAsMilli(), equalTo( Long.MAX_VALUE ) );
+            assertThat( reader.getActualStartTimeAsMilli(), equalTo( Long.MAX_VALUE ) );
+            assertThat( reader.getRunDurationAsNano(), equalTo( Long.MAX_VALUE ) );
+            assertThat( reader.getResultCode(), equalTo( Integer.MAX_VALUE ) );
+            assertThat( reader.getOriginalStartTime(), equalTo( Long.MAX_VALUE ) );
+
+            assertTrue( reader.next() );
+            assertThat( reader.getOperationName(), equalTo( "LdbcQuery2" ) );
+            assertThat( reader.getScheduledStartTimeAsMilli(), equalTo( 0L ) );
+            assertThat( reader.getActualStartTimeAsMilli(), equalTo( 0L ) );
+            assertThat( reader.getRunDurationAsNano(), equalTo( 0L ) );
+            assertThat( reader.getResultCode(), equalTo( Integer.MIN_VALUE ) );
+            assertThat( reader.getOriginalStartTime(), equalTo( 0L ) );
+
+            assertFalse( reader.next() );
+        }
+    }
+
+    @Test
+    public void shouldReadBinaryResultsAcrossMappedRegions() throws Exception
+    {
+        // Given
+        File resultsLog = new File( this.temporaryFolder, "log.bin" );
+        long resultCount = BinaryResultsLogWriter.RECORDS_PER_REGION + 10;
+
+        // When
+        try ( ResultsLogWriter writer =
+                      new BinaryResultsLogWriter( resultsLog, NANOSECONDS, operationTypeToClassMapping() ) )
+        {
+            for ( long i = 0; i < resultCount; i++ )
+            {
+                writer.write( LdbcQuery1.TYPE, "LdbcQuery1", i, i + 1, i + 2, (int) (i % 2), i + 3 );
+            }
+        }
+
+        // Then
+        try ( ResultsLogReader reader = new BinaryResultsLogReader( resultsLog ) )
+        {
+            for ( long i = 0; i < resultCount; i++ )
+            {
+                assertTrue( reader.next() );
+                assertThat( reader.getScheduledStartTimeAsMilli(), equalTo( i ) );
+                assertThat( reader.getActualStartTimeAsMilli(), equalTo( i + 1 ) );
+                assertThat( reader.getRunDurationAsNano(), equalTo( i + 2 ) );
+                assertThat( reader.getResultCode(), equalTo( (int) (i % 2) ) );
+                assertThat( reader.getOriginalStartTime(), equalTo( i + 3 ) );
+            }
+            assertFalse( reader.next() );
+        }
+    }
+
+    @Test
+    public void shouldStopReadingBinaryResultsAtIncompleteRecord() throws Exception
+    {
+        // Given
+        File resultsLog = new File( this.temporaryFolder, "log.bin" );
+        try ( ResultsLogWriter writer =
+                      new BinaryResultsLogWriter( resultsLog, NANOSECONDS, operationTypeToClassMapping() ) )
+        {
+            writer.write( LdbcQuery1.TYPE, "LdbcQuery1", 1, 2, 3, 0, 4 );
+        }
+
+        // When
+        // as left by a writer that did not close, records are followed by zeroed space
+        try ( RandomAccessFile file = new RandomAccessFile( resultsLog, "rw" ) )
+        {
+            file.setLength( file.length() + BinaryResultsLogWriter.RECORD_LENGTH * 3 );
+        }
+
+        // Then
+        try ( ResultsLogReader reader = new BinaryResultsLogReader( resultsLog ) )
+        {
+            assertTrue( reader.next() );
+            assertThat( reader.getOperationName(), equalTo( "LdbcQuery1" ) );
+            assertFalse( reader.next() );
+            assertFalse( reader.next() );
+        }
+    }
+
+    @Test
+    public void shouldFailToWriteBinaryResultForUnknownOperation() throws Exception
+    {
+        File resultsLog = new File( this.temporaryFolder, "log.bin" );
+        try ( ResultsLogWriter writer =
+                      new BinaryResultsLogWriter( resultsLog, NANOSECONDS, operationTypeToClassMapping() ) )
+        {
+            assertThrows( IOException.class, () -> writer.write( "unknown", 0, 0, 0, 0, 0 ) );
+        }
+    }
+
+    @Test
+    public void shouldConvertBinaryResultsLogToCsv() throws Exception
+    {
+        // Given
+        File binaryResultsLog = new File( this.temporaryFolder, "log.bin" );
+        File csvResultsLog = new File( this.temporaryFolder, "log.csv" );
+        TimeUnit unit = MILLISECONDS;
+        try ( ResultsLogWriter writer =
+                      new BinaryResultsLogWriter( binaryResultsLog, unit, operationTypeToClassMapping() ) )
+        {
+            writer.write( LdbcQuery1.TYPE, "LdbcQuery1", 1, 2, MILLISECONDS.toNanos( 3 ), 0, 4 );
+            writer.write( LdbcQuery2.TYPE, "LdbcQuery2", 5, 6, MILLISECONDS.toNanos( 7 ), 1, 8 );
+        }
+
+        // When
+        long resultCount = ResultsLogConverter.binaryToCsv( binaryResultsLog, csvResultsLog );
+
+        // Then
+        assertThat( resultCount, equalTo( 2L ) );
+        try ( ResultsLogReader reader = new SimpleResultsLogReader( csvResultsLog ) )
+        {
+            assertTrue( reader.next() );
+            assertThat( reader.getOperationName(), equalTo( "LdbcQuery1" ) );
+            assertThat( reader.getScheduledStartTimeAsMilli(), equalTo( 1L ) );
+            assertThat( reader.getActualStartTimeAsMilli(), equalTo( 2L ) );
+            assertThat( reader.getRunDurationAsNano(), equalTo( MILLISECONDS.toNanos( 3 ) ) );
+            assertThat( reader.getResultCode(), equalTo( 0 ) );
+            assertThat( reader.getOriginalStartTime(), equalTo( 4L ) );
+
+            assertTrue( reader.next() );
+            assertThat( reader.getOperationName(), equalTo( "LdbcQuery2" ) );
+            assertThat( reader.getScheduledStartTimeAsMilli(), equalTo( 5L ) );
+            assertThat( reader.getActualStartTimeAsMilli(), equalTo( 6L ) );
+            assertThat( reader.getRunDurationAsNano(), equalTo( MILLISECONDS.toNanos( 7 ) ) );
+            assertThat( reader.getResultCode(), equalTo( 1 ) );
+            assertThat( reader.getOriginalStartTime(), equalTo( 8L ) );
+
+            assertFalse( reader.next() );
+        }
+    }
+
+    private static Map<Integer,Class<? extends Operation>> operationTypeToClassMapping()
+    {
+        Map<Integer,Class<? extends Operation>> operationTypeToClassMapping = new HashMap<>();
+        operationTypeToClassMapping.put( LdbcQuery1.TYPE, LdbcQuery1.class );
+        operationTypeToClassMapping.put( LdbcQuery2.TYPE, LdbcQuery2.class );
+        return operationTypeToClassMapping;
+    }
 }
@@ -0,0 +1,293 @@
+package org.ldbcouncil.snb.driver.runtime.metrics;
+
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.control.Log4jLoggingServiceFactory;
+import org.ldbcouncil.snb.driver.control.LoggingServiceFactory;
+import org.ldbcouncil.snb.driver.temporal.SystemTimeSource;
+import org.ldbcouncil.snb.driver.temporal.TimeSource;
+import org.ldbcouncil.snb.driver.workloads.interactive.queries.LdbcQuery1;
+import org.ldbcouncil.snb.driver.workloads.interactive.queries.LdbcQuery2;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class ShardedMetricsServiceTest
+{
+    private TimeSource timeSource = new SystemTimeSource();
+    private LoggingServiceFactory loggingServiceFactory = new Log4jLoggingServiceFactory( false );
+
+    @TempDir
+    public File temporaryFolder;
+
+    @Test
+    public void shouldNotAcceptOperationResultsAfterShutdown() throws Exception
+    {
+        // Given
+        MetricsService metricsService = new ShardedMetricsService(
+                timeSource,
+                TimeUnit.MILLISECONDS,
+                ShardedMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                new NullResultsLogWriter(),
+                operationTypeToClassMapping(),
+                loggingServiceFactory
+        );
+        MetricsService.MetricsServiceWriter metricsServiceWriter = metricsService.getWriter();
+
+        // When
+        metricsService.shutdown();
+
+        // Then
+        assertThrows( MetricsCollectionException.class, metricsService::getWriter );
+        assertThrows( MetricsCollectionException.class, () -> metricsServiceWriter.submitOperationResult(
+                LdbcQuery1.TYPE, 1, 2, TimeUnit.MILLISECONDS.toNanos( 1 ), 0, 1 ) );
+    }
+
+    @Test
+    public void shouldReturnCorrectMeasurements() throws Exception
+    {
+        MetricsService metricsService = new ShardedMetricsService(
+                timeSource,
+                TimeUnit.MILLISECONDS,
+                ShardedMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                new NullResultsLogWriter(),
+                operationTypeToClassMapping(),
+                loggingServiceFactory
+        );
+        try
+        {
+            new DisruptorSbeMetricsServiceTest().shouldReturnCorrectMeasurements( metricsService.getWriter() );
+        }
+        finally
+        {
+            metricsService.shutdown();
+        }
+    }
+
+    @Test
+    public void shouldMergeResultsOfConcurrentWritersLikeSingleMetricsManager() throws Exception
+    {
+        // Given
+        int threadCount = 8;
+        int resultsPerThread = 10_000;
+        File resultsLog = new File( temporaryFolder, "results_log.csv" );
+        MetricsManager expectedMetricsManager = new MetricsManager(
+                timeSource,
+                TimeUnit.MILLISECONDS,
+                ShardedMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                operationTypeToClassMapping(),
+                loggingServiceFactory
+        );
+        for ( int thread = 0; thread < threadCount; thread++ )
+        {
+            for ( int i = 0; i < resultsPerThread; i++ )
+            {
+                expectedMetricsManager.measure( 0, actualStartTime( thread, i ), runDuration( thread, i ),
+                        operationType( i ) );
+            }
+        }
+
+        WorkloadResultsSnapshot results;
+        try ( ResultsLogWriter resultsLogWriter =
+                      new SimpleResultsLogWriter( resultsLog, TimeUnit.MILLISECONDS, false ) )
+        {
+            // shard count lower than thread count, so shards also have concurrent writers
+            MetricsService metricsService = new ShardedMetricsService(
+                    timeSource,
+                    TimeUnit.MILLISECONDS,
+                    ShardedMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                    resultsLogWriter,
+                    operationTypeToClassMapping(),
+                    loggingServiceFactory,
+                    3,
+                    100
+            );
+            ExecutorService executor = Executors.newFixedThreadPool( threadCount );
+            CountDownLatch start = new CountDownLatch( 1 );
+            List<Future<?>> futures = new ArrayList<>();
+
+            // When
+            for ( int thread = 0; thread < threadCount; thread++ )
+            {
+                int writerThread = thread;
+                MetricsService.MetricsServiceWriter metricsServiceWriter = metricsService.getWriter();
+                futures.add( executor.submit( () ->
+                {
+                    start.await();
+                    for ( int i = 0; i < resultsPerThread; i++ )
+                    {
+                        metricsServiceWriter.submitOperationResult( operationType( i ), 0,
+                                actualStartTime( writerThread, i ), runDuration( writerThread, i ), 0, 0 );
+                        if ( 0 == i % 1000 )
+                        {
+                            metricsServiceWriter.status();
+                        }
+                    }
+                    return null;
+                } ) );
+            }
+            start.countDown();
+            for ( Future<?> future : futures )
+            {
+                future.get();
+            }
+            executor.shutdown();
+            results = metricsService.getWriter().results();
+            metricsService.shutdown();
+        }
+
+        // Then
+        WorkloadResultsSnapshot expectedResults = expectedMetricsManager.snapshot();
+        assertThat( results.totalOperationCount(), equalTo( (long) threadCount * resultsPerThread ) );
+        assertThat( results.startTimeAsMilli(), equalTo( expectedResults.startTimeAsMilli() ) );
+        assertThat( results.latestFinishTimeAsMilli(), equalTo( expectedResults.latestFinishTimeAsMilli() ) );
+        assertThat( results.allMetrics(), equalTo( expectedResults.allMetrics() ) );
+        long loggedResults = 0;
+        try ( ResultsLogReader reader = new SimpleResultsLogReader( resultsLog ) )
+        {
+            while ( reader.next() )
+            {
+                loggedResults++;
+            }
+        }
+        assertThat( loggedResults, is( (long) threadCount * resultsPerThread ) );
+    }
+
+    @Test
+    public void shouldLogResultsOfDiscardedWriters() throws Exception
+    {
+        // Given
+        int writerCount = 1_000;
+        File resultsLog = new File( temporaryFolder, "results_log.csv" );
+        try ( ResultsLogWriter resultsLogWriter =
+                      new SimpleResultsLogWriter( resultsLog, TimeUnit.MILLISECONDS, false ) )
+        {
+            MetricsService metricsService = new ShardedMetricsService(
+                    timeSource,
+                    TimeUnit.MILLISECONDS,
+                    ShardedMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                    resultsLogWriter,
+                    operationTypeToClassMapping(),
+                    loggingServiceFactory,
+                    1,
+                    100
+            );
+
+            // When every writer is used for a single result, as by contexts that are not recycled
+            for ( int i = 0; i < writerCount; i++ )
+            {
+                metricsService.getWriter().submitOperationResult( operationType( i ), 0,
+                        actualStartTime( 0, i ), runDuration( 0, i ), 0, 0 );
+            }
+            metricsService.shutdown();
+        }
+
+        // Then
+        long loggedResults = 0;
+        try ( ResultsLogReader reader = new SimpleResultsLogReader( resultsLog ) )
+        {
+            while ( reader.next() )
+            {
+                loggedResults++;
+            }
+        }
+        assertThat( loggedResults, is( (long) writerCount ) );
+    }
+
+    @Test
+    public void shouldRoundShardCountUpToPowerOfTwo() throws Exception
+    {
+        ShardedMetricsService metricsService = new ShardedMetricsService(
+                timeSource,
+                TimeUnit.MILLISECONDS,
+                ShardedMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                new NullResultsLogWriter(),
+                operationTypeToClassMapping(),
+                loggingServiceFactory,
+                5,
+                1
+        );
+        assertThat( metricsService.shardCount(), equalTo( 8 ) );
+        metricsService.shutdown();
+    }
+
+    @Test
+    public void shouldGiveEachThreadShardOfItsOwnWhileThereAreEnoughShards() throws Exception
+    {
+        // Given
+        int threadCount = 4;
+        ShardedMetricsService metricsService = new ShardedMetricsService(
+                timeSource,
+                TimeUnit.MILLISECONDS,
+                ShardedMetricsService.DEFAULT_HIGHEST_EXPECTED_RUNTIME_DURATION_AS_NANO,
+                new NullResultsLogWriter(),
+                operationTypeToClassMapping(),
+                loggingServiceFactory,
+                threadCount,
+                1
+        );
+        ExecutorService executorService = Executors.newFixedThreadPool( threadCount );
+        CountDownLatch allThreadsStarted = new CountDownLatch( threadCount );
+
+        // When
+        List<Future<Integer>> shardIndexes = new ArrayList<>();
+        for ( int thread = 0; thread < threadCount; thread++ )
+        {
+            shardIndexes.add( executorService.submit( () -> {
+                // every thread of the pool takes one task
+                allThreadsStarted.countDown();
+                allThreadsStarted.await();
+                return metricsService.shardIndexOfCurrentThread();
+            } ) );
+        }
+
+        // Then
+        Set<Integer> distinctShardIndexes = new HashSet<>();
+        for ( Future<Integer> shardIndex : shardIndexes )
+        {
+            distinctShardIndexes.add( shardIndex.get() );
+        }
+        assertThat( distinctShardIndexes.size(), equalTo( threadCount ) );
+        executorService.shutdown();
+        metricsService.shutdown();
+    }
+
+    private static int operationType( int i )
+    {
+        return (0 == i % 3) ? LdbcQuery2.TYPE : LdbcQuery1.TYPE;
+    }
+
+    private static long actualStartTime( int thread, int i )
+    {
+        return 1_000 + thread * 7 + i;
+    }
+
+    private static long runDuration( int thread, int i )
+    {
+        return TimeUnit.MICROSECONDS.toNanos( 1 + (thread * 31L + i * 17L) % 50_000 );
+    }
+
+    private static Map<Integer,Class<? extends Operation>> operationTypeToClassMapping()
+    {
+        Map<Integer,Class<? extends Operation>> operationTypeToClassMapping = new HashMap<>();
+        operationTypeToClassMapping.put( LdbcQuery1.TYPE, LdbcQuery1.class );
+        operationTypeToClassMapping.put( LdbcQuery2.TYPE, LdbcQuery2.class );
+        return operationTypeToClassMapping;
+    }
+}
@@ -0,0 +1,216 @@
+package org.ldbcouncil.snb.driver.runtime.scheduling;
+
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.runtime.ConcurrentErrorReporter;
+import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeWriter;
+import org.ldbcouncil.snb.driver.runtime.coordination.DummyCompletionTimeReader;
+import org.ldbcouncil.snb.driver.runtime.coordination.DummyCompletionTimeWriter;
+import org.ldbcouncil.snb.driver.temporal.ManualTimeSource;
+import org.ldbcouncil.snb.driver.workloads.dummy.TimedNamedOperation1;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+
+public class CompletionTimeWaitQueueTest
+{
+    private static final long LONG_PARK_DURATION_AS_NANO = TimeUnit.MINUTES.toNanos( 1 );
+    private static final long ENOUGH_MILLISECONDS_FOR_WAITING_THREAD_TO_DO_ITS_THING = 200;
+
+    @Test
+    public void shouldWakeWaitersOnlyOnceCompletionTimeReachesTheirDependencyTimeStamp() throws Exception
+    {
+        // Given
+        DummyCompletionTimeReader completionTimeReader = new DummyCompletionTimeReader();
+        completionTimeReader.setCompletionTimeAsMilli( 0 );
+        CompletionTimeWaitQueue waitQueue = new CompletionTimeWaitQueue( completionTimeReader );
+        ExecutorService executor = Executors.newFixedThreadPool( 2 );
+        long startTimeAsNano = System.nanoTime();
+        Future<?> waitingFor10 = executor.submit( awaitFun( waitQueue, 10 ) );
+        Future<?> waitingFor20 = executor.submit( awaitFun( waitQueue, 20 ) );
+        awaitWaiterCount( waitQueue, 2 );
+
+        // When
+        completionTimeReader.setCompletionTimeAsMilli( 15 );
+        waitQueue.completionTimeMayHaveAdvanced();
+
+        // Then
+        waitingFor10.get( 10, TimeUnit.SECONDS );
+        Thread.sleep( ENOUGH_MILLISECONDS_FOR_WAITING_THREAD_TO_DO_ITS_THING );
+        assertThat( waitingFor20.isDone(), is( false ) );
+        assertThat( waitQueue.waiterCount(), equalTo( 1 ) );
+
+        // When
+        completionTimeReader.setCompletionTimeAsMilli( 20 );
+        waitQueue.completionTimeMayHaveAdvanced();
+
+        // Then
+        waitingFor20.get( 10, TimeUnit.SECONDS );
+        assertThat( waitQueue.waiterCount(), equalTo( 0 ) );
+        // woken by completion time advancing, not by park duration elapsing
+        assertThat( System.nanoTime() - startTimeAsNano, lessThan( LONG_PARK_DURATION_AS_NANO ) );
+        executor.shutdown();
+    }
+
+    @Test
+    public void shouldNotParkWhenCompletionTimeHasAlreadyReachedDependencyTimeStamp() throws Exception
+    {
+        // Given
+        DummyCompletionTimeReader completionTimeReader = new DummyCompletionTimeReader();
+        completionTimeReader.setCompletionTimeAsMilli( 10 );
+        CompletionTimeWaitQueue waitQueue = new CompletionTimeWaitQueue( completionTimeReader );
+
+        // When
+        long startTimeAsNano = System.nanoTime();
+        waitQueue.await( 10, LONG_PARK_DURATION_AS_NANO );
+
+        // Then
+        assertThat( System.nanoTime() - startTimeAsNano, lessThan( LONG_PARK_DURATION_AS_NANO ) );
+        assertThat( waitQueue.waiterCount(), equalTo( 0 ) );
+    }
+
+    @Test
+    public void shouldRemoveWaiterWhenParkDurationElapsesWithoutCompletionTimeAdvancing() throws Exception
+    {
+        // Given
+        DummyCompletionTimeReader completionTimeReader = new DummyCompletionTimeReader();
+        completionTimeReader.setCompletionTimeAsMilli( 0 );
+        CompletionTimeWaitQueue waitQueue = new CompletionTimeWaitQueue( completionTimeReader );
+
+        // When
+        waitQueue.await( 10, TimeUnit.MILLISECONDS.toNanos( 10 ) );
+
+        // Then
+        assertThat( waitQueue.waiterCount(), equalTo( 0 ) );
+    }
+
+    @Test
+    public void shouldWakeWaitersWhenNotifyingWriterSubmitsTimes() throws Exception
+    {
+        // Given
+        DummyCompletionTimeReader completionTimeReader = new DummyCompletionTimeReader();
+        completionTimeReader.setCompletionTimeAsMilli( 0 );
+        CompletionTimeWaitQueue waitQueue = new CompletionTimeWaitQueue( completionTimeReader );
+        CompletionTimeWriter completionTimeWriter = waitQueue.notifyingWriter( new DummyCompletionTimeWriter() );
+        ExecutorService executor = Executors.newFixedThreadPool( 2 );
+        Future<?> waitingFor10 = executor.submit( awaitFun( waitQueue, 10 ) );
+        Future<?> waitingFor20 = executor.submit( awaitFun( waitQueue, 20 ) );
+        awaitWaiterCount( waitQueue, 2 );
+
+        // When
+        completionTimeReader.setCompletionTimeAsMilli( 10 );
+        completionTimeWriter.submitInitiatedTime( 30 );
+
+        // Then
+        waitingFor10.get( 10, TimeUnit.SECONDS );
+
+        // When
+        completionTimeReader.setCompletionTimeAsMilli( 20 );
+        completionTimeWriter.submitCompletedTime( 20 );
+
+        // Then
+        waitingFor20.get( 10, TimeUnit.SECONDS );
+        assertThat( waitQueue.waiterCount(), equalTo( 0 ) );
+        executor.shutdown();
+    }
+
+    @Test
+    public void shouldWaitForCompletionTimeAndScheduledStartTimeWhenSpinnerUsesWaitQueue() throws Exception
+    {
+        // Given
+        ManualTimeSource timeSource = new ManualTimeSource( 0 );
+        DummyCompletionTimeReader completionTimeReader = new DummyCompletionTimeReader();
+        completionTimeReader.setCompletionTimeAsMilli( 0 );
+        CompletionTimeWaitQueue waitQueue = new CompletionTimeWaitQueue( completionTimeReader );
+        boolean ignoreScheduledStartTime = false;
+        long spinnerSleepDurationAsMilli = 10;
+        Spinner spinner = new Spinner( timeSource, spinnerSleepDurationAsMilli, ignoreScheduledStartTime, waitQueue );
+        SpinnerCheck check = new CtDependencyCheck( completionTimeReader, new ConcurrentErrorReporter() );
+        long scheduledStartTime = 100;
+        long dependencyTimeStamp = 50;
+        Operation operation = new TimedNamedOperation1( scheduledStartTime, scheduledStartTime, dependencyTimeStamp,
+                "name" );
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        // When
+        Future<Boolean> spinning = executor.submit( () -> spinner.waitForScheduledStartTime( operation, check ) );
+
+        // Then
+        // time = no, completion time = no
+        Thread.sleep( ENOUGH_MILLISECONDS_FOR_WAITING_THREAD_TO_DO_ITS_THING );
+        assertThat( spinning.isDone(), is( false ) );
+
+        timeSource.setNowFromMilli( scheduledStartTime );
+
+        // time = yes, completion time = no
+        Thread.sleep( ENOUGH_MILLISECONDS_FOR_WAITING_THREAD_TO_DO_ITS_THING );
+        assertThat( spinning.isDone(), is( false ) );
+
+        completionTimeReader.setCompletionTimeAsMilli( dependencyTimeStamp );
+        waitQueue.completionTimeMayHaveAdvanced();
+
+        // time = yes, completion time = yes
+        assertThat( spinning.get( 10, TimeUnit.SECONDS ), is( true ) );
+        executor.shutdown();
+    }
+
+    @Test
+    public void shouldWaitForNanosecondScheduledStartTimeWhenSpinnerUsesNanoResolution() throws Exception
+    {
+        // Given
+        ManualTimeSource timeSource = new ManualTimeSource( 0 );
+        DummyCompletionTimeReader completionTimeReader = new DummyCompletionTimeReader();
+        completionTimeReader.setCompletionTimeAsMilli( 0 );
+        CompletionTimeWaitQueue waitQueue = new CompletionTimeWaitQueue( completionTimeReader );
+        boolean ignoreScheduledStartTime = false;
+        long spinnerSleepDurationAsMilli = 10;
+        boolean nanoResolution = true;
+        Spinner spinner = new Spinner( timeSource, spinnerSleepDurationAsMilli, ignoreScheduledStartTime, waitQueue,
+                nanoResolution );
+        Operation operation = new TimedNamedOperation1( 0, 0, 0, "name" );
+        long scheduledStartTimeAsNano = TimeUnit.MICROSECONDS.toNanos( 1500 );
+        operation.setScheduledStartTimeAsNano( scheduledStartTimeAsNano );
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        // When
+        Future<Boolean> spinning = executor.submit( () -> spinner.waitForScheduledStartTime( operation ) );
+
+        // Then
+        // millisecond of scheduled start time reached, but not scheduled start time
+        timeSource.setNowFromNano( scheduledStartTimeAsNano - TimeUnit.MICROSECONDS.toNanos( 500 ) );
+        assertThat( timeSource.nowAsMilli(), equalTo( operation.scheduledStartTimeAsMilli() ) );
+        Thread.sleep( ENOUGH_MILLISECONDS_FOR_WAITING_THREAD_TO_DO_ITS_THING );
+        assertThat( spinning.isDone(), is( false ) );
+
+        timeSource.setNowFromNano( scheduledStartTimeAsNano );
+
+        assertThat( spinning.get( 10, TimeUnit.SECONDS ), is( true ) );
+        executor.shutdown();
+    }
+
+    private static Callable<Object> awaitFun( CompletionTimeWaitQueue waitQueue, long dependencyTimeStamp )
+    {
+        return () ->
+        {
+            waitQueue.await( dependencyTimeStamp, LONG_PARK_DURATION_AS_NANO );
+            return null;
+        };
+    }
+
+    private static void awaitWaiterCount( CompletionTimeWaitQueue waitQueue, int waiterCount )
+    {
+        while ( waitQueue.waiterCount() < waiterCount )
+        {
+            LockSupport.parkNanos( TimeUnit.MILLISECONDS.toNanos( 1 ) );
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package org.ldbcouncil.snb.driver.runtime.scheduling;
+
+import org.junit.jupiter.api.Test;
+import org.ldbcouncil.snb.driver.runtime.coordination.DummyCompletionTimeReader;
+import org.ldbcouncil.snb.driver.temporal.SystemTimeSource;
+import org.ldbcouncil.snb.driver.workloads.interactive.queries.LdbcDelete1RemovePerson;
+import org.ldbcouncil.snb.driver.workloads.interactive.queries.LdbcDelete2RemovePostLike;
+import org.ldbcouncil.snb.driver.workloads.interactive.queries.LdbcInsert2AddPostLike;
+import org.ldbcouncil.snb.driver.workloads.interactive.queries.LdbcInsert8AddFriendship;
+
+import java.util.Date;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.equalTo;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+
+public class EntityDependencyCheckTest
+{
+    @Test
+    public void shouldPassOperationsOnDisjointEntitiesImmediately()
+    {
+        // Given
+        EntityDependencyCheck check = new EntityDependencyCheck( 0 );
+        LdbcInsert8AddFriendship friendship = new LdbcInsert8AddFriendship( 1, 2, new Date( 0 ) );
+        LdbcInsert2AddPostLike postLike = new LdbcInsert2AddPostLike( 3, 1, new Date( 0 ) );
+
+        // When
+        check.register( friendship );
+        check.register( postLike );
+
+        // Then
+        // person 1 and post 1 are different entities
+        assertThat( check.doCheck( postLike ), is( SpinnerCheck.SpinnerCheckResult.PASSED ) );
+        assertThat( check.doCheck( friendship ), is( SpinnerCheck.SpinnerCheckResult.PASSED ) );
+        assertThat( check.unfinishedOperationCount(), equalTo( 2 ) );
+    }
+
+    @Test
+    public void shouldWaitForEarlierOperationOnSameEntity()
+    {
+        // Given
+        EntityDependencyCheck check = new EntityDependencyCheck( 0 );
+        LdbcInsert2AddPostLike postLike = new LdbcInsert2AddPostLike( 1, 5, new Date( 0 ) );
+        LdbcInsert8AddFriendship friendship = new LdbcInsert8AddFriendship( 2, 1, new Date( 0 ) );
+        LdbcDelete2RemovePostLike removePostLike = new LdbcDelete2RemovePostLike( 1, 5 );
+        check.register( postLike );
+        check.register( friendship );
+        check.register( removePostLike );
+
+        // When/Then
+        assertThat( check.doCheck( postLike ), is( SpinnerCheck.SpinnerCheckResult.PASSED ) );
+        assertThat( check.doCheck( friendship ), is( SpinnerCheck.SpinnerCheckResult.STILL_CHECKING ) );
+        assertThat( check.doCheck( removePostLike ), is( SpinnerCheck.SpinnerCheckResult.STILL_CHECKING ) );
+
+        check.afterExecute( postLike );
+        assertThat( check.doCheck( friendship ), is( SpinnerCheck.SpinnerCheckResult.PASSED ) );
+        // person 1 was last named by the friendship
+        assertThat( check.doCheck( removePostLike ), is( SpinnerCheck.SpinnerCheckResult.STILL_CHECKING ) );
+
+        check.afterExecute( friendship );
+        assertThat( check.doCheck( removePostLike ), is( SpinnerCheck.SpinnerCheckResult.PASSED ) );
+
+        check.afterExecute( removePostLike );
+        assertThat( check.unfinishedOperationCount(), equalTo( 0 ) );
+    }
+
+    @Test
+    public void shouldWaitForAllEarlierOperationsBeforeCascadingDeleteAndForItAfter()
+    {
+        // Given
+        EntityDependencyCheck check = new EntityDependencyCheck( 0 );
+        LdbcInsert8AddFriendship friendship = new LdbcInsert8AddFriendship( 1, 2, new Date( 0 ) );
+        LdbcInsert2AddPostLike postLike = new LdbcInsert2AddPostLike( 3, 4, new Date( 0 ) );
+        LdbcDelete1RemovePerson removePerson = new LdbcDelete1RemovePerson( 5 );
+        LdbcInsert2AddPostLike laterPostLike = new LdbcInsert2AddPostLike( 6, 7, new Date( 0 ) );
+        check.register( friendship );
+        check.register( postLike );
+        check.register( removePerson );
+        check.register( laterPostLike );
+
+        // When/Then
+        assertThat( check.doCheck( removePerson ), is( SpinnerCheck.SpinnerCheckResult.STILL_CHECKING ) );
+        assertThat( check.doCheck( laterPostLike ), is( SpinnerCheck.SpinnerCheckResult.STILL_CHECKING ) );
+
+        check.afterExecute( friendship );
+        assertThat( check.doCheck( removePerson ), is( SpinnerCheck.SpinnerCheckResult.STILL_CHECKING ) );
+
+        check.afterExecute( postLike );
+        assertThat( check.doCheck( removePerson ), is( SpinnerCheck.SpinnerCheckResult.PASSED ) );
+        assertThat( check.doCheck( laterPostLike ), is( SpinnerCheck.SpinnerCheckResult.STILL_CHECKING ) );
+
+        check.afterExecute( removePerson );
+        assertThat( check.doCheck( laterPostLike ), is( SpinnerCheck.SpinnerCheckResult.PASSED ) );
+    }
+
+    @Test
+    public void shouldWakeParkedThreadWhenPredecessorFinishes() throws Exception
+    {
+        // Given
+        EntityDependencyCheck check = new EntityDependencyCheck( TimeUnit.MINUTES.toNanos( 1 ) );
+        LdbcInsert8AddFriendship friendship = new LdbcInsert8AddFriendship( 1, 2, new Date( 0 ) );
+        LdbcInsert8AddFriendship laterFriendship = new LdbcInsert8AddFriendship( 2, 3, new Date( 0 ) );
+        check.register( friendship );
+        check.register( laterFriendship );
+
+        // When
+        CompletableFuture<SpinnerCheck.SpinnerCheckResult> parkedCheck =
+                CompletableFuture.supplyAsync( () -> check.doCheck( laterFriendship ) );
+        Spinner.powerNap( 100 );
+        check.afterExecute( friendship );
+
+        // Then
+        assertThat( parkedCheck.get( 10, TimeUnit.SECONDS ), is( SpinnerCheck.SpinnerCheckResult.PASSED ) );
+    }
+
+    @Test
+    public void shouldNotParkSpinnerInCompletionTimeWaitQueueOnceCheckParkTimesOut() throws Exception
+    {
+        // Given
+        // completion time never reaches the dependency time stamp, so a waiter in its queue is parked for a minute
+        DummyCompletionTimeReader completionTimeReader = new DummyCompletionTimeReader();
+        completionTimeReader.setCompletionTimeAsMilli( 0 );
+        long spinnerSleepDurationAsMilli = TimeUnit.MINUTES.toMillis( 1 );
+        Spinner spinner = new Spinner( new SystemTimeSource(), spinnerSleepDurationAsMilli, true,
+                new CompletionTimeWaitQueue( completionTimeReader ), false );
+        EntityDependencyCheck check = new EntityDependencyCheck( TimeUnit.MILLISECONDS.toNanos( 10 ) );
+        LdbcInsert8AddFriendship friendship = new LdbcInsert8AddFriendship( 1, 2, new Date( 0 ) );
+        LdbcInsert8AddFriendship laterFriendship = new LdbcInsert8AddFriendship( 2, 3, new Date( 0 ) );
+        laterFriendship.setDependencyTimeStamp( 10 );
+        check.register( friendship );
+        check.register( laterFriendship );
+        long startTimeAsMilli = System.currentTimeMillis();
+
+        // When
+        CompletableFuture<Boolean> spinning =
+                CompletableFuture.supplyAsync( () -> spinner.waitForScheduledStartTime( laterFriendship, check ) );
+        // longer than the check parks for
+        Spinner.powerNap( 100 );
+        check.afterExecute( friendship );
+
+        // Then
+        assertThat( spinning.get( 10, TimeUnit.SECONDS ), is( true ) );
+        assertThat( System.currentTimeMillis() - startTimeAsMilli, lessThan( spinnerSleepDurationAsMilli ) );
+    }
+}
@@ -0,0 +1,130 @@
+package org.ldbcouncil.snb.driver.runtime.scheduling;
+
+import org.HdrHistogram.Histogram;
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.runtime.ConcurrentErrorReporter;
+import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeService;
+import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeServiceAssistant;
+import org.ldbcouncil.snb.driver.runtime.coordination.CompletionTimeWriter;
+import org.ldbcouncil.snb.driver.temporal.SystemTimeSource;
+import org.ldbcouncil.snb.driver.temporal.TimeSource;
+import org.ldbcouncil.snb.driver.workloads.dummy.TimedNamedOperation1;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * Reports scheduling lateness (actual minus scheduled start time) of the polling spinner, which sleeps between
+ * checks, and of the spinner that parks operations on a completion time wait queue, along with process CPU time.
+ * Every operation depends on the one a fixed distance before it, so operations wait on completion time as well as on
+ * their scheduled start time.
+ */
+@Disabled
+public class SpinnerLatenessPerformanceTest
+{
+    private final TimeSource timeSource = new SystemTimeSource();
+
+    @Test
+    public void compareLatenessOfPollingAndWaitQueueSpinners() throws Exception
+    {
+        int threadCount = 16;
+        int operationCount = 20_000;
+        long intervalAsMicro = 250;
+        int dependencyDistance = 8;
+        for ( long sleepDurationAsMilli : new long[]{1, 10} )
+        {
+            doTest( false, sleepDurationAsMilli, threadCount, operationCount, intervalAsMicro, dependencyDistance );
+            doTest( true, sleepDurationAsMilli, threadCount, operationCount, intervalAsMicro, dependencyDistance );
+            System.out.println();
+        }
+    }
+
+    private void doTest( boolean useWaitQueue, long sleepDurationAsMilli, int threadCount, int operationCount,
+            long intervalAsMicro, int dependencyDistance ) throws Exception
+    {
+        ConcurrentErrorReporter errorReporter = new ConcurrentErrorReporter();
+        CompletionTimeService completionTimeService =
+                new CompletionTimeServiceAssistant().newLockFreeCompletionTimeService();
+        CompletionTimeWaitQueue waitQueue = new CompletionTimeWaitQueue( completionTimeService );
+        CompletionTimeWriter completionTimeWriter = completionTimeService.newCompletionTimeWriter();
+        if ( useWaitQueue )
+        {
+            completionTimeWriter = waitQueue.notifyingWriter( completionTimeWriter );
+        }
+        boolean ignoreScheduledStartTime = false;
+        Spinner spinner = (useWaitQueue)
+                          ? new Spinner( timeSource, sleepDurationAsMilli, ignoreScheduledStartTime, waitQueue )
+                          : new Spinner( timeSource, sleepDurationAsMilli, ignoreScheduledStartTime );
+        SpinnerCheck check = new CtDependencyCheck( completionTimeService, errorReporter );
+        ExecutorService executor = Executors.newFixedThreadPool( threadCount );
+
+        // align milli time source with nano time, so lateness can be measured with sub millisecond resolution
+        long baseTimeAsMilli = timeSource.nowAsMilli() + 100;
+        while ( timeSource.nowAsMilli() < baseTimeAsMilli )
+        {
+            Thread.onSpinWait();
+        }
+        long baseTimeAsNano = System.nanoTime();
+        long cpuTimeBeforeAsNano = processCpuTimeAsNano();
+
+        List<Future<Long>> latenesses = new ArrayList<>();
+        long[] timeStamps = new long[operationCount];
+        for ( int i = 0; i < operationCount; i++ )
+        {
+            long scheduledStartTimeAsNano = baseTimeAsNano + TimeUnit.MICROSECONDS.toNanos( i * intervalAsMicro );
+            long scheduledStartTimeAsMilli =
+                    baseTimeAsMilli + TimeUnit.NANOSECONDS.toMillis( scheduledStartTimeAsNano - baseTimeAsNano );
+            // time stamps must be unique and increasing, several operations share a scheduled start millisecond
+            timeStamps[i] = baseTimeAsMilli + i;
+            long dependencyTimeStamp = (i < dependencyDistance) ? -1 : timeStamps[i - dependencyDistance];
+            Operation operation = new TimedNamedOperation1( scheduledStartTimeAsMilli, timeStamps[i],
+                    dependencyTimeStamp, "name" );
+            completionTimeWriter.submitInitiatedTime( operation.timeStamp() );
+            CompletionTimeWriter writer = completionTimeWriter;
+            latenesses.add( executor.submit( () ->
+            {
+                spinner.waitForScheduledStartTime( operation, check );
+                long latenessAsNano = Math.max( 0, System.nanoTime() - scheduledStartTimeAsNano );
+                writer.submitCompletedTime( operation.timeStamp() );
+                return latenessAsNano;
+            } ) );
+        }
+
+        Histogram latenessHistogram = new Histogram( TimeUnit.MINUTES.toNanos( 1 ), 3 );
+        for ( Future<Long> lateness : latenesses )
+        {
+            latenessHistogram.recordValue( lateness.get() );
+        }
+        long cpuTimeAsNano = processCpuTimeAsNano() - cpuTimeBeforeAsNano;
+        executor.shutdown();
+        assertThat( errorReporter.toString(), errorReporter.errorEncountered(), is( false ) );
+
+        System.out.println( format( "%s (sleep %s ms, %s threads) %s operations, cpu %s ms",
+                (useWaitQueue) ? "Wait queue spinner" : "Polling spinner   ",
+                sleepDurationAsMilli, threadCount, operationCount, TimeUnit.NANOSECONDS.toMillis( cpuTimeAsNano ) ) );
+        System.out.println( format( "    lateness (us): mean %.0f, p50 %s, p90 %s, p99 %s, p99.9 %s, max %s",
+                latenessHistogram.getMean() / 1000,
+                TimeUnit.NANOSECONDS.toMicros( latenessHistogram.getValueAtPercentile( 50 ) ),
+                TimeUnit.NANOSECONDS.toMicros( latenessHistogram.getValueAtPercentile( 90 ) ),
+                TimeUnit.NANOSECONDS.toMicros( latenessHistogram.getValueAtPercentile( 99 ) ),
+                TimeUnit.NANOSECONDS.toMicros( latenessHistogram.getValueAtPercentile( 99.9 ) ),
+                TimeUnit.NANOSECONDS.toMicros( latenessHistogram.getMaxValue() ) ) );
+    }
+
+    private static long processCpuTimeAsNano()
+    {
+        return ((com.sun.management.OperatingSystemMXBean) ManagementFactory.getOperatingSystemMXBean())
+                .getProcessCpuTime();
+    }
+}
@@ -0,0 +1,77 @@
+package org.ldbcouncil.snb.driver.workloads.interactive;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+public class AdaptivePrefetchDepthTest
+{
+    private static final long MS = TimeUnit.MILLISECONDS.toNanos( 1 );
+
+    @Test
+    public void shouldGrowWhenBufferRunsDryUpToMaximum()
+    {
+        // Given
+        AdaptivePrefetchDepth prefetchDepth = new AdaptivePrefetchDepth( 4, 6 );
+
+        // When
+        prefetchDepth.onBatchLoaded( 100 * MS, 0 );
+        prefetchDepth.onBatchLoaded( 100 * MS, 1 );
+
+        // Then
+        assertThat( prefetchDepth.depth(), is( 5 ) );
+
+        // When
+        prefetchDepth.onBatchLoaded( 100 * MS, 0 );
+        prefetchDepth.onBatchLoaded( 100 * MS, 0 );
+
+        // Then
+        assertThat( prefetchDepth.depth(), is( 6 ) );
+    }
+
+    @Test
+    public void shouldCoverPeakLoadDurationWithConsumedBatches()
+    {
+        // Given
+        AdaptivePrefetchDepth prefetchDepth = new AdaptivePrefetchDepth( 4, 16 );
+
+        // When consuming a batch takes a tenth of the slowest load
+        prefetchDepth.onBatchLoaded( 10 * MS, 2 );
+        prefetchDepth.onBatchLoaded( 100 * MS, 2 );
+        prefetchDepth.onBatchConsumed( 10 * MS );
+
+        // Then
+        assertThat( prefetchDepth.depth(), is( 11 ) );
+
+        // When consumption slows down to longer than loads
+        for ( int i = 0; i < 20; i++ )
+        {
+            prefetchDepth.onBatchLoaded( 10 * MS, 2 );
+            prefetchDepth.onBatchConsumed( 200 * MS );
+        }
+
+        // Then
+        assertThat( prefetchDepth.depth(), is( 2 ) );
+    }
+
+    @Test
+    public void shouldStayWithinBounds()
+    {
+        // Given
+        AdaptivePrefetchDepth prefetchDepth = new AdaptivePrefetchDepth( 8, 3 );
+
+        // Then
+        assertThat( prefetchDepth.depth(), is( 3 ) );
+        assertThat( prefetchDepth.maxDepth(), is( 3 ) );
+
+        // When
+        prefetchDepth.onBatchLoaded( TimeUnit.SECONDS.toNanos( 10 ), 1 );
+        prefetchDepth.onBatchConsumed( MS );
+
+        // Then
+        assertThat( prefetchDepth.depth(), is( 3 ) );
+    }
+}
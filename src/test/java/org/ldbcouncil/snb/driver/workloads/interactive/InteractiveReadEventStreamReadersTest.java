@@ -4,13 +4,16 @@ import org.ldbcouncil.snb.driver.Operation;
 import org.ldbcouncil.snb.driver.WorkloadException;
 import org.ldbcouncil.snb.driver.csv.ParquetLoader;
 import org.ldbcouncil.snb.driver.csv.DuckDbConnectionState;
+import org.ldbcouncil.snb.driver.csv.ResultSetOperationIterator;
 import org.ldbcouncil.snb.driver.generator.EventStreamReader;
+import org.ldbcouncil.snb.driver.testutils.TestUtils;
 import org.ldbcouncil.snb.driver.workloads.interactive.queries.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import java.sql.Connection;
 import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
 import java.sql.Statement;
 import java.sql.Timestamp;
 import java.sql.SQLException;
@@ -19,6 +22,7 @@ import java.util.*;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -42,10 +46,23 @@ public class InteractiveReadEventStreamReadersTest
         when(connection.createStatement()).thenReturn(stmt);
     }
 
+    /**
+     * Mock a result set of DuckDb, of which all columns are read as timestamps are TIMESTAMP columns
+     * returning their epoch microseconds as long values
+     */
+    private ResultSet mockResultSet() throws SQLException {
+        ResultSet rs = mock(ResultSet.class);
+        ResultSetMetaData metaData = mock(ResultSetMetaData.class);
+        when(rs.getMetaData()).thenReturn(metaData);
+        when(metaData.getColumnCount()).thenReturn(10);
+        when(metaData.getColumnTypeName(anyInt())).thenReturn("TIMESTAMP");
+        return rs;
+    }
+
     @Test
     public void shouldParseAllQuery1Events() throws WorkloadException, SQLException {
         // Arrange
-        ResultSet rs = mock(ResultSet.class);
+        ResultSet rs = mockResultSet();
         when(rs.next()).thenReturn(true).thenReturn(true).thenReturn(true).thenReturn(true).thenReturn(false);
         when(stmt.executeQuery(anyString())).thenReturn(rs);
         when(rs.getLong(1))
@@ -58,16 +75,16 @@ public class InteractiveReadEventStreamReadersTest
             .thenReturn("Yang")
             .thenReturn("A.")
             .thenReturn("Chen");
-        when(rs.getString(3))
-            .thenReturn("2012-07-29 08:52:02.735")
-            .thenReturn("2012-07-29 08:52:02.735")
-            .thenReturn("2012-07-29 08:52:02.735")
-            .thenReturn("2012-07-29 08:52:02.735");
-        when(rs.getString(4))
-            .thenReturn("2019-12-30 00:00:00.0")
-            .thenReturn("2019-12-30 00:00:00.0")
-            .thenReturn("2019-12-30 00:00:00.0")
-            .thenReturn("2019-12-30 00:00:00.0");
+        when(rs.getLong(3))
+            .thenReturn(1343551922735000L)
+            .thenReturn(1343551922735000L)
+            .thenReturn(1343551922735000L)
+            .thenReturn(1343551922735000L);
+        when(rs.getLong(4))
+            .thenReturn(1577664000000000L)
+            .thenReturn(1577664000000000L)
+            .thenReturn(1577664000000000L)
+            .thenReturn(1577664000000000L);
         EventStreamReader.EventDecoder<Operation> decoder = new QueryEventStreamReader.Query1Decoder();
         ParquetLoader loader = new ParquetLoader(db);
         Iterator<Operation> opStream = loader.loadOperationStream("/somepath", decoder);
@@ -110,7 +127,7 @@ public class InteractiveReadEventStreamReadersTest
     @Test
     public void shouldParseAllQuery2Events() throws WorkloadException, SQLException {
         // Arrange
-        ResultSet rs = mock(ResultSet.class);
+        ResultSet rs = mockResultSet();
         when(rs.next()).thenReturn(true).thenReturn(true).thenReturn(true).thenReturn(true).thenReturn(false);
         when(stmt.executeQuery(anyString())).thenReturn(rs);
         when(rs.getLong(1))
@@ -123,16 +140,16 @@ public class InteractiveReadEventStreamReadersTest
             .thenReturn(Timestamp.valueOf("2013-01-28 01:00:00.000"))
             .thenReturn(Timestamp.valueOf("2013-02-02 01:00:00.000"))
             .thenReturn(Timestamp.valueOf("2013-10-16 02:00:00.000"));
-        when(rs.getString(3))
-            .thenReturn("2012-07-29 08:52:02.735")
-            .thenReturn("2012-07-29 08:52:02.735")
-            .thenReturn("2012-07-29 08:52:02.735")
-            .thenReturn("2012-07-29 08:52:02.735");
-        when(rs.getString(4))
-            .thenReturn("2019-12-30 00:00:00.0")
-            .thenReturn("2019-12-30 00:00:00.0")
-            .thenReturn("2019-12-30 00:00:00.0")
-            .thenReturn("2019-12-30 00:00:00.0");
+        when(rs.getLong(3))
+            .thenReturn(1343551922735000L)
+            .thenReturn(1343551922735000L)
+            .thenReturn(1343551922735000L)
+            .thenReturn(1343551922735000L);
+        when(rs.getLong(4))
+            .thenReturn(1577664000000000L)
+            .thenReturn(1577664000000000L)
+            .thenReturn(1577664000000000L)
+            .thenReturn(1577664000000000L);
         EventStreamReader.EventDecoder<Operation> decoder = new QueryEventStreamReader.Query2Decoder();
         ParquetLoader loader = new ParquetLoader(db);
         Iterator<Operation> opStream = loader.loadOperationStream("/somepath", decoder);
@@ -168,7 +185,7 @@ public class InteractiveReadEventStreamReadersTest
     @Test
     public void shouldParseAllQuery3aEvents() throws WorkloadException, SQLException {
         // Arrange
-        ResultSet rs = mock(ResultSet.class);
+        ResultSet rs = mockResultSet();
         when(rs.next()).thenReturn(true).thenReturn(true).thenReturn(true).thenReturn(true).thenReturn(false);
         when(stmt.executeQuery(anyString())).thenReturn(rs);
         when(rs.getLong(1)).thenReturn(9895605643992l).thenReturn(979201l).thenReturn(129891l).thenReturn(13194140498760l);
@@ -181,16 +198,16 @@ public class InteractiveReadEventStreamReadersTest
             .thenReturn(Timestamp.valueOf("2010-12-01 01:00:00.000" ));
         when(rs.getInt(5)).thenReturn(53).thenReturn(64).thenReturn(58).thenReturn(53);
 
-        when(rs.getString(6))
-            .thenReturn("2012-07-29 08:52:02.735")
-            .thenReturn("2012-07-29 08:52:02.735")
-            .thenReturn("2012-07-29 08:52:02.735")
-            .thenReturn("2012-07-29 08:52:02.735");
-        when(rs.getString(7))
-            .thenReturn("2019-12-30 00:00:00.0")
-            .thenReturn("2019-12-30 00:00:00.0")
-            .thenReturn("2019-12-30 00:00:00.0")
-            .thenReturn("2019-12-30 00:00:00.0");
+        when(rs.getLong(6))
+            .thenReturn(1343551922735000L)
+            .thenReturn(1343551922735000L)
+            .thenReturn(1343551922735000L)
+            .thenReturn(1343551922735000L);
+        when(rs.getLong(7))
+            .thenReturn(1577664000000000L)
+            .thenReturn(1577664000000000L)
+            .thenReturn(1577664000000000L)
+            .thenReturn(1577664000000000L);
         EventStreamReader.EventDecoder<Operation> decoder = new QueryEventStreamReader.Query3aDecoder();
         ParquetLoader loader = new ParquetLoader(db);
         Iterator<Operation> opStream = loader.loadOperationStream("/somepath", decoder);
@@ -236,7 +253,7 @@ public class InteractiveReadEventStreamReadersTest
     @Test
     public void shouldParseAllQuery4Events() throws WorkloadException, SQLException {
         // Arrange
-        ResultSet rs = mock(ResultSet.class);
+        ResultSet rs = mockResultSet();
         when(rs.next()).thenReturn(true).thenReturn(true).thenReturn(true).thenReturn(true).thenReturn(false);
         when(stmt.executeQuery(anyString())).thenReturn(rs);
         when(rs.getLong(1))
@@ -254,16 +271,16 @@ public class InteractiveReadEventStreamReadersTest
             .thenReturn(36)
             .thenReturn(57)
             .thenReturn(81);
-        when(rs.getString(4))
-            .thenReturn("2012-07-29 08:52:02.735")
-            .thenReturn("2012-07-29 08:52:02.735")
-            .thenReturn("2012-07-29 08:52:02.735")
-            .thenReturn("2012-07-29 08:52:02.735");
-        when(rs.getString(5))
-            .thenReturn("2019-12-30 00:00:00.0")
-            .thenReturn("2019-12-30 00:00:00.0")
-            .thenReturn("2019-12-30 00:00:00.0")
-            .thenReturn("2019-12-30 00:00:00.0");
+        when(rs.getLong(4))
+            .thenReturn(1343551922735000L)
+            .thenReturn(1343551922735000L)
+            .thenReturn(1343551922735000L)
+            .thenReturn(1343551922735000L);
+        when(rs.getLong(5))
+            .thenReturn(1577664000000000L)
+            .thenReturn(1577664000000000L)
+            .thenReturn(1577664000000000L)
+            .thenReturn(1577664000000000L);
         EventStreamReader.EventDecoder<Operation> decoder = new QueryEventStreamReader.Query4Decoder();
         ParquetLoader loader = new ParquetLoader(db);
         Iterator<Operation> opStream = loader.loadOperationStream("/somepath", decoder);
@@ -301,7 +318,7 @@ public class InteractiveReadEventStreamReadersTest
     @Test
     public void shouldParseAllQuery5Events() throws WorkloadException, SQLException {
         // Arrange
-        ResultSet rs = mock(ResultSet.class);
+        ResultSet rs = mockResultSet();
         when(rs.next()).thenReturn(true).thenReturn(true).thenReturn(true).thenReturn(true).thenReturn(false);
         when(stmt.executeQuery(anyString())).thenReturn(rs);
         when(rs.getLong(1))
@@ -314,16 +331,16 @@ public class InteractiveReadEventStreamReadersTest
             .thenReturn(Timestamp.valueOf("2012-12-16 01:00:00.000"))
             .thenReturn(Timestamp.valueOf("2012-12-14 01:00:00.000"))
             .thenReturn(Timestamp.valueOf("2012-12-12 01:00:00.000"));
-        when(rs.getString(3))
-            .thenReturn("2012-07-29 08:52:02.735")
-            .thenReturn("2012-07-29 08:52:02.735")
-            .thenReturn("2012-07-29 08:52:02.735")
-            .thenReturn("2012-07-29 08:52:02.735");
-        when(rs.getString(4))
-            .thenReturn("2019-12-30 00:00:00.0")
-            .thenReturn("2019-12-30 00:00:00.0")
-            .thenReturn("2019-12-30 00:00:00.0")
-            .thenReturn("2019-12-30 00:00:00.0");
+        when(rs.getLong(3))
+            .thenReturn(1343551922735000L)
+            .thenReturn(1343551922735000L)
+            .thenReturn(1343551922735000L)
+            .thenReturn(1343551922735000L);
+        when(rs.getLong(4))
+            .thenReturn(1577664000000000L)
+            .thenReturn(1577664000000000L)
+            .thenReturn(1577664000000000L)
+            .thenReturn(1577664000000000L);
         EventStreamReader.EventDecoder<Operation> decoder = new QueryEventStreamReader.Query5Decoder();
         ParquetLoader loader = new ParquetLoader(db);
         Iterator<Operation> opStream = loader.loadOperationStream("/somepath", decoder);
@@ -360,7 +377,7 @@ public class InteractiveReadEventStreamReadersTest
     @Test
     public void shouldParseAllQuery6Events() throws WorkloadException, SQLException {
         // Arrange
-        ResultSet rs = mock(ResultSet.class);
+        ResultSet rs = mockResultSet();
         when(rs.next()).thenReturn(true).thenReturn(true).thenReturn(true).thenReturn(true).thenReturn(false);
         when(stmt.executeQuery(anyString())).thenReturn(rs);
         when(rs.getString(2))
@@ -373,16 +390,16 @@ public class InteractiveReadEventStreamReadersTest
             .thenReturn(979201l)
             .thenReturn(129891l)
             .thenReturn(13194140498760l);
-        when(rs.getString(3))
-            .thenReturn("2012-07-29 08:52:02.735")
-            .thenReturn("2012-07-29 08:52:02.735")
-            .thenReturn("2012-07-29 08:52:02.735")
-            .thenReturn("2012-07-29 08:52:02.735");
-        when(rs.getString(4))
-            .thenReturn("2019-12-30 00:00:00.0")
-            .thenReturn("2019-12-30 00:00:00.0")
-            .thenReturn("2019-12-30 00:00:00.0")
-            .thenReturn("2019-12-30 00:00:00.0");
+        when(rs.getLong(3))
+            .thenReturn(1343551922735000L)
+            .thenReturn(1343551922735000L)
+            .thenReturn(1343551922735000L)
+            .thenReturn(1343551922735000L);
+        when(rs.getLong(4))
+            .thenReturn(1577664000000000L)
+            .thenReturn(1577664000000000L)
+            .thenReturn(1577664000000000L)
+            .thenReturn(1577664000000000L);
         EventStreamReader.EventDecoder<Operation> decoder = new QueryEventStreamReader.Query6Decoder();
         ParquetLoader loader = new ParquetLoader(db);
         Iterator<Operation> opStream = loader.loadOperationStream("/somepath", decoder);
@@ -421,7 +438,7 @@ public class InteractiveReadEventStreamReadersTest
     @Test
     public void shouldParseAllQuery7Events() throws WorkloadException, SQLException{
         // Arrange
-        ResultSet rs = mock(ResultSet.class);
+        ResultSet rs = mockResultSet();
         when(rs.next()).thenReturn(true).thenReturn(true).thenReturn(true).thenReturn(true).thenReturn(false);
         when(stmt.executeQuery(anyString())).thenReturn(rs);
         when(rs.getLong(1))
@@ -429,16 +446,16 @@ public class InteractiveReadEventStreamReadersTest
             .thenReturn(14293651330072l)
             .thenReturn(4398047140913l)
             .thenReturn(13194140823804l);
-            when(rs.getString(2))
-            .thenReturn("2012-07-29 08:52:02.735")
-            .thenReturn("2012-07-29 08:52:02.735")
-            .thenReturn("2012-07-29 08:52:02.735")
-            .thenReturn("2012-07-29 08:52:02.735");
-        when(rs.getString(3))
-            .thenReturn("2019-12-30 00:00:00.0")
-            .thenReturn("2019-12-30 00:00:00.0")
-            .thenReturn("2019-12-30 00:00:00.0")
-            .thenReturn("2019-12-30 00:00:00.0");
+            when(rs.getLong(2))
+            .thenReturn(1343551922735000L)
+            .thenReturn(1343551922735000L)
+            .thenReturn(1343551922735000L)
+            .thenReturn(1343551922735000L);
+        when(rs.getLong(3))
+            .thenReturn(1577664000000000L)
+            .thenReturn(1577664000000000L)
+            .thenReturn(1577664000000000L)
+            .thenReturn(1577664000000000L);
         EventStreamReader.EventDecoder<Operation> decoder = new QueryEventStreamReader.Query7Decoder();
         ParquetLoader loader = new ParquetLoader(db);
         Iterator<Operation> opStream = loader.loadOperationStream("/somepath", decoder);
@@ -472,7 +489,7 @@ public class InteractiveReadEventStreamReadersTest
     @Test
     public void shouldParseAllQuery8Events() throws WorkloadException, SQLException {
         // Arrange
-        ResultSet rs = mock(ResultSet.class);
+        ResultSet rs = mockResultSet();
         when(rs.next()).thenReturn(true).thenReturn(true).thenReturn(true).thenReturn(true).thenReturn(false);
         when(stmt.executeQuery(anyString())).thenReturn(rs);
         when(rs.getLong(1))
@@ -480,16 +497,16 @@ public class InteractiveReadEventStreamReadersTest
             .thenReturn(15393163594341l)
             .thenReturn(7696582593995l)
             .thenReturn(15393162809578l);
-            when(rs.getString(2))
-            .thenReturn("2012-07-29 08:52:02.735")
-            .thenReturn("2012-07-29 08:52:02.735")
-            .thenReturn("2012-07-29 08:52:02.735")
-            .thenReturn("2012-07-29 08:52:02.735");
-        when(rs.getString(3))
-            .thenReturn("2019-12-30 00:00:00.0")
-            .thenReturn("2019-12-30 00:00:00.0")
-            .thenReturn("2019-12-30 00:00:00.0")
-            .thenReturn("2019-12-30 00:00:00.0");
+            when(rs.getLong(2))
+            .thenReturn(1343551922735000L)
+            .thenReturn(1343551922735000L)
+            .thenReturn(1343551922735000L)
+            .thenReturn(1343551922735000L);
+        when(rs.getLong(3))
+            .thenReturn(1577664000000000L)
+            .thenReturn(1577664000000000L)
+            .thenReturn(1577664000000000L)
+            .thenReturn(1577664000000000L);
         EventStreamReader.EventDecoder<Operation> decoder = new QueryEventStreamReader.Query8Decoder();
         ParquetLoader loader = new ParquetLoader(db);
         Iterator<Operation> opStream = loader.loadOperationStream("/somepath", decoder);
@@ -522,7 +539,7 @@ public class InteractiveReadEventStreamReadersTest
     @Test
     public void shouldParseAllQuery9Events() throws WorkloadException, SQLException {
         // Arrange
-        ResultSet rs = mock(ResultSet.class);
+        ResultSet rs = mockResultSet();
         when(rs.next()).thenReturn(true).thenReturn(true).thenReturn(true).thenReturn(true).thenReturn(false);
         when(stmt.executeQuery(anyString())).thenReturn(rs);
         when(rs.getLong(1))
@@ -535,16 +552,16 @@ public class InteractiveReadEventStreamReadersTest
             .thenReturn(Timestamp.valueOf("2011-11-19 01:00:00.000" ))
             .thenReturn(Timestamp.valueOf("2011-11-20 01:00:00.000" ))
             .thenReturn(Timestamp.valueOf("2011-12-01 01:00:00.000" ));
-            when(rs.getString(3))
-            .thenReturn("2012-07-29 08:52:02.735")
-            .thenReturn("2012-07-29 08:52:02.735")
-            .thenReturn("2012-07-29 08:52:02.735")
-            .thenReturn("2012-07-29 08:52:02.735");
-        when(rs.getString(4))
-            .thenReturn("2019-12-30 00:00:00.0")
-            .thenReturn("2019-12-30 00:00:00.0")
-            .thenReturn("2019-12-30 00:00:00.0")
-            .thenReturn("2019-12-30 00:00:00.0");
+            when(rs.getLong(3))
+            .thenReturn(1343551922735000L)
+            .thenReturn(1343551922735000L)
+            .thenReturn(1343551922735000L)
+            .thenReturn(1343551922735000L);
+        when(rs.getLong(4))
+            .thenReturn(1577664000000000L)
+            .thenReturn(1577664000000000L)
+            .thenReturn(1577664000000000L)
+            .thenReturn(1577664000000000L);
         EventStreamReader.EventDecoder<Operation> decoder = new QueryEventStreamReader.Query9Decoder();
         ParquetLoader loader = new ParquetLoader(db);
         Iterator<Operation> opStream = loader.loadOperationStream("/somepath", decoder);
@@ -579,7 +596,7 @@ public class InteractiveReadEventStreamReadersTest
     @Test
     public void shouldParseAllQuery10Events() throws WorkloadException, SQLException {
         // Arrange
-        ResultSet rs = mock(ResultSet.class);
+        ResultSet rs = mockResultSet();
         when(rs.next()).thenReturn(true).thenReturn(true).thenReturn(true).thenReturn(true).thenReturn(false);
         when(stmt.executeQuery(anyString())).thenReturn(rs);
         when(rs.getInt(2))
@@ -592,16 +609,16 @@ public class InteractiveReadEventStreamReadersTest
             .thenReturn(979201l)
             .thenReturn(129891l)
             .thenReturn(13194140498760l);
-            when(rs.getString(3))
-            .thenReturn("2012-07-29 08:52:02.735")
-            .thenReturn("2012-07-29 08:52:02.735")
-            .thenReturn("2012-07-29 08:52:02.735")
-            .thenReturn("2012-07-29 08:52:02.735");
-        when(rs.getString(4))
-            .thenReturn("2019-12-30 00:00:00.0")
-            .thenReturn("2019-12-30 00:00:00.0")
-            .thenReturn("2019-12-30 00:00:00.0")
-            .thenReturn("2019-12-30 00:00:00.0");
+            when(rs.getLong(3))
+            .thenReturn(1343551922735000L)
+            .thenReturn(1343551922735000L)
+            .thenReturn(1343551922735000L)
+            .thenReturn(1343551922735000L);
+        when(rs.getLong(4))
+            .thenReturn(1577664000000000L)
+            .thenReturn(1577664000000000L)
+            .thenReturn(1577664000000000L)
+            .thenReturn(1577664000000000L);
         EventStreamReader.EventDecoder<Operation> decoder = new QueryEventStreamReader.Query10Decoder();
         ParquetLoader loader = new ParquetLoader(db);
         Iterator<Operation> opStream = loader.loadOperationStream("/somepath", decoder);
@@ -641,7 +658,7 @@ public class InteractiveReadEventStreamReadersTest
     @Test
     public void shouldParseAllQuery11Events() throws WorkloadException, SQLException {
         // Arrange
-        ResultSet rs = mock(ResultSet.class);
+        ResultSet rs = mockResultSet();
         when(rs.next()).thenReturn(true).thenReturn(true).thenReturn(true).thenReturn(true).thenReturn(false);
         when(stmt.executeQuery(anyString())).thenReturn(rs);
         when(rs.getInt(3))
@@ -659,16 +676,16 @@ public class InteractiveReadEventStreamReadersTest
             .thenReturn(979201l)
             .thenReturn(129891l)
             .thenReturn(13194140498760l);
-            when(rs.getString(4))
-            .thenReturn("2012-07-29 08:52:02.735")
-            .thenReturn("2012-07-29 08:52:02.735")
-            .thenReturn("2012-07-29 08:52:02.735")
-            .thenReturn("2012-07-29 08:52:02.735");
-        when(rs.getString(5))
-            .thenReturn("2019-12-30 00:00:00.0")
-            .thenReturn("2019-12-30 00:00:00.0")
-            .thenReturn("2019-12-30 00:00:00.0")
-            .thenReturn("2019-12-30 00:00:00.0");
+            when(rs.getLong(4))
+            .thenReturn(1343551922735000L)
+            .thenReturn(1343551922735000L)
+            .thenReturn(1343551922735000L)
+            .thenReturn(1343551922735000L);
+        when(rs.getLong(5))
+            .thenReturn(1577664000000000L)
+            .thenReturn(1577664000000000L)
+            .thenReturn(1577664000000000L)
+            .thenReturn(1577664000000000L);
         EventStreamReader.EventDecoder<Operation> decoder = new QueryEventStreamReader.Query11Decoder();
         ParquetLoader loader = new ParquetLoader(db);
         Iterator<Operation> opStream = loader.loadOperationStream("/somepath", decoder);
@@ -711,7 +728,7 @@ public class InteractiveReadEventStreamReadersTest
     @Test
     public void shouldParseAllQuery12Events() throws WorkloadException, SQLException {
         // Arrange
-        ResultSet rs = mock(ResultSet.class);
+        ResultSet rs = mockResultSet();
         when(rs.next()).thenReturn(true).thenReturn(true).thenReturn(true).thenReturn(true).thenReturn(false);
         when(stmt.executeQuery(anyString())).thenReturn(rs);
         when(rs.getString(2))
@@ -724,16 +741,16 @@ public class InteractiveReadEventStreamReadersTest
             .thenReturn(9895606011404l)
             .thenReturn(14293651244033l)
             .thenReturn(13194139602632l);
-            when(rs.getString(3))
-            .thenReturn("2012-07-29 08:52:02.735")
-            .thenReturn("2012-07-29 08:52:02.735")
-            .thenReturn("2012-07-29 08:52:02.735")
-            .thenReturn("2012-07-29 08:52:02.735");
-        when(rs.getString(4))
-            .thenReturn("2019-12-30 00:00:00.0")
-            .thenReturn("2019-12-30 00:00:00.0")
-            .thenReturn("2019-12-30 00:00:00.0")
-            .thenReturn("2019-12-30 00:00:00.0");
+            when(rs.getLong(3))
+            .thenReturn(1343551922735000L)
+            .thenReturn(1343551922735000L)
+            .thenReturn(1343551922735000L)
+            .thenReturn(1343551922735000L);
+        when(rs.getLong(4))
+            .thenReturn(1577664000000000L)
+            .thenReturn(1577664000000000L)
+            .thenReturn(1577664000000000L)
+            .thenReturn(1577664000000000L);
         EventStreamReader.EventDecoder<Operation> decoder = new QueryEventStreamReader.Query12Decoder();
         ParquetLoader loader = new ParquetLoader(db);
         Iterator<Operation> opStream = loader.loadOperationStream("/somepath", decoder);
@@ -772,7 +789,7 @@ public class InteractiveReadEventStreamReadersTest
     @Test
     public void shouldParseAllQuery13bEvents() throws WorkloadException, SQLException {
         // Arrange
-        ResultSet rs = mock(ResultSet.class);
+        ResultSet rs = mockResultSet();
         when(rs.next()).thenReturn(true).thenReturn(true).thenReturn(true).thenReturn(true).thenReturn(false);
         when(stmt.executeQuery(anyString())).thenReturn(rs);
         when(rs.getLong(1))
@@ -785,16 +802,16 @@ public class InteractiveReadEventStreamReadersTest
             .thenReturn(95384l)
             .thenReturn(9895606000517l)
             .thenReturn(7696582276748l);
-            when(rs.getString(3))
-            .thenReturn("2012-07-29 08:52:02.735")
-            .thenReturn("2012-07-29 08:52:02.735")
-            .thenReturn("2012-07-29 08:52:02.735")
-            .thenReturn("2012-07-29 08:52:02.735");
-        when(rs.getString(4))
-            .thenReturn("2019-12-30 00:00:00.0")
-            .thenReturn("2019-12-30 00:00:00.0")
-            .thenReturn("2019-12-30 00:00:00.0")
-            .thenReturn("2019-12-30 00:00:00.0");
+            when(rs.getLong(3))
+            .thenReturn(1343551922735000L)
+            .thenReturn(1343551922735000L)
+            .thenReturn(1343551922735000L)
+            .thenReturn(1343551922735000L);
+        when(rs.getLong(4))
+            .thenReturn(1577664000000000L)
+            .thenReturn(1577664000000000L)
+            .thenReturn(1577664000000000L)
+            .thenReturn(1577664000000000L);
         EventStreamReader.EventDecoder<Operation> decoder = new QueryEventStreamReader.Query13bDecoder();
         ParquetLoader loader = new ParquetLoader(db);
         Iterator<Operation> opStream = loader.loadOperationStream("/somepath", decoder);
@@ -832,7 +849,7 @@ public class InteractiveReadEventStreamReadersTest
     @Test
     public void shouldParseAllQuery14bEvents() throws WorkloadException, SQLException {
         // Arrange
-        ResultSet rs = mock(ResultSet.class);
+        ResultSet rs = mockResultSet();
         when(rs.next()).thenReturn(true).thenReturn(true).thenReturn(true).thenReturn(true).thenReturn(false);
         when(stmt.executeQuery(anyString())).thenReturn(rs);
         when(rs.getLong(1))
@@ -845,16 +862,16 @@ public class InteractiveReadEventStreamReadersTest
             .thenReturn(1277748l)
             .thenReturn(6597069967720l)
             .thenReturn(3298534975254l);
-        when(rs.getString(3))
-            .thenReturn("2012-07-29 08:52:02.735")
-            .thenReturn("2012-07-29 08:52:02.735")
-            .thenReturn("2012-07-29 08:52:02.735")
-            .thenReturn("2012-07-29 08:52:02.735");
-        when(rs.getString(4))
-            .thenReturn("2019-12-30 00:00:00.0")
-            .thenReturn("2019-12-30 00:00:00.0")
-            .thenReturn("2019-12-30 00:00:00.0")
-            .thenReturn("2019-12-30 00:00:00.0");
+        when(rs.getLong(3))
+            .thenReturn(1343551922735000L)
+            .thenReturn(1343551922735000L)
+            .thenReturn(1343551922735000L)
+            .thenReturn(1343551922735000L);
+        when(rs.getLong(4))
+            .thenReturn(1577664000000000L)
+            .thenReturn(1577664000000000L)
+            .thenReturn(1577664000000000L)
+            .thenReturn(1577664000000000L);
         EventStreamReader.EventDecoder<Operation> decoder = new QueryEventStreamReader.Query14bDecoder();
         ParquetLoader loader = new ParquetLoader(db);
         Iterator<Operation> opStream = loader.loadOperationStream("/somepath", decoder);
@@ -889,4 +906,67 @@ public class InteractiveReadEventStreamReadersTest
         assertThat(operation.expiryTimeStamp(), equalTo(1577664000000L));
         assertThat(reader.hasNext(), is(false));
     }
+
+    @Test
+    public void shouldRestartFromFirstEventWhenRepeatingStreamIsExhausted() throws WorkloadException, SQLException {
+        // Arrange
+        String path = TestUtils.getResource("/snb/interactive/interactive-1.parquet").getAbsolutePath();
+        EventStreamReader.EventDecoder<Operation> decoder = new QueryEventStreamReader.Query1Decoder();
+        List<LdbcQuery1> allOperations = new ArrayList<>();
+        try (DuckDbConnectionState streamingDb = new DuckDbConnectionState(true)) {
+            ParquetLoader loader = new ParquetLoader(streamingDb);
+            Iterator<Operation> opStream = loader.loadOperationStream(path, decoder);
+            while (opStream.hasNext()) {
+                allOperations.add((LdbcQuery1) opStream.next());
+            }
+
+            // Act
+            // repeating streams open at the same time, each with its own streaming cursor
+            Iterator<Operation> repeatingStream1 = loader.loadRepeatingOperationStream(path, decoder);
+            Iterator<Operation> repeatingStream2 = loader.loadRepeatingOperationStream(path, decoder);
+            // replay cache smaller than the file, so the query is executed again on every pass
+            Iterator<Operation> requeryingStream = new ResultSetOperationIterator(
+                streamingDb.newConnection(),
+                "SELECT * FROM read_parquet('" + path + "');",
+                decoder,
+                true,
+                10
+            );
+
+            // Assert
+            assertThat(allOperations.isEmpty(), is(false));
+            for (int i = 0; i < allOperations.size() * 2 + 1; i++) {
+                LdbcQuery1 expected = allOperations.get(i % allOperations.size());
+                LdbcQuery1 operation1 = (LdbcQuery1) repeatingStream1.next();
+                LdbcQuery1 operation2 = (LdbcQuery1) repeatingStream2.next();
+                LdbcQuery1 operation3 = (LdbcQuery1) requeryingStream.next();
+                assertThat(operation1.getPersonIdQ1(), is(expected.getPersonIdQ1()));
+                assertThat(operation1.getFirstName(), equalTo(expected.getFirstName()));
+                assertThat(operation2.getPersonIdQ1(), is(expected.getPersonIdQ1()));
+                assertThat(operation3.getPersonIdQ1(), is(expected.getPersonIdQ1()));
+                assertThat(operation1.dependencyTimeStamp(), equalTo(expected.dependencyTimeStamp()));
+            }
+            assertThat(repeatingStream1.hasNext(), is(true));
+        }
+    }
+
+    @Test
+    public void shouldEndRepeatingStreamWhenThereAreNoEvents() throws WorkloadException, SQLException {
+        // Arrange
+        ResultSet rs = mockResultSet();
+        when(rs.next()).thenReturn(false);
+        when(stmt.executeQuery(anyString())).thenReturn(rs);
+        Connection connection = db.getConnection();
+        when(db.newConnection()).thenReturn(connection);
+        ParquetLoader loader = new ParquetLoader(db);
+
+        // Act
+        Iterator<Operation> opStream = loader.loadRepeatingOperationStream(
+            "/somepath",
+            new QueryEventStreamReader.Query1Decoder()
+        );
+
+        // Assert
+        assertThat(opStream.hasNext(), is(false));
+    }
 }
@@ -731,4 +731,70 @@ public class InteractiveShortReadGeneratorTest
         assertThat(operation, is(nullValue()));
         assertThat(state, is(initialProbability));
     }
+
+    @Test
+    public void shouldContinueChainFromIdsInResultOfPreviousOperationBeforeSharedBuffer() throws WorkloadException {
+        // Given
+        double initialProbability = Double.MAX_VALUE;
+        double probabilityDegradationFactor = 0.1;
+        long updateInterleaveAsMilli = 100;
+        Map<Integer, Long> longReadInterleavesAsMilli = new HashMap<>();
+        longReadInterleavesAsMilli.put(LdbcQuery1.TYPE, 1000l);
+        Set<Class<? extends Operation>> enabledShortReadOperationTypes = Sets.<Class<? extends Operation>>newHashSet(
+                LdbcShortQuery1PersonProfile.class
+        );
+        double compressionRatio = 1.0;
+        // ids added by other chains
+        EvictingQueue<Long> personIdBuffer = EvictingQueue.create(100);
+        personIdBuffer.add(100l);
+        EvictingQueue<Long> messageIdBuffer = EvictingQueue.create(100);
+        RandomDataGeneratorFactory randomFactory = new RandomDataGeneratorFactory(1l);
+        LdbcSnbShortReadGenerator shortReadGenerator = new LdbcSnbShortReadGenerator(
+                initialProbability,
+                probabilityDegradationFactor,
+                updateInterleaveAsMilli,
+                enabledShortReadOperationTypes,
+                compressionRatio,
+                personIdBuffer,
+                messageIdBuffer,
+                randomFactory,
+                longReadInterleavesAsMilli,
+                LdbcSnbShortReadGenerator.SCHEDULED_START_TIME_POLICY.PREVIOUS_OPERATION_ACTUAL_FINISH_TIME,
+                new LdbcSnbShortReadGenerator.ResultBufferReplenishFun(personIdBuffer, messageIdBuffer)
+        );
+
+        // When
+        Operation operation = shortReadGenerator.nextOperation(
+                shortReadGenerator.initialState(),
+                DummyLdbcSnbInteractiveOperationInstances.read1(),
+                Lists.newArrayList(
+                        DummyLdbcSnbInteractiveOperationResultInstances.read1Result(),
+                        DummyLdbcSnbInteractiveOperationResultInstances.read1Result()
+                ),
+                1,
+                TimeUnit.MILLISECONDS.toNanos(1)
+        );
+
+        // Then
+        // friend id of the result, rather than the id other chains added
+        assertThat(operation.type(), equalTo(LdbcShortQuery1PersonProfile.TYPE));
+        assertThat(((LdbcShortQuery1PersonProfile) operation).getPersonIdSQ1(), equalTo(1l));
+        // ids of the result are still shared with other chains
+        assertThat(Lists.newArrayList(personIdBuffer), equalTo(Lists.newArrayList(100l, 1l, 1l)));
+
+        // When
+        operation = shortReadGenerator.nextOperation(
+                shortReadGenerator.updateState(shortReadGenerator.initialState(), operation.type()),
+                operation,
+                DummyLdbcSnbInteractiveOperationResultInstances.short1Result(),
+                2,
+                TimeUnit.MILLISECONDS.toNanos(1)
+        );
+
+        // Then
+        // result of short read 1 has no ids, the chain continues from the id it did not use yet
+        assertThat(operation.type(), equalTo(LdbcShortQuery1PersonProfile.TYPE));
+        assertThat(((LdbcShortQuery1PersonProfile) operation).getPersonIdSQ1(), equalTo(1l));
+        assertThat(Lists.newArrayList(personIdBuffer), equalTo(Lists.newArrayList(100l, 1l, 1l)));
+    }
 }
@@ -3,12 +3,19 @@ package org.ldbcouncil.snb.driver.workloads.interactive;
 import com.google.common.collect.Lists;
 import org.ldbcouncil.snb.driver.Operation;
 import org.ldbcouncil.snb.driver.Workload;
+import org.ldbcouncil.snb.driver.WorkloadStreams;
 import org.ldbcouncil.snb.driver.control.ConsoleAndFileDriverConfiguration;
 import org.ldbcouncil.snb.driver.control.DriverConfiguration;
 import org.ldbcouncil.snb.driver.control.DriverConfigurationException;
+import org.ldbcouncil.snb.driver.control.Log4jLoggingServiceFactory;
+import org.ldbcouncil.snb.driver.control.LoggingServiceFactory;
+import org.ldbcouncil.snb.driver.control.ResultsLogFormat;
+import org.ldbcouncil.snb.driver.generator.GeneratorFactory;
+import org.ldbcouncil.snb.driver.generator.RandomDataGeneratorFactory;
 import org.ldbcouncil.snb.driver.testutils.TestUtils;
 import org.ldbcouncil.snb.driver.util.Tuple;
 import org.ldbcouncil.snb.driver.util.Tuple2;
+import org.ldbcouncil.snb.driver.util.Tuple3;
 import org.ldbcouncil.snb.driver.workloads.ClassNameWorkloadFactory;
 import org.ldbcouncil.snb.driver.workloads.WorkloadTest;
 import org.ldbcouncil.snb.driver.workloads.interactive.db.DummyLdbcSnbInteractiveDb;
@@ -26,6 +33,8 @@ import org.junit.jupiter.api.Disabled;
 import java.io.IOException;
 import java.io.File;
 
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Stream;
@@ -411,6 +420,142 @@ public class InteractiveWorkloadTest extends WorkloadTest
         shouldAssignMonotonicallyIncreasingScheduledStartTimesToOperations(configuration, temporaryFolder);
     }
 
+    @ParameterizedTest
+    @MethodSource("configurations")
+    public void shouldSeekToSameOperationsAsSkippedOperationsForInteractiveWorkload(DriverConfiguration configuration) throws Exception
+    {
+        // Given
+        GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42L ) );
+        LoggingServiceFactory loggingServiceFactory = new Log4jLoggingServiceFactory( false );
+        long offset = 20_000;
+        long limit = 10_000;
+        Tuple2<List<String>,Long> skippedOperationsAndMinimumTimeStamp =
+                skippedOperationsAndMinimumTimeStamp( configuration, gf, offset, limit, loggingServiceFactory );
+
+        // When
+        Tuple3<WorkloadStreams,Workload,Long> seekedStreamsAndWorkload =
+                WorkloadStreams.createNewWorkloadWithOffsetAndLimitedWorkloadStreams(
+                        configuration,
+                        gf,
+                        false,
+                        offset,
+                        limit,
+                        loggingServiceFactory
+                );
+        List<String> seekedOperations = describe( seekedStreamsAndWorkload._1() );
+        seekedStreamsAndWorkload._2().close();
+
+        // Then
+        assertThat( seekedStreamsAndWorkload._3(), equalTo( skippedOperationsAndMinimumTimeStamp._2() ) );
+        assertThat( seekedOperations, equalTo( skippedOperationsAndMinimumTimeStamp._1() ) );
+    }
+
+    @ParameterizedTest
+    @MethodSource("configurations")
+    public void shouldReadSameOperationsFromCompiledStreamsForInteractiveWorkload(DriverConfiguration configuration, @TempDir File temporaryFolder) throws Exception
+    {
+        // Given
+        long limit = 10_000;
+        List<String> operations = limitedOperations( configuration, limit );
+        DriverConfiguration compiledConfiguration = configuration.applyArg(
+                LdbcSnbInteractiveWorkloadConfiguration.COMPILED_STREAMS_DIRECTORY,
+                temporaryFolder.getAbsolutePath()
+        );
+        LdbcSnbInteractiveWorkload compilingWorkload = new LdbcSnbInteractiveWorkload();
+        compilingWorkload.init( compiledConfiguration );
+        Map<File,Boolean> compiled = compilingWorkload.compileStreams();
+        compilingWorkload.close();
+
+        // When
+        List<String> compiledOperations = limitedOperations( compiledConfiguration, limit );
+
+        // Then
+        assertTrue( !compiled.isEmpty() );
+        assertTrue( !compiled.containsValue( false ) );
+        assertThat( compiledOperations, equalTo( operations ) );
+    }
+
+    private List<String> limitedOperations( DriverConfiguration configuration, long limit ) throws Exception
+    {
+        GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42L ) );
+        Workload workload = new LdbcSnbInteractiveWorkload();
+        workload.init( configuration );
+        WorkloadStreams streams = workload.streams( gf, false );
+        WorkloadStreams limitedStreams = new WorkloadStreams();
+        limitedStreams.setAsynchronousStream(
+                streams.asynchronousStream().dependentOperationTypes(),
+                streams.asynchronousStream().dependencyOperationTypes(),
+                gf.limit( streams.asynchronousStream().dependencyOperations(), limit ),
+                gf.limit( streams.asynchronousStream().nonDependencyOperations(), limit ),
+                null
+        );
+        List<String> operations = describe( limitedStreams );
+        workload.close();
+        return operations;
+    }
+
+    // offset and limit counted on the streams of one workload, then skipped in the streams of a second workload
+    private Tuple2<List<String>,Long> skippedOperationsAndMinimumTimeStamp(
+            DriverConfiguration configuration,
+            GeneratorFactory gf,
+            long offset,
+            long limit,
+            LoggingServiceFactory loggingServiceFactory ) throws Exception
+    {
+        Workload scannedWorkload = new LdbcSnbInteractiveWorkload();
+        scannedWorkload.init( configuration );
+        WorkloadStreams scannedStreams = scannedWorkload.streams( gf, false );
+        Tuple3<long[],long[],Long> startsAndLimits = WorkloadStreams.fromAmongAllRetrieveTopCountFromOffset(
+                Lists.newArrayList(
+                        scannedStreams.asynchronousStream().dependencyOperations(),
+                        scannedStreams.asynchronousStream().nonDependencyOperations()
+                ),
+                offset,
+                limit,
+                Lists.newArrayList(
+                        scannedStreams.asynchronousStream().childOperationGenerator(),
+                        scannedStreams.asynchronousStream().childOperationGenerator()
+                ),
+                loggingServiceFactory
+        );
+        scannedWorkload.close();
+
+        Workload workload = new LdbcSnbInteractiveWorkload();
+        workload.init( configuration );
+        WorkloadStreams streams = workload.streams( gf, false );
+        gf.consume( streams.asynchronousStream().dependencyOperations(), startsAndLimits._1()[0] );
+        gf.consume( streams.asynchronousStream().nonDependencyOperations(), startsAndLimits._1()[1] );
+        WorkloadStreams limitedStreams = new WorkloadStreams();
+        limitedStreams.setAsynchronousStream(
+                streams.asynchronousStream().dependentOperationTypes(),
+                streams.asynchronousStream().dependencyOperationTypes(),
+                gf.limit( streams.asynchronousStream().dependencyOperations(), startsAndLimits._2()[0] ),
+                gf.limit( streams.asynchronousStream().nonDependencyOperations(), startsAndLimits._2()[1] ),
+                null
+        );
+        List<String> operations = describe( limitedStreams );
+        workload.close();
+        return Tuple.tuple2( operations, startsAndLimits._3() );
+    }
+
+    // described as they are retrieved, as repeated read operations are the same instances with new start times
+    private List<String> describe( WorkloadStreams workloadStreams )
+    {
+        List<String> operations = new ArrayList<>();
+        for ( Iterator<Operation> stream : Lists.newArrayList(
+                workloadStreams.asynchronousStream().dependencyOperations(),
+                workloadStreams.asynchronousStream().nonDependencyOperations() ) )
+        {
+            while ( stream.hasNext() )
+            {
+                Operation operation = stream.next();
+                operations.add( operation.scheduledStartTimeAsMilli() + " " + operation.timeStamp() + " " +
+                                operation.dependencyTimeStamp() + " " + operation );
+            }
+        }
+        return operations;
+    }
+
     @ParameterizedTest
     @MethodSource("configurations")
     public void shouldRunWorkloadWithForInteractiveWorkload(DriverConfiguration configuration, @TempDir File temporaryFolder) throws Exception
@@ -418,6 +563,16 @@ public class InteractiveWorkloadTest extends WorkloadTest
         shouldRunWorkload(configuration, temporaryFolder);
     }
 
+    @Test
+    public void shouldRunWorkloadWithBinaryResultsLogForInteractiveWorkload(@TempDir File temporaryFolder) throws Exception
+    {
+        DriverConfiguration configuration = configurationWithLongReadsOnly().applyArg(
+                ConsoleAndFileDriverConfiguration.RESULTS_LOG_FORMAT_ARG,
+                ResultsLogFormat.binary.name()
+        );
+        shouldRunWorkload(configuration, temporaryFolder);
+    }
+
     @ParameterizedTest
     @MethodSource("configurations")
     public void shouldCreateValidationParametersThenUseThemToPerformDatabaseValidationThenPassForInteractiveWorkload(DriverConfiguration configuration, @TempDir File temporaryFolder) throws Exception
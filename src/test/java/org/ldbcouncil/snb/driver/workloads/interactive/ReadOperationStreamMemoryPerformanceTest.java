@@ -0,0 +1,113 @@
+package org.ldbcouncil.snb.driver.workloads.interactive;
+
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.csv.DuckDbConnectionState;
+import org.ldbcouncil.snb.driver.csv.ParquetLoader;
+import org.ldbcouncil.snb.driver.generator.EventStreamReader;
+import org.ldbcouncil.snb.driver.generator.GeneratorFactory;
+import org.ldbcouncil.snb.driver.generator.RandomDataGeneratorFactory;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.sql.Statement;
+import java.util.Iterator;
+
+import static java.lang.String.format;
+
+/**
+ * Compares heap retained by a read operation stream when the parameter file is fully loaded and wrapped in a
+ * repeating generator (previous behaviour) versus streamed from a restartable DuckDb cursor
+ */
+@Disabled
+public class ReadOperationStreamMemoryPerformanceTest
+{
+    @Test
+    public void compareHeapUsageOfMaterializedAndStreamingOperationStreams( @TempDir File temporaryFolder )
+            throws Exception
+    {
+        for ( long rowCount : new long[]{100_000, 1_000_000, 10_000_000} )
+        {
+            File parameterFile = new File( temporaryFolder, "interactive-1-" + rowCount + ".parquet" );
+            writeQuery1ParameterFile( parameterFile, rowCount );
+
+            long materializedBytes = retainedHeapOfMaterializedStream( parameterFile, rowCount );
+            long streamingBytes = retainedHeapOfStreamingStream( parameterFile, rowCount );
+            System.out.println( format( "Rows [%s] (materialized + repeating) retained heap: %s MB",
+                    rowCount, materializedBytes / 1024 / 1024 ) );
+            System.out.println( format( "Rows [%s] (streaming, restartable) retained heap: %s MB",
+                    rowCount, streamingBytes / 1024 / 1024 ) );
+            System.out.println();
+        }
+    }
+
+    private long retainedHeapOfMaterializedStream( File parameterFile, long rowCount ) throws Exception
+    {
+        long heapBefore = usedHeapAfterGc();
+        try ( DuckDbConnectionState db = new DuckDbConnectionState() )
+        {
+            ParquetLoader loader = new ParquetLoader( db );
+            GeneratorFactory gf = new GeneratorFactory( new RandomDataGeneratorFactory( 42L ) );
+            // repeating generator copies the whole source stream into a list
+            Iterator<Operation> operations = gf.repeating(
+                    loader.loadOperationStream( parameterFile.getAbsolutePath(), decoder() ) );
+            consume( operations, rowCount + 1 );
+            long retained = usedHeapAfterGc() - heapBefore;
+            consume( operations, 1 );
+            return retained;
+        }
+    }
+
+    private long retainedHeapOfStreamingStream( File parameterFile, long rowCount ) throws Exception
+    {
+        long heapBefore = usedHeapAfterGc();
+        try ( DuckDbConnectionState db = new DuckDbConnectionState( true ) )
+        {
+            ParquetLoader loader = new ParquetLoader( db );
+            Iterator<Operation> operations =
+                    loader.loadRepeatingOperationStream( parameterFile.getAbsolutePath(), decoder() );
+            consume( operations, rowCount + 1 );
+            long retained = usedHeapAfterGc() - heapBefore;
+            consume( operations, 1 );
+            return retained;
+        }
+    }
+
+    private void writeQuery1ParameterFile( File parameterFile, long rowCount ) throws Exception
+    {
+        try ( DuckDbConnectionState db = new DuckDbConnectionState();
+              Statement stmt = db.getConnection().createStatement() )
+        {
+            stmt.execute( format(
+                    "COPY (SELECT range AS personId, 'name' || (range %% 1000) AS firstName, " +
+                    "'2012-07-29 08:52:02.735' AS useFrom, '2019-12-30 00:00:00.0' AS useUntil FROM range(%s)) " +
+                    "TO '%s' (FORMAT PARQUET);",
+                    rowCount, parameterFile.getAbsolutePath() ) );
+        }
+    }
+
+    private EventStreamReader.EventDecoder<Operation> decoder()
+    {
+        return new QueryEventStreamReader.Query1Decoder();
+    }
+
+    private void consume( Iterator<Operation> operations, long count )
+    {
+        for ( long i = 0; i < count; i++ )
+        {
+            operations.next();
+        }
+    }
+
+    private long usedHeapAfterGc() throws InterruptedException
+    {
+        Runtime runtime = Runtime.getRuntime();
+        for ( int i = 0; i < 3; i++ )
+        {
+            System.gc();
+            Thread.sleep( 100 );
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
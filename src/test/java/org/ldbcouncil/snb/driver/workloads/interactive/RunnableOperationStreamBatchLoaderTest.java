@@ -0,0 +1,237 @@
+package org.ldbcouncil.snb.driver.workloads.interactive;
+
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.csv.CompiledOperationStreams;
+import org.ldbcouncil.snb.driver.csv.DuckDbConnectionState;
+import org.ldbcouncil.snb.driver.csv.ParquetLoader;
+import org.ldbcouncil.snb.driver.generator.BufferedIterator;
+import org.ldbcouncil.snb.driver.generator.EventStreamReader;
+import org.ldbcouncil.snb.driver.generator.GeneratorException;
+import org.ldbcouncil.snb.driver.generator.GeneratorFactory;
+import org.ldbcouncil.snb.driver.generator.OperationStreamBuffer;
+import org.ldbcouncil.snb.driver.generator.RandomDataGeneratorFactory;
+import org.ldbcouncil.snb.driver.testutils.TestUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class RunnableOperationStreamBatchLoaderTest
+{
+    @TempDir
+    File temporaryFolder;
+
+    @Test
+    public void shouldLoadAllUpdateOperationsInTimestampOrder() throws Exception
+    {
+        // Given
+        File updatesDir = TestUtils.getResource( "/snb/interactive/" );
+        Set<Class<? extends Operation>> updateOperationTypes =
+                new HashSet<>( LdbcSnbInteractiveWorkloadConfiguration.getUpdateStreamClassToPathMapping().keySet() );
+        long expectedOperationCount = rowCount( updatesDir, updateOperationTypes );
+
+        // When
+        List<Operation> operationsInSmallBatches =
+                loadAll( updatesDir, updateOperationTypes, TimeUnit.HOURS.toMillis( 6 ), null, false );
+        List<Operation> operationsInLargeBatches =
+                loadAll( updatesDir, updateOperationTypes, TimeUnit.DAYS.toMillis( 365 ), null, false );
+
+        // Then
+        assertThat( (long) operationsInSmallBatches.size(), is( expectedOperationCount ) );
+        assertThat( (long) operationsInLargeBatches.size(), is( expectedOperationCount ) );
+        for ( int i = 1; i < operationsInSmallBatches.size(); i++ )
+        {
+            assertThat( operationsInSmallBatches.get( i - 1 ).timeStamp() <= operationsInSmallBatches.get( i ).timeStamp(),
+                    is( true ) );
+            assertThat( operationsInSmallBatches.get( i ).timeStamp(), is( operationsInLargeBatches.get( i ).timeStamp() ) );
+        }
+    }
+
+    @Test
+    public void shouldLoadSameUpdateOperationsWhenDecodingCompiledStreamsOnDemand() throws Exception
+    {
+        // Given
+        File updatesDir = TestUtils.getResource( "/snb/interactive/" );
+        Set<Class<? extends Operation>> updateOperationTypes =
+                new HashSet<>( LdbcSnbInteractiveWorkloadConfiguration.getUpdateStreamClassToPathMapping().keySet() );
+        CompiledOperationStreams compiledStreams = new CompiledOperationStreams( temporaryFolder );
+        try ( DuckDbConnectionState db = new DuckDbConnectionState() )
+        {
+            for ( String path : LdbcSnbInteractiveWorkloadConfiguration.getUpdateStreamClassToPathMapping().values() )
+            {
+                compiledStreams.compile( db, new File( updatesDir, path ) );
+            }
+        }
+        long batchSize = TimeUnit.HOURS.toMillis( 6 );
+
+        // When
+        List<Operation> operations = loadAll( updatesDir, updateOperationTypes, batchSize, null, false );
+        List<Operation> operationsDecodedOnDemand =
+                loadAll( updatesDir, updateOperationTypes, batchSize, compiledStreams, true );
+
+        // Then
+        assertThat( operationsDecodedOnDemand.size(), is( operations.size() ) );
+        for ( int i = 0; i < operations.size(); i++ )
+        {
+            assertThat( describe( operationsDecodedOnDemand.get( i ) ), is( describe( operations.get( i ) ) ) );
+        }
+    }
+
+    @Test
+    public void shouldEndUpdateStreamWithLoaderError() throws Exception
+    {
+        // Given
+        File updatesDir = new File( temporaryFolder, "missing" );
+        Set<Class<? extends Operation>> updateOperationTypes =
+                new HashSet<>( LdbcSnbInteractiveWorkloadConfiguration.getUpdateStreamClassToPathMapping().keySet() );
+
+        try ( DuckDbConnectionState db = new DuckDbConnectionState() )
+        {
+            BlockingQueue<Iterator<Operation>> blockingQueue = new LinkedBlockingQueue<>( 2 );
+            RunnableOperationStreamBatchLoader batchLoader = new RunnableOperationStreamBatchLoader(
+                    new ParquetLoader( db ),
+                    new GeneratorFactory( new RandomDataGeneratorFactory( 42L ) ),
+                    updatesDir,
+                    blockingQueue,
+                    updateOperationTypes,
+                    TimeUnit.HOURS.toMillis( 6 )
+            );
+            BufferedIterator operations = new BufferedIterator( new OperationStreamBuffer( blockingQueue ) );
+
+            // When
+            batchLoader.start();
+
+            // Then
+            assertThrows( GeneratorException.class, operations::init );
+            batchLoader.join();
+        }
+    }
+
+    @Test
+    public void shouldEndUpdateStreamWhenDecodingThrowsRuntimeException() throws Exception
+    {
+        // Given
+        File updatesDir = TestUtils.getResource( "/snb/interactive/" );
+        Set<Class<? extends Operation>> updateOperationTypes =
+                new HashSet<>( LdbcSnbInteractiveWorkloadConfiguration.getUpdateStreamClassToPathMapping().keySet() );
+
+        try ( DuckDbConnectionState db = new DuckDbConnectionState() )
+        {
+            ParquetLoader failingLoader = new ParquetLoader( db )
+            {
+                @Override
+                public ParquetLoader withNewConnection()
+                {
+                    return this;
+                }
+
+                @Override
+                public Iterator<Operation> getOperationStreamBatch(
+                        EventStreamReader.EventDecoder<Operation> decoder,
+                        String viewName,
+                        String batchColumnName,
+                        long offset,
+                        long batchSize )
+                {
+                    throw new IllegalStateException( "Could not decode batch" );
+                }
+            };
+            BlockingQueue<Iterator<Operation>> blockingQueue = new LinkedBlockingQueue<>( 2 );
+            RunnableOperationStreamBatchLoader batchLoader = new RunnableOperationStreamBatchLoader(
+                    failingLoader,
+                    new GeneratorFactory( new RandomDataGeneratorFactory( 42L ) ),
+                    updatesDir,
+                    blockingQueue,
+                    updateOperationTypes,
+                    TimeUnit.HOURS.toMillis( 6 )
+            );
+            BufferedIterator operations = new BufferedIterator( new OperationStreamBuffer( blockingQueue ) );
+
+            // When
+            batchLoader.start();
+
+            // Then
+            GeneratorException e = assertThrows( GeneratorException.class, operations::init );
+            assertThat( e.getCause().getCause() instanceof IllegalStateException, is( true ) );
+            batchLoader.join();
+        }
+    }
+
+    private List<Operation> loadAll(
+            File updatesDir,
+            Set<Class<? extends Operation>> updateOperationTypes,
+            long batchSize,
+            CompiledOperationStreams compiledStreams,
+            boolean decodeOnDemand ) throws Exception
+    {
+        List<Operation> operations = new ArrayList<>();
+        try ( DuckDbConnectionState db = new DuckDbConnectionState() )
+        {
+            BlockingQueue<Iterator<Operation>> blockingQueue = new LinkedBlockingQueue<>( 2 );
+            RunnableOperationStreamBatchLoader batchLoader = new RunnableOperationStreamBatchLoader(
+                    new ParquetLoader( db, compiledStreams ),
+                    new GeneratorFactory( new RandomDataGeneratorFactory( 42L ) ),
+                    updatesDir,
+                    blockingQueue,
+                    updateOperationTypes,
+                    batchSize,
+                    Long.MIN_VALUE,
+                    decodeOnDemand
+            );
+            batchLoader.start();
+            while ( true )
+            {
+                Iterator<Operation> batch = blockingQueue.poll( 1, TimeUnit.MINUTES );
+                assertThat( null != batch, is( true ) );
+                if ( batch == OperationStreamBuffer.END_OF_STREAM )
+                {
+                    break;
+                }
+                assertThat( batch.hasNext(), is( true ) );
+                batch.forEachRemaining( operations::add );
+            }
+        }
+        return operations;
+    }
+
+    private long rowCount( File updatesDir, Set<Class<? extends Operation>> updateOperationTypes ) throws Exception
+    {
+        Map<Class<? extends Operation>,String> classToPathMap =
+                LdbcSnbInteractiveWorkloadConfiguration.getUpdateStreamClassToPathMapping();
+        long rowCount = 0;
+        try ( DuckDbConnectionState db = new DuckDbConnectionState();
+              Statement stmt = db.getConnection().createStatement() )
+        {
+            for ( Class<? extends Operation> updateOperationType : updateOperationTypes )
+            {
+                String path = new File( updatesDir, classToPathMap.get( updateOperationType ) ).getAbsolutePath();
+                try ( ResultSet rs = stmt.executeQuery( "SELECT count(*) FROM read_parquet('" + path + "');" ) )
+                {
+                    rs.next();
+                    rowCount += rs.getLong( 1 );
+                }
+            }
+        }
+        return rowCount;
+    }
+
+    private static String describe( Operation operation )
+    {
+        return operation + " timeStamp=" + operation.timeStamp() + " dependencyTimeStamp=" + operation.dependencyTimeStamp();
+    }
+}
@@ -0,0 +1,141 @@
+package org.ldbcouncil.snb.driver.workloads.interactive;
+
+import org.ldbcouncil.snb.driver.Operation;
+import org.ldbcouncil.snb.driver.csv.CompiledOperationStreams;
+import org.ldbcouncil.snb.driver.csv.DuckDbConnectionState;
+import org.ldbcouncil.snb.driver.csv.ParquetLoader;
+import org.ldbcouncil.snb.driver.generator.GeneratorFactory;
+import org.ldbcouncil.snb.driver.generator.RandomDataGeneratorFactory;
+import org.ldbcouncil.snb.driver.testutils.TestUtils;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static java.lang.String.format;
+
+/**
+ * Compares update batches decoded by the loader with batches of compiled streams decoded on demand,
+ * by the heap retained by the buffered batches and the collections while consuming them
+ */
+@Disabled
+public class UpdateBatchDecodingPerformanceTest
+{
+    @TempDir
+    File temporaryFolder;
+
+    @Test
+    public void compareHeapAndCollectionsOfBufferedUpdateBatches() throws Exception
+    {
+        int experimentRepetitions = 10;
+        File updatesDir = TestUtils.getResource( "/snb/interactive/" );
+        Set<Class<? extends Operation>> updateOperationTypes =
+                new HashSet<>( LdbcSnbInteractiveWorkloadConfiguration.getUpdateStreamClassToPathMapping().keySet() );
+        CompiledOperationStreams compiledStreams = new CompiledOperationStreams( temporaryFolder );
+        try ( DuckDbConnectionState db = new DuckDbConnectionState() )
+        {
+            for ( String path : LdbcSnbInteractiveWorkloadConfiguration.getUpdateStreamClassToPathMapping().values() )
+            {
+                compiledStreams.compile( db, new File( updatesDir, path ) );
+            }
+        }
+        for ( boolean decodeOnDemand : new boolean[]{false, true} )
+        {
+            long retainedBytes = 0;
+            long operationCount = 0;
+            long collectionCount = -collectionCount();
+            long collectionTime = -collectionTime();
+            for ( int i = 0; i < experimentRepetitions; i++ )
+            {
+                long[] result = doTest( updatesDir, updateOperationTypes, compiledStreams, decodeOnDemand );
+                retainedBytes += result[0];
+                operationCount += result[1];
+            }
+            collectionCount += collectionCount();
+            collectionTime += collectionTime();
+            System.out.println( format( "Decode on demand [%s] %s ops: buffered batches retain %s KB, " +
+                                        "%s collections taking %s ms",
+                    decodeOnDemand, operationCount / experimentRepetitions,
+                    retainedBytes / experimentRepetitions / 1024, collectionCount, collectionTime ) );
+        }
+    }
+
+    /**
+     * @return Heap retained by the buffered batches once the loader blocks, and the number of loaded operations
+     */
+    private long[] doTest(
+            File updatesDir,
+            Set<Class<? extends Operation>> updateOperationTypes,
+            CompiledOperationStreams compiledStreams,
+            boolean decodeOnDemand ) throws Exception
+    {
+        int batchQueueSize = LdbcSnbInteractiveWorkloadConfiguration.BUFFERED_QUEUE_SIZE;
+        try ( DuckDbConnectionState db = new DuckDbConnectionState() )
+        {
+            long heapBefore = usedHeap();
+            BlockingQueue<Iterator<Operation>> blockingQueue = new LinkedBlockingQueue<>( batchQueueSize );
+            RunnableOperationStreamBatchLoader batchLoader = new RunnableOperationStreamBatchLoader(
+                    new ParquetLoader( db, compiledStreams ),
+                    new GeneratorFactory( new RandomDataGeneratorFactory( 42L ) ),
+                    updatesDir,
+                    blockingQueue,
+                    updateOperationTypes,
+                    TimeUnit.DAYS.toMillis( 7 ),
+                    Long.MIN_VALUE,
+                    decodeOnDemand
+            );
+            batchLoader.start();
+            while ( batchLoader.isAlive() && blockingQueue.size() < batchLoader.prefetchDepth() )
+            {
+                Thread.sleep( 10 );
+            }
+            long retainedBytes = usedHeap() - heapBefore;
+            long operationCount = 0;
+            while ( batchLoader.isAlive() || !blockingQueue.isEmpty() )
+            {
+                Iterator<Operation> batch = blockingQueue.poll( 100, TimeUnit.MILLISECONDS );
+                while ( null != batch && batch.hasNext() )
+                {
+                    batch.next();
+                    operationCount++;
+                }
+            }
+            return new long[]{retainedBytes, operationCount};
+        }
+    }
+
+    private static long usedHeap()
+    {
+        System.gc();
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static long collectionCount()
+    {
+        long count = 0;
+        for ( GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans() )
+        {
+            count += Math.max( 0, collector.getCollectionCount() );
+        }
+        return count;
+    }
+
+    private static long collectionTime()
+    {
+        long time = 0;
+        for ( GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans() )
+        {
+            time += Math.max( 0, collector.getCollectionTime() );
+        }
+        return time;
+    }
+}